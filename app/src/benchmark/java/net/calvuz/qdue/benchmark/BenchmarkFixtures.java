@@ -0,0 +1,82 @@
+package net.calvuz.qdue.benchmark;
+
+import net.calvuz.qdue.domain.calendar.models.RecurrenceRule;
+import net.calvuz.qdue.domain.calendar.models.ShiftException;
+import net.calvuz.qdue.domain.calendar.models.Team;
+import net.calvuz.qdue.domain.calendar.models.UserScheduleAssignment;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared fixtures: a QuattroDue assignment of team A and exceptions spread
+ * evenly over the benchmarked range.
+ */
+final class BenchmarkFixtures {
+
+    static final String USER_ID = "user-1";
+    static final String TEAM_NAME = "A";
+
+    // Ranges start on the assignment start, so the whole range is scheduled
+    static final LocalDate RANGE_START = LocalDate.of(2025, 1, 1);
+
+    private static final ShiftException.ExceptionType[] EXCEPTION_TYPES = {
+            ShiftException.ExceptionType.ABSENCE_VACATION,
+            ShiftException.ExceptionType.ABSENCE_SICK,
+            ShiftException.ExceptionType.ABSENCE_SPECIAL
+    };
+
+    private BenchmarkFixtures() {
+    }
+
+    static RecurrenceRule quattroDueRule() {
+        return RecurrenceRule.createQuattroDueCycle(RANGE_START);
+    }
+
+    static UserScheduleAssignment assignment(RecurrenceRule rule) {
+        return UserScheduleAssignment.createPermanentAssignment(USER_ID, TEAM_NAME, rule.getId(), RANGE_START);
+    }
+
+    static Map<String, Team> userTeamMappings() {
+        Map<String, Team> mappings = new HashMap<>();
+        mappings.put(USER_ID, Team.builder(TEAM_NAME).name(TEAM_NAME).build());
+        return mappings;
+    }
+
+    /**
+     * @return Last day of a range of whole years from {@link #RANGE_START}
+     */
+    static LocalDate rangeEnd(int years) {
+        return RANGE_START.plusYears(years).minusDays(1);
+    }
+
+    /**
+     * Full-day absences on distinct days, evenly spread over the range.
+     *
+     * @param count Number of exceptions, capped to the number of days
+     */
+    static List<ShiftException> exceptions(int count, LocalDate start, LocalDate end) {
+        if (count <= 0) {
+            return Collections.emptyList();
+        }
+
+        long days = end.toEpochDay() - start.toEpochDay() + 1;
+        int actual = (int) Math.min(count, days);
+        List<ShiftException> exceptions = new ArrayList<>(actual);
+        for (int i = 0; i < actual; i++) {
+            LocalDate date = start.plusDays(i * days / actual);
+            exceptions.add(ShiftException.builder()
+                    .type(EXCEPTION_TYPES[i % EXCEPTION_TYPES.length])
+                    .userId(USER_ID)
+                    .targetDate(date)
+                    .isFullDay(true)
+                    .requiresApproval(false)
+                    .build());
+        }
+        return exceptions;
+    }
+}
@@ -0,0 +1,190 @@
+package net.calvuz.qdue.benchmark;
+
+import net.calvuz.qdue.core.db.converters.EpochTypeConverters;
+import net.calvuz.qdue.core.db.converters.QDueTypeConverters;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Event time columns stored as ISO text (QDueTypeConverters, schema before
+ * QDueDatabase 6 / CalendarDatabase 9) versus INTEGER epoch seconds
+ * (EpochTypeConverters), on 50k events in an in-memory SQLite database.
+ *
+ * <ul>
+ *   <li>decode: convert the start and end time of every row back to LocalDateTime</li>
+ *   <li>monthRange: overlap query of one month, decoded</li>
+ *   <li>allDayForDate: all-day events of one date, with DATE(start_time) for text
+ *       and the sargable [day, next day) range for epoch</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventTimeStorageBenchmark {
+
+    public enum Storage { ISO_TEXT, EPOCH }
+
+    private static final int ROWS = 50_000;
+
+    // About 27 events per day over five years, every fourth one all-day
+    private static final int EVENTS_PER_DAY = 27;
+
+    @Param({"ISO_TEXT", "EPOCH"})
+    public Storage storage;
+
+    private Connection mConnection;
+    private PreparedStatement mMonthRange;
+    private PreparedStatement mAllDayForDate;
+
+    private String[] mIsoTimes;
+    private long[] mEpochTimes;
+
+    private LocalDateTime mMonthStart;
+    private LocalDateTime mMonthEnd;
+    private LocalDate mDate;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        boolean epoch = storage == Storage.EPOCH;
+        String timeType = epoch ? "INTEGER" : "TEXT";
+
+        mConnection = DriverManager.getConnection("jdbc:sqlite::memory:");
+        try (Statement statement = mConnection.createStatement()) {
+            statement.execute("CREATE TABLE events (id TEXT NOT NULL PRIMARY KEY, title TEXT, " +
+                    "start_time " + timeType + ", end_time " + timeType + ", all_day INTEGER NOT NULL)");
+            statement.execute("CREATE INDEX index_events_start_time ON events (start_time)");
+            statement.execute("CREATE INDEX index_events_time_range ON events (start_time, end_time)");
+        }
+
+        mIsoTimes = new String[ROWS * 2];
+        mEpochTimes = new long[ROWS * 2];
+
+        mConnection.setAutoCommit(false);
+        try (PreparedStatement insert = mConnection.prepareStatement(
+                "INSERT INTO events (id, title, start_time, end_time, all_day) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                boolean allDay = i % 4 == 0;
+                LocalDateTime start = BenchmarkFixtures.RANGE_START.plusDays(i / EVENTS_PER_DAY)
+                        .atTime(allDay ? 0 : 6 + i % 12, (i * 7) % 60);
+                LocalDateTime end = allDay ? start.plusDays(1).minusSeconds(1) : start.plusHours(2);
+
+                mIsoTimes[i * 2] = QDueTypeConverters.fromLocalDateTime(start);
+                mIsoTimes[i * 2 + 1] = QDueTypeConverters.fromLocalDateTime(end);
+                mEpochTimes[i * 2] = EpochTypeConverters.fromLocalDateTime(start);
+                mEpochTimes[i * 2 + 1] = EpochTypeConverters.fromLocalDateTime(end);
+
+                insert.setString(1, "event_" + i);
+                insert.setString(2, "Event " + i);
+                bindTime(insert, 3, start);
+                bindTime(insert, 4, end);
+                insert.setInt(5, allDay ? 1 : 0);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        mConnection.commit();
+        mConnection.setAutoCommit(true);
+        try (Statement statement = mConnection.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+
+        mMonthRange = mConnection.prepareStatement("SELECT id, start_time, end_time FROM events " +
+                "WHERE start_time <= ? AND end_time >= ? ORDER BY start_time ASC");
+        mAllDayForDate = mConnection.prepareStatement(epoch
+                ? "SELECT id, start_time, end_time FROM events " +
+                  "WHERE all_day = 1 AND start_time >= ? AND start_time < ? ORDER BY title ASC"
+                : "SELECT id, start_time, end_time FROM events " +
+                  "WHERE all_day = 1 AND DATE(start_time) = DATE(?) ORDER BY title ASC");
+
+        mMonthStart = BenchmarkFixtures.RANGE_START.plusYears(2).atStartOfDay();
+        mMonthEnd = mMonthStart.plusMonths(1).minusSeconds(1);
+        mDate = mMonthStart.toLocalDate().plusDays(14);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        mConnection.close();
+    }
+
+    @Benchmark
+    public void decode(Blackhole blackhole) {
+        if (storage == Storage.EPOCH) {
+            for (long value : mEpochTimes) {
+                blackhole.consume(EpochTypeConverters.toLocalDateTime(value));
+            }
+        } else {
+            for (String value : mIsoTimes) {
+                blackhole.consume(QDueTypeConverters.toLocalDateTime(value));
+            }
+        }
+    }
+
+    @Benchmark
+    public int monthRange(Blackhole blackhole) throws SQLException {
+        bindTime(mMonthRange, 1, mMonthEnd);
+        bindTime(mMonthRange, 2, mMonthStart);
+        return readRows(mMonthRange, blackhole);
+    }
+
+    @Benchmark
+    public int allDayForDate(Blackhole blackhole) throws SQLException {
+        LocalDateTime startOfDay = mDate.atStartOfDay();
+        bindTime(mAllDayForDate, 1, startOfDay);
+        if (storage == Storage.EPOCH) {
+            bindTime(mAllDayForDate, 2, startOfDay.plusDays(1));
+        }
+        return readRows(mAllDayForDate, blackhole);
+    }
+
+    private void bindTime(PreparedStatement statement, int index, LocalDateTime time) throws SQLException {
+        if (storage == Storage.EPOCH) {
+            statement.setLong(index, EpochTypeConverters.fromLocalDateTime(time));
+        } else {
+            statement.setString(index, QDueTypeConverters.fromLocalDateTime(time));
+        }
+    }
+
+    private int readRows(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+        int rows = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getString(1));
+                if (storage == Storage.EPOCH) {
+                    blackhole.consume(EpochTypeConverters.toLocalDateTime(resultSet.getLong(2)));
+                    blackhole.consume(EpochTypeConverters.toLocalDateTime(resultSet.getLong(3)));
+                } else {
+                    blackhole.consume(QDueTypeConverters.toLocalDateTime(resultSet.getString(2)));
+                    blackhole.consume(QDueTypeConverters.toLocalDateTime(resultSet.getString(3)));
+                }
+                rows++;
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,86 @@
+package net.calvuz.qdue.benchmark;
+
+import net.calvuz.qdue.domain.calendar.engines.ExceptionIndex;
+import net.calvuz.qdue.domain.calendar.engines.ExceptionResolver;
+import net.calvuz.qdue.domain.calendar.engines.RecurrenceCalculator;
+import net.calvuz.qdue.domain.calendar.models.RecurrenceRule;
+import net.calvuz.qdue.domain.calendar.models.ShiftException;
+import net.calvuz.qdue.domain.calendar.models.Team;
+import net.calvuz.qdue.domain.calendar.models.UserScheduleAssignment;
+import net.calvuz.qdue.domain.calendar.models.WorkScheduleDay;
+import net.calvuz.qdue.domain.calendar.models.WorkScheduleShift;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ExceptionResolver.applyExceptions() on every day of a pregenerated range,
+ * each day with the exceptions falling on it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionResolverBenchmark {
+
+    @Param({"1", "5", "20"})
+    public int years;
+
+    @Param({"0", "100", "2000"})
+    public int exceptions;
+
+    private ExceptionResolver mResolver;
+    private Map<String, Team> mUserTeamMappings;
+    private final Map<String, WorkScheduleShift> mReplacementShifts = new HashMap<>();
+    private final List<WorkScheduleDay> mBaseDays = new ArrayList<>();
+    private final List<List<ShiftException>> mDayExceptions = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        mResolver = new ExceptionResolver(null);
+        mUserTeamMappings = BenchmarkFixtures.userTeamMappings();
+
+        RecurrenceRule rule = BenchmarkFixtures.quattroDueRule();
+        UserScheduleAssignment assignment = BenchmarkFixtures.assignment(rule);
+        LocalDate end = BenchmarkFixtures.rangeEnd(years);
+        Map<LocalDate, WorkScheduleDay> baseSchedules = new RecurrenceCalculator(null)
+                .generateScheduleForDateRange(BenchmarkFixtures.RANGE_START, end, rule, assignment);
+        ExceptionIndex index = mResolver.indexExceptions(
+                BenchmarkFixtures.exceptions(exceptions, BenchmarkFixtures.RANGE_START, end));
+
+        for (LocalDate date = BenchmarkFixtures.RANGE_START; !date.isAfter(end); date = date.plusDays(1)) {
+            WorkScheduleDay day = baseSchedules.get(date);
+            mBaseDays.add(day != null ? day : WorkScheduleDay.builder(date).build());
+            List<ShiftException> dayExceptions = index.forDate(date);
+            mDayExceptions.add(dayExceptions != null ? dayExceptions : Collections.emptyList());
+        }
+    }
+
+    @Benchmark
+    public void applyExceptions(Blackhole blackhole) {
+        for (int i = 0; i < mBaseDays.size(); i++) {
+            blackhole.consume(mResolver.applyExceptions(mBaseDays.get(i), mDayExceptions.get(i),
+                    mUserTeamMappings, mReplacementShifts));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package net.calvuz.qdue.benchmark;
+
+import com.google.gson.Gson;
+
+import net.calvuz.qdue.events.EventPackageJson;
+import net.calvuz.qdue.events.validation.JsonSchemaValidator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonSchemaValidator.validateEventPackage(): parse and validate a package
+ * of timed events, up to the size limit of non-streamed packages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSchemaValidatorBenchmark {
+
+    @Param({"100", "1000"})
+    public int events;
+
+    private String mJson;
+
+    @Setup
+    public void setUp() {
+        EventPackageJson packageJson = new EventPackageJson();
+        packageJson.package_info = new EventPackageJson.PackageInfo();
+        packageJson.package_info.id = "benchmark_package";
+        packageJson.package_info.name = "Benchmark package";
+        packageJson.package_info.version = "1.0.0";
+        packageJson.package_info.author = "QDue";
+
+        List<EventPackageJson.EventJson> eventList = new ArrayList<>(events);
+        for (int i = 0; i < events; i++) {
+            LocalDate date = BenchmarkFixtures.RANGE_START.plusDays(i);
+            EventPackageJson.EventJson event = new EventPackageJson.EventJson();
+            event.id = "event_" + i;
+            event.title = "Maintenance stop " + i;
+            event.description = "Planned stop of line " + (i % 7);
+            event.start_date = date.toString();
+            event.end_date = date.toString();
+            event.start_time = "06:00";
+            event.end_time = "14:00";
+            event.event_type = "STOP_PLANNED";
+            event.location = "Plant " + (i % 3);
+            eventList.add(event);
+        }
+        packageJson.events = eventList;
+
+        mJson = new Gson().toJson(packageJson);
+    }
+
+    @Benchmark
+    public JsonSchemaValidator.ValidationResult validateEventPackage() {
+        return JsonSchemaValidator.validateEventPackage(mJson);
+    }
+}
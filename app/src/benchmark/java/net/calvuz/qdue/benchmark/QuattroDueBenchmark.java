@@ -0,0 +1,52 @@
+package net.calvuz.qdue.benchmark;
+
+import net.calvuz.qdue.quattrodue.QuattroDue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QuattroDue.getShiftsForMonth() for every month of the range, as the month
+ * view does while scrolling. The instance is created without a Context, so it
+ * uses the default scheme start date and preferences.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuattroDueBenchmark {
+
+    @Param({"1", "5", "20"})
+    public int years;
+
+    private QuattroDue mQuattroDue;
+
+    @Setup
+    public void setUp() {
+        mQuattroDue = QuattroDue.getInstance(null);
+    }
+
+    @Benchmark
+    public void getShiftsForMonth(Blackhole blackhole) {
+        LocalDate month = BenchmarkFixtures.RANGE_START;
+        for (int i = 0; i < years * 12; i++) {
+            blackhole.consume(mQuattroDue.getShiftsForMonth(month));
+            month = month.plusMonths(1);
+        }
+    }
+}
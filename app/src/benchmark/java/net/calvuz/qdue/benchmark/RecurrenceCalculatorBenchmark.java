@@ -0,0 +1,57 @@
+package net.calvuz.qdue.benchmark;
+
+import net.calvuz.qdue.domain.calendar.engines.RecurrenceCalculator;
+import net.calvuz.qdue.domain.calendar.models.RecurrenceRule;
+import net.calvuz.qdue.domain.calendar.models.Shift;
+import net.calvuz.qdue.domain.calendar.models.UserScheduleAssignment;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RecurrenceCalculator.calculateShiftsForDateRange() over multi-year ranges.
+ * Exceptions do not apply at this level, so only the range length varies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecurrenceCalculatorBenchmark {
+
+    @Param({"1", "5", "20"})
+    public int years;
+
+    private RecurrenceCalculator mCalculator;
+    private RecurrenceRule mRule;
+    private UserScheduleAssignment mAssignment;
+    private LocalDate mEnd;
+
+    @Setup
+    public void setUp() {
+        mCalculator = new RecurrenceCalculator(null);
+        mRule = BenchmarkFixtures.quattroDueRule();
+        mAssignment = BenchmarkFixtures.assignment(mRule);
+        mEnd = BenchmarkFixtures.rangeEnd(years);
+    }
+
+    @Benchmark
+    public Map<LocalDate, List<Shift>> calculateShiftsForDateRange() {
+        return mCalculator.calculateShiftsForDateRange(BenchmarkFixtures.RANGE_START, mEnd, mRule, mAssignment);
+    }
+}
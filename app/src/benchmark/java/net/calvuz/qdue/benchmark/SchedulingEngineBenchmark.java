@@ -0,0 +1,70 @@
+package net.calvuz.qdue.benchmark;
+
+import net.calvuz.qdue.domain.calendar.engines.ExceptionResolver;
+import net.calvuz.qdue.domain.calendar.engines.RecurrenceCalculator;
+import net.calvuz.qdue.domain.calendar.engines.SchedulingEngine;
+import net.calvuz.qdue.domain.calendar.models.RecurrenceRule;
+import net.calvuz.qdue.domain.calendar.models.ShiftException;
+import net.calvuz.qdue.domain.calendar.models.Team;
+import net.calvuz.qdue.domain.calendar.models.UserScheduleAssignment;
+import net.calvuz.qdue.domain.calendar.models.WorkScheduleDay;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SchedulingEngine.generateCompleteScheduleRange(): base schedule, exception
+ * indexing and resolution, and validation for every day of the range.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchedulingEngineBenchmark {
+
+    @Param({"1", "5", "20"})
+    public int years;
+
+    @Param({"0", "100", "2000"})
+    public int exceptions;
+
+    private SchedulingEngine mEngine;
+    private RecurrenceRule mRule;
+    private UserScheduleAssignment mAssignment;
+    private Map<String, Team> mUserTeamMappings;
+    private List<ShiftException> mExceptions;
+    private LocalDate mEnd;
+
+    @Setup
+    public void setUp() {
+        mEngine = SchedulingEngine.create(new RecurrenceCalculator(null), new ExceptionResolver(null));
+        mRule = BenchmarkFixtures.quattroDueRule();
+        mAssignment = BenchmarkFixtures.assignment(mRule);
+        mUserTeamMappings = BenchmarkFixtures.userTeamMappings();
+        mEnd = BenchmarkFixtures.rangeEnd(years);
+        mExceptions = BenchmarkFixtures.exceptions(exceptions, BenchmarkFixtures.RANGE_START, mEnd);
+    }
+
+    @Benchmark
+    public Map<LocalDate, WorkScheduleDay> generateCompleteScheduleRange() {
+        return mEngine.generateCompleteScheduleRange(BenchmarkFixtures.RANGE_START, mEnd, mAssignment, mRule,
+                mExceptions, mUserTeamMappings, new HashMap<>());
+    }
+}
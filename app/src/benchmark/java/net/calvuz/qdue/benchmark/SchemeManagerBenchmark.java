@@ -0,0 +1,54 @@
+package net.calvuz.qdue.benchmark;
+
+import net.calvuz.qdue.quattrodue.models.Day;
+import net.calvuz.qdue.quattrodue.utils.SchemeManager;
+import net.calvuz.qdue.quattrodue.utils.ShiftTypeFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SchemeManager.generateDaysForMonth() for every month of the range.
+ * The legacy scheme has no exceptions, so only the range length varies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchemeManagerBenchmark {
+
+    @Param({"1", "5", "20"})
+    public int years;
+
+    private List<Day> mCycleDays;
+
+    @Setup
+    public void setUp() {
+        mCycleDays = SchemeManager.generateCycleDays(ShiftTypeFactory.getAllShiftTypes());
+    }
+
+    @Benchmark
+    public void generateDaysForMonth(Blackhole blackhole) {
+        LocalDate month = BenchmarkFixtures.RANGE_START;
+        for (int i = 0; i < years * 12; i++) {
+            blackhole.consume(SchemeManager.generateDaysForMonth(month, mCycleDays));
+            month = month.plusMonths(1);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package net.calvuz.qdue.benchmark;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import android.content.Context;
+
+import net.calvuz.qdue.core.services.models.OperationResult;
+import net.calvuz.qdue.data.di.CalendarServiceProvider;
+import net.calvuz.qdue.data.repositories.ScheduleCache;
+import net.calvuz.qdue.data.repositories.WorkScheduleRepositoryImpl;
+import net.calvuz.qdue.domain.calendar.engines.ExceptionResolver;
+import net.calvuz.qdue.domain.calendar.engines.RecurrenceCalculator;
+import net.calvuz.qdue.domain.calendar.engines.SchedulingEngine;
+import net.calvuz.qdue.domain.calendar.models.RecurrenceRule;
+import net.calvuz.qdue.domain.calendar.models.ShiftException;
+import net.calvuz.qdue.domain.calendar.models.Team;
+import net.calvuz.qdue.domain.calendar.models.UserScheduleAssignment;
+import net.calvuz.qdue.domain.calendar.models.WorkScheduleDay;
+import net.calvuz.qdue.domain.calendar.repositories.RecurrenceRuleRepository;
+import net.calvuz.qdue.domain.calendar.repositories.ShiftExceptionRepository;
+import net.calvuz.qdue.domain.calendar.repositories.TeamRepository;
+import net.calvuz.qdue.domain.calendar.repositories.UserScheduleAssignmentRepository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * WorkScheduleRepositoryImpl for one month: the legacy per-day lookup
+ * (getWorkScheduleForDate() for every date) versus one
+ * getWorkScheduleForDateRange() call through the range pipeline.
+ *
+ * <p>The domain repositories are mocked and answer after {@code queryMicros},
+ * standing in for a Room round trip (0 measures the pipelines alone); the domain
+ * engines are the real ones. The schedule cache is emptied before every
+ * lookup, so each call generates the whole month.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkScheduleRangeBenchmark {
+
+    private static final LocalDate MONTH_START = BenchmarkFixtures.RANGE_START.plusMonths(2);
+    private static final LocalDate MONTH_END = MONTH_START.plusMonths(1).minusDays(1);
+
+    @Param({"0", "200"})
+    public long queryMicros;
+
+    private ScheduleCache mCache;
+    private WorkScheduleRepositoryImpl mRepository;
+
+    @Setup
+    public void setUp() {
+        RecurrenceRule rule = BenchmarkFixtures.quattroDueRule();
+        UserScheduleAssignment assignment = BenchmarkFixtures.assignment(rule);
+        Team team = BenchmarkFixtures.userTeamMappings().get(BenchmarkFixtures.USER_ID);
+        List<ShiftException> exceptions = BenchmarkFixtures.exceptions(4, MONTH_START, MONTH_END);
+
+        UserScheduleAssignmentRepository assignments = mock(UserScheduleAssignmentRepository.class);
+        when(assignments.getAssignmentsForUserInDateRange(any(), any(), any())).thenAnswer(i ->
+                query(OperationResult.success(List.of(assignment), OperationResult.OperationType.READ)));
+
+        RecurrenceRuleRepository rules = mock(RecurrenceRuleRepository.class);
+        when(rules.getRecurrenceRulesByIds(any())).thenAnswer(i -> query(Map.of(rule.getId(), rule)));
+
+        ShiftExceptionRepository exceptionRepository = mock(ShiftExceptionRepository.class);
+        when(exceptionRepository.getExceptionsForUserInDateRange(any(), any(), any())).thenAnswer(i ->
+                query(OperationResult.success(exceptions, OperationResult.OperationType.READ)));
+
+        TeamRepository teams = mock(TeamRepository.class);
+        when(teams.getTeamById(any())).thenAnswer(i -> query(team));
+
+        RecurrenceCalculator calculator = new RecurrenceCalculator(null);
+        ExceptionResolver resolver = new ExceptionResolver(null);
+
+        CalendarServiceProvider provider = mock(CalendarServiceProvider.class);
+        when(provider.getUserScheduleAssignmentRepository()).thenReturn(assignments);
+        when(provider.getRecurrenceRuleRepository()).thenReturn(rules);
+        when(provider.getShiftExceptionRepository()).thenReturn(exceptionRepository);
+        when(provider.getTeamRepository()).thenReturn(teams);
+        when(provider.getRecurrenceCalculator()).thenReturn(calculator);
+        when(provider.getExceptionResolver()).thenReturn(resolver);
+        when(provider.getSchedulingEngine()).thenReturn(SchedulingEngine.create(calculator, resolver));
+
+        Context context = mock(Context.class);
+        when(context.getApplicationContext()).thenReturn(context);
+
+        mCache = new ScheduleCache();
+        mRepository = new WorkScheduleRepositoryImpl(context, provider, mCache);
+    }
+
+    @TearDown
+    public void tearDown() {
+        mRepository.cleanup();
+    }
+
+    @Benchmark
+    public void perDay(Blackhole blackhole) {
+        mCache.invalidateAll();
+        for (LocalDate date = MONTH_START; !date.isAfter(MONTH_END); date = date.plusDays(1)) {
+            blackhole.consume(mRepository.getWorkScheduleForDate(date, BenchmarkFixtures.USER_ID).join());
+        }
+    }
+
+    @Benchmark
+    public Map<LocalDate, WorkScheduleDay> range() {
+        mCache.invalidateAll();
+        return mRepository.getWorkScheduleForDateRange(MONTH_START, MONTH_END, BenchmarkFixtures.USER_ID)
+                .join().getData();
+    }
+
+    private <T> CompletableFuture<T> query(T value) {
+        if (queryMicros > 0) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(queryMicros));
+        }
+        return CompletableFuture.completedFuture(value);
+    }
+}
@@ -0,0 +1,32 @@
+/**
+ * JMH microbenchmarks for the calendar engines.
+ *
+ * <p>The harnesses run on the plain JVM with the classpath of the debug unit tests,
+ * where the android.jar doubles of {@code src/test/java/android} make {@code Log} and
+ * {@code Process} no-ops. They cover the schedule generation path of the domain
+ * engines and the legacy QuattroDue scheme:</p>
+ * <ul>
+ *   <li>{@link net.calvuz.qdue.benchmark.RecurrenceCalculatorBenchmark}</li>
+ *   <li>{@link net.calvuz.qdue.benchmark.SchedulingEngineBenchmark}</li>
+ *   <li>{@link net.calvuz.qdue.benchmark.ExceptionResolverBenchmark}</li>
+ *   <li>{@link net.calvuz.qdue.benchmark.SchemeManagerBenchmark}</li>
+ *   <li>{@link net.calvuz.qdue.benchmark.QuattroDueBenchmark}</li>
+ *   <li>{@link net.calvuz.qdue.benchmark.JsonSchemaValidatorBenchmark}</li>
+ *   <li>{@link net.calvuz.qdue.benchmark.EventTimeStorageBenchmark} (ISO text vs epoch
+ *       time columns on an in-memory SQLite database through sqlite-jdbc)</li>
+ *   <li>{@link net.calvuz.qdue.benchmark.WorkScheduleRangeBenchmark} (one month of
+ *       WorkScheduleRepositoryImpl, per-day lookups vs the range pipeline)</li>
+ * </ul>
+ *
+ * <p>Range benchmarks are parameterized over 1, 5 and 20 years and 0, 100 and 2000
+ * exceptions, built by {@link net.calvuz.qdue.benchmark.BenchmarkFixtures}.</p>
+ *
+ * <h3>Running</h3>
+ * <pre>
+ * ./gradlew :app:jmh                                   // all benchmarks
+ * ./gradlew :app:jmh -PjmhArgs="SchedulingEngine -f 1" // filter and JMH options
+ * </pre>
+ * <p>Results are exported as JSON to {@code app/build/reports/jmh/results.json};
+ * keep the file of each release to compare regressions.</p>
+ */
+package net.calvuz.qdue.benchmark;
@@ -190,6 +190,8 @@ public class QDue extends Application {
         // Base
         public static final boolean DEBUG_BASEFRAGMENT = false;
         public static final boolean DEBUG_BASEADAPTER = false;
+        // Per-day and per-shift logs of schedule generation: off, the messages are not even built
+        public static final boolean DEBUG_HOT_PATHS = false;
     }
 
     public static final class VirtualScrollingSettings {
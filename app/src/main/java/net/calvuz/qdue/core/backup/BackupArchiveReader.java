@@ -0,0 +1,206 @@
+package net.calvuz.qdue.core.backup;
+
+import androidx.annotation.NonNull;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import net.calvuz.qdue.core.backup.models.BackupManifest;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Streaming reader for backup archives written by {@link BackupArchiveWriter}.
+ * <p>
+ * The manifest is read on its own, so counts can be previewed without touching
+ * the data entries. Sections are parsed entity by entity and checked against
+ * the CRC32 recorded in the manifest once fully read.
+ */
+public class BackupArchiveReader implements Closeable {
+
+    /**
+     * Receives the entities of a section one at a time
+     */
+    public interface EntityVisitor<T> {
+        void onEntity(@NonNull T entity) throws IOException;
+    }
+
+    private final ZipFile mZipFile;
+    private final Gson mGson;
+    private BackupManifest mManifest;
+
+    public BackupArchiveReader(@NonNull File archiveFile, @NonNull Gson gson) throws IOException {
+        mZipFile = new ZipFile(archiveFile);
+        mGson = gson;
+    }
+
+    /**
+     * Check whether a file looks like a backup archive (ZIP signature).
+     */
+    public static boolean isArchive(@NonNull File file) {
+        if (!file.getName().endsWith(BackupArchiveWriter.FILE_EXTENSION)) {
+            return false;
+        }
+        try (InputStream in = new FileInputStream(file)) {
+            return in.read() == 'P' && in.read() == 'K';
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    // ==================== MANIFEST ====================
+
+    /**
+     * Read the manifest entry only.
+     */
+    @NonNull
+    public BackupManifest readManifest() throws IOException {
+        if (mManifest != null) {
+            return mManifest;
+        }
+
+        ZipEntry entry = mZipFile.getEntry(BackupManifest.ENTRY_NAME);
+        if (entry == null) {
+            throw new IOException("Backup archive has no manifest");
+        }
+
+        try (JsonReader reader = new JsonReader(new InputStreamReader(
+                mZipFile.getInputStream(entry), StandardCharsets.UTF_8))) {
+            BackupManifest manifest = mGson.fromJson(reader, BackupManifest.class);
+            if (manifest == null || !manifest.isSupported()) {
+                throw new IOException("Unsupported backup archive format");
+            }
+            mManifest = manifest;
+            return manifest;
+        }
+    }
+
+    // ==================== SECTIONS ====================
+
+    /**
+     * Stream the entities of a section.
+     *
+     * @return Number of entities read
+     * @throws IOException If the section is missing, malformed or fails its CRC32 check
+     */
+    public <T> int readSection(@NonNull String name, @NonNull Class<T> entityType,
+                               @NonNull EntityVisitor<T> visitor) throws IOException {
+        BackupManifest.Section section = requireSection(name);
+
+        ZipEntry entry = mZipFile.getEntry(section.entry);
+        if (entry == null) {
+            throw new IOException("Missing backup section: " + name);
+        }
+
+        int count = 0;
+        CheckedInputStream checked = new CheckedInputStream(
+                new BufferedInputStream(mZipFile.getInputStream(entry), 16 * 1024), new CRC32());
+        try (JsonReader reader = new JsonReader(new BufferedReader(
+                new InputStreamReader(checked, StandardCharsets.UTF_8)))) {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                if (reader.peek() == JsonToken.NULL) {
+                    reader.nextNull();
+                    continue;
+                }
+                T entity = mGson.fromJson(reader, entityType);
+                visitor.onEntity(entity);
+                count++;
+            }
+            reader.endArray();
+
+            // Drain trailing bytes so the checksum covers the whole entry
+            byte[] buffer = new byte[1024];
+            while (checked.read(buffer) != -1) {
+                // discard
+            }
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupt backup section " + name + ": " + e.getMessage(), e);
+        }
+
+        if (checked.getChecksum().getValue() != section.crc32) {
+            throw new IOException("Checksum mismatch in backup section: " + name);
+        }
+        if (count != section.count) {
+            throw new IOException("Entity count mismatch in backup section " + name
+                    + ": expected " + section.count + ", found " + count);
+        }
+        return count;
+    }
+
+    /**
+     * Read a single-object section.
+     *
+     * @return The object, or null if the section is empty
+     */
+    public <T> T readObjectSection(@NonNull String name, @NonNull Class<T> type) throws IOException {
+        List<T> holder = new ArrayList<>(1);
+        readSection(name, type, holder::add);
+        return holder.isEmpty() ? null : holder.get(0);
+    }
+
+    public boolean hasSection(@NonNull String name) throws IOException {
+        return readManifest().getSection(name) != null;
+    }
+
+    private BackupManifest.Section requireSection(String name) throws IOException {
+        BackupManifest.Section section = readManifest().getSection(name);
+        if (section == null) {
+            throw new IOException("Unknown backup section: " + name);
+        }
+        return section;
+    }
+
+    // ==================== VERIFICATION ====================
+
+    /**
+     * Recompute the CRC32 of every section without parsing it.
+     *
+     * @return Names of the sections that are missing or fail their check, empty if intact
+     */
+    @NonNull
+    public List<String> verify() throws IOException {
+        List<String> corrupt = new ArrayList<>();
+        byte[] buffer = new byte[16 * 1024];
+
+        for (BackupManifest.Section section : readManifest().sections) {
+            ZipEntry entry = mZipFile.getEntry(section.entry);
+            if (entry == null) {
+                corrupt.add(section.name);
+                continue;
+            }
+
+            try (CheckedInputStream in = new CheckedInputStream(mZipFile.getInputStream(entry), new CRC32())) {
+                while (in.read(buffer) != -1) {
+                    // discard
+                }
+                if (in.getChecksum().getValue() != section.crc32) {
+                    corrupt.add(section.name);
+                }
+            } catch (IOException e) {
+                corrupt.add(section.name);
+            }
+        }
+        return corrupt;
+    }
+
+    @Override
+    public void close() throws IOException {
+        mZipFile.close();
+    }
+}
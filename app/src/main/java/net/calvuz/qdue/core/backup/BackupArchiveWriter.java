@@ -0,0 +1,242 @@
+package net.calvuz.qdue.core.backup;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+
+import net.calvuz.qdue.core.backup.models.BackupManifest;
+import net.calvuz.qdue.ui.core.common.utils.Log;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Streaming writer for backup archives.
+ * <p>
+ * Writes a ZIP container with one compact JSON array entry per section, emitted
+ * entity by entity through a {@link JsonWriter}, and a manifest.json entry with
+ * counts and a CRC32 per section. Large tables are read page by page through a
+ * {@link PageLoader}, so only one page is in memory at a time.
+ * <p>
+ * The archive is written to a temporary file and renamed by {@link #finish()};
+ * an archive that is closed without finishing is deleted.
+ */
+public class BackupArchiveWriter implements Closeable {
+
+    private static final String TAG = "BackupArchiveWriter";
+
+    public static final String FILE_EXTENSION = ".zip";
+    private static final String SECTION_EXTENSION = ".json";
+
+    /**
+     * Loads a table in pages, keyed on the last entity of the previous page.
+     */
+    public interface PageLoader<T> {
+
+        /**
+         * @param last  Last entity of the previous page, null for the first page
+         * @param limit Page size
+         * @return Next page, shorter than limit (or empty) at the end of the table
+         */
+        @NonNull
+        List<T> loadPage(@Nullable T last, int limit);
+    }
+
+    private final File mTargetFile;
+    private final File mTempFile;
+    private final Gson mGson;
+    private final ZipOutputStream mZip;
+    private final BackupManifest mManifest;
+    private boolean mFinished = false;
+
+    /**
+     * @param targetFile Archive to create
+     * @param gson       Gson used for the entities
+     * @param manifest   Manifest to complete with the sections
+     */
+    public BackupArchiveWriter(@NonNull File targetFile, @NonNull Gson gson,
+                               @NonNull BackupManifest manifest) throws IOException {
+        mTargetFile = targetFile;
+        mTempFile = new File(targetFile.getParentFile(), targetFile.getName() + ".tmp");
+        mGson = gson;
+        mManifest = manifest;
+        mZip = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(mTempFile), 64 * 1024));
+    }
+
+    // ==================== SECTIONS ====================
+
+    /**
+     * Write an in-memory table as a section.
+     */
+    public <T> BackupManifest.Section writeSection(@NonNull String name, @NonNull Class<T> entityType,
+                                                   @Nullable List<T> entities) throws IOException {
+        try (SectionWriter section = openSection(name, entityType)) {
+            if (entities != null) {
+                for (T entity : entities) {
+                    section.write(entity);
+                }
+            }
+            return section.mSection;
+        }
+    }
+
+    /**
+     * Write a table loaded page by page as a section.
+     */
+    public <T> BackupManifest.Section writePagedSection(@NonNull String name, @NonNull Class<T> entityType,
+                                                        int pageSize, @NonNull PageLoader<T> loader) throws IOException {
+        try (SectionWriter section = openSection(name, entityType)) {
+            T last = null;
+            List<T> page;
+            do {
+                page = loader.loadPage(last, pageSize);
+                for (T entity : page) {
+                    section.write(entity);
+                }
+                if (!page.isEmpty()) {
+                    last = page.get(page.size() - 1);
+                }
+            } while (page.size() >= pageSize);
+            return section.mSection;
+        }
+    }
+
+    /**
+     * Write a single object (e.g. preferences) as a one-element section.
+     */
+    public <T> BackupManifest.Section writeObjectSection(@NonNull String name, @NonNull Class<T> type,
+                                                         @Nullable T value) throws IOException {
+        try (SectionWriter section = openSection(name, type)) {
+            if (value != null) {
+                section.write(value);
+            }
+            return section.mSection;
+        }
+    }
+
+    private SectionWriter openSection(String name, Class<?> entityType) throws IOException {
+        if (mFinished) {
+            throw new IllegalStateException("Archive already finished");
+        }
+        BackupManifest.Section section = new BackupManifest.Section(
+                name, name + SECTION_EXTENSION, entityType.getSimpleName());
+        mZip.putNextEntry(new ZipEntry(section.entry));
+        return new SectionWriter(section, entityType);
+    }
+
+    /**
+     * JSON array writer for the current ZIP entry
+     */
+    private class SectionWriter implements Closeable {
+        final BackupManifest.Section mSection;
+        final Class<?> mType;
+        final CheckedEntryStream mStream;
+        final JsonWriter mJsonWriter;
+
+        SectionWriter(BackupManifest.Section section, Class<?> type) throws IOException {
+            mSection = section;
+            mType = type;
+            mStream = new CheckedEntryStream(mZip);
+            mJsonWriter = new JsonWriter(new BufferedWriter(
+                    new OutputStreamWriter(mStream, StandardCharsets.UTF_8), 16 * 1024));
+            mJsonWriter.beginArray();
+        }
+
+        void write(Object entity) {
+            mGson.toJson(entity, mType, mJsonWriter);
+            mSection.count++;
+        }
+
+        @Override
+        public void close() throws IOException {
+            mJsonWriter.endArray();
+            mJsonWriter.flush();
+            mZip.closeEntry();
+
+            mSection.crc32 = mStream.mCrc.getValue();
+            mSection.size = mStream.mSize;
+            mManifest.sections.add(mSection);
+            Log.v(TAG, "Section " + mSection.name + ": " + mSection.count + " entities, " + mSection.size + " bytes");
+        }
+    }
+
+    /**
+     * Entry stream computing CRC32 and size; closing it leaves the ZIP stream open
+     */
+    private static class CheckedEntryStream extends FilterOutputStream {
+        final CRC32 mCrc = new CRC32();
+        long mSize;
+
+        CheckedEntryStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            mCrc.update(b);
+            mSize++;
+        }
+
+        @Override
+        public void write(@NonNull byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            mCrc.update(b, off, len);
+            mSize += len;
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+    // ==================== COMPLETION ====================
+
+    /**
+     * Write the manifest and move the archive in place.
+     *
+     * @return The completed manifest
+     */
+    @NonNull
+    public BackupManifest finish() throws IOException {
+        mZip.putNextEntry(new ZipEntry(BackupManifest.ENTRY_NAME));
+        JsonWriter writer = new JsonWriter(new OutputStreamWriter(new CheckedEntryStream(mZip), StandardCharsets.UTF_8));
+        mGson.toJson(mManifest, BackupManifest.class, writer);
+        writer.flush();
+        mZip.closeEntry();
+        mZip.close();
+        mFinished = true;
+
+        if (!mTempFile.renameTo(mTargetFile)) {
+            mTempFile.delete();
+            throw new IOException("Cannot write backup archive: " + mTargetFile.getName());
+        }
+        return mManifest;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!mFinished) {
+            try {
+                mZip.close();
+            } finally {
+                mTempFile.delete();
+            }
+        }
+    }
+}
@@ -8,6 +8,7 @@ import androidx.preference.PreferenceManager;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.events.EventPackageJson;
 import net.calvuz.qdue.events.models.LocalEvent;
 import net.calvuz.qdue.ui.core.common.utils.Log;
@@ -159,7 +160,7 @@ public class BackupManager {
         }
 
         // Perform backup in background thread to avoid blocking UI
-        new Thread(() -> {
+        AppExecutors.getInstance().bulk().execute(() -> {
             try {
                 BackupResult result = createBackup(events);
                 if (result.success) {
@@ -172,7 +173,7 @@ public class BackupManager {
             } catch (Exception e) {
                 Log.e(TAG, "Error during auto backup", e);
             }
-        }).start();
+        });
     }
 
     /**
@@ -185,7 +186,7 @@ public class BackupManager {
         }
 
         // Perform backup in background thread
-        new Thread(() -> {
+        AppExecutors.getInstance().bulk().execute(() -> {
             try {
                 BackupResult result = createBackup(events);
                 if (result.success) {
@@ -198,7 +199,7 @@ public class BackupManager {
             } catch (Exception e) {
                 callback.onBackupError("Backup error: " + e.getMessage(), e);
             }
-        }).start();
+        });
     }
 
     /**
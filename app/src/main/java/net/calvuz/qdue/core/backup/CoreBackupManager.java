@@ -9,12 +9,17 @@ import androidx.preference.PreferenceManager;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
-import net.calvuz.qdue.core.backup.models.EntityBackupPackage;
-import net.calvuz.qdue.core.backup.models.FullApplicationBackup;
+import net.calvuz.qdue.core.backup.models.BackupManifest;
+import net.calvuz.qdue.core.backup.models.CalendarChangeSet;
 import net.calvuz.qdue.core.backup.models.PreferencesBackupPackage;
 import net.calvuz.qdue.core.backup.services.CalendarDatabaseBackupService;
 import net.calvuz.qdue.core.backup.services.DatabaseBackupService;
 import net.calvuz.qdue.core.backup.services.PreferencesBackupService;
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
+import net.calvuz.qdue.core.common.concurrent.CancellationToken;
+import net.calvuz.qdue.core.common.concurrent.TaskLane;
+import net.calvuz.qdue.core.common.metrics.Metrics;
+import net.calvuz.qdue.core.common.metrics.TraceSection;
 import net.calvuz.qdue.core.db.CalendarDatabase;
 import net.calvuz.qdue.core.db.QDueDatabase;
 import net.calvuz.qdue.core.services.models.OperationResult;
@@ -22,13 +27,18 @@ import net.calvuz.qdue.ui.core.common.utils.Log;
 
 import java.io.File;
 import java.io.FileWriter;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * EXTENDED: CoreBackupManager - Unified Backup System with Calendar Support
@@ -45,6 +55,13 @@ import java.util.concurrent.Executors;
  *   <li><strong>Backward Compatibility</strong>: Maintains all existing QDueDatabase functionality</li>
  * </ul>
  *
+ * <h3>Incremental Calendar Backups:</h3>
+ * <p>Calendar auto backups are debounced: a burst of create/update/delete/import triggers
+ * is coalesced into a single backup once the calendar has been quiet for a few seconds.
+ * Each backup writes a delta holding only the entities changed since the previous file
+ * (updated_at watermark) plus the live IDs, chained to a periodic full snapshot.
+ * {@link RestoreManager#restoreCalendarChain} replays the snapshot and its deltas.</p>
+ *
  * <h3>Calendar Entities Supported:</h3>
  * <ul>
  *   <li>ShiftEntity - Shift type templates</li>
@@ -67,11 +84,22 @@ public class CoreBackupManager {
     private static final String BACKUP_FILE_PREFIX = "qdue_backup_";
     private static final String CALENDAR_BACKUP_PREFIX = "calendar_backup_";
     private static final String BACKUP_FILE_EXTENSION = ".json";
+    private static final String ARCHIVE_FILE_EXTENSION = BackupArchiveWriter.FILE_EXTENSION;
     private static final DateTimeFormatter BACKUP_TIMESTAMP_FORMAT =
             DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
     private static final int MAX_BACKUP_FILES = 10;
     private static final int MAX_ENTITY_BACKUP_FILES = 5;
 
+    // Incremental calendar backup chains
+    private static final String CALENDAR_FULL_PREFIX = "calendar_full_";
+    private static final String CALENDAR_DELTA_PREFIX = "calendar_delta_";
+    private static final long CALENDAR_AUTO_BACKUP_DEBOUNCE_MS = 5_000;      // Quiet period before a backup
+    private static final long CALENDAR_AUTO_BACKUP_MAX_DELAY_MS = 60_000;    // Upper bound under constant edits
+    private static final long CALENDAR_WATERMARK_OVERLAP_MS = 5_000;         // Re-read writes racing the watermark
+    private static final long CALENDAR_FULL_SNAPSHOT_INTERVAL_MS = 7L * 24 * 60 * 60 * 1000;
+    private static final int MAX_CALENDAR_DELTAS_PER_CHAIN = 50;
+    private static final int MAX_CALENDAR_CHAINS = 2;
+
     // Preferences keys for unified backup system
     private static final String PREF_AUTO_BACKUP_ENABLED = "unified_auto_backup_enabled";
     private static final String PREF_LAST_BACKUP_TIME = "unified_last_backup_time";
@@ -85,6 +113,11 @@ public class CoreBackupManager {
     private static final String PREF_CALENDAR_AUTO_BACKUP_ENABLED = "calendar_auto_backup_enabled";
     private static final String PREF_CALENDAR_LAST_BACKUP_TIME = "calendar_last_backup_time";
     private static final String PREF_CALENDAR_BACKUP_COUNT = "calendar_backup_count";
+    private static final String PREF_CALENDAR_CHAIN_BASE = "calendar_chain_base";
+    private static final String PREF_CALENDAR_CHAIN_SEQUENCE = "calendar_chain_sequence";
+    private static final String PREF_CALENDAR_CHAIN_STARTED = "calendar_chain_started";
+    private static final String PREF_CALENDAR_CHAIN_WATERMARK = "calendar_chain_watermark";
+    private static final String PREF_CALENDAR_CHAIN_FINGERPRINT = "calendar_chain_fingerprint";
 
     // ==================== DEPENDENCIES ====================
 
@@ -95,10 +128,18 @@ public class CoreBackupManager {
     private final DatabaseBackupService mDatabaseBackupService;
     private final CalendarDatabaseBackupService mCalendarDatabaseBackupService;
     private final PreferencesBackupService mPreferencesBackupService;
-    private final ExecutorService mExecutorService;
+    private final TaskLane mBulkExecutor;
     private final Gson mGson;
     private final File mBackupDirectory;
 
+    // Debounced calendar auto backup
+    private final Object mCalendarBackupLock = new Object();
+    private final Object mCalendarChainLock = new Object();
+    private final Set<String> mPendingCalendarOperations = new LinkedHashSet<>();
+    private CompletableFuture<OperationResult<Void>> mPendingCalendarBackup;
+    private CancellationToken mPendingCalendarBackupToken;
+    private long mFirstPendingCalendarTrigger;
+
     // ==================== CONSTRUCTORS FOR DEPENDENCY INJECTION ====================
 
     /**
@@ -116,7 +157,7 @@ public class CoreBackupManager {
         this.mDatabaseBackupService = new DatabaseBackupService(mContext, database);
         this.mCalendarDatabaseBackupService = new CalendarDatabaseBackupService(mContext, calendarDatabase);
         this.mPreferencesBackupService = new PreferencesBackupService(mContext);
-        this.mExecutorService = Executors.newFixedThreadPool(4); // Increased for calendar operations
+        this.mBulkExecutor = AppExecutors.getInstance().bulk();
         this.mGson = new GsonBuilder()
                 .setPrettyPrinting()
                 .serializeNulls()
@@ -169,47 +210,125 @@ public class CoreBackupManager {
 
     /**
      * ✅ NEW: Generic calendar auto backup method
+     * Debounced: triggers arriving while a backup is pending are coalesced into it and
+     * push it back by {@link #CALENDAR_AUTO_BACKUP_DEBOUNCE_MS}, up to
+     * {@link #CALENDAR_AUTO_BACKUP_MAX_DELAY_MS} after the first trigger.
      *
      * @param operation Type of operation triggering backup
-     * @return CompletableFuture with operation result
+     * @return CompletableFuture completed when the coalesced backup has run
      */
     private CompletableFuture<OperationResult<Void>> triggerCalendarAutoBackup(String operation) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                if (!isCalendarAutoBackupEnabled()) {
-                    Log.d(TAG, "Calendar auto backup disabled, skipping backup for: " + operation);
-                    return OperationResult.success("Calendar auto backup disabled, skipping backup for: " + operation,
-                            OperationResult.OperationType.BACKUP);
+        if (!isCalendarAutoBackupEnabled()) {
+            Log.d(TAG, "Calendar auto backup disabled, skipping backup for: " + operation);
+            return CompletableFuture.completedFuture(OperationResult.success(
+                    "Calendar auto backup disabled, skipping backup for: " + operation,
+                    OperationResult.OperationType.BACKUP));
+        }
+
+        synchronized (mCalendarBackupLock) {
+            long now = System.currentTimeMillis();
+            if (mPendingCalendarBackup == null) {
+                mPendingCalendarBackup = new CompletableFuture<>();
+                mFirstPendingCalendarTrigger = now;
+            } else if (mPendingCalendarBackupToken != null) {
+                mPendingCalendarBackupToken.cancel();
+            }
+            mPendingCalendarOperations.add(operation);
+
+            long delay = Math.min(CALENDAR_AUTO_BACKUP_DEBOUNCE_MS,
+                    Math.max(0, mFirstPendingCalendarTrigger + CALENDAR_AUTO_BACKUP_MAX_DELAY_MS - now));
+            // The shared timer only times the backup, which runs on the bulk lane
+            CancellationToken token = new CancellationToken();
+            mPendingCalendarBackupToken = token;
+            AppExecutors.getInstance().supplyDelayed(mBulkExecutor, () -> {
+                runPendingCalendarAutoBackup();
+                return null;
+            }, delay, token).whenComplete((ignored, error) -> {
+                // A saturated bulk lane rejects the backup: report it instead of leaving callers waiting
+                if (error != null && !token.isCancelled()) {
+                    failPendingCalendarAutoBackup(error);
                 }
+            });
 
-                Log.d(TAG, "Triggering calendar auto backup for operation: " + operation);
+            Log.v(TAG, "Calendar auto backup for " + operation + " scheduled in " + delay + "ms");
+            return mPendingCalendarBackup;
+        }
+    }
 
-                if (mCalendarDatabase == null) {
-                    Log.w(TAG, "Calendar database not available for backup");
-                    return OperationResult.failure("Calendar database not initialized",
-                            OperationResult.OperationType.BACKUP);
-                }
+    /**
+     * Run the coalesced calendar auto backup, on the bulk lane
+     */
+    private void runPendingCalendarAutoBackup() {
+        CompletableFuture<OperationResult<Void>> pending;
+        String operations;
+
+        synchronized (mCalendarBackupLock) {
+            if (mPendingCalendarBackup == null) {
+                return; // Already taken by a task that started before being rescheduled
+            }
+            pending = mPendingCalendarBackup;
+            operations = String.join(",", mPendingCalendarOperations);
+            mPendingCalendarBackup = null;
+            mPendingCalendarBackupToken = null;
+            mPendingCalendarOperations.clear();
+        }
 
-                // Create calendar-specific backup
-                OperationResult<String> backupResult = createCalendarBackup();
+        pending.complete(performCalendarAutoBackup(operations));
+    }
 
-                if (backupResult.isSuccess()) {
-                    updateCalendarBackupTimestamp();
-                    Log.d(TAG, "Calendar auto backup completed successfully for: " + operation);
-                    return OperationResult.success("Calendar auto backup completed successfully for: " + operation,
-                            OperationResult.OperationType.BACKUP);
-                } else {
-                    Log.e(TAG, "Calendar auto backup failed for: " + operation + " - " + backupResult.getErrors());
-                    return OperationResult.failure(backupResult.getErrors(),
-                            OperationResult.OperationType.BACKUP);
-                }
+    /**
+     * Complete the coalesced calendar auto backup with a failure, when it could not be run
+     */
+    private void failPendingCalendarAutoBackup(Throwable error) {
+        CompletableFuture<OperationResult<Void>> pending;
 
-            } catch (Exception e) {
-                Log.e(TAG, "Calendar auto backup exception for: " + operation, e);
-                return OperationResult.failure("Calendar backup failed: " + e.getMessage(),
+        synchronized (mCalendarBackupLock) {
+            if (mPendingCalendarBackup == null) {
+                return;
+            }
+            pending = mPendingCalendarBackup;
+            mPendingCalendarBackup = null;
+            mPendingCalendarBackupToken = null;
+            mPendingCalendarOperations.clear();
+        }
+
+        Log.e(TAG, "Calendar auto backup could not be scheduled", error);
+        pending.complete(OperationResult.failure("Calendar backup failed: " + error.getMessage(),
+                OperationResult.OperationType.BACKUP));
+    }
+
+    /**
+     * Write the incremental calendar backup for the coalesced operations
+     */
+    private OperationResult<Void> performCalendarAutoBackup(String operation) {
+        try {
+            Log.d(TAG, "Triggering calendar auto backup for operations: " + operation);
+
+            if (mCalendarDatabase == null) {
+                Log.w(TAG, "Calendar database not available for backup");
+                return OperationResult.failure("Calendar database not initialized",
                         OperationResult.OperationType.BACKUP);
             }
-        }, mExecutorService);
+
+            // Create calendar-specific incremental backup
+            OperationResult<String> backupResult = createIncrementalCalendarBackup();
+
+            if (backupResult.isSuccess()) {
+                updateCalendarBackupTimestamp();
+                Log.d(TAG, "Calendar auto backup completed successfully for: " + operation);
+                return OperationResult.success("Calendar auto backup completed successfully for: " + operation,
+                        OperationResult.OperationType.BACKUP);
+            } else {
+                Log.e(TAG, "Calendar auto backup failed for: " + operation + " - " + backupResult.getErrors());
+                return OperationResult.failure(backupResult.getErrors(),
+                        OperationResult.OperationType.BACKUP);
+            }
+
+        } catch (Exception e) {
+            Log.e(TAG, "Calendar auto backup exception for: " + operation, e);
+            return OperationResult.failure("Calendar backup failed: " + e.getMessage(),
+                    OperationResult.OperationType.BACKUP);
+        }
     }
 
     // ==================== UNIFIED AUTO BACKUP (EXISTING + ENHANCED) ====================
@@ -280,7 +399,7 @@ public class CoreBackupManager {
                 return OperationResult.failure("Unified backup failed: " + e.getMessage(),
                         OperationResult.OperationType.BACKUP);
             }
-        }, mExecutorService);
+        }, mBulkExecutor);
     }
 
     // ==================== CALENDAR BACKUP OPERATIONS ====================
@@ -297,25 +416,20 @@ public class CoreBackupManager {
 
             Log.d(TAG, "Creating calendar-only backup");
 
-            // Generate calendar backup using service
-            OperationResult<EntityBackupPackage> calendarBackup =
-                    mCalendarDatabaseBackupService.generateCalendarBackup();
-
-            if (calendarBackup.isFailure()) {
-                return OperationResult.failure(calendarBackup.getErrors(),
-                        OperationResult.OperationType.BACKUP);
-            }
-
-            // Create backup file with timestamp
+            // Stream calendar tables into a compressed archive
             String timestamp = LocalDateTime.now().format(BACKUP_TIMESTAMP_FORMAT);
-            String filename = CALENDAR_BACKUP_PREFIX + timestamp + BACKUP_FILE_EXTENSION;
+            String filename = CALENDAR_BACKUP_PREFIX + timestamp + ARCHIVE_FILE_EXTENSION;
             File backupFile = new File(mBackupDirectory, filename);
 
-            try (FileWriter writer = new FileWriter(backupFile)) {
-                mGson.toJson(calendarBackup.getData(), writer);
+            BackupManifest manifest = new BackupManifest("calendar", getAppVersion());
+            try (TraceSection section = Metrics.trace("backup.calendar");
+                 BackupArchiveWriter writer = new BackupArchiveWriter(backupFile, mGson, manifest)) {
+                mCalendarDatabaseBackupService.writeCalendarSections(writer);
+                writer.finish();
             }
 
-            Log.d(TAG, "Calendar backup created successfully: " + filename);
+            Log.d(TAG, "Calendar backup created successfully: " + filename +
+                    " (" + manifest.getTotalEntityCount() + " entities)");
             return OperationResult.success(backupFile.getAbsolutePath(), OperationResult.OperationType.BACKUP);
 
         } catch (Exception e) {
@@ -325,75 +439,241 @@ public class CoreBackupManager {
         }
     }
 
+    // ==================== INCREMENTAL CALENDAR BACKUP ====================
+
     /**
-     * ✅ ENHANCED: Create full application backup including both databases
+     * Append a delta to the current calendar backup chain.
+     * Starts a new chain with a full snapshot when there is none, its snapshot is
+     * missing, it reached {@link #MAX_CALENDAR_DELTAS_PER_CHAIN} deltas or it is older
+     * than {@link #CALENDAR_FULL_SNAPSHOT_INTERVAL_MS}. No file is written when nothing
+     * changed since the previous one.
+     *
+     * @return OperationResult with the path of the written file (or the chain snapshot)
      */
-    public OperationResult<String> createFullApplicationBackup() {
-        try {
-            Log.d(TAG, "Creating full application backup (QDue + Calendar)");
+    public OperationResult<String> createIncrementalCalendarBackup() {
+        if (mCalendarDatabase == null) {
+            return OperationResult.failure("Calendar database not available",
+                    OperationResult.OperationType.BACKUP);
+        }
 
-            FullApplicationBackup fullBackup = new FullApplicationBackup();
-            fullBackup.version = "2.0";
-            fullBackup.timestamp = LocalDateTime.now().toString();
-            fullBackup.appVersion = getAppVersion();
+        synchronized (mCalendarChainLock) {
+            try {
+                long watermark = System.currentTimeMillis();
+                String baseFileName = mPreferences.getString(PREF_CALENDAR_CHAIN_BASE, null);
+                int sequence = mPreferences.getInt(PREF_CALENDAR_CHAIN_SEQUENCE, 0);
+                long chainStarted = mPreferences.getLong(PREF_CALENDAR_CHAIN_STARTED, 0L);
+
+                if (baseFileName == null
+                        || !new File(mBackupDirectory, baseFileName).exists()
+                        || sequence >= MAX_CALENDAR_DELTAS_PER_CHAIN
+                        || watermark - chainStarted >= CALENDAR_FULL_SNAPSHOT_INTERVAL_MS) {
+                    return createCalendarSnapshot(watermark);
+                }
 
-            // Backup QDue database using NEW methods
-            OperationResult<EntityBackupPackage> qDueEventsBackup =
-                    mDatabaseBackupService.generateEventsBackup();
-            if (qDueEventsBackup.isSuccess()) {
-                fullBackup.eventsBackup = qDueEventsBackup.getData();
-            }
+                long since = mPreferences.getLong(PREF_CALENDAR_CHAIN_WATERMARK, 0L) - CALENDAR_WATERMARK_OVERLAP_MS;
+                OperationResult<CalendarChangeSet> deltaResult;
+                try (TraceSection section = Metrics.trace("backup.calendar_delta.generate")) {
+                    deltaResult = mCalendarDatabaseBackupService.generateCalendarDelta(since, watermark);
+                }
+                if (deltaResult.isFailure()) {
+                    return OperationResult.failure(deltaResult.getErrors(), OperationResult.OperationType.BACKUP);
+                }
 
-            OperationResult<EntityBackupPackage> qDueUsersBackup =
-                    mDatabaseBackupService.generateUsersBackup();
-            if (qDueUsersBackup.isSuccess()) {
-                fullBackup.usersBackup = qDueUsersBackup.getData();
-            }
+                CalendarChangeSet delta = deltaResult.getData();
+                long fingerprint = delta.liveIds.fingerprint();
+                File baseFile = new File(mBackupDirectory, baseFileName);
 
-            OperationResult<EntityBackupPackage> qDueEstablishmentsBackup =
-                    mDatabaseBackupService.generateEstablishmentsBackup();
-            if (qDueEstablishmentsBackup.isSuccess()) {
-                fullBackup.establishmentsBackup = qDueEstablishmentsBackup.getData();
+                if (delta.getEntityCount() == 0
+                        && fingerprint == mPreferences.getLong(PREF_CALENDAR_CHAIN_FINGERPRINT, 0L)) {
+                    Log.d(TAG, "No calendar changes since last backup, delta skipped");
+                    return OperationResult.success(baseFile.getAbsolutePath(),
+                            "No calendar changes since last backup", OperationResult.OperationType.BACKUP);
+                }
+
+                delta.baseFileName = baseFileName;
+                delta.sequence = sequence + 1;
+
+                String filename = CALENDAR_DELTA_PREFIX + getChainStamp(baseFileName) + "_" +
+                        String.format(Locale.ROOT, "%03d", delta.sequence) + BACKUP_FILE_EXTENSION;
+                File deltaFile = writeCalendarChainFile(delta, filename);
+
+                mPreferences.edit()
+                        .putInt(PREF_CALENDAR_CHAIN_SEQUENCE, delta.sequence)
+                        .putLong(PREF_CALENDAR_CHAIN_WATERMARK, watermark)
+                        .putLong(PREF_CALENDAR_CHAIN_FINGERPRINT, fingerprint)
+                        .commit();
+
+                Log.d(TAG, "Calendar delta created: " + filename + " (" + delta.getEntityCount() + " changed entities)");
+                return OperationResult.success(deltaFile.getAbsolutePath(), OperationResult.OperationType.BACKUP);
+
+            } catch (Exception e) {
+                Log.e(TAG, "Failed to create incremental calendar backup", e);
+                return OperationResult.failure("Incremental calendar backup failed: " + e.getMessage(),
+                        OperationResult.OperationType.BACKUP);
             }
+        }
+    }
+
+    /**
+     * Start a new calendar backup chain with a full snapshot
+     */
+    private OperationResult<String> createCalendarSnapshot(long watermark) throws IOException {
+        OperationResult<CalendarChangeSet> snapshotResult;
+        try (TraceSection section = Metrics.trace("backup.calendar_snapshot.generate")) {
+            snapshotResult = mCalendarDatabaseBackupService.generateCalendarSnapshot(watermark);
+        }
+        if (snapshotResult.isFailure()) {
+            return OperationResult.failure(snapshotResult.getErrors(), OperationResult.OperationType.BACKUP);
+        }
 
-            OperationResult<EntityBackupPackage> qDueMacroBackup =
-                    mDatabaseBackupService.generateMacroDepartmentsBackup();
-            if (qDueMacroBackup.isSuccess()) {
-                fullBackup.macroDepartmentsBackup = qDueMacroBackup.getData();
+        CalendarChangeSet snapshot = snapshotResult.getData();
+        String filename = CALENDAR_FULL_PREFIX + LocalDateTime.now().format(BACKUP_TIMESTAMP_FORMAT) +
+                BACKUP_FILE_EXTENSION;
+        File snapshotFile = writeCalendarChainFile(snapshot, filename);
+
+        mPreferences.edit()
+                .putString(PREF_CALENDAR_CHAIN_BASE, filename)
+                .putInt(PREF_CALENDAR_CHAIN_SEQUENCE, 0)
+                .putLong(PREF_CALENDAR_CHAIN_STARTED, watermark)
+                .putLong(PREF_CALENDAR_CHAIN_WATERMARK, watermark)
+                .putLong(PREF_CALENDAR_CHAIN_FINGERPRINT, snapshot.resolveLiveIds().fingerprint())
+                .commit();
+
+        cleanupOldCalendarChains();
+
+        Log.d(TAG, "Calendar snapshot created: " + filename + " (" + snapshot.getEntityCount() + " entities)");
+        return OperationResult.success(snapshotFile.getAbsolutePath(), OperationResult.OperationType.BACKUP);
+    }
+
+    /**
+     * Write a chain file through a temporary file, so a chain never references a partial file
+     */
+    private File writeCalendarChainFile(CalendarChangeSet changeSet, String filename) throws IOException {
+        File tempFile = new File(mBackupDirectory, filename + ".tmp");
+        File targetFile = new File(mBackupDirectory, filename);
+
+        try (TraceSection section = Metrics.trace("backup.calendar_chain.write");
+             FileWriter writer = new FileWriter(tempFile)) {
+            mGson.toJson(changeSet, writer);
+        }
+        if (!tempFile.renameTo(targetFile)) {
+            tempFile.delete();
+            throw new IOException("Cannot write calendar backup file: " + filename);
+        }
+        return targetFile;
+    }
+
+    /**
+     * Get the files of the most recent calendar backup chain: the full snapshot first,
+     * then its deltas in order. Pass the result to {@link RestoreManager#restoreCalendarChain}.
+     *
+     * @return Chain files, empty if no chain exists
+     */
+    public List<File> getLatestCalendarBackupChain() {
+        List<File> chain = new ArrayList<>();
+
+        String baseFileName = mPreferences.getString(PREF_CALENDAR_CHAIN_BASE, null);
+        if (baseFileName == null || !new File(mBackupDirectory, baseFileName).exists()) {
+            // Preferences lost: fall back to the newest snapshot on disk
+            File[] snapshots = mBackupDirectory.listFiles((dir, name) ->
+                    name.startsWith(CALENDAR_FULL_PREFIX) && name.endsWith(BACKUP_FILE_EXTENSION));
+            if (snapshots == null || snapshots.length == 0) {
+                return chain;
             }
+            Arrays.sort(snapshots, (a, b) -> b.getName().compareTo(a.getName()));
+            baseFileName = snapshots[0].getName();
+        }
+
+        chain.add(new File(mBackupDirectory, baseFileName));
+        chain.addAll(getCalendarDeltaFiles(getChainStamp(baseFileName)));
+        return chain;
+    }
+
+    private List<File> getCalendarDeltaFiles(String chainStamp) {
+        String deltaPrefix = CALENDAR_DELTA_PREFIX + chainStamp + "_";
+        File[] deltas = mBackupDirectory.listFiles((dir, name) ->
+                name.startsWith(deltaPrefix) && name.endsWith(BACKUP_FILE_EXTENSION));
+        if (deltas == null) {
+            return new ArrayList<>();
+        }
+
+        // Zero-padded sequence numbers sort by name
+        Arrays.sort(deltas, (a, b) -> a.getName().compareTo(b.getName()));
+        return new ArrayList<>(Arrays.asList(deltas));
+    }
 
-            OperationResult<EntityBackupPackage> qDueSubBackup =
-                    mDatabaseBackupService.generateSubDepartmentsBackup();
-            if (qDueSubBackup.isSuccess()) {
-                fullBackup.subDepartmentsBackup = qDueSubBackup.getData();
+    private static String getChainStamp(String snapshotFileName) {
+        return snapshotFileName.substring(CALENDAR_FULL_PREFIX.length(),
+                snapshotFileName.length() - BACKUP_FILE_EXTENSION.length());
+    }
+
+    /**
+     * Keep the newest {@link #MAX_CALENDAR_CHAINS} chains, deleting older snapshots and their deltas
+     */
+    private void cleanupOldCalendarChains() {
+        try {
+            File[] snapshots = mBackupDirectory.listFiles((dir, name) ->
+                    name.startsWith(CALENDAR_FULL_PREFIX) && name.endsWith(BACKUP_FILE_EXTENSION));
+            if (snapshots == null || snapshots.length <= MAX_CALENDAR_CHAINS) {
+                return;
             }
 
-            // NEW: Backup Calendar database if available
-            if (mCalendarDatabase != null) {
-                OperationResult<EntityBackupPackage> calendarBackup =
-                        mCalendarDatabaseBackupService.generateCalendarBackup();
-                if (calendarBackup.isSuccess()) {
-                    fullBackup.calendarBackup = calendarBackup.getData();
+            Arrays.sort(snapshots, (a, b) -> b.getName().compareTo(a.getName()));
+            for (int i = MAX_CALENDAR_CHAINS; i < snapshots.length; i++) {
+                for (File delta : getCalendarDeltaFiles(getChainStamp(snapshots[i].getName()))) {
+                    delta.delete();
+                }
+                if (snapshots[i].delete()) {
+                    Log.d(TAG, "Deleted old calendar backup chain: " + snapshots[i].getName());
                 }
             }
+        } catch (Exception e) {
+            Log.e(TAG, "Failed to cleanup old calendar backup chains", e);
+        }
+    }
 
-            // Backup preferences using NEW method
-            OperationResult<PreferencesBackupPackage> preferencesResult =
-                    mPreferencesBackupService.generatePreferencesBackup();
-            if (preferencesResult.isSuccess()) {
-                fullBackup.preferencesBackup = preferencesResult.getData();
-            }
+    /**
+     * ✅ ENHANCED: Create full application backup including both databases
+     */
+    public OperationResult<String> createFullApplicationBackup() {
+        try {
+            Log.d(TAG, "Creating full application backup (QDue + Calendar)");
 
-            // Write to file
+            // Stream every table into a compressed archive, one section per table
             String timestamp = LocalDateTime.now().format(BACKUP_TIMESTAMP_FORMAT);
-            String filename = BACKUP_FILE_PREFIX + timestamp + BACKUP_FILE_EXTENSION;
+            String filename = BACKUP_FILE_PREFIX + timestamp + ARCHIVE_FILE_EXTENSION;
             File backupFile = new File(mBackupDirectory, filename);
 
-            try (FileWriter writer = new FileWriter(backupFile)) {
-                mGson.toJson(fullBackup, writer);
+            BackupManifest manifest = new BackupManifest("full_application", getAppVersion());
+            try (TraceSection section = Metrics.trace("backup.full");
+                 BackupArchiveWriter writer = new BackupArchiveWriter(backupFile, mGson, manifest)) {
+                // QDue database
+                try (TraceSection stage = Metrics.trace("backup.full.events")) {
+                    mDatabaseBackupService.writeEntitySections(writer);
+                }
+
+                // Calendar database if available
+                if (mCalendarDatabase != null) {
+                    try (TraceSection stage = Metrics.trace("backup.full.calendar")) {
+                        mCalendarDatabaseBackupService.writeCalendarSections(writer);
+                    }
+                }
+
+                // Preferences
+                try (TraceSection stage = Metrics.trace("backup.full.preferences")) {
+                    OperationResult<PreferencesBackupPackage> preferencesResult =
+                            mPreferencesBackupService.generatePreferencesBackup();
+                    if (preferencesResult.isSuccess()) {
+                        writer.writeObjectSection("preferences", PreferencesBackupPackage.class,
+                                preferencesResult.getData());
+                    }
+                }
+
+                writer.finish();
             }
 
-            Log.d(TAG, "Full application backup created successfully: " + filename);
+            Log.d(TAG, "Full application backup created successfully: " + filename +
+                    " (" + manifest.getTotalEntityCount() + " entities)");
             return OperationResult.success(backupFile.getAbsolutePath(), OperationResult.OperationType.BACKUP);
 
         } catch (Exception e) {
@@ -567,10 +847,10 @@ public class CoreBackupManager {
     private void cleanupOldBackupFiles() {
         try {
             File[] backupFiles = mBackupDirectory.listFiles((dir, name) ->
-                    name.startsWith(BACKUP_FILE_PREFIX) && name.endsWith(BACKUP_FILE_EXTENSION));
+                    name.startsWith(BACKUP_FILE_PREFIX) && isBackupFileName(name));
 
             File[] calendarFiles = mBackupDirectory.listFiles((dir, name) ->
-                    name.startsWith(CALENDAR_BACKUP_PREFIX) && name.endsWith(BACKUP_FILE_EXTENSION));
+                    name.startsWith(CALENDAR_BACKUP_PREFIX) && isBackupFileName(name));
 
             // Cleanup QDue backup files
             if (backupFiles != null && backupFiles.length > MAX_BACKUP_FILES) {
@@ -601,6 +881,13 @@ public class CoreBackupManager {
         }
     }
 
+    /**
+     * Backup files are legacy JSON or compressed archives
+     */
+    private static boolean isBackupFileName(String name) {
+        return name.endsWith(BACKUP_FILE_EXTENSION) || name.endsWith(ARCHIVE_FILE_EXTENSION);
+    }
+
     /**
      * ✅ ENHANCED: Get backup statistics including calendar data
      */
@@ -616,10 +903,11 @@ public class CoreBackupManager {
         stats.put("calendarAutoBackupEnabled", isCalendarAutoBackupEnabled());
         stats.put("lastCalendarBackupTime", getLastCalendarBackupTime());
         stats.put("totalCalendarBackups", mPreferences.getInt(PREF_CALENDAR_BACKUP_COUNT, 0));
+        stats.put("calendarChainDeltas", mPreferences.getInt(PREF_CALENDAR_CHAIN_SEQUENCE, 0));
 
         // File system stats
         File[] backupFiles = mBackupDirectory.listFiles((dir, name) ->
-                name.endsWith(BACKUP_FILE_EXTENSION));
+                isBackupFileName(name));
         stats.put("backupFilesCount", backupFiles != null ? backupFiles.length : 0);
 
         return stats;
@@ -651,7 +939,7 @@ public class CoreBackupManager {
 
         // File system status
         File[] backupFiles = mBackupDirectory.listFiles((dir, name) ->
-                name.endsWith(BACKUP_FILE_EXTENSION));
+                isBackupFileName(name));
         status.backupFilesCount = backupFiles != null ? backupFiles.length : 0;
 
         // Directory health check
@@ -666,7 +954,7 @@ public class CoreBackupManager {
      */
     public void shutdown() {
         try {
-            mExecutorService.shutdown();
+            // Lanes are shared and never shut down: a pending calendar auto backup still runs
             Log.d(TAG, "CoreBackupManager shutdown completed");
         } catch (Exception e) {
             Log.e(TAG, "Error during CoreBackupManager shutdown", e);
@@ -7,6 +7,7 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
 import net.calvuz.qdue.QDue;
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.events.EventPackageJson;
 import net.calvuz.qdue.events.models.LocalEvent;
 import net.calvuz.qdue.ui.core.common.utils.Log;
@@ -147,7 +148,7 @@ public class ExportManager {
      */
     public void exportToUri(List<LocalEvent> events, Uri destinationUri,
                             ExportOptions options, ExportCallback callback) {
-        new Thread(() -> {
+        AppExecutors.getInstance().bulk().execute(() -> {
             try {
                 ExportResult result = performExportToUri(events, destinationUri, options, callback);
                 callback.onExportComplete(result);
@@ -155,7 +156,7 @@ public class ExportManager {
                 Log.e(TAG, "Error exporting to URI: " + destinationUri, e);
                 callback.onExportError("Export failed: " + e.getMessage(), e);
             }
-        }).start();
+        });
     }
 
     /**
@@ -163,7 +164,7 @@ public class ExportManager {
      */
     public void exportToFile(List<LocalEvent> events, String filePath,
                              ExportOptions options, ExportCallback callback) {
-        new Thread(() -> {
+        AppExecutors.getInstance().bulk().execute(() -> {
             try {
                 ExportResult result = performExportToFile(events, filePath, options, callback);
                 callback.onExportComplete(result);
@@ -171,7 +172,7 @@ public class ExportManager {
                 Log.e(TAG, "Error exporting to file: " + filePath, e);
                 callback.onExportError("Export failed: " + e.getMessage(), e);
             }
-        }).start();
+        });
     }
 
     /**
@@ -6,6 +6,15 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
 
+import net.calvuz.qdue.core.backup.models.BackupManifest;
+import net.calvuz.qdue.core.backup.models.CalendarChangeSet;
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
+import net.calvuz.qdue.core.db.CalendarDatabase;
+import net.calvuz.qdue.data.entities.RecurrenceRuleEntity;
+import net.calvuz.qdue.data.entities.ShiftEntity;
+import net.calvuz.qdue.data.entities.ShiftExceptionEntity;
+import net.calvuz.qdue.data.entities.TeamEntity;
+import net.calvuz.qdue.data.entities.UserScheduleAssignmentEntity;
 import net.calvuz.qdue.events.EventPackageJson;
 import net.calvuz.qdue.events.EventPackageManagerExtension;
 import net.calvuz.qdue.ui.core.common.utils.Log;
@@ -16,7 +25,12 @@ import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * STEP 3: Restore Manager for Events System
@@ -28,11 +42,16 @@ import java.util.List;
  * - Validation of backup file integrity
  * - Progress reporting for large restores
  * - Integration with existing EventPackageManager system
+ * - Calendar restore from incremental backup chains (snapshot + deltas)
+ * - Streamed preview and calendar restore of compressed backup archives
  */
 public class RestoreManager {
 
     private static final String TAG = "EV_RESTORE_MGR";
 
+    // Entities inserted per DAO call when streaming an archive section
+    private static final int ARCHIVE_RESTORE_BATCH_SIZE = 200;
+
     // Context and dependencies
     private final Context mContext;
     private final Gson mGson;
@@ -202,7 +221,7 @@ public class RestoreManager {
      * Preview backup file contents without restoring
      */
     public void previewBackup(String backupFilePath, PreviewCallback callback) {
-        new Thread(() -> {
+        AppExecutors.getInstance().bulk().execute(() -> {
             try {
                 PreviewResult result = performPreview(backupFilePath);
                 callback.onPreviewComplete(result);
@@ -210,7 +229,7 @@ public class RestoreManager {
                 Log.e(TAG, "Error previewing backup: " + backupFilePath, e);
                 callback.onPreviewError("Preview failed: " + e.getMessage(), e);
             }
-        }).start();
+        });
     }
 
     /**
@@ -343,7 +362,7 @@ public class RestoreManager {
      */
     public void restoreFromBackup(String backupFilePath, RestoreOptions options,
                                   RestoreCallback callback) {
-        new Thread(() -> {
+        AppExecutors.getInstance().bulk().execute(() -> {
             try {
                 RestoreResult result = performRestore(backupFilePath, options, callback);
                 callback.onRestoreComplete(result);
@@ -351,7 +370,7 @@ public class RestoreManager {
                 Log.e(TAG, "Error restoring from backup: " + backupFilePath, e);
                 callback.onRestoreError("Restore failed: " + e.getMessage(), e);
             }
-        }).start();
+        });
     }
 
     /**
@@ -473,11 +492,278 @@ public class RestoreManager {
         return true; // Simulated success
     }
 
+    // ==================== CALENDAR CHAIN RESTORE ====================
+
+    /**
+     * Restore the calendar database from an incremental backup chain.
+     * <p>
+     * The chain is the full snapshot followed by its deltas in order, as returned by
+     * {@link CoreBackupManager#getLatestCalendarBackupChain()}. Deltas are folded in
+     * memory first, then the resulting state replaces the calendar tables in one
+     * transaction. Replay stops at the first missing or foreign delta, restoring the
+     * last consistent point of the chain. Progress is reported per chain file.
+     */
+    public void restoreCalendarChain(CalendarDatabase calendarDatabase, List<File> chainFiles,
+                                     RestoreCallback callback) {
+        AppExecutors.getInstance().bulk().execute(() -> {
+            try {
+                RestoreResult result = performCalendarChainRestore(calendarDatabase, chainFiles, callback);
+                callback.onRestoreComplete(result);
+            } catch (Exception e) {
+                Log.e(TAG, "Error restoring calendar backup chain", e);
+                callback.onRestoreError("Calendar restore failed: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Perform the calendar chain replay
+     */
+    private RestoreResult performCalendarChainRestore(CalendarDatabase calendarDatabase, List<File> chainFiles,
+                                                      RestoreCallback callback) throws IOException {
+        if (chainFiles == null || chainFiles.isEmpty()) {
+            throw new IOException("Calendar backup chain is empty");
+        }
+
+        List<String> warnings = new ArrayList<>();
+        CalendarChainState state = new CalendarChainState();
+
+        CalendarChangeSet snapshot = readChangeSet(chainFiles.get(0));
+        if (!snapshot.isFull()) {
+            throw new IOException("Calendar backup chain must start with a full snapshot");
+        }
+        state.apply(snapshot);
+        reportChainProgress(callback, 1, chainFiles.size(), chainFiles.get(0).getName());
+
+        String baseFileName = chainFiles.get(0).getName();
+        int expectedSequence = 1;
+        int appliedDeltas = 0;
+
+        for (int i = 1; i < chainFiles.size(); i++) {
+            File deltaFile = chainFiles.get(i);
+            CalendarChangeSet delta = readChangeSet(deltaFile);
+
+            if (delta.isFull() || !baseFileName.equals(delta.baseFileName)
+                    || delta.sequence != expectedSequence) {
+                warnings.add("Calendar backup chain broken at " + deltaFile.getName() +
+                        ", restored up to delta " + (expectedSequence - 1));
+                break;
+            }
+
+            state.apply(delta);
+            appliedDeltas++;
+            expectedSequence++;
+            reportChainProgress(callback, i + 1, chainFiles.size(), deltaFile.getName());
+        }
+
+        int totalEntities = state.getEntityCount();
+        Log.d(TAG, String.format("Replaying calendar chain %s: %d deltas, %d entities",
+                baseFileName, appliedDeltas, totalEntities));
+
+        calendarDatabase.runInTransaction(() -> {
+            calendarDatabase.clearAllCalendarData();
+
+            // Parents first
+            calendarDatabase.teamDao().insertTeams(new ArrayList<>(state.teams.values()));
+            calendarDatabase.shiftDao().insertShifts(new ArrayList<>(state.shifts.values()));
+            calendarDatabase.recurrenceRuleDao().insertRecurrenceRules(new ArrayList<>(state.recurrenceRules.values()));
+            calendarDatabase.shiftExceptionDao().insertShiftExceptions(new ArrayList<>(state.shiftExceptions.values()));
+            calendarDatabase.userScheduleAssignmentDao().insertUserScheduleAssignments(
+                    new ArrayList<>(state.userScheduleAssignments.values()));
+        });
+
+        Log.i(TAG, String.format("Calendar restore completed: %d entities from %d files",
+                totalEntities, appliedDeltas + 1));
+        return RestoreResult.success(totalEntities, 0, totalEntities, warnings);
+    }
+
+    private CalendarChangeSet readChangeSet(File file) throws IOException {
+        if (!file.exists() || !file.canRead()) {
+            throw new IOException("Backup file not accessible: " + file.getAbsolutePath());
+        }
+
+        try (FileReader reader = new FileReader(file)) {
+            CalendarChangeSet changeSet = mGson.fromJson(reader, CalendarChangeSet.class);
+            if (changeSet == null || changeSet.type == null) {
+                throw new IOException("Invalid calendar backup file: " + file.getName());
+            }
+            return changeSet;
+        } catch (JsonSyntaxException e) {
+            throw new IOException("Invalid JSON format in calendar backup file " + file.getName(), e);
+        }
+    }
+
+    private void reportChainProgress(RestoreCallback callback, int processed, int total, String item) {
+        if (callback != null) {
+            callback.onRestoreProgress(processed, total, item);
+        }
+    }
+
+    /**
+     * Calendar tables folded from a backup chain, keyed by entity ID (package-private for tests)
+     */
+    static class CalendarChainState {
+        final Map<String, ShiftEntity> shifts = new LinkedHashMap<>();
+        final Map<String, TeamEntity> teams = new LinkedHashMap<>();
+        final Map<String, RecurrenceRuleEntity> recurrenceRules = new LinkedHashMap<>();
+        final Map<String, ShiftExceptionEntity> shiftExceptions = new LinkedHashMap<>();
+        final Map<String, UserScheduleAssignmentEntity> userScheduleAssignments = new LinkedHashMap<>();
+
+        void apply(CalendarChangeSet changeSet) {
+            CalendarChangeSet.LiveIds liveIds = changeSet.liveIds;
+            applyTable(shifts, changeSet.shifts, ShiftEntity::getId,
+                    liveIds != null ? liveIds.shifts : null);
+            applyTable(teams, changeSet.teams, TeamEntity::getId,
+                    liveIds != null ? liveIds.teams : null);
+            applyTable(recurrenceRules, changeSet.recurrenceRules, RecurrenceRuleEntity::getId,
+                    liveIds != null ? liveIds.recurrenceRules : null);
+            applyTable(shiftExceptions, changeSet.shiftExceptions, ShiftExceptionEntity::getId,
+                    liveIds != null ? liveIds.shiftExceptions : null);
+            applyTable(userScheduleAssignments, changeSet.userScheduleAssignments,
+                    UserScheduleAssignmentEntity::getId,
+                    liveIds != null ? liveIds.userScheduleAssignments : null);
+        }
+
+        /**
+         * Upsert the changed entities, then drop the IDs no longer live (deletions)
+         */
+        private static <T> void applyTable(Map<String, T> table, List<T> changed,
+                                           Function<T, String> idOf, List<String> liveIds) {
+            if (changed != null) {
+                for (T entity : changed) {
+                    table.put(idOf.apply(entity), entity);
+                }
+            }
+            if (liveIds != null) {
+                table.keySet().retainAll(new HashSet<>(liveIds));
+            }
+        }
+
+        int getEntityCount() {
+            return shifts.size() + teams.size() + recurrenceRules.size()
+                    + shiftExceptions.size() + userScheduleAssignments.size();
+        }
+    }
+
+    // ==================== BACKUP ARCHIVES ====================
+
+    /**
+     * Callback for backup archive previews
+     */
+    public interface ArchivePreviewCallback {
+        void onArchivePreviewComplete(BackupManifest manifest, List<String> corruptSections);
+        void onArchivePreviewError(String error, Exception exception);
+    }
+
+    /**
+     * Preview a backup archive from its manifest (per-section counts) and verify
+     * the section checksums, without parsing the entities.
+     */
+    public void previewBackupArchive(String archiveFilePath, ArchivePreviewCallback callback) {
+        AppExecutors.getInstance().bulk().execute(() -> {
+            try (BackupArchiveReader reader = new BackupArchiveReader(new File(archiveFilePath), mGson)) {
+                BackupManifest manifest = reader.readManifest();
+                List<String> corruptSections = reader.verify();
+
+                Log.d(TAG, String.format("Archive preview completed: %s (%d sections, %d entities, %d corrupt)",
+                        archiveFilePath, manifest.sections.size(), manifest.getTotalEntityCount(),
+                        corruptSections.size()));
+                callback.onArchivePreviewComplete(manifest, corruptSections);
+            } catch (Exception e) {
+                Log.e(TAG, "Error previewing backup archive: " + archiveFilePath, e);
+                callback.onArchivePreviewError("Preview failed: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Restore the calendar database from the calendar sections of a backup archive.
+     * <p>
+     * The archive is verified first; the tables are then replaced in one transaction,
+     * streaming each section into batched inserts so the whole backup is never held
+     * in memory. Progress is reported per section.
+     */
+    public void restoreCalendarArchive(CalendarDatabase calendarDatabase, String archiveFilePath,
+                                       RestoreCallback callback) {
+        AppExecutors.getInstance().bulk().execute(() -> {
+            try {
+                RestoreResult result = performCalendarArchiveRestore(calendarDatabase, archiveFilePath, callback);
+                callback.onRestoreComplete(result);
+            } catch (Exception e) {
+                Log.e(TAG, "Error restoring calendar backup archive: " + archiveFilePath, e);
+                callback.onRestoreError("Calendar restore failed: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    private RestoreResult performCalendarArchiveRestore(CalendarDatabase calendarDatabase, String archiveFilePath,
+                                                        RestoreCallback callback) throws IOException {
+        try (BackupArchiveReader reader = new BackupArchiveReader(new File(archiveFilePath), mGson)) {
+            List<String> corruptSections = reader.verify();
+            if (!corruptSections.isEmpty()) {
+                throw new IOException("Corrupt backup sections: " + String.join(", ", corruptSections));
+            }
+            if (!reader.hasSection("calendar/teams")) {
+                throw new IOException("Backup archive has no calendar data");
+            }
+
+            int[] restored = {0};
+            calendarDatabase.runInTransaction(() -> {
+                calendarDatabase.clearAllCalendarData();
+
+                // Parents first
+                restored[0] += restoreArchiveSection(reader, "calendar/teams", TeamEntity.class,
+                        calendarDatabase.teamDao()::insertTeams);
+                reportChainProgress(callback, 1, 5, "calendar/teams");
+                restored[0] += restoreArchiveSection(reader, "calendar/shifts", ShiftEntity.class,
+                        calendarDatabase.shiftDao()::insertShifts);
+                reportChainProgress(callback, 2, 5, "calendar/shifts");
+                restored[0] += restoreArchiveSection(reader, "calendar/recurrence_rules", RecurrenceRuleEntity.class,
+                        calendarDatabase.recurrenceRuleDao()::insertRecurrenceRules);
+                reportChainProgress(callback, 3, 5, "calendar/recurrence_rules");
+                restored[0] += restoreArchiveSection(reader, "calendar/shift_exceptions", ShiftExceptionEntity.class,
+                        calendarDatabase.shiftExceptionDao()::insertShiftExceptions);
+                reportChainProgress(callback, 4, 5, "calendar/shift_exceptions");
+                restored[0] += restoreArchiveSection(reader, "calendar/user_schedule_assignments",
+                        UserScheduleAssignmentEntity.class,
+                        calendarDatabase.userScheduleAssignmentDao()::insertUserScheduleAssignments);
+                reportChainProgress(callback, 5, 5, "calendar/user_schedule_assignments");
+                return null;
+            });
+
+            Log.i(TAG, String.format("Calendar archive restore completed: %d entities", restored[0]));
+            return RestoreResult.success(restored[0], 0, restored[0], new ArrayList<>());
+        }
+    }
+
+    /**
+     * Stream one archive section into batched inserts
+     */
+    private static <T> int restoreArchiveSection(BackupArchiveReader reader, String section, Class<T> type,
+                                                 Consumer<List<T>> insertBatch) throws IOException {
+        if (!reader.hasSection(section)) {
+            return 0;
+        }
+
+        List<T> batch = new ArrayList<>(ARCHIVE_RESTORE_BATCH_SIZE);
+        int count = reader.readSection(section, type, entity -> {
+            batch.add(entity);
+            if (batch.size() >= ARCHIVE_RESTORE_BATCH_SIZE) {
+                insertBatch.accept(new ArrayList<>(batch));
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            insertBatch.accept(batch);
+        }
+        return count;
+    }
+
     /**
      * Restore from backup using EventPackageManagerExtension for compatibility
      */
     public void restoreUsingPackageManager(String backupFilePath, RestoreCallback callback) {
-        new Thread(() -> {
+        AppExecutors.getInstance().bulk().execute(() -> {
             try {
                 // Read file content
                 String jsonContent = readFileContent(backupFilePath);
@@ -504,7 +790,7 @@ public class RestoreManager {
             } catch (Exception e) {
                 callback.onRestoreError("Failed to read backup file: " + e.getMessage(), e);
             }
-        }).start();
+        });
     }
 
     /**
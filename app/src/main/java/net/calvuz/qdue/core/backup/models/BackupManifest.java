@@ -0,0 +1,74 @@
+package net.calvuz.qdue.core.backup.models;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Manifest of a backup archive.
+ * <p>
+ * Stored as the manifest.json entry of the ZIP container next to one JSON array
+ * entry per section (table). Holds entity counts and a CRC32 per section, so a
+ * backup can be previewed without parsing its data and verified section by section.
+ */
+public class BackupManifest {
+
+    public static final String FORMAT = "qdue-backup-archive";
+    public static final int FORMAT_VERSION = 1;
+    public static final String ENTRY_NAME = "manifest.json";
+
+    public String format = FORMAT;
+    public int formatVersion = FORMAT_VERSION;
+    public String backupType;       // "full_application", "calendar"
+    public String timestamp;
+    public String appVersion;
+    public List<Section> sections = new ArrayList<>();
+
+    public BackupManifest() {}
+
+    public BackupManifest(String backupType, String appVersion) {
+        this.backupType = backupType;
+        this.appVersion = appVersion;
+        this.timestamp = java.time.LocalDateTime.now().toString();
+    }
+
+    /**
+     * One table (or object) of the archive
+     */
+    public static class Section {
+        public String name;             // e.g. "events", "calendar/shifts"
+        public String entry;            // ZIP entry name
+        public String entityType;       // Simple class name of the entities
+        public int count;
+        public long crc32;              // CRC32 of the uncompressed entry
+        public long size;               // Uncompressed bytes
+
+        public Section() {}
+
+        public Section(String name, String entry, String entityType) {
+            this.name = name;
+            this.entry = entry;
+            this.entityType = entityType;
+        }
+    }
+
+    public Section getSection(String name) {
+        for (Section section : sections) {
+            if (section.name.equals(name)) {
+                return section;
+            }
+        }
+        return null;
+    }
+
+    public int getTotalEntityCount() {
+        int total = 0;
+        for (Section section : sections) {
+            total += section.count;
+        }
+        return total;
+    }
+
+    public boolean isSupported() {
+        return FORMAT.equals(format) && formatVersion <= FORMAT_VERSION;
+    }
+}
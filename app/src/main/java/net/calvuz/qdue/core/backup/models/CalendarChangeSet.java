@@ -0,0 +1,112 @@
+package net.calvuz.qdue.core.backup.models;
+
+import net.calvuz.qdue.data.entities.RecurrenceRuleEntity;
+import net.calvuz.qdue.data.entities.ShiftEntity;
+import net.calvuz.qdue.data.entities.ShiftExceptionEntity;
+import net.calvuz.qdue.data.entities.TeamEntity;
+import net.calvuz.qdue.data.entities.UserScheduleAssignmentEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Calendar backup file of an incremental backup chain.
+ * <p>
+ * A chain starts with a full snapshot ({@link #TYPE_FULL}) followed by deltas
+ * ({@link #TYPE_DELTA}). A delta holds the entities whose updated_at is at or after
+ * {@link #sinceTimestamp} plus the IDs of all live entities, so deletions are
+ * recovered by dropping the IDs missing from the delta. Entities are kept in
+ * typed lists so they can be read back without type information.
+ */
+public class CalendarChangeSet {
+
+    public static final String TYPE_FULL = "full";
+    public static final String TYPE_DELTA = "delta";
+
+    public String type;
+    public String version = "1.0";
+    public String timestamp;
+
+    // Chain position
+    public String baseFileName;     // Full snapshot the chain starts from (null for the snapshot itself)
+    public int sequence;            // 0 for the snapshot, 1..n for deltas
+    public long sinceTimestamp;     // Watermark of the previous file in the chain (millis)
+    public long watermark;          // Changes up to this time are included (millis)
+
+    // Changed (or, for a full snapshot, all) entities
+    public List<ShiftEntity> shifts = new ArrayList<>();
+    public List<TeamEntity> teams = new ArrayList<>();
+    public List<RecurrenceRuleEntity> recurrenceRules = new ArrayList<>();
+    public List<ShiftExceptionEntity> shiftExceptions = new ArrayList<>();
+    public List<UserScheduleAssignmentEntity> userScheduleAssignments = new ArrayList<>();
+
+    // Live IDs at backup time (deltas only)
+    public LiveIds liveIds;
+
+    public CalendarChangeSet() {}
+
+    public CalendarChangeSet(String type, long sinceTimestamp, long watermark) {
+        this.type = type;
+        this.sinceTimestamp = sinceTimestamp;
+        this.watermark = watermark;
+        this.timestamp = java.time.LocalDateTime.now().toString();
+    }
+
+    public boolean isFull() {
+        return TYPE_FULL.equals(type);
+    }
+
+    public int getEntityCount() {
+        return size(shifts) + size(teams) + size(recurrenceRules)
+                + size(shiftExceptions) + size(userScheduleAssignments);
+    }
+
+    /**
+     * Live IDs of this file: derived from the entities for a full snapshot
+     */
+    public LiveIds resolveLiveIds() {
+        if (!isFull()) {
+            return liveIds;
+        }
+
+        LiveIds ids = new LiveIds();
+        for (ShiftEntity shift : shifts) ids.shifts.add(shift.getId());
+        for (TeamEntity team : teams) ids.teams.add(team.getId());
+        for (RecurrenceRuleEntity rule : recurrenceRules) ids.recurrenceRules.add(rule.getId());
+        for (ShiftExceptionEntity exception : shiftExceptions) ids.shiftExceptions.add(exception.getId());
+        for (UserScheduleAssignmentEntity assignment : userScheduleAssignments) {
+            ids.userScheduleAssignments.add(assignment.getId());
+        }
+        return ids;
+    }
+
+    private static int size(List<?> list) {
+        return list != null ? list.size() : 0;
+    }
+
+    /**
+     * IDs of all entities present when the delta was taken
+     */
+    public static class LiveIds {
+        public List<String> shifts = new ArrayList<>();
+        public List<String> teams = new ArrayList<>();
+        public List<String> recurrenceRules = new ArrayList<>();
+        public List<String> shiftExceptions = new ArrayList<>();
+        public List<String> userScheduleAssignments = new ArrayList<>();
+
+        /**
+         * Order-independent fingerprint, used to detect deletions between deltas
+         */
+        public long fingerprint() {
+            long hash = 17;
+            for (List<String> ids : List.of(shifts, teams, recurrenceRules, shiftExceptions, userScheduleAssignments)) {
+                long tableHash = 0;
+                for (String id : ids) {
+                    tableHash += id.hashCode() * 0x9E3779B97F4A7C15L;
+                }
+                hash = hash * 31 + tableHash + ids.size();
+            }
+            return hash;
+        }
+    }
+}
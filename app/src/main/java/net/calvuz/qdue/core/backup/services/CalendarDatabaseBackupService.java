@@ -2,6 +2,8 @@ package net.calvuz.qdue.core.backup.services;
 
 import android.content.Context;
 
+import net.calvuz.qdue.core.backup.BackupArchiveWriter;
+import net.calvuz.qdue.core.backup.models.CalendarChangeSet;
 import net.calvuz.qdue.core.backup.models.EntityBackupPackage;
 import net.calvuz.qdue.core.db.CalendarDatabase;
 import net.calvuz.qdue.core.services.models.OperationResult;
@@ -12,7 +14,10 @@ import net.calvuz.qdue.data.entities.TeamEntity;
 import net.calvuz.qdue.data.entities.UserScheduleAssignmentEntity;
 import net.calvuz.qdue.ui.core.common.utils.Log;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -176,15 +181,50 @@ public class CalendarDatabaseBackupService {
 
     /**
      * ✅ Generate incremental backup based on last backup timestamp
+     * Contains only entities updated since the timestamp, plus the live IDs in metadata
+     * so deletions can be replayed. Falls back to a full backup without a usable timestamp.
+     *
+     * @param lastBackupTimestamp ISO local date-time of the last backup
      */
     public OperationResult<EntityBackupPackage> generateIncrementalCalendarBackup(String lastBackupTimestamp) {
         try {
             Log.d(TAG, "Generating incremental calendar backup since: " + lastBackupTimestamp);
 
-            // For now, use full backup as incremental logic requires timestamp tracking
-            // TODO: Implement incremental logic based on entity timestamps when available
-            Log.w(TAG, "Incremental backup not yet implemented, performing full backup");
-            return generateCalendarBackup();
+            long since;
+            try {
+                since = LocalDateTime.parse(lastBackupTimestamp)
+                        .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            } catch (NullPointerException | DateTimeParseException e) {
+                Log.w(TAG, "No usable last backup timestamp, performing full backup");
+                return generateCalendarBackup();
+            }
+
+            OperationResult<CalendarChangeSet> delta = generateCalendarDelta(since, System.currentTimeMillis());
+            if (delta.isFailure()) {
+                return OperationResult.failure(delta.getErrors(), OperationResult.OperationType.BACKUP);
+            }
+
+            CalendarChangeSet changeSet = delta.getData();
+            List<Object> changedEntities = new ArrayList<>();
+            changedEntities.addAll(changeSet.shifts);
+            changedEntities.addAll(changeSet.teams);
+            changedEntities.addAll(changeSet.recurrenceRules);
+            changedEntities.addAll(changeSet.shiftExceptions);
+            changedEntities.addAll(changeSet.userScheduleAssignments);
+
+            EntityBackupPackage incrementalPackage =
+                    new EntityBackupPackage("calendar_incremental", "1.0", changedEntities);
+
+            Map<String, Object> metadata = new HashMap<>();
+            metadata.put("sinceTimestamp", since);
+            metadata.put("watermark", changeSet.watermark);
+            metadata.put("liveIds", changeSet.liveIds);
+            metadata.put("backupTimestamp", LocalDateTime.now().toString());
+            metadata.put("totalEntitiesCount", changedEntities.size());
+            incrementalPackage.metadata = metadata;
+
+            Log.d(TAG, "Incremental calendar backup completed. Changed entities: " + changedEntities.size());
+            return OperationResult.success(incrementalPackage, OperationResult.OperationType.BACKUP);
 
         } catch (Exception e) {
             Log.e(TAG, "Failed to generate incremental calendar backup", e);
@@ -193,6 +233,105 @@ public class CalendarDatabaseBackupService {
         }
     }
 
+    /**
+     * Generate the full snapshot that starts an incremental backup chain
+     *
+     * @param watermark Time captured before reading (millis); the first delta starts from it
+     */
+    public OperationResult<CalendarChangeSet> generateCalendarSnapshot(long watermark) {
+        try {
+            CalendarChangeSet snapshot = mCalendarDatabase.runInTransaction(() -> {
+                CalendarChangeSet changeSet = new CalendarChangeSet(CalendarChangeSet.TYPE_FULL, 0L, watermark);
+                changeSet.shifts = nonNull(mCalendarDatabase.shiftDao().getAllShifts());
+                changeSet.teams = nonNull(mCalendarDatabase.teamDao().getAllTeams());
+                changeSet.recurrenceRules = nonNull(mCalendarDatabase.recurrenceRuleDao().getAllRecurrenceRules());
+                changeSet.shiftExceptions = nonNull(mCalendarDatabase.shiftExceptionDao().getAllShiftExceptions());
+                changeSet.userScheduleAssignments =
+                        nonNull(mCalendarDatabase.userScheduleAssignmentDao().getAllUserScheduleAssignments());
+                return changeSet;
+            });
+
+            Log.d(TAG, "Calendar snapshot generated. Total entities: " + snapshot.getEntityCount());
+            return OperationResult.success(snapshot, OperationResult.OperationType.BACKUP);
+
+        } catch (Exception e) {
+            Log.e(TAG, "Failed to generate calendar snapshot", e);
+            return OperationResult.failure("Calendar snapshot failed: " + e.getMessage(),
+                    OperationResult.OperationType.BACKUP);
+        }
+    }
+
+    /**
+     * Generate a delta of an incremental backup chain
+     * Reads entities with updated_at >= since and the IDs of all live entities in one
+     * transaction, so the delta is consistent.
+     *
+     * @param since     Watermark of the previous file in the chain (millis)
+     * @param watermark Time captured before reading (millis)
+     */
+    public OperationResult<CalendarChangeSet> generateCalendarDelta(long since, long watermark) {
+        try {
+            CalendarChangeSet delta = mCalendarDatabase.runInTransaction(() -> {
+                CalendarChangeSet changeSet = new CalendarChangeSet(CalendarChangeSet.TYPE_DELTA, since, watermark);
+                changeSet.shifts = nonNull(mCalendarDatabase.shiftDao().getShiftsUpdatedSince(since));
+                changeSet.teams = nonNull(mCalendarDatabase.teamDao().getTeamsUpdatedSince(since));
+                changeSet.recurrenceRules =
+                        nonNull(mCalendarDatabase.recurrenceRuleDao().getRecurrenceRulesUpdatedSince(since));
+                changeSet.shiftExceptions =
+                        nonNull(mCalendarDatabase.shiftExceptionDao().getShiftExceptionsUpdatedSince(since));
+                changeSet.userScheduleAssignments = nonNull(
+                        mCalendarDatabase.userScheduleAssignmentDao().getUserScheduleAssignmentsUpdatedSince(since));
+
+                CalendarChangeSet.LiveIds liveIds = new CalendarChangeSet.LiveIds();
+                liveIds.shifts = nonNull(mCalendarDatabase.shiftDao().getAllShiftIds());
+                liveIds.teams = nonNull(mCalendarDatabase.teamDao().getAllTeamIds());
+                liveIds.recurrenceRules = nonNull(mCalendarDatabase.recurrenceRuleDao().getAllRecurrenceRuleIds());
+                liveIds.shiftExceptions = nonNull(mCalendarDatabase.shiftExceptionDao().getAllShiftExceptionIds());
+                liveIds.userScheduleAssignments =
+                        nonNull(mCalendarDatabase.userScheduleAssignmentDao().getAllUserScheduleAssignmentIds());
+                changeSet.liveIds = liveIds;
+                return changeSet;
+            });
+
+            Log.d(TAG, "Calendar delta generated since " + since + ". Changed entities: " + delta.getEntityCount());
+            return OperationResult.success(delta, OperationResult.OperationType.BACKUP);
+
+        } catch (Exception e) {
+            Log.e(TAG, "Failed to generate calendar delta", e);
+            return OperationResult.failure("Calendar delta failed: " + e.getMessage(),
+                    OperationResult.OperationType.BACKUP);
+        }
+    }
+
+    /**
+     * Write the calendar tables into a backup archive, one section per table.
+     * Tables are loaded one at a time, so only one of them is in memory at once.
+     *
+     * @param writer Open archive writer
+     * @return Number of entities written
+     */
+    public int writeCalendarSections(BackupArchiveWriter writer) throws IOException {
+        int total = 0;
+
+        total += writer.writeSection("calendar/teams", TeamEntity.class,
+                mCalendarDatabase.teamDao().getAllTeams()).count;
+        total += writer.writeSection("calendar/shifts", ShiftEntity.class,
+                mCalendarDatabase.shiftDao().getAllShifts()).count;
+        total += writer.writeSection("calendar/recurrence_rules", RecurrenceRuleEntity.class,
+                mCalendarDatabase.recurrenceRuleDao().getAllRecurrenceRules()).count;
+        total += writer.writeSection("calendar/shift_exceptions", ShiftExceptionEntity.class,
+                mCalendarDatabase.shiftExceptionDao().getAllShiftExceptions()).count;
+        total += writer.writeSection("calendar/user_schedule_assignments", UserScheduleAssignmentEntity.class,
+                mCalendarDatabase.userScheduleAssignmentDao().getAllUserScheduleAssignments()).count;
+
+        Log.d(TAG, "Calendar sections written: " + total + " entities");
+        return total;
+    }
+
+    private static <T> List<T> nonNull(List<T> list) {
+        return list != null ? list : new ArrayList<>();
+    }
+
     /**
      * ✅ Generate selective backup for specific entity types only
      */
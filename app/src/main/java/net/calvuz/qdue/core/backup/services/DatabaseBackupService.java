@@ -2,6 +2,7 @@ package net.calvuz.qdue.core.backup.services;
 
 import android.content.Context;
 
+import net.calvuz.qdue.core.backup.BackupArchiveWriter;
 import net.calvuz.qdue.core.backup.models.EntityBackupPackage;
 import net.calvuz.qdue.core.backup.models.EventsBackupPackage;
 import net.calvuz.qdue.core.backup.models.UsersBackupPackage;
@@ -19,6 +20,7 @@ import net.calvuz.qdue.user.data.entities.SubDepartment;
 import net.calvuz.qdue.user.data.entities.User;
 import net.calvuz.qdue.ui.core.common.utils.Log;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -38,6 +40,9 @@ public class DatabaseBackupService {
 
     private static final String TAG = "DatabaseBackupService";
 
+    // Events page size for streamed archive backups
+    private static final int EVENTS_PAGE_SIZE = 500;
+
     private final Context mContext;
     private final QDueDatabase mDatabase;
 
@@ -868,6 +873,32 @@ public class DatabaseBackupService {
         }
     }
 
+    // ==================== STREAMED ARCHIVE SECTIONS ====================
+
+    /**
+     * Write every entity table into a backup archive, one section per table.
+     * Events are read in keyset pages; the smaller tables one table at a time.
+     *
+     * @param writer Open archive writer
+     * @return Number of entities written
+     */
+    public int writeEntitySections(BackupArchiveWriter writer) throws IOException {
+        int total = 0;
+
+        total += writer.writePagedSection("events", LocalEvent.class, EVENTS_PAGE_SIZE,
+                (last, limit) -> mEventDao.getEventsPageAfterId(last != null ? last.getId() : "", limit)).count;
+        total += writer.writeSection("users", User.class, mUserDao.getAllUsers()).count;
+        total += writer.writeSection("establishments", Establishment.class,
+                mEstablishmentDao.getAllEstablishments()).count;
+        total += writer.writeSection("macro_departments", MacroDepartment.class,
+                mMacroDepartmentDao.getAllMacroDepartments()).count;
+        total += writer.writeSection("sub_departments", SubDepartment.class,
+                mSubDepartmentDao.getAllSubDepartments()).count;
+
+        Log.d(TAG, "Entity sections written: " + total + " entities");
+        return total;
+    }
+
     // ==================== INNER CLASSES ====================
 
     /**
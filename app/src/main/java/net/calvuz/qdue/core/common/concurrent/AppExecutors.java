@@ -0,0 +1,176 @@
+package net.calvuz.qdue.core.common.concurrent;
+
+import android.os.Process;
+
+import androidx.annotation.NonNull;
+
+import net.calvuz.qdue.ui.core.common.utils.Log;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * AppExecutors - Application-wide task lanes.
+ *
+ * <p>Replaces the per-class thread pools of repositories, services and use cases,
+ * which together created dozens of threads competing for the same SQLite connection.
+ * Work is split by urgency into lanes with bounded queues and their own thread priority:</p>
+ * <ul>
+ *   <li><strong>reads</strong>: UI-critical queries and schedule generation</li>
+ *   <li><strong>writes</strong>: background inserts, updates and deletes, one writer at a time
+ *       as SQLite serializes them anyway</li>
+ *   <li><strong>bulk</strong>: imports, exports, backups and restores, at background priority
+ *       so they never delay interactive work</li>
+ *   <li><strong>compute</strong>: CPU-only fan-out (e.g. per-team schedule generation)
+ *       that never waits on other lanes</li>
+ * </ul>
+ *
+ * <p>Delayed tasks (e.g. debounced searches) wait on a single timer thread that only
+ * hands them over to their lane.</p>
+ *
+ * <p>Obtained through {@link #getInstance()} or injected via
+ * {@link net.calvuz.qdue.core.di.ServiceProvider#getAppExecutors()}.
+ * Lanes live as long as the process and must not be shut down by their users.</p>
+ */
+public final class AppExecutors {
+
+    private static final String TAG = "AppExecutors";
+
+    // Queue capacities: beyond these, submissions are rejected (lane workers run the task themselves)
+    private static final int READS_QUEUE_CAPACITY = 256;
+    private static final int WRITES_QUEUE_CAPACITY = 256;
+    private static final int BULK_QUEUE_CAPACITY = 32;
+    private static final int COMPUTE_QUEUE_CAPACITY = 128;
+
+    private static volatile AppExecutors INSTANCE;
+
+    private final TaskLane mReads;
+    private final TaskLane mWrites;
+    private final TaskLane mBulk;
+    private final TaskLane mCompute;
+    private final ScheduledThreadPoolExecutor mTimer;
+
+    // ==================== CONSTRUCTOR ====================
+
+    private AppExecutors() {
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        mReads = new TaskLane( "reads", Math.max( 2, Math.min( 4, cores / 2 ) ), READS_QUEUE_CAPACITY,
+                               Process.THREAD_PRIORITY_DEFAULT );
+        mWrites = new TaskLane( "writes", 1, WRITES_QUEUE_CAPACITY,
+                                Process.THREAD_PRIORITY_BACKGROUND );
+        mBulk = new TaskLane( "bulk", 1, BULK_QUEUE_CAPACITY,
+                              Process.THREAD_PRIORITY_BACKGROUND + Process.THREAD_PRIORITY_LESS_FAVORABLE );
+        mCompute = new TaskLane( "compute", Math.max( 2, cores - 1 ), COMPUTE_QUEUE_CAPACITY,
+                                 Process.THREAD_PRIORITY_DEFAULT );
+
+        mTimer = new ScheduledThreadPoolExecutor( 1, runnable -> {
+            Thread thread = new Thread( runnable, "qdue-timer" );
+            thread.setDaemon( true );
+            return thread;
+        } );
+        mTimer.setRemoveOnCancelPolicy( true );
+
+        Log.i( TAG, "Task lanes created for " + cores + " cores" );
+    }
+
+    /**
+     * Get singleton instance with thread-safe initialization.
+     */
+    @NonNull
+    public static AppExecutors getInstance() {
+        if (INSTANCE == null) {
+            synchronized (AppExecutors.class) {
+                if (INSTANCE == null) {
+                    INSTANCE = new AppExecutors();
+                }
+            }
+        }
+        return INSTANCE;
+    }
+
+    // ==================== LANES ====================
+
+    /**
+     * Lane for UI-critical reads.
+     */
+    @NonNull
+    public TaskLane reads() {
+        return mReads;
+    }
+
+    /**
+     * Lane for background writes.
+     */
+    @NonNull
+    public TaskLane writes() {
+        return mWrites;
+    }
+
+    /**
+     * Lane for imports, exports, backups and restores.
+     */
+    @NonNull
+    public TaskLane bulk() {
+        return mBulk;
+    }
+
+    /**
+     * Lane for CPU-only parallel work that never blocks on other lanes.
+     */
+    @NonNull
+    public TaskLane compute() {
+        return mCompute;
+    }
+
+    // ==================== DELAYED TASKS ====================
+
+    /**
+     * Run a supplier on a lane after a delay.
+     *
+     * @param lane     Lane that runs the supplier
+     * @param supplier Task
+     * @param delayMs  Delay before the task is handed over to the lane
+     * @param token    Cancellation token; cancelling it during the delay drops the task
+     *                 and cancels the returned future
+     * @return Future completed with the supplier result
+     */
+    @NonNull
+    public <T> CompletableFuture<T> supplyDelayed(@NonNull TaskLane lane, @NonNull Supplier<T> supplier,
+                                                  long delayMs, @NonNull CancellationToken token) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        ScheduledFuture<?> scheduled = mTimer.schedule( () ->
+                lane.supply( supplier, token ).whenComplete( (result, error) -> {
+                    if (error != null) {
+                        future.completeExceptionally( error );
+                    } else {
+                        future.complete( result );
+                    }
+                } ), delayMs, TimeUnit.MILLISECONDS );
+
+        token.onCancel( () -> {
+            scheduled.cancel( false );
+            future.cancel( false );
+        } );
+        return future;
+    }
+
+    // ==================== METRICS ====================
+
+    @NonNull
+    public List<TaskLane.Metrics> getMetrics() {
+        return Arrays.asList( mReads.getMetrics(), mWrites.getMetrics(),
+                              mBulk.getMetrics(), mCompute.getMetrics() );
+    }
+
+    public void logMetrics() {
+        for (TaskLane.Metrics metrics : getMetrics()) {
+            Log.d( TAG, metrics.toString() );
+        }
+    }
+}
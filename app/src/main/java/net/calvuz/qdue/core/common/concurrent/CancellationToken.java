@@ -0,0 +1,86 @@
+package net.calvuz.qdue.core.common.concurrent;
+
+import androidx.annotation.NonNull;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * CancellationToken - Cooperative cancellation for lane tasks.
+ *
+ * <p>Cancelling a token cancels the futures of the tasks submitted with it: queued
+ * tasks are skipped, running tasks can poll {@link #isCancelled()} or call
+ * {@link #throwIfCancelled()} between steps (e.g. between import batches).</p>
+ *
+ * <p>A token can be shared by several tasks, e.g. all loads started by a screen,
+ * and cancelled once when the screen goes away.</p>
+ */
+public final class CancellationToken {
+
+    /**
+     * Token that is never cancelled.
+     */
+    public static final CancellationToken NONE = new CancellationToken( false );
+
+    private final boolean mCancellable;
+    private volatile boolean mCancelled = false;
+    private final List<Runnable> mListeners = new CopyOnWriteArrayList<>();
+
+    public CancellationToken() {
+        this( true );
+    }
+
+    private CancellationToken(boolean cancellable) {
+        this.mCancellable = cancellable;
+    }
+
+    // ==================== CANCELLATION ====================
+
+    /**
+     * Cancel the token and notify the registered listeners once.
+     */
+    public void cancel() {
+        if (!mCancellable || mCancelled) {
+            return;
+        }
+        mCancelled = true;
+
+        // Whoever removes a listener runs it, so a concurrent onCancel() cannot run it twice
+        for (Runnable listener : mListeners) {
+            if (mListeners.remove( listener )) {
+                listener.run();
+            }
+        }
+    }
+
+    public boolean isCancelled() {
+        return mCancelled;
+    }
+
+    /**
+     * @throws CancellationException If the token has been cancelled
+     */
+    public void throwIfCancelled() {
+        if (mCancelled) {
+            throw new CancellationException( "Task cancelled" );
+        }
+    }
+
+    /**
+     * Run a listener on cancellation, immediately if already cancelled.
+     */
+    public void onCancel(@NonNull Runnable listener) {
+        if (!mCancellable) {
+            return;
+        }
+        if (mCancelled) {
+            listener.run();
+            return;
+        }
+        mListeners.add( listener );
+        if (mCancelled && mListeners.remove( listener )) {
+            listener.run();
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package net.calvuz.qdue.core.common.concurrent;
+
+import androidx.annotation.NonNull;
+
+import net.calvuz.qdue.ui.core.common.utils.Log;
+
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * TaskLane - Bounded worker pool for one class of work.
+ *
+ * <p>Each lane has a fixed number of threads running at the lane's thread priority,
+ * a bounded FIFO queue and its own metrics. Lanes are shared application-wide through
+ * {@link AppExecutors} and are never shut down by their users.</p>
+ *
+ * <h3>Nested submissions</h3>
+ * <p>Repositories and services routinely call each other and {@code join()} the
+ * result from inside a task. A worker waiting for a task queued behind it on its own
+ * lane would deadlock, so a task submitted from a worker of the same lane runs inline
+ * on that worker. Tasks submitted from any other thread, workers of other lanes
+ * included, are always queued: writes stay on the single writer and each lane keeps
+ * its thread priority.</p>
+ *
+ * <p>A task must therefore never block on a future of another lane: once both lanes
+ * are busy waiting on each other neither makes progress. Work that spans lanes (a
+ * reads lookup followed by a write) is chained with {@code thenCompose} or
+ * {@code thenCombine}, so no worker waits while holding its lane.</p>
+ *
+ * <h3>Backpressure</h3>
+ * <p>When the queue is full the lane is saturated and a submission from any other
+ * thread (the main thread included) is rejected at once: the submitter never waits,
+ * {@link #supply} and {@link #run} return a future failed with a
+ * RejectedExecutionException and {@link #execute} throws it, as the Executor contract
+ * requires. Lane workers are not rejected, as the lane they fill may be waiting on
+ * them: they run the task themselves.</p>
+ */
+public final class TaskLane implements Executor {
+
+    private static final String TAG = "TaskLane";
+
+    private final String mName;
+    private final ThreadPoolExecutor mPool;
+
+    // Metrics
+    private final AtomicLong mSubmitted = new AtomicLong();
+    private final AtomicLong mCompleted = new AtomicLong();
+    private final AtomicLong mFailed = new AtomicLong();
+    private final AtomicLong mCancelled = new AtomicLong();
+    private final AtomicLong mInline = new AtomicLong();
+    private final AtomicLong mCallerRuns = new AtomicLong();
+    private final AtomicLong mRejected = new AtomicLong();
+    private final AtomicLong mQueueWaitNanos = new AtomicLong();
+    private final AtomicLong mRunNanos = new AtomicLong();
+    private final AtomicInteger mMaxQueueDepth = new AtomicInteger();
+
+    // ==================== CONSTRUCTOR ====================
+
+    /**
+     * @param name           Lane name, used for thread names and metrics
+     * @param threads        Number of worker threads
+     * @param queueCapacity  Maximum number of queued tasks
+     * @param threadPriority Android thread priority of the workers (android.os.Process)
+     */
+    TaskLane(@NonNull String name, int threads, int queueCapacity, int threadPriority) {
+        this.mName = name;
+
+        RejectedExecutionHandler saturated = (task, pool) -> {
+            if (Thread.currentThread() instanceof LaneThread) {
+                mCallerRuns.incrementAndGet();
+                if (!pool.isShutdown()) {
+                    task.run();
+                }
+                return;
+            }
+
+            // Never make the submitter wait: it may be the main thread
+            mRejected.incrementAndGet();
+            throw new RejectedExecutionException( "Lane " + mName + " is saturated" );
+        };
+        this.mPool = new ThreadPoolExecutor( threads, threads, 30, TimeUnit.SECONDS,
+                                             new ArrayBlockingQueue<>( queueCapacity ),
+                                             new LaneThreadFactory( threadPriority ), saturated );
+        this.mPool.allowCoreThreadTimeOut( true );
+    }
+
+    // ==================== SUBMISSION ====================
+
+    /**
+     * Queue a command on this lane, or run it inline when submitted from one of its workers.
+     *
+     * @throws RejectedExecutionException if the lane is saturated and the caller is not a lane worker
+     */
+    @Override
+    public void execute(@NonNull Runnable command) {
+        mSubmitted.incrementAndGet();
+
+        if (shouldRunInline()) {
+            mInline.incrementAndGet();
+            runMeasured( command, System.nanoTime() );
+            return;
+        }
+
+        long queuedAt = System.nanoTime();
+        mPool.execute( () -> runMeasured( command, queuedAt ) );
+        mMaxQueueDepth.accumulateAndGet( mPool.getQueue().size(), Math::max );
+    }
+
+    /**
+     * Run a supplier on this lane.
+     *
+     * @param supplier Task
+     * @param token    Cancellation token; cancelling it cancels the returned future and
+     *                 skips the task if it has not started yet
+     * @return Future completed with the supplier result, or failed with a
+     *         RejectedExecutionException if the task could not be queued
+     */
+    @NonNull
+    public <T> CompletableFuture<T> supply(@NonNull Supplier<T> supplier, @NonNull CancellationToken token) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        token.onCancel( () -> {
+            if (future.cancel( false )) {
+                mCancelled.incrementAndGet();
+            }
+        } );
+
+        try {
+            execute( () -> {
+                if (future.isDone()) {
+                    return;
+                }
+                if (token.isCancelled()) {
+                    if (future.cancel( false )) {
+                        mCancelled.incrementAndGet();
+                    }
+                    return;
+                }
+                try {
+                    future.complete( supplier.get() );
+                } catch (Throwable t) {
+                    future.completeExceptionally( t );
+                }
+            } );
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally( e );
+        }
+        return future;
+    }
+
+    /**
+     * Run a task on this lane.
+     *
+     * @see #supply(Supplier, CancellationToken)
+     */
+    @NonNull
+    public CompletableFuture<Void> run(@NonNull Runnable task, @NonNull CancellationToken token) {
+        return supply( () -> {
+            task.run();
+            return null;
+        }, token );
+    }
+
+    private boolean shouldRunInline() {
+        Thread current = Thread.currentThread();
+        return current instanceof LaneThread && ((LaneThread) current).mLane == this;
+    }
+
+    private void runMeasured(@NonNull Runnable command, long queuedAt) {
+        long startedAt = System.nanoTime();
+        mQueueWaitNanos.addAndGet( startedAt - queuedAt );
+        try {
+            command.run();
+            mCompleted.incrementAndGet();
+        } catch (RuntimeException | Error e) {
+            mFailed.incrementAndGet();
+            Log.e( TAG, "Uncaught error in lane " + mName, e );
+            throw e;
+        } finally {
+            mRunNanos.addAndGet( System.nanoTime() - startedAt );
+        }
+    }
+
+    // ==================== METRICS ====================
+
+    @NonNull
+    public String getName() {
+        return mName;
+    }
+
+    /**
+     * @return Snapshot of the lane counters
+     */
+    @NonNull
+    public Metrics getMetrics() {
+        Metrics metrics = new Metrics();
+        metrics.name = mName;
+        metrics.threads = mPool.getMaximumPoolSize();
+        metrics.activeThreads = mPool.getActiveCount();
+        metrics.queueDepth = mPool.getQueue().size();
+        metrics.maxQueueDepth = mMaxQueueDepth.get();
+        metrics.submitted = mSubmitted.get();
+        metrics.completed = mCompleted.get();
+        metrics.failed = mFailed.get();
+        metrics.cancelled = mCancelled.get();
+        metrics.inline = mInline.get();
+        metrics.callerRuns = mCallerRuns.get();
+        metrics.rejected = mRejected.get();
+        metrics.totalQueueWaitMs = TimeUnit.NANOSECONDS.toMillis( mQueueWaitNanos.get() );
+        metrics.totalRunMs = TimeUnit.NANOSECONDS.toMillis( mRunNanos.get() );
+        return metrics;
+    }
+
+    /**
+     * Lane counters at a point in time.
+     */
+    public static final class Metrics {
+        public String name;
+        public int threads;
+        public int activeThreads;
+        public int queueDepth;
+        public int maxQueueDepth;
+        public long submitted;
+        public long completed;
+        public long failed;
+        public long cancelled;
+        public long inline;
+        public long callerRuns;
+        public long rejected;
+        public long totalQueueWaitMs;
+        public long totalRunMs;
+
+        @NonNull
+        @Override
+        public String toString() {
+            return String.format( Locale.ROOT,
+                                  "%s{threads=%d/%d, queue=%d (max %d), submitted=%d, completed=%d, failed=%d, " +
+                                          "cancelled=%d, inline=%d, callerRuns=%d, rejected=%d, wait=%dms, run=%dms}",
+                                  name, activeThreads, threads, queueDepth, maxQueueDepth, submitted, completed,
+                                  failed, cancelled, inline, callerRuns, rejected, totalQueueWaitMs, totalRunMs );
+        }
+    }
+
+    // ==================== THREADS ====================
+
+    /**
+     * Worker thread that remembers its lane, for the inline and backpressure rules.
+     */
+    private static final class LaneThread extends Thread {
+        final TaskLane mLane;
+        final int mPriority;
+
+        LaneThread(@NonNull TaskLane lane, @NonNull Runnable target, @NonNull String name, int priority) {
+            super( target, name );
+            this.mLane = lane;
+            this.mPriority = priority;
+        }
+
+        @Override
+        public void run() {
+            android.os.Process.setThreadPriority( mPriority );
+            super.run();
+        }
+    }
+
+    private final class LaneThreadFactory implements ThreadFactory {
+        private final AtomicInteger mCount = new AtomicInteger();
+        private final int mPriority;
+
+        LaneThreadFactory(int priority) {
+            this.mPriority = priority;
+        }
+
+        @Override
+        public Thread newThread(@NonNull Runnable runnable) {
+            Thread thread = new LaneThread( TaskLane.this, runnable,
+                                            "QDue-" + mName + "-" + mCount.incrementAndGet(), mPriority );
+            thread.setDaemon( true );
+            return thread;
+        }
+    }
+}
@@ -67,6 +67,9 @@ public class LocaleManager {
     private Locale mCurrentLocale;
     private boolean mUseSystemLanguage;
 
+    // Incremented on every applied locale change, for locale-dependent caches
+    private volatile int mLocaleVersion = 0;
+
     // ==================== CONSTRUCTOR ====================
 
     /**
@@ -118,6 +121,16 @@ public class LocaleManager {
         return mCurrentLocale;
     }
 
+    /**
+     * Get locale version, incremented each time a new locale is applied.
+     * Caches of localized strings compare it to detect stale entries.
+     *
+     * @return Current locale version
+     */
+    public int getLocaleVersion() {
+        return mLocaleVersion;
+    }
+
     /**
      * Set application language with immediate effect.
      *
@@ -317,6 +330,9 @@ public class LocaleManager {
         // Set as default for the JVM (affects date formatting, etc.)
         Locale.setDefault(mCurrentLocale);
 
+        // Invalidate locale-dependent caches
+        mLocaleVersion++;
+
         Log.d(TAG, "Applied locale change: " + mCurrentLocale);
     }
 
@@ -9,6 +9,9 @@ import net.calvuz.qdue.core.common.i18n.LocaleManager;
 import net.calvuz.qdue.domain.common.i18n.DomainLocalizer;
 import net.calvuz.qdue.ui.core.common.utils.Log;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * DomainLocalizerImpl - Core Layer Bridge to LocaleManager
  *
@@ -44,6 +47,16 @@ import net.calvuz.qdue.ui.core.common.utils.Log;
  * - domain_calendar_exceptions_type_vacation
  * - domain_calendar_validation_conflict_detected
  * </pre>
+ *
+ * <h3>Resolved-String Cache:</h3>
+ * <p>Engines localize inside per-day loops, so lookups are cached:</p>
+ * <ul>
+ *   <li><strong>Scopes</strong>: {@link #scope(String)} returns the same instance for the same scope</li>
+ *   <li><strong>Resource ids</strong>: resolved once per key and scope (locale-independent)</li>
+ *   <li><strong>Templates</strong>: resolved strings per key and scope, interned, dropped when
+ *       {@link LocaleManager#getLocaleVersion()} changes</li>
+ *   <li><strong>Localized context</strong>: created once per locale version, shared by all scopes</li>
+ * </ul>
  */
 public class DomainLocalizerImpl implements DomainLocalizer {
 
@@ -57,6 +70,11 @@ public class DomainLocalizerImpl implements DomainLocalizer {
     private final Context mContext;
     private final String mScope;
 
+    // Caches: shared state of the root localizer and its scopes, plus this scope's entries
+    private final SharedState mShared;
+    private final Map<String, Integer> mResourceIds = new ConcurrentHashMap<>();
+    private volatile Templates mTemplates = new Templates( -1, null );
+
     // ==================== CONSTRUCTORS ====================
 
     /**
@@ -69,7 +87,7 @@ public class DomainLocalizerImpl implements DomainLocalizer {
             @NonNull Context context,
             @NonNull LocaleManager localeManager
     ) {
-        this(context, localeManager, "");
+        this(context, localeManager, "", new SharedState());
     }
 
     /**
@@ -78,15 +96,18 @@ public class DomainLocalizerImpl implements DomainLocalizer {
      * @param context Application context for resource access
      * @param localeManager Core LocaleManager for i18n infrastructure
      * @param scope Localization scope for key prefixing
+     * @param shared Caches shared with the root localizer
      */
     private DomainLocalizerImpl(
             @NonNull Context context,
             @NonNull LocaleManager localeManager,
-            @NonNull String scope
+            @NonNull String scope,
+            @NonNull SharedState shared
     ) {
         this.mContext = context.getApplicationContext();
         this.mLocaleManager = localeManager;
         this.mScope = scope;
+        this.mShared = shared;
     }
 
     // ==================== DOMAIN LOCALIZER INTERFACE ====================
@@ -107,14 +128,9 @@ public class DomainLocalizerImpl implements DomainLocalizer {
     @NonNull
     public String localize(@NonNull String key, @NonNull String fallback, @Nullable Object... params) {
         try {
-            // Build Android resource key with domain prefix and scope
-            String resourceKey = buildResourceKey(key);
-
-            // Get localized context for proper resource resolution
-            Context localizedContext = mLocaleManager.updateContextLocale(mContext);
-
-            // Try to get localized string from LocaleManager using static method
-            String localizedString = LocaleManager.getLocalizedString(localizedContext, resourceKey, fallback);
+            // Cached template for the current locale, fallback if the resource does not exist
+            String template = resolveTemplate(key);
+            String localizedString = template != null ? template : fallback;
 
             // If we have parameters, format the string with current locale
             if ((params != null) && params.length > 0) {
@@ -154,10 +170,7 @@ public class DomainLocalizerImpl implements DomainLocalizer {
      */
     @Override
     public boolean hasLocalization(@NonNull String key) {
-        // Usa getIdentifier() per verificare esistenza risorsa Android
-        int resourceId = mContext.getResources().getIdentifier(
-                buildResourceKey( key ), "string", mContext.getPackageName());
-        return resourceId != 0;
+        return resolveResourceId(key) != 0;
     }
 
     /**
@@ -176,7 +189,95 @@ public class DomainLocalizerImpl implements DomainLocalizer {
     public DomainLocalizer scope(@NonNull String nestedScope) {
         // Create nested scope: existing scope + new scope
         String newScope = mScope.isEmpty() ? nestedScope : mScope + "_" + nestedScope;
-        return new DomainLocalizerImpl(mContext, mLocaleManager, newScope);
+
+        // Reuse scoped instances so their caches survive across callers
+        return mShared.scopes.computeIfAbsent(newScope,
+                s -> new DomainLocalizerImpl(mContext, mLocaleManager, s, mShared));
+    }
+
+    // ==================== CACHE ====================
+
+    /**
+     * Resolve the string template of a key for the current locale.
+     *
+     * @param key Base localization key
+     * @return Interned template, or null if no resource exists for the key
+     */
+    @Nullable
+    private String resolveTemplate(@NonNull String key) {
+        int resourceId = resolveResourceId(key);
+        if (resourceId == 0) {
+            return null;
+        }
+
+        int version = mLocaleManager.getLocaleVersion();
+        Templates templates = mTemplates;
+        if (templates.version != version) {
+            templates = new Templates(version, mShared.localizedContext(mLocaleManager, mContext, version));
+            mTemplates = templates;
+        }
+
+        String template = templates.strings.get(key);
+        if (template == null) {
+            template = templates.context.getString(resourceId).intern();
+            templates.strings.put(key, template);
+        }
+        return template;
+    }
+
+    /**
+     * Resolve the string resource id of a key, once per key.
+     *
+     * @param key Base localization key
+     * @return Resource id, or 0 if no resource exists for the key
+     */
+    private int resolveResourceId(@NonNull String key) {
+        Integer cached = mResourceIds.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        int resourceId = mContext.getResources().getIdentifier(
+                buildResourceKey(key), "string", mContext.getPackageName());
+        mResourceIds.put(key, resourceId);
+        return resourceId;
+    }
+
+    /**
+     * Caches shared by the root localizer and all its scopes.
+     */
+    private static final class SharedState {
+        final Map<String, DomainLocalizerImpl> scopes = new ConcurrentHashMap<>();
+        private volatile int mContextVersion = -1;
+        private volatile Context mLocalizedContext;
+
+        /**
+         * @return Context configured for the locale version, created once per version
+         */
+        @NonNull
+        synchronized Context localizedContext(@NonNull LocaleManager localeManager,
+                                              @NonNull Context context, int version) {
+            if (mLocalizedContext == null || mContextVersion != version) {
+                mLocalizedContext = localeManager.updateContextLocale(context);
+                mContextVersion = version;
+                Log.d(TAG, "Localized context created for locale " + localeManager.getCurrentLocale());
+            }
+            return mLocalizedContext;
+        }
+    }
+
+    /**
+     * Resolved templates of one scope for one locale version.
+     */
+    private static final class Templates {
+        final int version;
+        final Context context;
+        final Map<String, String> strings = new ConcurrentHashMap<>();
+
+        Templates(int version, @Nullable Context context) {
+            this.version = version;
+            this.context = context;
+        }
     }
 
     // ==================== PRIVATE HELPER METHODS ====================
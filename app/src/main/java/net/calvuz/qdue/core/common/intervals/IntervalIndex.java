@@ -0,0 +1,232 @@
+package net.calvuz.qdue.core.common.intervals;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * IntervalIndex - Immutable index of items by time range, for conflict detection.
+ *
+ * <p>Items are sorted by start and laid out as an implicit balanced tree (the middle
+ * of every sub-range is its root) augmented with the maximum end of each subtree, so
+ * a query skips every subtree that ends before the queried range. Queries run in
+ * O(log n + k) for k results; building is O(n log n).</p>
+ *
+ * <p>Build one index per operation (e.g. for the date range of a bulk creation) and
+ * query it per item instead of querying the database per item. To find all overlapping
+ * pairs inside a set of items, use {@link #sweep(Iterable, Function, Function, BiConsumer)}.</p>
+ *
+ * <h3>Range Semantics</h3>
+ * <ul>
+ *   <li>{@link #findOverlapping}: half-open ranges, {@code start < to && end > from}
+ *       (events ending when another starts do not conflict)</li>
+ *   <li>{@link #findIntersecting}: closed ranges, {@code start <= to && end >= from}
+ *       (same as the DAO date queries)</li>
+ * </ul>
+ * <p>Items without an end are treated as instants; items without a start are ignored.</p>
+ *
+ * @param <T> Indexed item type
+ */
+public final class IntervalIndex<T> {
+
+    private final List<T> mItems;
+    private final long[] mStarts;
+    private final long[] mEnds;
+    private final long[] mMaxEnds;
+
+    private IntervalIndex(@NonNull List<T> items, @NonNull long[] starts, @NonNull long[] ends) {
+        this.mItems = items;
+        this.mStarts = starts;
+        this.mEnds = ends;
+        this.mMaxEnds = new long[starts.length];
+        buildMaxEnds( 0, starts.length );
+    }
+
+    // ==================== BUILDING ====================
+
+    /**
+     * Build an index over items.
+     *
+     * @param items Items to index
+     * @param start Start of an item
+     * @param end   End of an item
+     * @return Index of the items that have a start
+     */
+    @NonNull
+    public static <T> IntervalIndex<T> of(@NonNull Iterable<T> items,
+                                          @NonNull Function<T, LocalDateTime> start,
+                                          @NonNull Function<T, LocalDateTime> end) {
+        List<Entry<T>> entries = entries( items, start, end );
+        entries.sort( Entry.BY_START );
+
+        int size = entries.size();
+        List<T> sorted = new ArrayList<>( size );
+        long[] starts = new long[size];
+        long[] ends = new long[size];
+        for (int i = 0; i < size; i++) {
+            Entry<T> entry = entries.get( i );
+            sorted.add( entry.item );
+            starts[i] = entry.start;
+            ends[i] = entry.end;
+        }
+        return new IntervalIndex<>( sorted, starts, ends );
+    }
+
+    private long buildMaxEnds(int lo, int hi) {
+        if (lo >= hi) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (lo + hi) >>> 1;
+        long max = Math.max( mEnds[mid], Math.max( buildMaxEnds( lo, mid ), buildMaxEnds( mid + 1, hi ) ) );
+        mMaxEnds[mid] = max;
+        return max;
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Items whose range overlaps [from, to) (half-open).
+     *
+     * @return Overlapping items ordered by start
+     */
+    @NonNull
+    public List<T> findOverlapping(@NonNull LocalDateTime from, @NonNull LocalDateTime to) {
+        List<T> result = new ArrayList<>();
+        collect( 0, mStarts.length, toSeconds( from ), toSeconds( to ), false, result );
+        return result;
+    }
+
+    /**
+     * Items whose range intersects [from, to] (closed).
+     *
+     * @return Intersecting items ordered by start
+     */
+    @NonNull
+    public List<T> findIntersecting(@NonNull LocalDateTime from, @NonNull LocalDateTime to) {
+        List<T> result = new ArrayList<>();
+        collect( 0, mStarts.length, toSeconds( from ), toSeconds( to ), true, result );
+        return result;
+    }
+
+    /**
+     * @return true if any item overlaps [from, to) (half-open)
+     */
+    public boolean hasOverlapping(@NonNull LocalDateTime from, @NonNull LocalDateTime to) {
+        return !findOverlapping( from, to ).isEmpty();
+    }
+
+    public int size() {
+        return mItems.size();
+    }
+
+    public boolean isEmpty() {
+        return mItems.isEmpty();
+    }
+
+    private void collect(int lo, int hi, long from, long to, boolean closed, @NonNull List<T> result) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+
+        // Nothing in this subtree ends late enough
+        if (closed ? mMaxEnds[mid] < from : mMaxEnds[mid] <= from) {
+            return;
+        }
+
+        collect( lo, mid, from, to, closed, result );
+
+        // Sorted by start: the root and its right subtree start too late
+        if (closed ? mStarts[mid] > to : mStarts[mid] >= to) {
+            return;
+        }
+        if (closed ? mEnds[mid] >= from : mEnds[mid] > from) {
+            result.add( mItems.get( mid ) );
+        }
+        collect( mid + 1, hi, from, to, closed, result );
+    }
+
+    // ==================== SWEEP ====================
+
+    /**
+     * Report every pair of items whose ranges overlap (half-open), in a single sweep
+     * over the items sorted by start: O(n log n + k) for k pairs.
+     *
+     * @param items     Items, e.g. an imported package together with the existing events
+     *                  of its date range
+     * @param start     Start of an item
+     * @param end       End of an item
+     * @param onOverlap Called once per overlapping pair, earlier start first
+     */
+    public static <T> void sweep(@NonNull Iterable<T> items,
+                                 @NonNull Function<T, LocalDateTime> start,
+                                 @NonNull Function<T, LocalDateTime> end,
+                                 @NonNull BiConsumer<T, T> onOverlap) {
+        List<Entry<T>> entries = entries( items, start, end );
+        entries.sort( Entry.BY_START );
+
+        // Items started so far that may still overlap later ones, earliest end first
+        PriorityQueue<Entry<T>> active = new PriorityQueue<>( Entry.BY_END );
+        for (Entry<T> entry : entries) {
+            while (!active.isEmpty() && active.peek().end <= entry.start) {
+                active.poll();
+            }
+            for (Entry<T> other : active) {
+                // other.start <= entry.start < other.end: only an instant at other.start does not overlap
+                if (other.start < entry.end) {
+                    onOverlap.accept( other.item, entry.item );
+                }
+            }
+            if (entry.end > entry.start) {
+                active.add( entry );
+            }
+        }
+    }
+
+    // ==================== HELPERS ====================
+
+    private static long toSeconds(@NonNull LocalDateTime time) {
+        return time.toEpochSecond( ZoneOffset.UTC );
+    }
+
+    @NonNull
+    private static <T> List<Entry<T>> entries(@NonNull Iterable<T> items,
+                                              @NonNull Function<T, LocalDateTime> start,
+                                              @NonNull Function<T, LocalDateTime> end) {
+        List<Entry<T>> entries = new ArrayList<>();
+        for (T item : items) {
+            LocalDateTime itemStart = start.apply( item );
+            if (itemStart == null) {
+                continue;
+            }
+            LocalDateTime itemEnd = end.apply( item );
+            long startSeconds = toSeconds( itemStart );
+            long endSeconds = itemEnd != null ? Math.max( startSeconds, toSeconds( itemEnd ) ) : startSeconds;
+            entries.add( new Entry<>( item, startSeconds, endSeconds ) );
+        }
+        return entries;
+    }
+
+    private static final class Entry<T> {
+        static final Comparator<Entry<?>> BY_START = (a, b) -> Long.compare( a.start, b.start );
+        static final Comparator<Entry<?>> BY_END = (a, b) -> Long.compare( a.end, b.end );
+
+        final T item;
+        final long start;
+        final long end;
+
+        Entry(@Nullable T item, long start, long end) {
+            this.item = item;
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
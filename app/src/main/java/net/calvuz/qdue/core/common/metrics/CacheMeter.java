@@ -0,0 +1,51 @@
+package net.calvuz.qdue.core.common.metrics;
+
+/**
+ * CacheMeter - Hits and misses of a cache lookup path.
+ */
+public final class CacheMeter {
+
+    private final Counter mHits = new Counter();
+    private final Counter mMisses = new Counter();
+
+    public void hit() {
+        mHits.increment();
+    }
+
+    public void miss() {
+        mMisses.increment();
+    }
+
+    /**
+     * @param hit Whether the lookup found its entry
+     */
+    public void record(boolean hit) {
+        if (hit) {
+            mHits.increment();
+        } else {
+            mMisses.increment();
+        }
+    }
+
+    public long getHits() {
+        return mHits.get();
+    }
+
+    public long getMisses() {
+        return mMisses.get();
+    }
+
+    /**
+     * @return Hits over lookups, 0 without lookups
+     */
+    public double getHitRate() {
+        long hits = mHits.get();
+        long lookups = hits + mMisses.get();
+        return lookups > 0 ? (double) hits / lookups : 0.0;
+    }
+
+    void reset() {
+        mHits.reset();
+        mMisses.reset();
+    }
+}
@@ -0,0 +1,27 @@
+package net.calvuz.qdue.core.common.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counter - Monotonic event count, cheap under contention.
+ */
+public final class Counter {
+
+    private final LongAdder mValue = new LongAdder();
+
+    public void increment() {
+        mValue.increment();
+    }
+
+    public void add(long amount) {
+        mValue.add( amount );
+    }
+
+    public long get() {
+        return mValue.sum();
+    }
+
+    void reset() {
+        mValue.reset();
+    }
+}
@@ -0,0 +1,108 @@
+package net.calvuz.qdue.core.common.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * LatencyHistogram - Lock-free, fixed-size latency histogram with HDR-style buckets.
+ *
+ * <p>Values below 32 have a bucket each; above, every power of two is split in 16
+ * linear sub-buckets, so a recorded value and the percentile reported for it differ
+ * by at most 1/16 (6.25%). Values over {@link #MAX_TRACKABLE_VALUE} (about 18 minutes
+ * in nanoseconds) are clamped. Memory is constant: {@value #BUCKET_COUNT} counters.</p>
+ *
+ * <p>Recording is a few atomic increments, safe from any thread. Readings taken while
+ * other threads record may be off by the values in flight.</p>
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    public static final long MAX_TRACKABLE_VALUE = (1L << 40) - 1;
+
+    static final int BUCKET_COUNT = indexOf( MAX_TRACKABLE_VALUE ) + 1;
+
+    private final AtomicLongArray mCounts = new AtomicLongArray( BUCKET_COUNT );
+    private final AtomicLong mCount = new AtomicLong();
+    private final AtomicLong mSum = new AtomicLong();
+    private final AtomicLong mMax = new AtomicLong();
+
+    // ==================== RECORDING ====================
+
+    /**
+     * @param value Value to record (e.g. nanoseconds), negative values count as 0
+     */
+    public void record(long value) {
+        long clamped = Math.min( Math.max( value, 0 ), MAX_TRACKABLE_VALUE );
+        mCounts.incrementAndGet( indexOf( clamped ) );
+        mCount.incrementAndGet();
+        mSum.addAndGet( clamped );
+        mMax.accumulateAndGet( clamped, Math::max );
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            mCounts.set( i, 0 );
+        }
+        mCount.set( 0 );
+        mSum.set( 0 );
+        mMax.set( 0 );
+    }
+
+    // ==================== READING ====================
+
+    public long getCount() {
+        return mCount.get();
+    }
+
+    public long getMax() {
+        return mMax.get();
+    }
+
+    public double getMean() {
+        long count = mCount.get();
+        return count > 0 ? (double) mSum.get() / count : 0.0;
+    }
+
+    /**
+     * @param percentile Percentile in [0, 100]
+     * @return Highest value equivalent to the one at the percentile, 0 when empty
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = mCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        double clamped = Math.min( Math.max( percentile, 0.0 ), 100.0 );
+        long rank = Math.max( 1, (long) Math.ceil( clamped / 100.0 * count ) );
+
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += mCounts.get( i );
+            if (seen >= rank) {
+                return Math.min( highestValueOf( i ), mMax.get() );
+            }
+        }
+        return mMax.get();
+    }
+
+    // ==================== BUCKETS ====================
+
+    static int indexOf(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros( value ) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    static long highestValueOf(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lowest = (long) (index % SUB_BUCKETS + SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
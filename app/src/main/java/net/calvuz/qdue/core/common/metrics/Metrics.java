@@ -0,0 +1,189 @@
+package net.calvuz.qdue.core.common.metrics;
+
+import androidx.annotation.NonNull;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Metrics - In-process registry of operation timers, counters and cache meters.
+ *
+ * <p>Metrics are created on first use and live for the process; recording is lock-free.
+ * Names are dotted, area first (e.g. {@code repo.local_events.page},
+ * {@code engine.schedule_range}, {@code bind.month_page}), and timer names double as
+ * system trace section names.</p>
+ *
+ * <h3>Usage</h3>
+ * <pre>
+ * try (TraceSection section = Metrics.trace( "import.parse" )) { ... }
+ * Metrics.cache( "schedule_cache" ).record( cached != null );
+ * Metrics.counter( "import.events" ).add( count );
+ * </pre>
+ *
+ * <p>Read by the metrics screen in settings, which also exports {@link #toJson()}.</p>
+ */
+public final class Metrics {
+
+    private static volatile Metrics INSTANCE;
+
+    private final Map<String, Timer> mTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> mCounters = new ConcurrentHashMap<>();
+    private final Map<String, CacheMeter> mCaches = new ConcurrentHashMap<>();
+
+    // ==================== CONSTRUCTOR ====================
+
+    Metrics() {
+    }
+
+    /**
+     * Get singleton instance with thread-safe initialization.
+     */
+    @NonNull
+    public static Metrics getInstance() {
+        if (INSTANCE == null) {
+            synchronized (Metrics.class) {
+                if (INSTANCE == null) {
+                    INSTANCE = new Metrics();
+                }
+            }
+        }
+        return INSTANCE;
+    }
+
+    // ==================== SHORTCUTS ====================
+
+    /**
+     * Start a timed trace section of an operation.
+     */
+    @NonNull
+    public static TraceSection trace(@NonNull String name) {
+        return getInstance().timer( name ).start();
+    }
+
+    @NonNull
+    public static Counter counter(@NonNull String name) {
+        return getInstance().getCounter( name );
+    }
+
+    @NonNull
+    public static CacheMeter cache(@NonNull String name) {
+        return getInstance().getCache( name );
+    }
+
+    // ==================== REGISTRY ====================
+
+    @NonNull
+    public Timer timer(@NonNull String name) {
+        Timer timer = mTimers.get( name );
+        return timer != null ? timer : mTimers.computeIfAbsent( name, Timer::new );
+    }
+
+    @NonNull
+    public Counter getCounter(@NonNull String name) {
+        Counter counter = mCounters.get( name );
+        return counter != null ? counter : mCounters.computeIfAbsent( name, key -> new Counter() );
+    }
+
+    @NonNull
+    public CacheMeter getCache(@NonNull String name) {
+        CacheMeter meter = mCaches.get( name );
+        return meter != null ? meter : mCaches.computeIfAbsent( name, key -> new CacheMeter() );
+    }
+
+    /**
+     * @return Timers by name
+     */
+    @NonNull
+    public SortedMap<String, Timer> getTimers() {
+        return new TreeMap<>( mTimers );
+    }
+
+    /**
+     * @return Counters by name
+     */
+    @NonNull
+    public SortedMap<String, Counter> getCounters() {
+        return new TreeMap<>( mCounters );
+    }
+
+    /**
+     * @return Cache meters by name
+     */
+    @NonNull
+    public SortedMap<String, CacheMeter> getCaches() {
+        return new TreeMap<>( mCaches );
+    }
+
+    /**
+     * Zero every metric. Metrics stay registered.
+     */
+    public void reset() {
+        for (Timer timer : mTimers.values()) {
+            timer.getHistogram().reset();
+        }
+        for (Counter counter : mCounters.values()) {
+            counter.reset();
+        }
+        for (CacheMeter meter : mCaches.values()) {
+            meter.reset();
+        }
+    }
+
+    // ==================== EXPORT ====================
+
+    /**
+     * @return Pretty-printed JSON of every metric; times in milliseconds
+     */
+    @NonNull
+    public String toJson() {
+        JsonObject root = new JsonObject();
+        root.addProperty( "captured_at", Instant.now().toString() );
+
+        JsonObject timers = new JsonObject();
+        for (Map.Entry<String, Timer> entry : getTimers().entrySet()) {
+            LatencyHistogram histogram = entry.getValue().getHistogram();
+            JsonObject timer = new JsonObject();
+            timer.addProperty( "count", histogram.getCount() );
+            timer.addProperty( "mean_ms", toMillis( histogram.getMean() ) );
+            timer.addProperty( "p50_ms", toMillis( histogram.getValueAtPercentile( 50 ) ) );
+            timer.addProperty( "p95_ms", toMillis( histogram.getValueAtPercentile( 95 ) ) );
+            timer.addProperty( "p99_ms", toMillis( histogram.getValueAtPercentile( 99 ) ) );
+            timer.addProperty( "max_ms", toMillis( histogram.getMax() ) );
+            timers.add( entry.getKey(), timer );
+        }
+        root.add( "timers", timers );
+
+        JsonObject caches = new JsonObject();
+        for (Map.Entry<String, CacheMeter> entry : getCaches().entrySet()) {
+            CacheMeter meter = entry.getValue();
+            JsonObject cache = new JsonObject();
+            cache.addProperty( "hits", meter.getHits() );
+            cache.addProperty( "misses", meter.getMisses() );
+            cache.addProperty( "hit_rate", meter.getHitRate() );
+            caches.add( entry.getKey(), cache );
+        }
+        root.add( "caches", caches );
+
+        JsonObject counters = new JsonObject();
+        for (Map.Entry<String, Counter> entry : getCounters().entrySet()) {
+            counters.addProperty( entry.getKey(), entry.getValue().get() );
+        }
+        root.add( "counters", counters );
+
+        return new GsonBuilder().setPrettyPrinting().create().toJson( root );
+    }
+
+    /**
+     * @param nanos Duration in nanoseconds
+     * @return Milliseconds, rounded to the microsecond
+     */
+    public static double toMillis(double nanos) {
+        return Math.round( nanos / 1_000.0 ) / 1_000.0;
+    }
+}
@@ -0,0 +1,42 @@
+package net.calvuz.qdue.core.common.metrics;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Timer - Latency histogram of a named operation, fed by {@link TraceSection}s.
+ */
+public final class Timer {
+
+    private final String mName;
+    private final LatencyHistogram mHistogram = new LatencyHistogram();
+
+    Timer(@NonNull String name) {
+        this.mName = name;
+    }
+
+    @NonNull
+    public String getName() {
+        return mName;
+    }
+
+    /**
+     * Start timing one run of the operation, also as a system trace section.
+     * Close the section on the same thread, with try-with-resources.
+     */
+    @NonNull
+    public TraceSection start() {
+        return new TraceSection( this );
+    }
+
+    /**
+     * @param nanos Duration of one run
+     */
+    public void record(long nanos) {
+        mHistogram.record( nanos );
+    }
+
+    @NonNull
+    public LatencyHistogram getHistogram() {
+        return mHistogram;
+    }
+}
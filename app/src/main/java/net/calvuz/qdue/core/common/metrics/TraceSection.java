@@ -0,0 +1,40 @@
+package net.calvuz.qdue.core.common.metrics;
+
+import androidx.annotation.NonNull;
+import androidx.tracing.Trace;
+
+/**
+ * TraceSection - One timed run of an operation.
+ *
+ * <p>Opens a section of the same name in system traces (Perfetto, systrace), visible
+ * only while a trace is being recorded, and records the elapsed time in the
+ * operation's {@link Timer} on {@link #close()}. Sections nest, and must be closed on
+ * the thread that opened them:</p>
+ * <pre>
+ * try (TraceSection section = Metrics.trace( "repo.schedule_range" )) {
+ *     ...
+ * }
+ * </pre>
+ */
+public final class TraceSection implements AutoCloseable {
+
+    private final Timer mTimer;
+    private final long mStartNanos;
+    private boolean mClosed;
+
+    TraceSection(@NonNull Timer timer) {
+        this.mTimer = timer;
+        Trace.beginSection( timer.getName() );
+        this.mStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void close() {
+        if (mClosed) {
+            return;
+        }
+        mClosed = true;
+        mTimer.record( System.nanoTime() - mStartNanos );
+        Trace.endSection();
+    }
+}
@@ -19,7 +19,9 @@ import net.calvuz.qdue.data.dao.ShiftExceptionDao;
 import net.calvuz.qdue.data.dao.TeamDao;
 import net.calvuz.qdue.data.dao.UserScheduleAssignmentDao;
 import net.calvuz.qdue.data.dao.UserTeamAssignmentDao;
+import net.calvuz.qdue.data.entities.LocalEventDaySummaryEntity;
 import net.calvuz.qdue.data.entities.LocalEventEntity;
+import net.calvuz.qdue.data.entities.LocalEventFtsEntity;
 import net.calvuz.qdue.data.entities.RecurrenceRuleEntity;
 import net.calvuz.qdue.data.entities.ShiftEntity;
 import net.calvuz.qdue.data.entities.ShiftExceptionEntity;
@@ -28,11 +30,17 @@ import net.calvuz.qdue.data.entities.UserScheduleAssignmentEntity;
 
 import net.calvuz.qdue.core.db.converters.CalendarTypeConverters;
 import net.calvuz.qdue.core.db.converters.QDueTypeConverters;
+import net.calvuz.qdue.core.db.changes.ChangeLog;
+import net.calvuz.qdue.core.db.changes.DataChange;
+import net.calvuz.qdue.core.db.changes.DataChangeBus;
+import net.calvuz.qdue.core.db.summary.DaySummaryIndex;
 import net.calvuz.qdue.core.common.i18n.LocaleManager;
 import net.calvuz.qdue.data.dao.QDueUserDao;
 import net.calvuz.qdue.data.entities.QDueUserEntity;
 import net.calvuz.qdue.data.entities.UserTeamAssignmentEntity;
+import net.calvuz.qdue.domain.calendar.enums.EventType;
 import net.calvuz.qdue.domain.calendar.models.Team;
+import net.calvuz.qdue.domain.common.enums.Priority;
 import net.calvuz.qdue.ui.core.common.utils.Log;
 
 import java.text.MessageFormat;
@@ -130,7 +138,9 @@ import java.util.UUID;
                 ShiftExceptionEntity.class,
                 UserScheduleAssignmentEntity.class,
                 UserTeamAssignmentEntity.class,
-                LocalEventEntity.class
+                LocalEventEntity.class,
+                LocalEventFtsEntity.class,
+                LocalEventDaySummaryEntity.class
         },
         version = CalendarDatabase.DATABASE_VERSION,
         exportSchema = false
@@ -143,13 +153,29 @@ import java.util.UUID;
 public abstract class CalendarDatabase extends RoomDatabase
 {
 
-    // All included - fallbackToDestructiveMigration()
-    public final static int DATABASE_VERSION = 7;
+    // Up to 7 - fallbackToDestructiveMigration()
+    // 8 - local_events_fts search index (MIGRATION_7_8)
+    // 9 - local_events times as INTEGER epoch seconds (MIGRATION_8_9)
+    // 10 - local_event_day_summary per-day aggregate (MIGRATION_9_10)
+    // 11 - local_events list keyset index (start_time, id) (MIGRATION_10_11)
+    // 12 - local_events_change_log of the days touched by writes (MIGRATION_11_12)
+    // 13 - bounded local_event_day_summary triggers (MIGRATION_12_13)
+    public final static int DATABASE_VERSION = 13;
 
     private static final String TAG = "CalendarDatabase";
     private static final String DATABASE_NAME = "calendar_database";
     private static volatile CalendarDatabase INSTANCE;
 
+    // Per-day aggregate of local events for calendar indicators, same fallbacks as CalendarTypeConverters
+    static final DaySummaryIndex LOCAL_EVENT_DAY_SUMMARY = new DaySummaryIndex(
+            "local_event_day_summary", "local_events",
+            "event_type", EventType.values(), EventType.GENERAL,
+            "event_priority", Priority.values(), Priority.NORMAL,
+            "all_day" );
+
+    // Days touched by local events writes, published on the DataChangeBus
+    static final ChangeLog LOCAL_EVENTS_CHANGE_LOG = new ChangeLog( "local_events_change_log", "local_events" );
+
     // ==================== ABSTRACT DAO METHODS ====================
 
     public abstract QDueUserDao qDueUserDao();
@@ -192,10 +218,18 @@ public abstract class CalendarDatabase extends RoomDatabase
 //                                    CalendarDatabaseMigrations.MIGRATION_2_3,
 //                                    CalendarDatabaseMigrations.MIGRATION_3_4
 //                            )
+                            .addMigrations( CalendarDatabaseMigrations.MIGRATION_7_8,
+                                            CalendarDatabaseMigrations.MIGRATION_8_9,
+                                            CalendarDatabaseMigrations.MIGRATION_9_10,
+                                            CalendarDatabaseMigrations.MIGRATION_10_11,
+                                            CalendarDatabaseMigrations.MIGRATION_11_12,
+                                            CalendarDatabaseMigrations.MIGRATION_12_13 )
                             .fallbackToDestructiveMigration()
                             .addCallback( new EnhancedDatabaseCallback(
                                     context.getApplicationContext() ) )
                             .build();
+                    DataChangeBus.getInstance().watch( INSTANCE, LOCAL_EVENTS_CHANGE_LOG,
+                                                       DataChange.Kind.LOCAL_EVENTS );
                 }
             }
         }
@@ -226,12 +260,21 @@ public abstract class CalendarDatabase extends RoomDatabase
             // Enable foreign keys for relationship support
             db.execSQL( "PRAGMA foreign_keys = ON" );
 
+            // REPLACE deletes must fire the local_events_fts and day summary sync triggers
+            db.execSQL( "PRAGMA recursive_triggers = ON" );
+
             // Optimize for calendar read-heavy workload
             optimizeDatabaseForCalendar( db );
 
             // Create all performance indexes
             createEnhancedPerformanceIndexes( db );
 
+            // Triggers maintaining local_event_day_summary (the table is created by Room)
+            LOCAL_EVENT_DAY_SUMMARY.createTriggers( db );
+
+            // Triggers logging the days touched by local events writes
+            LOCAL_EVENTS_CHANGE_LOG.createTriggers( db );
+
             // Initialize default data with full localization
             initializeEnhancedDefaultData( db, mContext );
 
@@ -246,9 +289,21 @@ public abstract class CalendarDatabase extends RoomDatabase
             // Ensure foreign keys are enabled
             db.execSQL( "PRAGMA foreign_keys = ON" );
 
+            // REPLACE deletes must fire the local_events_fts and day summary sync triggers
+            db.execSQL( "PRAGMA recursive_triggers = ON" );
+
+            // A destructive migration recreates local_events without its triggers
+            if (LOCAL_EVENT_DAY_SUMMARY.ensureTriggers( db )) {
+                Log.i( TAG, "Day summary triggers recreated" );
+            }
+            LOCAL_EVENTS_CHANGE_LOG.createTriggers( db );
+
             // Analyze all tables for query optimization
             db.execSQL( "ANALYZE" );
 
+            // Changes logged before this process started have no subscriber left
+            LOCAL_EVENTS_CHANGE_LOG.clear( db );
+
             Log.i( TAG, "CalendarDatabase v" + DATABASE_VERSION + " opened and optimized" );
         }
 
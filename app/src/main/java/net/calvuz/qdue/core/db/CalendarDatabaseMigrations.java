@@ -0,0 +1,122 @@
+package net.calvuz.qdue.core.db;
+
+import androidx.annotation.NonNull;
+import androidx.room.migration.Migration;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+
+import net.calvuz.qdue.core.db.converters.EpochTypeConverters;
+import net.calvuz.qdue.core.db.search.FtsSearch;
+import net.calvuz.qdue.ui.core.common.utils.Log;
+
+/**
+ * CalendarDatabaseMigrations - Schema migrations for {@link CalendarDatabase}.
+ *
+ * <p>Versions before 7 still fall back to destructive migration.</p>
+ */
+public final class CalendarDatabaseMigrations
+{
+    private static final String TAG = "CalendarDatabaseMigrations";
+
+    private CalendarDatabaseMigrations() {
+    }
+
+    /**
+     * Version 7 → 8: FTS4 index over local_events (title, description, location).
+     */
+    public static final Migration MIGRATION_7_8 = new Migration( 7, 8 ) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            FtsSearch.createIndex( db, "local_events_fts", "local_events" );
+            Log.i( TAG, "Migrated CalendarDatabase 7 → 8: local_events_fts created" );
+        }
+    };
+
+    /**
+     * Version 8 → 9: local_events start_time and end_time as INTEGER epoch seconds,
+     * plus a (start_time, end_time) index for range queries.
+     * The table is rebuilt, then its indexes and the local_events_fts triggers are recreated.
+     */
+    public static final Migration MIGRATION_8_9 = new Migration( 8, 9 ) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL( "CREATE TABLE IF NOT EXISTS `local_events_new` (`id` TEXT NOT NULL, " +
+                    "`calendar_id` TEXT NOT NULL, `title` TEXT NOT NULL, `description` TEXT, " +
+                    "`start_time` INTEGER NOT NULL, `end_time` INTEGER NOT NULL, `event_type` TEXT NOT NULL, " +
+                    "`event_priority` TEXT NOT NULL, `all_day` INTEGER NOT NULL, `location` TEXT, " +
+                    "`custom_properties` TEXT, `source_url` TEXT, `created_at` INTEGER NOT NULL, " +
+                    "`updated_at` INTEGER NOT NULL, PRIMARY KEY(`id`))" );
+            db.execSQL( "INSERT INTO `local_events_new` (id, calendar_id, title, description, start_time, " +
+                    "end_time, event_type, event_priority, all_day, location, custom_properties, source_url, " +
+                    "created_at, updated_at) SELECT id, calendar_id, title, description, " +
+                    EpochTypeConverters.epochSecondsSql( "start_time" ) + ", " +
+                    EpochTypeConverters.epochSecondsSql( "end_time" ) + ", event_type, event_priority, " +
+                    "all_day, location, custom_properties, source_url, created_at, updated_at " +
+                    "FROM `local_events` WHERE " +
+                    EpochTypeConverters.epochSecondsSql( "start_time" ) + " IS NOT NULL AND " +
+                    EpochTypeConverters.epochSecondsSql( "end_time" ) + " IS NOT NULL" );
+            db.execSQL( "DROP TABLE `local_events`" );
+            db.execSQL( "ALTER TABLE `local_events_new` RENAME TO `local_events`" );
+
+            db.execSQL( "CREATE INDEX IF NOT EXISTS `index_local_events_event_type` " +
+                    "ON `local_events` (`event_type`)" );
+            db.execSQL( "CREATE INDEX IF NOT EXISTS `index_local_events_event_priority` " +
+                    "ON `local_events` (`event_priority`)" );
+            db.execSQL( "CREATE INDEX IF NOT EXISTS `index_local_events_start_time_end_time` " +
+                    "ON `local_events` (`start_time`, `end_time`)" );
+
+            FtsSearch.createIndex( db, "local_events_fts", "local_events" );
+            Log.i( TAG, "Migrated CalendarDatabase 8 → 9: epoch temporal columns" );
+        }
+    };
+
+    /**
+     * Version 9 → 10: per-day summary of local events (local_event_day_summary),
+     * maintained by triggers on local_events and filled from the existing events.
+     */
+    public static final Migration MIGRATION_9_10 = new Migration( 9, 10 ) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            CalendarDatabase.LOCAL_EVENT_DAY_SUMMARY.createTable( db );
+            CalendarDatabase.LOCAL_EVENT_DAY_SUMMARY.createTriggers( db );
+            Log.i( TAG, "Migrated CalendarDatabase 9 → 10: local_event_day_summary created" );
+        }
+    };
+
+    /**
+     * Version 10 → 11: (start_time, id) index on local_events, the order and key
+     * of the paged events list.
+     */
+    public static final Migration MIGRATION_10_11 = new Migration( 10, 11 ) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL( "CREATE INDEX IF NOT EXISTS `index_local_events_start_time_id` " +
+                    "ON `local_events` (`start_time`, `id`)" );
+            Log.i( TAG, "Migrated CalendarDatabase 10 → 11: index_local_events_start_time_id created" );
+        }
+    };
+
+    /**
+     * Version 11 → 12: change log of the days touched by local events writes
+     * (local_events_change_log).
+     */
+    public static final Migration MIGRATION_11_12 = new Migration( 11, 12 ) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            CalendarDatabase.LOCAL_EVENTS_CHANGE_LOG.createTriggers( db );
+            Log.i( TAG, "Migrated CalendarDatabase 11 → 12: local_events_change_log created" );
+        }
+    };
+
+    /**
+     * Version 12 → 13: local_event_day_summary triggers bound the start time seek of
+     * the refreshed days, recreated and the summary rebuilt.
+     */
+    public static final Migration MIGRATION_12_13 = new Migration( 12, 13 ) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            CalendarDatabase.LOCAL_EVENT_DAY_SUMMARY.dropTriggers( db );
+            CalendarDatabase.LOCAL_EVENT_DAY_SUMMARY.createTriggers( db );
+            Log.i( TAG, "Migrated CalendarDatabase 12 → 13: local_event_day_summary triggers recreated" );
+        }
+    };
+}
@@ -11,7 +11,11 @@ import androidx.sqlite.db.SupportSQLiteDatabase;
 
 import net.calvuz.qdue.events.dao.EventDao;
 import net.calvuz.qdue.events.dao.TurnExceptionDao;
+import net.calvuz.qdue.events.models.EventDaySummary;
+import net.calvuz.qdue.events.models.EventPriority;
+import net.calvuz.qdue.events.models.EventType;
 import net.calvuz.qdue.events.models.LocalEvent;
+import net.calvuz.qdue.events.models.LocalEventFts;
 import net.calvuz.qdue.events.models.TurnException;
 import net.calvuz.qdue.user.data.dao.EstablishmentDao;
 import net.calvuz.qdue.user.data.dao.MacroDepartmentDao;
@@ -21,7 +25,11 @@ import net.calvuz.qdue.user.data.entities.Establishment;
 import net.calvuz.qdue.user.data.entities.MacroDepartment;
 import net.calvuz.qdue.user.data.entities.SubDepartment;
 import net.calvuz.qdue.user.data.entities.User;
+import net.calvuz.qdue.core.db.changes.ChangeLog;
+import net.calvuz.qdue.core.db.changes.DataChange;
+import net.calvuz.qdue.core.db.changes.DataChangeBus;
 import net.calvuz.qdue.core.db.converters.QDueTypeConverters;
+import net.calvuz.qdue.core.db.summary.DaySummaryIndex;
 import net.calvuz.qdue.ui.core.common.utils.Log;
 
 import java.text.MessageFormat;
@@ -33,6 +41,12 @@ import java.text.MessageFormat;
  * Version 1: Events only (LocalEvent)
  * Version 2: Events + TurnException
  * Version 3: Events + TurnException + User management (UNIFIED)
+ * Version 5: FTS4 search index over events (events_fts)
+ * Version 6: Event and exception times as INTEGER epoch values
+ * Version 7: Per-day event summary (event_day_summary) maintained by triggers
+ * Version 8: Events list keyset index (start_time, id)
+ * Version 9: Change log of the days touched by events writes (events_change_log)
+ * Version 10: Bounded event_day_summary triggers
  * <p>
  * Features:
  * - Google Calendar-like event storage
@@ -46,6 +60,8 @@ import java.text.MessageFormat;
         entities = {
                 // Events and Calendar
                 LocalEvent.class,
+                LocalEventFts.class,
+                EventDaySummary.class,
                 TurnException.class,
 
                 // User Management (migrated from UserDatabase)
@@ -63,12 +79,22 @@ import java.text.MessageFormat;
 })
 public abstract class QDueDatabase extends RoomDatabase {
 
-    public  static final int DATABASE_VERSION = 4;
+    public  static final int DATABASE_VERSION = 10;
 
     private static final String TAG = "QDueDatabase";
     private static final String DATABASE_NAME = "qd_database";
     private static volatile QDueDatabase INSTANCE;
 
+    // Per-day aggregate of events for calendar indicators, same fallbacks as QDueTypeConverters
+    static final DaySummaryIndex EVENT_DAY_SUMMARY = new DaySummaryIndex(
+            "event_day_summary", "events",
+            "event_type", EventType.values(), EventType.GENERAL,
+            "priority", EventPriority.values(), EventPriority.NORMAL,
+            "all_day" );
+
+    // Days touched by events writes, published on the DataChangeBus
+    static final ChangeLog EVENTS_CHANGE_LOG = new ChangeLog( "events_change_log", "events" );
+
     // ==================== ABSTRACT DAO METHODS ====================
 
     // Events and Calendar DAOs
@@ -97,9 +123,16 @@ public abstract class QDueDatabase extends RoomDatabase {
                                     QDueDatabase.class,
                                     DATABASE_NAME
                             )
+                            .addMigrations( QDueDatabaseMigrations.MIGRATION_4_5,
+                                            QDueDatabaseMigrations.MIGRATION_5_6,
+                                            QDueDatabaseMigrations.MIGRATION_6_7,
+                                            QDueDatabaseMigrations.MIGRATION_7_8,
+                                            QDueDatabaseMigrations.MIGRATION_8_9,
+                                            QDueDatabaseMigrations.MIGRATION_9_10 )
                             .fallbackToDestructiveMigration()
                             .addCallback( DATABASE_CALLBACK )
                             .build();
+                    DataChangeBus.getInstance().watch( INSTANCE, EVENTS_CHANGE_LOG, DataChange.Kind.EVENTS );
                 }
             }
         }
@@ -122,6 +155,9 @@ public abstract class QDueDatabase extends RoomDatabase {
             // Enable foreign keys
             db.execSQL( "PRAGMA foreign_keys = ON" );
 
+            // REPLACE deletes must fire the events_fts and event_day_summary sync triggers
+            db.execSQL( "PRAGMA recursive_triggers = ON" );
+
             // Optimize for read-heavy workload (virtual scrolling)
 //            db.execSQL("PRAGMA journal_mode = WAL");
 //            db.execSQL("PRAGMA synchronous = NORMAL");
@@ -130,6 +166,12 @@ public abstract class QDueDatabase extends RoomDatabase {
             // Additional performance indexes
             createPerformanceIndexes( db );
 
+            // Triggers maintaining event_day_summary (the table is created by Room)
+            EVENT_DAY_SUMMARY.createTriggers( db );
+
+            // Triggers logging the days touched by events writes
+            EVENTS_CHANGE_LOG.createTriggers( db );
+
             // Initialize default data if needed
             initializeDefaultData( db );
         }
@@ -143,35 +185,20 @@ public abstract class QDueDatabase extends RoomDatabase {
             // Ensure foreign keys are enabled
             db.execSQL( "PRAGMA foreign_keys = ON" );
 
-            // Analyze tables for query optimization
-            db.execSQL( "ANALYZE" );
-        }
+            // REPLACE deletes must fire the events_fts and event_day_summary sync triggers
+            db.execSQL( "PRAGMA recursive_triggers = ON" );
 
-        /**
-         * Create additional performance indexes for virtual scrolling and cross-entity queries
-         */
-        private void createPerformanceIndexes(SupportSQLiteDatabase db) {
-            try {
-                // Cross-entity indexes for user-exception queries
-                db.execSQL( "CREATE INDEX IF NOT EXISTS idx_turn_exceptions_user_date_active " +
-                        "ON turn_exceptions(user_id, date, status) WHERE status = 'ACTIVE'" );
-
-                // Virtual scrolling month queries
-                db.execSQL( "CREATE INDEX IF NOT EXISTS idx_turn_exceptions_month_range " +
-                        "ON turn_exceptions(user_id, date) WHERE status = 'ACTIVE'" );
-
-                // User-events correlation
-                db.execSQL( "CREATE INDEX IF NOT EXISTS idx_events_date_user " +
-                        "ON events(start_time, end_time) WHERE package_id IS NULL" );
+            // A destructive migration recreates events without its triggers
+            if (EVENT_DAY_SUMMARY.ensureTriggers( db )) {
+                Log.i( TAG, "Day summary triggers recreated" );
+            }
+            EVENTS_CHANGE_LOG.createTriggers( db );
 
-                // Organizational hierarchy queries
-                db.execSQL( "CREATE INDEX IF NOT EXISTS idx_users_organization " +
-                        "ON users(establishment_id, macro_department_id, sub_department_id, is_active)" );
+            // Analyze tables for query optimization
+            db.execSQL( "ANALYZE" );
 
-                Log.d( TAG, "Performance indexes created successfully" );
-            } catch (Exception e) {
-                Log.e( TAG, "Error creating performance indexes: " + e.getMessage() );
-            }
+            // Changes logged before this process started have no subscriber left
+            EVENTS_CHANGE_LOG.clear( db );
         }
 
         /**
@@ -190,6 +217,36 @@ public abstract class QDueDatabase extends RoomDatabase {
         }
     };
 
+    // ==================== PERFORMANCE INDEXES ====================
+
+    /**
+     * Create additional performance indexes for virtual scrolling and cross-entity queries.
+     * Also run by migrations that rebuild the indexed tables.
+     */
+    static void createPerformanceIndexes(SupportSQLiteDatabase db) {
+        try {
+            // Cross-entity indexes for user-exception queries
+            db.execSQL( "CREATE INDEX IF NOT EXISTS idx_turn_exceptions_user_date_active " +
+                    "ON turn_exceptions(user_id, date, status) WHERE status = 'ACTIVE'" );
+
+            // Virtual scrolling month queries
+            db.execSQL( "CREATE INDEX IF NOT EXISTS idx_turn_exceptions_month_range " +
+                    "ON turn_exceptions(user_id, date) WHERE status = 'ACTIVE'" );
+
+            // User-events correlation
+            db.execSQL( "CREATE INDEX IF NOT EXISTS idx_events_date_user " +
+                    "ON events(start_time, end_time) WHERE package_id IS NULL" );
+
+            // Organizational hierarchy queries
+            db.execSQL( "CREATE INDEX IF NOT EXISTS idx_users_organization " +
+                    "ON users(establishment_id, macro_department_id, sub_department_id, is_active)" );
+
+            Log.d( TAG, "Performance indexes created successfully" );
+        } catch (Exception e) {
+            Log.e( TAG, "Error creating performance indexes: " + e.getMessage() );
+        }
+    }
+
     // ==================== UTILITY METHODS ====================
 
     /**
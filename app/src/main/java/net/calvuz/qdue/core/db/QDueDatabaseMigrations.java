@@ -0,0 +1,152 @@
+package net.calvuz.qdue.core.db;
+
+import androidx.annotation.NonNull;
+import androidx.room.migration.Migration;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+
+import net.calvuz.qdue.core.db.converters.EpochTypeConverters;
+import net.calvuz.qdue.core.db.search.FtsSearch;
+import net.calvuz.qdue.ui.core.common.utils.Log;
+
+/**
+ * QDueDatabaseMigrations - Schema migrations for {@link QDueDatabase}.
+ * <p>
+ * Versions before 4 still fall back to destructive migration.
+ */
+public final class QDueDatabaseMigrations {
+
+    private static final String TAG = "QDueDatabaseMigrations";
+
+    private QDueDatabaseMigrations() {
+    }
+
+    /**
+     * Version 4 -> 5: FTS4 index over events (title, description, location).
+     */
+    public static final Migration MIGRATION_4_5 = new Migration( 4, 5 ) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            FtsSearch.createIndex( db, "events_fts", "events" );
+            Log.i( TAG, "Migrated QDueDatabase 4 -> 5: events_fts created" );
+        }
+    };
+
+    /**
+     * Version 5 -> 6: events and turn_exceptions store times as INTEGER epoch numbers.
+     * <p>
+     * events: start_time, end_time, last_updated as epoch seconds.
+     * turn_exceptions: date as epoch day, created_at and modified_at as epoch seconds.
+     * Both tables are rebuilt (SQLite cannot change a column type), then their Room
+     * indexes, the performance indexes and the events_fts triggers are recreated.
+     * Rows whose required times cannot be parsed are dropped, as they failed to load anyway.
+     */
+    public static final Migration MIGRATION_5_6 = new Migration( 5, 6 ) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            migrateEvents( db );
+            migrateTurnExceptions( db );
+            QDueDatabase.createPerformanceIndexes( db );
+            FtsSearch.createIndex( db, "events_fts", "events" );
+            Log.i( TAG, "Migrated QDueDatabase 5 -> 6: epoch temporal columns" );
+        }
+
+        private void migrateEvents(SupportSQLiteDatabase db) {
+            db.execSQL( "CREATE TABLE IF NOT EXISTS `events_new` (`id` TEXT NOT NULL, `title` TEXT, " +
+                    "`description` TEXT, `start_time` INTEGER, `end_time` INTEGER, `event_type` TEXT, " +
+                    "`priority` TEXT, `all_day` INTEGER NOT NULL, `location` TEXT, `custom_properties` TEXT, " +
+                    "`package_id` TEXT, `source_url` TEXT, `package_version` TEXT, `last_updated` INTEGER, " +
+                    "PRIMARY KEY(`id`))" );
+            db.execSQL( "INSERT INTO `events_new` (id, title, description, start_time, end_time, event_type, " +
+                    "priority, all_day, location, custom_properties, package_id, source_url, package_version, " +
+                    "last_updated) SELECT id, title, description, " +
+                    EpochTypeConverters.epochSecondsSql( "start_time" ) + ", " + EpochTypeConverters.epochSecondsSql( "end_time" ) + ", event_type, " +
+                    "priority, all_day, location, custom_properties, package_id, source_url, package_version, " +
+                    EpochTypeConverters.epochSecondsSql( "last_updated" ) + " FROM `events`" );
+            db.execSQL( "DROP TABLE `events`" );
+            db.execSQL( "ALTER TABLE `events_new` RENAME TO `events`" );
+
+            db.execSQL( "CREATE INDEX IF NOT EXISTS `index_events_start_time` ON `events` (`start_time`)" );
+            db.execSQL( "CREATE INDEX IF NOT EXISTS `index_events_package_id` ON `events` (`package_id`)" );
+            db.execSQL( "CREATE INDEX IF NOT EXISTS `index_events_event_type` ON `events` (`event_type`)" );
+            db.execSQL( "CREATE INDEX IF NOT EXISTS `index_events_priority` ON `events` (`priority`)" );
+            db.execSQL( "CREATE INDEX IF NOT EXISTS `index_events_time_range` ON `events` (`start_time`, `end_time`)" );
+        }
+
+        private void migrateTurnExceptions(SupportSQLiteDatabase db) {
+            db.execSQL( "CREATE TABLE IF NOT EXISTS `turn_exceptions_new` (`id` TEXT NOT NULL, " +
+                    "`user_id` INTEGER NOT NULL, `date` INTEGER NOT NULL, `exception_type` TEXT NOT NULL, " +
+                    "`original_shift_type` TEXT, `replacement_shift_type` TEXT, `notes` TEXT, " +
+                    "`created_at` INTEGER NOT NULL, `modified_at` INTEGER, `status` TEXT DEFAULT ACTIVE, " +
+                    "PRIMARY KEY(`id`), FOREIGN KEY(`user_id`) REFERENCES `users`(`id`) " +
+                    "ON UPDATE NO ACTION ON DELETE CASCADE )" );
+            db.execSQL( "INSERT INTO `turn_exceptions_new` (id, user_id, date, exception_type, " +
+                    "original_shift_type, replacement_shift_type, notes, created_at, modified_at, status) " +
+                    "SELECT id, user_id, " + EpochTypeConverters.epochDaySql( "date" ) + ", exception_type, original_shift_type, " +
+                    "replacement_shift_type, notes, " + EpochTypeConverters.epochSecondsSql( "created_at" ) + ", " +
+                    EpochTypeConverters.epochSecondsSql( "modified_at" ) + ", status FROM `turn_exceptions` " +
+                    "WHERE " + EpochTypeConverters.epochDaySql( "date" ) + " IS NOT NULL AND " +
+                    EpochTypeConverters.epochSecondsSql( "created_at" ) + " IS NOT NULL" );
+            db.execSQL( "DROP TABLE `turn_exceptions`" );
+            db.execSQL( "ALTER TABLE `turn_exceptions_new` RENAME TO `turn_exceptions`" );
+
+            db.execSQL( "CREATE UNIQUE INDEX IF NOT EXISTS `index_turn_exceptions_user_id_date` " +
+                    "ON `turn_exceptions` (`user_id`, `date`)" );
+            db.execSQL( "CREATE INDEX IF NOT EXISTS `index_turn_exceptions_date_exception_type` " +
+                    "ON `turn_exceptions` (`date`, `exception_type`)" );
+            db.execSQL( "CREATE INDEX IF NOT EXISTS `index_turn_exceptions_date` ON `turn_exceptions` (`date`)" );
+            db.execSQL( "CREATE INDEX IF NOT EXISTS `index_turn_exceptions_user_id` ON `turn_exceptions` (`user_id`)" );
+            db.execSQL( "CREATE INDEX IF NOT EXISTS `index_turn_exceptions_created_at` " +
+                    "ON `turn_exceptions` (`created_at`)" );
+        }
+    };
+
+    /**
+     * Version 6 -> 7: per-day event summary (event_day_summary), maintained by triggers
+     * on events and filled from the existing events.
+     */
+    public static final Migration MIGRATION_6_7 = new Migration( 6, 7 ) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            QDueDatabase.EVENT_DAY_SUMMARY.createTable( db );
+            QDueDatabase.EVENT_DAY_SUMMARY.createTriggers( db );
+            Log.i( TAG, "Migrated QDueDatabase 6 -> 7: event_day_summary created" );
+        }
+    };
+
+    /**
+     * Version 7 -> 8: the start_time index of events becomes (start_time, id), the
+     * order and key of the paged events list.
+     */
+    public static final Migration MIGRATION_7_8 = new Migration( 7, 8 ) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL( "DROP INDEX IF EXISTS `index_events_start_time`" );
+            db.execSQL( "CREATE INDEX IF NOT EXISTS `index_events_start_time_id` ON `events` (`start_time`, `id`)" );
+            Log.i( TAG, "Migrated QDueDatabase 7 -> 8: index_events_start_time_id created" );
+        }
+    };
+
+    /**
+     * Version 8 -> 9: change log of the days touched by events writes (events_change_log).
+     */
+    public static final Migration MIGRATION_8_9 = new Migration( 8, 9 ) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            QDueDatabase.EVENTS_CHANGE_LOG.createTriggers( db );
+            Log.i( TAG, "Migrated QDueDatabase 8 -> 9: events_change_log created" );
+        }
+    };
+
+    /**
+     * Version 9 -> 10: event_day_summary triggers bound the start time seek of the
+     * refreshed days, recreated and the summary rebuilt.
+     */
+    public static final Migration MIGRATION_9_10 = new Migration( 9, 10 ) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            QDueDatabase.EVENT_DAY_SUMMARY.dropTriggers( db );
+            QDueDatabase.EVENT_DAY_SUMMARY.createTriggers( db );
+            Log.i( TAG, "Migrated QDueDatabase 9 -> 10: event_day_summary triggers recreated" );
+        }
+    };
+}
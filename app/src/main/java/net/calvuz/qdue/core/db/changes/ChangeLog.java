@@ -0,0 +1,117 @@
+package net.calvuz.qdue.core.db.changes;
+
+import android.database.Cursor;
+
+import androidx.annotation.NonNull;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+
+/**
+ * ChangeLog - Days touched by the writes to an events table, recorded by triggers.
+ *
+ * <p>Room's InvalidationTracker only reports that a table changed. The change log adds
+ * which days: triggers on the events table append, for every inserted, updated or
+ * deleted row, the first and last epoch day the row covers. Updates log both the old
+ * and the new days, so moving an event refreshes the month it left as well.</p>
+ * <ul>
+ *   <li>{@code seq}: append order</li>
+ *   <li>{@code first_day}: first epoch day covered by the row</li>
+ *   <li>{@code last_day}: last epoch day covered by the row</li>
+ * </ul>
+ *
+ * <p>Being written by triggers, the log catches every write path (repositories, DAOs
+ * used directly, imports, restores) in the same transaction as the write.
+ * {@link DataChangeBus} drains it when the events table is invalidated. Event times
+ * are the epoch seconds of {@code EpochTypeConverters}, as in {@code DaySummaryIndex}.</p>
+ */
+public final class ChangeLog {
+
+    private final String mLogTable;
+    private final String mContentTable;
+
+    /**
+     * @param logTable     Change log table name
+     * @param contentTable Events table with start_time and end_time epoch columns
+     */
+    public ChangeLog(@NonNull String logTable, @NonNull String contentTable) {
+        this.mLogTable = logTable;
+        this.mContentTable = contentTable;
+    }
+
+    @NonNull
+    public String getContentTable() {
+        return mContentTable;
+    }
+
+    // ==================== SCHEMA ====================
+
+    /**
+     * Create the log table and the triggers if missing. Run on every database open:
+     * a destructive migration recreates the events table without the triggers.
+     */
+    public void createTriggers(@NonNull SupportSQLiteDatabase db) {
+        db.execSQL( "CREATE TABLE IF NOT EXISTS `" + mLogTable + "` ("
+                + "`seq` INTEGER PRIMARY KEY AUTOINCREMENT, `first_day` INTEGER, `last_day` INTEGER)" );
+
+        String prefix = "CREATE TRIGGER IF NOT EXISTS change_log_" + mLogTable;
+        db.execSQL( prefix + "_AFTER_INSERT AFTER INSERT ON `" + mContentTable + "`"
+                + " BEGIN " + logDays( "NEW" ) + " END" );
+        db.execSQL( prefix + "_AFTER_UPDATE AFTER UPDATE ON `" + mContentTable + "`"
+                + " BEGIN " + logDays( "OLD" ) + " " + logDays( "NEW" ) + " END" );
+        db.execSQL( prefix + "_AFTER_DELETE AFTER DELETE ON `" + mContentTable + "`"
+                + " BEGIN " + logDays( "OLD" ) + " END" );
+    }
+
+    /**
+     * Drop entries left by a previous process, which nobody is waiting for.
+     */
+    public void clear(@NonNull SupportSQLiteDatabase db) {
+        db.execSQL( "DELETE FROM `" + mLogTable + "`" );
+    }
+
+    // ==================== DRAIN ====================
+
+    /**
+     * Move the logged days into a change and delete them from the log.
+     * Rows without a start time cover every day.
+     *
+     * @param db     Database
+     * @param change Receives the logged days
+     * @return Number of log entries drained
+     */
+    public int drain(@NonNull SupportSQLiteDatabase db, @NonNull DataChange.Builder change) {
+        int count = 0;
+        long lastSeq = -1;
+
+        db.beginTransaction();
+        try {
+            try (Cursor cursor = db.query( "SELECT `seq`, `first_day`, `last_day` FROM `" + mLogTable + "` ORDER BY `seq`" )) {
+                while (cursor.moveToNext()) {
+                    lastSeq = cursor.getLong( 0 );
+                    if (cursor.isNull( 1 )) {
+                        change.addAll();
+                    } else {
+                        long firstDay = cursor.getLong( 1 );
+                        change.addDays( firstDay, cursor.isNull( 2 ) ? firstDay : cursor.getLong( 2 ) );
+                    }
+                    count++;
+                }
+            }
+            if (count > 0) {
+                db.execSQL( "DELETE FROM `" + mLogTable + "` WHERE `seq` <= " + lastSeq );
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+        return count;
+    }
+
+    // ==================== SQL BUILDING ====================
+
+    @NonNull
+    private String logDays(@NonNull String row) {
+        return "INSERT INTO `" + mLogTable + "`(`first_day`, `last_day`) VALUES ("
+                + "(" + row + ".`start_time` / 86400), "
+                + "(COALESCE(" + row + ".`end_time`, " + row + ".`start_time`) / 86400));";
+    }
+}
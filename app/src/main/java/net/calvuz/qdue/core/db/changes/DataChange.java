@@ -0,0 +1,204 @@
+package net.calvuz.qdue.core.db.changes;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * DataChange - Kind and dates of a committed write, as published by {@link DataChangeBus}.
+ *
+ * <p>Dates are held as sorted, disjoint ranges of epoch days, so that a cache keyed by
+ * day or month can drop exactly the entries a write touched. A change whose dates are
+ * unknown (rule, team or configuration changes, bulk deletes of undated rows) covers
+ * every date: {@link #isAll()}.</p>
+ *
+ * <p>Immutable.</p>
+ */
+public final class DataChange {
+
+    /**
+     * Data a change applies to.
+     */
+    public enum Kind {
+        /** Legacy events (QDueDatabase events table) */
+        EVENTS,
+        /** Local events (CalendarDatabase local_events table) */
+        LOCAL_EVENTS,
+        /** Generated work schedules (exceptions, assignments, rules, configuration) */
+        WORK_SCHEDULE
+    }
+
+    private static final long[] NO_DAYS = new long[0];
+
+    private final Kind mKind;
+    private final boolean mAll;
+    private final long[] mFirstDays;
+    private final long[] mLastDays;
+
+    private DataChange(@NonNull Kind kind, boolean all, @NonNull long[] firstDays, @NonNull long[] lastDays) {
+        this.mKind = kind;
+        this.mAll = all;
+        this.mFirstDays = firstDays;
+        this.mLastDays = lastDays;
+    }
+
+    /**
+     * Change covering every date.
+     */
+    @NonNull
+    public static DataChange all(@NonNull Kind kind) {
+        return new DataChange( kind, true, NO_DAYS, NO_DAYS );
+    }
+
+    /**
+     * Change covering a date range.
+     *
+     * @param startDate First date (inclusive)
+     * @param endDate   Last date (inclusive), null for open-ended
+     */
+    @NonNull
+    public static DataChange ofDates(@NonNull Kind kind, @NonNull LocalDate startDate, @Nullable LocalDate endDate) {
+        return new Builder( kind )
+                .addDays( startDate.toEpochDay(), endDate != null ? endDate.toEpochDay() : Long.MAX_VALUE )
+                .build();
+    }
+
+    // ==================== QUERIES ====================
+
+    @NonNull
+    public Kind getKind() {
+        return mKind;
+    }
+
+    /**
+     * @return Whether the change covers every date
+     */
+    public boolean isAll() {
+        return mAll;
+    }
+
+    /**
+     * @return Whether the change covers no date at all
+     */
+    public boolean isEmpty() {
+        return !mAll && mFirstDays.length == 0;
+    }
+
+    public boolean touches(@NonNull LocalDate date) {
+        return touchesDays( date.toEpochDay(), date.toEpochDay() );
+    }
+
+    public boolean touches(@NonNull YearMonth month) {
+        return touchesDays( month.atDay( 1 ).toEpochDay(), month.atEndOfMonth().toEpochDay() );
+    }
+
+    /**
+     * @param startDate First date (inclusive)
+     * @param endDate   Last date (inclusive)
+     * @return Whether the change covers any date of the range
+     */
+    public boolean touches(@NonNull LocalDate startDate, @NonNull LocalDate endDate) {
+        return touchesDays( startDate.toEpochDay(), endDate.toEpochDay() );
+    }
+
+    private boolean touchesDays(long firstDay, long lastDay) {
+        if (mAll) {
+            return true;
+        }
+        // First range ending on or after firstDay
+        int low = 0;
+        int high = mLastDays.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (mLastDays[mid] < firstDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low < mFirstDays.length && mFirstDays[low] <= lastDay;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder( "DataChange{" ).append( mKind );
+        if (mAll) {
+            return text.append( ", all}" ).toString();
+        }
+        for (int i = 0; i < mFirstDays.length; i++) {
+            text.append( i == 0 ? ", " : " " )
+                    .append( LocalDate.ofEpochDay( mFirstDays[i] ) ).append( ".." )
+                    .append( mLastDays[i] == Long.MAX_VALUE ? "" : LocalDate.ofEpochDay( mLastDays[i] ) );
+        }
+        return text.append( '}' ).toString();
+    }
+
+    // ==================== BUILDER ====================
+
+    /**
+     * Accumulates day ranges, merged into disjoint ranges on {@link #build()}.
+     */
+    public static final class Builder {
+
+        private final Kind mKind;
+        private final List<long[]> mRanges = new ArrayList<>();
+        private boolean mAll;
+
+        public Builder(@NonNull Kind kind) {
+            this.mKind = kind;
+        }
+
+        /**
+         * @param firstDay First epoch day (inclusive)
+         * @param lastDay  Last epoch day (inclusive), {@code Long.MAX_VALUE} for open-ended
+         */
+        @NonNull
+        public Builder addDays(long firstDay, long lastDay) {
+            if (!mAll) {
+                mRanges.add( new long[]{Math.min( firstDay, lastDay ), Math.max( firstDay, lastDay )} );
+            }
+            return this;
+        }
+
+        @NonNull
+        public Builder addAll() {
+            mAll = true;
+            mRanges.clear();
+            return this;
+        }
+
+        public boolean isEmpty() {
+            return !mAll && mRanges.isEmpty();
+        }
+
+        @NonNull
+        public DataChange build() {
+            if (mAll) {
+                return all( mKind );
+            }
+            long[][] ranges = mRanges.toArray( new long[0][] );
+            Arrays.sort( ranges, (a, b) -> Long.compare( a[0], b[0] ) );
+
+            long[] firstDays = new long[ranges.length];
+            long[] lastDays = new long[ranges.length];
+            int count = 0;
+            for (long[] range : ranges) {
+                // Adjacent days merge too: (1..3) + (4..5) = (1..5)
+                if (count > 0 && (lastDays[count - 1] == Long.MAX_VALUE || range[0] <= lastDays[count - 1] + 1)) {
+                    lastDays[count - 1] = Math.max( lastDays[count - 1], range[1] );
+                } else {
+                    firstDays[count] = range[0];
+                    lastDays[count] = range[1];
+                    count++;
+                }
+            }
+            return new DataChange( mKind, false, Arrays.copyOf( firstDays, count ), Arrays.copyOf( lastDays, count ) );
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package net.calvuz.qdue.core.db.changes;
+
+import androidx.annotation.NonNull;
+import androidx.room.InvalidationTracker;
+import androidx.room.RoomDatabase;
+
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
+import net.calvuz.qdue.ui.core.common.utils.Log;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataChangeBus - Application-wide notifications of committed writes, with their dates.
+ *
+ * <p>View caches subscribe for the kinds of data they hold and drop only the days or
+ * months a change touches, instead of flushing everything after any edit.</p>
+ *
+ * <h3>Sources</h3>
+ * <ul>
+ *   <li><strong>Events tables</strong>: {@link #watch} observes the table through Room's
+ *       InvalidationTracker and drains its {@link ChangeLog} on the writes lane, so every
+ *       committed transaction is published once with all the days it touched</li>
+ *   <li><strong>Repositories</strong>: {@link #publish} for changes not tied to dated rows,
+ *       such as work schedule invalidations</li>
+ * </ul>
+ *
+ * <p>Thread safe. Listeners run on the executor given at subscription; a listener
+ * unsubscribed before delivery is not called.</p>
+ */
+public final class DataChangeBus {
+
+    private static final String TAG = "DataChangeBus";
+
+    private static volatile DataChangeBus INSTANCE;
+
+    /**
+     * Receives the changes of the subscribed kinds.
+     */
+    public interface Listener {
+        void onDataChanged(@NonNull DataChange change);
+    }
+
+    private static final class Subscription {
+        final Listener listener;
+        final Executor executor;
+        final Set<DataChange.Kind> kinds;
+        volatile boolean active = true;
+
+        Subscription(@NonNull Listener listener, @NonNull Executor executor, @NonNull Set<DataChange.Kind> kinds) {
+            this.listener = listener;
+            this.executor = executor;
+            this.kinds = kinds;
+        }
+    }
+
+    private final List<Subscription> mSubscriptions = new CopyOnWriteArrayList<>();
+
+    // ==================== CONSTRUCTOR ====================
+
+    DataChangeBus() {
+    }
+
+    /**
+     * Get singleton instance with thread-safe initialization.
+     */
+    @NonNull
+    public static DataChangeBus getInstance() {
+        if (INSTANCE == null) {
+            synchronized (DataChangeBus.class) {
+                if (INSTANCE == null) {
+                    INSTANCE = new DataChangeBus();
+                }
+            }
+        }
+        return INSTANCE;
+    }
+
+    // ==================== SUBSCRIPTIONS ====================
+
+    /**
+     * Subscribe to changes of some kinds.
+     *
+     * @param executor Executor of the listener calls (e.g. the main thread)
+     * @param listener Change listener
+     * @param kinds    Kinds of data to receive, all kinds when empty
+     */
+    public void subscribe(@NonNull Executor executor, @NonNull Listener listener, @NonNull DataChange.Kind... kinds) {
+        Set<DataChange.Kind> kindSet = kinds.length == 0
+                ? EnumSet.allOf( DataChange.Kind.class )
+                : EnumSet.of( kinds[0], kinds );
+        mSubscriptions.add( new Subscription( listener, executor, kindSet ) );
+    }
+
+    /**
+     * Remove every subscription of a listener. Pending deliveries are dropped.
+     */
+    public void unsubscribe(@NonNull Listener listener) {
+        for (Subscription subscription : mSubscriptions) {
+            if (subscription.listener == listener) {
+                subscription.active = false;
+                mSubscriptions.remove( subscription );
+            }
+        }
+    }
+
+    // ==================== PUBLISHING ====================
+
+    /**
+     * Deliver a change to the subscribers of its kind. Empty changes are dropped.
+     */
+    public void publish(@NonNull DataChange change) {
+        if (change.isEmpty()) {
+            return;
+        }
+        Log.v( TAG, "Publishing " + change );
+
+        for (Subscription subscription : mSubscriptions) {
+            if (!subscription.kinds.contains( change.getKind() )) {
+                continue;
+            }
+            subscription.executor.execute( () -> {
+                if (subscription.active) {
+                    subscription.listener.onDataChanged( change );
+                }
+            } );
+        }
+    }
+
+    /**
+     * Publish the changes of an events table, read from its change log after each
+     * invalidation. Call once per database instance.
+     *
+     * @param database Database holding the table and its change log
+     * @param log      Change log of the table
+     * @param kind     Kind of the published changes
+     */
+    public void watch(@NonNull RoomDatabase database, @NonNull ChangeLog log, @NonNull DataChange.Kind kind) {
+        AtomicBoolean drainPending = new AtomicBoolean( false );
+
+        database.getInvalidationTracker().addObserver( new InvalidationTracker.Observer( log.getContentTable() ) {
+            @Override
+            public void onInvalidated(@NonNull Set<String> tables) {
+                // One drain collects everything logged so far
+                if (!drainPending.compareAndSet( false, true )) {
+                    return;
+                }
+                AppExecutors.getInstance().writes().execute( () -> {
+                    drainPending.set( false );
+                    drainAndPublish( database, log, kind );
+                } );
+            }
+        } );
+        Log.d( TAG, "Watching " + log.getContentTable() + " as " + kind );
+    }
+
+    private void drainAndPublish(@NonNull RoomDatabase database, @NonNull ChangeLog log, @NonNull DataChange.Kind kind) {
+        try {
+            DataChange.Builder change = new DataChange.Builder( kind );
+            int entries = log.drain( database.getOpenHelper().getWritableDatabase(), change );
+            if (entries > 0) {
+                publish( change.build() );
+            }
+        } catch (Exception e) {
+            // Without the days, everything of this kind may have changed
+            Log.e( TAG, "Error draining change log of " + log.getContentTable(), e );
+            publish( DataChange.all( kind ) );
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package net.calvuz.qdue.core.db.converters;
+
+import androidx.annotation.Nullable;
+import androidx.room.TypeConverter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Room TypeConverters storing temporal values as INTEGER epoch numbers.
+ * <p>
+ * Applied on the events, local_events and turn_exceptions entities and their DAOs
+ * (entity and DAO scope override the ISO string converters of {@link QDueTypeConverters}):
+ * - LocalDateTime: seconds since 1970-01-01T00:00 of the wall-clock time (no zone shift,
+ *   sub-second precision is dropped)
+ * - LocalDate: days since 1970-01-01
+ * <p>
+ * Integer columns decode without parsing, compare numerically and keep range predicates
+ * on start_time and date index-friendly.
+ */
+public class EpochTypeConverters {
+
+    // ==================== LocalDateTime Converters ====================
+
+    /**
+     * Convert LocalDateTime to epoch seconds for database storage.
+     * @param dateTime LocalDateTime to convert
+     * @return Epoch seconds or null
+     */
+    @TypeConverter
+    @Nullable
+    public static Long fromLocalDateTime(@Nullable LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toEpochSecond(ZoneOffset.UTC) : null;
+    }
+
+    /**
+     * Convert epoch seconds back to LocalDateTime from database.
+     * @param epochSeconds Epoch seconds
+     * @return LocalDateTime object or null
+     */
+    @TypeConverter
+    @Nullable
+    public static LocalDateTime toLocalDateTime(@Nullable Long epochSeconds) {
+        return epochSeconds != null ? LocalDateTime.ofEpochSecond(epochSeconds, 0, ZoneOffset.UTC) : null;
+    }
+
+    // ==================== LocalDate Converters ====================
+
+    /**
+     * Convert LocalDate to epoch day for database storage.
+     * @param date LocalDate to convert
+     * @return Epoch day or null
+     */
+    @TypeConverter
+    @Nullable
+    public static Long fromLocalDate(@Nullable LocalDate date) {
+        return date != null ? date.toEpochDay() : null;
+    }
+
+    /**
+     * Convert epoch day back to LocalDate from database.
+     * @param epochDay Epoch day
+     * @return LocalDate object or null
+     */
+    @TypeConverter
+    @Nullable
+    public static LocalDate toLocalDate(@Nullable Long epochDay) {
+        return epochDay != null ? LocalDate.ofEpochDay(epochDay) : null;
+    }
+
+    // ==================== Migration SQL ====================
+
+    /**
+     * SQL expression converting an ISO date-time column (as written by
+     * {@link QDueTypeConverters}) to epoch seconds; NULL if unparseable.
+     */
+    public static String epochSecondsSql(String column) {
+        return "CAST(strftime('%s', " + column + ") AS INTEGER)";
+    }
+
+    /**
+     * SQL expression converting an ISO date column to epoch day; NULL if unparseable.
+     */
+    public static String epochDaySql(String column) {
+        return "CAST(julianday(" + column + ") - 2440587.5 AS INTEGER)";
+    }
+}
@@ -0,0 +1,223 @@
+package net.calvuz.qdue.core.db.paging;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * KeysetPager - Loads an ordered query one page at a time.
+ *
+ * <p>Pages are keyed on the last row already loaded (keyset pagination): the loader
+ * returns the rows ordered after it, so every page is an index seek whatever its depth,
+ * where OFFSET would scan and discard all the rows before it. The loader is asked for
+ * one row more than the page size; the extra row only tells whether another page exists.</p>
+ *
+ * <h3>Prefetch</h3>
+ * <p>{@link #onItemVisible(int, int)} loads the next page as soon as the visible position
+ * gets within the prefetch distance of the end of the loaded rows, so that scrolling
+ * rarely reaches it.</p>
+ *
+ * <h3>Queries</h3>
+ * <p>{@link #reset(PageLoader)} starts a new query (first load, refresh, filter change).
+ * Pages still loading for the previous query are dropped when they complete.</p>
+ *
+ * <p>Thread safe. Listener callbacks run on the callback executor.</p>
+ *
+ * @param <T> Row type
+ */
+public final class KeysetPager<T> {
+
+    /**
+     * Loads the rows following a key row, in query order.
+     */
+    public interface PageLoader<T> {
+
+        /**
+         * @param last  Last row of the previous page, null for the first page
+         * @param limit Maximum number of rows to return
+         * @return Future of the rows ordered after {@code last}
+         */
+        @NonNull
+        CompletableFuture<List<T>> loadPage(@Nullable T last, int limit);
+    }
+
+    /**
+     * Receives the pages of the current query, in order.
+     */
+    public interface Listener<T> {
+
+        /**
+         * @param page      Rows of the page, possibly empty
+         * @param firstPage Whether this is the first page of a new query
+         * @param hasMore   Whether more rows follow
+         */
+        void onPageLoaded(@NonNull List<T> page, boolean firstPage, boolean hasMore);
+
+        /**
+         * @param error     Load failure; the page is loaded again on the next request
+         * @param firstPage Whether the first page of a new query failed
+         */
+        void onPageFailed(@NonNull Throwable error, boolean firstPage);
+    }
+
+    private final int mPageSize;
+    private final int mPrefetchDistance;
+    private final Executor mCallbackExecutor;
+    private final Listener<T> mListener;
+
+    // ==================== QUERY STATE (guarded by this) ====================
+
+    private PageLoader<T> mLoader;
+    private int mGeneration;
+    private T mLast;
+    private boolean mLoading;
+    private boolean mHasMore;
+
+    /**
+     * @param pageSize         Rows per page
+     * @param prefetchDistance Rows left below the visible position that trigger the next page
+     * @param callbackExecutor Executor of listener callbacks (e.g. the main thread)
+     * @param listener         Page listener
+     */
+    public KeysetPager(int pageSize, int prefetchDistance,
+                       @NonNull Executor callbackExecutor, @NonNull Listener<T> listener) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException( "pageSize must be > 0: " + pageSize );
+        }
+        mPageSize = pageSize;
+        mPrefetchDistance = Math.max( 0, prefetchDistance );
+        mCallbackExecutor = callbackExecutor;
+        mListener = listener;
+    }
+
+    // ==================== PUBLIC API ====================
+
+    /**
+     * Start a new query and load its first page.
+     *
+     * @param loader Page loader of the new query
+     */
+    public void reset(@NonNull PageLoader<T> loader) {
+        synchronized (this) {
+            mLoader = loader;
+            mGeneration++;
+            mLast = null;
+            mLoading = false;
+            mHasMore = true;
+        }
+        loadNextPage();
+    }
+
+    /**
+     * Load the next page, unless one is loading or the query is exhausted.
+     */
+    public void loadNextPage() {
+        PageLoader<T> loader;
+        T last;
+        int generation;
+        synchronized (this) {
+            if (mLoader == null || mLoading || !mHasMore) {
+                return;
+            }
+            mLoading = true;
+            loader = mLoader;
+            last = mLast;
+            generation = mGeneration;
+        }
+
+        CompletableFuture<List<T>> future;
+        try {
+            future = loader.loadPage( last, mPageSize + 1 );
+        } catch (RuntimeException e) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally( e );
+        }
+        boolean firstPage = last == null;
+        future.whenComplete( (rows, error) -> onPageResult( generation, firstPage, rows, error ) );
+    }
+
+    /**
+     * Prefetch hook for scroll listeners and adapters.
+     *
+     * @param position  Last visible position
+     * @param itemCount Rows currently shown
+     */
+    public void onItemVisible(int position, int itemCount) {
+        if (position >= itemCount - 1 - mPrefetchDistance) {
+            loadNextPage();
+        }
+    }
+
+    /**
+     * Stop the current query; loads in progress are dropped.
+     */
+    public synchronized void cancel() {
+        mLoader = null;
+        mGeneration++;
+        mLoading = false;
+    }
+
+    public synchronized boolean isLoading() {
+        return mLoading;
+    }
+
+    public synchronized boolean hasMore() {
+        return mLoader != null && mHasMore;
+    }
+
+    public int getPageSize() {
+        return mPageSize;
+    }
+
+    // ==================== INTERNAL ====================
+
+    private void onPageResult(int generation, boolean firstPage, @Nullable List<T> rows, @Nullable Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                ? error.getCause() : error;
+        List<T> page;
+        boolean hasMore;
+
+        synchronized (this) {
+            if (generation != mGeneration) {
+                // Superseded by reset() or cancel()
+                return;
+            }
+            mLoading = false;
+
+            if (cause != null || rows == null) {
+                if (cause instanceof CancellationException) {
+                    return;
+                }
+                page = null;
+                hasMore = mHasMore;
+            } else {
+                hasMore = rows.size() > mPageSize;
+                page = hasMore ? new ArrayList<>( rows.subList( 0, mPageSize ) ) : rows;
+                if (!page.isEmpty()) {
+                    mLast = page.get( page.size() - 1 );
+                }
+                mHasMore = hasMore;
+            }
+        }
+
+        Throwable failure = cause != null ? cause : new IllegalStateException( "Page loader returned null" );
+        mCallbackExecutor.execute( () -> {
+            synchronized (this) {
+                if (generation != mGeneration) {
+                    return;
+                }
+            }
+            if (page != null) {
+                mListener.onPageLoaded( page, firstPage, hasMore );
+            } else {
+                mListener.onPageFailed( failure, firstPage );
+            }
+        } );
+    }
+}
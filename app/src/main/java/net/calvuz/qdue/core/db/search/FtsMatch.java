@@ -0,0 +1,18 @@
+package net.calvuz.qdue.core.db.search;
+
+import androidx.room.ColumnInfo;
+
+/**
+ * FtsMatch - One full-text match: the id of the content row and the
+ * FTS4 {@code matchinfo(..., 'pcnx')} blob used to rank it.
+ *
+ * @see FtsSearch
+ */
+public class FtsMatch {
+
+    @ColumnInfo (name = "id")
+    public String id;
+
+    @ColumnInfo (name = "match_info")
+    public byte[] matchInfo;
+}
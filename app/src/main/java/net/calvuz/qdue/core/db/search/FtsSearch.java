@@ -0,0 +1,225 @@
+package net.calvuz.qdue.core.db.search;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * FtsSearch - Query building and ranking for the FTS4 event search tables.
+ *
+ * <p>The events and local_events tables have external-content FTS4 shadow tables
+ * over title, description and location, kept in sync by triggers. A search runs in
+ * two steps so only the returned rows are materialized:</p>
+ * <ol>
+ *   <li>Match: id and {@code matchinfo(fts, 'pcnx')} of every matching row</li>
+ *   <li>Load: the top ranked rows by id</li>
+ * </ol>
+ *
+ * <h3>Query Syntax</h3>
+ * <p>User input is split into words; each word becomes a prefix term and all terms
+ * must match ({@code "turno nott"} → {@code turno* nott*}). FTS operators and quotes
+ * in the input are treated as plain text.</p>
+ *
+ * <h3>Ranking</h3>
+ * <p>BM25-like score from matchinfo: per term and column, a saturating term
+ * frequency weighted by the term's inverse document frequency and by the column
+ * weight (title hits count more than description or location hits).</p>
+ */
+public final class FtsSearch {
+
+    // Column order of the FTS tables: title, description, location
+    public static final String COLUMN_TITLE = "title";
+    public static final String COLUMN_DESCRIPTION = "description";
+    private static final double[] COLUMN_WEIGHTS = {3.0, 1.0, 1.5};
+
+    // Term frequency saturation (BM25 k1)
+    private static final double TF_SATURATION = 1.2;
+
+    // Rows loaded by a search; also keeps the id IN (...) list under SQLite's variable limit
+    public static final int DEFAULT_RESULT_LIMIT = 200;
+
+    private FtsSearch() {
+    }
+
+    // ==================== SCHEMA ====================
+
+    /**
+     * Create an external-content FTS4 index and its sync triggers, then index the
+     * existing rows. Statements match the ones Room generates for an {@code @Fts4}
+     * entity, so migrated and freshly created databases have the same schema.
+     *
+     * @param db           Database being migrated
+     * @param ftsTable     FTS table name
+     * @param contentTable Content table with title, description and location columns
+     */
+    public static void createIndex(@NonNull SupportSQLiteDatabase db,
+                                   @NonNull String ftsTable, @NonNull String contentTable) {
+        db.execSQL( "CREATE VIRTUAL TABLE IF NOT EXISTS `" + ftsTable + "` USING FTS4("
+                + "`title` TEXT, `description` TEXT, `location` TEXT, "
+                + "tokenize=unicode61, content=`" + contentTable + "`)" );
+
+        String prefix = "CREATE TRIGGER IF NOT EXISTS room_fts_content_sync_" + ftsTable;
+        String deleteOld = " BEGIN DELETE FROM `" + ftsTable + "` WHERE `docid`=OLD.`rowid`; END";
+        String insertNew = " BEGIN INSERT INTO `" + ftsTable + "`(`docid`, `title`, `description`, `location`) "
+                + "VALUES (NEW.`rowid`, NEW.`title`, NEW.`description`, NEW.`location`); END";
+
+        db.execSQL( prefix + "_BEFORE_UPDATE BEFORE UPDATE ON `" + contentTable + "`" + deleteOld );
+        db.execSQL( prefix + "_BEFORE_DELETE BEFORE DELETE ON `" + contentTable + "`" + deleteOld );
+        db.execSQL( prefix + "_AFTER_UPDATE AFTER UPDATE ON `" + contentTable + "`" + insertNew );
+        db.execSQL( prefix + "_AFTER_INSERT AFTER INSERT ON `" + contentTable + "`" + insertNew );
+
+        db.execSQL( "INSERT INTO `" + ftsTable + "`(`" + ftsTable + "`) VALUES('rebuild')" );
+    }
+
+    // ==================== QUERY BUILDING ====================
+
+    /**
+     * Build an FTS4 MATCH expression with prefix terms over all columns.
+     *
+     * @param userQuery Raw search text
+     * @return MATCH expression, or null if the text has no searchable words
+     */
+    @Nullable
+    public static String prefixQuery(@NonNull String userQuery) {
+        return prefixQuery( userQuery, null );
+    }
+
+    /**
+     * Build an FTS4 MATCH expression with prefix terms, optionally restricted to one column.
+     *
+     * @param userQuery Raw search text
+     * @param column    Column to search, or null for all columns
+     * @return MATCH expression, or null if the text has no searchable words
+     */
+    @Nullable
+    public static String prefixQuery(@NonNull String userQuery, @Nullable String column) {
+        StringBuilder match = new StringBuilder();
+        StringBuilder word = new StringBuilder();
+        String text = userQuery.toLowerCase( Locale.ROOT );
+
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt( i ) : ' ';
+            if (Character.isLetterOrDigit( c )) {
+                word.append( c );
+            } else if (word.length() > 0) {
+                if (match.length() > 0) {
+                    match.append( ' ' );
+                }
+                if (column != null) {
+                    match.append( column ).append( ':' );
+                }
+                match.append( word ).append( '*' );
+                word.setLength( 0 );
+            }
+        }
+        return match.length() > 0 ? match.toString() : null;
+    }
+
+    // ==================== RANKING ====================
+
+    /**
+     * Rank matches by score, best first.
+     *
+     * @param matches Matches with their matchinfo blobs
+     * @param limit   Maximum number of ids to return
+     * @return Ids of the best matches, best first
+     */
+    @NonNull
+    public static List<String> rankIds(@NonNull List<FtsMatch> matches, int limit) {
+        if (matches.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        List<FtsMatch> ranked = new ArrayList<>( matches );
+        Map<FtsMatch, Double> scores = new HashMap<>( ranked.size() * 2 );
+        for (FtsMatch match : ranked) {
+            scores.put( match, score( match.matchInfo ) );
+        }
+        // Stable sort: equal scores keep the table order
+        ranked.sort( (a, b) -> Double.compare( scores.get( b ), scores.get( a ) ) );
+
+        int count = Math.min( limit, ranked.size() );
+        List<String> ids = new ArrayList<>( count );
+        for (int i = 0; i < count; i++) {
+            ids.add( ranked.get( i ).id );
+        }
+        return ids;
+    }
+
+    /**
+     * Order loaded rows as the ranked ids.
+     *
+     * @param ids   Ranked ids
+     * @param rows  Rows loaded by id, in any order
+     * @param idOf  Id of a loaded row
+     * @return Rows in rank order
+     */
+    @NonNull
+    public static <T> List<T> inRankOrder(@NonNull List<String> ids, @NonNull List<T> rows,
+                                          @NonNull Function<T, String> idOf) {
+        Map<String, T> byId = new HashMap<>( rows.size() * 2 );
+        for (T row : rows) {
+            byId.put( idOf.apply( row ), row );
+        }
+
+        List<T> ordered = new ArrayList<>( rows.size() );
+        for (String id : ids) {
+            T row = byId.get( id );
+            if (row != null) {
+                ordered.add( row );
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Score one match from its {@code matchinfo(fts, 'pcnx')} blob.
+     *
+     * <p>Layout (native-order 32-bit ints): p = terms, c = columns, n = rows in the
+     * table, then per term and column: hits in this row, hits in all rows, rows with hits.</p>
+     *
+     * @param matchInfo matchinfo blob
+     * @return Relevance score, higher is better
+     */
+    public static double score(@Nullable byte[] matchInfo) {
+        if (matchInfo == null || matchInfo.length < 12) {
+            return 0.0;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap( matchInfo ).order( ByteOrder.nativeOrder() );
+        int terms = buffer.getInt( 0 );
+        int columns = buffer.getInt( 4 );
+        long rows = buffer.getInt( 8 ) & 0xFFFFFFFFL;
+        if (matchInfo.length < 12 + terms * columns * 12) {
+            return 0.0;
+        }
+
+        double score = 0.0;
+        for (int term = 0; term < terms; term++) {
+            for (int column = 0; column < columns; column++) {
+                int offset = 12 + (term * columns + column) * 12;
+                int hitsInRow = buffer.getInt( offset );
+                if (hitsInRow == 0) {
+                    continue;
+                }
+                int rowsWithHits = buffer.getInt( offset + 8 );
+
+                double idf = Math.log( 1.0 + (rows - rowsWithHits + 0.5) / (rowsWithHits + 0.5) );
+                double tf = hitsInRow * (TF_SATURATION + 1.0) / (hitsInRow + TF_SATURATION);
+                double weight = column < COLUMN_WEIGHTS.length ? COLUMN_WEIGHTS[column] : 1.0;
+                score += weight * idf * tf;
+            }
+        }
+        return score;
+    }
+}
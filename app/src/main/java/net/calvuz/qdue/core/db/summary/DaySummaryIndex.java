@@ -0,0 +1,246 @@
+package net.calvuz.qdue.core.db.summary;
+
+import android.database.Cursor;
+
+import androidx.annotation.NonNull;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * DaySummaryIndex - Per-day aggregate of an events table, maintained by triggers.
+ *
+ * <p>Calendar grids only need, per day, how many events there are, the highest
+ * priority, which event types occur and whether an all-day event is present. The
+ * summary table holds exactly that, one row per day with events:</p>
+ * <ul>
+ *   <li>{@code day}: epoch day</li>
+ *   <li>{@code event_count}: events covering the day</li>
+ *   <li>{@code max_priority}: highest priority, as ordinal + 1 of the priority enum</li>
+ *   <li>{@code type_mask}: bit {@code ordinal} set for every event type present</li>
+ *   <li>{@code has_all_day}: 1 if an all-day event covers the day</li>
+ * </ul>
+ *
+ * <h3>Maintenance</h3>
+ * <p>Triggers on the events table recompute the days covered by the inserted,
+ * updated or deleted row from the events table itself, so the summary never drifts.
+ * Days are expanded through the static {@code day_offsets} table (CTEs are not
+ * allowed in trigger bodies); like the legacy grouping, events count on at most
+ * {@value #MAX_SPAN_DAYS} days after their start day. The same cap bounds the
+ * start time seek of a day, so a write reads only the events starting up to
+ * {@value #MAX_SPAN_DAYS} days before the days it refreshes.</p>
+ *
+ * <p>Event times are the epoch seconds of {@code EpochTypeConverters}, so the
+ * day of a time is {@code time / 86400}. Enum names are mapped to bits and ranks
+ * when the triggers are created: reordering the enums needs a migration that
+ * drops and recreates the triggers and rebuilds the table.</p>
+ */
+public final class DaySummaryIndex {
+
+    public static final int MAX_SPAN_DAYS = 366;
+
+    private static final String OFFSETS_TABLE = "day_offsets";
+    private static final String[] TRIGGER_EVENTS = {"INSERT", "UPDATE", "DELETE"};
+    private static final String SUMMARY_COLUMNS = "`day`, `event_count`, `max_priority`, `type_mask`, `has_all_day`";
+
+    private final String mSummaryTable;
+    private final String mContentTable;
+    private final String mTypeColumn;
+    private final Enum<?>[] mTypes;
+    private final Enum<?> mFallbackType;
+    private final String mPriorityColumn;
+    private final Enum<?>[] mPriorities;
+    private final Enum<?> mFallbackPriority;
+    private final String mAllDayColumn;
+
+    /**
+     * @param summaryTable     Summary table name
+     * @param contentTable     Events table with start_time and end_time epoch columns
+     * @param typeColumn       Event type column (enum name)
+     * @param types            Event type values, in ordinal order
+     * @param fallbackType     Type of unknown or null names (as the type converter)
+     * @param priorityColumn   Priority column (enum name)
+     * @param priorities       Priority values, lowest first
+     * @param fallbackPriority Priority of unknown or null names (as the type converter)
+     * @param allDayColumn     All-day flag column
+     */
+    public DaySummaryIndex(@NonNull String summaryTable, @NonNull String contentTable,
+                           @NonNull String typeColumn, @NonNull Enum<?>[] types, @NonNull Enum<?> fallbackType,
+                           @NonNull String priorityColumn, @NonNull Enum<?>[] priorities,
+                           @NonNull Enum<?> fallbackPriority, @NonNull String allDayColumn) {
+        if (types.length > Long.SIZE) {
+            throw new IllegalArgumentException( "Too many event types for a 64-bit mask: " + types.length );
+        }
+        this.mSummaryTable = summaryTable;
+        this.mContentTable = contentTable;
+        this.mTypeColumn = typeColumn;
+        this.mTypes = types;
+        this.mFallbackType = fallbackType;
+        this.mPriorityColumn = priorityColumn;
+        this.mPriorities = priorities;
+        this.mFallbackPriority = fallbackPriority;
+        this.mAllDayColumn = allDayColumn;
+    }
+
+    // ==================== SCHEMA ====================
+
+    /**
+     * Create the summary table as Room declares it. Only needed by migrations:
+     * on fresh databases Room creates the table from its entity.
+     */
+    public void createTable(@NonNull SupportSQLiteDatabase db) {
+        db.execSQL( tableStatement() );
+    }
+
+    /**
+     * Create the day offsets table and the sync triggers, then rebuild the summary
+     * from the existing events. Safe to run on every database creation.
+     */
+    public void createTriggers(@NonNull SupportSQLiteDatabase db) {
+        for (String statement : triggerStatements()) {
+            db.execSQL( statement );
+        }
+        rebuild( db );
+    }
+
+    /**
+     * Create the sync triggers and rebuild the summary if any trigger is missing.
+     * Run on every database open: a destructive migration recreates the events table
+     * without them.
+     * @return true if the triggers were recreated
+     */
+    public boolean ensureTriggers(@NonNull SupportSQLiteDatabase db) {
+        try (Cursor cursor = db.query( triggerCountStatement() )) {
+            if (cursor.moveToFirst() && cursor.getInt( 0 ) == TRIGGER_EVENTS.length) {
+                return false;
+            }
+        }
+        dropTriggers( db );
+        createTriggers( db );
+        return true;
+    }
+
+    /**
+     * Drop the sync triggers, so that a migration can recreate them with a new body.
+     */
+    public void dropTriggers(@NonNull SupportSQLiteDatabase db) {
+        for (String event : TRIGGER_EVENTS) {
+            db.execSQL( "DROP TRIGGER IF EXISTS " + triggerName( event ) );
+        }
+    }
+
+    /**
+     * Recompute the whole summary from the events table.
+     */
+    public void rebuild(@NonNull SupportSQLiteDatabase db) {
+        for (String statement : rebuildStatements()) {
+            db.execSQL( statement );
+        }
+    }
+
+    // ==================== SQL BUILDING ====================
+
+    @NonNull
+    String tableStatement() {
+        return "CREATE TABLE IF NOT EXISTS `" + mSummaryTable + "` (`day` INTEGER NOT NULL, "
+                + "`event_count` INTEGER NOT NULL, `max_priority` INTEGER NOT NULL, "
+                + "`type_mask` INTEGER NOT NULL, `has_all_day` INTEGER NOT NULL, PRIMARY KEY(`day`))";
+    }
+
+    @NonNull
+    List<String> triggerStatements() {
+        String prefix = "CREATE TRIGGER IF NOT EXISTS ";
+        return Arrays.asList(
+                "CREATE TABLE IF NOT EXISTS `" + OFFSETS_TABLE + "` (`n` INTEGER NOT NULL, PRIMARY KEY(`n`))",
+                "INSERT OR IGNORE INTO `" + OFFSETS_TABLE + "`(`n`) "
+                        + "WITH RECURSIVE `o`(`n`) AS (SELECT 0 UNION ALL SELECT `n` + 1 FROM `o` WHERE `n` < "
+                        + MAX_SPAN_DAYS + ") SELECT `n` FROM `o`",
+                prefix + triggerName( "INSERT" ) + " AFTER INSERT ON `" + mContentTable + "`"
+                        + " BEGIN " + refreshDays( "NEW" ) + " END",
+                prefix + triggerName( "UPDATE" ) + " AFTER UPDATE OF `start_time`, `end_time`, `" + mTypeColumn + "`, `"
+                        + mPriorityColumn + "`, `" + mAllDayColumn + "` ON `" + mContentTable + "`"
+                        + " BEGIN " + refreshDays( "OLD" ) + " " + refreshDays( "NEW" ) + " END",
+                prefix + triggerName( "DELETE" ) + " AFTER DELETE ON `" + mContentTable + "`"
+                        + " BEGIN " + refreshDays( "OLD" ) + " END" );
+    }
+
+    @NonNull
+    String triggerCountStatement() {
+        StringBuilder sql = new StringBuilder( "SELECT COUNT(*) FROM sqlite_master WHERE type = 'trigger' AND name IN (" );
+        for (int i = 0; i < TRIGGER_EVENTS.length; i++) {
+            sql.append( i > 0 ? ", '" : "'" ).append( triggerName( TRIGGER_EVENTS[i] ) ).append( '\'' );
+        }
+        return sql.append( ')' ).toString();
+    }
+
+    @NonNull
+    List<String> rebuildStatements() {
+        return Arrays.asList(
+                "DELETE FROM `" + mSummaryTable + "`",
+                "INSERT INTO `" + mSummaryTable + "`(" + SUMMARY_COLUMNS + ") "
+                        + "SELECT " + startDay( "`e`" ) + " + `o`.`n` AS `day`, " + aggregates() + " "
+                        + "FROM `" + mContentTable + "` AS `e` JOIN `" + OFFSETS_TABLE + "` AS `o` "
+                        + "ON `o`.`n` <= " + endDay( "`e`" ) + " - " + startDay( "`e`" ) + " "
+                        + "GROUP BY `day`" );
+    }
+
+    @NonNull
+    private String triggerName(@NonNull String event) {
+        return "day_summary_sync_" + mSummaryTable + "_AFTER_" + event;
+    }
+
+    /**
+     * Trigger statements replacing the summary rows of the days covered by a row.
+     * Events of a day start at most {@value #MAX_SPAN_DAYS} days before it, which
+     * bounds the start time seek on both sides.
+     */
+    @NonNull
+    private String refreshDays(@NonNull String row) {
+        return "DELETE FROM `" + mSummaryTable + "` WHERE `day` BETWEEN " + startDay( row ) + " AND " + endDay( row ) + "; "
+                + "INSERT INTO `" + mSummaryTable + "`(" + SUMMARY_COLUMNS + ") "
+                + "SELECT `d`.`day`, " + aggregates() + " "
+                + "FROM (SELECT " + startDay( row ) + " + `n` AS `day` FROM `" + OFFSETS_TABLE + "` "
+                + "WHERE `n` <= " + endDay( row ) + " - " + startDay( row ) + ") AS `d` "
+                + "JOIN `" + mContentTable + "` AS `e` ON `e`.`start_time` < (`d`.`day` + 1) * 86400 "
+                + "AND `e`.`start_time` >= (`d`.`day` - " + MAX_SPAN_DAYS + ") * 86400 "
+                + "AND COALESCE(`e`.`end_time`, `e`.`start_time`) >= `d`.`day` * 86400 "
+                + "GROUP BY `d`.`day`;";
+    }
+
+    /**
+     * Aggregates over the events {@code e} of a day. Distinct powers of two sum to their OR.
+     */
+    @NonNull
+    private String aggregates() {
+        return "COUNT(*), MAX(" + priorityRank() + "), SUM(DISTINCT " + typeBit() + "), MAX(`e`.`" + mAllDayColumn + "`)";
+    }
+
+    @NonNull
+    private String typeBit() {
+        StringBuilder sql = new StringBuilder( "(CASE `e`.`" ).append( mTypeColumn ).append( '`' );
+        for (Enum<?> type : mTypes) {
+            sql.append( " WHEN '" ).append( type.name() ).append( "' THEN " ).append( 1L << type.ordinal() );
+        }
+        return sql.append( " ELSE " ).append( 1L << mFallbackType.ordinal() ).append( " END)" ).toString();
+    }
+
+    @NonNull
+    private String priorityRank() {
+        StringBuilder sql = new StringBuilder( "(CASE `e`.`" ).append( mPriorityColumn ).append( '`' );
+        for (Enum<?> priority : mPriorities) {
+            sql.append( " WHEN '" ).append( priority.name() ).append( "' THEN " ).append( priority.ordinal() + 1 );
+        }
+        return sql.append( " ELSE " ).append( mFallbackPriority.ordinal() + 1 ).append( " END)" ).toString();
+    }
+
+    @NonNull
+    private static String startDay(@NonNull String row) {
+        return "(" + row + ".`start_time` / 86400)";
+    }
+
+    @NonNull
+    private static String endDay(@NonNull String row) {
+        return "(COALESCE(" + row + ".`end_time`, " + row + ".`start_time`) / 86400)";
+    }
+}
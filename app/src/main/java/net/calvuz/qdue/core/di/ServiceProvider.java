@@ -1,5 +1,6 @@
 package net.calvuz.qdue.core.di;
 
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.common.i18n.LocaleManager;
 import net.calvuz.qdue.core.services.CalendarService;
 import net.calvuz.qdue.core.services.EventsService;
@@ -76,6 +77,14 @@ public interface ServiceProvider {
      */
     CoreBackupManager getCoreBackupManager();
 
+    /**
+     * Get the application-wide task lanes (reads, writes, bulk, compute).
+     *
+     * <p>Lanes are shared by all services and repositories and live as long as
+     * the process; they are not affected by {@link #shutdownServices()}.</p>
+     */
+    AppExecutors getAppExecutors();
+
     /**
      * Get CalendarServiceProvider for domain-specific calendar services.
      *
@@ -4,6 +4,7 @@ import android.content.Context;
 
 import androidx.annotation.NonNull;
 
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.common.i18n.LocaleManager;
 import net.calvuz.qdue.core.common.i18n.impl.DomainLocalizerImpl;
 import net.calvuz.qdue.core.db.CalendarDatabase;
@@ -166,6 +167,7 @@ public class ServiceProviderImpl implements ServiceProvider
             }
 
             Log.d( TAG, "Shutting down services..." );
+            AppExecutors.getInstance().logMetrics();
 
             try {
                 // Shutdown services in reverse dependency order
@@ -398,6 +400,12 @@ public class ServiceProviderImpl implements ServiceProvider
         return mCoreBackupManager;
     }
 
+    @Override
+    @NonNull
+    public AppExecutors getAppExecutors() {
+        return AppExecutors.getInstance();
+    }
+
     // ==================== INFRASTRUCTURE ACCESS ====================
 
     /**
@@ -5,6 +5,7 @@ import android.content.Context;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.services.CalendarService;
 import net.calvuz.qdue.core.services.models.OperationResult;
 import net.calvuz.qdue.data.di.CalendarServiceProvider;
@@ -31,8 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 
 /**
  * CalendarServiceImpl - Clean Architecture Application Service Implementation
@@ -84,7 +84,8 @@ public class CalendarServiceImpl implements CalendarService {
 
     // ==================== THREADING AND PERFORMANCE ====================
 
-    private final ExecutorService mExecutorService;
+    private final Executor mExecutor;
+    private final Executor mWriteExecutor;
     private final Map<String, Object> mCache;
 
     // ==================== STATE MANAGEMENT ====================
@@ -110,11 +111,8 @@ public class CalendarServiceImpl implements CalendarService {
         this.mCalendarServiceProvider = calendarServiceProvider;
 
         // Initialize performance infrastructure
-        this.mExecutorService = Executors.newFixedThreadPool( 4, r -> {
-            Thread thread = new Thread( r, "CalendarService-" + Thread.currentThread().getId() );
-            thread.setDaemon( true );
-            return thread;
-        } );
+        this.mExecutor = AppExecutors.getInstance().reads();
+        this.mWriteExecutor = AppExecutors.getInstance().writes();
 
         this.mCache = new ConcurrentHashMap<>();
 
@@ -161,10 +159,6 @@ public class CalendarServiceImpl implements CalendarService {
 
         clearScheduleCache();
 
-        if (mExecutorService != null && !mExecutorService.isShutdown()) {
-            mExecutorService.shutdown();
-        }
-
         // Cleanup domain services
         mCalendarServiceProvider.shutdownCalendarServices();
 
@@ -199,7 +193,7 @@ public class CalendarServiceImpl implements CalendarService {
                 Log.e( TAG, "Error getting all recurrence rules", e );
                 return OperationResult.failure( "Failed to get recurrence rules: " + e.getMessage(), OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ============================ PROVIDER ============================
@@ -246,7 +240,7 @@ public class CalendarServiceImpl implements CalendarService {
                 return OperationResult.failure( "Failed to get calendar events: " + e.getMessage(),
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -289,7 +283,7 @@ public class CalendarServiceImpl implements CalendarService {
                 return OperationResult.failure( "Failed to get team calendar events: " + e.getMessage(),
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== TEAM MANAGEMENT ====================
@@ -317,7 +311,7 @@ public class CalendarServiceImpl implements CalendarService {
                 return OperationResult.failure( "Failed to get teams: " + e.getMessage(),
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -356,7 +350,7 @@ public class CalendarServiceImpl implements CalendarService {
                 return OperationResult.failure( "Failed to get team: " + e.getMessage(),
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -395,7 +389,7 @@ public class CalendarServiceImpl implements CalendarService {
                 return OperationResult.failure( "Failed to get team for user: " + e.getMessage(),
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== SHIFT TEMPLATES MANAGEMENT ====================
@@ -423,7 +417,7 @@ public class CalendarServiceImpl implements CalendarService {
                 return OperationResult.failure( "Failed to get shift templates: " + e.getMessage(),
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -462,7 +456,7 @@ public class CalendarServiceImpl implements CalendarService {
                 return OperationResult.failure( "Failed to get shift template: " + e.getMessage(),
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== USER ASSIGNMENT MANAGEMENT ====================
@@ -497,7 +491,7 @@ public class CalendarServiceImpl implements CalendarService {
                 return OperationResult.failure( "Failed to get user assignment: " + e.getMessage(),
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -537,7 +531,7 @@ public class CalendarServiceImpl implements CalendarService {
                 return OperationResult.failure( "Failed to get active users: " + e.getMessage(),
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== EXCEPTION MANAGEMENT ====================
@@ -573,7 +567,7 @@ public class CalendarServiceImpl implements CalendarService {
                 return OperationResult.failure( "Failed to get shift exceptions: " + e.getMessage(),
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -609,7 +603,7 @@ public class CalendarServiceImpl implements CalendarService {
                 return OperationResult.failure( "Failed to create shift exception: " + e.getMessage(),
                         OperationResult.OperationType.CREATE );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     // ==================== CACHE MANAGEMENT ====================
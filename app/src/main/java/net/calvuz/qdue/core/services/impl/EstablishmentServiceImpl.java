@@ -3,6 +3,7 @@ package net.calvuz.qdue.core.services.impl;
 import android.content.Context;
 
 import net.calvuz.qdue.core.backup.CoreBackupManager;
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.db.QDueDatabase;
 import net.calvuz.qdue.core.services.EstablishmentService;
 import net.calvuz.qdue.core.services.models.OperationResult;
@@ -17,8 +18,7 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 
 /**
  * REFACTORED: EstablishmentServiceImpl - Dependency Injection Compliant
@@ -45,7 +45,8 @@ public class EstablishmentServiceImpl implements EstablishmentService {
     private final MacroDepartmentDao mMacroDepartmentDao;
     private final SubDepartmentDao mSubDepartmentDao;
     private final CoreBackupManager mBackupManager;
-    private final ExecutorService mExecutorService;
+    private final Executor mExecutor;
+    private final Executor mWriteExecutor;
 
     // ==================== CONSTRUCTOR FOR DEPENDENCY INJECTION ====================
 
@@ -63,7 +64,8 @@ public class EstablishmentServiceImpl implements EstablishmentService {
         this.mMacroDepartmentDao = database.macroDepartmentDao();
         this.mSubDepartmentDao = database.subDepartmentDao();
         this.mBackupManager = backupManager;
-        this.mExecutorService = Executors.newFixedThreadPool(3);
+        this.mExecutor = AppExecutors.getInstance().reads();
+        this.mWriteExecutor = AppExecutors.getInstance().writes();
 
         Log.d(TAG, "EstablishmentServiceImpl initialized via dependency injection");
     }
@@ -113,7 +115,7 @@ public class EstablishmentServiceImpl implements EstablishmentService {
                 Log.e(TAG, "Failed to create establishment: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.CREATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -188,7 +190,7 @@ public class EstablishmentServiceImpl implements EstablishmentService {
                 Log.e(TAG, "Failed to create establishments: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.BULK_CREATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -242,7 +244,7 @@ public class EstablishmentServiceImpl implements EstablishmentService {
                 Log.e(TAG, "Failed to update establishment: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.UPDATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -272,7 +274,7 @@ public class EstablishmentServiceImpl implements EstablishmentService {
                 Log.e(TAG, "Failed to delete establishment: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.DELETE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -302,7 +304,7 @@ public class EstablishmentServiceImpl implements EstablishmentService {
                 Log.e(TAG, "Failed to delete all establishments: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.BULK_DELETE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     // ==================== QUERY OPERATIONS ====================
@@ -327,7 +329,7 @@ public class EstablishmentServiceImpl implements EstablishmentService {
                 Log.e(TAG, "Failed to get establishment by ID: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -350,7 +352,7 @@ public class EstablishmentServiceImpl implements EstablishmentService {
                 Log.e(TAG, "Failed to get establishment by name: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -373,7 +375,7 @@ public class EstablishmentServiceImpl implements EstablishmentService {
                 Log.e(TAG, "Failed to get establishment by code: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -388,7 +390,7 @@ public class EstablishmentServiceImpl implements EstablishmentService {
                 Log.e(TAG, "Failed to get all establishments: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     // ==================== VALIDATION ====================
@@ -456,7 +458,7 @@ public class EstablishmentServiceImpl implements EstablishmentService {
                 Log.e(TAG, "Failed to check establishment existence: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.VALIDATION);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -474,7 +476,7 @@ public class EstablishmentServiceImpl implements EstablishmentService {
                 Log.e(TAG, "Failed to check establishment code existence: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.VALIDATION);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     // ==================== STATISTICS ====================
@@ -489,7 +491,7 @@ public class EstablishmentServiceImpl implements EstablishmentService {
                 Log.e(TAG, "Failed to get establishments count: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.COUNT);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     // ==================== ORGANIZATION HIERARCHY ====================
@@ -518,7 +520,7 @@ public class EstablishmentServiceImpl implements EstablishmentService {
                 Log.e(TAG, "Failed to get macro departments: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -567,7 +569,7 @@ public class EstablishmentServiceImpl implements EstablishmentService {
                 Log.e(TAG, "Failed to delete establishment with dependencies: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.DELETE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     // ==================== PRIVATE HELPER METHODS ====================
@@ -586,9 +588,5 @@ public class EstablishmentServiceImpl implements EstablishmentService {
      * Should be called from DI container or application lifecycle
      */
     public void shutdown() {
-        if (mExecutorService != null && !mExecutorService.isShutdown()) {
-            mExecutorService.shutdown();
-            Log.d(TAG, "EstablishmentServiceImpl executor service shutdown");
-        }
     }
 }
\ No newline at end of file
@@ -4,6 +4,8 @@ import android.content.Context;
 
 import net.calvuz.qdue.QDue;
 import net.calvuz.qdue.core.backup.CoreBackupManager;
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
+import net.calvuz.qdue.core.common.intervals.IntervalIndex;
 import net.calvuz.qdue.core.db.QDueDatabase;
 import net.calvuz.qdue.core.services.models.QuickEventRequest;
 import net.calvuz.qdue.events.actions.ConflictAnalysis;
@@ -29,8 +31,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 
 /**
  * REFACTORED: EventsServiceImpl - Dependency Injection Compliant
@@ -55,7 +56,9 @@ public class EventsServiceImpl implements EventsService {
     private final QDueDatabase mDatabase;
     private final EventDao mEventDao;
     private final CoreBackupManager mBackupManager;
-    private final ExecutorService mExecutorService;
+    private final Executor mExecutor;
+    private final Executor mWriteExecutor;
+    private final Executor mBulkExecutor;
 
     // ==================== CONSTRUCTOR FOR DEPENDENCY INJECTION ====================
 
@@ -71,7 +74,9 @@ public class EventsServiceImpl implements EventsService {
         this.mDatabase = database;
         this.mEventDao = database.eventDao();
         this.mBackupManager = backupManager;
-        this.mExecutorService = Executors.newFixedThreadPool(4);
+        this.mExecutor = AppExecutors.getInstance().reads();
+        this.mWriteExecutor = AppExecutors.getInstance().writes();
+        this.mBulkExecutor = AppExecutors.getInstance().bulk();
 
         Log.d(TAG, "EventsServiceImpl initialized via dependency injection");
     }
@@ -115,7 +120,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to create event: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.CREATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -173,7 +178,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to create events: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.BULK_CREATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -215,7 +220,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to update event: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.UPDATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -254,7 +259,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to delete event: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.DELETE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -313,7 +318,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to delete events: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.BULK_DELETE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -346,7 +351,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to delete all events: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.BULK_DELETE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
 // ==================== QUERY OPERATIONS ====================
@@ -363,7 +368,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to get all events: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -386,7 +391,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to get event by ID: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -409,7 +414,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to get events for date: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.SEARCH);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -437,7 +442,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to get events in range: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.SEARCH);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -457,7 +462,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to get events by type: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.SEARCH);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -502,7 +507,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to get time slots: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -524,7 +529,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to search events: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.SEARCH);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
 // ==================== BULK OPERATIONS ====================
@@ -573,7 +578,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to duplicate event: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.DUPLICATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -658,7 +663,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to import events: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.IMPORT);
             }
-        }, mExecutorService);
+        }, mBulkExecutor);
     }
 
     @Override
@@ -691,7 +696,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to export events: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.EXPORT);
             }
-        }, mExecutorService);
+        }, mBulkExecutor);
     }
 
     @Override
@@ -726,7 +731,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to get conflicting events: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.VALIDATION);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -758,7 +763,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to get conflicts: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
 // ==================== STATISTICS AND INFO ====================
@@ -773,7 +778,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to get events count: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.COUNT);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -795,7 +800,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to get events count by type: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.COUNT);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -822,7 +827,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to get next upcoming event: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -844,7 +849,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to get upcoming events: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -939,7 +944,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to get statistics: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -977,7 +982,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to get most used types: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -995,7 +1000,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to check event existence: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.VALIDATION);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
 // ==================== VALIDATION ====================
@@ -1128,7 +1133,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to create quick event: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.CREATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -1198,7 +1203,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to create quick events: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.BULK_CREATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -1240,7 +1245,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Failed to create quick events for dates: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.BULK_CREATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     // ==================== 🆕 NEW: QUICK EVENT VALIDATION ====================
@@ -1404,41 +1409,52 @@ public class EventsServiceImpl implements EventsService {
             try {
                 Log.v(TAG, "Checking if quick event can be created: " + action + " for " + date);
 
-                // ✅ Basic checks
-                if (action == null || date == null) {
+                if (date == null) {
                     return OperationResult.failure("Action and date are required", OperationResult.OperationType.VALIDATION);
                 }
 
-                if (date.isBefore(LocalDate.now())) {
-                    return OperationResult.failure("Cannot create events in the past", OperationResult.OperationType.VALIDATION);
-                }
-
-                if (!action.isEventCreationAction()) {
-                    return OperationResult.failure("Action is not an event creation action", OperationResult.OperationType.VALIDATION);
-                }
-
-                // ✅ Check if event type is supported
-                EventType eventType = action.getMappedEventType();
-                if (eventType == null || !isEventTypeValidForQuickCreation(eventType)) {
-                    return OperationResult.failure("Event type not supported for quick creation", OperationResult.OperationType.VALIDATION);
-                }
-
-                // ✅ Check for existing events on the same date (business rule)
                 List<LocalEvent> existingEvents = mEventDao.getEventsForDate(date.atStartOfDay(), date.atTime(23, 59, 59));
-                if (hasConflictingEvents(action, existingEvents)) {
-                    return OperationResult.failure("Conflicting events exist for this date", OperationResult.OperationType.VALIDATION);
-                }
-
-                // ✅ Additional business rules can be added here
-                // For example: check user permissions, quotas, etc.
-
-                return OperationResult.success(true, "Quick event can be created", OperationResult.OperationType.VALIDATION);
+                return checkQuickEventAvailability(action, date, existingEvents);
 
             } catch (Exception e) {
                 Log.e(TAG, "Error checking quick event availability: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.VALIDATION);
             }
-        }, mExecutorService);
+        }, mExecutor);
+    }
+
+    /**
+     * Check if a quick event can be created on a date, given the events on that date.
+     */
+    private OperationResult<Boolean> checkQuickEventAvailability(ToolbarAction action, LocalDate date, List<LocalEvent> existingEvents) {
+        // ✅ Basic checks
+        if (action == null || date == null) {
+            return OperationResult.failure("Action and date are required", OperationResult.OperationType.VALIDATION);
+        }
+
+        if (date.isBefore(LocalDate.now())) {
+            return OperationResult.failure("Cannot create events in the past", OperationResult.OperationType.VALIDATION);
+        }
+
+        if (!action.isEventCreationAction()) {
+            return OperationResult.failure("Action is not an event creation action", OperationResult.OperationType.VALIDATION);
+        }
+
+        // ✅ Check if event type is supported
+        EventType eventType = action.getMappedEventType();
+        if (eventType == null || !isEventTypeValidForQuickCreation(eventType)) {
+            return OperationResult.failure("Event type not supported for quick creation", OperationResult.OperationType.VALIDATION);
+        }
+
+        // ✅ Check for existing events on the same date (business rule)
+        if (hasConflictingEvents(action, existingEvents)) {
+            return OperationResult.failure("Conflicting events exist for this date", OperationResult.OperationType.VALIDATION);
+        }
+
+        // ✅ Additional business rules can be added here
+        // For example: check user permissions, quotas, etc.
+
+        return OperationResult.success(true, "Quick event can be created", OperationResult.OperationType.VALIDATION);
     }
 
     @Override
@@ -1453,9 +1469,23 @@ public class EventsServiceImpl implements EventsService {
                     return OperationResult.success(availabilityMap, "No dates to check", OperationResult.OperationType.VALIDATION);
                 }
 
-                // ✅ Check each date
+                // ✅ Load the events of the whole range once, then check each date against the index
+                LocalDate minDate = null;
+                LocalDate maxDate = null;
                 for (LocalDate date : dates) {
-                    OperationResult<Boolean> result = canCreateQuickEvent(action, date, userId).join();
+                    if (date == null) continue;
+                    if (minDate == null || date.isBefore(minDate)) minDate = date;
+                    if (maxDate == null || date.isAfter(maxDate)) maxDate = date;
+                }
+                IntervalIndex<LocalEvent> eventIndex = minDate != null
+                        ? EventActionManager.buildEventIndex(minDate, maxDate, mEventDao)
+                        : IntervalIndex.of(new ArrayList<>(), LocalEvent::getStartTime, LocalEvent::getEndTime);
+
+                for (LocalDate date : dates) {
+                    List<LocalEvent> existingEvents = date != null
+                            ? EventActionManager.getEventsForDate(eventIndex, date)
+                            : new ArrayList<>();
+                    OperationResult<Boolean> result = checkQuickEventAvailability(action, date, existingEvents);
                     availabilityMap.put(date, result.isSuccess() && result.getData());
                 }
 
@@ -1468,7 +1498,7 @@ public class EventsServiceImpl implements EventsService {
                 Log.e(TAG, "Error checking bulk availability: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.VALIDATION);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     // ==================== 🆕 NEW: HELPER METHODS ====================
@@ -1775,9 +1805,5 @@ public class EventsServiceImpl implements EventsService {
      * Should be called from DI container or application lifecycle
      */
     public void shutdown() {
-        if (mExecutorService != null && !mExecutorService.isShutdown()) {
-            mExecutorService.shutdown();
-            Log.d(TAG, "EventsServiceImpl executor service shutdown");
-        }
     }
 }
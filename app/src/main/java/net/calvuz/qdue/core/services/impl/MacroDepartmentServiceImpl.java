@@ -3,6 +3,7 @@ package net.calvuz.qdue.core.services.impl;
 import android.content.Context;
 
 import net.calvuz.qdue.core.backup.CoreBackupManager;
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.db.QDueDatabase;
 import net.calvuz.qdue.core.services.MacroDepartmentService;
 import net.calvuz.qdue.core.services.models.OperationResult;
@@ -16,8 +17,7 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 
 /**
  * REFACTORED: MacroDepartmentServiceImpl - Dependency Injection Compliant
@@ -43,7 +43,8 @@ public class MacroDepartmentServiceImpl implements MacroDepartmentService {
     private final MacroDepartmentDao mMacroDepartmentDao;
     private final SubDepartmentDao mSubDepartmentDao;
     private final CoreBackupManager mBackupManager;
-    private final ExecutorService mExecutorService;
+    private final Executor mExecutor;
+    private final Executor mWriteExecutor;
 
     // ==================== CONSTRUCTOR FOR DEPENDENCY INJECTION ====================
 
@@ -60,7 +61,8 @@ public class MacroDepartmentServiceImpl implements MacroDepartmentService {
         this.mMacroDepartmentDao = database.macroDepartmentDao();
         this.mSubDepartmentDao = database.subDepartmentDao();
         this.mBackupManager = backupManager;
-        this.mExecutorService = Executors.newFixedThreadPool(3);
+        this.mExecutor = AppExecutors.getInstance().reads();
+        this.mWriteExecutor = AppExecutors.getInstance().writes();
 
         Log.d(TAG, "MacroDepartmentServiceImpl initialized via dependency injection");
     }
@@ -104,7 +106,7 @@ public class MacroDepartmentServiceImpl implements MacroDepartmentService {
                 Log.e(TAG, "Failed to create macro department: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.CREATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -171,7 +173,7 @@ public class MacroDepartmentServiceImpl implements MacroDepartmentService {
                 Log.e(TAG, "Failed to create macro departments: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.BULK_CREATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -218,7 +220,7 @@ public class MacroDepartmentServiceImpl implements MacroDepartmentService {
                 Log.e(TAG, "Failed to update macro department: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.UPDATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -248,7 +250,7 @@ public class MacroDepartmentServiceImpl implements MacroDepartmentService {
                 Log.e(TAG, "Failed to delete macro department: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.DELETE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -278,7 +280,7 @@ public class MacroDepartmentServiceImpl implements MacroDepartmentService {
                 Log.e(TAG, "Failed to delete all macro departments: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.BULK_DELETE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -308,7 +310,7 @@ public class MacroDepartmentServiceImpl implements MacroDepartmentService {
                 Log.e(TAG, "Failed to delete macro departments by establishment: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.BULK_DELETE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     // ==================== QUERY OPERATIONS ====================
@@ -328,7 +330,7 @@ public class MacroDepartmentServiceImpl implements MacroDepartmentService {
                 Log.e(TAG, "Failed to get macro department by ID: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -343,7 +345,7 @@ public class MacroDepartmentServiceImpl implements MacroDepartmentService {
                 Log.e(TAG, "Failed to get all macro departments: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -363,7 +365,7 @@ public class MacroDepartmentServiceImpl implements MacroDepartmentService {
                 Log.e(TAG, "Failed to get macro departments by establishment: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -390,7 +392,7 @@ public class MacroDepartmentServiceImpl implements MacroDepartmentService {
                 Log.e(TAG, "Failed to get macro department by name and establishment: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     // ==================== VALIDATION ====================
@@ -454,7 +456,7 @@ public class MacroDepartmentServiceImpl implements MacroDepartmentService {
                 Log.e(TAG, "Failed to check macro department existence: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.VALIDATION);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     // ==================== STATISTICS ====================
@@ -469,7 +471,7 @@ public class MacroDepartmentServiceImpl implements MacroDepartmentService {
                 Log.e(TAG, "Failed to get macro departments count", e);
                 return OperationResult.failure(e, OperationResult.OperationType.COUNT);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -487,7 +489,7 @@ public class MacroDepartmentServiceImpl implements MacroDepartmentService {
                 Log.e(TAG, "Failed to get macro departments count by establishment: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.COUNT);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     // ==================== HIERARCHY OPERATIONS ====================
@@ -516,7 +518,7 @@ public class MacroDepartmentServiceImpl implements MacroDepartmentService {
                 Log.e(TAG, "Failed to get sub departments: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -558,7 +560,7 @@ public class MacroDepartmentServiceImpl implements MacroDepartmentService {
                 Log.e(TAG, "Failed to delete macro department with dependencies: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.DELETE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     // ==================== LIFECYCLE MANAGEMENT ====================
@@ -568,9 +570,5 @@ public class MacroDepartmentServiceImpl implements MacroDepartmentService {
      * Should be called from DI container or application lifecycle
      */
     public void shutdown() {
-        if (mExecutorService != null && !mExecutorService.isShutdown()) {
-            mExecutorService.shutdown();
-            Log.d(TAG, "MacroDepartmentServiceImpl executor service shutdown");
-        }
     }
 }
\ No newline at end of file
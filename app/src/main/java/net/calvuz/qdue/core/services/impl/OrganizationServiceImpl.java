@@ -3,6 +3,7 @@ package net.calvuz.qdue.core.services.impl;
 import android.content.Context;
 
 import net.calvuz.qdue.core.backup.CoreBackupManager;
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.db.QDueDatabase;
 import net.calvuz.qdue.core.services.OrganizationService;
 import net.calvuz.qdue.core.services.models.OperationResult;
@@ -18,8 +19,7 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 
 /**
  * REFACTORED: OrganizationServiceImpl - Dependency Injection Compliant
@@ -47,7 +47,9 @@ public class OrganizationServiceImpl implements OrganizationService {
     private final MacroDepartmentDao mMacroDepartmentDao;
     private final SubDepartmentDao mSubDepartmentDao;
     private final CoreBackupManager mBackupManager;
-    private final ExecutorService mExecutorService;
+    private final Executor mExecutor;
+    private final Executor mWriteExecutor;
+    private final Executor mBulkExecutor;
 
     // ==================== CONSTRUCTOR FOR DEPENDENCY INJECTION ====================
 
@@ -65,7 +67,9 @@ public class OrganizationServiceImpl implements OrganizationService {
         this.mMacroDepartmentDao = database.macroDepartmentDao();
         this.mSubDepartmentDao = database.subDepartmentDao();
         this.mBackupManager = backupManager;
-        this.mExecutorService = Executors.newFixedThreadPool(4);
+        this.mExecutor = AppExecutors.getInstance().reads();
+        this.mWriteExecutor = AppExecutors.getInstance().writes();
+        this.mBulkExecutor = AppExecutors.getInstance().bulk();
 
         Log.d(TAG, "OrganizationServiceImpl initialized via dependency injection");
     }
@@ -160,7 +164,7 @@ public class OrganizationServiceImpl implements OrganizationService {
                 Log.e(TAG, "Failed to create complete organization: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.CREATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -207,7 +211,7 @@ public class OrganizationServiceImpl implements OrganizationService {
                 Log.e(TAG, "Failed to get complete organization hierarchy: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -256,7 +260,7 @@ public class OrganizationServiceImpl implements OrganizationService {
                 Log.e(TAG, "Failed to delete complete organization: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.DELETE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     // ==================== SEARCH OPERATIONS ====================
@@ -310,7 +314,7 @@ public class OrganizationServiceImpl implements OrganizationService {
                 Log.e(TAG, "Failed to search organization: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.SEARCH);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     // ==================== IMPORT/EXPORT OPERATIONS ====================
@@ -414,7 +418,7 @@ public class OrganizationServiceImpl implements OrganizationService {
                 Log.e(TAG, "Failed to import organization data: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.IMPORT);
             }
-        }, mExecutorService);
+        }, mBulkExecutor);
     }
 
     @Override
@@ -452,7 +456,7 @@ public class OrganizationServiceImpl implements OrganizationService {
                 Log.e(TAG, "Failed to export organization data: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.EXPORT);
             }
-        }, mExecutorService);
+        }, mBulkExecutor);
     }
 
     // ==================== VALIDATION ====================
@@ -527,9 +531,5 @@ public class OrganizationServiceImpl implements OrganizationService {
      * Should be called from DI container or application lifecycle
      */
     public void shutdown() {
-        if (mExecutorService != null && !mExecutorService.isShutdown()) {
-            mExecutorService.shutdown();
-            Log.d(TAG, "OrganizationServiceImpl executor service shutdown");
-        }
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package net.calvuz.qdue.core.services.impl;
 import android.content.Context;
 
 import net.calvuz.qdue.core.backup.CoreBackupManager;
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.db.QDueDatabase;
 import net.calvuz.qdue.core.services.SubDepartmentService;
 import net.calvuz.qdue.core.services.models.OperationResult;
@@ -14,8 +15,7 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 
 /**
  * REFACTORED: SubDepartmentServiceImpl - Dependency Injection Compliant
@@ -40,7 +40,8 @@ public class SubDepartmentServiceImpl implements SubDepartmentService {
     private final QDueDatabase mDatabase;
     private final SubDepartmentDao mSubDepartmentDao;
     private final CoreBackupManager mBackupManager;
-    private final ExecutorService mExecutorService;
+    private final Executor mExecutor;
+    private final Executor mWriteExecutor;
 
     // ==================== CONSTRUCTOR FOR DEPENDENCY INJECTION ====================
 
@@ -56,7 +57,8 @@ public class SubDepartmentServiceImpl implements SubDepartmentService {
         this.mDatabase = database;
         this.mSubDepartmentDao = database.subDepartmentDao();
         this.mBackupManager = backupManager;
-        this.mExecutorService = Executors.newFixedThreadPool(3);
+        this.mExecutor = AppExecutors.getInstance().reads();
+        this.mWriteExecutor = AppExecutors.getInstance().writes();
 
         Log.d(TAG, "SubDepartmentServiceImpl initialized via dependency injection");
     }
@@ -100,7 +102,7 @@ public class SubDepartmentServiceImpl implements SubDepartmentService {
                 Log.e(TAG, "Failed to create sub department: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.CREATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -170,7 +172,7 @@ public class SubDepartmentServiceImpl implements SubDepartmentService {
                 Log.e(TAG, "Failed to create sub departments: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.BULK_CREATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -217,7 +219,7 @@ public class SubDepartmentServiceImpl implements SubDepartmentService {
                 Log.e(TAG, "Failed to update sub department: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.UPDATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -247,7 +249,7 @@ public class SubDepartmentServiceImpl implements SubDepartmentService {
                 Log.e(TAG, "Failed to delete sub department: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.DELETE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -277,7 +279,7 @@ public class SubDepartmentServiceImpl implements SubDepartmentService {
                 Log.e(TAG, "Failed to delete all sub departments: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.BULK_DELETE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -312,7 +314,7 @@ public class SubDepartmentServiceImpl implements SubDepartmentService {
                 Log.e(TAG, "Failed to delete sub departments by macro department: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.BULK_DELETE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     // ==================== QUERY OPERATIONS ====================
@@ -337,7 +339,7 @@ public class SubDepartmentServiceImpl implements SubDepartmentService {
                 Log.e(TAG, "Failed to get sub department by ID: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -352,7 +354,7 @@ public class SubDepartmentServiceImpl implements SubDepartmentService {
                 Log.e(TAG, "Failed to get all sub departments: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -372,7 +374,7 @@ public class SubDepartmentServiceImpl implements SubDepartmentService {
                 Log.e(TAG, "Failed to get sub departments by macro department: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -399,7 +401,7 @@ public class SubDepartmentServiceImpl implements SubDepartmentService {
                 Log.e(TAG, "Failed to get sub department by name and macro department: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     // ==================== VALIDATION ====================
@@ -463,7 +465,7 @@ public class SubDepartmentServiceImpl implements SubDepartmentService {
                 Log.e(TAG, "Failed to check sub department existence: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.VALIDATION);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     // ==================== STATISTICS ====================
@@ -478,7 +480,7 @@ public class SubDepartmentServiceImpl implements SubDepartmentService {
                 Log.e(TAG, "Failed to get sub departments count", e);
                 return OperationResult.failure(e, OperationResult.OperationType.COUNT);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -496,7 +498,7 @@ public class SubDepartmentServiceImpl implements SubDepartmentService {
                 Log.e(TAG, "Failed to get sub departments count by macro department: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.COUNT);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     // ==================== LIFECYCLE MANAGEMENT ====================
@@ -506,9 +508,5 @@ public class SubDepartmentServiceImpl implements SubDepartmentService {
      * Should be called from DI container or application lifecycle
      */
     public void shutdown() {
-        if (mExecutorService != null && !mExecutorService.isShutdown()) {
-            mExecutorService.shutdown();
-            Log.d(TAG, "SubDepartmentServiceImpl executor service shutdown");
-        }
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package net.calvuz.qdue.core.services.impl;
 import android.content.Context;
 
 import net.calvuz.qdue.core.backup.CoreBackupManager;
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.db.QDueDatabase;
 import net.calvuz.qdue.core.services.UserService;
 import net.calvuz.qdue.core.services.models.OperationResult;
@@ -14,8 +15,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 
 /**
  * REFACTORED: User Service Implementation with Dependency Injection
@@ -39,7 +39,8 @@ public class UserServiceImpl implements UserService {
     private final QDueDatabase mDatabase;
     private final UserDao mUserDao;
     private final CoreBackupManager mBackupManager;
-    private final ExecutorService mExecutorService;
+    private final Executor mExecutor;
+    private final Executor mWriteExecutor;
 
     // ==================== CONSTRUCTOR FOR DEPENDENCY INJECTION ====================
 
@@ -55,7 +56,8 @@ public class UserServiceImpl implements UserService {
         this.mDatabase = database;
         this.mUserDao = database.userDao();
         this.mBackupManager = backupManager;
-        this.mExecutorService = Executors.newFixedThreadPool(3);
+        this.mExecutor = AppExecutors.getInstance().reads();
+        this.mWriteExecutor = AppExecutors.getInstance().writes();
 
         Log.d(TAG, "UserServiceImpl initialized via dependency injection");
     }
@@ -104,7 +106,7 @@ public class UserServiceImpl implements UserService {
                 Log.e(TAG, "Failed to create user: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.CREATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -158,7 +160,7 @@ public class UserServiceImpl implements UserService {
                 Log.e(TAG, "Failed to update user: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.UPDATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -188,7 +190,7 @@ public class UserServiceImpl implements UserService {
                 Log.e(TAG, "Failed to delete user: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.DELETE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -218,7 +220,7 @@ public class UserServiceImpl implements UserService {
                 Log.e(TAG, "Failed to delete all users: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.BULK_DELETE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     // ==================== QUERY OPERATIONS ====================
@@ -238,7 +240,7 @@ public class UserServiceImpl implements UserService {
                 Log.e(TAG, "Failed to get user by ID: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -256,7 +258,7 @@ public class UserServiceImpl implements UserService {
                 Log.e(TAG, "Failed to get user by email: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -274,7 +276,7 @@ public class UserServiceImpl implements UserService {
                 Log.e(TAG, "Failed to get user by Google ID: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -292,7 +294,7 @@ public class UserServiceImpl implements UserService {
                 Log.e(TAG, "Failed to get user by employee ID: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -310,7 +312,7 @@ public class UserServiceImpl implements UserService {
                 Log.e(TAG, "Failed to get active user", e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -323,7 +325,7 @@ public class UserServiceImpl implements UserService {
                 Log.e(TAG, "Failed to get all users: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     // ==================== AUTHENTICATION OPERATIONS ====================
@@ -373,7 +375,7 @@ public class UserServiceImpl implements UserService {
                 Log.e(TAG, "Failed to authenticate user: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -406,7 +408,7 @@ public class UserServiceImpl implements UserService {
                 Log.e(TAG, "Failed to register user: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.CREATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -436,7 +438,7 @@ public class UserServiceImpl implements UserService {
                 Log.e(TAG, "Failed to logout user: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.UPDATE);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -476,7 +478,7 @@ public class UserServiceImpl implements UserService {
                 Log.e(TAG, "Failed to set active user: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.UPDATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     // ==================== PROFILE OPERATIONS ====================
@@ -506,7 +508,7 @@ public class UserServiceImpl implements UserService {
                 Log.e(TAG, "Failed to update profile: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.UPDATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -521,7 +523,7 @@ public class UserServiceImpl implements UserService {
                 Log.e(TAG, "Failed to get incomplete profiles: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -550,7 +552,7 @@ public class UserServiceImpl implements UserService {
                 Log.e(TAG, "Failed to complete profile: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.UPDATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     // ==================== VALIDATION ====================
@@ -614,7 +616,7 @@ public class UserServiceImpl implements UserService {
                 Log.e(TAG, "Failed to check user existence: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.VALIDATION);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -632,7 +634,7 @@ public class UserServiceImpl implements UserService {
                 Log.e(TAG, "Failed to check employee ID existence: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.VALIDATION);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     // ==================== STATISTICS ====================
@@ -647,7 +649,7 @@ public class UserServiceImpl implements UserService {
                 Log.e(TAG, "Failed to get users count", e);
                 return OperationResult.failure(e, OperationResult.OperationType.COUNT);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -667,7 +669,7 @@ public class UserServiceImpl implements UserService {
                 Log.e(TAG, "Failed to get users by auth provider: " + e.getMessage(), e);
                 return OperationResult.failure(e, OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     // ==================== PRIVATE HELPER METHODS ====================
@@ -695,9 +697,5 @@ public class UserServiceImpl implements UserService {
      * Should be called from DI container or application lifecycle
      */
     public void shutdown() {
-        if (mExecutorService != null && !mExecutorService.isShutdown()) {
-            mExecutorService.shutdown();
-            Log.d(TAG, "UserServiceImpl executor service shutdown");
-        }
     }
 }
\ No newline at end of file
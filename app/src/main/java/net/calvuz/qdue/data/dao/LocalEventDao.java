@@ -1,20 +1,32 @@
 package net.calvuz.qdue.data.dao;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.room.Dao;
 import androidx.room.Delete;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
+import androidx.room.TypeConverters;
 import androidx.room.Update;
 
+import net.calvuz.qdue.core.db.converters.EpochTypeConverters;
+import net.calvuz.qdue.core.db.search.FtsMatch;
+import net.calvuz.qdue.core.db.search.FtsSearch;
+import net.calvuz.qdue.data.entities.LocalEventDaySummaryEntity;
 import net.calvuz.qdue.data.entities.LocalEventEntity;
 import net.calvuz.qdue.domain.calendar.enums.EventType;
+import net.calvuz.qdue.domain.calendar.models.LocalEventsFilter;
+import net.calvuz.qdue.domain.common.enums.Priority;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 
 @Dao
+@TypeConverters (EpochTypeConverters.class)
 public interface LocalEventDao
 {
     // ==================== CRUD OPERATIONS ====================
@@ -64,6 +76,14 @@ public interface LocalEventDao
     @Query("SELECT * FROM local_events WHERE id = :eventId LIMIT 1")
     LocalEventEntity getEventById(String eventId);
 
+    /**
+     * Get events by IDs.
+     * @param eventIds Event IDs
+     * @return Events in no particular order
+     */
+    @Query("SELECT * FROM local_events WHERE id IN (:eventIds)")
+    List<LocalEventEntity> getLocalEventsByIds(List<String> eventIds);
+
     /**
      * Get all events ordered by start time.
      * @return List of all events
@@ -86,19 +106,80 @@ public interface LocalEventDao
     @Query("SELECT COUNT(*) FROM local_events")
     int getTotalEventCount();
 
+    // ==================== PAGED LIST ====================
+
+    // Criteria of the paged list queries; null parameters match every event
+    String LIST_FILTER = "(:eventType IS NULL OR event_type = :eventType) " +
+            "AND (:priority IS NULL OR event_priority = :priority) " +
+            "AND (:calendarId IS NULL OR calendar_id = :calendarId) " +
+            "AND (:allDay IS NULL OR all_day = :allDay) " +
+            "AND (:startFrom IS NULL OR start_time >= :startFrom) " +
+            "AND (:startTo IS NULL OR start_time <= :startTo)";
+
+    /**
+     * Get a page of the events list, ordered by start time then ID (keyset pagination).
+     * Each page is a seek on the (start_time, id) index, whatever its depth.
+     * @param filter List criteria
+     * @param afterStart Start time of the last event of the previous page, null for the first page
+     * @param afterId ID of the last event of the previous page, null for the first page
+     * @param limit Page size
+     * @return Events following the key in list order
+     */
+    default List<LocalEventEntity> getEventsPage(@NonNull LocalEventsFilter filter,
+                                                 @Nullable LocalDateTime afterStart, @Nullable String afterId,
+                                                 int limit) {
+        if (afterStart == null || afterId == null) {
+            return getEventsFirstPage( filter.getEventType(), filter.getPriority(), filter.getCalendarId(),
+                                       filter.getAllDay(), filter.getStartFrom(), filter.getStartTo(), limit );
+        }
+        return getEventsPageAfter( afterStart, afterId,
+                                   filter.getEventType(), filter.getPriority(), filter.getCalendarId(),
+                                   filter.getAllDay(), filter.getStartFrom(), filter.getStartTo(), limit );
+    }
+
+    @Query("SELECT * FROM local_events WHERE " + LIST_FILTER + " " +
+            "ORDER BY start_time ASC, id ASC LIMIT :limit")
+    List<LocalEventEntity> getEventsFirstPage(EventType eventType, Priority priority, String calendarId,
+                                              Boolean allDay, LocalDateTime startFrom, LocalDateTime startTo,
+                                              int limit);
+
+    // start_time >= bounds the index seek, the OR only breaks ties on id
+    @Query("SELECT * FROM local_events WHERE start_time >= :afterStart " +
+            "AND (start_time > :afterStart OR id > :afterId) AND " + LIST_FILTER + " " +
+            "ORDER BY start_time ASC, id ASC LIMIT :limit")
+    List<LocalEventEntity> getEventsPageAfter(LocalDateTime afterStart, String afterId,
+                                              EventType eventType, Priority priority, String calendarId,
+                                              Boolean allDay, LocalDateTime startFrom, LocalDateTime startTo,
+                                              int limit);
+
+    /**
+     * Count the events of the list.
+     * @param filter List criteria
+     * @return Number of matching events
+     */
+    default int getEventCount(@NonNull LocalEventsFilter filter) {
+        return countEvents( filter.getEventType(), filter.getPriority(), filter.getCalendarId(),
+                            filter.getAllDay(), filter.getStartFrom(), filter.getStartTo() );
+    }
+
+    @Query("SELECT COUNT(*) FROM local_events WHERE " + LIST_FILTER)
+    int countEvents(EventType eventType, Priority priority, String calendarId,
+                    Boolean allDay, LocalDateTime startFrom, LocalDateTime startTo);
+
     // ==================== CALENDAR-SPECIFIC QUERIES ====================
 
+    // Events overlapping [:startDate, :endDate]; an event without end time lasts an instant at its start
+    String OVERLAPS_RANGE = "start_time <= :endDate AND COALESCE(end_time, start_time) >= :startDate";
+
     /**
      * Get all events for a specific date (both all-day and timed events).
-     * @param startOfDay Start of the day (00:00:00)
-     * @param endOfDay End of the day (23:59:59)
+     * @param startDate Start of the day (00:00:00)
+     * @param endDate End of the day (23:59:59)
      * @return List of events for that date
      */
-    @Query("SELECT * FROM local_events WHERE " +
-            "(DATE(start_time) = DATE(:startOfDay)) OR " +
-            "(start_time <= :endOfDay AND end_time >= :startOfDay) " +
+    @Query("SELECT * FROM local_events WHERE " + OVERLAPS_RANGE + " " +
             "ORDER BY all_day DESC, start_time ASC")
-    List<LocalEventEntity> getEventsForDate(LocalDateTime startOfDay, LocalDateTime endOfDay);
+    List<LocalEventEntity> getEventsForDate(LocalDateTime startDate, LocalDateTime endDate);
 
     /**
      * Get events within a date range (for calendar views).
@@ -106,11 +187,21 @@ public interface LocalEventDao
      * @param endDate Range end date
      * @return List of events in the specified range
      */
-    @Query("SELECT * FROM local_events WHERE " +
-            "start_time <= :endDate AND end_time >= :startDate " +
+    @Query("SELECT * FROM local_events WHERE " + OVERLAPS_RANGE + " " +
             "ORDER BY start_time ASC")
     List<LocalEventEntity> getEventsForDateRange(LocalDateTime startDate, LocalDateTime endDate);
 
+    /**
+     * Get per-day event summaries within a date range (for calendar grid indicators).
+     * Days without events have no summary.
+     *
+     * @param startDate Range start date
+     * @param endDate Range end date (inclusive)
+     * @return Summaries of the days with events, by date
+     */
+    @Query("SELECT * FROM local_event_day_summary WHERE day BETWEEN :startDate AND :endDate ORDER BY day ASC")
+    List<LocalEventDaySummaryEntity> getDaySummariesForDateRange(LocalDate startDate, LocalDate endDate);
+
     /**
      * Get upcoming events from current time.
      * @param currentTime Current timestamp
@@ -124,14 +215,33 @@ public interface LocalEventDao
     // ==================== SEARCH AND FILTERING ====================
 
     /**
-     * Search events by title or description.
+     * Search events by title, description or location (prefix match, ranked by relevance).
      * @param query Search query
-     * @return List of matching events
+     * @return Matching events, best first (at most {@link FtsSearch#DEFAULT_RESULT_LIMIT})
      */
-    @Query("SELECT * FROM local_events WHERE " +
-            "title LIKE '%' || :query || '%' OR description LIKE '%' || :query || '%' " +
-            "ORDER BY start_time ASC")
-    List<LocalEventEntity> searchEvents(String query);
+    @Transaction
+    default List<LocalEventEntity> searchEvents(String query) {
+        String match = query != null ? FtsSearch.prefixQuery( query ) : null;
+        if (match == null) {
+            return Collections.emptyList();
+        }
+
+        List<String> ids = FtsSearch.rankIds( matchEventsFts( match ), FtsSearch.DEFAULT_RESULT_LIMIT );
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return FtsSearch.inRankOrder( ids, getLocalEventsByIds( ids ), LocalEventEntity::getId );
+    }
+
+    /**
+     * Ids and matchinfo of the events matching an FTS4 expression.
+     * @param match FTS4 MATCH expression
+     * @return Unranked matches
+     */
+    @Query("SELECT local_events.id AS id, matchinfo(local_events_fts, 'pcnx') AS match_info " +
+            "FROM local_events_fts JOIN local_events ON local_events.rowid = local_events_fts.docid " +
+            "WHERE local_events_fts MATCH :match")
+    List<FtsMatch> matchEventsFts(String match);
 
     /**
      * Get events by type.
@@ -61,6 +61,14 @@ public interface RecurrenceRuleDao {
     @NonNull
     List<RecurrenceRuleEntity> getAllRecurrenceRules();
 
+    @Query("SELECT * FROM recurrence_rules WHERE updated_at >= :since")
+    @NonNull
+    List<RecurrenceRuleEntity> getRecurrenceRulesUpdatedSince(long since);
+
+    @Query("SELECT id FROM recurrence_rules")
+    @NonNull
+    List<String> getAllRecurrenceRuleIds();
+
     @Query("SELECT * FROM recurrence_rules WHERE active = 1 ORDER BY created_at DESC")
     @NonNull
     List<RecurrenceRuleEntity> getActiveUserRecurrenceRules();
@@ -69,6 +77,10 @@ public interface RecurrenceRuleDao {
     @NonNull
     List<RecurrenceRuleEntity> getAllActiveRecurrenceRules();
 
+    @Query("SELECT * FROM recurrence_rules WHERE id IN (:ruleIds) AND active = 1")
+    @NonNull
+    List<RecurrenceRuleEntity> getRecurrenceRulesByIds(@NonNull List<String> ruleIds);
+
     @Query("SELECT * FROM recurrence_rules WHERE frequency = :frequency AND active = 1 ORDER BY start_date")
     @NonNull
     List<RecurrenceRuleEntity> getRecurrenceRulesByFrequency(@NonNull String frequency);
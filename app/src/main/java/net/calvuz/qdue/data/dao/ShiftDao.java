@@ -134,6 +134,21 @@ public interface ShiftDao {
     @Query("SELECT * FROM shifts ORDER BY display_order ASC, name ASC")
     List<ShiftEntity> getAllShifts();
 
+    /**
+     * Get shifts modified at or after a timestamp, for incremental backup.
+     *
+     * @param since Watermark timestamp (millis)
+     * @return Shifts with updated_at >= since
+     */
+    @Query("SELECT * FROM shifts WHERE updated_at >= :since")
+    List<ShiftEntity> getShiftsUpdatedSince(long since);
+
+    /**
+     * Get the IDs of all shifts, for incremental backup deletion tracking.
+     */
+    @Query("SELECT id FROM shifts")
+    List<String> getAllShiftIds();
+
     /**
      * Get all active shifts only.
      * Most common query for operational use.
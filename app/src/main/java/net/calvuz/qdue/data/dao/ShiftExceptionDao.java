@@ -179,6 +179,20 @@ public interface ShiftExceptionDao {
     @NonNull
     List<ShiftExceptionEntity> getAllShiftExceptions();
 
+    /**
+     * Get shift exceptions modified at or after a timestamp, for incremental backup
+     */
+    @Query ("SELECT * FROM shift_exceptions WHERE updated_at >= :since")
+    @NonNull
+    List<ShiftExceptionEntity> getShiftExceptionsUpdatedSince(long since);
+
+    /**
+     * Get the IDs of all shift exceptions, for incremental backup deletion tracking
+     */
+    @Query ("SELECT id FROM shift_exceptions")
+    @NonNull
+    List<String> getAllShiftExceptionIds();
+
     /**
      * Get all shift exceptions with status filter for backup operations
      *
@@ -128,6 +128,21 @@ public interface TeamDao {
     @Query("SELECT * FROM teams ORDER BY name ASC")
     List<TeamEntity> getAllTeams();
 
+    /**
+     * Get teams modified at or after a timestamp, for incremental backup.
+     *
+     * @param since Watermark timestamp (millis)
+     * @return Teams with updated_at >= since
+     */
+    @Query("SELECT * FROM teams WHERE updated_at >= :since")
+    List<TeamEntity> getTeamsUpdatedSince(long since);
+
+    /**
+     * Get the IDs of all teams, for incremental backup deletion tracking.
+     */
+    @Query("SELECT id FROM teams")
+    List<String> getAllTeamIds();
+
     /**
      * Get all active teams only.
      * Most common query for operational use.
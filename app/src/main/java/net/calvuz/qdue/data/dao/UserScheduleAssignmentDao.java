@@ -271,6 +271,20 @@ public interface UserScheduleAssignmentDao {
     @NonNull
     List<UserScheduleAssignmentEntity> getAllUserScheduleAssignments();
 
+    /**
+     * Get user schedule assignments modified at or after a timestamp, for incremental backup
+     */
+    @Query ("SELECT * FROM user_schedule_assignments WHERE updated_at >= :since")
+    @NonNull
+    List<UserScheduleAssignmentEntity> getUserScheduleAssignmentsUpdatedSince(long since);
+
+    /**
+     * Get the IDs of all user schedule assignments, for incremental backup deletion tracking
+     */
+    @Query ("SELECT id FROM user_schedule_assignments")
+    @NonNull
+    List<String> getAllUserScheduleAssignmentIds();
+
     /**
      * Get assignments in date range for backup and reporting
      * Useful for selective backup operations
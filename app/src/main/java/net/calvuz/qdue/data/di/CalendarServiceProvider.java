@@ -11,6 +11,7 @@ import net.calvuz.qdue.data.services.UserWorkScheduleService;
 import net.calvuz.qdue.domain.calendar.engines.ExceptionResolver;
 import net.calvuz.qdue.domain.calendar.engines.RecurrenceCalculator;
 import net.calvuz.qdue.domain.calendar.engines.SchedulingEngine;
+import net.calvuz.qdue.domain.calendar.engines.TeamScheduleEngine;
 import net.calvuz.qdue.domain.calendar.repositories.LocalEventsRepository;
 import net.calvuz.qdue.domain.calendar.repositories.RecurrenceRuleRepository;
 import net.calvuz.qdue.domain.calendar.repositories.ShiftExceptionRepository;
@@ -257,6 +258,17 @@ public interface CalendarServiceProvider
     @NonNull
     SchedulingEngine getSchedulingEngine();
 
+    /**
+     * Get TeamScheduleEngine for parallel team-wide schedule generation.
+     *
+     * <p>Runs user × month chunks on a bounded executor owned by the provider,
+     * with cancellation and progress through ScheduleTaskHandle.</p>
+     *
+     * @return TeamScheduleEngine instance
+     */
+    @NonNull
+    TeamScheduleEngine getTeamScheduleEngine();
+
     // ======================================== USE CASES ========================================
 
     /**
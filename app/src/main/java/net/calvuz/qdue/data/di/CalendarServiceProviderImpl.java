@@ -6,12 +6,14 @@ import android.content.Context;
 import androidx.annotation.NonNull;
 
 import net.calvuz.qdue.core.backup.CoreBackupManager;
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.common.i18n.LocaleManager;
 import net.calvuz.qdue.core.db.CalendarDatabase;
 import net.calvuz.qdue.data.dao.UserTeamAssignmentDao;
 import net.calvuz.qdue.data.repositories.LocalEventsRepositoryImpl;
 import net.calvuz.qdue.data.repositories.QDueUserRepositoryImpl;
 import net.calvuz.qdue.data.repositories.RecurrenceRuleRepositoryImpl;
+import net.calvuz.qdue.data.repositories.ScheduleCache;
 import net.calvuz.qdue.data.repositories.ShiftExceptionRepositoryImpl;
 import net.calvuz.qdue.data.repositories.ShiftRepositoryImpl;
 import net.calvuz.qdue.data.repositories.TeamRepositoryImpl;
@@ -31,6 +33,7 @@ import net.calvuz.qdue.data.services.impl.UserWorkScheduleServiceImpl;
 import net.calvuz.qdue.domain.calendar.engines.ExceptionResolver;
 import net.calvuz.qdue.domain.calendar.engines.RecurrenceCalculator;
 import net.calvuz.qdue.domain.calendar.engines.SchedulingEngine;
+import net.calvuz.qdue.domain.calendar.engines.TeamScheduleEngine;
 import net.calvuz.qdue.domain.calendar.repositories.LocalEventsRepository;
 import net.calvuz.qdue.domain.calendar.repositories.RecurrenceRuleRepository;
 import net.calvuz.qdue.domain.calendar.repositories.ShiftExceptionRepository;
@@ -54,6 +57,7 @@ import net.calvuz.qdue.domain.qdueuser.usecases.QDueUserUseCases;
 import net.calvuz.qdue.ui.core.common.utils.Log;
 import net.calvuz.qdue.ui.features.events.local.di.LocalEventsModule;
 
+
 /**
  * CalendarServiceProviderImpl - Updated with ServiceProvider Integration
  *
@@ -125,6 +129,10 @@ public class CalendarServiceProviderImpl implements CalendarServiceProvider
     private final CalendarDatabase mDatabase;
     private final CoreBackupManager mCoreBackupManager;
 
+    // Generated schedule days, read by WorkScheduleRepository and invalidated by the
+    // repositories whose writes change them
+    private final ScheduleCache mScheduleCache = new ScheduleCache();
+
     // ==================== REPOSITORY INSTANCES ====================
 
     private volatile LocalEventsRepository mLocalEventsRepository;
@@ -142,6 +150,7 @@ public class CalendarServiceProviderImpl implements CalendarServiceProvider
     private volatile RecurrenceCalculator mRecurrenceCalculator;
     private volatile ExceptionResolver mExceptionResolver;
     private volatile SchedulingEngine mSchedulingEngine;
+    private volatile TeamScheduleEngine mTeamScheduleEngine;
 
     // ==================== MODULE INSTANCES ====================
 
@@ -195,6 +204,7 @@ public class CalendarServiceProviderImpl implements CalendarServiceProvider
     private final Object mRecurrenceCalculatorLock = new Object();
     private final Object mExceptionResolverLock = new Object();
     private final Object mSchedulingEngineLock = new Object();
+    private final Object mTeamScheduleEngineLock = new Object();
     private final Object mUserTeamAssignmentUseCasesLock = new Object();
     private final Object mUserScheduleUseCaseLock = new Object();
     private final Object mTeamScheduleUseCaseLock = new Object();
@@ -327,7 +337,8 @@ public class CalendarServiceProviderImpl implements CalendarServiceProvider
                     mRecurrenceRuleRepository = new RecurrenceRuleRepositoryImpl(
                             getContext(),
                             getDatabase(),
-                            getCoreBackupManager()
+                            getCoreBackupManager(),
+                            mScheduleCache
                             //getLocaleManager()
                     );
                 }
@@ -345,7 +356,8 @@ public class CalendarServiceProviderImpl implements CalendarServiceProvider
                     ensureInitialized();
                     Log.d( TAG, "Creating ShiftExceptionRepository instance" );
                     mShiftExceptionRepository = new ShiftExceptionRepositoryImpl(
-                            getDatabase()
+                            getDatabase(),
+                            mScheduleCache
                             //getDomainLocalizer()
                     );
                 }
@@ -405,7 +417,8 @@ public class CalendarServiceProviderImpl implements CalendarServiceProvider
                     ensureInitialized();
                     Log.d( TAG, "Creating UserScheduleAssignmentRepository instance" );
                     mUserScheduleAssignmentRepository = new UserScheduleAssignmentRepositoryImpl(
-                            getDatabase()
+                            getDatabase(),
+                            mScheduleCache
                             //getDomainLocalizer()
                     );
                 }
@@ -426,7 +439,8 @@ public class CalendarServiceProviderImpl implements CalendarServiceProvider
                     // WorkScheduleRepository uses this CalendarServiceProvider for all dependencies
                     mWorkScheduleRepository = new WorkScheduleRepositoryImpl(
                             getContext(),
-                            this // Pass this CalendarServiceProvider
+                            this, // Pass this CalendarServiceProvider
+                            mScheduleCache
                     );
                 }
             }
@@ -450,7 +464,8 @@ public class CalendarServiceProviderImpl implements CalendarServiceProvider
                     UserTeamAssignmentDao assignmentDao = mDatabase.userTeamAssignmentDao();
                     mUserTeamAssignmentRepository = new UserTeamAssignmentRepositoryImpl(
                             mContext,
-                            assignmentDao
+                            assignmentDao,
+                            mScheduleCache
                     );
                 }
             }
@@ -511,6 +526,26 @@ public class CalendarServiceProviderImpl implements CalendarServiceProvider
         return mSchedulingEngine;
     }
 
+    @Override
+    @NonNull
+    public TeamScheduleEngine getTeamScheduleEngine() {
+        if (mTeamScheduleEngine == null) {
+            synchronized (mTeamScheduleEngineLock) {
+                if (mTeamScheduleEngine == null) {
+                    ensureInitialized();
+                    // Per-team generation is CPU-only: fan out on the shared compute lane
+                    Log.d( TAG, "Creating TeamScheduleEngine instance" );
+                    mTeamScheduleEngine = new TeamScheduleEngine(
+                            getSchedulingEngine(),
+                            getExceptionResolver(),
+                            AppExecutors.getInstance().compute()
+                    );
+                }
+            }
+        }
+        return mTeamScheduleEngine;
+    }
+
     // ==================== MODULES ====================
 
     @Override
@@ -741,7 +776,11 @@ public class CalendarServiceProviderImpl implements CalendarServiceProvider
                     ensureInitialized();
                     Log.d( TAG, "Creating GenerateTeamScheduleUseCase instance" );
                     mGenerateTeamScheduleUseCase = new GenerateTeamScheduleUseCase(
-                            getWorkScheduleRepository()
+                            getUserScheduleAssignmentRepository(),
+                            getRecurrenceRuleRepository(),
+                            getShiftExceptionRepository(),
+                            getTeamRepository(),
+                            getTeamScheduleEngine()
                     );
                 }
             }
@@ -906,7 +945,11 @@ public class CalendarServiceProviderImpl implements CalendarServiceProvider
             synchronized (mTeamScheduleUseCaseLock) {
                 if (mGenerateTeamScheduleUseCase == null) {
                     mGenerateTeamScheduleUseCase = new GenerateTeamScheduleUseCase(
-                            getWorkScheduleRepository() );
+                            getUserScheduleAssignmentRepository(),
+                            getRecurrenceRuleRepository(),
+                            getShiftExceptionRepository(),
+                            getTeamRepository(),
+                            getTeamScheduleEngine() );
                     Log.d( TAG, "Created GenerateTeamScheduleUseCase instance" );
                 }
             }
@@ -1023,6 +1066,7 @@ public class CalendarServiceProviderImpl implements CalendarServiceProvider
                 mGenerateUserScheduleUseCase = null;
 
                 // Shutdown domain ENGINES
+                mTeamScheduleEngine = null;
                 mSchedulingEngine = null;
                 mExceptionResolver = null;
                 mRecurrenceCalculator = null;
@@ -1045,6 +1089,7 @@ public class CalendarServiceProviderImpl implements CalendarServiceProvider
                 mTeamRepository = null;
                 mShiftExceptionRepository = null;
                 mRecurrenceRuleRepository = null;
+                mScheduleCache.invalidateAll();
 
                 // Shutdown infrastructure
                 mDomainLocalizer = null;
@@ -1113,6 +1158,7 @@ public class CalendarServiceProviderImpl implements CalendarServiceProvider
         if (mRecurrenceCalculator != null) count++;
         if (mExceptionResolver != null) count++;
         if (mSchedulingEngine != null) count++;
+        if (mTeamScheduleEngine != null) count++;
         return count;
     }
 
@@ -0,0 +1,73 @@
+package net.calvuz.qdue.data.entities;
+
+import androidx.annotation.NonNull;
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.PrimaryKey;
+import androidx.room.TypeConverters;
+
+import net.calvuz.qdue.core.db.converters.EpochTypeConverters;
+import net.calvuz.qdue.domain.calendar.enums.EventType;
+import net.calvuz.qdue.domain.calendar.models.LocalEventDaySummary;
+import net.calvuz.qdue.domain.common.enums.Priority;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * LocalEventDaySummaryEntity - Per-day aggregate of {@link LocalEventEntity}.
+ *
+ * <p>Rows are not written directly: triggers on {@code local_events} recompute the
+ * days covered by every inserted, updated or deleted event. Query it through
+ * {@code LocalEventDao.getDaySummariesForDateRange()}.</p>
+ *
+ * @see net.calvuz.qdue.core.db.summary.DaySummaryIndex
+ */
+@Entity (tableName = "local_event_day_summary")
+@TypeConverters (EpochTypeConverters.class)
+public class LocalEventDaySummaryEntity
+{
+    @PrimaryKey
+    @NonNull
+    @ColumnInfo (name = "day")
+    public LocalDate day;
+
+    @ColumnInfo (name = "event_count")
+    public int eventCount;
+
+    // Priority ordinal + 1
+    @ColumnInfo (name = "max_priority")
+    public int maxPriority;
+
+    // Bit EventType.ordinal() set for every type present
+    @ColumnInfo (name = "type_mask")
+    public long typeMask;
+
+    @ColumnInfo (name = "has_all_day")
+    public boolean hasAllDay;
+
+    public LocalEventDaySummaryEntity(@NonNull LocalDate day) {
+        this.day = day;
+    }
+
+    /**
+     * Convert to domain model, decoding priority rank and type mask.
+     */
+    @NonNull
+    public LocalEventDaySummary toDomainModel() {
+        Priority[] priorities = Priority.values();
+        Priority highestPriority = maxPriority >= 1 && maxPriority <= priorities.length
+                ? priorities[maxPriority - 1]
+                : Priority.NORMAL;
+
+        Set<EventType> types = EnumSet.noneOf( EventType.class );
+        for (EventType type : EventType.values()) {
+            if ((typeMask & (1L << type.ordinal())) != 0) {
+                types.add( type );
+            }
+        }
+
+        return new LocalEventDaySummary( day, eventCount, highestPriority, types, hasAllDay );
+    }
+}
@@ -6,7 +6,9 @@ import androidx.room.ColumnInfo;
 import androidx.room.Entity;
 import androidx.room.Index;
 import androidx.room.PrimaryKey;
+import androidx.room.TypeConverters;
 
+import net.calvuz.qdue.core.db.converters.EpochTypeConverters;
 import net.calvuz.qdue.domain.common.enums.Priority;
 import net.calvuz.qdue.domain.calendar.enums.EventType;
 import net.calvuz.qdue.domain.calendar.models.LocalEvent;
@@ -19,9 +21,12 @@ import java.util.UUID;
         tableName = "local_events",
         indices = {
                 @Index (value = {"event_type"}),
-                @Index (value = {"event_priority"})
+                @Index (value = {"event_priority"}),
+                @Index (value = {"start_time", "end_time"}),
+                @Index (value = {"start_time", "id"})
         }
 )
+@TypeConverters (EpochTypeConverters.class)
 public class LocalEventEntity
 {
     @PrimaryKey
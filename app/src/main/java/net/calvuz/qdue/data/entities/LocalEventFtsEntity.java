@@ -0,0 +1,33 @@
+package net.calvuz.qdue.data.entities;
+
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.Fts4;
+import androidx.room.FtsOptions;
+
+/**
+ * LocalEventFtsEntity - External-content FTS4 index over the text columns of
+ * {@link LocalEventEntity}.
+ *
+ * <p>Rows are not written directly: Room's content sync triggers mirror every
+ * insert, update and delete on {@code local_events}. Query it through
+ * {@code LocalEventDao.searchEvents()}.</p>
+ *
+ * @see net.calvuz.qdue.core.db.search.FtsSearch
+ */
+@Fts4 (
+        contentEntity = LocalEventEntity.class,
+        tokenizer = FtsOptions.TOKENIZER_UNICODE61
+)
+@Entity (tableName = "local_events_fts")
+public class LocalEventFtsEntity
+{
+    @ColumnInfo (name = "title")
+    public String title;
+
+    @ColumnInfo (name = "description")
+    public String description;
+
+    @ColumnInfo (name = "location")
+    public String location;
+}
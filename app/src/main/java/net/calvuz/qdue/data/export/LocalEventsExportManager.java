@@ -7,6 +7,7 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
 import net.calvuz.qdue.QDue;
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.domain.calendar.models.LocalEvent;
 import net.calvuz.qdue.events.EventPackageJson;
 import net.calvuz.qdue.ui.core.common.utils.Log;
@@ -148,7 +149,7 @@ public class LocalEventsExportManager
      */
     public void exportToUri(List<LocalEvent> events, Uri destinationUri,
                             ExportOptions options, ExportCallback callback) {
-        new Thread(() -> {
+        AppExecutors.getInstance().bulk().execute(() -> {
             try {
                 ExportResult result = performExportToUri(events, destinationUri, options, callback);
                 callback.onExportComplete(result);
@@ -156,7 +157,7 @@ public class LocalEventsExportManager
                 Log.e(TAG, "Error exporting to URI: " + destinationUri, e);
                 callback.onExportError("Export failed: " + e.getMessage(), e);
             }
-        }).start();
+        });
     }
 
     /**
@@ -164,7 +165,7 @@ public class LocalEventsExportManager
      */
     public void exportToFile(List<LocalEvent> events, String filePath,
                              ExportOptions options, ExportCallback callback) {
-        new Thread(() -> {
+        AppExecutors.getInstance().bulk().execute(() -> {
             try {
                 ExportResult result = performExportToFile(events, filePath, options, callback);
                 callback.onExportComplete(result);
@@ -172,7 +173,7 @@ public class LocalEventsExportManager
                 Log.e(TAG, "Error exporting to file: " + filePath, e);
                 callback.onExportError("Export failed: " + e.getMessage(), e);
             }
-        }).start();
+        });
     }
 
     /**
@@ -3,20 +3,29 @@ package net.calvuz.qdue.data.repositories;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
+import net.calvuz.qdue.core.common.concurrent.CancellationToken;
+import net.calvuz.qdue.core.common.concurrent.TaskLane;
+import net.calvuz.qdue.core.common.metrics.Metrics;
+import net.calvuz.qdue.core.common.metrics.TraceSection;
 import net.calvuz.qdue.core.services.models.OperationResult;
 import net.calvuz.qdue.data.dao.LocalEventDao;
+import net.calvuz.qdue.data.entities.LocalEventDaySummaryEntity;
 import net.calvuz.qdue.data.entities.LocalEventEntity;
 import net.calvuz.qdue.domain.calendar.repositories.LocalEventsRepository;
 import net.calvuz.qdue.domain.calendar.models.LocalEvent;
+import net.calvuz.qdue.domain.calendar.models.LocalEventDaySummary;
+import net.calvuz.qdue.domain.calendar.models.LocalEventsFilter;
 import net.calvuz.qdue.domain.calendar.enums.EventType;
 import net.calvuz.qdue.domain.common.enums.Priority;
 import net.calvuz.qdue.ui.core.common.utils.Log;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.ArrayList;
 
@@ -53,10 +62,18 @@ public class LocalEventsRepositoryImpl
 
     private static final String TAG = "LocalEventsRepositoryImpl";
 
+    // Search-as-you-type: only the last query typed within this window runs
+    private static final long SEARCH_DEBOUNCE_MS = 250;
+
     // ==================== DEPENDENCIES ====================
 
     private final LocalEventDao mLocalEventDao;
-    private final ExecutorService mExecutorService;
+    private final TaskLane mExecutor;
+    private final Executor mWriteExecutor;
+
+    // Token of the search still pending or running; superseded by the next search
+    private final Object mSearchLock = new Object();
+    private CancellationToken mPendingSearch;
 
     // ==================== CONSTRUCTOR ====================
 
@@ -67,7 +84,8 @@ public class LocalEventsRepositoryImpl
      */
     public LocalEventsRepositoryImpl(@NonNull LocalEventDao localEventDao) {
         this.mLocalEventDao = localEventDao;
-        this.mExecutorService = Executors.newFixedThreadPool( 4 );
+        this.mExecutor = AppExecutors.getInstance().reads();
+        this.mWriteExecutor = AppExecutors.getInstance().writes();
 
         Log.d( TAG, "LocalEventsRepositoryImpl initialized" );
     }
@@ -115,7 +133,7 @@ public class LocalEventsRepositoryImpl
                         OperationResult.OperationType.CREATE
                 );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     @Override
@@ -167,7 +185,7 @@ public class LocalEventsRepositoryImpl
                         OperationResult.OperationType.UPDATE
                 );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     @Override
@@ -207,7 +225,7 @@ public class LocalEventsRepositoryImpl
                         OperationResult.OperationType.DELETE
                 );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     @Override
@@ -265,7 +283,7 @@ public class LocalEventsRepositoryImpl
                         OperationResult.OperationType.DELETE
                 );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     @Override
@@ -290,7 +308,7 @@ public class LocalEventsRepositoryImpl
                         OperationResult.OperationType.DELETE
                 );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     // ==================== RETRIEVAL OPERATIONS ====================
@@ -333,7 +351,7 @@ public class LocalEventsRepositoryImpl
                         OperationResult.OperationType.READ
                 );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -361,7 +379,38 @@ public class LocalEventsRepositoryImpl
                         OperationResult.OperationType.READ
                 );
             }
-        }, mExecutorService );
+        }, mExecutor );
+    }
+
+    @Override
+    @NonNull
+    public CompletableFuture<OperationResult<List<LocalEvent>>> getLocalEventsPage(@NonNull LocalEventsFilter filter,
+                                                                                  @Nullable LocalEvent after, int limit) {
+        return CompletableFuture.supplyAsync( () -> {
+            try (TraceSection section = Metrics.trace( "repo.local_events.page" )) {
+                List<LocalEventEntity> eventsEntities = mLocalEventDao.getEventsPage(
+                        filter,
+                        after != null ? after.getStartTime() : null,
+                        after != null ? after.getId() : null,
+                        limit );
+                List<LocalEvent> events = eventsEntities.stream()
+                        .map( LocalEventEntity::toDomainModel )
+                        .collect( Collectors.toList() );
+
+                Log.d( TAG, "Retrieved page of " + events.size() + " LocalEvents (" + filter + ")" );
+                return OperationResult.success(
+                        events,
+                        "Events page retrieved successfully",
+                        OperationResult.OperationType.READ
+                );
+            } catch (Exception e) {
+                Log.e( TAG, "Error getting LocalEvents page", e );
+                return OperationResult.failure(
+                        "Read operation failed: " + e.getMessage(),
+                        OperationResult.OperationType.READ
+                );
+            }
+        }, mExecutor );
     }
 
     @Override
@@ -395,7 +444,7 @@ public class LocalEventsRepositoryImpl
                         OperationResult.OperationType.READ
                 );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -403,7 +452,7 @@ public class LocalEventsRepositoryImpl
     public CompletableFuture<OperationResult<List<LocalEvent>>> getLocalEventsForDateRange(
             @NonNull LocalDateTime startDate, @NonNull LocalDateTime endDate) {
         return CompletableFuture.supplyAsync( () -> {
-            try {
+            try (TraceSection section = Metrics.trace( "repo.local_events.range" )) {
                 Log.d( TAG,
                        "Getting LocalEvents for " +
                                "date range: " + startDate.toLocalDate() +
@@ -435,7 +484,43 @@ public class LocalEventsRepositoryImpl
                         OperationResult.OperationType.READ
                 );
             }
-        }, mExecutorService );
+        }, mExecutor );
+    }
+
+    @Override
+    @NonNull
+    public CompletableFuture<OperationResult<List<LocalEventDaySummary>>> getDaySummariesForDateRange(
+            @NonNull LocalDate startDate, @NonNull LocalDate endDate) {
+        return CompletableFuture.supplyAsync( () -> {
+            try (TraceSection section = Metrics.trace( "repo.local_events.day_summaries" )) {
+                Log.d( TAG, "Getting day summaries for date range: " + startDate + " to " + endDate );
+
+                if (startDate.isAfter( endDate )) {
+                    return OperationResult.failure(
+                            "Start date cannot be after end date",
+                            OperationResult.OperationType.READ
+                    );
+                }
+
+                List<LocalEventDaySummary> summaries = mLocalEventDao.getDaySummariesForDateRange( startDate, endDate )
+                        .stream()
+                        .map( LocalEventDaySummaryEntity::toDomainModel )
+                        .collect( Collectors.toList() );
+
+                Log.d( TAG, "Retrieved " + summaries.size() + " day summaries for date range" );
+                return OperationResult.success(
+                        summaries,
+                        "Day summaries for date range retrieved successfully",
+                        OperationResult.OperationType.READ
+                );
+            } catch (Exception e) {
+                Log.e( TAG, "Error getting day summaries for date range", e );
+                return OperationResult.failure(
+                        "Read operation failed: " + e.getMessage(),
+                        OperationResult.OperationType.READ
+                );
+            }
+        }, mExecutor );
     }
 
     @Override
@@ -472,7 +557,7 @@ public class LocalEventsRepositoryImpl
                         OperationResult.OperationType.READ
                 );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== SEARCH AND FILTERING ====================
@@ -480,18 +565,29 @@ public class LocalEventsRepositoryImpl
     @Override
     @NonNull
     public CompletableFuture<OperationResult<List<LocalEvent>>> searchLocalEvents(@NonNull String query) {
-        return CompletableFuture.supplyAsync( () -> {
-            try {
-                Log.d( TAG, "Searching LocalEvents with query: " + query );
+        if (query.trim().isEmpty()) {
+            return CompletableFuture.completedFuture( OperationResult.failure(
+                    "Search query cannot be null or empty",
+                    OperationResult.OperationType.READ
+            ) );
+        }
 
-                if (query.trim().isEmpty()) {
-                    return OperationResult.failure(
-                            "Search query cannot be null or empty",
-                            OperationResult.OperationType.READ
-                    );
-                }
+        // A newer search cancels the previous one (its future completes cancelled)
+        CancellationToken token = new CancellationToken();
+        synchronized (mSearchLock) {
+            if (mPendingSearch != null) {
+                mPendingSearch.cancel();
+            }
+            mPendingSearch = token;
+        }
+
+        return AppExecutors.getInstance().supplyDelayed( mExecutor, () -> {
+            try (TraceSection section = Metrics.trace( "repo.local_events.search" )) {
+                Log.d( TAG, "Searching LocalEvents with query: " + query );
 
                 List<LocalEventEntity> eventsEntities = mLocalEventDao.searchEvents( query.trim() );
+                token.throwIfCancelled();
+
                 List<LocalEvent> events = eventsEntities.stream()
                         .map( LocalEventEntity::toDomainModel )
                         .collect( Collectors.toList() );
@@ -502,6 +598,8 @@ public class LocalEventsRepositoryImpl
                         "Search completed successfully",
                         OperationResult.OperationType.READ
                 );
+            } catch (CancellationException e) {
+                throw e;
             } catch (Exception e) {
                 Log.e( TAG, "Error searching events with query: " + query, e );
                 return OperationResult.failure(
@@ -509,7 +607,7 @@ public class LocalEventsRepositoryImpl
                         OperationResult.OperationType.READ
                 );
             }
-        }, mExecutorService );
+        }, SEARCH_DEBOUNCE_MS, token );
     }
 
     @Override
@@ -537,7 +635,7 @@ public class LocalEventsRepositoryImpl
                         OperationResult.OperationType.READ
                 );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -569,7 +667,7 @@ public class LocalEventsRepositoryImpl
                         OperationResult.OperationType.READ
                 );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -607,7 +705,7 @@ public class LocalEventsRepositoryImpl
                         OperationResult.OperationType.READ
                 );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== STATISTICS AND ANALYTICS ====================
@@ -634,7 +732,30 @@ public class LocalEventsRepositoryImpl
                         OperationResult.OperationType.READ
                 );
             }
-        }, mExecutorService );
+        }, mExecutor );
+    }
+
+    @Override
+    @NonNull
+    public CompletableFuture<OperationResult<Integer>> getLocalEventsCount(@NonNull LocalEventsFilter filter) {
+        return CompletableFuture.supplyAsync( () -> {
+            try {
+                int count = mLocalEventDao.getEventCount( filter );
+
+                Log.d( TAG, "LocalEvents count (" + filter + "): " + count );
+                return OperationResult.success(
+                        count,
+                        "Event count retrieved successfully",
+                        OperationResult.OperationType.READ
+                );
+            } catch (Exception e) {
+                Log.e( TAG, "Error getting filtered events count", e );
+                return OperationResult.failure(
+                        "Count operation failed: " + e.getMessage(),
+                        OperationResult.OperationType.READ
+                );
+            }
+        }, mExecutor );
     }
 
     @Override
@@ -659,7 +780,7 @@ public class LocalEventsRepositoryImpl
                         OperationResult.OperationType.READ
                 );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -693,7 +814,7 @@ public class LocalEventsRepositoryImpl
                         OperationResult.OperationType.READ
                 );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== BATCH OPERATIONS ====================
@@ -759,7 +880,7 @@ public class LocalEventsRepositoryImpl
                         OperationResult.OperationType.CREATE
                 );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     @Override
@@ -823,7 +944,7 @@ public class LocalEventsRepositoryImpl
                         OperationResult.OperationType.UPDATE
                 );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     // ==================== VALIDATION OPERATIONS ====================
@@ -902,21 +1023,21 @@ public class LocalEventsRepositoryImpl
                 List<LocalEventEntity> eventsEntitiesInRange = mLocalEventDao.getEventsForDateRange( startTime,
                                                                                        endTime );
 
-                // Filter out the excluded event and find actual conflicts
+                // Filter out the excluded event and find actual conflicts before mapping
                 List<LocalEvent> conflictingEvents = eventsEntitiesInRange.stream()
-                        .map( LocalEventEntity::toDomainModel )
-                        .filter( event -> {
+                        .filter( entity -> {
                             // Exclude the specified event
-                            if (excludeEventId != null && excludeEventId.equals( event.getId() )) {
+                            if (excludeEventId != null && excludeEventId.equals( entity.getId() )) {
                                 return false;
                             }
 
                             // Check for time overlap
                             return timeRangesOverlap(
                                     startTime, endTime,
-                                    event.getStartTime(), event.getEndTime()
+                                    entity.getStartTime(), entity.getEndTime()
                             );
                         } )
+                        .map( LocalEventEntity::toDomainModel )
                         .collect( Collectors.toList() );
 
                 Log.d( TAG, "Found " + conflictingEvents.size() + " conflicting events" );
@@ -932,7 +1053,7 @@ public class LocalEventsRepositoryImpl
                         OperationResult.OperationType.READ
                 );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== HELPER METHODS ====================
@@ -952,8 +1073,5 @@ public class LocalEventsRepositoryImpl
      */
     public void shutdown() {
         Log.d( TAG, "Shutting down LocalEventsRepositoryImpl" );
-        if (mExecutorService != null && !mExecutorService.isShutdown()) {
-            mExecutorService.shutdown();
-        }
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package net.calvuz.qdue.data.repositories;
 
 import androidx.annotation.NonNull;
 
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.db.CalendarDatabase;
 import net.calvuz.qdue.core.services.models.OperationResult;
 import net.calvuz.qdue.data.dao.QDueUserDao;
@@ -12,8 +13,7 @@ import net.calvuz.qdue.ui.core.common.utils.Log;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -27,7 +27,7 @@ import java.util.stream.Collectors;
  *   <li><strong>Async Operations</strong>: All database operations run on background threads</li>
  *   <li><strong>Entity Conversion</strong>: Automatic conversion between domain models and entities</li>
  *   <li><strong>Error Handling</strong>: Comprehensive error handling with OperationResult pattern</li>
- *   <li><strong>Resource Management</strong>: Proper ExecutorService lifecycle management</li>
+ *   <li><strong>Resource Management</strong>: Shared read and write lanes from AppExecutors</li>
  * </ul>
  *
  * <h3>Database Integration:</h3>
@@ -45,7 +45,8 @@ public class QDueUserRepositoryImpl implements QDueUserRepository {
     // ==================== DEPENDENCIES ====================
 
     private final QDueUserDao mQDueUserDao;
-    private final ExecutorService mExecutorService;
+    private final Executor mExecutor;
+    private final Executor mWriteExecutor;
 
     // ==================== CONSTRUCTOR ====================
 
@@ -56,7 +57,8 @@ public class QDueUserRepositoryImpl implements QDueUserRepository {
      */
     public QDueUserRepositoryImpl(@NonNull CalendarDatabase database) {
         this.mQDueUserDao = database.qDueUserDao();
-        this.mExecutorService = Executors.newSingleThreadExecutor();
+        this.mExecutor = AppExecutors.getInstance().reads();
+        this.mWriteExecutor = AppExecutors.getInstance().writes();
 
         // Initialize standard recurrence rules if needed
 //        initializeDefaultUserIfNeeded();
@@ -99,7 +101,7 @@ public class QDueUserRepositoryImpl implements QDueUserRepository {
                         OperationResult.OperationType.CREATE
                 );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     @Override
@@ -124,7 +126,7 @@ public class QDueUserRepositoryImpl implements QDueUserRepository {
                         OperationResult.OperationType.READ
                 );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -156,7 +158,7 @@ public class QDueUserRepositoryImpl implements QDueUserRepository {
                         OperationResult.OperationType.UPDATE
                 );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     @Override
@@ -184,7 +186,7 @@ public class QDueUserRepositoryImpl implements QDueUserRepository {
                         OperationResult.OperationType.DELETE
                 );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     // ==================== BULK OPERATIONS ====================
@@ -207,7 +209,7 @@ public class QDueUserRepositoryImpl implements QDueUserRepository {
                         OperationResult.OperationType.DELETE
                 );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     // ==================== BUSINESS QUERIES ====================
@@ -234,7 +236,7 @@ public class QDueUserRepositoryImpl implements QDueUserRepository {
                         OperationResult.OperationType.READ
                 );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -254,7 +256,7 @@ public class QDueUserRepositoryImpl implements QDueUserRepository {
                         OperationResult.OperationType.READ
                 );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -279,7 +281,7 @@ public class QDueUserRepositoryImpl implements QDueUserRepository {
                         OperationResult.OperationType.READ
                 );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== EXISTENCE CHECKS ====================
@@ -298,7 +300,7 @@ public class QDueUserRepositoryImpl implements QDueUserRepository {
                         OperationResult.OperationType.READ
                 );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -315,7 +317,7 @@ public class QDueUserRepositoryImpl implements QDueUserRepository {
                         OperationResult.OperationType.READ
                 );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== STATISTICS ====================
@@ -333,19 +335,16 @@ public class QDueUserRepositoryImpl implements QDueUserRepository {
                         OperationResult.OperationType.READ
                 );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== CLEANUP ====================
 
     /**
-     * Shutdown executor service for proper resource cleanup.
-     * Should be called when repository is no longer needed.
+     * Release repository resources. Executors are shared application-wide and
+     * are not shut down here.
      */
     public void shutdown() {
-        if (mExecutorService != null && !mExecutorService.isShutdown()) {
-            mExecutorService.shutdown();
-            Log.d( TAG, "ExecutorService shutdown completed" );
-        }
+        Log.d( TAG, "QDueUserRepositoryImpl shutdown" );
     }
 }
\ No newline at end of file
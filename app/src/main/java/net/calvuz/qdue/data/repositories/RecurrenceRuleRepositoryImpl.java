@@ -15,6 +15,7 @@ import android.content.Context;
 import androidx.annotation.NonNull;
 
 import net.calvuz.qdue.core.backup.CoreBackupManager;
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.db.CalendarDatabase;
 import net.calvuz.qdue.core.services.models.OperationResult;
 import net.calvuz.qdue.data.dao.RecurrenceRuleDao;
@@ -26,12 +27,14 @@ import net.calvuz.qdue.ui.core.common.utils.Log;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -54,7 +57,7 @@ import java.util.stream.Collectors;
  * <ul>
  *   <li><strong>Repository Pattern</strong>: Clean separation between domain and data</li>
  *   <li><strong>Dependency Injection</strong>: Constructor-based DI following project standards</li>
- *   <li><strong>Async Processing</strong>: Background thread execution with ExecutorService</li>
+ *   <li><strong>Async Processing</strong>: Shared read and write lanes from AppExecutors</li>
  *   <li><strong>Caching Strategy</strong>: In-memory cache for frequently accessed standard patterns</li>
  * </ul>
  *
@@ -79,7 +82,9 @@ public class RecurrenceRuleRepositoryImpl implements RecurrenceRuleRepository {
 
     private final RecurrenceRuleDao mRecurrenceRuleDao;
     private final CoreBackupManager mBackupManager;
-    private final ExecutorService mExecutorService;
+    private final ScheduleCache mScheduleCache;
+    private final Executor mExecutor;
+    private final Executor mWriteExecutor;
 
     // ==================== CACHING ====================
 
@@ -94,13 +99,17 @@ public class RecurrenceRuleRepositoryImpl implements RecurrenceRuleRepository {
      * @param context       Application context for resource access
      * @param database      CalendarDatabase instance for data operations
      * @param backupManager CoreBackupManager for automatic backup integration
+     * @param scheduleCache Schedule cache to invalidate on writes
      */
     public RecurrenceRuleRepositoryImpl(@NonNull Context context,
                                         @NonNull CalendarDatabase database,
-                                        @NonNull CoreBackupManager backupManager) {
+                                        @NonNull CoreBackupManager backupManager,
+                                        @NonNull ScheduleCache scheduleCache) {
         this.mRecurrenceRuleDao = database.recurrenceRuleDao();
         this.mBackupManager = backupManager;
-        this.mExecutorService = Executors.newSingleThreadExecutor(); // .newFixedThreadPool( 3 );
+        this.mScheduleCache = scheduleCache;
+        this.mExecutor = AppExecutors.getInstance().reads();
+        this.mWriteExecutor = AppExecutors.getInstance().writes();
 
         // Initialize standard recurrence rules if needed
         initializeStandardRulesIfNeeded();
@@ -145,6 +154,7 @@ public class RecurrenceRuleRepositoryImpl implements RecurrenceRuleRepository {
                     mStandardRulesCache.remove( entity.getId() );
                     mStandardRulesCacheInitialized = false; // Force refresh
                 }
+                mScheduleCache.invalidateRule( entity.getId() );
 
                 RecurrenceRule savedRule = entity.toDomainModel();
                 Log.d( TAG, "Successfully saved recurrence rule: " + recurrenceRule.getName() );
@@ -153,7 +163,7 @@ public class RecurrenceRuleRepositoryImpl implements RecurrenceRuleRepository {
                 Log.e( TAG, "Error saving recurrence rule: " + recurrenceRule.getName(), e );
                 throw new RuntimeException( "Failed to save recurrence rule", e );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     @NonNull
@@ -171,6 +181,8 @@ public class RecurrenceRuleRepositoryImpl implements RecurrenceRuleRepository {
             long result = mRecurrenceRuleDao.insertRecurrenceRule( entity );
 
             if (result > 0) {
+                // Insert replaces an existing rule with the same ID
+                mScheduleCache.invalidateRule( entity.getId() );
                 Log.d( TAG, "Inserted new recurrence rule: " + entity.getId() );
                 return CompletableFuture.completedFuture( true );
             } else {
@@ -204,6 +216,7 @@ public class RecurrenceRuleRepositoryImpl implements RecurrenceRuleRepository {
             int result = mRecurrenceRuleDao.updateRecurrenceRule( entity );
 
             if (result == 1) {
+                mScheduleCache.invalidateRule( entity.getId() );
                 Log.d( TAG, "Inserted new recurrence rule: " + entity.getId() );
                 return CompletableFuture.completedFuture( true );
             } else {
@@ -234,6 +247,7 @@ public class RecurrenceRuleRepositoryImpl implements RecurrenceRuleRepository {
                     long timestamp = System.currentTimeMillis();
                     int affectedRows = mRecurrenceRuleDao.deactivateRecurrenceRule( ruleId, timestamp );
                     if (affectedRows > 0) {
+                        mScheduleCache.invalidateRule( ruleId );
                         mBackupManager.performAutoBackup( "recurrence_rules", "deactivate" );
                         Log.d( TAG, "Deactivated recurrence rule in use: " + ruleId );
                         return true;
@@ -243,6 +257,7 @@ public class RecurrenceRuleRepositoryImpl implements RecurrenceRuleRepository {
                     // Hard delete if not in use
                     int affectedRows = mRecurrenceRuleDao.deleteRecurrenceRuleById( ruleId );
                     if (affectedRows > 0) {
+                        mScheduleCache.invalidateRule( ruleId );
                         mBackupManager.performAutoBackup( "recurrence_rules", "delete" );
                         Log.i( TAG, "Successfully deleted recurrence rule: " + ruleId );
                         return true;
@@ -255,7 +270,7 @@ public class RecurrenceRuleRepositoryImpl implements RecurrenceRuleRepository {
                 Log.e( TAG, "Error deleting recurrence rule: " + ruleId, e );
                 return false;
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     // ==================== RECURRENCE RULE QUERY OPERATIONS ====================
@@ -286,7 +301,7 @@ public class RecurrenceRuleRepositoryImpl implements RecurrenceRuleRepository {
                 return OperationResult.failure( "Error getting all active user recurrence rules",
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     /**
@@ -315,7 +330,7 @@ public class RecurrenceRuleRepositoryImpl implements RecurrenceRuleRepository {
                 return OperationResult.failure( "Error getting recurrence rule by name: " + name,
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @NonNull
@@ -336,7 +351,7 @@ public class RecurrenceRuleRepositoryImpl implements RecurrenceRuleRepository {
                 Log.e( TAG, "Error getting all recurrence rules", e );
                 return new ArrayList<>();
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @NonNull
@@ -364,7 +379,42 @@ public class RecurrenceRuleRepositoryImpl implements RecurrenceRuleRepository {
                 Log.e( TAG, "Error getting recurrence rule by ID: " + ruleId, e );
                 return null;
             }
-        }, mExecutorService );
+        }, mExecutor );
+    }
+
+    @NonNull
+    @Override
+    public CompletableFuture<Map<String, RecurrenceRule>> getRecurrenceRulesByIds(@NonNull Collection<String> ruleIds) {
+        return CompletableFuture.supplyAsync( () -> {
+            Map<String, RecurrenceRule> rules = new HashMap<>();
+            try {
+                // Standard rules are served from cache, the rest in one query
+                List<String> missingIds = new ArrayList<>();
+                for (String ruleId : ruleIds) {
+                    RecurrenceRule cachedRule = mStandardRulesCache.get( ruleId );
+                    if (cachedRule != null) {
+                        rules.put( ruleId, cachedRule );
+                    } else if (!missingIds.contains( ruleId )) {
+                        missingIds.add( ruleId );
+                    }
+                }
+
+                if (!missingIds.isEmpty()) {
+                    for (RecurrenceRuleEntity entity : mRecurrenceRuleDao.getRecurrenceRulesByIds( missingIds )) {
+                        RecurrenceRule domainRule = entity.toDomainModel();
+                        if (domainRule != null) {
+                            rules.put( domainRule.getId(), domainRule );
+                        }
+                    }
+                }
+
+                Log.v( TAG, "Successfully retrieved " + rules.size() + " of " + ruleIds.size() + " recurrence rules" );
+                return rules;
+            } catch (Exception e) {
+                Log.e( TAG, "Error getting recurrence rules by IDs: " + ruleIds, e );
+                return rules;
+            }
+        }, mExecutor );
     }
 
     @NonNull
@@ -384,7 +434,7 @@ public class RecurrenceRuleRepositoryImpl implements RecurrenceRuleRepository {
                 Log.e( TAG, "Error getting all active recurrence rules", e );
                 return new ArrayList<>();
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @NonNull
@@ -405,7 +455,7 @@ public class RecurrenceRuleRepositoryImpl implements RecurrenceRuleRepository {
                 Log.e( TAG, "Error getting recurrence rules by frequency: " + frequency, e );
                 return new ArrayList<>();
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @NonNull
@@ -429,7 +479,7 @@ public class RecurrenceRuleRepositoryImpl implements RecurrenceRuleRepository {
                 Log.e( TAG, "Error checking recurrence rule usage: " + ruleId, e );
                 return false; // Assume not in use on error
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== ADDITIONAL BUSINESS OPERATIONS ====================
@@ -454,7 +504,7 @@ public class RecurrenceRuleRepositoryImpl implements RecurrenceRuleRepository {
                 Log.e( TAG, "Error getting standard recurrence rules", e );
                 return new ArrayList<>();
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     /**
@@ -478,7 +528,7 @@ public class RecurrenceRuleRepositoryImpl implements RecurrenceRuleRepository {
                 Log.e( TAG, "Error getting QuattroDue recurrence rules", e );
                 return new ArrayList<>();
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     /**
@@ -504,7 +554,7 @@ public class RecurrenceRuleRepositoryImpl implements RecurrenceRuleRepository {
                 Log.e( TAG, "Error getting active recurrence rules for date: " + date, e );
                 return new ArrayList<>();
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     /**
@@ -535,7 +585,7 @@ public class RecurrenceRuleRepositoryImpl implements RecurrenceRuleRepository {
                 Log.e( TAG, "Error getting recurrence rule statistics", e );
                 return new RecurrenceRuleStatistics( 0, 0, 0, 0, 0 );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== HELPER METHODS ====================
@@ -563,7 +613,7 @@ public class RecurrenceRuleRepositoryImpl implements RecurrenceRuleRepository {
             } catch (Exception e) {
                 Log.e( TAG, "Error initializing standard recurrence rules", e );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     /**
@@ -0,0 +1,314 @@
+package net.calvuz.qdue.data.repositories;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import net.calvuz.qdue.core.common.metrics.CacheMeter;
+import net.calvuz.qdue.core.common.metrics.Metrics;
+import net.calvuz.qdue.core.db.changes.DataChange;
+import net.calvuz.qdue.core.db.changes.DataChangeBus;
+import net.calvuz.qdue.domain.calendar.models.WorkScheduleDay;
+import net.calvuz.qdue.ui.core.common.utils.Log;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ScheduleCache - Bounded LRU cache of generated WorkScheduleDays.
+ *
+ * <p>Shared by WorkScheduleRepositoryImpl (reads) and by the repositories whose writes
+ * change generated schedules (invalidation). Entries are keyed by (userId, epoch day,
+ * uncovered day status) and weighted by their number of shifts; once the total weight
+ * exceeds the bound the least recently used days are evicted, so memory stays flat
+ * however far the user scrolls.</p>
+ *
+ * <h3>Invalidation:</h3>
+ * <ul>
+ *   <li><strong>Exceptions</strong>: {@link #invalidateUserDates} for the affected users and date</li>
+ *   <li><strong>Schedule and team assignments</strong>: {@link #invalidateUser}</li>
+ *   <li><strong>Recurrence rules</strong>: {@link #invalidateRule}, days generated from that rule only</li>
+ *   <li><strong>Scheme or configuration</strong>: {@link #invalidateAll}</li>
+ * </ul>
+ *
+ * <p>Every invalidation bumps a generation counter. Callers read {@link #generation()}
+ * before loading data and pass it to {@link #put}; results computed from data loaded
+ * before an invalidation are dropped instead of being cached.</p>
+ *
+ * <p>Invalidations are also published on the {@link DataChangeBus} as
+ * {@link DataChange.Kind#WORK_SCHEDULE} changes, so that view caches drop the same dates:
+ * only {@link #invalidateUserDates} has dates, the others cover every date.</p>
+ */
+public final class ScheduleCache {
+
+    private static final String TAG = "ScheduleCache";
+
+    // About two years of days for a handful of users
+    public static final int DEFAULT_MAX_WEIGHT = 8192;
+
+    private final int mMaxWeight;
+
+    // Access-ordered: iteration starts from the least recently used entry
+    private final LinkedHashMap<Key, Entry> mEntries = new LinkedHashMap<>( 256, 0.75f, true );
+    private final Object mLock = new Object();
+
+    private long mGeneration;
+    private int mWeight;
+
+    // Statistics
+    private long mHits;
+    private long mMisses;
+    private long mEvictions;
+    private long mInvalidations;
+    private final CacheMeter mMeter = Metrics.cache( "schedule_cache" );
+
+    // ==================== CONSTRUCTORS ====================
+
+    public ScheduleCache() {
+        this( DEFAULT_MAX_WEIGHT );
+    }
+
+    /**
+     * @param maxWeight Maximum total weight (one per day plus one per shift)
+     */
+    public ScheduleCache(int maxWeight) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException( "Max weight must be positive: " + maxWeight );
+        }
+        this.mMaxWeight = maxWeight;
+    }
+
+    // ==================== KEY ====================
+
+    /**
+     * Cache key, compared by value without building strings.
+     */
+    private static final class Key {
+        final String userId;
+        final long epochDay;
+        final WorkScheduleDay.DayStatus uncoveredStatus;
+        final int hash;
+
+        Key(@NonNull String userId, long epochDay, @Nullable WorkScheduleDay.DayStatus uncoveredStatus) {
+            this.userId = userId;
+            this.epochDay = epochDay;
+            this.uncoveredStatus = uncoveredStatus;
+            this.hash = 31 * (31 * userId.hashCode() + Long.hashCode( epochDay ))
+                    + (uncoveredStatus != null ? uncoveredStatus.ordinal() + 1 : 0);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return epochDay == other.epochDay
+                    && uncoveredStatus == other.uncoveredStatus
+                    && userId.equals( other.userId );
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Entry {
+        final WorkScheduleDay day;
+        final String ruleId;
+        final int weight;
+
+        Entry(@NonNull WorkScheduleDay day, @Nullable String ruleId) {
+            this.day = day;
+            this.ruleId = ruleId;
+            this.weight = 1 + day.getWorkShifts().size();
+        }
+    }
+
+    // ==================== READ / WRITE ====================
+
+    /**
+     * @return Current generation, to be passed to {@link #put}
+     */
+    public long generation() {
+        synchronized (mLock) {
+            return mGeneration;
+        }
+    }
+
+    /**
+     * @param userId          User ID
+     * @param date            Date
+     * @param uncoveredStatus Day status used for dates without an assignment
+     * @return Cached day, or null on miss
+     */
+    @Nullable
+    public WorkScheduleDay get(@NonNull String userId, @NonNull LocalDate date,
+                               @Nullable WorkScheduleDay.DayStatus uncoveredStatus) {
+        Key key = new Key( userId, date.toEpochDay(), uncoveredStatus );
+        synchronized (mLock) {
+            Entry entry = mEntries.get( key );
+            if (entry != null) {
+                mHits++;
+                mMeter.hit();
+                return entry.day;
+            }
+            mMisses++;
+            mMeter.miss();
+            return null;
+        }
+    }
+
+    /**
+     * Store a generated day.
+     *
+     * @param userId          User ID
+     * @param day             Generated day
+     * @param uncoveredStatus Day status used for dates without an assignment
+     * @param ruleId          Recurrence rule the day was generated from, null if none
+     * @param generation      Value of {@link #generation()} read before loading the data
+     * @return false if the day was dropped because of an invalidation in the meantime
+     */
+    public boolean put(@NonNull String userId, @NonNull WorkScheduleDay day,
+                       @Nullable WorkScheduleDay.DayStatus uncoveredStatus,
+                       @Nullable String ruleId, long generation) {
+        Key key = new Key( userId, day.getDate().toEpochDay(), uncoveredStatus );
+        Entry entry = new Entry( day, ruleId );
+
+        synchronized (mLock) {
+            if (generation != mGeneration) {
+                return false;
+            }
+
+            Entry previous = mEntries.put( key, entry );
+            if (previous != null) {
+                mWeight -= previous.weight;
+            }
+            mWeight += entry.weight;
+            trimToWeight();
+            return true;
+        }
+    }
+
+    private void trimToWeight() {
+        Iterator<Entry> iterator = mEntries.values().iterator();
+        while (mWeight > mMaxWeight && iterator.hasNext()) {
+            mWeight -= iterator.next().weight;
+            iterator.remove();
+            mEvictions++;
+        }
+    }
+
+    // ==================== INVALIDATION ====================
+
+    /**
+     * Drop all days of a user.
+     */
+    public void invalidateUser(@NonNull String userId) {
+        int removed = removeIf( (key, entry) -> key.userId.equals( userId ) );
+        Log.v( TAG, "Invalidated " + removed + " days for user " + userId );
+        DataChangeBus.getInstance().publish( DataChange.all( DataChange.Kind.WORK_SCHEDULE ) );
+    }
+
+    /**
+     * Drop the days of a user in a date range.
+     *
+     * @param userId    User ID
+     * @param startDate Start date (inclusive)
+     * @param endDate   End date (inclusive), null for open-ended
+     */
+    public void invalidateUserDates(@NonNull String userId, @NonNull LocalDate startDate,
+                                    @Nullable LocalDate endDate) {
+        long start = startDate.toEpochDay();
+        long end = endDate != null ? endDate.toEpochDay() : Long.MAX_VALUE;
+        int removed = removeIf( (key, entry) -> key.epochDay >= start && key.epochDay <= end
+                && key.userId.equals( userId ) );
+        Log.v( TAG, "Invalidated " + removed + " days for user " + userId + " from " + startDate );
+        DataChangeBus.getInstance().publish(
+                DataChange.ofDates( DataChange.Kind.WORK_SCHEDULE, startDate, endDate ) );
+    }
+
+    /**
+     * Drop the days generated from a recurrence rule.
+     */
+    public void invalidateRule(@NonNull String ruleId) {
+        int removed = removeIf( (key, entry) -> ruleId.equals( entry.ruleId ) );
+        Log.v( TAG, "Invalidated " + removed + " days for rule " + ruleId );
+        DataChangeBus.getInstance().publish( DataChange.all( DataChange.Kind.WORK_SCHEDULE ) );
+    }
+
+    /**
+     * Drop everything.
+     */
+    public void invalidateAll() {
+        synchronized (mLock) {
+            mGeneration++;
+            mInvalidations += mEntries.size();
+            mEntries.clear();
+            mWeight = 0;
+        }
+        Log.v( TAG, "Invalidated all days" );
+        DataChangeBus.getInstance().publish( DataChange.all( DataChange.Kind.WORK_SCHEDULE ) );
+    }
+
+    private interface EntryFilter {
+        boolean matches(@NonNull Key key, @NonNull Entry entry);
+    }
+
+    private int removeIf(@NonNull EntryFilter filter) {
+        int removed = 0;
+        synchronized (mLock) {
+            mGeneration++;
+            Iterator<Map.Entry<Key, Entry>> iterator = mEntries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Key, Entry> mapEntry = iterator.next();
+                if (filter.matches( mapEntry.getKey(), mapEntry.getValue() )) {
+                    mWeight -= mapEntry.getValue().weight;
+                    iterator.remove();
+                    removed++;
+                }
+            }
+            mInvalidations += removed;
+        }
+        return removed;
+    }
+
+    // ==================== STATISTICS ====================
+
+    public int size() {
+        synchronized (mLock) {
+            return mEntries.size();
+        }
+    }
+
+    /**
+     * @return Snapshot of size and counters, for service status reports
+     */
+    @NonNull
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new HashMap<>();
+        synchronized (mLock) {
+            long lookups = mHits + mMisses;
+            statistics.put( "size", mEntries.size() );
+            statistics.put( "weight", mWeight );
+            statistics.put( "max_weight", mMaxWeight );
+            statistics.put( "hits", mHits );
+            statistics.put( "misses", mMisses );
+            statistics.put( "hit_rate", lookups > 0 ? (double) mHits / lookups : 0.0 );
+            statistics.put( "evictions", mEvictions );
+            statistics.put( "invalidations", mInvalidations );
+        }
+        return statistics;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        synchronized (mLock) {
+            return "ScheduleCache{size=" + mEntries.size() + ", weight=" + mWeight + "/" + mMaxWeight +
+                    ", hits=" + mHits + ", misses=" + mMisses + ", evictions=" + mEvictions + '}';
+        }
+    }
+}
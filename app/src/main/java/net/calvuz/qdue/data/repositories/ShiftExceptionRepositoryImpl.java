@@ -1,7 +1,9 @@
 package net.calvuz.qdue.data.repositories;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.db.CalendarDatabase;
 import net.calvuz.qdue.core.services.models.OperationResult;
 import net.calvuz.qdue.data.dao.ShiftExceptionDao;
@@ -14,8 +16,7 @@ import java.text.MessageFormat;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -29,7 +30,7 @@ import java.util.stream.Collectors;
  *   <li><strong>Entity Conversion</strong>: Uses entity's built-in conversion methods</li>
  *   <li><strong>OperationResult Pattern</strong>: Consistent error handling</li>
  *   <li><strong>Async Operations</strong>: CompletableFuture for all operations</li>
- *   <li><strong>Proper Resource Management</strong>: Closeable ExecutorService</li>
+ *   <li><strong>Proper Resource Management</strong>: Shared read and write lanes from AppExecutors</li>
  *   <li><strong>Comprehensive Logging</strong>: Structured error logging</li>
  * </ul>
  *
@@ -53,25 +54,24 @@ public class ShiftExceptionRepositoryImpl implements ShiftExceptionRepository {
     // ==================== DEPENDENCIES ====================
 
     private final ShiftExceptionDao mShiftExceptionDao;
-    private final ExecutorService mExecutorService;
+    private final ScheduleCache mScheduleCache;
+    private final Executor mExecutor;
+    private final Executor mWriteExecutor;
 
     // ==================== CONSTRUCTOR ====================
 
     /**
      * Constructor for dependency injection.
      *
-     * @param database Calendar database instance
+     * @param database      Calendar database instance
+     * @param scheduleCache Schedule cache to invalidate on writes
      */
-    public ShiftExceptionRepositoryImpl(@NonNull CalendarDatabase database) {
+    public ShiftExceptionRepositoryImpl(@NonNull CalendarDatabase database,
+                                        @NonNull ScheduleCache scheduleCache) {
         this.mShiftExceptionDao = database.shiftExceptionDao();
-        this.mExecutorService = Executors.newFixedThreadPool(
-                2,
-                r -> {
-                    Thread thread = new Thread( r, "ShiftException-DB-Thread" );
-                    thread.setDaemon( true ); // Avoid blocking JVM shutdown
-                    return thread;
-                }
-        );
+        this.mScheduleCache = scheduleCache;
+        this.mExecutor = AppExecutors.getInstance().reads();
+        this.mWriteExecutor = AppExecutors.getInstance().writes();
     }
 
     // ==================== CRUD OPERATIONS ====================
@@ -97,7 +97,7 @@ public class ShiftExceptionRepositoryImpl implements ShiftExceptionRepository {
                 Log.e( TAG, error, e );
                 return OperationResult.failure( error, OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -109,9 +109,13 @@ public class ShiftExceptionRepositoryImpl implements ShiftExceptionRepository {
                 ShiftExceptionEntity entity = ShiftExceptionEntity.fromDomainModel( shiftException );
                 entity.updateTimestamp(); // Update timestamp before saving
 
+                // A replaced exception may have targeted other users or another date
+                ShiftExceptionEntity previous = mShiftExceptionDao.getShiftExceptionById( shiftException.getId() );
                 long result = mShiftExceptionDao.insertShiftException( entity );
 
                 if (result > 0) {
+                    invalidateSchedules( previous );
+                    invalidateSchedules( shiftException );
                     Log.d( TAG, "Successfully saved shift exception: " + shiftException.getId() );
                     return OperationResult.success( shiftException, OperationResult.OperationType.CREATE );
                 } else {
@@ -124,7 +128,7 @@ public class ShiftExceptionRepositoryImpl implements ShiftExceptionRepository {
                 Log.e( TAG, error, e );
                 return OperationResult.failure( error, OperationResult.OperationType.CREATE );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     @Override
@@ -132,10 +136,12 @@ public class ShiftExceptionRepositoryImpl implements ShiftExceptionRepository {
     public CompletableFuture<OperationResult<Boolean>> deleteShiftException(@NonNull String exceptionId) {
         return CompletableFuture.supplyAsync( () -> {
             try {
+                ShiftExceptionEntity previous = mShiftExceptionDao.getShiftExceptionById( exceptionId );
                 int deletedRows = mShiftExceptionDao.deleteShiftExceptionById( exceptionId );
                 boolean success = deletedRows > 0;
 
                 if (success) {
+                    invalidateSchedules( previous );
                     Log.d( TAG, "Successfully deleted shift exception: " + exceptionId );
                     return OperationResult.success( true, OperationResult.OperationType.DELETE );
                 } else {
@@ -148,7 +154,7 @@ public class ShiftExceptionRepositoryImpl implements ShiftExceptionRepository {
                 Log.e( TAG, error, e );
                 return OperationResult.failure( error, OperationResult.OperationType.DELETE );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     // ==================== QUERY OPERATIONS ====================
@@ -171,7 +177,7 @@ public class ShiftExceptionRepositoryImpl implements ShiftExceptionRepository {
                 Log.e( TAG, error, e );
                 return OperationResult.failure( error, OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -195,7 +201,7 @@ public class ShiftExceptionRepositoryImpl implements ShiftExceptionRepository {
                 Log.e( TAG, error, e );
                 return OperationResult.failure( error, OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -217,7 +223,7 @@ public class ShiftExceptionRepositoryImpl implements ShiftExceptionRepository {
                 Log.e( TAG, error, e );
                 return OperationResult.failure( error, OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -241,7 +247,7 @@ public class ShiftExceptionRepositoryImpl implements ShiftExceptionRepository {
                 Log.e( TAG, error, e );
                 return OperationResult.failure( error, OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -269,7 +275,7 @@ public class ShiftExceptionRepositoryImpl implements ShiftExceptionRepository {
                 Log.e( TAG, error, e );
                 return OperationResult.failure( error, OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -291,7 +297,7 @@ public class ShiftExceptionRepositoryImpl implements ShiftExceptionRepository {
                 Log.e( TAG, error, e );
                 return OperationResult.failure( error, OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -314,7 +320,7 @@ public class ShiftExceptionRepositoryImpl implements ShiftExceptionRepository {
                 Log.e( TAG, error, e );
                 return OperationResult.failure( error, OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== UPDATE OPERATIONS ====================
@@ -333,6 +339,7 @@ public class ShiftExceptionRepositoryImpl implements ShiftExceptionRepository {
                 boolean success = updatedRows > 0;
 
                 if (success) {
+                    invalidateSchedules( mShiftExceptionDao.getShiftExceptionById( exceptionId ) );
                     Log.d( TAG, "Successfully updated exception status: " + exceptionId );
                     return OperationResult.success( true, OperationResult.OperationType.UPDATE );
                 } else {
@@ -345,7 +352,7 @@ public class ShiftExceptionRepositoryImpl implements ShiftExceptionRepository {
                 Log.e( TAG, error, e );
                 return OperationResult.failure( error, OperationResult.OperationType.UPDATE );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     @Override
@@ -364,6 +371,7 @@ public class ShiftExceptionRepositoryImpl implements ShiftExceptionRepository {
                 boolean success = updatedRows > 0;
 
                 if (success) {
+                    invalidateSchedules( mShiftExceptionDao.getShiftExceptionById( exceptionId ) );
                     Log.d( TAG, "Successfully approved exception: " + exceptionId );
                     return OperationResult.success( true, OperationResult.OperationType.UPDATE );
                 } else {
@@ -376,7 +384,7 @@ public class ShiftExceptionRepositoryImpl implements ShiftExceptionRepository {
                 Log.e( TAG, error, e );
                 return OperationResult.failure( error, OperationResult.OperationType.UPDATE );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     @Override
@@ -393,6 +401,7 @@ public class ShiftExceptionRepositoryImpl implements ShiftExceptionRepository {
                 boolean success = updatedRows > 0;
 
                 if (success) {
+                    invalidateSchedules( mShiftExceptionDao.getShiftExceptionById( exceptionId ) );
                     Log.d( TAG, "Successfully rejected exception: " + exceptionId );
                     return OperationResult.success( true, OperationResult.OperationType.UPDATE );
                 } else {
@@ -405,7 +414,7 @@ public class ShiftExceptionRepositoryImpl implements ShiftExceptionRepository {
                 Log.e( TAG, error, e );
                 return OperationResult.failure( error, OperationResult.OperationType.UPDATE );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     // ==================== STATISTICS ====================
@@ -426,7 +435,7 @@ public class ShiftExceptionRepositoryImpl implements ShiftExceptionRepository {
                 Log.e( TAG, error, e );
                 return OperationResult.failure( error, OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== CONVERSION UTILITIES ====================
@@ -442,14 +451,38 @@ public class ShiftExceptionRepositoryImpl implements ShiftExceptionRepository {
                 .collect( Collectors.toList() );
     }
 
+    // ==================== CACHE INVALIDATION ====================
+
+    /**
+     * Drop the cached schedule days changed by an exception: its target date for the
+     * requesting user and for the swap or replacement counterpart.
+     */
+    private void invalidateSchedules(@NonNull ShiftException exception) {
+        LocalDate date = exception.getTargetDate();
+        if (date == null) {
+            return;
+        }
+        for (String userId : new String[]{exception.getUserId(), exception.getSwapWithUserId(),
+                exception.getReplacementUserId()}) {
+            if (userId != null) {
+                mScheduleCache.invalidateUserDates( userId, date, date );
+            }
+        }
+    }
+
+    private void invalidateSchedules(@Nullable ShiftExceptionEntity entity) {
+        if (entity != null) {
+            invalidateSchedules( entity.toDomainModel() );
+        }
+    }
+
     // ==================== RESOURCE MANAGEMENT ====================
 
     /**
-     * Shutdown the executor service.
-     * Should be called when the repository is no longer needed.
+     * Release repository resources. Executors are shared application-wide and
+     * are not shut down here.
      */
     public void shutdown() {
-        Log.d( TAG, "Shutting down ShiftExceptionRepository executor service" );
-        mExecutorService.shutdown();
+        Log.d( TAG, "ShiftExceptionRepository shutdown" );
     }
 }
\ No newline at end of file
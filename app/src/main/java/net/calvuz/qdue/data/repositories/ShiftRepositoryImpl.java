@@ -6,6 +6,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import net.calvuz.qdue.core.backup.CoreBackupManager;
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.common.i18n.LocaleManager;
 import net.calvuz.qdue.core.db.CalendarDatabase;
 import net.calvuz.qdue.data.dao.ShiftDao;
@@ -22,8 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -47,7 +47,7 @@ import java.util.stream.Collectors;
  * <ul>
  *   <li><strong>Repository Pattern</strong>: Clean separation between domain and data</li>
  *   <li><strong>Dependency Injection</strong>: Constructor-based DI following project standards</li>
- *   <li><strong>Async Processing</strong>: Background thread execution with ExecutorService</li>
+ *   <li><strong>Async Processing</strong>: Shared read and write lanes from AppExecutors</li>
  *   <li><strong>Caching Strategy</strong>: In-memory cache for system default shifts</li>
  *   <li><strong>Factory Methods</strong>: Standard shift template creation</li>
  * </ul>
@@ -75,7 +75,9 @@ public class ShiftRepositoryImpl implements ShiftRepository {
     private final ShiftDao mShiftDao;
     private final CoreBackupManager mBackupManager;
     private final LocaleManager mLocaleManager;
-    private final ExecutorService mExecutorService;
+    private final Executor mExecutor;
+    private final Executor mWriteExecutor;
+    private final Executor mBulkExecutor;
 
     // ==================== CACHING ====================
 
@@ -106,7 +108,9 @@ public class ShiftRepositoryImpl implements ShiftRepository {
         this.mShiftDao = database.shiftDao();
         this.mBackupManager = backupManager;
         this.mLocaleManager = new LocaleManager(mContext);
-        this.mExecutorService = Executors.newFixedThreadPool(3);
+        this.mExecutor = AppExecutors.getInstance().reads();
+        this.mWriteExecutor = AppExecutors.getInstance().writes();
+        this.mBulkExecutor = AppExecutors.getInstance().bulk();
 
         Log.d(TAG, "ShiftRepositoryImpl initialized via dependency injection");
     }
@@ -141,7 +145,7 @@ public class ShiftRepositoryImpl implements ShiftRepository {
                 Log.e(TAG, "Error getting shift by ID: " + shiftId, e);
                 return null;
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @NonNull
@@ -165,7 +169,7 @@ public class ShiftRepositoryImpl implements ShiftRepository {
                 Log.e(TAG, "Error getting shift by name: " + shiftName, e);
                 return null;
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @NonNull
@@ -188,7 +192,7 @@ public class ShiftRepositoryImpl implements ShiftRepository {
                 Log.e(TAG, "Error getting all shifts", e);
                 return new ArrayList<>();
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @NonNull
@@ -212,7 +216,7 @@ public class ShiftRepositoryImpl implements ShiftRepository {
                 Log.e(TAG, "Error getting shifts by type: " + shiftType, e);
                 return new ArrayList<>();
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @NonNull
@@ -254,7 +258,7 @@ public class ShiftRepositoryImpl implements ShiftRepository {
                 Log.e(TAG, "Error saving shift: " + shift.getName(), e);
                 throw new RuntimeException("Failed to save shift", e);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @NonNull
@@ -287,7 +291,7 @@ public class ShiftRepositoryImpl implements ShiftRepository {
                 Log.e(TAG, "Error deleting shift: " + shiftId, e);
                 return false;
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     // ==================== PREDEFINED SHIFTS ====================
@@ -311,7 +315,7 @@ public class ShiftRepositoryImpl implements ShiftRepository {
                 Log.e(TAG, "Error getting system default shifts", e);
                 return new ArrayList<>();
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @NonNull
@@ -404,7 +408,7 @@ public class ShiftRepositoryImpl implements ShiftRepository {
                 errors.add("Validation error: " + e.getMessage());
                 return new ValidationResult(false, errors, new ArrayList<>());
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @NonNull
@@ -417,7 +421,7 @@ public class ShiftRepositoryImpl implements ShiftRepository {
                 Log.e(TAG, "Error checking if shift exists: " + shiftId, e);
                 return false;
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @NonNull
@@ -430,7 +434,7 @@ public class ShiftRepositoryImpl implements ShiftRepository {
                 Log.e(TAG, "Error checking if shift name is available: " + shiftName, e);
                 return false;
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @NonNull
@@ -467,7 +471,7 @@ public class ShiftRepositoryImpl implements ShiftRepository {
                 Log.e(TAG, "Error finding conflicting shifts", e);
                 return new ArrayList<>();
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     // ==================== BUSINESS OPERATIONS ====================
@@ -507,7 +511,7 @@ public class ShiftRepositoryImpl implements ShiftRepository {
                 Log.e(TAG, "Error getting replacement shifts", e);
                 return new ArrayList<>();
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @NonNull
@@ -542,7 +546,7 @@ public class ShiftRepositoryImpl implements ShiftRepository {
                 Log.e(TAG, "Error getting compatible shifts", e);
                 return new ArrayList<>();
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @NonNull
@@ -574,7 +578,7 @@ public class ShiftRepositoryImpl implements ShiftRepository {
                 Log.e(TAG, "Error creating shift template", e);
                 throw new RuntimeException("Failed to create shift template", e);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @NonNull
@@ -637,7 +641,7 @@ public class ShiftRepositoryImpl implements ShiftRepository {
                 Log.e(TAG, "Error duplicating shift", e);
                 throw new RuntimeException("Failed to duplicate shift", e);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     // ==================== STATISTICS AND REPORTING ====================
@@ -705,7 +709,7 @@ public class ShiftRepositoryImpl implements ShiftRepository {
                 // Return empty statistics on error
                 return new ShiftStatistics(0, 0, 0, 0, 0, 0, null, null, null);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @NonNull
@@ -731,7 +735,7 @@ public class ShiftRepositoryImpl implements ShiftRepository {
                 Log.e(TAG, "Error getting most used shifts", e);
                 return new ArrayList<>();
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @NonNull
@@ -761,7 +765,7 @@ public class ShiftRepositoryImpl implements ShiftRepository {
                 Log.e(TAG, "Error getting shifts by usage frequency", e);
                 return new ArrayList<>();
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     // ==================== BULK OPERATIONS ====================
@@ -799,7 +803,7 @@ public class ShiftRepositoryImpl implements ShiftRepository {
                 Log.e(TAG, "Error saving shifts in bulk", e);
                 return 0;
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @NonNull
@@ -836,7 +840,7 @@ public class ShiftRepositoryImpl implements ShiftRepository {
                 Log.e(TAG, "Error deleting shifts in bulk", e);
                 return 0;
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @NonNull
@@ -897,7 +901,7 @@ public class ShiftRepositoryImpl implements ShiftRepository {
                 errors.add("Import failed: " + e.getMessage());
                 return new ImportResult(shifts.size(), 0, 0, shifts.size(), errors);
             }
-        }, mExecutorService);
+        }, mBulkExecutor);
     }
 
     // ==================== DOMAIN MODEL CONVERSION ====================
@@ -1062,7 +1066,7 @@ public class ShiftRepositoryImpl implements ShiftRepository {
                 Log.e(TAG, "Error getting system shift: " + shiftId, e);
                 return null;
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     /**
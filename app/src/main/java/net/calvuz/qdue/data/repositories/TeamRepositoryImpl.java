@@ -5,6 +5,7 @@ import android.content.Context;
 import androidx.annotation.NonNull;
 
 import net.calvuz.qdue.core.backup.CoreBackupManager;
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.db.CalendarDatabase;
 import net.calvuz.qdue.core.services.models.OperationResult;
 import net.calvuz.qdue.data.dao.TeamDao;
@@ -19,8 +20,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -43,7 +43,7 @@ import java.util.stream.Collectors;
  * <ul>
  *   <li><strong>Repository Pattern</strong>: Clean separation between domain and data</li>
  *   <li><strong>Dependency Injection</strong>: Constructor-based DI following project standards</li>
- *   <li><strong>Async Processing</strong>: Background thread execution with ExecutorService</li>
+ *   <li><strong>Async Processing</strong>: Shared read and write lanes from AppExecutors</li>
  *   <li><strong>Caching Strategy</strong>: In-memory cache for frequently accessed data</li>
  * </ul>
  *
@@ -60,7 +60,8 @@ public class TeamRepositoryImpl implements TeamRepository {
 
     private final TeamDao mTeamDao;
     private final CoreBackupManager mBackupManager;
-    private final ExecutorService mExecutorService;
+    private final Executor mExecutor;
+    private final Executor mWriteExecutor;
 
     // ==================== USER-TEAM ASSIGNMENT STORAGE ====================
 
@@ -83,7 +84,8 @@ public class TeamRepositoryImpl implements TeamRepository {
                               @NonNull CoreBackupManager backupManager) {
         this.mTeamDao = database.teamDao();
         this.mBackupManager = backupManager;
-        this.mExecutorService = Executors.newFixedThreadPool( 3 );
+        this.mExecutor = AppExecutors.getInstance().reads();
+        this.mWriteExecutor = AppExecutors.getInstance().writes();
 
         // TODO: Initialize with standard QuattroDue teams? Deprecated
         //initializeStandardTeamsIfNeeded();
@@ -114,7 +116,7 @@ public class TeamRepositoryImpl implements TeamRepository {
                 Log.e( TAG, "Error getting team by ID: " + teamId, e );
                 return null;
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @NonNull
@@ -137,7 +139,7 @@ public class TeamRepositoryImpl implements TeamRepository {
                 Log.e( TAG, "Error getting team by name: " + teamName, e );
                 return null;
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @NonNull
@@ -159,7 +161,7 @@ public class TeamRepositoryImpl implements TeamRepository {
                 Log.e( TAG, "Error getting active teams", e );
                 return new ArrayList<>();
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @NonNull
@@ -184,7 +186,7 @@ public class TeamRepositoryImpl implements TeamRepository {
                 return OperationResult.failure( "Failed to load QuattroDue teams: " + e.getMessage(),
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @NonNull
@@ -206,7 +208,7 @@ public class TeamRepositoryImpl implements TeamRepository {
                 Log.e( TAG, "Error getting all teams", e );
                 return new ArrayList<>();
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @NonNull
@@ -245,7 +247,7 @@ public class TeamRepositoryImpl implements TeamRepository {
                 Log.e( TAG, "Error saving team: " + team, e );
                 throw new RuntimeException( "Failed to save team", e );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     @NonNull
@@ -280,7 +282,7 @@ public class TeamRepositoryImpl implements TeamRepository {
                 Log.e( TAG, "Error deleting team: " + team, e );
                 return false;
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     // ==================== USER-TEAM ASSIGNMENT OPERATIONS ====================
@@ -311,7 +313,7 @@ public class TeamRepositoryImpl implements TeamRepository {
                 Log.e( TAG, "Error getting team for user: " + userId, e );
                 return null;
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @NonNull
@@ -340,7 +342,7 @@ public class TeamRepositoryImpl implements TeamRepository {
                 Log.e( TAG, "Error getting teams for user: " + userId, e );
                 return new ArrayList<>();
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @NonNull
@@ -354,7 +356,7 @@ public class TeamRepositoryImpl implements TeamRepository {
                 Log.e( TAG, "Error getting users in team: " + teamId, e );
                 return new ArrayList<>();
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @NonNull
@@ -401,7 +403,7 @@ public class TeamRepositoryImpl implements TeamRepository {
                 Log.e( TAG, "Error assigning user to team", e );
                 return false;
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     @NonNull
@@ -447,7 +449,7 @@ public class TeamRepositoryImpl implements TeamRepository {
                 Log.e( TAG, "Error removing user from team", e );
                 return false;
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     @NonNull
@@ -470,7 +472,7 @@ public class TeamRepositoryImpl implements TeamRepository {
                 Log.e( TAG, "Error setting primary team", e );
                 return false;
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     // ==================== BUSINESS QUERY OPERATIONS ====================
@@ -486,7 +488,7 @@ public class TeamRepositoryImpl implements TeamRepository {
                 Log.e( TAG, "Error checking user team membership", e );
                 return false;
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @NonNull
@@ -520,7 +522,7 @@ public class TeamRepositoryImpl implements TeamRepository {
                 Log.e( TAG, "Error searching teams by name pattern", e );
                 return new ArrayList<>();
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @NonNull
@@ -536,7 +538,7 @@ public class TeamRepositoryImpl implements TeamRepository {
                 Log.e( TAG, "Error getting teams for shifts", e );
                 return new ArrayList<>();
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @NonNull
@@ -549,7 +551,7 @@ public class TeamRepositoryImpl implements TeamRepository {
                 Log.e( TAG, "Error getting active team count", e );
                 return 0;
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @NonNull
@@ -563,7 +565,7 @@ public class TeamRepositoryImpl implements TeamRepository {
                 Log.e( TAG, "Error getting user count in team", e );
                 return 0;
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== ADVANCED TEAM OPERATIONS ====================
@@ -579,7 +581,7 @@ public class TeamRepositoryImpl implements TeamRepository {
                 Log.e( TAG, "Error getting available teams for scheduling", e );
                 return new ArrayList<>();
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @NonNull
@@ -602,7 +604,7 @@ public class TeamRepositoryImpl implements TeamRepository {
                 Log.e( TAG, "Error getting teams with minimum users", e );
                 return new ArrayList<>();
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @NonNull
@@ -617,7 +619,7 @@ public class TeamRepositoryImpl implements TeamRepository {
                 Log.e( TAG, "Error getting eligible teams for user", e );
                 return new ArrayList<>();
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @NonNull
@@ -637,7 +639,7 @@ public class TeamRepositoryImpl implements TeamRepository {
                 Log.e( TAG, "Error bulk assigning users to team", e );
                 return 0;
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     @NonNull
@@ -662,7 +664,7 @@ public class TeamRepositoryImpl implements TeamRepository {
                 Log.e( TAG, "Error transferring users between teams", e );
                 return 0;
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     // ==================== STATISTICS AND REPORTING ====================
@@ -711,7 +713,7 @@ public class TeamRepositoryImpl implements TeamRepository {
                 Log.e( TAG, "Error getting team statistics", e );
                 return new TeamStatistics( 0, 0, 0, 0, 0.0, null, null );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @NonNull
@@ -740,7 +742,7 @@ public class TeamRepositoryImpl implements TeamRepository {
                 Log.e( TAG, "Error getting teams ordered by user count", e );
                 return new ArrayList<>();
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== HELPER METHODS ====================
@@ -1,7 +1,9 @@
 package net.calvuz.qdue.data.repositories;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.db.CalendarDatabase;
 import net.calvuz.qdue.core.services.models.OperationResult;
 import net.calvuz.qdue.data.dao.UserScheduleAssignmentDao;
@@ -15,8 +17,7 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -30,7 +31,7 @@ import java.util.stream.Collectors;
  *   <li><strong>Entity Conversion</strong>: Uses entity's built-in conversion methods</li>
  *   <li><strong>OperationResult Pattern</strong>: Consistent error handling</li>
  *   <li><strong>Async Operations</strong>: CompletableFuture for all operations</li>
- *   <li><strong>Proper Resource Management</strong>: Closeable ExecutorService</li>
+ *   <li><strong>Proper Resource Management</strong>: Shared read and write lanes from AppExecutors</li>
  *   <li><strong>Comprehensive Logging</strong>: Structured error logging</li>
  * </ul>
  *
@@ -54,25 +55,24 @@ public class UserScheduleAssignmentRepositoryImpl implements UserScheduleAssignm
     // ==================== DEPENDENCIES ====================
 
     private final UserScheduleAssignmentDao mUserScheduleAssignmentDao;
-    private final ExecutorService mExecutorService;
+    private final ScheduleCache mScheduleCache;
+    private final Executor mExecutor;
+    private final Executor mWriteExecutor;
 
     // ==================== CONSTRUCTOR ====================
 
     /**
      * Constructor for dependency injection.
      *
-     * @param database Calendar database instance
+     * @param database      Calendar database instance
+     * @param scheduleCache Schedule cache to invalidate on writes
      */
-    public UserScheduleAssignmentRepositoryImpl(@NonNull CalendarDatabase database) {
+    public UserScheduleAssignmentRepositoryImpl(@NonNull CalendarDatabase database,
+                                                @NonNull ScheduleCache scheduleCache) {
         this.mUserScheduleAssignmentDao = database.userScheduleAssignmentDao();
-        this.mExecutorService = Executors.newFixedThreadPool(
-                2,
-                r -> {
-                    Thread thread = new Thread(r, "UserAssignment-DB-Thread");
-                    thread.setDaemon(true); // Avoid blocking JVM shutdown
-                    return thread;
-                }
-        );
+        this.mScheduleCache = scheduleCache;
+        this.mExecutor = AppExecutors.getInstance().reads();
+        this.mWriteExecutor = AppExecutors.getInstance().writes();
     }
 
     // ==================== CRUD OPERATIONS ====================
@@ -101,7 +101,7 @@ public class UserScheduleAssignmentRepositoryImpl implements UserScheduleAssignm
                 Log.e(TAG, error, e);
                 return OperationResult.failure(error,OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -115,9 +115,15 @@ public class UserScheduleAssignmentRepositoryImpl implements UserScheduleAssignm
                 UserScheduleAssignmentEntity entity = UserScheduleAssignmentEntity.fromDomainModel(assignment);
                 entity.updateTimestamp(); // Update timestamp before saving
 
+                // Insert replaces an existing assignment with the same ID
+                UserScheduleAssignmentEntity previous = mUserScheduleAssignmentDao.getUserScheduleAssignmentById(assignment.getId());
                 long result = mUserScheduleAssignmentDao.insertUserScheduleAssignment(entity);
 
                 if (result > 0) {
+                    invalidateSchedules(previous);
+                    // A new assignment only changes the days it covers
+                    mScheduleCache.invalidateUserDates(assignment.getUserId(),
+                            assignment.getStartDate(), assignment.getEndDate());
                     Log.d(TAG, "Successfully saved user assignment: " + assignment.getId());
                     return OperationResult.success(assignment, OperationResult.OperationType.CREATE);
                 } else {
@@ -131,7 +137,7 @@ public class UserScheduleAssignmentRepositoryImpl implements UserScheduleAssignm
                 Log.e(TAG, error, e);
                 return OperationResult.failure(error,OperationResult.OperationType.CREATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -141,10 +147,12 @@ public class UserScheduleAssignmentRepositoryImpl implements UserScheduleAssignm
             try {
                 Log.d(TAG, "Deleting user schedule assignment: " + assignmentId);
 
+                UserScheduleAssignmentEntity previous = mUserScheduleAssignmentDao.getUserScheduleAssignmentById(assignmentId);
                 int deletedRows = mUserScheduleAssignmentDao.deleteUserScheduleAssignmentById(assignmentId);
                 boolean success = deletedRows > 0;
 
                 if (success) {
+                    invalidateSchedules(previous);
                     Log.d(TAG, "Successfully deleted user assignment: " + assignmentId);
                     return OperationResult.success(true, OperationResult.OperationType.DELETE);
                 } else {
@@ -158,7 +166,7 @@ public class UserScheduleAssignmentRepositoryImpl implements UserScheduleAssignm
                 Log.e(TAG, error, e);
                 return OperationResult.failure(error,OperationResult.OperationType.DELETE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -172,8 +180,11 @@ public class UserScheduleAssignmentRepositoryImpl implements UserScheduleAssignm
                 UserScheduleAssignmentEntity entity = UserScheduleAssignmentEntity.fromDomainModel( assignment );
                 entity.updateTimestamp(); // Update timestamp before saving
 
+                UserScheduleAssignmentEntity previous = mUserScheduleAssignmentDao.getUserScheduleAssignmentById(assignment.getId());
                 long result = mUserScheduleAssignmentDao.updateUserScheduleAssignment(entity);
                 if (result > 0) {
+                    invalidateSchedules(previous);
+                    mScheduleCache.invalidateUser(assignment.getUserId());
                     Log.d(TAG, "Successfully updated user assignment: " + assignment.getId());
                     return OperationResult.success(assignment, OperationResult.OperationType.UPDATE);
                 } else {
@@ -187,7 +198,7 @@ public class UserScheduleAssignmentRepositoryImpl implements UserScheduleAssignm
                 Log.e(TAG, error, e);
                 return OperationResult.failure(error,OperationResult.OperationType.UPDATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
             }
 
     // ==================== USER-SPECIFIC QUERIES ====================
@@ -223,7 +234,7 @@ public class UserScheduleAssignmentRepositoryImpl implements UserScheduleAssignm
                 return OperationResult.failure("Failed to load active assignments: " + e.getMessage(),
                         OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -253,7 +264,7 @@ public class UserScheduleAssignmentRepositoryImpl implements UserScheduleAssignm
                 return OperationResult.failure("Error getting active assignment for user",
                         OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -274,7 +285,7 @@ public class UserScheduleAssignmentRepositoryImpl implements UserScheduleAssignm
                 return OperationResult.failure("Error getting active assignments for user",
                         OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -297,7 +308,7 @@ public class UserScheduleAssignmentRepositoryImpl implements UserScheduleAssignm
                 return OperationResult.failure("Error getting assignments for user in date range",
                         OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     // ==================== DATE-BASED QUERIES ====================
@@ -322,7 +333,7 @@ public class UserScheduleAssignmentRepositoryImpl implements UserScheduleAssignm
                 Log.e(TAG, error, e);
                 return OperationResult.failure(error,OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -361,7 +372,7 @@ public class UserScheduleAssignmentRepositoryImpl implements UserScheduleAssignm
                 Log.e(TAG, error, e);
                 return OperationResult.failure(error,OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     // ==================== TEAM-BASED QUERIES ====================
@@ -386,7 +397,7 @@ public class UserScheduleAssignmentRepositoryImpl implements UserScheduleAssignm
                 Log.e(TAG, error, e);
                 return OperationResult.failure(error,OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -410,7 +421,7 @@ public class UserScheduleAssignmentRepositoryImpl implements UserScheduleAssignm
                 Log.e(TAG, error, e);
                 return OperationResult.failure(error,OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -439,7 +450,7 @@ public class UserScheduleAssignmentRepositoryImpl implements UserScheduleAssignm
                 Log.e(TAG, error, e);
                 return OperationResult.failure(error,OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     // ==================== UPDATE OPERATIONS ====================
@@ -458,6 +469,7 @@ public class UserScheduleAssignmentRepositoryImpl implements UserScheduleAssignm
                 boolean success = updatedRows > 0;
 
                 if (success) {
+                    invalidateSchedules(mUserScheduleAssignmentDao.getUserScheduleAssignmentById(assignmentId));
                     Log.d(TAG, "Successfully updated assignment status: " + assignmentId);
                     return OperationResult.success(true, OperationResult.OperationType.UPDATE);
                 } else {
@@ -471,7 +483,7 @@ public class UserScheduleAssignmentRepositoryImpl implements UserScheduleAssignm
                 Log.e(TAG, error, e);
                 return OperationResult.failure(error,OperationResult.OperationType.UPDATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -487,6 +499,7 @@ public class UserScheduleAssignmentRepositoryImpl implements UserScheduleAssignm
                 boolean success = updatedRows > 0;
 
                 if (success) {
+                    invalidateSchedules(mUserScheduleAssignmentDao.getUserScheduleAssignmentById(assignmentId));
                     Log.d(TAG, "Successfully ended assignment: " + assignmentId);
                     return OperationResult.success(true, OperationResult.OperationType.UPDATE);
                 } else {
@@ -500,7 +513,7 @@ public class UserScheduleAssignmentRepositoryImpl implements UserScheduleAssignm
                 Log.e(TAG, error, e);
                 return OperationResult.failure(error,OperationResult.OperationType.UPDATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     // ==================== VALIDATION AND CHECKS ====================
@@ -523,7 +536,7 @@ public class UserScheduleAssignmentRepositoryImpl implements UserScheduleAssignm
                 Log.e(TAG, error, e);
                 return OperationResult.failure(error,OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -544,7 +557,7 @@ public class UserScheduleAssignmentRepositoryImpl implements UserScheduleAssignm
                 Log.e(TAG, error, e);
                 return OperationResult.failure(error,OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     // ==================== STATISTICS AND REPORTING ====================
@@ -566,7 +579,7 @@ public class UserScheduleAssignmentRepositoryImpl implements UserScheduleAssignm
                 Log.e(TAG, error, e);
                 return OperationResult.failure(error,OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     // ==================== CONVERSION UTILITIES ====================
@@ -582,14 +595,24 @@ public class UserScheduleAssignmentRepositoryImpl implements UserScheduleAssignm
                 .collect(Collectors.toList());
     }
 
+    // ==================== CACHE INVALIDATION ====================
+
+    /**
+     * Drop the cached schedule days of the user owning an assignment.
+     */
+    private void invalidateSchedules(@Nullable UserScheduleAssignmentEntity entity) {
+        if (entity != null && entity.getUserId() != null) {
+            mScheduleCache.invalidateUser(entity.getUserId());
+        }
+    }
+
     // ==================== RESOURCE MANAGEMENT ====================
 
     /**
-     * Shutdown the executor service.
-     * Should be called when the repository is no longer needed.
+     * Release repository resources. Executors are shared application-wide and
+     * are not shut down here.
      */
     public void shutdown() {
-        Log.d(TAG, "Shutting down UserScheduleAssignmentRepository executor service");
-        mExecutorService.shutdown();
+        Log.d(TAG, "UserScheduleAssignmentRepository shutdown");
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import android.content.Context;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.services.models.OperationResult;
 import net.calvuz.qdue.data.dao.UserTeamAssignmentDao;
 import net.calvuz.qdue.data.entities.UserTeamAssignmentEntity;
@@ -16,8 +17,7 @@ import net.calvuz.qdue.ui.core.common.utils.Log;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -32,7 +32,7 @@ import java.util.stream.Collectors;
  *   <li><strong>Entity Conversion</strong>: Automatic conversion between domain models and entities</li>
  *   <li><strong>Error Handling</strong>: Comprehensive error handling with OperationResult pattern</li>
  *   <li><strong>Business Logic</strong>: Assignment validation and conflict detection</li>
- *   <li><strong>Resource Management</strong>: Proper ExecutorService lifecycle management</li>
+ *   <li><strong>Resource Management</strong>: Shared read and write lanes from AppExecutors</li>
  * </ul>
  *
  * <h3>Database Integration:</h3>
@@ -58,7 +58,9 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
     // ==================== DEPENDENCIES ====================
 
     private final UserTeamAssignmentDao mAssignmentDao;
-    private final ExecutorService mExecutorService;
+    private final ScheduleCache mScheduleCache;
+    private final Executor mExecutor;
+    private final Executor mWriteExecutor;
 
     // ==================== CONSTRUCTOR FOR DEPENDENCY INJECTION ====================
 
@@ -67,15 +69,15 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
      *
      * @param context       Application context
      * @param assignmentDao UserTeamAssignmentDao for database operations
+     * @param scheduleCache Schedule cache to invalidate on writes
      */
     public UserTeamAssignmentRepositoryImpl(@NonNull Context context,
-                                            @NonNull UserTeamAssignmentDao assignmentDao) {
+                                            @NonNull UserTeamAssignmentDao assignmentDao,
+                                            @NonNull ScheduleCache scheduleCache) {
         this.mAssignmentDao = assignmentDao;
-        this.mExecutorService = Executors.newSingleThreadExecutor(); // .newFixedThreadPool(1, r -> {
-//            Thread thread = new Thread(r, "UserTeamAssignmentRepo-Thread");
-//            thread.setDaemon(true);
-//            return thread;
-//        });
+        this.mScheduleCache = scheduleCache;
+        this.mExecutor = AppExecutors.getInstance().reads();
+        this.mWriteExecutor = AppExecutors.getInstance().writes();
 
         Log.d( TAG, "UserTeamAssignmentRepositoryImpl initialized with clean architecture support" );
     }
@@ -118,6 +120,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 long rowId = mAssignmentDao.insert( entity );
 
                 if (rowId > 0) {
+                    mScheduleCache.invalidateUser( assignmentToCreate.getUserID() );
                     UserTeamAssignment createdAssignment = entity.toDomainModel();
                     Log.d( TAG, "✅ Assignment created successfully: " + createdAssignment.getId() );
                     return OperationResult.success( createdAssignment,
@@ -131,7 +134,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage(),
                         OperationResult.OperationType.CREATE );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     @Override
@@ -174,6 +177,9 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
 
                 // Insert all in single transaction
                 long[] rowIds = mAssignmentDao.insertAll( entities );
+                for (UserTeamAssignment assignment : assignments) {
+                    mScheduleCache.invalidateUser( assignment.getUserID() );
+                }
 
                 if (rowIds.length == entities.size()) {
                     List<UserTeamAssignment> createdAssignments = entities.stream()
@@ -193,7 +199,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage(),
                         OperationResult.OperationType.CREATE );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     @Override
@@ -218,7 +224,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage(),
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -240,7 +246,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage() ,
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -277,9 +283,12 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
 
                 // Update entity
                 UserTeamAssignmentEntity entity = UserTeamAssignmentEntity.fromDomainModel( assignmentToUpdate );
+                UserTeamAssignmentEntity previous = mAssignmentDao.getById( assignment.getId() );
                 int updatedRows = mAssignmentDao.update( entity );
 
                 if (updatedRows > 0) {
+                    invalidateSchedules( previous );
+                    mScheduleCache.invalidateUser( assignmentToUpdate.getUserID() );
                     UserTeamAssignment updatedAssignment = entity.toDomainModel();
                     Log.d( TAG, "✅ Assignment updated successfully: " + updatedAssignment.getId() );
                     return OperationResult.success( updatedAssignment,
@@ -293,7 +302,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage(),
                         OperationResult.OperationType.UPDATE );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     @Override
@@ -302,9 +311,11 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
             try {
                 Log.d( TAG, "Deleting assignment: " + assignmentId );
 
+                UserTeamAssignmentEntity previous = mAssignmentDao.getById( assignmentId );
                 int deletedRows = mAssignmentDao.deleteById( assignmentId );
 
                 if (deletedRows > 0) {
+                    invalidateSchedules( previous );
                     Log.d( TAG, "✅ Assignment deleted successfully: " + assignmentId );
                     return OperationResult.success( true ,
                             OperationResult.OperationType.DELETE );
@@ -318,7 +329,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage() ,
                         OperationResult.OperationType.DELETE );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     @Override
@@ -334,6 +345,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 if (updatedRows > 0) {
                     // Get updated assignment
                     UserTeamAssignmentEntity entity = mAssignmentDao.getById( assignmentId );
+                    invalidateSchedules( entity );
                     if (entity != null) {
                         UserTeamAssignment deactivatedAssignment = entity.toDomainModel();
                         Log.d( TAG, "✅ Assignment deactivated successfully: " + assignmentId );
@@ -353,7 +365,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage() ,
                         OperationResult.OperationType.DEACTIVATE );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     // ==================== RETRIEVAL OPERATIONS ====================
@@ -380,7 +392,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage(),
                         OperationResult.OperationType.READ);
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -399,7 +411,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage() ,
                         OperationResult.OperationType.COUNT );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== USER-BASED QUERIES ====================
@@ -427,7 +439,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage() ,
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -450,7 +462,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage() ,
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -474,7 +486,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage(),
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -493,7 +505,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage(),
                         OperationResult.OperationType.SEARCH );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== TEAM-BASED QUERIES ====================
@@ -521,7 +533,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage(),
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -544,7 +556,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage(),
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -568,7 +580,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage(),
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -585,7 +597,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage(),
                         OperationResult.OperationType.COUNT );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== USER-TEAM RELATIONSHIP QUERIES ====================
@@ -614,7 +626,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage(),
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -637,7 +649,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage() ,
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -656,7 +668,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Validation error: " + e.getMessage() ,
                         OperationResult.OperationType.VALIDATION );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== STATUS AND DATE-BASED QUERIES ====================
@@ -684,7 +696,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage(),
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -707,7 +719,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage() ,
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -727,7 +739,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage() ,
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -747,7 +759,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage(),
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -767,7 +779,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage(),
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== MANAGEMENT OPERATIONS ====================
@@ -789,7 +801,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage(),
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -810,7 +822,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage(),
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -822,6 +834,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
 
                 long timestamp = System.currentTimeMillis();
                 int deactivatedCount = mAssignmentDao.deactivateAssignmentsForUser( userId, timestamp, deactivatedByUserId );
+                mScheduleCache.invalidateUser( userId );
 
                 Log.d( TAG, "✅ Deactivated " + deactivatedCount + " assignments for user: " + userId );
                 return OperationResult.success( deactivatedCount ,
@@ -831,7 +844,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage() ,
                         OperationResult.OperationType.DEACTIVATE );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     @Override
@@ -843,6 +856,10 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
 
                 long timestamp = System.currentTimeMillis();
                 int deactivatedCount = mAssignmentDao.deactivateAssignmentsForTeam( teamId, timestamp, deactivatedByUserId );
+                if (deactivatedCount > 0) {
+                    // Members are not known here anymore
+                    mScheduleCache.invalidateAll();
+                }
 
                 Log.d( TAG, "✅ Deactivated " + deactivatedCount + " assignments for team: " + teamId );
                 return OperationResult.success( deactivatedCount ,
@@ -852,7 +869,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage(),
                         OperationResult.OperationType.DEACTIVATE );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     @Override
@@ -865,6 +882,9 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
 
                 long timestamp = System.currentTimeMillis();
                 int updatedCount = mAssignmentDao.updateStatusForAssignments( assignmentIds, status, timestamp, modifiedByUserId );
+                for (UserTeamAssignmentEntity entity : mAssignmentDao.getByIds( assignmentIds )) {
+                    invalidateSchedules( entity );
+                }
 
                 Log.d( TAG, "✅ Updated status for " + updatedCount + " assignments" );
                 return OperationResult.success( updatedCount,
@@ -874,7 +894,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage() ,
                         OperationResult.OperationType.UPDATE );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     // ==================== CLEANUP OPERATIONS ====================
@@ -895,7 +915,7 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
                 return OperationResult.failure( "Database error: " + e.getMessage() ,
                         OperationResult.OperationType.CLEANUP );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     // ==================== PRIVATE HELPER METHODS ====================
@@ -957,16 +977,22 @@ public class UserTeamAssignmentRepositoryImpl implements UserTeamAssignmentRepos
         }
     }
 
+    /**
+     * Drop the cached schedule days of the user owning an assignment.
+     */
+    private void invalidateSchedules(@Nullable UserTeamAssignmentEntity entity) {
+        if (entity != null && entity.getUserId() != null) {
+            mScheduleCache.invalidateUser( entity.getUserId() );
+        }
+    }
+
     // ==================== LIFECYCLE MANAGEMENT ====================
 
     /**
      * Shutdown the repository and clean up resources.
-     * Should be called when the repository is no longer needed.
+     * Executors are shared application-wide and are not shut down here.
      */
     public void shutdown() {
-        if (mExecutorService != null && !mExecutorService.isShutdown()) {
-            mExecutorService.shutdown();
-            Log.d( TAG, "UserTeamAssignmentRepositoryImpl shutdown completed" );
-        }
+        Log.d( TAG, "UserTeamAssignmentRepositoryImpl shutdown" );
     }
 }
\ No newline at end of file
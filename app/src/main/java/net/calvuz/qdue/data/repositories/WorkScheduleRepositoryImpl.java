@@ -5,10 +5,14 @@ import android.content.Context;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
+import net.calvuz.qdue.core.common.metrics.Metrics;
+import net.calvuz.qdue.core.common.metrics.TraceSection;
 import net.calvuz.qdue.core.services.models.OperationResult;
 import net.calvuz.qdue.data.di.CalendarServiceProvider;
-import net.calvuz.qdue.domain.calendar.engines.RecurrenceCalculator;
-import net.calvuz.qdue.domain.calendar.engines.ExceptionResolver;
+import net.calvuz.qdue.domain.calendar.engines.SchedulingEngine;
+import net.calvuz.qdue.domain.calendar.engines.ExceptionIndex;
+import net.calvuz.qdue.domain.calendar.engines.ScheduleStatsEngine;
 import net.calvuz.qdue.domain.calendar.models.RecurrenceRule;
 import net.calvuz.qdue.domain.calendar.models.Shift;
 import net.calvuz.qdue.domain.calendar.models.ShiftException;
@@ -18,19 +22,21 @@ import net.calvuz.qdue.domain.calendar.models.WorkScheduleDay;
 import net.calvuz.qdue.domain.calendar.models.WorkScheduleEvent;
 import net.calvuz.qdue.domain.calendar.models.WorkScheduleShift;
 import net.calvuz.qdue.domain.calendar.repositories.WorkScheduleRepository;
+import net.calvuz.qdue.quattrodue.Costants;
 import net.calvuz.qdue.quattrodue.Preferences;
+import net.calvuz.qdue.quattrodue.utils.CycleIndex;
 import net.calvuz.qdue.ui.core.common.utils.Log;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 
 /**
  * WorkScheduleRepositoryImpl - Complete Implementation with Multi-Team Support
@@ -66,23 +72,22 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
 
     private final Context mContext;
     private final CalendarServiceProvider mCalendarServiceProvider;
-    private final ExecutorService mExecutorService;
+    private final Executor mExecutor;
+    private final Executor mWriteExecutor;
 
     // ==================== CACHING ====================
 
-    private final ConcurrentHashMap<String, WorkScheduleDay> mUserWorkScheduleCache = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<String, WorkScheduleDay> mScheduleCache = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<String, Object> mConfigCache = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<String, LocalDate> mSchemeCache = new ConcurrentHashMap<>();
+    // Generated days, shared with the repositories that invalidate them
+    private final ScheduleCache mScheduleCache;
+    private volatile LocalDate mSchemeStartDate;
 
-    // Cache configuration
-    private static final int MAX_CACHE_SIZE = 10000;
-    private static final long CACHE_EXPIRY_MS = 30 * 60 * 1000; // 30 minutes
+    // Day the cached days were built on (WorkScheduleDay.isToday() is computed at build time)
+    private volatile long mCacheEpochDay = LocalDate.now().toEpochDay();
 
     // ==================== CONSTRUCTOR ====================
 
     /**
-     * Constructor with CalendarServiceProvider dependency injection.
+     * Constructor with CalendarServiceProvider dependency injection and a private cache.
      *
      * @param context                 Application context
      * @param calendarServiceProvider CalendarServiceProvider for domain repository access
@@ -90,10 +95,27 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
     public WorkScheduleRepositoryImpl(
             @NonNull Context context,
             @NonNull CalendarServiceProvider calendarServiceProvider
+    ) {
+        this( context, calendarServiceProvider, new ScheduleCache() );
+    }
+
+    /**
+     * Constructor with CalendarServiceProvider dependency injection.
+     *
+     * @param context                 Application context
+     * @param calendarServiceProvider CalendarServiceProvider for domain repository access
+     * @param scheduleCache           Schedule cache invalidated by the writing repositories
+     */
+    public WorkScheduleRepositoryImpl(
+            @NonNull Context context,
+            @NonNull CalendarServiceProvider calendarServiceProvider,
+            @NonNull ScheduleCache scheduleCache
     ) {
         this.mContext = context.getApplicationContext();
         this.mCalendarServiceProvider = calendarServiceProvider;
-        this.mExecutorService = Executors.newCachedThreadPool();
+        this.mScheduleCache = scheduleCache;
+        this.mExecutor = AppExecutors.getInstance().reads();
+        this.mWriteExecutor = AppExecutors.getInstance().writes();
 
         Log.i( TAG, "WorkScheduleRepositoryImpl initialized with CalendarServiceProvider DI" );
     }
@@ -110,19 +132,8 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
 
         return CompletableFuture.supplyAsync( () -> {
             try {
-                Map<LocalDate, WorkScheduleDay> scheduleMap = new HashMap<>();
-
-                for (LocalDate date = startDate; !date.isAfter( endDate ); date = date.plusDays( 1 )
-                ) {
-                    OperationResult<WorkScheduleDay> daySchedule = getUserWorkScheduleForDate(
-                            date,
-                            userId
-                    ).join();
-
-                    if (daySchedule.isSuccess()) {
-                        scheduleMap.put( date, daySchedule.getData() );
-                    }
-                }
+                Map<LocalDate, WorkScheduleDay> scheduleMap = getScheduleRange(
+                        startDate, endDate, userId, WorkScheduleDay.DayStatus.REST_DAY );
 
                 return OperationResult.success( scheduleMap, OperationResult.OperationType.READ );
             } catch (Exception e) {
@@ -130,7 +141,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
                 return OperationResult.failure( "Failed to generate date range schedule",
                                                 OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -141,19 +152,8 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
     ) {
         return CompletableFuture.supplyAsync( () -> {
             try {
-                // Check cache first
-                String cacheKey = buildCacheKey( date, userId );
-                WorkScheduleDay cachedUserWorkSchedule = mUserWorkScheduleCache.get( cacheKey );
-                if (cachedUserWorkSchedule != null) {
-                    return OperationResult.success( cachedUserWorkSchedule,
-                                                    OperationResult.OperationType.READ );
-                }
-
-                // Generate schedule using domain engines
-                WorkScheduleDay schedule = generateUserWorkScheduleForDate( date, userId );
-
-                // Cache the result
-                mScheduleCache.put( cacheKey, schedule );
+                WorkScheduleDay schedule = getScheduleRange(
+                        date, date, userId, WorkScheduleDay.DayStatus.REST_DAY ).get( date );
 
                 return OperationResult.success( schedule,
                                                 OperationResult.OperationType.READ );
@@ -162,72 +162,27 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
                 return OperationResult.failure( "Failed to generate schedule for " + date,
                                                 OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
-    }
-
-    // ==================== HELPER METHODS ====================
-
-    private String buildCacheKey(@NonNull LocalDate date, @Nullable String userId) {
-        return "schedule_" + date + "_" + (userId != null ? userId : "default");
-    }
-
-    private WorkScheduleDay generateUserWorkScheduleForDate(
-            @NonNull LocalDate date,
-            @Nullable String userId
-    ) {
-        try {
-            // Get user assignment
-            UserScheduleAssignment assignment = getUserAssignmentForDate( date, userId );
-            if (assignment == null) {
-                // Create an empty schedule
-                return WorkScheduleDay.builder( date )
-                        .dayStatus( WorkScheduleDay.DayStatus.REST_DAY )
-                        .build();
-            }
-
-            // Get domain engines from CalendarServiceProvider
-//            SchedulingEngine schedulingEngine = mCalendarServiceProvider.getSchedulingEngine();
-
-            // Generate base schedule
-            WorkScheduleDay baseSchedule = generateBaseUserWorkScheduleFromAssignment( date,
-                                                                                       assignment );
-
-            // Apply exceptions if user specified
-            if (userId != null) {
-                baseSchedule = applyShiftExceptionsToSchedule( baseSchedule, userId );
-            }
-
-            return baseSchedule;
-        } catch (Exception e) {
-            Log.e( TAG, "Error generating schedule for date " + date, e );
-            return WorkScheduleDay.builder( date ).build();
-        }
+        }, mExecutor );
     }
 
+    @Override
     @NonNull
-    private WorkScheduleDay generateBaseUserWorkScheduleFromAssignment(
-            @NonNull LocalDate date,
-            @NonNull UserScheduleAssignment assignment
-    ) {
-        try {
-            // Get recurrence rule by ID from assignment
-            String recurrenceRuleId = assignment.getRecurrenceRuleId();
+    public CompletableFuture<OperationResult<ScheduleStatsEngine.Summary>> getScheduleSummaryForDateRange(
+            @NonNull LocalDate startDate, @NonNull LocalDate endDate, @Nullable String userId) {
 
-            RecurrenceRule theRule = mCalendarServiceProvider.getRecurrenceRuleRepository()
-                    .getRecurrenceRuleById( recurrenceRuleId ).join();
+        return CompletableFuture.supplyAsync( () -> {
+            try {
+                ScheduleStatsEngine.Summary summary = summarizeScheduleRange( startDate, endDate, userId );
 
-            if (theRule == null) {
-                Log.w( TAG, "Recurrence theRule not found: " + recurrenceRuleId );
-                return WorkScheduleDay.builder( date ).build();
+                Log.d( TAG, "Summarized schedule " + startDate + " to " + endDate + " in " +
+                        summary.getStretches().size() + " stretches" );
+                return OperationResult.success( summary, OperationResult.OperationType.READ );
+            } catch (Exception e) {
+                Log.e( TAG, "Error summarizing work schedule for date range", e );
+                return OperationResult.failure( "Failed to summarize date range schedule",
+                                                OperationResult.OperationType.READ );
             }
-
-            // Use RecurrenceCalculator to generate schedule
-            RecurrenceCalculator calculator = mCalendarServiceProvider.getRecurrenceCalculator();
-            return calculator.generateScheduleForDate( date, theRule, assignment );
-        } catch (Exception e) {
-            Log.e( TAG, "Error generating base schedule", e );
-            return WorkScheduleDay.builder( date ).build();
-        }
+        }, mExecutor );
     }
 
     // ==================== SCHEDULE GENERATION ====================
@@ -237,19 +192,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
     public CompletableFuture<OperationResult<WorkScheduleDay>> getWorkScheduleForDate(@NonNull LocalDate date, @Nullable String userId) {
         return CompletableFuture.supplyAsync( () -> {
             try {
-                // Check cache first
-                String cacheKey = buildCacheKey( date, userId );
-                WorkScheduleDay cachedSchedule = mScheduleCache.get( cacheKey );
-                if (cachedSchedule != null) {
-                    return OperationResult.success( cachedSchedule,
-                                                    OperationResult.OperationType.READ );
-                }
-
-                // Generate schedule using domain engines
-                WorkScheduleDay schedule = generateScheduleForDate( date, userId );
-
-                // Cache the result
-                mScheduleCache.put( cacheKey, schedule );
+                WorkScheduleDay schedule = getScheduleRange( date, date, userId, null ).get( date );
 
                 return OperationResult.success( schedule, OperationResult.OperationType.READ );
             } catch (Exception e) {
@@ -257,7 +200,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
                 return OperationResult.failure( "Failed to generate schedule for " + date,
                                                 OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -270,14 +213,8 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
                    "Generating work schedule for date range: " + startDate + " to " + endDate );
 
             try {
-                Map<LocalDate, WorkScheduleDay> scheduleMap = new HashMap<>();
-
-                for (LocalDate date = startDate; !date.isAfter( endDate ); date = date.plusDays(
-                        1 )) {
-
-                    WorkScheduleDay daySchedule = generateWorkScheduleForDate( date, userId );
-                    scheduleMap.put( date, daySchedule );
-                }
+                Map<LocalDate, WorkScheduleDay> scheduleMap = getScheduleRange(
+                        startDate, endDate, userId, null );
 
                 Log.d( TAG, "Successfully generated schedule for " + scheduleMap.size() + " days" );
                 return OperationResult.success( scheduleMap, OperationResult.OperationType.READ );
@@ -286,7 +223,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
                 return OperationResult.failure( "Failed to generate date range schedule",
                                                 OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -311,11 +248,14 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
             try {
                 List<WorkScheduleEvent> events = new ArrayList<>();
 
-                for (LocalDate date = startDate; !date.isAfter( endDate ); date = date.plusDays(
-                        1 )) {
-                    WorkScheduleDay daySchedule = generateScheduleForDate( date, userId );
+                // Schedule and cycle positions for the whole range in one pass
+                Map<LocalDate, WorkScheduleDay> scheduleMap = getScheduleRange( startDate, endDate, userId, null );
+                int[] cyclePositions = getSchemeCycleIndex().positions( startDate, endDate );
+
+                LocalDate date = startDate;
+                for (int i = 0; i < cyclePositions.length; i++, date = date.plusDays( 1 )) {
                     List<WorkScheduleEvent> dayEvents = convertScheduleDayToMultiTeamEvents(
-                            daySchedule, userId );
+                            scheduleMap.get( date ), userId, cyclePositions[i] );
                     events.addAll( dayEvents );
                 }
 
@@ -327,7 +267,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
                 return OperationResult.failure( "Failed to get events",
                                                 OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== TEAM MANAGEMENT ====================
@@ -368,7 +308,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
                 return OperationResult.failure( "Failed to get team for user",
                                                 OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -405,7 +345,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
                 return OperationResult.failure( "Failed to set team: " + e.getMessage(),
                                                 OperationResult.OperationType.UPDATE );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     @Override
@@ -413,7 +353,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
     public CompletableFuture<OperationResult<List<Team>>> getTeamsWorkingOnDate(@NonNull LocalDate date) {
         return CompletableFuture.supplyAsync( () -> {
             try {
-                WorkScheduleDay schedule = generateScheduleForDate( date, null );
+                WorkScheduleDay schedule = getScheduleRange( date, date, null, null ).get( date );
                 List<Team> workingTeams = new ArrayList<>();
 
                 for (WorkScheduleShift shift : schedule.getWorkShifts()) {
@@ -426,7 +366,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
                 return OperationResult.failure( "Failed to get working teams",
                                                 OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== SHIFT TYPE MANAGEMENT ====================
@@ -508,7 +448,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
     public CompletableFuture<OperationResult<List<WorkScheduleShift>>> getShiftsForDate(@NonNull LocalDate date) {
         return CompletableFuture.supplyAsync( () -> {
             try {
-                WorkScheduleDay schedule = generateScheduleForDate( date, null );
+                WorkScheduleDay schedule = getScheduleRange( date, date, null, null ).get( date );
                 return OperationResult.success( schedule.getWorkShifts(),
                                                 OperationResult.OperationType.READ );
             } catch (Exception e) {
@@ -516,7 +456,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
                 return OperationResult.failure( "Failed to get shifts",
                                                 OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== SCHEDULE CONFIGURATION ====================
@@ -527,7 +467,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
         return CompletableFuture.supplyAsync( () -> {
             try {
                 // Check cache first
-                LocalDate cached = mSchemeCache.get( "scheme_start_date" );
+                LocalDate cached = mSchemeStartDate;
                 if (cached != null) {
                     Log.v( TAG, "Returning cached scheme start date: " + cached );
                     return OperationResult.success( cached,
@@ -540,7 +480,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
                 Log.d( TAG, "Read scheme start date from preferences: " + schemeStart );
 
                 // Cache the result
-                mSchemeCache.put( "scheme_start_date", schemeStart );
+                mSchemeStartDate = schemeStart;
 
                 return OperationResult.success( schemeStart, OperationResult.OperationType.READ );
             } catch (Exception e) {
@@ -551,10 +491,10 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
                 LocalDate fallbackDate = LocalDate.of( 2018, 11, 7 ); // Default QuattroDue date
                 Log.w( TAG, "Using fallback scheme start date: " + fallbackDate );
 
-                mSchemeCache.put( "scheme_start_date", fallbackDate );
+                mSchemeStartDate = fallbackDate;
                 return OperationResult.success( fallbackDate, OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -566,10 +506,10 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
 
                 // ✅ FIX: Save to preferences AND cache
                 Preferences.setSchemeStartDate( mContext, newStartDate );
-                mSchemeCache.put( "scheme_start_date", newStartDate );
+                mSchemeStartDate = newStartDate;
 
                 // Clear schedule cache since all calculations will change
-                mScheduleCache.clear();
+                mScheduleCache.invalidateAll();
                 Log.d( TAG, "Schedule cache cleared after scheme date update" );
 
                 return OperationResult.success( "Updating scheme start date to: " + newStartDate,
@@ -580,7 +520,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
                         "Failed to update scheme start date: " + e.getMessage(),
                         OperationResult.OperationType.UPDATE );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     @Override
@@ -603,7 +543,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
                 return OperationResult.failure( "Failed to get configuration: " + e.getMessage(),
                                                 OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -611,11 +551,8 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
     public CompletableFuture<OperationResult<Void>> updateScheduleConfiguration(@NonNull Map<String, Object> configuration) {
         return CompletableFuture.supplyAsync( () -> {
             try {
-                // Store configuration
-                mConfigCache.putAll( configuration );
-
                 // Clear schedule cache since configuration changed
-                mScheduleCache.clear();
+                mScheduleCache.invalidateAll();
 
                 return OperationResult.success( null, OperationResult.OperationType.UPDATE );
             } catch (Exception e) {
@@ -623,7 +560,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
                 return OperationResult.failure( "Failed to update configuration: " + e.getMessage(),
                                                 OperationResult.OperationType.UPDATE );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     // ==================== PATTERN CALCULATIONS ====================
@@ -634,18 +571,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
     public CompletableFuture<OperationResult<Integer>> getDayInCycle(@NonNull LocalDate date) {
         return CompletableFuture.supplyAsync( () -> {
             try {
-                LocalDate schemeStart = getSchemeStartDate().join().getData();
-                if (schemeStart == null)
-                    throw new RuntimeException( "No Scheme StartDate" );
-
-                // TODO: remove hardcode 18 day cycle length
-                long daysSinceStart = java.time.temporal.ChronoUnit.DAYS.between( schemeStart,
-                                                                                  date );
-                int dayInCycle = (int) (daysSinceStart % 18); // 18-day QuattroDue cycle
-
-                Log.v( TAG, "Day in cycle calculation: " + date + " = day " + dayInCycle +
-                        " (scheme start: " + schemeStart + ", days since: " + daysSinceStart + ")" );
-
+                int dayInCycle = getSchemeCycleIndex().positionOf( date );
                 return OperationResult.success( dayInCycle, OperationResult.OperationType.READ );
             } catch (Exception e) {
                 Log.e( TAG, "Error calculating day in cycle", e );
@@ -653,7 +579,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
                         "Failed to calculate day in cycle: " + e.getMessage(),
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -661,7 +587,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
     public CompletableFuture<OperationResult<Boolean>> isWorkingDay(@NonNull LocalDate date) {
         return CompletableFuture.supplyAsync( () -> {
             try {
-                WorkScheduleDay schedule = generateScheduleForDate( date, null );
+                WorkScheduleDay schedule = getScheduleRange( date, date, null, null ).get( date );
                 boolean hasWorkingShifts = !schedule.getWorkShifts().isEmpty();
 
                 return OperationResult.success( hasWorkingShifts,
@@ -671,7 +597,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
                 return OperationResult.failure( "Failed to check working day: " + e.getMessage(),
                                                 OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -679,22 +605,17 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
     public CompletableFuture<OperationResult<Boolean>> isWorkingDayForTeam(@NonNull LocalDate date, @NonNull Team team) {
         return CompletableFuture.supplyAsync( () -> {
             try {
-                WorkScheduleDay schedule = generateScheduleForDate( date, null );
+                WorkScheduleDay schedule = getScheduleRange( date, date, null, null ).get( date );
 
-                for (WorkScheduleShift shift : schedule.getWorkShifts()) {
-                    if (shift.getTeams().contains( team )) {
-                        return OperationResult.success( true, OperationResult.OperationType.READ );
-                    }
-                }
-
-                return OperationResult.success( false, OperationResult.OperationType.READ );
+                return OperationResult.success( isTeamWorking( schedule, team ),
+                                                OperationResult.OperationType.READ );
             } catch (Exception e) {
                 Log.e( TAG, "Error checking if working day for team", e );
                 return OperationResult.failure(
                         "Failed to check team working day: " + e.getMessage(),
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -726,7 +647,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
                 return OperationResult.failure( "Failed to check schedule: " + e.getMessage(),
                                                 OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -734,7 +655,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
     public CompletableFuture<OperationResult<String>> getWorkScheduleColor(@NonNull LocalDate date, @Nullable String userId) {
         return CompletableFuture.supplyAsync( () -> {
             try {
-                WorkScheduleDay schedule = generateScheduleForDate( date, userId );
+                WorkScheduleDay schedule = getScheduleRange( date, date, userId, null ).get( date );
 
                 if (schedule.getWorkShifts().isEmpty()) {
                     return OperationResult.success( null, OperationResult.OperationType.READ );
@@ -749,7 +670,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
                 return OperationResult.failure( "Failed to get color: " + e.getMessage(),
                                                 OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -757,7 +678,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
     public CompletableFuture<OperationResult<String>> getWorkScheduleSummary(@NonNull LocalDate date, @Nullable String userId) {
         return CompletableFuture.supplyAsync( () -> {
             try {
-                WorkScheduleDay schedule = generateScheduleForDate( date, userId );
+                WorkScheduleDay schedule = getScheduleRange( date, date, userId, null ).get( date );
 
                 if (schedule.getWorkShifts().isEmpty()) {
                     return OperationResult.success( null, OperationResult.OperationType.READ );
@@ -782,7 +703,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
                 return OperationResult.failure( "Failed to get summary: " + e.getMessage(),
                                                 OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== STUB IMPLEMENTATIONS FOR COMPLETENESS ====================
@@ -791,11 +712,10 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
     @NonNull
     public CompletableFuture<OperationResult<Void>> refreshWorkScheduleData() {
         return CompletableFuture.supplyAsync( () -> {
-            mScheduleCache.clear();
-            mConfigCache.clear();
-            mSchemeCache.clear();
+            mScheduleCache.invalidateAll();
+            mSchemeStartDate = null;
             return OperationResult.success( null, OperationResult.OperationType.UPDATE );
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -810,11 +730,12 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
         return CompletableFuture.supplyAsync( () -> {
             Map<String, Object> status = new HashMap<>();
             status.put( "cache_size", mScheduleCache.size() );
+            status.put( "cache", mScheduleCache.getStatistics() );
             status.put( "ready", true );
             status.put( "calendar_services_ready",
                         mCalendarServiceProvider.areCalendarServicesReady() );
             return OperationResult.success( status, OperationResult.OperationType.READ );
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -825,7 +746,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
             validation.put( "valid", true );
             validation.put( "errors", new ArrayList<>() );
             return OperationResult.success( validation, OperationResult.OperationType.READ );
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -834,7 +755,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
         return CompletableFuture.supplyAsync( () -> {
             boolean ready = mCalendarServiceProvider.areCalendarServicesReady();
             return OperationResult.success( ready, OperationResult.OperationType.READ );
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -897,7 +818,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
                         "Failed to create standard teams: " + e.getMessage(),
                         OperationResult.OperationType.CREATE );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     @Override
@@ -905,9 +826,12 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
     public CompletableFuture<OperationResult<LocalDate>> getNextWorkingDay(@NonNull Team team, @NonNull LocalDate fromDate) {
         return CompletableFuture.supplyAsync( () -> {
             try {
-                for (int i = 1; i <= 30; i++) { // Check next 30 days
+                // Check next 30 days
+                Map<LocalDate, WorkScheduleDay> scheduleMap = getScheduleRange(
+                        fromDate.plusDays( 1 ), fromDate.plusDays( 30 ), null, null );
+                for (int i = 1; i <= 30; i++) {
                     LocalDate checkDate = fromDate.plusDays( i );
-                    if (isWorkingDayForTeam( checkDate, team ).join().getData()) {
+                    if (isTeamWorking( scheduleMap.get( checkDate ), team )) {
                         return OperationResult.success( checkDate,
                                                         OperationResult.OperationType.READ );
                     }
@@ -917,7 +841,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
                 return OperationResult.failure( "Error finding next working day: " + e.getMessage(),
                                                 OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -925,9 +849,12 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
     public CompletableFuture<OperationResult<LocalDate>> getPreviousWorkingDay(@NonNull Team team, @NonNull LocalDate fromDate) {
         return CompletableFuture.supplyAsync( () -> {
             try {
-                for (int i = 1; i <= 30; i++) { // Check previous 30 days
+                // Check previous 30 days
+                Map<LocalDate, WorkScheduleDay> scheduleMap = getScheduleRange(
+                        fromDate.minusDays( 30 ), fromDate.minusDays( 1 ), null, null );
+                for (int i = 1; i <= 30; i++) {
                     LocalDate checkDate = fromDate.minusDays( i );
-                    if (isWorkingDayForTeam( checkDate, team ).join().getData()) {
+                    if (isTeamWorking( scheduleMap.get( checkDate ), team )) {
                         return OperationResult.success( checkDate,
                                                         OperationResult.OperationType.READ );
                     }
@@ -938,7 +865,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
                         "Error finding previous working day: " + e.getMessage(),
                         OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -947,9 +874,8 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
         return CompletableFuture.supplyAsync( () -> {
             try {
                 int count = 0;
-                for (LocalDate date = startDate; !date.isAfter( endDate ); date = date.plusDays(
-                        1 )) {
-                    if (isWorkingDayForTeam( date, team ).join().getData()) {
+                for (WorkScheduleDay schedule : getScheduleRange( startDate, endDate, null, null ).values()) {
+                    if (isTeamWorking( schedule, team )) {
                         count++;
                     }
                 }
@@ -958,7 +884,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
                 return OperationResult.failure( "Error counting working days: " + e.getMessage(),
                                                 OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @Override
@@ -975,67 +901,316 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
                 return OperationResult.failure( "Error counting rest days: " + e.getMessage(),
                                                 OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== HELPER METHODS ====================
 
-    private WorkScheduleDay generateScheduleForDate(@NonNull LocalDate date, @Nullable String userId) {
-        try {
-            // Get user assignment
-            UserScheduleAssignment assignment = getUserAssignmentForDate( date, userId );
-            if (assignment == null) {
-                // Means user doesn't have work assignment on this date
-                Log.i( TAG, "No user assignment found for date " + date );
-
-                // Create an empty schedule
-                return WorkScheduleDay.builder( date ).build();
+    private static boolean isTeamWorking(@NonNull WorkScheduleDay schedule, @NonNull Team team) {
+        for (WorkScheduleShift shift : schedule.getWorkShifts()) {
+            if (shift.getTeams().contains( team )) {
+                return true;
             }
+        }
+        return false;
+    }
 
-            // Get domain engines from CalendarServiceProvider
-//            SchedulingEngine schedulingEngine = mCalendarServiceProvider.getSchedulingEngine();
+    /**
+     * Cached schedule range.
+     *
+     * <p>Days found in the ScheduleCache are served as they are; the span between the first
+     * and the last missing day is generated in one pass and stored back. Days without a
+     * user are never cached.</p>
+     *
+     * @param startDate       Start date (inclusive)
+     * @param endDate         End date (inclusive)
+     * @param userId          User ID, null yields empty days
+     * @param uncoveredStatus Day status for dates without an assignment, null for default
+     * @return Map with one WorkScheduleDay per date in the range
+     */
+    @NonNull
+    private Map<LocalDate, WorkScheduleDay> getScheduleRange(
+            @NonNull LocalDate startDate,
+            @NonNull LocalDate endDate,
+            @Nullable String userId,
+            @Nullable WorkScheduleDay.DayStatus uncoveredStatus
+    ) {
+        try (TraceSection section = Metrics.trace( "repo.schedule_range" )) {
+            if (userId == null) {
+                return generateScheduleRange( startDate, endDate, null, uncoveredStatus );
+            }
 
-            // Generate base schedule
-            WorkScheduleDay baseSchedule = generateBaseScheduleFromAssignment( date, assignment );
+            // isToday() of cached days went stale at midnight
+            long today = LocalDate.now().toEpochDay();
+            if (today != mCacheEpochDay) {
+                mCacheEpochDay = today;
+                mScheduleCache.invalidateAll();
+            }
 
-            // Apply exceptions if user specified
-            if (userId != null) {
-                baseSchedule = applyShiftExceptionsToSchedule( baseSchedule, userId );
+            Map<LocalDate, WorkScheduleDay> scheduleMap = new HashMap<>();
+            LocalDate firstMiss = null;
+            LocalDate lastMiss = null;
+            for (LocalDate date = startDate; !date.isAfter( endDate ); date = date.plusDays( 1 )) {
+                WorkScheduleDay cached = mScheduleCache.get( userId, date, uncoveredStatus );
+                if (cached != null) {
+                    scheduleMap.put( date, cached );
+                } else {
+                    if (firstMiss == null) firstMiss = date;
+                    lastMiss = date;
+                }
             }
 
-            return baseSchedule;
-        } catch (Exception e) {
-            Log.e( TAG, "Error generating schedule for date " + date, e );
-            return WorkScheduleDay.builder( date ).build();
+            if (firstMiss != null) {
+                scheduleMap.putAll( generateScheduleRange( firstMiss, lastMiss, userId, uncoveredStatus ) );
+            }
+            return scheduleMap;
         }
     }
 
-    private WorkScheduleDay generateWorkScheduleForDate(@NonNull LocalDate date, @Nullable String userId) {
-        try {
-            // Get user assignment
-            UserScheduleAssignment assignment = getUserAssignmentForDate( date, userId );
-            if (assignment == null) {
-                // Create an empty schedule
-                return WorkScheduleDay.builder( date ).build();
+    /**
+     * Range-native schedule generation.
+     *
+     * <p>Loads the assignments overlapping the range, their recurrence rules, the user's
+     * exceptions and teams with one query each, then runs the SchedulingEngine once per
+     * stretch of days covered by the same assignment. The per-day path costs several
+     * queries for every date.</p>
+     *
+     * <p>Generated days are stored in the ScheduleCache, unless a query failed or the
+     * cache was invalidated while the data was being loaded.</p>
+     *
+     * @param startDate       Start date (inclusive)
+     * @param endDate         End date (inclusive)
+     * @param userId          User ID, null yields empty days
+     * @param uncoveredStatus Day status for dates without an assignment, null for default
+     * @return Map with one WorkScheduleDay per date in the range
+     */
+    @NonNull
+    private Map<LocalDate, WorkScheduleDay> generateScheduleRange(
+            @NonNull LocalDate startDate,
+            @NonNull LocalDate endDate,
+            @Nullable String userId,
+            @Nullable WorkScheduleDay.DayStatus uncoveredStatus
+    ) {
+        int dayCount = CycleIndex.dayCount( startDate, endDate );
+        Map<LocalDate, WorkScheduleDay> scheduleMap = new HashMap<>( dayCount * 2 );
+
+        // Read before loading, so that writes in the meantime keep the result out of the cache
+        long cacheGeneration = mScheduleCache.generation();
+
+        RangeInputs inputs = loadRangeInputs( userId, startDate, endDate );
+        UserScheduleAssignment[] dayAssignments = inputs.dayAssignments;
+        Map<String, RecurrenceRule> rules = inputs.rules;
+        List<ShiftException> exceptions = inputs.exceptions;
+        Map<String, Team> teams = inputs.teams;
+        boolean cacheable = userId != null && inputs.complete;
+
+        // One engine call per stretch of days sharing the same assignment
+        SchedulingEngine schedulingEngine = mCalendarServiceProvider.getSchedulingEngine();
+        int i = 0;
+        while (i < dayCount) {
+            UserScheduleAssignment assignment = dayAssignments[i];
+            int j = i + 1;
+            while (j < dayCount && dayAssignments[j] == assignment) j++;
+
+            LocalDate segmentStart = startDate.plusDays( i );
+            LocalDate segmentEnd = startDate.plusDays( j - 1 );
+            RecurrenceRule rule = assignment != null ? rules.get( assignment.getRecurrenceRuleId() ) : null;
+
+            if (assignment != null && rule != null) {
+                Map<String, Team> userTeamMappings = new HashMap<>();
+                Team team = teams.get( assignment.getTeamId() );
+                if (team != null) {
+                    userTeamMappings.put( userId, team );
+                }
+
+                scheduleMap.putAll( schedulingEngine.generateCompleteScheduleRange(
+                        segmentStart, segmentEnd, assignment, rule, exceptions,
+                        userTeamMappings, new HashMap<>() ) );
+            } else if (assignment != null) {
+                Log.w( TAG, "Recurrence rule not found: " + assignment.getRecurrenceRuleId() );
+            }
+
+            // Fill days without an assignment (or left out by the engine)
+            for (LocalDate date = segmentStart; !date.isAfter( segmentEnd ); date = date.plusDays( 1 )) {
+                if (!scheduleMap.containsKey( date )) {
+                    WorkScheduleDay.Builder builder = WorkScheduleDay.builder( date );
+                    if (assignment == null && uncoveredStatus != null) {
+                        builder.dayStatus( uncoveredStatus );
+                    }
+                    scheduleMap.put( date, builder.build() );
+                }
+                if (cacheable) {
+                    mScheduleCache.put( userId, scheduleMap.get( date ), uncoveredStatus,
+                                        assignment != null ? assignment.getRecurrenceRuleId() : null,
+                                        cacheGeneration );
+                }
             }
+            i = j;
+        }
 
-            // Get domain engines from CalendarServiceProvider
-//            SchedulingEngine schedulingEngine = mCalendarServiceProvider.getSchedulingEngine();
+        return scheduleMap;
+    }
+
+    /**
+     * Summarize a range per stretch of days sharing the same assignment, without
+     * generating each day. Mirrors generateScheduleRange(): uncovered days and days
+     * whose rule is missing have no shifts.
+     */
+    @NonNull
+    private ScheduleStatsEngine.Summary summarizeScheduleRange(@NonNull LocalDate startDate,
+                                                               @NonNull LocalDate endDate,
+                                                               @Nullable String userId) {
+        int dayCount = CycleIndex.dayCount( startDate, endDate );
+        RangeInputs inputs = loadRangeInputs( userId, startDate, endDate );
+
+        ScheduleStatsEngine statsEngine = new ScheduleStatsEngine(
+                mCalendarServiceProvider.getSchedulingEngine(),
+                mCalendarServiceProvider.getRecurrenceCalculator() );
+        ExceptionIndex exceptionIndex = mCalendarServiceProvider.getExceptionResolver()
+                .indexExceptions( inputs.exceptions );
+
+        List<ScheduleStatsEngine.Stretch> stretches = new ArrayList<>();
+        int i = 0;
+        while (i < dayCount) {
+            UserScheduleAssignment assignment = inputs.dayAssignments[i];
+            int j = i + 1;
+            while (j < dayCount && inputs.dayAssignments[j] == assignment) j++;
+
+            LocalDate segmentStart = startDate.plusDays( i );
+            LocalDate segmentEnd = startDate.plusDays( j - 1 );
+            RecurrenceRule rule = assignment != null ? inputs.rules.get( assignment.getRecurrenceRuleId() ) : null;
+
+            if (assignment != null && rule != null) {
+                Map<String, Team> userTeamMappings = new HashMap<>();
+                Team team = inputs.teams.get( assignment.getTeamId() );
+                if (team != null) {
+                    userTeamMappings.put( userId, team );
+                }
+                stretches.add( statsEngine.summarizeStretch( segmentStart, segmentEnd, assignment, rule,
+                                                             exceptionIndex, userTeamMappings ) );
+            } else {
+                if (assignment != null) {
+                    Log.w( TAG, "Recurrence rule not found: " + assignment.getRecurrenceRuleId() );
+                }
+                stretches.add( ScheduleStatsEngine.emptyStretch( segmentStart, segmentEnd ) );
+            }
+            i = j;
+        }
 
-            // Generate base schedule
-            WorkScheduleDay baseSchedule = generateBaseWorkScheduleFromAssignment( date,
-                                                                                   assignment );
+        return new ScheduleStatsEngine.Summary( stretches );
+    }
+
+    /**
+     * Data needed to generate or summarize a range, loaded with one query per table.
+     */
+    private static final class RangeInputs {
+        // Assignment winning each day (highest priority first, as returned by the query)
+        UserScheduleAssignment[] dayAssignments;
+        Map<String, RecurrenceRule> rules = new HashMap<>();
+        List<ShiftException> exceptions = new ArrayList<>();
+        Map<String, Team> teams = new HashMap<>();
+        boolean complete = true;        // False if a query failed
+    }
+
+    /**
+     * Load the assignments overlapping a range, their recurrence rules, the user's
+     * exceptions and, when there are exceptions, the assignment teams.
+     *
+     * @param userId    User ID, null yields no assignments
+     * @param startDate Start date (inclusive)
+     * @param endDate   End date (inclusive)
+     * @return Range inputs
+     */
+    @NonNull
+    private RangeInputs loadRangeInputs(@Nullable String userId, @NonNull LocalDate startDate,
+                                        @NonNull LocalDate endDate) {
+        int dayCount = CycleIndex.dayCount( startDate, endDate );
+        RangeInputs inputs = new RangeInputs();
+        inputs.dayAssignments = new UserScheduleAssignment[dayCount];
+
+        if (userId == null || dayCount <= 0) {
+            return inputs;
+        }
+
+        List<UserScheduleAssignment> assignments = loadAssignmentsForRange( userId, startDate, endDate );
+        if (assignments == null) {
+            assignments = new ArrayList<>();
+            inputs.complete = false;
+        }
 
-            // Apply exceptions if user specified
-            if (userId != null) {
-                baseSchedule = applyShiftExceptionsToSchedule( baseSchedule, userId );
+        for (int i = 0; i < dayCount; i++) {
+            LocalDate date = startDate.plusDays( i );
+            for (UserScheduleAssignment assignment : assignments) {
+                if (coversDate( assignment, date )) {
+                    inputs.dayAssignments[i] = assignment;
+                    break;
+                }
             }
+        }
 
-            return baseSchedule;
-        } catch (Exception e) {
-            Log.e( TAG, "Error generating schedule for date " + date, e );
-            return WorkScheduleDay.builder( date ).build();
+        if (!assignments.isEmpty()) {
+            Set<String> ruleIds = new HashSet<>();
+            for (UserScheduleAssignment assignment : assignments) {
+                ruleIds.add( assignment.getRecurrenceRuleId() );
+            }
+            inputs.rules = mCalendarServiceProvider.getRecurrenceRuleRepository()
+                    .getRecurrenceRulesByIds( ruleIds ).join();
+
+            OperationResult<List<ShiftException>> exceptionsResult =
+                    mCalendarServiceProvider.getShiftExceptionRepository()
+                            .getExceptionsForUserInDateRange( userId, startDate, endDate ).join();
+            if (exceptionsResult.isSuccess() && exceptionsResult.getData() != null) {
+                inputs.exceptions = exceptionsResult.getData();
+            } else {
+                inputs.complete = false;
+            }
+
+            // Teams are only needed to resolve exceptions
+            if (!inputs.exceptions.isEmpty()) {
+                for (UserScheduleAssignment assignment : assignments) {
+                    if (!inputs.teams.containsKey( assignment.getTeamId() )) {
+                        inputs.teams.put( assignment.getTeamId(), mCalendarServiceProvider.getTeamRepository()
+                                .getTeamById( assignment.getTeamId() ).join() );
+                    }
+                }
+            }
+        }
+        return inputs;
+    }
+
+    /**
+     * Processable assignments overlapping a range, in query order (priority first).
+     *
+     * @return Assignments, null if the query failed
+     */
+    @Nullable
+    private List<UserScheduleAssignment> loadAssignmentsForRange(
+            @NonNull String userId, @NonNull LocalDate startDate, @NonNull LocalDate endDate) {
+        List<UserScheduleAssignment> assignments = new ArrayList<>();
+
+        OperationResult<List<UserScheduleAssignment>> result =
+                mCalendarServiceProvider.getUserScheduleAssignmentRepository()
+                        .getAssignmentsForUserInDateRange( userId, startDate, endDate ).join();
+
+        if (result.isSuccess() && result.getData() != null) {
+            for (UserScheduleAssignment assignment : result.getData()) {
+                if (assignment.isProcessable()) {
+                    assignments.add( assignment );
+                }
+            }
+        } else {
+            Log.w( TAG, "Failed to get user assignments: " + result.getErrorMessage() );
+            return null;
         }
+        return assignments;
+    }
+
+    /**
+     * Date bounds check without the logging done by UserScheduleAssignment.appliesTo().
+     */
+    private static boolean coversDate(@NonNull UserScheduleAssignment assignment, @NonNull LocalDate date) {
+        return !date.isBefore( assignment.getStartDate() )
+                && (assignment.getEndDate() == null || !date.isAfter( assignment.getEndDate() ));
     }
 
     @Nullable
@@ -1079,108 +1254,11 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
         }
     }
 
-    @NonNull
-    private WorkScheduleDay generateBaseScheduleFromAssignment(@NonNull LocalDate date, @NonNull UserScheduleAssignment assignment) {
-        try {
-            // Get recurrence rule by ID from assignment
-            String recurrenceRuleId = assignment.getRecurrenceRuleId();
-
-            RecurrenceRule theRule = mCalendarServiceProvider.getRecurrenceRuleRepository()
-                    .getRecurrenceRuleById( recurrenceRuleId ).join();
-
-            if (theRule == null) {
-                Log.w( TAG, "Recurrence theRule not found: " + recurrenceRuleId );
-                return WorkScheduleDay.builder( date ).build();
-            }
-
-            // Use RecurrenceCalculator to generate schedule
-            RecurrenceCalculator calculator = mCalendarServiceProvider.getRecurrenceCalculator();
-            return calculator.generateScheduleForDate( date, theRule, assignment );
-        } catch (Exception e) {
-            Log.e( TAG, "Error generating base schedule", e );
-            return WorkScheduleDay.builder( date ).build();
-        }
-    }
-
-    @NonNull
-    private WorkScheduleDay generateBaseWorkScheduleFromAssignment(@NonNull LocalDate date, @NonNull UserScheduleAssignment assignment) {
-        try {
-            // Get recurrence rule by ID from assignment
-            String recurrenceRuleId = assignment.getRecurrenceRuleId();
-
-            RecurrenceRule theRule = mCalendarServiceProvider.getRecurrenceRuleRepository()
-                    .getRecurrenceRuleById( recurrenceRuleId ).join();
-
-            if (theRule == null) {
-                Log.w( TAG, "Recurrence theRule not found: " + recurrenceRuleId );
-                return WorkScheduleDay.builder( date ).build();
-            }
-
-            // Use RecurrenceCalculator to generate schedule
-            RecurrenceCalculator calculator = mCalendarServiceProvider.getRecurrenceCalculator();
-            return calculator.generateScheduleForDate( date, theRule, assignment );
-        } catch (Exception e) {
-            Log.e( TAG, "Error generating base schedule", e );
-            return WorkScheduleDay.builder( date ).build();
-        }
-    }
-
-    @NonNull
-    private WorkScheduleDay applyShiftExceptionsToSchedule(@NonNull WorkScheduleDay baseSchedule, @NonNull String userId) {
-        try {
-            LocalDate date = baseSchedule.getDate();
-
-            // Get exceptions for user and date
-            CompletableFuture<OperationResult<List<ShiftException>>> futureExceptions =
-                    mCalendarServiceProvider.getShiftExceptionRepository()
-                            .getEffectiveExceptionsForUserOnDate( userId, date );
-
-            OperationResult<List<ShiftException>> exceptionsResult = futureExceptions.join();
-            List<ShiftException> exceptions = exceptionsResult.getData();
-
-            if (exceptions == null || exceptions.isEmpty()) {
-                return baseSchedule;
-            }
-
-            // Build user-team mappings
-            Map<String, Team> userTeamMappings = buildUserTeamMappings( userId, date );
-
-            // Apply exceptions using ExceptionResolver
-            ExceptionResolver resolver = mCalendarServiceProvider.getExceptionResolver();
-            return resolver.applyExceptions( baseSchedule, exceptions, userTeamMappings,
-                                             new HashMap<>() );
-        } catch (Exception e) {
-            Log.e( TAG, "Error applying shift exceptions", e );
-            return baseSchedule;
-        }
-    }
-
-    @NonNull
-    private Map<String, Team> buildUserTeamMappings(@NonNull String userId, @NonNull LocalDate date) {
-        Map<String, Team> mappings = new HashMap<>();
-
-        try {
-            UserScheduleAssignment assignment = getUserAssignmentForDate( date, userId );
-            if (assignment != null) {
-                String teamId = assignment.getTeamId();
-                Team team = mCalendarServiceProvider.getTeamRepository().getTeamById(
-                        teamId ).join();
-                if (team != null) {
-                    mappings.put( userId, team );
-                }
-            }
-        } catch (Exception e) {
-            Log.e( TAG, "Error building user-team mappings", e );
-        }
-
-        return mappings;
-    }
-
     /**
      * NEW: Convert WorkScheduleDay to multi-team WorkScheduleEvents.
      */
     @NonNull
-    private List<WorkScheduleEvent> convertScheduleDayToMultiTeamEvents(@NonNull WorkScheduleDay scheduleDay, @Nullable String userId) {
+    private List<WorkScheduleEvent> convertScheduleDayToMultiTeamEvents(@NonNull WorkScheduleDay scheduleDay, @Nullable String userId, int dayInCycle) {
         List<WorkScheduleEvent> events = new ArrayList<>();
 
         for (WorkScheduleShift shift : scheduleDay.getWorkShifts()) {
@@ -1190,7 +1268,7 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
                     .setTeams( shift.getTeams() ) // Multi-team support
                     .setUserId( userId )
                     .setDescription( shift.getDescription() )
-                    .setDayInCycle( calculateDayInCycle( scheduleDay.getDate() ) )
+                    .setDayInCycle( dayInCycle )
                     .setPatternName( "QuattroDue 4-2" )
                     .setGeneratedBy( "WorkScheduleRepositoryImpl" )
                     .build();
@@ -1202,28 +1280,25 @@ public class WorkScheduleRepositoryImpl implements WorkScheduleRepository
     }
 
     /**
-     * Calculate day in cycle for WorkScheduleEvent metadata.
+     * Cycle index for the current scheme start date.
+     * Reads the cached start date directly, without going through a nested future.
      */
-    private int calculateDayInCycle(@NonNull LocalDate date) {
-        try {
-            return getDayInCycle( date ).join().getData();
-        } catch (Exception e) {
-            Log.w( TAG, "Error calculating day in cycle for " + date, e );
-            return 0;
+    @NonNull
+    private CycleIndex getSchemeCycleIndex() {
+        LocalDate schemeStart = mSchemeStartDate;
+        if (schemeStart == null) {
+            schemeStart = Preferences.getSchemeStartDate( mContext );
+            mSchemeStartDate = schemeStart;
         }
+        return CycleIndex.of( schemeStart, Costants.QD_SCHEME.length );
     }
 
     // ==================== LIFECYCLE MANAGEMENT ====================
 
     public void cleanup() {
         try {
-            mScheduleCache.clear();
-            mConfigCache.clear();
-            mSchemeCache.clear();
-
-            if (mExecutorService != null && !mExecutorService.isShutdown()) {
-                mExecutorService.shutdown();
-            }
+            mScheduleCache.invalidateAll();
+            mSchemeStartDate = null;
 
             Log.d( TAG, "WorkScheduleRepositoryImpl cleanup completed" );
         } catch (Exception e) {
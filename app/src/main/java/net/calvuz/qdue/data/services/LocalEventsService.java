@@ -6,6 +6,8 @@ import androidx.annotation.Nullable;
 import net.calvuz.qdue.QDue;
 import net.calvuz.qdue.core.services.models.OperationResult;
 import net.calvuz.qdue.domain.calendar.models.LocalEvent;
+import net.calvuz.qdue.domain.calendar.models.LocalEventDaySummary;
+import net.calvuz.qdue.domain.calendar.models.LocalEventsFilter;
 import net.calvuz.qdue.domain.calendar.enums.EventType;
 import net.calvuz.qdue.domain.common.enums.Priority;
 import net.calvuz.qdue.domain.calendar.usecases.LocalEventsUseCases;
@@ -173,6 +175,18 @@ public interface LocalEventsService
     @NonNull
     CompletableFuture<OperationResult<List<LocalEvent>>> getAllEvents();
 
+    /**
+     * Get a page of the LocalEvents list, ordered by start time then ID (keyset pagination).
+     *
+     * @param filter List criteria, applied in the query
+     * @param after Last event of the previous page, null for the first page
+     * @param limit Maximum number of events
+     * @return CompletableFuture with OperationResult containing the page events
+     */
+    @NonNull
+    CompletableFuture<OperationResult<List<LocalEvent>>> getEventsPage(@NonNull LocalEventsFilter filter,
+                                                                      @Nullable LocalEvent after, int limit);
+
     /**
      * Get LocalEvents for specific date.
      *
@@ -202,6 +216,16 @@ public interface LocalEventsService
     @NonNull
     CompletableFuture<OperationResult<List<LocalEvent>>> getEventsForMonth(@NonNull YearMonth yearMonth);
 
+    /**
+     * Get per-day event summaries for entire month (count, highest priority, types, all-day),
+     * for calendar grids that do not need the events themselves.
+     *
+     * @param yearMonth Target month
+     * @return CompletableFuture with OperationResult containing summaries of the days with events
+     */
+    @NonNull
+    CompletableFuture<OperationResult<List<LocalEventDaySummary>>> getDaySummariesForMonth(@NonNull YearMonth yearMonth);
+
     /**
      * Get upcoming LocalEvents from current time.
      *
@@ -322,6 +346,15 @@ public interface LocalEventsService
     @NonNull
     CompletableFuture<OperationResult<Integer>> getEventsCount();
 
+    /**
+     * Get count of the LocalEvents matching a list filter.
+     *
+     * @param filter List criteria
+     * @return CompletableFuture with OperationResult containing matching event count
+     */
+    @NonNull
+    CompletableFuture<OperationResult<Integer>> getEventsCount(@NonNull LocalEventsFilter filter);
+
     /**
      * Get count of upcoming LocalEvents.
      *
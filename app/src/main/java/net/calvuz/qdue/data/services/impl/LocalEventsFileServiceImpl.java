@@ -6,6 +6,7 @@ import android.net.Uri;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.services.models.OperationResult;
 import net.calvuz.qdue.data.export.LocalEventsExportManager;
 import net.calvuz.qdue.data.services.LocalEventsFileService;
@@ -23,8 +24,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -79,7 +79,9 @@ public class LocalEventsFileServiceImpl implements LocalEventsFileService {
 
     private final Context mContext;
     private final LocalEventsService mLocalEventsService;
-    private final ExecutorService mExecutorService;
+    private final Executor mExecutor;
+    private final Executor mWriteExecutor;
+    private final Executor mBulkExecutor;
 
     // ==================== FILE HANDLING COMPONENTS ====================
 
@@ -108,7 +110,9 @@ public class LocalEventsFileServiceImpl implements LocalEventsFileService {
     ) {
         this.mContext = context.getApplicationContext();
         this.mLocalEventsService = localEventsService;
-        this.mExecutorService = Executors.newFixedThreadPool(2);
+        this.mExecutor = AppExecutors.getInstance().reads();
+        this.mWriteExecutor = AppExecutors.getInstance().writes();
+        this.mBulkExecutor = AppExecutors.getInstance().bulk();
 
         // Initialize file handling components
         this.mFileAccessAdapter = new FileAccessAdapter(context);
@@ -167,7 +171,7 @@ public class LocalEventsFileServiceImpl implements LocalEventsFileService {
                         OperationResult.OperationType.INITIALIZATION
                 );
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -186,10 +190,6 @@ public class LocalEventsFileServiceImpl implements LocalEventsFileService {
             mFileAccessAdapter.clearPendingCallback();
         }
 
-        if (mExecutorService != null && !mExecutorService.isShutdown()) {
-            mExecutorService.shutdown();
-        }
-
         Log.d(TAG, "LocalEventsFileService shutdown completed");
     }
 
@@ -295,7 +295,7 @@ public class LocalEventsFileServiceImpl implements LocalEventsFileService {
             } finally {
                 mActiveOperations.decrementAndGet();
             }
-        }, mExecutorService);
+        }, mBulkExecutor);
     }
 
     @Override
@@ -346,7 +346,7 @@ public class LocalEventsFileServiceImpl implements LocalEventsFileService {
             } finally {
                 mActiveOperations.decrementAndGet();
             }
-        }, mExecutorService);
+        }, mBulkExecutor);
     }
 
     // ==================== EXPORT OPERATIONS ====================
@@ -469,7 +469,7 @@ public class LocalEventsFileServiceImpl implements LocalEventsFileService {
             } finally {
                 mActiveOperations.decrementAndGet();
             }
-        }, mExecutorService);
+        }, mBulkExecutor);
     }
 
     // ==================== FILE INFORMATION ====================
@@ -516,7 +516,7 @@ public class LocalEventsFileServiceImpl implements LocalEventsFileService {
                 return OperationResult.failure("Error getting file info: " + e.getMessage(),
                                                OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
@@ -534,7 +534,7 @@ public class LocalEventsFileServiceImpl implements LocalEventsFileService {
                 return OperationResult.failure("Error checking file support: " + e.getMessage(),
                                                OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @Override
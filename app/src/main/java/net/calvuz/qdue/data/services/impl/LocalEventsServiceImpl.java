@@ -5,10 +5,13 @@ import android.content.Context;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.services.models.OperationResult;
 import net.calvuz.qdue.data.services.LocalEventsService;
 import net.calvuz.qdue.domain.calendar.usecases.LocalEventsUseCases;
 import net.calvuz.qdue.domain.calendar.models.LocalEvent;
+import net.calvuz.qdue.domain.calendar.models.LocalEventDaySummary;
+import net.calvuz.qdue.domain.calendar.models.LocalEventsFilter;
 import net.calvuz.qdue.domain.calendar.enums.EventType;
 import net.calvuz.qdue.domain.common.enums.Priority;
 import net.calvuz.qdue.ui.core.common.utils.Log;
@@ -17,8 +20,7 @@ import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -63,7 +65,8 @@ public class LocalEventsServiceImpl implements LocalEventsService {
 
     private final Context mContext;
     private final LocalEventsUseCases mLocalEventsUseCases;
-    private final ExecutorService mExecutorService;
+    private final Executor mExecutor;
+    private final Executor mWriteExecutor;
 
     // ==================== STATE MANAGEMENT ====================
 
@@ -83,7 +86,8 @@ public class LocalEventsServiceImpl implements LocalEventsService {
                                   @NonNull LocalEventsUseCases localEventsUseCases) {
         this.mContext = context.getApplicationContext();
         this.mLocalEventsUseCases = localEventsUseCases;
-        this.mExecutorService = Executors.newFixedThreadPool(3);
+        this.mExecutor = AppExecutors.getInstance().reads();
+        this.mWriteExecutor = AppExecutors.getInstance().writes();
 
         Log.d(TAG, "LocalEventsServiceImpl created");
     }
@@ -129,7 +133,7 @@ public class LocalEventsServiceImpl implements LocalEventsService {
                         OperationResult.OperationType.INITIALIZATION
                 );
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @Override
@@ -144,10 +148,6 @@ public class LocalEventsServiceImpl implements LocalEventsService {
         mShutdown.set(true);
         mInitialized.set(false);
 
-        if (mExecutorService != null && !mExecutorService.isShutdown()) {
-            mExecutorService.shutdown();
-        }
-
         Log.d(TAG, "LocalEventsService shutdown completed");
     }
 
@@ -263,6 +263,18 @@ public class LocalEventsServiceImpl implements LocalEventsService {
         return mLocalEventsUseCases.getAllEvents();
     }
 
+    @Override
+    @NonNull
+    public CompletableFuture<OperationResult<List<LocalEvent>>> getEventsPage(@NonNull LocalEventsFilter filter,
+                                                                             @Nullable LocalEvent after, int limit) {
+        if (!ensureServiceReady()) {
+            return getServiceNotReadyListResult();
+        }
+
+        updateLastOperationTime();
+        return mLocalEventsUseCases.getEventsPage(filter, after, limit);
+    }
+
     @Override
     @NonNull
     public CompletableFuture<OperationResult<List<LocalEvent>>> getEventsForDate(@NonNull LocalDateTime date) {
@@ -297,6 +309,19 @@ public class LocalEventsServiceImpl implements LocalEventsService {
         return mLocalEventsUseCases.getEventsForMonth(yearMonth);
     }
 
+    @Override
+    @NonNull
+    public CompletableFuture<OperationResult<List<LocalEventDaySummary>>> getDaySummariesForMonth(@NonNull YearMonth yearMonth) {
+        if (!ensureServiceReady()) {
+            return CompletableFuture.completedFuture(
+                    OperationResult.failure("Service not ready", OperationResult.OperationType.READ)
+            );
+        }
+
+        updateLastOperationTime();
+        return mLocalEventsUseCases.getDaySummariesForMonth(yearMonth);
+    }
+
     @Override
     @NonNull
     public CompletableFuture<OperationResult<List<LocalEvent>>> getUpcomingEvents(int limit) {
@@ -439,6 +464,19 @@ public class LocalEventsServiceImpl implements LocalEventsService {
         return mLocalEventsUseCases.getEventsCount();
     }
 
+    @Override
+    @NonNull
+    public CompletableFuture<OperationResult<Integer>> getEventsCount(@NonNull LocalEventsFilter filter) {
+        if (!ensureServiceReady()) {
+            return CompletableFuture.completedFuture(
+                    OperationResult.failure("Service not ready", OperationResult.OperationType.READ)
+            );
+        }
+
+        updateLastOperationTime();
+        return mLocalEventsUseCases.getEventsCount(filter);
+    }
+
     @Override
     @NonNull
     public CompletableFuture<OperationResult<Integer>> getUpcomingEventsCount() {
@@ -3,6 +3,7 @@ package net.calvuz.qdue.data.services.impl;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.data.services.QDueUserService;
 import net.calvuz.qdue.core.services.models.OperationResult;
 import net.calvuz.qdue.domain.qdueuser.models.QDueUser;
@@ -12,8 +13,7 @@ import net.calvuz.qdue.ui.core.common.utils.Log;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 import java.util.regex.Pattern;
 
 /**
@@ -54,7 +54,7 @@ public class QDueUserServiceImpl implements QDueUserService {
 
     // ==================== PERFORMANCE AND CACHING ====================
 
-    private final ExecutorService mExecutorService;
+    private final Executor mExecutor;
     private final ConcurrentHashMap<String, Object> mCache;
     private QDueUser mUser;
 
@@ -76,7 +76,7 @@ public class QDueUserServiceImpl implements QDueUserService {
         this.mQDueUserUseCases = qDueUserUseCases;
 
         // Initialize performance components
-        this.mExecutorService = Executors.newFixedThreadPool( 1 );
+        this.mExecutor = AppExecutors.getInstance().reads();
         this.mCache = new ConcurrentHashMap<>();
         this.mUser = null;
 
@@ -328,7 +328,7 @@ public class QDueUserServiceImpl implements QDueUserService {
                         "- Initialized: " + mIsInitialized + "\n" +
                         "- Shutdown: " + mIsShutdown + "\n" +
                         "- Cache size: " + mCache.size() + "\n" +
-                        "- Executor shutdown: " + mExecutorService.isShutdown() + "\n";
+                        "- Executor: " + AppExecutors.getInstance().reads().getMetrics() + "\n";
 
                 return OperationResult.success( status, OperationResult.OperationType.SYSTEM );
             } catch (Exception e) {
@@ -369,10 +369,6 @@ public class QDueUserServiceImpl implements QDueUserService {
         mIsShutdown = true;
         mCache.clear();
 
-        if (mExecutorService != null && !mExecutorService.isShutdown()) {
-            mExecutorService.shutdown();
-        }
-
         Log.d( TAG, "✅ QDueUserService shutdown completed" );
     }
 }
\ No newline at end of file
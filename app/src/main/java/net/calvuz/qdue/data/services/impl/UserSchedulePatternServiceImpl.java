@@ -5,6 +5,7 @@ import android.content.Context;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.common.i18n.LocaleManager;
 import net.calvuz.qdue.core.services.models.OperationResult;
 import net.calvuz.qdue.domain.calendar.engines.extensions.RecurrenceCalculatorExtensions;
@@ -31,8 +32,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 
 /**
  * UserSchedulePatternServiceImpl - Implementation of User Schedule Pattern Business Logic
@@ -77,7 +77,8 @@ public class UserSchedulePatternServiceImpl implements UserSchedulePatternServic
     private final Context mContext;
     private final UserScheduleAssignmentRepository mUserScheduleAssignmentRepository;
     private final RecurrenceRuleRepository mRecurrenceRuleRepository;
-    private final ExecutorService mExecutorService;
+    private final Executor mExecutor;
+    private final Executor mWriteExecutor;
 
     // ==================== CONSTRUCTOR ====================
 
@@ -98,7 +99,8 @@ public class UserSchedulePatternServiceImpl implements UserSchedulePatternServic
         this.mContext = context.getApplicationContext();
         this.mUserScheduleAssignmentRepository = userScheduleAssignmentRepository;
         this.mRecurrenceRuleRepository = recurrenceRuleRepository;
-        this.mExecutorService = Executors.newFixedThreadPool( 3 );
+        this.mExecutor = AppExecutors.getInstance().reads();
+        this.mWriteExecutor = AppExecutors.getInstance().writes();
 
         Log.d( TAG, "UserSchedulePatternServiceImpl initialized" );
     }
@@ -194,7 +196,7 @@ public class UserSchedulePatternServiceImpl implements UserSchedulePatternServic
                 return OperationResult.failure("Unexpected error: " + e.getMessage(),
                         OperationResult.OperationType.CREATE);
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
 
     }
 
@@ -274,7 +276,7 @@ public class UserSchedulePatternServiceImpl implements UserSchedulePatternServic
                 Log.e( TAG, "Error updating user pattern", e );
                 return OperationResult.failure( "Unexpected error: " + e.getMessage(), OperationResult.OperationType.UPDATE );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     @NonNull
@@ -325,7 +327,7 @@ public class UserSchedulePatternServiceImpl implements UserSchedulePatternServic
                 Log.e( TAG, "Error deleting user pattern", e );
                 return OperationResult.failure( "Unexpected error: " + e.getMessage(), OperationResult.OperationType.DELETE );
             }
-        }, mExecutorService );
+        }, mWriteExecutor );
     }
 
     // ==================== PATTERN LOADING ====================
@@ -374,7 +376,7 @@ public class UserSchedulePatternServiceImpl implements UserSchedulePatternServic
                 Log.e( TAG, "Error loading pattern for editing", e );
                 return OperationResult.failure( "Unexpected error: " + e.getMessage(), OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @NonNull
@@ -401,7 +403,7 @@ public class UserSchedulePatternServiceImpl implements UserSchedulePatternServic
                 Log.e( TAG, "Error loading user patterns", e );
                 return OperationResult.failure( "Unexpected error: " + e.getMessage(), OperationResult.OperationType.READ );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     // ==================== PATTERN VALIDATION ====================
@@ -548,7 +550,7 @@ public class UserSchedulePatternServiceImpl implements UserSchedulePatternServic
                 Log.e( TAG, "Error generating pattern preview", e );
                 return OperationResult.failure( "Unexpected error: " + e.getMessage(), OperationResult.OperationType.CREATE );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
     @NonNull
@@ -619,7 +621,7 @@ public class UserSchedulePatternServiceImpl implements UserSchedulePatternServic
             @NonNull List<PatternDay> patternDays,
             @NonNull LocalDate startDate) {
 
-        return CompletableFuture.supplyAsync( () -> convertToRecurrenceRuleSync( patternDays, startDate ), mExecutorService );
+        return CompletableFuture.supplyAsync( () -> convertToRecurrenceRuleSync( patternDays, startDate ), mExecutor );
     }
 
     @NonNull
@@ -628,7 +630,7 @@ public class UserSchedulePatternServiceImpl implements UserSchedulePatternServic
             @NonNull RecurrenceRule recurrenceRule,
             @NonNull UserScheduleAssignment assignment) {
 
-        return CompletableFuture.supplyAsync( () -> convertFromRecurrenceRuleSync( recurrenceRule, assignment ), mExecutorService );
+        return CompletableFuture.supplyAsync( () -> convertFromRecurrenceRuleSync( recurrenceRule, assignment ), mExecutor );
     }
 
     // ==================== PRIVATE HELPER METHODS ====================
@@ -878,7 +880,7 @@ public class UserSchedulePatternServiceImpl implements UserSchedulePatternServic
                 Log.e( TAG, "Error generating pattern preview", e );
                 return OperationResult.failure( "Preview generation error: " + e.getMessage(), OperationResult.OperationType.CREATE );
             }
-        }, mExecutorService );
+        }, mExecutor );
     }
 
 
@@ -925,7 +927,7 @@ public class UserSchedulePatternServiceImpl implements UserSchedulePatternServic
                         OperationResult.OperationType.READ
                 );
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @NonNull
@@ -978,7 +980,7 @@ public class UserSchedulePatternServiceImpl implements UserSchedulePatternServic
                         OperationResult.OperationType.READ
                 );
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     @NonNull
@@ -1040,7 +1042,7 @@ public class UserSchedulePatternServiceImpl implements UserSchedulePatternServic
                         OperationResult.OperationType.DELETE
                 );
             }
-        }, mExecutorService);
+        }, mWriteExecutor);
     }
 
     @NonNull
@@ -1121,7 +1123,7 @@ public class UserSchedulePatternServiceImpl implements UserSchedulePatternServic
                         OperationResult.OperationType.READ
                 );
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     // ==================== HELPER METHODS FOR ASSIGNMENT MANAGEMENT ====================
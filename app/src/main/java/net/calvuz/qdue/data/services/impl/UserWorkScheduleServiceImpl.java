@@ -2,6 +2,7 @@ package net.calvuz.qdue.data.services.impl;
 
 import androidx.annotation.NonNull;
 
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.data.services.UserWorkScheduleService;
 import net.calvuz.qdue.core.services.models.OperationResult;
 import net.calvuz.qdue.domain.calendar.models.WorkScheduleDay;
@@ -12,8 +13,7 @@ import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 
 public class UserWorkScheduleServiceImpl implements UserWorkScheduleService
 {
@@ -25,7 +25,7 @@ public class UserWorkScheduleServiceImpl implements UserWorkScheduleService
 
     // ==================== PERFORMANCE AND CACHING ====================
 
-    private final ExecutorService mExecutorService;
+    private final Executor mExecutor;
     //private final ConcurrentHashMap<String, Object> mCache;
 
     // ==================== STATE MANAGEMENT ====================
@@ -41,7 +41,7 @@ public class UserWorkScheduleServiceImpl implements UserWorkScheduleService
         this.mGenerateUserScheduleUseCase = mGenerateUserScheduleUseCase;
 
         // Initialize performance components
-        this.mExecutorService = Executors.newFixedThreadPool( 3 );
+        this.mExecutor = AppExecutors.getInstance().reads();
 
         // Mark as initialized
         this.mIsInitialized = true;
@@ -117,7 +117,7 @@ public class UserWorkScheduleServiceImpl implements UserWorkScheduleService
                         "- Initialized: " + mIsInitialized + "\n" +
                         "- Shutdown: " + mIsShutdown + "\n" +
                         //"- Cache size: " + mCache.size() + "\n" +
-                        "- Executor shutdown: " + mExecutorService.isShutdown() + "\n";
+                        "- Executor: " + AppExecutors.getInstance().reads().getMetrics() + "\n";
 
                 return OperationResult.success( status, OperationResult.OperationType.SYSTEM );
             } catch (Exception e) {
@@ -141,10 +141,6 @@ public class UserWorkScheduleServiceImpl implements UserWorkScheduleService
         mIsShutdown = true;
         //mCache.clear();
 
-        if (mExecutorService != null && !mExecutorService.isShutdown()) {
-            mExecutorService.shutdown();
-        }
-
         Log.d( TAG, "✅ UserWorkScheduleService shutdown completed" );
     }
 }
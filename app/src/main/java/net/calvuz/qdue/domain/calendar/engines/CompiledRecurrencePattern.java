@@ -0,0 +1,198 @@
+package net.calvuz.qdue.domain.calendar.engines;
+
+import androidx.annotation.NonNull;
+
+import net.calvuz.qdue.domain.calendar.models.RecurrenceRule;
+import net.calvuz.qdue.domain.calendar.models.Shift;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * CompiledRecurrencePattern - Immutable, array-based form of a recurrence rule pattern.
+ *
+ * <p>Built once per rule version by {@link RecurrenceCalculator}, then shared by every
+ * thread generating schedules for that rule:</p>
+ * <ul>
+ *   <li>Shift sequences are numbered; rest sequences have no shift template</li>
+ *   <li>Each work sequence has a pre-built {@link Shift} template, with its times
+ *       already parsed into {@code LocalTime}</li>
+ *   <li>A cycle-day table maps each 1-based cycle day to its sequence indexes and
+ *       to the ready-made list of shift templates of the day</li>
+ * </ul>
+ *
+ * <p>A compiled pattern belongs to one version of its rule, identified by rule id and
+ * {@link RecurrenceRule#getUpdatedAt()}: see {@link #isCompiledFrom(RecurrenceRule)}.</p>
+ */
+public final class CompiledRecurrencePattern {
+
+    private static final int[] NO_SEQUENCES = new int[0];
+
+    private final String mRuleId;
+    private final long mRuleUpdatedAt;
+    private final String mFrequency;
+    private final int mInterval;
+    private final int mCycleLength;
+    private final boolean mContinuous;
+
+    // Per sequence: shift type name and template (null for rest or invalid sequences)
+    private final String[] mSequenceTypes;
+    private final Shift[] mShiftTemplates;
+
+    // Per cycle day (index 0 unused): sequence indexes and shift templates of the day
+    private final int[][] mSequencesByCycleDay;
+    private final List<List<Shift>> mShiftsByCycleDay;
+
+    /**
+     * @param ruleId        Compiled rule id
+     * @param ruleUpdatedAt Compiled rule version
+     * @param frequency     Rule frequency name
+     * @param interval      Rule interval
+     * @param cycleLength   Cycle length in days
+     * @param continuous    True for continuous (QuattroDue) cycles
+     * @param sequenceTypes Shift type name of each sequence
+     * @param shiftTemplates Shift template of each sequence, null for rest sequences
+     * @param sequenceDays  1-based cycle days of each sequence
+     */
+    CompiledRecurrencePattern(@NonNull String ruleId, long ruleUpdatedAt,
+                              @NonNull String frequency, int interval, int cycleLength, boolean continuous,
+                              @NonNull String[] sequenceTypes, @NonNull Shift[] shiftTemplates,
+                              @NonNull int[][] sequenceDays) {
+        this.mRuleId = ruleId;
+        this.mRuleUpdatedAt = ruleUpdatedAt;
+        this.mFrequency = frequency;
+        this.mInterval = interval;
+        this.mCycleLength = cycleLength;
+        this.mContinuous = continuous;
+        this.mSequenceTypes = sequenceTypes.clone();
+        this.mShiftTemplates = shiftTemplates.clone();
+
+        // Table covers the cycle and any sequence day beyond it
+        int lastDay = Math.max( cycleLength, 0 );
+        for (int[] days : sequenceDays) {
+            for (int day : days) {
+                lastDay = Math.max( lastDay, day );
+            }
+        }
+
+        int[] counts = new int[lastDay + 1];
+        for (int[] days : sequenceDays) {
+            for (int day : days) {
+                if (day >= 1) counts[day]++;
+            }
+        }
+
+        int[][] byDay = new int[lastDay + 1][];
+        for (int day = 0; day <= lastDay; day++) {
+            byDay[day] = counts[day] == 0 ? NO_SEQUENCES : new int[counts[day]];
+            counts[day] = 0;
+        }
+        for (int sequence = 0; sequence < sequenceDays.length; sequence++) {
+            for (int day : sequenceDays[sequence]) {
+                if (day >= 1) byDay[day][counts[day]++] = sequence;
+            }
+        }
+        this.mSequencesByCycleDay = byDay;
+
+        List<List<Shift>> shiftsByDay = new ArrayList<>( lastDay + 1 );
+        for (int[] sequences : byDay) {
+            List<Shift> shifts = new ArrayList<>( sequences.length );
+            for (int sequence : sequences) {
+                if (mShiftTemplates[sequence] != null) {
+                    shifts.add( mShiftTemplates[sequence] );
+                }
+            }
+            shiftsByDay.add( shifts.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList( shifts ) );
+        }
+        this.mShiftsByCycleDay = shiftsByDay;
+    }
+
+    // ==================== VERSION ====================
+
+    /**
+     * @return true if this pattern was compiled from the current version of the rule
+     */
+    public boolean isCompiledFrom(@NonNull RecurrenceRule recurrenceRule) {
+        return mRuleId.equals( recurrenceRule.getId() )
+                && mRuleUpdatedAt == recurrenceRule.getUpdatedAt();
+    }
+
+    @NonNull
+    public String getRuleId() {
+        return mRuleId;
+    }
+
+    public long getRuleUpdatedAt() {
+        return mRuleUpdatedAt;
+    }
+
+    // ==================== PATTERN ====================
+
+    @NonNull
+    public String getFrequency() {
+        return mFrequency;
+    }
+
+    public int getInterval() {
+        return mInterval;
+    }
+
+    public int getCycleLength() {
+        return mCycleLength;
+    }
+
+    public boolean isContinuous() {
+        return mContinuous;
+    }
+
+    public int getSequenceCount() {
+        return mSequenceTypes.length;
+    }
+
+    @NonNull
+    public String getSequenceType(int sequence) {
+        return mSequenceTypes[sequence];
+    }
+
+    /**
+     * @return Last cycle day referenced by the cycle or by any sequence
+     */
+    public int getLastCycleDay() {
+        return mSequencesByCycleDay.length - 1;
+    }
+
+    /**
+     * Sequences active on a cycle day, rest sequences included.
+     *
+     * @param cycleDay 1-based cycle day
+     * @return Sequence indexes; the array must not be modified
+     */
+    @NonNull
+    int[] getSequencesForCycleDay(int cycleDay) {
+        return cycleDay >= 0 && cycleDay < mSequencesByCycleDay.length
+                ? mSequencesByCycleDay[cycleDay]
+                : NO_SEQUENCES;
+    }
+
+    /**
+     * Shift templates worked on a cycle day. Templates are immutable and shared by
+     * every date falling on the same cycle day.
+     *
+     * @param cycleDay 1-based cycle day
+     * @return Unmodifiable list of shifts, empty for rest days or days outside the cycle
+     */
+    @NonNull
+    public List<Shift> getShiftsForCycleDay(int cycleDay) {
+        return cycleDay >= 0 && cycleDay < mShiftsByCycleDay.size()
+                ? mShiftsByCycleDay.get( cycleDay )
+                : Collections.emptyList();
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "CompiledRecurrencePattern{" + mRuleId + "@" + mRuleUpdatedAt + ", " + mFrequency
+                + ", cycle=" + mCycleLength + ", sequences=" + mSequenceTypes.length + '}';
+    }
+}
@@ -0,0 +1,154 @@
+package net.calvuz.qdue.domain.calendar.engines;
+
+import androidx.annotation.NonNull;
+
+import net.calvuz.qdue.domain.calendar.models.ShiftException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * ExceptionIndex - Epoch-day keyed buckets of shift exceptions.
+ *
+ * <p>Built once per range or team generation. Exceptions are filtered and sorted
+ * a single time, then grouped by target date; a lookup is a binary search over a
+ * sorted {@code long[]} of epoch days, so generating N days with E exceptions costs
+ * O(E log E + N log D) instead of O(N × E).</p>
+ *
+ * <p>Buckets keep the resolution order given at build time, so they can be handed
+ * to {@link ExceptionResolver#applySortedExceptions} as they are. Instances are
+ * immutable.</p>
+ *
+ * @see ExceptionResolver#indexExceptions(List)
+ */
+public final class ExceptionIndex {
+
+    private static final ExceptionIndex EMPTY = new ExceptionIndex( new long[0], Collections.emptyList(), 0 );
+
+    // Sorted distinct target days, and the bucket for each of them
+    private final long[] mEpochDays;
+    private final List<List<ShiftException>> mBuckets;
+    private final int mSize;
+
+    private ExceptionIndex(@NonNull long[] epochDays, @NonNull List<List<ShiftException>> buckets, int size) {
+        this.mEpochDays = epochDays;
+        this.mBuckets = buckets;
+        this.mSize = size;
+    }
+
+    /**
+     * Build an index.
+     *
+     * @param exceptions Exceptions in any order
+     * @param filter     Exceptions to keep
+     * @param order      Resolution order within a day
+     * @return Immutable index
+     */
+    @NonNull
+    static ExceptionIndex build(@NonNull List<ShiftException> exceptions,
+                                @NonNull Predicate<ShiftException> filter,
+                                @NonNull Comparator<ShiftException> order) {
+        List<ShiftException> sorted = new ArrayList<>( exceptions.size() );
+        for (ShiftException exception : exceptions) {
+            if (exception.getTargetDate() != null && filter.test( exception )) {
+                sorted.add( exception );
+            }
+        }
+        if (sorted.isEmpty()) {
+            return EMPTY;
+        }
+
+        sorted.sort( Comparator.comparingLong( (ShiftException e) -> e.getTargetDate().toEpochDay() )
+                .thenComparing( order ) );
+
+        long[] epochDays = new long[sorted.size()];
+        List<List<ShiftException>> buckets = new ArrayList<>();
+        int start = 0;
+        for (int i = 1; i <= sorted.size(); i++) {
+            long day = sorted.get( start ).getTargetDate().toEpochDay();
+            if (i == sorted.size() || sorted.get( i ).getTargetDate().toEpochDay() != day) {
+                epochDays[buckets.size()] = day;
+                buckets.add( Collections.unmodifiableList( sorted.subList( start, i ) ) );
+                start = i;
+            }
+        }
+
+        return new ExceptionIndex( Arrays.copyOf( epochDays, buckets.size() ), buckets, sorted.size() );
+    }
+
+    // ==================== LOOKUPS ====================
+
+    /**
+     * @param epochDay Days since 1970-01-01
+     * @return Exceptions for the day in resolution order, empty if none
+     */
+    @NonNull
+    public List<ShiftException> forEpochDay(long epochDay) {
+        int position = Arrays.binarySearch( mEpochDays, epochDay );
+        return position >= 0 ? mBuckets.get( position ) : Collections.emptyList();
+    }
+
+    /**
+     * @param date Target date
+     * @return Exceptions for the date in resolution order, empty if none
+     */
+    @NonNull
+    public List<ShiftException> forDate(@NonNull LocalDate date) {
+        return forEpochDay( date.toEpochDay() );
+    }
+
+    /**
+     * Exceptions of one user for a date, for team-wide generation.
+     *
+     * @param date   Target date
+     * @param userId User ID
+     * @return Exceptions in resolution order, empty if none
+     */
+    @NonNull
+    public List<ShiftException> forDate(@NonNull LocalDate date, @NonNull String userId) {
+        List<ShiftException> bucket = forDate( date );
+        if (bucket.isEmpty()) {
+            return bucket;
+        }
+
+        List<ShiftException> userExceptions = new ArrayList<>( bucket.size() );
+        for (ShiftException exception : bucket) {
+            if (userId.equals( exception.getUserId() )) {
+                userExceptions.add( exception );
+            }
+        }
+        return userExceptions;
+    }
+
+    /**
+     * @param fromEpochDay First day (inclusive)
+     * @param toEpochDay   Last day (inclusive)
+     * @return Sorted days with at least one exception in the range
+     */
+    @NonNull
+    public long[] epochDaysBetween(long fromEpochDay, long toEpochDay) {
+        int from = Arrays.binarySearch( mEpochDays, fromEpochDay );
+        int to = Arrays.binarySearch( mEpochDays, toEpochDay );
+        from = from >= 0 ? from : -from - 1;
+        to = to >= 0 ? to + 1 : -to - 1;
+        return from < to ? Arrays.copyOfRange( mEpochDays, from, to ) : new long[0];
+    }
+
+    // ==================== STATE ====================
+
+    /**
+     * @return Number of indexed exceptions
+     */
+    public int size() {
+        return mSize;
+    }
+
+    public boolean isEmpty() {
+        return mSize == 0;
+    }
+}
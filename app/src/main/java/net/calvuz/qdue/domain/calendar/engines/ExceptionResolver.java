@@ -1,5 +1,7 @@
 package net.calvuz.qdue.domain.calendar.engines;
 
+import static net.calvuz.qdue.QDue.Debug.DEBUG_HOT_PATHS;
+
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
@@ -14,6 +16,7 @@ import net.calvuz.qdue.ui.core.common.utils.Log;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -76,6 +79,7 @@ public class ExceptionResolver extends LocalizableDomainModel {
 
     // Exception priority mapping (higher number = higher priority)
     private final Map<ShiftException.ExceptionType, Integer> mExceptionPriorities;
+    private final Comparator<ShiftException> mPriorityOrder = this::compareByPriority;
 
     // ==================== CONSTRUCTOR ====================
 
@@ -140,6 +144,34 @@ public class ExceptionResolver extends LocalizableDomainModel {
             // Sort exceptions by priority and temporal order
             List<ShiftException> sortedExceptions = sortExceptionsByPriority( validExceptions );
 
+            return applySortedExceptions( baseSchedule, sortedExceptions, userTeamMappings,
+                    replacementShifts );
+        } catch (Exception e) {
+            Log.e( TAG, "Error applying exceptions to schedule", e );
+            return baseSchedule; // Return original schedule on error
+        }
+    }
+
+    /**
+     * Apply exceptions that are already filtered for the schedule date and sorted
+     * by priority, e.g. a bucket from {@link #indexExceptions(List)}.
+     *
+     * @param baseSchedule      Original work schedule day
+     * @param sortedExceptions  Effective exceptions for the date, in resolution order
+     * @param userTeamMappings  Map of userID to Team for team assignment lookups
+     * @param replacementShifts Map of shiftId to WorkScheduleShift for replacements
+     * @return Modified WorkScheduleDay with exceptions applied
+     */
+    @NonNull
+    public WorkScheduleDay applySortedExceptions(@NonNull WorkScheduleDay baseSchedule,
+                                                 @NonNull List<ShiftException> sortedExceptions,
+                                                 @NonNull Map<String, Team> userTeamMappings,
+                                                 @NonNull Map<String, WorkScheduleShift> replacementShifts) {
+        if (sortedExceptions.isEmpty()) {
+            return baseSchedule; // No changes needed
+        }
+
+        try {
             // Create mutable copy of schedule for modifications
             WorkScheduleDay modifiedSchedule = cloneScheduleDay( baseSchedule );
 
@@ -162,6 +194,22 @@ public class ExceptionResolver extends LocalizableDomainModel {
         }
     }
 
+    /**
+     * Index exceptions by target date for range and team generation.
+     *
+     * <p>Keeps the exceptions {@link #applyExceptions} would accept (active, effective,
+     * supported type) and sorts each day's bucket in resolution order.</p>
+     *
+     * @param exceptions Exceptions in any order
+     * @return Epoch-day keyed index
+     */
+    @NonNull
+    public ExceptionIndex indexExceptions(@NonNull List<ShiftException> exceptions) {
+        return ExceptionIndex.build( exceptions,
+                exception -> exception.isActive() && exception.isEffective() && isExceptionTypeSupported( exception ),
+                mPriorityOrder );
+    }
+
     /**
      * Apply single exception to work schedule with conflict detection.
      *
@@ -177,8 +225,10 @@ public class ExceptionResolver extends LocalizableDomainModel {
                                                     @NonNull Map<String, Team> userTeamMappings,
                                                     @NonNull Map<String, WorkScheduleShift> replacementShifts) {
         try {
-            Log.v( TAG, "Applying exception: " + exception.getType() +
-                    " for user: " + exception.getUserId() );
+            if (DEBUG_HOT_PATHS) {
+                Log.v( TAG, "Applying exception: " + exception.getType() +
+                        " for user: " + exception.getUserId() );
+            }
 
             return switch (exception.getType()) {
                 case ABSENCE_VACATION, ABSENCE_SICK, ABSENCE_SPECIAL ->
@@ -457,22 +507,27 @@ public class ExceptionResolver extends LocalizableDomainModel {
 
     private List<ShiftException> sortExceptionsByPriority(@NonNull List<ShiftException> exceptions) {
         return exceptions.stream()
-                .sorted( (e1, e2) -> {
-                    // Primary sort: Priority (higher first)
-                    int priority1 = mExceptionPriorities.getOrDefault( e1.getType(), 0 );
-                    int priority2 = mExceptionPriorities.getOrDefault( e2.getType(), 0 );
-
-                    int priorityComparison = Integer.compare( priority2, priority1 );
-                    if (priorityComparison != 0) {
-                        return priorityComparison;
-                    }
-
-                    // Secondary sort: Creation time (later first)
-                    return Long.compare( e2.getCreatedAt(), e1.getCreatedAt() );
-                } )
+                .sorted( mPriorityOrder )
                 .collect( Collectors.toList() );
     }
 
+    /**
+     * Resolution order: priority (higher first), then creation time (later first).
+     */
+    private int compareByPriority(@NonNull ShiftException e1, @NonNull ShiftException e2) {
+        // Primary sort: Priority (higher first)
+        int priority1 = mExceptionPriorities.getOrDefault( e1.getType(), 0 );
+        int priority2 = mExceptionPriorities.getOrDefault( e2.getType(), 0 );
+
+        int priorityComparison = Integer.compare( priority2, priority1 );
+        if (priorityComparison != 0) {
+            return priorityComparison;
+        }
+
+        // Secondary sort: Creation time (later first)
+        return Long.compare( e2.getCreatedAt(), e1.getCreatedAt() );
+    }
+
     private WorkScheduleDay cloneScheduleDay(@NonNull WorkScheduleDay original) {
         return WorkScheduleDay.builder( original.getDate() )
                 .copyFrom( original )
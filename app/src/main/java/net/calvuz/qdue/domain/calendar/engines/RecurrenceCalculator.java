@@ -1,10 +1,14 @@
 package net.calvuz.qdue.domain.calendar.engines;
 
+import static net.calvuz.qdue.QDue.Debug.DEBUG_HOT_PATHS;
+
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.google.gson.Gson;
 
+import net.calvuz.qdue.core.common.metrics.CacheMeter;
+import net.calvuz.qdue.core.common.metrics.Metrics;
 import net.calvuz.qdue.core.common.utils.ColorUtils;
 import net.calvuz.qdue.domain.calendar.models.RecurrenceRule;
 import net.calvuz.qdue.domain.calendar.models.Team;
@@ -27,6 +31,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -90,8 +95,10 @@ public class RecurrenceCalculator extends LocalizableDomainModel {
 
     private final Gson mGson;
 
-    // Performance caching for patterns
-    private final Map<String, RecurrencePattern> mPatternCache;
+    // Compiled patterns by rule id, replaced when the rule version changes
+    // (shared by parallel team generation)
+    private final Map<String, CompiledRecurrencePattern> mPatternCache;
+    private final CacheMeter mPatternCacheMeter = Metrics.cache( "recurrence_patterns" );
 
     // ==================== CONSTRUCTOR ====================
 
@@ -103,7 +110,7 @@ public class RecurrenceCalculator extends LocalizableDomainModel {
     public RecurrenceCalculator(@Nullable DomainLocalizer localizer) {
         super( localizer, LOCALIZATION_SCOPE );
         this.mGson = new Gson();
-        this.mPatternCache = new HashMap<>();
+        this.mPatternCache = new ConcurrentHashMap<>();
         Log.d( TAG, "RecurrenceCalculator initialized as pure algorithm" );
     }
 
@@ -146,8 +153,10 @@ public class RecurrenceCalculator extends LocalizableDomainModel {
                 WorkScheduleShift workScheduleShift = createWorkScheduleShift( shift, assignment );
                 if (workScheduleShift != null) {
                     scheduleBuilder.addShift( workScheduleShift );
-                    Log.v( TAG, MessageFormat.format( "{0} Added WorkScheduleShift: {1}",
-                            date, shift.getName() ) );
+                    if (DEBUG_HOT_PATHS) {
+                        Log.v( TAG, MessageFormat.format( "{0} Added WorkScheduleShift: {1}",
+                                date, shift.getName() ) );
+                    }
                 } else {
                     Log.w( TAG, "createWorkScheduleShift returned null for: " + shift.getName() );
                 }
@@ -160,6 +169,43 @@ public class RecurrenceCalculator extends LocalizableDomainModel {
         }
     }
 
+    /**
+     * Generate work schedules for a date range, parsing the recurrence pattern once.
+     *
+     * <p>Produces the same days as calling {@link #generateScheduleForDate} for each
+     * date, including the assignment team on every shift.</p>
+     *
+     * @param startDate      Start date (inclusive)
+     * @param endDate        End date (inclusive)
+     * @param recurrenceRule Recurrence rule domain model
+     * @param assignment     User schedule assignment domain model
+     * @return Map of dates to WorkScheduleDay
+     */
+    @NonNull
+    public Map<LocalDate, WorkScheduleDay> generateScheduleForDateRange(
+            @NonNull LocalDate startDate, @NonNull LocalDate endDate,
+            @NonNull RecurrenceRule recurrenceRule,
+            @NonNull UserScheduleAssignment assignment) {
+
+        Map<LocalDate, WorkScheduleDay> scheduleMap = new HashMap<>();
+        Map<LocalDate, List<Shift>> shiftsMap = calculateShiftsForDateRange( startDate, endDate,
+                recurrenceRule, assignment );
+
+        for (Map.Entry<LocalDate, List<Shift>> entry : shiftsMap.entrySet()) {
+            WorkScheduleDay.Builder scheduleBuilder = WorkScheduleDay.builder( entry.getKey() );
+
+            for (Shift shift : entry.getValue()) {
+                WorkScheduleShift workScheduleShift = createWorkScheduleShift( shift, assignment );
+                if (workScheduleShift != null) {
+                    scheduleBuilder.addShift( workScheduleShift );
+                }
+            }
+            scheduleMap.put( entry.getKey(), scheduleBuilder.build() );
+        }
+
+        return scheduleMap;
+    }
+
     /**
      * Calculate shifts for specific date based on recurrence rule and user assignment.
      *
@@ -173,8 +219,8 @@ public class RecurrenceCalculator extends LocalizableDomainModel {
                                               @NonNull RecurrenceRule recurrenceRule,
                                               @NonNull UserScheduleAssignment assignment) {
         try {
-            // Parse recurrence pattern from domain model
-            RecurrencePattern pattern = parseRecurrencePattern( recurrenceRule );
+            // Compiled recurrence pattern of the rule version
+            CompiledRecurrencePattern pattern = getCompiledPattern( recurrenceRule );
 
             // Get team offset from assignment (or 0 if not available) (0 HARDCODED - test )
             int teamOffset = getTeamOffsetFromAssignment( assignment );
@@ -192,7 +238,7 @@ public class RecurrenceCalculator extends LocalizableDomainModel {
      * @param date           Target date for calculation
      * @param recurrenceRule Recurrence rule domain model
      * @param assignment     User schedule assignment domain model
-     * @param pattern        Parsed recurrence pattern
+     * @param pattern        Compiled recurrence pattern of the rule
      * @param teamOffset     Team offset for multi-team coordination
      *
      * @return List of Shift objects for the date
@@ -201,26 +247,19 @@ public class RecurrenceCalculator extends LocalizableDomainModel {
     public List<Shift> calculateShiftsForDate(@NonNull LocalDate date,
                                               @NonNull RecurrenceRule recurrenceRule,
                                               @NonNull UserScheduleAssignment assignment,
-                                              @NonNull RecurrencePattern pattern,
+                                              @NonNull CompiledRecurrencePattern pattern,
                                               int teamOffset) {
         try {
             // Calculate cycle position for the date
             int cyclePosition = calculateCyclePosition( date, assignment.getStartDate(),
                     pattern, teamOffset );
 
-            // Get shift assignments for this cycle position
-            List<ShiftAssignment> shiftAssignments = getShiftAssignmentsForCycleDay( pattern, cyclePosition );
+            // Shift templates of this cycle position (immutable, shared across dates)
+            List<Shift> shifts = new ArrayList<>( pattern.getShiftsForCycleDay( cyclePosition ) );
 
-            // Convert to Shift domain objects
-            List<Shift> shifts = new ArrayList<>();
-            for (ShiftAssignment shiftAssignment : shiftAssignments) {
-                Shift shift = createShiftFromAssignment( shiftAssignment, date );
-                if (shift != null) {
-                    shifts.add( shift );
-                }
+            if (DEBUG_HOT_PATHS) {
+                Log.v( TAG, "Generated " + shifts.size() + " shifts for date: " + date );
             }
-
-            Log.v( TAG, "Generated " + shifts.size() + " shifts for date: " + date );
             return shifts;
         } catch (Exception e) {
             Log.e( TAG, "Error calculating shifts for date: " + date, e );
@@ -246,8 +285,8 @@ public class RecurrenceCalculator extends LocalizableDomainModel {
         Map<LocalDate, List<Shift>> shiftsMap = new HashMap<>();
 
         try {
-            // Parse pattern once for efficiency
-            RecurrencePattern pattern = parseRecurrencePattern( recurrenceRule );
+            // Compile pattern once for efficiency
+            CompiledRecurrencePattern pattern = getCompiledPattern( recurrenceRule );
             int teamOffset = getTeamOffsetFromAssignment( assignment );
 
             // Process each date in range
@@ -267,6 +306,33 @@ public class RecurrenceCalculator extends LocalizableDomainModel {
         return shiftsMap;
     }
 
+    /**
+     * Cycle length used for a rule: generated schedules repeat with this period
+     * from the assignment start onwards.
+     *
+     * @param recurrenceRule Recurrence rule domain model
+     * @return Cycle length in days, at least 1
+     */
+    public int getCycleLength(@NonNull RecurrenceRule recurrenceRule) {
+        return Math.max( 1, getCompiledPattern( recurrenceRule ).getCycleLength() );
+    }
+
+    /**
+     * Next dates the rule applies to, honouring its COUNT/UNTIL end.
+     * See {@link RecurrenceOccurrences} for streams over long ranges.
+     *
+     * @param recurrenceRule Recurrence rule domain model
+     * @param fromDate       First date to consider (inclusive)
+     * @param skip           Occurrences to skip
+     * @param limit          Maximum occurrences to return
+     * @return Occurrence dates in order
+     */
+    @NonNull
+    public List<LocalDate> getNextOccurrences(@NonNull RecurrenceRule recurrenceRule,
+                                              @NonNull LocalDate fromDate, int skip, int limit) {
+        return RecurrenceOccurrences.next( recurrenceRule, fromDate, skip, limit );
+    }
+
     /**
      * Validate recurrence rule pattern for correctness.
      *
@@ -278,17 +344,17 @@ public class RecurrenceCalculator extends LocalizableDomainModel {
         try {
             Log.d( TAG, "Validating recurrence rule: " + recurrenceRule.getId() );
 
-            RecurrencePattern pattern = parseRecurrencePattern( recurrenceRule );
+            CompiledRecurrencePattern pattern = getCompiledPattern( recurrenceRule );
 
             // Basic validation checks
             ValidationResult result = new ValidationResult();
             result.isValid = true;
 
             // Check cycle length
-            if (pattern.cycleLength <= 0 || pattern.cycleLength > 365) {
+            if (pattern.getCycleLength() <= 0 || pattern.getCycleLength() > 365) {
                 result.isValid = false;
                 result.errorMessage = localize( "validation.invalid_cycle_length",
-                        "Invalid cycle length: " + pattern.cycleLength );
+                        "Invalid cycle length: " + pattern.getCycleLength() );
                 return result;
             }
 
@@ -319,43 +385,66 @@ public class RecurrenceCalculator extends LocalizableDomainModel {
         }
     }
 
-    // ==================== PATTERN PARSING METHODS ====================
+    // ==================== PATTERN COMPILATION METHODS ====================
 
-    private RecurrencePattern parseRecurrencePattern(@NonNull RecurrenceRule recurrenceRule) {
+    /**
+     * Compiled pattern of the current version of a rule. A cached pattern is reused
+     * while the rule id and updatedAt match; an edited rule is compiled again.
+     * Concurrent callers may compile the same version twice, the result is identical.
+     */
+    @NonNull
+    private CompiledRecurrencePattern getCompiledPattern(@NonNull RecurrenceRule recurrenceRule) {
         String cacheKey = recurrenceRule.getId();
 
         // Check cache first
-        RecurrencePattern cachedPattern = mPatternCache.get( cacheKey );
-        if (cachedPattern != null) {
+        CompiledRecurrencePattern cachedPattern = mPatternCache.get( cacheKey );
+        if (cachedPattern != null && cachedPattern.isCompiledFrom( recurrenceRule )) {
+            mPatternCacheMeter.hit();
             return cachedPattern;
         }
+        mPatternCacheMeter.miss();
 
         try {
-            RecurrencePattern pattern = new RecurrencePattern();
-            pattern.ruleId = recurrenceRule.getId();
-            pattern.frequency = recurrenceRule.getFrequency().name();
-            pattern.interval = recurrenceRule.getInterval();
-            pattern.cycleLength = recurrenceRule.getCycleLength() != null ?
-                    recurrenceRule.getCycleLength() : 1;
-            pattern.isContinuous = recurrenceRule.getFrequency()
-                    .equals( RecurrenceRule.Frequency.QUATTRODUE_CYCLE );
-
-            // Create shift sequence based on frequency
-            pattern.shiftSequence = createShiftSequenceFromRule( recurrenceRule );
-
-            // Cache the parsed pattern
+            CompiledRecurrencePattern pattern = compilePattern( recurrenceRule );
+
+            // Cache the compiled pattern, replacing any older version
             mPatternCache.put( cacheKey, pattern );
 
-            Log.d( TAG, "Parsed recurrence pattern: " + pattern.frequency +
-                    ", cycle: " + pattern.cycleLength );
+            Log.d( TAG, "Compiled recurrence pattern: " + pattern );
 
             return pattern;
         } catch (Exception e) {
-            Log.e( TAG, "Error parsing recurrence pattern, returning an empty default", e );
-            return new RecurrencePattern();
+            Log.e( TAG, "Error compiling recurrence pattern, returning an empty default", e );
+            return new CompiledRecurrencePattern( String.valueOf( recurrenceRule.getId() ),
+                    recurrenceRule.getUpdatedAt(), "", 0, 0, false,
+                    new String[0], new Shift[0], new int[0][] );
         }
     }
 
+    @NonNull
+    private CompiledRecurrencePattern compilePattern(@NonNull RecurrenceRule recurrenceRule) {
+        int cycleLength = recurrenceRule.getCycleLength() != null ?
+                recurrenceRule.getCycleLength() : 1;
+
+        // Create shift sequence based on frequency
+        List<ShiftSequence> sequences = createShiftSequenceFromRule( recurrenceRule );
+
+        String[] sequenceTypes = new String[sequences.size()];
+        Shift[] shiftTemplates = new Shift[sequences.size()];
+        int[][] sequenceDays = new int[sequences.size()][];
+        for (int i = 0; i < sequences.size(); i++) {
+            ShiftSequence sequence = sequences.get( i );
+            sequenceTypes[i] = sequence.shiftType;
+            shiftTemplates[i] = createShiftTemplate( sequence );
+            sequenceDays[i] = sequence.days.stream().mapToInt( Integer::intValue ).toArray();
+        }
+
+        return new CompiledRecurrencePattern( recurrenceRule.getId(), recurrenceRule.getUpdatedAt(),
+                recurrenceRule.getFrequency().name(), recurrenceRule.getInterval(), cycleLength,
+                recurrenceRule.getFrequency().equals( RecurrenceRule.Frequency.QUATTRODUE_CYCLE ),
+                sequenceTypes, shiftTemplates, sequenceDays );
+    }
+
     private List<ShiftSequence> createShiftSequenceFromRule(@NonNull RecurrenceRule recurrenceRule) {
         List<ShiftSequence> sequences = new ArrayList<>();
 
@@ -511,7 +600,7 @@ public class RecurrenceCalculator extends LocalizableDomainModel {
     // ==================== CYCLE CALCULATION METHODS ====================
 
     private int calculateCyclePosition(@NonNull LocalDate date, @NonNull LocalDate startDate,
-                                       @NonNull RecurrencePattern pattern, int teamOffset) {
+                                       @NonNull CompiledRecurrencePattern pattern, int teamOffset) {
 
         long daysSinceStart = ChronoUnit.DAYS.between( startDate, date );
 
@@ -519,37 +608,19 @@ public class RecurrenceCalculator extends LocalizableDomainModel {
         daysSinceStart += teamOffset;
 
         // Calculate position in cycle (0-based)
-        int cyclePosition = (int) ((daysSinceStart % pattern.cycleLength) + 1);
+        int cyclePosition = (int) ((daysSinceStart % pattern.getCycleLength()) + 1);
 
         // Handle negative values for dates before start
         if (cyclePosition < 0) {
-            cyclePosition += pattern.cycleLength;
+            cyclePosition += pattern.getCycleLength();
         }
 
-        Log.v( TAG, "Cycle position for " + date + ": " + cyclePosition +
-                " (days since start: " + daysSinceStart + ", offset: " + teamOffset + ")" );
-
-        return cyclePosition;
-    }
-
-    private List<ShiftAssignment> getShiftAssignmentsForCycleDay(@NonNull RecurrencePattern pattern,
-                                                                 int cycleDay) {
-        List<ShiftAssignment> assignments = new ArrayList<>();
-
-        for (ShiftSequence sequence : pattern.shiftSequence) {
-            if (sequence.days.contains( cycleDay )) {
-                ShiftAssignment assignment = new ShiftAssignment();
-                assignment.shiftType = sequence.shiftType;
-                assignment.startTime = sequence.startTime;
-                assignment.endTime = sequence.endTime;
-                assignment.colorHex = sequence.colorHex;
-                assignment.duration = sequence.duration;
-                assignment.cycleDay = cycleDay;
-                assignments.add( assignment );
-            }
+        if (DEBUG_HOT_PATHS) {
+            Log.v( TAG, "Cycle position for " + date + ": " + cyclePosition +
+                    " (days since start: " + daysSinceStart + ", offset: " + teamOffset + ")" );
         }
 
-        return assignments;
+        return cyclePosition;
     }
 
     // ==================== SHIFT CREATION METHODS ====================
@@ -571,7 +642,9 @@ public class RecurrenceCalculator extends LocalizableDomainModel {
                     .build();
 
             builder.addTeam( userTeam );
-            Log.v( TAG, "Added team " + userTeam.getId() + " to shift " + shift.getName() );
+            if (DEBUG_HOT_PATHS) {
+                Log.v( TAG, "Added team " + userTeam.getId() + " to shift " + shift.getName() );
+            }
 
             return builder.build();
         } catch (Exception e) {
@@ -580,29 +653,34 @@ public class RecurrenceCalculator extends LocalizableDomainModel {
         }
     }
 
-    private Shift createShiftFromAssignment(@NonNull ShiftAssignment assignment, @NonNull LocalDate date) {
-        if ("rest".equals( assignment.shiftType )) {
+    /**
+     * Shift template of a sequence, built once at compile time.
+     *
+     * @return Shift, or null for rest or invalid sequences
+     */
+    @Nullable
+    private Shift createShiftTemplate(@NonNull ShiftSequence sequence) {
+        if ("rest".equals( sequence.shiftType )) {
             return null; // No shift for rest days
         }
 
-
         try {
             // Parse timing information
-            LocalTime startTime = parseTime( assignment.startTime );
-            LocalTime endTime = parseTime( assignment.endTime );
+            LocalTime startTime = parseTime( sequence.startTime );
+            LocalTime endTime = parseTime( sequence.endTime );
 
             String colorHex = ColorUtils.getTimeBasedColor( startTime );
 
             // Create Shift domain object
-            return Shift.builder( assignment.shiftType )
+            return Shift.builder( sequence.shiftType )
                     .setStartTime( startTime )
                     .setEndTime( endTime )
                     .setColorHex( colorHex )
-                    .setShiftType( Shift.ShiftType.valueOf( assignment.shiftType.toUpperCase() ) )
+                    .setShiftType( Shift.ShiftType.valueOf( sequence.shiftType.toUpperCase() ) )
                     .setBreakTimeDuration( Duration.ZERO )
                     .build();
         } catch (Exception e) {
-            Log.e( TAG, "Error creating shift from assignment", e );
+            Log.e( TAG, "Error creating shift template from sequence", e );
             return null;
         }
     }
@@ -651,20 +729,10 @@ public class RecurrenceCalculator extends LocalizableDomainModel {
 
     // ==================== VALIDATION METHODS ====================
 
-    private boolean validateShiftSequenceCoverage(@NonNull RecurrencePattern pattern) {
-        boolean[] covered = new boolean[pattern.cycleLength + 1]; // 1-based indexing
-
-        for (ShiftSequence sequence : pattern.shiftSequence) {
-            for (int day : sequence.days) {
-                if (day >= 1 && day <= pattern.cycleLength) {
-                    covered[day] = true;
-                }
-            }
-        }
-
+    private boolean validateShiftSequenceCoverage(@NonNull CompiledRecurrencePattern pattern) {
         // Check if all days are covered
-        for (int i = 1; i <= pattern.cycleLength; i++) {
-            if (!covered[i]) {
+        for (int i = 1; i <= pattern.getCycleLength(); i++) {
+            if (pattern.getSequencesForCycleDay( i ).length == 0) {
                 Log.w( TAG, "Cycle day " + i + " is not covered by any shift sequence" );
                 return false;
             }
@@ -673,26 +741,20 @@ public class RecurrenceCalculator extends LocalizableDomainModel {
         return true;
     }
 
-    private ValidationIssues checkForGapsAndOverlaps(@NonNull RecurrencePattern pattern) {
+    private ValidationIssues checkForGapsAndOverlaps(@NonNull CompiledRecurrencePattern pattern) {
         ValidationIssues issues = new ValidationIssues();
 
-        Map<Integer, List<String>> dayAssignments = new HashMap<>();
-
-        // Build map of day assignments
-        for (ShiftSequence sequence : pattern.shiftSequence) {
-            for (int day : sequence.days) {
-                dayAssignments.computeIfAbsent( day, k -> new ArrayList<>() ).add( sequence.shiftType );
-            }
-        }
-
         // Check for overlaps (multiple non-rest assignments per day)
-        for (Map.Entry<Integer, List<String>> entry : dayAssignments.entrySet()) {
-            int day = entry.getKey();
-            List<String> assignments = entry.getValue();
-
-            long workingAssignments = assignments.stream()
-                    .filter( type -> !"rest".equals( type ) )
-                    .count();
+        for (int day = 1; day <= pattern.getLastCycleDay(); day++) {
+            List<String> assignments = new ArrayList<>();
+            long workingAssignments = 0;
+            for (int sequence : pattern.getSequencesForCycleDay( day )) {
+                String type = pattern.getSequenceType( sequence );
+                assignments.add( type );
+                if (!"rest".equals( type )) {
+                    workingAssignments++;
+                }
+            }
 
             if (workingAssignments > 1) {
                 issues.addOverlap( day, assignments );
@@ -702,20 +764,11 @@ public class RecurrenceCalculator extends LocalizableDomainModel {
         return issues;
     }
 
-    private RecurrencePattern createDefaultPattern() {
-        RecurrencePattern pattern = new RecurrencePattern();
-        pattern.frequency = "DAILY";
-        pattern.interval = 1;
-        pattern.cycleLength = 1;
-        pattern.isContinuous = false;
-        pattern.shiftSequence = createDailySequence();
-        return pattern;
-    }
-
     // ==================== CACHE MANAGEMENT ====================
 
     /**
-     * Clear pattern cache to force re-parsing.
+     * Clear pattern cache to force recompilation. Not needed after editing a rule:
+     * a changed updatedAt already invalidates its compiled pattern.
      */
     public void clearPatternCache() {
         mPatternCache.clear();
@@ -752,15 +805,6 @@ public class RecurrenceCalculator extends LocalizableDomainModel {
 
     // ==================== INNER CLASSES ====================
 
-    public static class RecurrencePattern {
-        public String ruleId;
-        public String frequency;
-        public int interval;
-        public int cycleLength;
-        public boolean isContinuous;
-        public List<ShiftSequence> shiftSequence;
-    }
-
     public static class ShiftSequence {
         public String shiftType;
         public List<Integer> days;
@@ -770,15 +814,6 @@ public class RecurrenceCalculator extends LocalizableDomainModel {
         public int duration;
     }
 
-    public static class ShiftAssignment {
-        public String shiftType;
-        public String startTime;
-        public String endTime;
-        public String colorHex;
-        public int duration;
-        public int cycleDay;
-    }
-
     public static class ValidationResult {
         public boolean isValid;
         public String errorMessage;
@@ -0,0 +1,517 @@
+package net.calvuz.qdue.domain.calendar.engines;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import net.calvuz.qdue.domain.calendar.models.RecurrenceRule;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * RecurrenceOccurrences - Lazy enumeration of the dates a {@link RecurrenceRule} applies to.
+ *
+ * <p>Walks the rule directly instead of probing every day with
+ * {@link RecurrenceRule#appliesTo(LocalDate)}:</p>
+ * <ul>
+ *   <li><strong>DAILY</strong>: steps {@code interval} days</li>
+ *   <li><strong>WEEKLY</strong>: visits the {@code byDay} days of active weeks, skipping
+ *       the {@code interval - 1} weeks between them</li>
+ *   <li><strong>MONTHLY</strong>: visits the {@code byMonthDay} days of active months,
+ *       skipping months excluded by {@code interval} or {@code byMonth}</li>
+ *   <li><strong>QUATTRODUE_CYCLE</strong>: jumps from one work period of the cycle to the next</li>
+ * </ul>
+ *
+ * <p>Occurrences are exactly the dates accepted by {@code appliesTo()}, limited to the first
+ * {@code count} ones when the rule ends by COUNT. Counting always starts at the rule start
+ * date, so a stream opened later in the series still ends on the same last occurrence.</p>
+ *
+ * <p>Streams are ordered and lazy: {@code skip()}/{@code limit()} read only what they need
+ * ("next N work days"). Bounded streams split by date range and can run in parallel.</p>
+ */
+public final class RecurrenceOccurrences {
+
+    // Smallest date range worth splitting for parallel streams
+    private static final int MIN_SPLIT_DAYS = 64;
+
+    // Monthly search horizon without any match, in months per interval (covers leap years)
+    private static final int MONTHLY_SEARCH_MONTHS = 48;
+
+    private RecurrenceOccurrences() {
+        // Utility class
+    }
+
+    // ==================== STREAMS ====================
+
+    /**
+     * All occurrences of the rule, from its start date to its end (unbounded for NEVER).
+     */
+    @NonNull
+    public static Stream<LocalDate> stream(@NonNull RecurrenceRule recurrenceRule) {
+        return stream( recurrenceRule, recurrenceRule.getStartDate(), null );
+    }
+
+    /**
+     * Occurrences of the rule in a date range.
+     *
+     * @param recurrenceRule Rule to enumerate
+     * @param fromDate       First date of the range (inclusive)
+     * @param toDate         Last date of the range (inclusive), null for no upper bound
+     * @return Ordered lazy stream; parallel-capable when the range is bounded
+     */
+    @NonNull
+    public static Stream<LocalDate> stream(@NonNull RecurrenceRule recurrenceRule,
+                                           @NonNull LocalDate fromDate, @Nullable LocalDate toDate) {
+        return StreamSupport.stream( spliterator( recurrenceRule, fromDate, toDate ), false );
+    }
+
+    /**
+     * Spliterator over the occurrences of the rule in a date range.
+     *
+     * @param recurrenceRule Rule to enumerate
+     * @param fromDate       First date of the range (inclusive)
+     * @param toDate         Last date of the range (inclusive), null for no upper bound
+     */
+    @NonNull
+    public static Spliterator<LocalDate> spliterator(@NonNull RecurrenceRule recurrenceRule,
+                                                     @NonNull LocalDate fromDate, @Nullable LocalDate toDate) {
+        Walker walker = new Walker( recurrenceRule );
+
+        LocalDate first = max( fromDate, recurrenceRule.getStartDate() );
+        LocalDate last = min( toDate, walker.getLastOccurrence() );
+
+        return new OccurrenceSpliterator( walker, first, last );
+    }
+
+    /**
+     * Iterator over the occurrences of the rule from a date on.
+     */
+    @NonNull
+    public static Iterator<LocalDate> iterator(@NonNull RecurrenceRule recurrenceRule,
+                                               @NonNull LocalDate fromDate) {
+        return Spliterators.iterator( spliterator( recurrenceRule, fromDate, null ) );
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Next occurrences of the rule from a date on.
+     *
+     * @param recurrenceRule Rule to enumerate
+     * @param fromDate       First date to consider (inclusive)
+     * @param skip           Occurrences to skip
+     * @param limit          Maximum occurrences to return
+     * @return Up to {@code limit} occurrences, in date order
+     */
+    @NonNull
+    public static List<LocalDate> next(@NonNull RecurrenceRule recurrenceRule, @NonNull LocalDate fromDate,
+                                       int skip, int limit) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        return stream( recurrenceRule, fromDate, null )
+                .skip( Math.max( skip, 0 ) )
+                .limit( limit )
+                .collect( Collectors.toList() );
+    }
+
+    /**
+     * @return First occurrence on or after the date, null if the rule has ended
+     */
+    @Nullable
+    public static LocalDate nextOccurrence(@NonNull RecurrenceRule recurrenceRule, @NonNull LocalDate fromDate) {
+        return stream( recurrenceRule, fromDate, null ).findFirst().orElse( null );
+    }
+
+    // ==================== SPLITERATOR ====================
+
+    /**
+     * Spliterator over [cursor, last]. Splits halve the remaining date range, so only
+     * bounded ranges split; the rule end is already folded into {@code last}.
+     */
+    private static final class OccurrenceSpliterator implements Spliterator<LocalDate> {
+
+        private final Walker mWalker;
+        private final LocalDate mLast;
+        private LocalDate mCursor;
+
+        OccurrenceSpliterator(@NonNull Walker walker, @Nullable LocalDate cursor, @Nullable LocalDate last) {
+            this.mWalker = walker;
+            this.mCursor = cursor;
+            this.mLast = last;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super LocalDate> action) {
+            if (mCursor == null || (mLast != null && mCursor.isAfter( mLast ))) {
+                return false;
+            }
+
+            LocalDate next = mWalker.nextOnOrAfter( mCursor, mLast );
+            if (next == null) {
+                mCursor = null;
+                return false;
+            }
+
+            mCursor = next.plusDays( 1 );
+            action.accept( next );
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super LocalDate> action) {
+            while (tryAdvance( action )) {
+                // Drain
+            }
+        }
+
+        @Nullable
+        @Override
+        public Spliterator<LocalDate> trySplit() {
+            if (mCursor == null || mLast == null) {
+                return null;
+            }
+
+            long days = ChronoUnit.DAYS.between( mCursor, mLast ) + 1;
+            if (days < 2L * MIN_SPLIT_DAYS) {
+                return null;
+            }
+
+            LocalDate middle = mCursor.plusDays( days / 2 );
+            OccurrenceSpliterator prefix = new OccurrenceSpliterator( mWalker, mCursor, middle.minusDays( 1 ) );
+            mCursor = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            if (mCursor == null) {
+                return 0;
+            }
+            if (mLast == null) {
+                return Long.MAX_VALUE;
+            }
+            return Math.max( ChronoUnit.DAYS.between( mCursor, mLast ) + 1, 0 );
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | DISTINCT | SORTED | NONNULL | IMMUTABLE;
+        }
+
+        @Nullable
+        @Override
+        public Comparator<? super LocalDate> getComparator() {
+            // Natural order
+            return null;
+        }
+    }
+
+    // ==================== WALKER ====================
+
+    /**
+     * Stateless jump logic for one rule, shared by all the spliterators split from it.
+     * Every candidate is confirmed by {@link RecurrenceRule#appliesTo(LocalDate)}, so the
+     * jumps only decide which dates are worth checking.
+     */
+    private static final class Walker {
+
+        private final RecurrenceRule mRule;
+        private final LocalDate mStart;
+        private final int mInterval;
+
+        // WEEKLY: selected days; MONTHLY: sorted month days (empty = every day)
+        private final boolean[] mWeekDays;
+        private final int[] mMonthDays;
+
+        // QUATTRODUE_CYCLE: work positions in the cycle, ascending
+        private final int[] mCycleWorkPositions;
+
+        // COUNT: last occurrence of the series (null = not limited by count)
+        private final LocalDate mLastOccurrence;
+        private final boolean mEmpty;
+
+        Walker(@NonNull RecurrenceRule recurrenceRule) {
+            this.mRule = recurrenceRule;
+            this.mStart = recurrenceRule.getStartDate();
+            this.mInterval = Math.max( recurrenceRule.getInterval(), 1 );
+
+            this.mWeekDays = new boolean[7];
+            for (DayOfWeek day : recurrenceRule.getByDay()) {
+                mWeekDays[day.getValue() - 1] = true;
+            }
+
+            TreeSet<Integer> monthDays = new TreeSet<>( recurrenceRule.getByMonthDay() );
+            this.mMonthDays = new int[monthDays.size()];
+            int i = 0;
+            for (Integer day : monthDays) {
+                mMonthDays[i++] = day;
+            }
+
+            this.mCycleWorkPositions = buildCycleWorkPositions( recurrenceRule.getCycleLength() );
+
+            boolean empty = false;
+            LocalDate lastOccurrence = null;
+            if (recurrenceRule.getEndType() == RecurrenceRule.EndType.COUNT
+                    && recurrenceRule.getCount() != null) {
+                int count = recurrenceRule.getCount();
+                LocalDate cursor = mStart;
+                for (int n = 0; n < count; n++) {
+                    LocalDate next = nextOnOrAfter( cursor, null );
+                    if (next == null) {
+                        // Fewer matches than count: the series ends on the last one
+                        break;
+                    }
+                    lastOccurrence = next;
+                    cursor = next.plusDays( 1 );
+                }
+                empty = lastOccurrence == null;
+            }
+            this.mLastOccurrence = lastOccurrence;
+            this.mEmpty = empty;
+        }
+
+        /**
+         * @return Last date any occurrence can fall on, null if unbounded
+         */
+        @Nullable
+        LocalDate getLastOccurrence() {
+            LocalDate last = mLastOccurrence;
+            if (mRule.getEndType() == RecurrenceRule.EndType.UNTIL_DATE) {
+                last = min( last, mRule.getEndDate() );
+            }
+            if (mEmpty) {
+                // Range ending before it starts
+                last = mStart.minusDays( 1 );
+            }
+            return last;
+        }
+
+        /**
+         * First occurrence in [from, last], ignoring COUNT.
+         *
+         * @param last Last date to consider, null for the rule end (or no bound)
+         * @return Occurrence date, null if none
+         */
+        @Nullable
+        LocalDate nextOnOrAfter(@NonNull LocalDate from, @Nullable LocalDate last) {
+            if (mRule.getEndType() == RecurrenceRule.EndType.UNTIL_DATE) {
+                last = min( last, mRule.getEndDate() );
+            }
+            if (from.isBefore( mStart )) {
+                from = mStart;
+            }
+            if (last != null && from.isAfter( last )) {
+                return null;
+            }
+
+            switch (mRule.getFrequency()) {
+                case DAILY:
+                    return nextDaily( from, last );
+                case WEEKLY:
+                    return nextWeekly( from, last );
+                case MONTHLY:
+                    return nextMonthly( from, last );
+                case QUATTRODUE_CYCLE:
+                    return nextInCycle( from, last );
+                default:
+                    return null;
+            }
+        }
+
+        // ==================== FREQUENCIES ====================
+
+        @Nullable
+        private LocalDate nextDaily(@NonNull LocalDate from, @Nullable LocalDate last) {
+            long offset = ChronoUnit.DAYS.between( mStart, from );
+            long steps = (offset + mInterval - 1) / mInterval;
+            return accept( mStart.plusDays( steps * mInterval ), last );
+        }
+
+        /**
+         * Weeks are 7-day blocks counted from the start date, as in {@code appliesTo()}.
+         */
+        @Nullable
+        private LocalDate nextWeekly(@NonNull LocalDate from, @Nullable LocalDate last) {
+            if (!hasWeekDays()) {
+                return null;
+            }
+
+            long week = ChronoUnit.DAYS.between( mStart, from ) / 7;
+            LocalDate candidate = from;
+            while (last == null || !candidate.isAfter( last )) {
+                if (week % mInterval == 0) {
+                    LocalDate weekEnd = mStart.plusWeeks( week + 1 );
+                    for (LocalDate day = candidate; day.isBefore( weekEnd ); day = day.plusDays( 1 )) {
+                        if (last != null && day.isAfter( last )) {
+                            return null;
+                        }
+                        if (mWeekDays[day.getDayOfWeek().getValue() - 1] && mRule.appliesTo( day )) {
+                            return day;
+                        }
+                    }
+                }
+
+                // Start of the next active week
+                week = (week / mInterval + 1) * mInterval;
+                candidate = mStart.plusWeeks( week );
+            }
+            return null;
+        }
+
+        /**
+         * Months follow {@link ChronoUnit#MONTHS}: a day of calendar month {@code m} (counted
+         * from the start month) belongs to rule month {@code m}, or {@code m - 1} before the
+         * start day of month. Calendar months where neither is active are skipped.
+         */
+        @Nullable
+        private LocalDate nextMonthly(@NonNull LocalDate from, @Nullable LocalDate last) {
+            YearMonth startMonth = YearMonth.from( mStart );
+            YearMonth month = YearMonth.from( from );
+            long horizon = (long) MONTHLY_SEARCH_MONTHS * mInterval;
+
+            for (long searched = 0; searched <= horizon; searched++) {
+                if (last != null && month.atDay( 1 ).isAfter( last )) {
+                    return null;
+                }
+
+                long monthIndex = ChronoUnit.MONTHS.between( startMonth, month );
+                boolean active = monthIndex % mInterval == 0
+                        || (monthIndex > 0 && (monthIndex - 1) % mInterval == 0);
+                if (active && matchesByMonth( month.getMonthValue() )) {
+                    LocalDate match = firstMonthDay( month, from, last );
+                    if (match != null) {
+                        return match;
+                    }
+                }
+
+                // Next calendar month that can hold an active rule month
+                long step = 1;
+                if (mInterval > 2) {
+                    long next = monthIndex + 1;
+                    long remainder = next % mInterval;
+                    if (remainder > 1) {
+                        step = 1 + mInterval - remainder;
+                    }
+                }
+                month = month.plusMonths( step );
+                searched += step - 1;
+            }
+            return null;
+        }
+
+        @Nullable
+        private LocalDate firstMonthDay(@NonNull YearMonth month, @NonNull LocalDate from,
+                                        @Nullable LocalDate last) {
+            int firstDay = YearMonth.from( from ).equals( month ) ? from.getDayOfMonth() : 1;
+            int lastDay = month.lengthOfMonth();
+
+            if (mMonthDays.length == 0) {
+                for (int day = firstDay; day <= lastDay; day++) {
+                    LocalDate candidate = month.atDay( day );
+                    if (last != null && candidate.isAfter( last )) return null;
+                    if (mRule.appliesTo( candidate )) return candidate;
+                }
+                return null;
+            }
+
+            for (int day : mMonthDays) {
+                if (day < firstDay) continue;
+                if (day > lastDay) break;
+                LocalDate candidate = month.atDay( day );
+                if (last != null && candidate.isAfter( last )) return null;
+                if (mRule.appliesTo( candidate )) return candidate;
+            }
+            return null;
+        }
+
+        @Nullable
+        private LocalDate nextInCycle(@NonNull LocalDate from, @Nullable LocalDate last) {
+            if (mCycleWorkPositions.length == 0) {
+                return null;
+            }
+
+            int cycleLength = mRule.getCycleLength();
+            long offset = ChronoUnit.DAYS.between( mStart, from );
+            long cycleStart = offset - offset % cycleLength;
+            int position = (int) (offset % cycleLength);
+
+            for (int workPosition : mCycleWorkPositions) {
+                if (workPosition >= position) {
+                    return accept( mStart.plusDays( cycleStart + workPosition ), last );
+                }
+            }
+            return accept( mStart.plusDays( cycleStart + cycleLength + mCycleWorkPositions[0] ), last );
+        }
+
+        // ==================== HELPERS ====================
+
+        @Nullable
+        private LocalDate accept(@NonNull LocalDate candidate, @Nullable LocalDate last) {
+            if (last != null && candidate.isAfter( last )) {
+                return null;
+            }
+            return mRule.appliesTo( candidate ) ? candidate : null;
+        }
+
+        private boolean hasWeekDays() {
+            for (boolean selected : mWeekDays) {
+                if (selected) return true;
+            }
+            return false;
+        }
+
+        private boolean matchesByMonth(int monthValue) {
+            List<Integer> byMonth = mRule.getByMonth();
+            return byMonth.isEmpty() || byMonth.contains( monthValue );
+        }
+
+        /**
+         * Work positions of the QuattroDue 4-2 pattern (0-3, 6-9, 12-15) within the cycle.
+         */
+        @NonNull
+        private static int[] buildCycleWorkPositions(@Nullable Integer cycleLength) {
+            if (cycleLength == null || cycleLength <= 0) {
+                return new int[0];
+            }
+
+            List<Integer> positions = new ArrayList<>();
+            for (int position = 0; position < cycleLength; position++) {
+                if (position <= 3 || (position >= 6 && position <= 9) || (position >= 12 && position <= 15)) {
+                    positions.add( position );
+                }
+            }
+
+            int[] result = new int[positions.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = positions.get( i );
+            }
+            return result;
+        }
+    }
+
+    @Nullable
+    private static LocalDate min(@Nullable LocalDate a, @Nullable LocalDate b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isBefore( b ) ? a : b;
+    }
+
+    @NonNull
+    private static LocalDate max(@NonNull LocalDate a, @NonNull LocalDate b) {
+        return a.isAfter( b ) ? a : b;
+    }
+}
@@ -0,0 +1,319 @@
+package net.calvuz.qdue.domain.calendar.engines;
+
+import androidx.annotation.NonNull;
+
+import net.calvuz.qdue.domain.calendar.models.RecurrenceRule;
+import net.calvuz.qdue.domain.calendar.models.Team;
+import net.calvuz.qdue.domain.calendar.models.UserScheduleAssignment;
+import net.calvuz.qdue.domain.calendar.models.WorkScheduleDay;
+import net.calvuz.qdue.domain.calendar.models.WorkScheduleShift;
+import net.calvuz.qdue.ui.core.common.utils.Log;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ScheduleStatsEngine - Cycle-aware schedule statistics.
+ *
+ * <p>Without exceptions, the schedule generated for an assignment repeats every
+ * cycle of its recurrence rule (QuattroDue or custom cycle length). Statistics over
+ * a stretch of days covered by one assignment are therefore computed from a single
+ * sampled cycle: each cycle day is counted as many times as it occurs in the stretch
+ * (whole cycles, plus the leading days of the trailing partial cycle). Days with
+ * shift exceptions are taken out of those counts and resolved one by one.</p>
+ *
+ * <p>Cost per stretch is O(cycle length + exception days) instead of O(days), and
+ * only the sampled cycle and the exception days are materialized as WorkScheduleDay.</p>
+ *
+ * <h3>Usage:</h3>
+ * <ul>
+ *   <li>{@link #summarizeStretch} for each stretch covered by one assignment</li>
+ *   <li>{@link #emptyStretch} for days without an assignment</li>
+ *   <li>{@link Summary} to combine stretches and read totals or per-date hours</li>
+ * </ul>
+ */
+public class ScheduleStatsEngine {
+
+    private static final String TAG = "ScheduleStatsEngine";
+
+    // Fallback duration for shifts whose times cannot be read
+    private static final double DEFAULT_SHIFT_HOURS = 8.0;
+
+    private final SchedulingEngine mSchedulingEngine;
+    private final RecurrenceCalculator mRecurrenceCalculator;
+
+    // ==================== CONSTRUCTOR ====================
+
+    /**
+     * @param schedulingEngine     Engine generating the sampled cycle and exception days
+     * @param recurrenceCalculator Calculator providing the cycle length of a rule
+     */
+    public ScheduleStatsEngine(@NonNull SchedulingEngine schedulingEngine,
+                               @NonNull RecurrenceCalculator recurrenceCalculator) {
+        this.mSchedulingEngine = schedulingEngine;
+        this.mRecurrenceCalculator = recurrenceCalculator;
+    }
+
+    // ==================== STRETCHES ====================
+
+    /**
+     * Summarize a stretch of days covered by one assignment.
+     *
+     * @param startDate        Start date (inclusive), not before the assignment start
+     * @param endDate          End date (inclusive)
+     * @param assignment       Assignment covering the whole stretch
+     * @param recurrenceRule   Recurrence rule of the assignment
+     * @param exceptionIndex   Exceptions of the assignment's user, indexed by day
+     * @param userTeamMappings Map of userID to Team for exception resolution
+     * @return Stretch summary
+     */
+    @NonNull
+    public Stretch summarizeStretch(@NonNull LocalDate startDate, @NonNull LocalDate endDate,
+                                    @NonNull UserScheduleAssignment assignment,
+                                    @NonNull RecurrenceRule recurrenceRule,
+                                    @NonNull ExceptionIndex exceptionIndex,
+                                    @NonNull Map<String, Team> userTeamMappings) {
+        int dayCount = (int) (endDate.toEpochDay() - startDate.toEpochDay() + 1);
+
+        // Cycle positions are only periodic from the assignment start onwards
+        int cycleLength = startDate.isBefore( assignment.getStartDate() )
+                ? dayCount
+                : Math.max( 1, Math.min( dayCount, mRecurrenceCalculator.getCycleLength( recurrenceRule ) ) );
+
+        // Sample one cycle without exceptions
+        Map<LocalDate, WorkScheduleDay> sampled = mSchedulingEngine.generateCompleteScheduleRange(
+                startDate, startDate.plusDays( cycleLength - 1 ), assignment, recurrenceRule,
+                Collections.emptyList(), userTeamMappings, new HashMap<>() );
+
+        WorkScheduleDay[] cycleDays = new WorkScheduleDay[cycleLength];
+        long[] phaseCounts = new long[cycleLength];
+        for (int phase = 0; phase < cycleLength; phase++) {
+            LocalDate date = startDate.plusDays( phase );
+            WorkScheduleDay day = sampled.get( date );
+            cycleDays[phase] = day != null ? day : WorkScheduleDay.builder( date ).build();
+
+            // Whole cycles, plus one for the leading days of the partial cycle
+            phaseCounts[phase] = dayCount / cycleLength + (phase < dayCount % cycleLength ? 1 : 0);
+        }
+
+        // Exception days replace their cycle day
+        Map<Long, WorkScheduleDay> exceptionDays = new HashMap<>();
+        for (long epochDay : exceptionIndex.epochDaysBetween( startDate.toEpochDay(), endDate.toEpochDay() )) {
+            LocalDate date = LocalDate.ofEpochDay( epochDay );
+            WorkScheduleDay day = mSchedulingEngine.generateCompleteScheduleRange(
+                    date, date, assignment, recurrenceRule, exceptionIndex,
+                    userTeamMappings, new HashMap<>() ).get( date );
+
+            phaseCounts[(int) ((epochDay - startDate.toEpochDay()) % cycleLength)]--;
+            exceptionDays.put( epochDay, day != null ? day : WorkScheduleDay.builder( date ).build() );
+        }
+
+        Log.v( TAG, "Stretch " + startDate + " to " + endDate + ": cycle " + cycleLength +
+                ", " + exceptionDays.size() + " exception days" );
+        return new Stretch( startDate, endDate, cycleDays, phaseCounts, exceptionDays );
+    }
+
+    /**
+     * Summarize a stretch of days without an assignment (no shifts).
+     *
+     * @param startDate Start date (inclusive)
+     * @param endDate   End date (inclusive)
+     * @return Stretch summary
+     */
+    @NonNull
+    public static Stretch emptyStretch(@NonNull LocalDate startDate, @NonNull LocalDate endDate) {
+        long dayCount = endDate.toEpochDay() - startDate.toEpochDay() + 1;
+        return new Stretch( startDate, endDate,
+                            new WorkScheduleDay[]{WorkScheduleDay.builder( startDate ).build()},
+                            new long[]{dayCount}, Collections.emptyMap() );
+    }
+
+    // ==================== DURATIONS ====================
+
+    /**
+     * @return Duration of a shift in hours, overnight shifts included
+     */
+    public static double shiftHours(@NonNull WorkScheduleShift shift) {
+        try {
+            long minutes = Duration.between( shift.getStartTime(), shift.getEndTime() ).toMinutes();
+
+            // Handle overnight shifts
+            if (minutes < 0) {
+                minutes += 24 * 60;
+            }
+            return minutes / 60.0;
+        } catch (Exception e) {
+            Log.w( TAG, "Error calculating shift duration, using " + DEFAULT_SHIFT_HOURS + " hours default" );
+            return DEFAULT_SHIFT_HOURS;
+        }
+    }
+
+    /**
+     * @return Total hours of the shifts of a day
+     */
+    public static double dayHours(@NonNull WorkScheduleDay day) {
+        double hours = 0.0;
+        for (WorkScheduleShift shift : day.getWorkShifts()) {
+            hours += shiftHours( shift );
+        }
+        return hours;
+    }
+
+    // ==================== RESULT CLASSES ====================
+
+    /**
+     * Days covered by one assignment (or none): one sampled cycle, the number of
+     * occurrences of each cycle day, and the days resolved with exceptions.
+     */
+    public static final class Stretch {
+        private final LocalDate mStartDate;
+        private final LocalDate mEndDate;
+        private final WorkScheduleDay[] mCycleDays;
+        private final long[] mPhaseCounts;
+        private final Map<Long, WorkScheduleDay> mExceptionDays;
+
+        private Stretch(@NonNull LocalDate startDate, @NonNull LocalDate endDate,
+                        @NonNull WorkScheduleDay[] cycleDays, @NonNull long[] phaseCounts,
+                        @NonNull Map<Long, WorkScheduleDay> exceptionDays) {
+            this.mStartDate = startDate;
+            this.mEndDate = endDate;
+            this.mCycleDays = cycleDays;
+            this.mPhaseCounts = phaseCounts;
+            this.mExceptionDays = exceptionDays;
+        }
+
+        @NonNull
+        public LocalDate getStartDate() {
+            return mStartDate;
+        }
+
+        @NonNull
+        public LocalDate getEndDate() {
+            return mEndDate;
+        }
+
+        public int getCycleLength() {
+            return mCycleDays.length;
+        }
+
+        public boolean contains(@NonNull LocalDate date) {
+            return !date.isBefore( mStartDate ) && !date.isAfter( mEndDate );
+        }
+
+        /**
+         * Schedule content of a date of the stretch. The returned day may be the
+         * sampled day of the same cycle position, so its own date is not meaningful.
+         */
+        @NonNull
+        public WorkScheduleDay dayAt(@NonNull LocalDate date) {
+            long epochDay = date.toEpochDay();
+            WorkScheduleDay exceptionDay = mExceptionDays.get( epochDay );
+            if (exceptionDay != null) {
+                return exceptionDay;
+            }
+            return mCycleDays[(int) ((epochDay - mStartDate.toEpochDay()) % mCycleDays.length)];
+        }
+
+        void accumulateInto(@NonNull Totals totals) {
+            for (int phase = 0; phase < mCycleDays.length; phase++) {
+                totals.addDay( mCycleDays[phase], mPhaseCounts[phase] );
+            }
+            for (WorkScheduleDay day : mExceptionDays.values()) {
+                totals.addDay( day, 1 );
+            }
+        }
+    }
+
+    /**
+     * Aggregated counters over any number of days.
+     */
+    public static final class Totals {
+        public int totalDays;
+        public int workingDays;
+        public int restDays;
+        public int totalShifts;
+        public double totalWorkingHours;
+        public double maxDailyHours;
+        public double minDailyHours;
+        public final Map<String, Integer> shiftTypeDistribution = new HashMap<>();
+
+        /**
+         * Count a day a number of times.
+         */
+        void addDay(@NonNull WorkScheduleDay day, long times) {
+            if (times <= 0) {
+                return;
+            }
+
+            int count = (int) times;
+            double hours = dayHours( day );
+            maxDailyHours = totalDays == 0 ? hours : Math.max( maxDailyHours, hours );
+            minDailyHours = totalDays == 0 ? hours : Math.min( minDailyHours, hours );
+            totalDays += count;
+
+            if (day.hasShifts()) {
+                workingDays += count;
+                totalShifts += day.getWorkShifts().size() * count;
+                totalWorkingHours += hours * count;
+                for (WorkScheduleShift shift : day.getWorkShifts()) {
+                    shiftTypeDistribution.merge( shift.getShift().getName(), count, Integer::sum );
+                }
+            } else {
+                restDays += count;
+            }
+        }
+    }
+
+    /**
+     * Ordered stretches covering a date range, with their combined totals.
+     */
+    public static final class Summary {
+        private final List<Stretch> mStretches;
+        private final Totals mTotals = new Totals();
+
+        /**
+         * @param stretches Contiguous stretches in date order
+         */
+        public Summary(@NonNull List<Stretch> stretches) {
+            this.mStretches = new ArrayList<>( stretches );
+            for (Stretch stretch : mStretches) {
+                stretch.accumulateInto( mTotals );
+            }
+        }
+
+        @NonNull
+        public Totals getTotals() {
+            return mTotals;
+        }
+
+        @NonNull
+        public List<Stretch> getStretches() {
+            return Collections.unmodifiableList( mStretches );
+        }
+
+        /**
+         * @return Schedule content of a date, or null if outside the summarized range
+         */
+        public WorkScheduleDay dayAt(@NonNull LocalDate date) {
+            for (Stretch stretch : mStretches) {
+                if (stretch.contains( date )) {
+                    return stretch.dayAt( date );
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @return Working hours of a date, 0 if outside the summarized range
+         */
+        public double hoursAt(@NonNull LocalDate date) {
+            WorkScheduleDay day = dayAt( date );
+            return day != null ? dayHours( day ) : 0.0;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package net.calvuz.qdue.domain.calendar.engines;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ScheduleTaskHandle - Cancellation and progress for a long-running schedule generation.
+ *
+ * <p>Created by the caller before starting the work and passed down to the engine.
+ * The UI keeps the handle and calls {@link #cancel()} when the request becomes stale
+ * (e.g. the user scrolled to another period): running chunks stop at their next
+ * checkpoint, queued chunks do not start and the attached futures complete with
+ * a {@link java.util.concurrent.CancellationException}.</p>
+ *
+ * <p>Progress is reported in work units (chunks) as they complete, from worker
+ * threads; listeners must post to the main thread themselves.</p>
+ */
+public final class ScheduleTaskHandle {
+
+    /**
+     * Progress callback, invoked on worker threads.
+     */
+    public interface ProgressListener {
+
+        /**
+         * @param completed Work units completed so far
+         * @param total     Total work units
+         */
+        void onProgress(int completed, int total);
+    }
+
+    private final AtomicBoolean mCancelled = new AtomicBoolean( false );
+    private final AtomicInteger mCompleted = new AtomicInteger();
+    private final List<CompletableFuture<?>> mFutures = new CopyOnWriteArrayList<>();
+    private final ProgressListener mListener;
+    private volatile int mTotal;
+
+    public ScheduleTaskHandle() {
+        this( null );
+    }
+
+    /**
+     * @param listener Optional progress listener
+     */
+    public ScheduleTaskHandle(@Nullable ProgressListener listener) {
+        this.mListener = listener;
+    }
+
+    // ==================== CANCELLATION ====================
+
+    /**
+     * Cancel the generation. Safe to call more than once and from any thread.
+     *
+     * @return true if this call cancelled the task
+     */
+    public boolean cancel() {
+        if (!mCancelled.compareAndSet( false, true )) {
+            return false;
+        }
+        // Newest first: a combined future is attached after its parts, and cancelling
+        // the parts first would complete it with a CompletionException instead
+        for (int i = mFutures.size() - 1; i >= 0; i--) {
+            mFutures.get( i ).cancel( false );
+        }
+        return true;
+    }
+
+    public boolean isCancelled() {
+        return mCancelled.get();
+    }
+
+    /**
+     * Register a future to be cancelled with this handle.
+     *
+     * @param future Future owned by the task
+     * @return The same future, for chaining
+     */
+    @NonNull
+    public <T> CompletableFuture<T> attach(@NonNull CompletableFuture<T> future) {
+        mFutures.add( future );
+        if (isCancelled()) {
+            future.cancel( false );
+        }
+        return future;
+    }
+
+    // ==================== PROGRESS ====================
+
+    /**
+     * Set the number of work units and reset progress.
+     */
+    void start(int total) {
+        mTotal = total;
+        mCompleted.set( 0 );
+        if (mListener != null) {
+            mListener.onProgress( 0, total );
+        }
+    }
+
+    /**
+     * Record one completed work unit.
+     */
+    void advance() {
+        int completed = mCompleted.incrementAndGet();
+        if (mListener != null && !isCancelled()) {
+            mListener.onProgress( completed, mTotal );
+        }
+    }
+
+    public int getCompleted() {
+        return mCompleted.get();
+    }
+
+    public int getTotal() {
+        return mTotal;
+    }
+
+    /**
+     * @return Completed fraction (0.0 - 1.0)
+     */
+    public float getProgress() {
+        int total = mTotal;
+        return total > 0 ? (float) mCompleted.get() / total : 0f;
+    }
+}
@@ -1,8 +1,12 @@
 package net.calvuz.qdue.domain.calendar.engines;
 
+import static net.calvuz.qdue.QDue.Debug.DEBUG_HOT_PATHS;
+
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import net.calvuz.qdue.core.common.metrics.Metrics;
+import net.calvuz.qdue.core.common.metrics.TraceSection;
 import net.calvuz.qdue.domain.calendar.models.RecurrenceRule;
 import net.calvuz.qdue.domain.calendar.models.ShiftException;
 import net.calvuz.qdue.domain.calendar.models.UserScheduleAssignment;
@@ -125,8 +129,10 @@ public class SchedulingEngine extends LocalizableDomainModel {
                                                     @NonNull Map<String, Team> userTeamMappings,
                                                     @NonNull Map<String, WorkScheduleShift> replacementShifts) {
         try {
-            Log.d( TAG, "Generating complete schedule for date: " + date +
-                    ", user: " + assignment.getUserId() );
+            if (DEBUG_HOT_PATHS) {
+                Log.d( TAG, "Generating complete schedule for date: " + date +
+                        ", user: " + assignment.getUserId() );
+            }
 
             // Step 1: Generate base schedule from recurrence rules
             WorkScheduleDay baseSchedule = mRecurrenceCalculator.generateScheduleForDate(
@@ -139,8 +145,10 @@ public class SchedulingEngine extends LocalizableDomainModel {
             // Step 3: Validate and optimize final schedule
             WorkScheduleDay finalSchedule = validateAndOptimizeSchedule( scheduleWithExceptions );
 
-            Log.d( TAG, "Successfully generated complete schedule with " +
-                    finalSchedule.getWorkShifts().size() + " shifts" );
+            if (DEBUG_HOT_PATHS) {
+                Log.d( TAG, "Successfully generated complete schedule with " +
+                        finalSchedule.getWorkShifts().size() + " shifts" );
+            }
 
             return finalSchedule;
         } catch (Exception e) {
@@ -172,29 +180,54 @@ public class SchedulingEngine extends LocalizableDomainModel {
             @NonNull Map<String, Team> userTeamMappings,
             @NonNull Map<String, WorkScheduleShift> replacementShifts) {
 
+        // Index exceptions by day once for the whole range
+        return generateCompleteScheduleRange( startDate, endDate, assignment, recurrenceRule,
+                mExceptionResolver.indexExceptions( exceptions ), userTeamMappings, replacementShifts );
+    }
+
+    /**
+     * Generate complete work schedules for a date range from a prebuilt exception index.
+     *
+     * @param startDate         Start date (inclusive)
+     * @param endDate           End date (inclusive)
+     * @param assignment        User schedule assignment
+     * @param recurrenceRule    Recurrence rule for base schedule
+     * @param exceptionIndex    Exceptions of the assignment's user, indexed by day
+     * @param userTeamMappings  Map of userID to Team for team lookups
+     * @param replacementShifts Map of shiftId to WorkScheduleShift for replacements
+     * @return Map of dates to complete WorkScheduleDay objects
+     */
+    @NonNull
+    public Map<LocalDate, WorkScheduleDay> generateCompleteScheduleRange(
+            @NonNull LocalDate startDate, @NonNull LocalDate endDate,
+            @NonNull UserScheduleAssignment assignment,
+            @NonNull RecurrenceRule recurrenceRule,
+            @NonNull ExceptionIndex exceptionIndex,
+            @NonNull Map<String, Team> userTeamMappings,
+            @NonNull Map<String, WorkScheduleShift> replacementShifts) {
+
         Map<LocalDate, WorkScheduleDay> scheduleMap = new HashMap<>();
 
-        try {
+        try (TraceSection section = Metrics.trace( "engine.schedule_range" )) {
             Log.d( TAG, "Generating complete schedule range: " + startDate + " to " + endDate );
 
-            // Batch generate base schedules for efficiency
-            Map<LocalDate, List<net.calvuz.qdue.domain.calendar.models.Shift>> baseShifts =
-                    mRecurrenceCalculator.calculateShiftsForDateRange( startDate, endDate, recurrenceRule, assignment );
+            // Batch generate base schedules for efficiency (pattern parsed once)
+            Map<LocalDate, WorkScheduleDay> baseSchedules =
+                    mRecurrenceCalculator.generateScheduleForDateRange( startDate, endDate, recurrenceRule, assignment );
 
             // Process each date
             LocalDate currentDate = startDate;
             while (!currentDate.isAfter( endDate )) {
 
-                // Create base schedule for this date
-                WorkScheduleDay baseSchedule = createScheduleFromShifts( currentDate,
-                        baseShifts.getOrDefault( currentDate, new ArrayList<>() ) );
-
-                // Filter exceptions for this date
-                List<ShiftException> dateExceptions = filterExceptionsForDate( exceptions, currentDate );
+                // Base schedule for this date
+                WorkScheduleDay baseSchedule = baseSchedules.get( currentDate );
+                if (baseSchedule == null) {
+                    baseSchedule = createEmptySchedule( currentDate );
+                }
 
-                // Apply exceptions
-                WorkScheduleDay finalSchedule = mExceptionResolver.applyExceptions(
-                        baseSchedule, dateExceptions, userTeamMappings, replacementShifts );
+                // Apply this date's bucket (already filtered and sorted)
+                WorkScheduleDay finalSchedule = mExceptionResolver.applySortedExceptions(
+                        baseSchedule, exceptionIndex.forDate( currentDate ), userTeamMappings, replacementShifts );
 
                 // Validate and add to map
                 scheduleMap.put( currentDate, validateAndOptimizeSchedule( finalSchedule ) );
@@ -230,6 +263,31 @@ public class SchedulingEngine extends LocalizableDomainModel {
                                                 @NonNull List<ShiftException> exceptions,
                                                 @NonNull Map<String, Team> userTeamMappings,
                                                 @NonNull Map<String, WorkScheduleShift> replacementShifts) {
+        return generateTeamSchedule( date, assignments, recurrenceRules,
+                mExceptionResolver.indexExceptions( exceptions ), userTeamMappings, replacementShifts );
+    }
+
+    /**
+     * Generate team-wide schedule for specific date from a prebuilt exception index.
+     *
+     * <p>Build the index once with {@link ExceptionResolver#indexExceptions(List)} and
+     * reuse it for every date and user of a team generation.</p>
+     *
+     * @param date              Target date
+     * @param assignments       List of user assignments for the team
+     * @param recurrenceRules   Map of ruleId to RecurrenceRule
+     * @param exceptionIndex    Exceptions across all users, indexed by day
+     * @param userTeamMappings  Map of userID to Team
+     * @param replacementShifts Map of shiftId to WorkScheduleShift
+     * @return Combined team WorkScheduleDay
+     */
+    @NonNull
+    public WorkScheduleDay generateTeamSchedule(@NonNull LocalDate date,
+                                                @NonNull List<UserScheduleAssignment> assignments,
+                                                @NonNull Map<String, RecurrenceRule> recurrenceRules,
+                                                @NonNull ExceptionIndex exceptionIndex,
+                                                @NonNull Map<String, Team> userTeamMappings,
+                                                @NonNull Map<String, WorkScheduleShift> replacementShifts) {
         try {
             Log.d( TAG, "Generating team schedule for date: " + date +
                     ", assignments: " + assignments.size() );
@@ -241,12 +299,15 @@ public class SchedulingEngine extends LocalizableDomainModel {
                 RecurrenceRule rule = recurrenceRules.get( assignment.getRecurrenceRuleId() );
 
                 if (rule != null) {
-                    // Filter exceptions for this user
-                    List<ShiftException> userExceptions = filterExceptionsForUser( exceptions, assignment.getUserId() );
+                    // This user's exceptions for the date
+                    List<ShiftException> userExceptions = exceptionIndex.forDate( date, assignment.getUserId() );
 
                     // Generate complete schedule for this user
-                    WorkScheduleDay userSchedule = generateCompleteSchedule(
-                            date, assignment, rule, userExceptions, userTeamMappings, replacementShifts );
+                    WorkScheduleDay baseSchedule = mRecurrenceCalculator.generateScheduleForDate(
+                            date, rule, assignment );
+                    WorkScheduleDay userSchedule = validateAndOptimizeSchedule(
+                            mExceptionResolver.applySortedExceptions( baseSchedule, userExceptions,
+                                    userTeamMappings, replacementShifts ) );
 
                     // Add user's shifts to team schedule
                     for (WorkScheduleShift shift : userSchedule.getWorkShifts()) {
@@ -347,36 +408,6 @@ public class SchedulingEngine extends LocalizableDomainModel {
         return WorkScheduleDay.builder( date ).build();
     }
 
-    private WorkScheduleDay createScheduleFromShifts(@NonNull LocalDate date,
-                                                     @NonNull List<net.calvuz.qdue.domain.calendar.models.Shift> shifts) {
-        WorkScheduleDay.Builder builder = WorkScheduleDay.builder( date );
-
-        for (net.calvuz.qdue.domain.calendar.models.Shift shift : shifts) {
-            WorkScheduleShift workScheduleShift = WorkScheduleShift.builder()
-                    .shift( shift )
-                    .startTime( shift.getStartTime() )
-                    .endTime( shift.getEndTime() )
-                    .build();
-            builder.addShift( workScheduleShift );
-        }
-
-        return builder.build();
-    }
-
-    private List<ShiftException> filterExceptionsForDate(@NonNull List<ShiftException> exceptions,
-                                                         @NonNull LocalDate date) {
-        return exceptions.stream()
-                .filter( exception -> exception.appliesTo( date ) )
-                .collect( java.util.stream.Collectors.toList() );
-    }
-
-    private List<ShiftException> filterExceptionsForUser(@NonNull List<ShiftException> exceptions,
-                                                         @NonNull String userId) {
-        return exceptions.stream()
-                .filter( exception -> userId.equals( exception.getUserId() ) )
-                .collect( java.util.stream.Collectors.toList() );
-    }
-
     private boolean isOvernightShift(@NonNull WorkScheduleShift shift) {
         return shift.getStartTime().isAfter( shift.getEndTime() );
     }
@@ -0,0 +1,244 @@
+package net.calvuz.qdue.domain.calendar.engines;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import net.calvuz.qdue.domain.calendar.models.RecurrenceRule;
+import net.calvuz.qdue.domain.calendar.models.ShiftException;
+import net.calvuz.qdue.domain.calendar.models.Team;
+import net.calvuz.qdue.domain.calendar.models.UserScheduleAssignment;
+import net.calvuz.qdue.domain.calendar.models.WorkScheduleDay;
+import net.calvuz.qdue.domain.calendar.models.WorkScheduleShift;
+import net.calvuz.qdue.ui.core.common.utils.Log;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * TeamScheduleEngine - Parallel team-wide schedule generation.
+ *
+ * <p>Splits a team schedule into user × month chunks and runs them on a bounded
+ * executor. Each chunk generates one user's days through
+ * {@link SchedulingEngine#generateCompleteScheduleRange}; chunks never wait on each
+ * other, and the results are merged once all of them completed, so no worker thread
+ * blocks on another task.</p>
+ *
+ * <h3>Chunk Results:</h3>
+ * <ul>
+ *   <li><strong>Deterministic</strong>: Shifts are merged in assignment order, not completion order</li>
+ *   <li><strong>Cancellable</strong>: Chunks check the {@link ScheduleTaskHandle} before and during work</li>
+ *   <li><strong>Observable</strong>: One progress step per completed chunk</li>
+ * </ul>
+ */
+public class TeamScheduleEngine {
+
+    private static final String TAG = "TeamScheduleEngine";
+
+    private final SchedulingEngine mSchedulingEngine;
+    private final ExceptionResolver mExceptionResolver;
+    private final Executor mExecutor;
+
+    // ==================== CONSTRUCTOR ====================
+
+    /**
+     * @param schedulingEngine  Engine generating single-user ranges
+     * @param exceptionResolver Resolver used to index exceptions
+     * @param executor          Bounded executor running the chunks
+     */
+    public TeamScheduleEngine(@NonNull SchedulingEngine schedulingEngine,
+                              @NonNull ExceptionResolver exceptionResolver,
+                              @NonNull Executor executor) {
+        this.mSchedulingEngine = schedulingEngine;
+        this.mExceptionResolver = exceptionResolver;
+        this.mExecutor = executor;
+    }
+
+    // ==================== TEAM GENERATION ====================
+
+    /**
+     * Generate a team schedule for a date range.
+     *
+     * @param startDate        Start date (inclusive)
+     * @param endDate          End date (inclusive)
+     * @param assignments      Assignments of the team members, highest priority first per user
+     * @param recurrenceRules  Map of ruleId to RecurrenceRule
+     * @param exceptions       Exceptions of all members in the range
+     * @param userTeamMappings Map of userID to Team
+     * @param handle           Cancellation and progress handle
+     * @return Future with one combined WorkScheduleDay per date
+     */
+    @NonNull
+    public CompletableFuture<Map<LocalDate, WorkScheduleDay>> generateTeamScheduleRange(
+            @NonNull LocalDate startDate, @NonNull LocalDate endDate,
+            @NonNull List<UserScheduleAssignment> assignments,
+            @NonNull Map<String, RecurrenceRule> recurrenceRules,
+            @NonNull List<ShiftException> exceptions,
+            @NonNull Map<String, Team> userTeamMappings,
+            @NonNull ScheduleTaskHandle handle) {
+
+        // Group by user, keeping the given order
+        Map<String, List<UserScheduleAssignment>> assignmentsByUser = new LinkedHashMap<>();
+        for (UserScheduleAssignment assignment : assignments) {
+            assignmentsByUser.computeIfAbsent( assignment.getUserId(), k -> new ArrayList<>() )
+                    .add( assignment );
+        }
+
+        // One exception index per user, built once and shared by that user's chunks
+        Map<String, List<ShiftException>> exceptionsByUser = new HashMap<>();
+        for (ShiftException exception : exceptions) {
+            exceptionsByUser.computeIfAbsent( exception.getUserId(), k -> new ArrayList<>() )
+                    .add( exception );
+        }
+
+        List<CompletableFuture<Map<LocalDate, WorkScheduleDay>>> chunks = new ArrayList<>();
+        List<Chunk> work = new ArrayList<>();
+
+        for (Map.Entry<String, List<UserScheduleAssignment>> entry : assignmentsByUser.entrySet()) {
+            List<ShiftException> userExceptions = exceptionsByUser.get( entry.getKey() );
+            ExceptionIndex userIndex = mExceptionResolver.indexExceptions(
+                    userExceptions != null ? userExceptions : Collections.emptyList() );
+
+            for (YearMonth month = YearMonth.from( startDate ); !month.atDay( 1 ).isAfter( endDate );
+                 month = month.plusMonths( 1 )) {
+                LocalDate chunkStart = max( month.atDay( 1 ), startDate );
+                LocalDate chunkEnd = min( month.atEndOfMonth(), endDate );
+                work.add( new Chunk( chunkStart, chunkEnd, entry.getValue(), userIndex ) );
+            }
+        }
+
+        Log.d( TAG, "Generating team schedule " + startDate + " to " + endDate + ": " +
+                assignmentsByUser.size() + " users, " + work.size() + " chunks" );
+
+        handle.start( work.size() );
+        for (Chunk chunk : work) {
+            chunks.add( handle.attach( CompletableFuture.supplyAsync(
+                    () -> runChunk( chunk, recurrenceRules, userTeamMappings, handle ), mExecutor ) ) );
+        }
+
+        CompletableFuture<Map<LocalDate, WorkScheduleDay>> result =
+                CompletableFuture.allOf( chunks.toArray( new CompletableFuture[0] ) )
+                        .thenApply( v -> merge( startDate, endDate, chunks ) );
+        return handle.attach( result );
+    }
+
+    // ==================== CHUNKS ====================
+
+    /**
+     * One user over (part of) one month.
+     */
+    private static final class Chunk {
+        final LocalDate startDate;
+        final LocalDate endDate;
+        final List<UserScheduleAssignment> assignments;
+        final ExceptionIndex exceptionIndex;
+
+        Chunk(LocalDate startDate, LocalDate endDate,
+              List<UserScheduleAssignment> assignments, ExceptionIndex exceptionIndex) {
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.assignments = assignments;
+            this.exceptionIndex = exceptionIndex;
+        }
+    }
+
+    @NonNull
+    private Map<LocalDate, WorkScheduleDay> runChunk(@NonNull Chunk chunk,
+                                                     @NonNull Map<String, RecurrenceRule> recurrenceRules,
+                                                     @NonNull Map<String, Team> userTeamMappings,
+                                                     @NonNull ScheduleTaskHandle handle) {
+        Map<LocalDate, WorkScheduleDay> schedules = new HashMap<>();
+
+        LocalDate segmentStart = chunk.startDate;
+        while (!segmentStart.isAfter( chunk.endDate )) {
+            if (handle.isCancelled()) {
+                throw new CancellationException( "Team schedule generation cancelled" );
+            }
+
+            // Stretch of days covered by the same assignment
+            UserScheduleAssignment assignment = findAssignment( chunk.assignments, segmentStart );
+            LocalDate segmentEnd = segmentStart;
+            while (segmentEnd.isBefore( chunk.endDate )
+                    && findAssignment( chunk.assignments, segmentEnd.plusDays( 1 ) ) == assignment) {
+                segmentEnd = segmentEnd.plusDays( 1 );
+            }
+
+            RecurrenceRule rule = assignment != null ?
+                    recurrenceRules.get( assignment.getRecurrenceRuleId() ) : null;
+            if (rule != null) {
+                schedules.putAll( mSchedulingEngine.generateCompleteScheduleRange(
+                        segmentStart, segmentEnd, assignment, rule, chunk.exceptionIndex,
+                        userTeamMappings, new HashMap<>() ) );
+            }
+
+            segmentStart = segmentEnd.plusDays( 1 );
+        }
+
+        handle.advance();
+        return schedules;
+    }
+
+    /**
+     * First assignment covering the date, i.e. the highest priority one.
+     */
+    @Nullable
+    private static UserScheduleAssignment findAssignment(@NonNull List<UserScheduleAssignment> assignments,
+                                                         @NonNull LocalDate date) {
+        for (UserScheduleAssignment assignment : assignments) {
+            if (!date.isBefore( assignment.getStartDate() )
+                    && (assignment.getEndDate() == null || !date.isAfter( assignment.getEndDate() ))) {
+                return assignment;
+            }
+        }
+        return null;
+    }
+
+    // ==================== MERGE ====================
+
+    @NonNull
+    private Map<LocalDate, WorkScheduleDay> merge(
+            @NonNull LocalDate startDate, @NonNull LocalDate endDate,
+            @NonNull List<CompletableFuture<Map<LocalDate, WorkScheduleDay>>> chunks) {
+
+        Map<LocalDate, WorkScheduleDay.Builder> builders = new LinkedHashMap<>();
+        for (LocalDate date = startDate; !date.isAfter( endDate ); date = date.plusDays( 1 )) {
+            builders.put( date, WorkScheduleDay.builder( date ) );
+        }
+
+        // All chunks are complete here, join() does not block
+        for (CompletableFuture<Map<LocalDate, WorkScheduleDay>> chunk : chunks) {
+            for (Map.Entry<LocalDate, WorkScheduleDay> entry : chunk.join().entrySet()) {
+                WorkScheduleDay.Builder builder = builders.get( entry.getKey() );
+                if (builder != null) {
+                    for (WorkScheduleShift shift : entry.getValue().getWorkShifts()) {
+                        builder.addShift( shift );
+                    }
+                }
+            }
+        }
+
+        Map<LocalDate, WorkScheduleDay> teamSchedules = new HashMap<>( builders.size() * 2 );
+        for (Map.Entry<LocalDate, WorkScheduleDay.Builder> entry : builders.entrySet()) {
+            teamSchedules.put( entry.getKey(), entry.getValue().build() );
+        }
+        return teamSchedules;
+    }
+
+    // ==================== HELPERS ====================
+
+    private static LocalDate max(@NonNull LocalDate a, @NonNull LocalDate b) {
+        return a.isAfter( b ) ? a : b;
+    }
+
+    private static LocalDate min(@NonNull LocalDate a, @NonNull LocalDate b) {
+        return a.isBefore( b ) ? a : b;
+    }
+}
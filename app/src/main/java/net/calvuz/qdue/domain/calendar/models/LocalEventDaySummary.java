@@ -0,0 +1,110 @@
+package net.calvuz.qdue.domain.calendar.models;
+
+import androidx.annotation.NonNull;
+
+import net.calvuz.qdue.domain.calendar.enums.EventType;
+import net.calvuz.qdue.domain.common.enums.Priority;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * LocalEventDaySummary - Domain model of the events of one day, as calendar grids show them.
+ *
+ * <p>Carries the event count, the highest priority, the event types present and
+ * whether an all-day event covers the day, so month grids render their indicators
+ * without loading the events. Load the {@link LocalEvent}s only when a day is opened.</p>
+ *
+ * <p>Immutable; days without events have no summary.</p>
+ */
+public final class LocalEventDaySummary {
+
+    private final LocalDate mDate;
+    private final int mEventCount;
+    private final Priority mHighestPriority;
+    private final Set<EventType> mEventTypes;
+    private final boolean mHasAllDayEvent;
+
+    public LocalEventDaySummary(@NonNull LocalDate date, int eventCount, @NonNull Priority highestPriority,
+                                @NonNull Set<EventType> eventTypes, boolean hasAllDayEvent) {
+        this.mDate = Objects.requireNonNull( date );
+        this.mEventCount = eventCount;
+        this.mHighestPriority = Objects.requireNonNull( highestPriority );
+        this.mEventTypes = eventTypes.isEmpty()
+                ? Collections.emptySet()
+                : Collections.unmodifiableSet( EnumSet.copyOf( eventTypes ) );
+        this.mHasAllDayEvent = hasAllDayEvent;
+    }
+
+    // ==================== GETTERS ====================
+
+    @NonNull
+    public LocalDate getDate() {
+        return mDate;
+    }
+
+    public int getEventCount() {
+        return mEventCount;
+    }
+
+    @NonNull
+    public Priority getHighestPriority() {
+        return mHighestPriority;
+    }
+
+    @NonNull
+    public Set<EventType> getEventTypes() {
+        return mEventTypes;
+    }
+
+    public boolean hasAllDayEvent() {
+        return mHasAllDayEvent;
+    }
+
+    public boolean hasEvents() {
+        return mEventCount > 0;
+    }
+
+    /**
+     * Type to show for the day: the first specific type in declaration order,
+     * {@link EventType#GENERAL} only when no other type is present.
+     */
+    @NonNull
+    public EventType getPrimaryEventType() {
+        for (EventType type : mEventTypes) {
+            if (type != EventType.GENERAL) {
+                return type;
+            }
+        }
+        return EventType.GENERAL;
+    }
+
+    // ==================== OBJECT METHODS ====================
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LocalEventDaySummary)) return false;
+        LocalEventDaySummary that = (LocalEventDaySummary) o;
+        return mEventCount == that.mEventCount
+                && mHasAllDayEvent == that.mHasAllDayEvent
+                && mDate.equals( that.mDate )
+                && mHighestPriority == that.mHighestPriority
+                && mEventTypes.equals( that.mEventTypes );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash( mDate, mEventCount, mHighestPriority, mEventTypes, mHasAllDayEvent );
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "LocalEventDaySummary{" + mDate + ", count=" + mEventCount + ", priority=" + mHighestPriority
+                + ", types=" + mEventTypes + ", allDay=" + mHasAllDayEvent + '}';
+    }
+}
@@ -0,0 +1,114 @@
+package net.calvuz.qdue.domain.calendar.models;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import net.calvuz.qdue.domain.calendar.enums.EventType;
+import net.calvuz.qdue.domain.common.enums.Priority;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * LocalEventsFilter - Criteria of the paged LocalEvents list.
+ *
+ * <p>Applied in SQL by the repository, so that only the matching events of one page
+ * are loaded. Null criteria match every event; the calendar ID plays the role of the
+ * event package.</p>
+ *
+ * <p>Immutable.</p>
+ */
+public final class LocalEventsFilter {
+
+    public static final LocalEventsFilter ALL = new LocalEventsFilter( null, null, null, null, null, null );
+
+    private final EventType mEventType;
+    private final Priority mPriority;
+    private final String mCalendarId;
+    private final Boolean mAllDay;
+    private final LocalDateTime mStartFrom;
+    private final LocalDateTime mStartTo;
+
+    /**
+     * @param eventType  Event type, or null
+     * @param priority   Priority, or null
+     * @param calendarId Calendar (package) ID, or null
+     * @param allDay     All-day events only (true), timed events only (false), or null
+     * @param startFrom  Earliest start time (inclusive), or null
+     * @param startTo    Latest start time (inclusive), or null
+     */
+    public LocalEventsFilter(@Nullable EventType eventType, @Nullable Priority priority,
+                             @Nullable String calendarId, @Nullable Boolean allDay,
+                             @Nullable LocalDateTime startFrom, @Nullable LocalDateTime startTo) {
+        this.mEventType = eventType;
+        this.mPriority = priority;
+        this.mCalendarId = calendarId;
+        this.mAllDay = allDay;
+        this.mStartFrom = startFrom;
+        this.mStartTo = startTo;
+    }
+
+    // ==================== GETTERS ====================
+
+    @Nullable
+    public EventType getEventType() {
+        return mEventType;
+    }
+
+    @Nullable
+    public Priority getPriority() {
+        return mPriority;
+    }
+
+    @Nullable
+    public String getCalendarId() {
+        return mCalendarId;
+    }
+
+    @Nullable
+    public Boolean getAllDay() {
+        return mAllDay;
+    }
+
+    @Nullable
+    public LocalDateTime getStartFrom() {
+        return mStartFrom;
+    }
+
+    @Nullable
+    public LocalDateTime getStartTo() {
+        return mStartTo;
+    }
+
+    public boolean isEmpty() {
+        return mEventType == null && mPriority == null && mCalendarId == null
+                && mAllDay == null && mStartFrom == null && mStartTo == null;
+    }
+
+    // ==================== OBJECT METHODS ====================
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LocalEventsFilter)) return false;
+        LocalEventsFilter that = (LocalEventsFilter) o;
+        return mEventType == that.mEventType
+                && mPriority == that.mPriority
+                && Objects.equals( mCalendarId, that.mCalendarId )
+                && Objects.equals( mAllDay, that.mAllDay )
+                && Objects.equals( mStartFrom, that.mStartFrom )
+                && Objects.equals( mStartTo, that.mStartTo );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash( mEventType, mPriority, mCalendarId, mAllDay, mStartFrom, mStartTo );
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "LocalEventsFilter{type=" + mEventType + ", priority=" + mPriority + ", calendar=" + mCalendarId
+                + ", allDay=" + mAllDay + ", start=" + mStartFrom + ".." + mStartTo + '}';
+    }
+}
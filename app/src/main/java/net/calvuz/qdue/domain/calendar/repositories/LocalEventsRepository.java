@@ -5,9 +5,12 @@ import androidx.annotation.Nullable;
 
 import net.calvuz.qdue.core.services.models.OperationResult;
 import net.calvuz.qdue.domain.calendar.models.LocalEvent;
+import net.calvuz.qdue.domain.calendar.models.LocalEventDaySummary;
+import net.calvuz.qdue.domain.calendar.models.LocalEventsFilter;
 import net.calvuz.qdue.domain.calendar.enums.EventType;
 import net.calvuz.qdue.domain.common.enums.Priority;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -108,6 +111,19 @@ public interface LocalEventsRepository
     @NonNull
     CompletableFuture<OperationResult<List<LocalEvent>>> getAllLocalEvents();
 
+    /**
+     * Get a page of the LocalEvents list, ordered by start time then ID.
+     * Pages are keyed on the last event of the previous page (keyset pagination).
+     *
+     * @param filter List criteria, applied in the query
+     * @param after  Last event of the previous page, null for the first page
+     * @param limit  Maximum number of events to return
+     * @return CompletableFuture with OperationResult containing the events following {@code after}
+     */
+    @NonNull
+    CompletableFuture<OperationResult<List<LocalEvent>>> getLocalEventsPage(@NonNull LocalEventsFilter filter,
+                                                                           @Nullable LocalEvent after, int limit);
+
     /**
      * Get LocalEvents for specific date (both all-day and timed events).
      *
@@ -128,6 +144,18 @@ public interface LocalEventsRepository
     CompletableFuture<OperationResult<List<LocalEvent>>> getLocalEventsForDateRange(
             @NonNull LocalDateTime startDate, @NonNull LocalDateTime endDate);
 
+    /**
+     * Get per-day event summaries for date range, without loading the events.
+     * Days without events have no summary.
+     *
+     * @param startDate Range start date (inclusive)
+     * @param endDate   Range end date (inclusive)
+     * @return CompletableFuture with OperationResult containing summaries by date
+     */
+    @NonNull
+    CompletableFuture<OperationResult<List<LocalEventDaySummary>>> getDaySummariesForDateRange(
+            @NonNull LocalDate startDate, @NonNull LocalDate endDate);
+
     /**
      * Get upcoming LocalEvents from current time.
      *
@@ -142,7 +170,10 @@ public interface LocalEventsRepository
     // ==================== SEARCH AND FILTERING ====================
 
     /**
-     * Search LocalEvents by title or description.
+     * Search LocalEvents by title, description or location, best matches first.
+     *
+     * <p>Meant for search-as-you-type: the search starts after a short debounce and
+     * a newer call cancels the returned future of the previous one.</p>
      *
      * @param query Search query string
      * @return CompletableFuture with OperationResult containing matching events
@@ -187,6 +218,15 @@ public interface LocalEventsRepository
     @NonNull
     CompletableFuture<OperationResult<Integer>> getLocalEventsCount();
 
+    /**
+     * Get count of the LocalEvents matching a list filter.
+     *
+     * @param filter List criteria
+     * @return CompletableFuture with OperationResult containing the matching event count
+     */
+    @NonNull
+    CompletableFuture<OperationResult<Integer>> getLocalEventsCount(@NonNull LocalEventsFilter filter);
+
     /**
      * Get count of upcoming LocalEvents.
      *
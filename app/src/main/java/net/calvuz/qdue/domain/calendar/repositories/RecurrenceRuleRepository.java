@@ -5,7 +5,9 @@ import androidx.annotation.NonNull;
 import net.calvuz.qdue.core.services.models.OperationResult;
 import net.calvuz.qdue.domain.calendar.models.RecurrenceRule;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -108,6 +110,16 @@ public interface RecurrenceRuleRepository {
     CompletableFuture<RecurrenceRule>
     getRecurrenceRuleById(@NonNull String ruleId);
 
+    /**
+     * Get recurrence rules by IDs in a single query.
+     *
+     * @param ruleIds Recurrence rule IDs
+     * @return CompletableFuture with Map of ruleId to RecurrenceRule (missing IDs are absent)
+     */
+    @NonNull
+    CompletableFuture<Map<String, RecurrenceRule>>
+    getRecurrenceRulesByIds(@NonNull Collection<String> ruleIds);
+
     /**
      * Get RecurrenceRule by name with fallback alternatives.
      *
@@ -3,6 +3,7 @@ package net.calvuz.qdue.domain.calendar.repositories;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import net.calvuz.qdue.domain.calendar.engines.ScheduleStatsEngine;
 import net.calvuz.qdue.domain.calendar.models.Shift;
 import net.calvuz.qdue.domain.calendar.models.Team;
 import net.calvuz.qdue.domain.calendar.models.WorkScheduleDay;
@@ -90,6 +91,20 @@ public interface WorkScheduleRepository {
     CompletableFuture<OperationResult<WorkScheduleDay>> getUserWorkScheduleForDate(
             @NonNull LocalDate date, @Nullable String userId);
 
+    /**
+     * Get a cycle-aware summary of the work schedule for a date range.
+     * Each stretch covered by one assignment is computed from a single recurrence
+     * cycle plus its exception days, so the cost does not grow with the range length.
+     *
+     * @param startDate Start date (inclusive)
+     * @param endDate End date (inclusive)
+     * @param userId Optional user ID (null yields a summary without shifts)
+     * @return CompletableFuture with the schedule summary wrapped in OperationResult
+     */
+    @NonNull
+    CompletableFuture<OperationResult<ScheduleStatsEngine.Summary>> getScheduleSummaryForDateRange(
+            @NonNull LocalDate startDate, @NonNull LocalDate endDate, @Nullable String userId);
+
     /**
      * Get work schedule for a complete month.
      * Convenience method for calendar integration.
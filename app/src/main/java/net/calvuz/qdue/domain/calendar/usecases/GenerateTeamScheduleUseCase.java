@@ -7,13 +7,29 @@ import androidx.annotation.Nullable;
 
 import net.calvuz.qdue.QDue;
 import net.calvuz.qdue.core.services.models.OperationResult;
+import net.calvuz.qdue.domain.calendar.engines.ScheduleTaskHandle;
+import net.calvuz.qdue.domain.calendar.engines.TeamScheduleEngine;
+import net.calvuz.qdue.domain.calendar.models.RecurrenceRule;
+import net.calvuz.qdue.domain.calendar.models.ShiftException;
+import net.calvuz.qdue.domain.calendar.models.Team;
+import net.calvuz.qdue.domain.calendar.models.UserScheduleAssignment;
 import net.calvuz.qdue.domain.calendar.models.WorkScheduleDay;
-import net.calvuz.qdue.domain.calendar.repositories.WorkScheduleRepository;
+import net.calvuz.qdue.domain.calendar.repositories.RecurrenceRuleRepository;
+import net.calvuz.qdue.domain.calendar.repositories.ShiftExceptionRepository;
+import net.calvuz.qdue.domain.calendar.repositories.TeamRepository;
+import net.calvuz.qdue.domain.calendar.repositories.UserScheduleAssignmentRepository;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * GenerateTeamScheduleUseCase - Team-wide Schedule Generation
@@ -34,11 +50,16 @@ import java.util.concurrent.CompletableFuture;
  * <h3>Clean Architecture Compliance:</h3>
  * <ul>
  *   <li><strong>Single Responsibility</strong>: Team schedule generation only</li>
- *   <li><strong>Repository Pattern</strong>: Uses WorkScheduleRepository interface</li>
+ *   <li><strong>Repository Pattern</strong>: Loads assignments, rules, exceptions and teams in batch</li>
  *   <li><strong>Domain Logic</strong>: Business rules encapsulated in use case</li>
  *   <li><strong>Async Operations</strong>: All methods return CompletableFuture</li>
  * </ul>
  *
+ * <h3>Execution:</h3>
+ * <p>Data is loaded with composed futures (no blocking joins inside async tasks) and the
+ * schedule is generated by {@link TeamScheduleEngine} in user × month chunks. Callers that
+ * may abandon a request pass a {@link ScheduleTaskHandle} to cancel it and follow progress.</p>
+ *
  * @author QDue Development Team
  * @version 2.0.0 - Complete Implementation
  * @since Clean Architecture Implementation
@@ -49,19 +70,35 @@ public class GenerateTeamScheduleUseCase
     private static final String TAG = "GenerateTeamScheduleUseCase";
 
     // Dependencies
-    private final WorkScheduleRepository mWorkScheduleRepository;
+    private final UserScheduleAssignmentRepository mAssignmentRepository;
+    private final RecurrenceRuleRepository mRecurrenceRuleRepository;
+    private final ShiftExceptionRepository mShiftExceptionRepository;
+    private final TeamRepository mTeamRepository;
+    private final TeamScheduleEngine mTeamScheduleEngine;
 
     // ==================== CONSTRUCTOR ====================
 
     /**
      * Constructor for dependency injection.
      *
-     * @param workScheduleRepository Repository for work schedule operations
+     * @param assignmentRepository     Repository for user schedule assignments
+     * @param recurrenceRuleRepository Repository for recurrence rules
+     * @param shiftExceptionRepository Repository for shift exceptions
+     * @param teamRepository           Repository for teams
+     * @param teamScheduleEngine       Parallel team schedule engine
      */
     public GenerateTeamScheduleUseCase(
-            @NonNull WorkScheduleRepository workScheduleRepository
+            @NonNull UserScheduleAssignmentRepository assignmentRepository,
+            @NonNull RecurrenceRuleRepository recurrenceRuleRepository,
+            @NonNull ShiftExceptionRepository shiftExceptionRepository,
+            @NonNull TeamRepository teamRepository,
+            @NonNull TeamScheduleEngine teamScheduleEngine
     ) {
-        this.mWorkScheduleRepository = workScheduleRepository;
+        this.mAssignmentRepository = assignmentRepository;
+        this.mRecurrenceRuleRepository = recurrenceRuleRepository;
+        this.mShiftExceptionRepository = shiftExceptionRepository;
+        this.mTeamRepository = teamRepository;
+        this.mTeamScheduleEngine = teamScheduleEngine;
     }
 
     // ==================== CORE OPERATIONS ====================
@@ -78,58 +115,49 @@ public class GenerateTeamScheduleUseCase
             @NonNull LocalDate date,
             @Nullable Integer teamId
     ) {
+        Log.d( TAG, "Generating team schedule for date: " + date +
+                (teamId != null ? ", teamID: " + teamId : " (all teams)") );
+
+        // Validate input
+        OperationResult<Void> validation = validateInput( date, teamId );
+        if (!validation.isSuccess()) {
+            return CompletableFuture.completedFuture( OperationResult.failure(
+                    validation.getErrorMessage(), OperationResult.OperationType.VALIDATION ) );
+        }
 
-        return CompletableFuture.supplyAsync( () -> {
-            try {
-                Log.d( TAG, "Generating team schedule for date: " + date +
-                        (teamId != null ? ", teamID: " + teamId : " (all teams)") );
-
-                // Validate input
-                OperationResult<Void> validation = validateInput( date, teamId );
-                if (!validation.isSuccess()) {
-                    return OperationResult.failure( validation.getErrorMessage(),
-                                                    OperationResult.OperationType.VALIDATION );
-                }
-
-                // Get base schedule for all users
-                OperationResult<WorkScheduleDay> scheduleResult =
-                        mWorkScheduleRepository.getWorkScheduleForDate( date, null ).join();
-
-                if (!scheduleResult.isSuccess()) {
-                    return scheduleResult;
-                }
-
-                WorkScheduleDay schedule = scheduleResult.getData();
-                if (schedule == null) {
-                    return OperationResult.success( createEmptySchedule( date ),
-                                                    OperationResult.OperationType.READ );
-                }
-
-                // Apply team filtering if specified
-                if (teamId != null) {
-                    schedule = filterScheduleByTeam( schedule, teamId );
-                }
+        return generate( date, date, teamId, new ScheduleTaskHandle() )
+                .thenApply( schedules -> {
+                    WorkScheduleDay schedule = schedules.get( date );
+                    if (schedule == null) {
+                        return OperationResult.success( createEmptySchedule( date ),
+                                                        OperationResult.OperationType.READ );
+                    }
 
-                // Apply team-specific business rules
-                schedule = applyTeamBusinessRules( schedule );
+                    // Apply team filtering if specified
+                    if (teamId != null) {
+                        schedule = filterScheduleByTeam( schedule, teamId );
+                    }
 
-                // Validate team coverage
-                TeamCoverageResult coverageResult = validateTeamCoverage( schedule );
-                if (!coverageResult.isValid) {
-                    Log.w( TAG, "Team coverage validation failed: " + coverageResult.warnings );
-                }
+                    // Apply team-specific business rules
+                    schedule = applyTeamBusinessRules( schedule );
 
-                Log.d( TAG, "Successfully generated team schedule for " + date +
-                        " with " + schedule.getWorkShifts().size() + " shifts" );
+                    // Validate team coverage
+                    TeamCoverageResult coverageResult = validateTeamCoverage( schedule );
+                    if (!coverageResult.isValid) {
+                        Log.w( TAG, "Team coverage validation failed: " + coverageResult.warnings );
+                    }
 
-                return OperationResult.success( schedule, OperationResult.OperationType.READ );
-            } catch (Exception e) {
-                Log.e( TAG, "Error generating team schedule for date: " + date, e );
-                return OperationResult.failure(
-                        "Failed to generate team schedule: " + e.getMessage(),
-                        OperationResult.OperationType.READ );
-            }
-        } );
+                    Log.d( TAG, "Successfully generated team schedule for " + date +
+                            " with " + schedule.getWorkShifts().size() + " shifts" );
+
+                    return OperationResult.success( schedule, OperationResult.OperationType.READ );
+                } )
+                .exceptionally( e -> {
+                    Log.e( TAG, "Error generating team schedule for date: " + date, e );
+                    return OperationResult.failure(
+                            "Failed to generate team schedule: " + rootCause( e ).getMessage(),
+                            OperationResult.OperationType.READ );
+                } );
     }
 
     /**
@@ -146,75 +174,191 @@ public class GenerateTeamScheduleUseCase
             @NonNull LocalDate endDate,
             @Nullable Integer teamId
     ) {
+        return execute( startDate, endDate, teamId, new ScheduleTaskHandle() );
+    }
 
-        return CompletableFuture.supplyAsync( () -> {
-            try {
-                Log.d( TAG, "Generating team schedule range: " + startDate + " to " + endDate +
-                        (teamId != null ? ", teamID: " + teamId : " (all teams)") );
-
-                // Validate input
-                OperationResult<Void> validation = validateDateRange( startDate, endDate );
-                if (!validation.isSuccess()) {
-                    return OperationResult.failure( validation.getErrorMessage(),
-                                                    OperationResult.OperationType.VALIDATION );
-                }
-
-                // Get base schedules for all users in date range
-                OperationResult<Map<LocalDate, WorkScheduleDay>> schedulesResult =
-                        mWorkScheduleRepository.getWorkScheduleForDateRange( startDate, endDate,
-                                                                             null ).join();
-
-                if (!schedulesResult.isSuccess()) {
-                    return schedulesResult;
-                }
-
-                Map<LocalDate, WorkScheduleDay> schedules = schedulesResult.getData();
-                if (schedules == null) {
-                    schedules = new HashMap<>();
-                }
-
-                Map<LocalDate, WorkScheduleDay> teamSchedules = new HashMap<>();
-
-                // Process each date in the range
-                LocalDate currentDate = startDate;
-                while (!currentDate.isAfter( endDate )) {
-                    WorkScheduleDay daySchedule = schedules.get( currentDate );
-
-                    if (daySchedule == null) {
-                        daySchedule = createEmptySchedule( currentDate );
-                    }
+    /**
+     * Execute use case for team schedule over date range, cancellable.
+     *
+     * <p>Cancelling the handle stops the remaining chunks and completes the returned
+     * future with a CancellationException.</p>
+     *
+     * @param startDate Start date (inclusive)
+     * @param endDate   End date (inclusive)
+     * @param teamId    Optional team ID for filtering (null for all teams)
+     * @param handle    Cancellation and progress handle
+     * @return CompletableFuture with Map of team schedules
+     */
+    @NonNull
+    public CompletableFuture<OperationResult<Map<LocalDate, WorkScheduleDay>>> execute(
+            @NonNull LocalDate startDate,
+            @NonNull LocalDate endDate,
+            @Nullable Integer teamId,
+            @NonNull ScheduleTaskHandle handle
+    ) {
+        Log.d( TAG, "Generating team schedule range: " + startDate + " to " + endDate +
+                (teamId != null ? ", teamID: " + teamId : " (all teams)") );
+
+        // Validate input
+        OperationResult<Void> validation = validateDateRange( startDate, endDate );
+        if (!validation.isSuccess()) {
+            return CompletableFuture.completedFuture( OperationResult.failure(
+                    validation.getErrorMessage(), OperationResult.OperationType.VALIDATION ) );
+        }
 
-                    // Apply team filtering if specified
-                    if (teamId != null) {
-                        daySchedule = filterScheduleByTeam( daySchedule, teamId );
-                    }
+        CompletableFuture<OperationResult<Map<LocalDate, WorkScheduleDay>>> result =
+                generate( startDate, endDate, teamId, handle )
+                        .thenApply( schedules -> {
+                            Map<LocalDate, WorkScheduleDay> teamSchedules = new HashMap<>();
+
+                            // Process each date in the range
+                            LocalDate currentDate = startDate;
+                            while (!currentDate.isAfter( endDate )) {
+                                WorkScheduleDay daySchedule = schedules.get( currentDate );
+
+                                if (daySchedule == null) {
+                                    daySchedule = createEmptySchedule( currentDate );
+                                }
+
+                                // Apply team filtering if specified
+                                if (teamId != null) {
+                                    daySchedule = filterScheduleByTeam( daySchedule, teamId );
+                                }
+
+                                // Apply team-specific business rules
+                                daySchedule = applyTeamBusinessRules( daySchedule );
+
+                                teamSchedules.put( currentDate, daySchedule );
+                                currentDate = currentDate.plusDays( 1 );
+                            }
+
+                            // Validate overall team coverage for the period
+                            TeamPeriodCoverageResult periodCoverage = validateTeamCoverageForPeriod(
+                                    teamSchedules, startDate, endDate );
+
+                            if (!periodCoverage.isValid) {
+                                Log.w( TAG, "Team period coverage has issues: " + periodCoverage.summary );
+                            }
+
+                            Log.d( TAG, "Successfully generated team schedule range with " +
+                                    teamSchedules.size() + " days" );
+
+                            return OperationResult.success( teamSchedules, OperationResult.OperationType.READ );
+                        } )
+                        .exceptionally( e -> {
+                            if (rootCause( e ) instanceof CancellationException) {
+                                throw new CancellationException( "Team schedule generation cancelled" );
+                            }
+                            Log.e( TAG, "Error generating team schedule range", e );
+                            return OperationResult.failure(
+                                    "Failed to generate team schedule range: " + rootCause( e ).getMessage(),
+                                    OperationResult.OperationType.READ );
+                        } );
+
+        return handle.attach( result );
+    }
 
-                    // Apply team-specific business rules
-                    daySchedule = applyTeamBusinessRules( daySchedule );
+    // ==================== GENERATION PIPELINE ====================
 
-                    teamSchedules.put( currentDate, daySchedule );
-                    currentDate = currentDate.plusDays( 1 );
-                }
+    /**
+     * Load assignments, then rules, exceptions and teams in parallel, then run the engine.
+     * Every stage is composed, nothing blocks a pool thread waiting for another task.
+     */
+    @NonNull
+    private CompletableFuture<Map<LocalDate, WorkScheduleDay>> generate(
+            @NonNull LocalDate startDate,
+            @NonNull LocalDate endDate,
+            @Nullable Integer teamId,
+            @NonNull ScheduleTaskHandle handle
+    ) {
+        CompletableFuture<OperationResult<List<UserScheduleAssignment>>> assignmentsFuture = teamId != null
+                ? mAssignmentRepository.getAssignmentsByTeam( String.valueOf( teamId ) )
+                : mAssignmentRepository.getActiveAssignmentsInDateRange( startDate, endDate );
+
+        return handle.attach( assignmentsFuture ).thenCompose( assignmentsResult -> {
+            if (!assignmentsResult.isSuccess()) {
+                throw new CompletionException( new IllegalStateException(
+                        assignmentsResult.getErrorMessage() ) );
+            }
+            List<UserScheduleAssignment> assignments = selectAssignments(
+                    assignmentsResult.getData(), startDate, endDate );
+
+            Set<String> ruleIds = new HashSet<>();
+            Set<String> userIds = new HashSet<>();
+            Set<String> teamIds = new HashSet<>();
+            for (UserScheduleAssignment assignment : assignments) {
+                ruleIds.add( assignment.getRecurrenceRuleId() );
+                userIds.add( assignment.getUserId() );
+                teamIds.add( assignment.getTeamId() );
+            }
 
-                // Validate overall team coverage for the period
-                TeamPeriodCoverageResult periodCoverage = validateTeamCoverageForPeriod(
-                        teamSchedules, startDate, endDate );
+            CompletableFuture<Map<String, RecurrenceRule>> rulesFuture =
+                    mRecurrenceRuleRepository.getRecurrenceRulesByIds( ruleIds );
+            CompletableFuture<OperationResult<List<ShiftException>>> exceptionsFuture =
+                    mShiftExceptionRepository.getExceptionsInDateRange( startDate, endDate );
+            Map<String, CompletableFuture<Team>> teamFutures = new HashMap<>();
+            for (String id : teamIds) {
+                teamFutures.put( id, mTeamRepository.getTeamById( id ) );
+            }
 
-                if (!periodCoverage.isValid) {
-                    Log.w( TAG, "Team period coverage has issues: " + periodCoverage.summary );
-                }
+            List<CompletableFuture<?>> loads = new ArrayList<>( teamFutures.values() );
+            loads.add( rulesFuture );
+            loads.add( exceptionsFuture );
+
+            return CompletableFuture.allOf( loads.toArray( new CompletableFuture[0] ) )
+                    .thenCompose( v -> {
+                        // All loads are complete here, join() does not block
+                        List<ShiftException> exceptions = new ArrayList<>();
+                        OperationResult<List<ShiftException>> exceptionsResult = exceptionsFuture.join();
+                        if (exceptionsResult.isSuccess() && exceptionsResult.getData() != null) {
+                            for (ShiftException exception : exceptionsResult.getData()) {
+                                if (userIds.contains( exception.getUserId() )) {
+                                    exceptions.add( exception );
+                                }
+                            }
+                        }
+
+                        // Each user maps to the team of their highest priority assignment
+                        Map<String, Team> userTeamMappings = new HashMap<>();
+                        for (UserScheduleAssignment assignment : assignments) {
+                            Team team = teamFutures.get( assignment.getTeamId() ).join();
+                            if (team != null) {
+                                userTeamMappings.putIfAbsent( assignment.getUserId(), team );
+                            }
+                        }
+
+                        return mTeamScheduleEngine.generateTeamScheduleRange( startDate, endDate,
+                                assignments, rulesFuture.join(), exceptions, userTeamMappings, handle );
+                    } );
+        } );
+    }
 
-                Log.d( TAG, "Successfully generated team schedule range with " +
-                        teamSchedules.size() + " days" );
+    /**
+     * Processable assignments overlapping the range, highest priority first.
+     */
+    @NonNull
+    private List<UserScheduleAssignment> selectAssignments(
+            @Nullable List<UserScheduleAssignment> assignments,
+            @NonNull LocalDate startDate,
+            @NonNull LocalDate endDate
+    ) {
+        List<UserScheduleAssignment> selected = new ArrayList<>();
+        if (assignments == null) {
+            return selected;
+        }
 
-                return OperationResult.success( teamSchedules, OperationResult.OperationType.READ );
-            } catch (Exception e) {
-                Log.e( TAG, "Error generating team schedule range", e );
-                return OperationResult.failure(
-                        "Failed to generate team schedule range: " + e.getMessage(),
-                        OperationResult.OperationType.READ );
+        for (UserScheduleAssignment assignment : assignments) {
+            if (assignment.isProcessable()
+                    && !assignment.getStartDate().isAfter( endDate )
+                    && (assignment.getEndDate() == null || !assignment.getEndDate().isBefore( startDate ))) {
+                selected.add( assignment );
             }
-        } );
+        }
+
+        // Stable sort keeps the repository order within the same priority
+        selected.sort( Comparator.comparingInt( (UserScheduleAssignment a) ->
+                a.getPriority() != null ? a.getPriority().getLevel() : 0 ).reversed() );
+        return selected;
     }
 
     // ==================== BUSINESS LOGIC ====================
@@ -400,6 +544,15 @@ public class GenerateTeamScheduleUseCase
 
     // ==================== HELPER METHODS ====================
 
+    @NonNull
+    private static Throwable rootCause(@NonNull Throwable throwable) {
+        Throwable cause = throwable;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
     private WorkScheduleDay createEmptySchedule(
             @NonNull LocalDate date
     ) {
@@ -7,10 +7,12 @@ import androidx.annotation.Nullable;
 
 import net.calvuz.qdue.QDue;
 import net.calvuz.qdue.core.services.models.OperationResult;
+import net.calvuz.qdue.domain.calendar.engines.ScheduleStatsEngine;
 import net.calvuz.qdue.domain.calendar.models.WorkScheduleDay;
 import net.calvuz.qdue.domain.calendar.repositories.WorkScheduleRepository;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -49,6 +51,11 @@ public class GetScheduleStatsUseCase {
 
     private static final String TAG = "GetScheduleStatsUseCase";
 
+    // Analysis limits: statistics are per recurrence cycle, the daily distribution is per day
+    private static final int MAX_ANALYSIS_YEARS = 10;
+    private static final long MAX_ANALYSIS_DAYS = MAX_ANALYSIS_YEARS * 366L;
+    private static final long MAX_DAILY_DISTRIBUTION_DAYS = 366;
+
     // Dependencies
     private final WorkScheduleRepository mWorkScheduleRepository;
 
@@ -88,24 +95,24 @@ public class GetScheduleStatsUseCase {
                     return OperationResult.failure( validation.getErrorMessage(), OperationResult.OperationType.VALIDATION );
                 }
 
-                // Get schedule data for analysis
-                OperationResult<Map<LocalDate, WorkScheduleDay>> scheduleResult =
-                        mWorkScheduleRepository.getWorkScheduleForDateRange( startDate, endDate, userId ).join();
+                // Get cycle-aware schedule summary for analysis
+                OperationResult<ScheduleStatsEngine.Summary> summaryResult =
+                        mWorkScheduleRepository.getScheduleSummaryForDateRange( startDate, endDate, userId ).join();
 
-                if (!scheduleResult.isSuccess()) {
+                if (!summaryResult.isSuccess()) {
                     return OperationResult.failure( "Failed to get schedule for analysis: " +
-                            scheduleResult.getErrorMessage(), OperationResult.OperationType.VALIDATION );
+                            summaryResult.getErrorMessage(), OperationResult.OperationType.VALIDATION );
                 }
 
-                Map<LocalDate, WorkScheduleDay> scheduleMap = scheduleResult.getData();
-                if (scheduleMap == null || scheduleMap.isEmpty()) {
+                ScheduleStatsEngine.Summary summary = summaryResult.getData();
+                if (summary == null || summary.getTotals().totalDays == 0) {
                     return OperationResult.failure( "No schedule data available for analysis", OperationResult.OperationType.VALIDATION );
                 }
 
                 // Calculate comprehensive statistics
-                ScheduleStats stats = calculateComprehensiveStatistics( scheduleMap, startDate, endDate, userId );
+                ScheduleStats stats = calculateComprehensiveStatistics( summary, startDate, endDate, userId );
 
-                Log.d( TAG, "Generated schedule statistics for " + scheduleMap.size() + " days" );
+                Log.d( TAG, "Generated schedule statistics for " + stats.totalDays + " days" );
 
                 return OperationResult.success( stats, OperationResult.OperationType.VALIDATION );
             } catch (Exception e) {
@@ -188,56 +195,22 @@ public class GetScheduleStatsUseCase {
 
     // ==================== STATISTICS CALCULATION ====================
 
-    private ScheduleStats calculateComprehensiveStatistics(@NonNull Map<LocalDate, WorkScheduleDay> scheduleMap,
+    private ScheduleStats calculateComprehensiveStatistics(@NonNull ScheduleStatsEngine.Summary summary,
                                                            @NonNull LocalDate startDate,
                                                            @NonNull LocalDate endDate,
                                                            @Nullable String userId) {
         ScheduleStats stats = new ScheduleStats();
+        ScheduleStatsEngine.Totals totals = summary.getTotals();
 
         // Basic metrics
         stats.analysisStartDate = startDate;
         stats.analysisEndDate = endDate;
         stats.userId = userId;
-        stats.totalDays = scheduleMap.size();
-        stats.workingDays = 0;
-        stats.restDays = 0;
-        stats.totalShifts = 0;
-        stats.totalWorkingHours = 0.0;
-
-        // Advanced metrics
-        Map<String, Integer> shiftTypeDistribution = new HashMap<>();
-        Map<String, Double> dailyHoursDistribution = new HashMap<>();
-        List<Double> dailyHours = new ArrayList<>();
-
-        // Process each schedule day
-        for (Map.Entry<LocalDate, WorkScheduleDay> entry : scheduleMap.entrySet()) {
-            LocalDate date = entry.getKey();
-            WorkScheduleDay schedule = entry.getValue();
-
-            if (schedule.hasShifts()) {
-                stats.workingDays++;
-                int dayShifts = schedule.getWorkShifts().size();
-                stats.totalShifts += dayShifts;
-
-                // Calculate working hours for this day
-                double dayHours = 0.0;
-                for (var shift : schedule.getWorkShifts()) {
-                    double shiftHours = calculateShiftDuration( shift );
-                    dayHours += shiftHours;
-                    stats.totalWorkingHours += shiftHours;
-
-                    // Track shift type distribution
-                    String shiftType = shift.getShift().getName();
-                    shiftTypeDistribution.merge( shiftType, 1, Integer::sum );
-                }
-
-                dailyHours.add( dayHours );
-                dailyHoursDistribution.put( date.toString(), dayHours );
-            } else {
-                stats.restDays++;
-                dailyHours.add( 0.0 );
-            }
-        }
+        stats.totalDays = totals.totalDays;
+        stats.workingDays = totals.workingDays;
+        stats.restDays = totals.restDays;
+        stats.totalShifts = totals.totalShifts;
+        stats.totalWorkingHours = totals.totalWorkingHours;
 
         // Calculate averages and derived metrics
         stats.averageShiftsPerDay = stats.totalDays > 0 ?
@@ -253,46 +226,59 @@ public class GetScheduleStatsUseCase {
                 (double) stats.workingDays / stats.totalDays * 100.0 : 0.0;
 
         // Set distribution data
-        stats.shiftTypeDistribution = shiftTypeDistribution;
-        stats.dailyHoursDistribution = dailyHoursDistribution;
+        stats.shiftTypeDistribution = new HashMap<>( totals.shiftTypeDistribution );
+        stats.dailyHoursDistribution = calculateDailyHoursDistribution( summary, startDate, endDate );
 
         // Calculate additional metrics
-        if (!dailyHours.isEmpty()) {
-            stats.maxDailyHours = dailyHours.stream().mapToDouble( Double::doubleValue ).max().orElse( 0.0 );
-            stats.minDailyHours = dailyHours.stream().mapToDouble( Double::doubleValue ).min().orElse( 0.0 );
-        }
+        stats.maxDailyHours = totals.maxDailyHours;
+        stats.minDailyHours = totals.minDailyHours;
 
         // Calculate trend analysis
-        calculateTrendAnalysis( stats, scheduleMap );
+        calculateTrendAnalysis( stats, summary, startDate, endDate );
 
         return stats;
     }
 
+    /**
+     * Per-date hours of the working days. This is the only per-day output, so it is
+     * limited to ranges of up to a year and left empty for longer analyses.
+     */
+    @NonNull
+    private Map<String, Double> calculateDailyHoursDistribution(@NonNull ScheduleStatsEngine.Summary summary,
+                                                                @NonNull LocalDate startDate,
+                                                                @NonNull LocalDate endDate) {
+        Map<String, Double> dailyHoursDistribution = new HashMap<>();
+        if (ChronoUnit.DAYS.between( startDate, endDate ) >= MAX_DAILY_DISTRIBUTION_DAYS) {
+            return dailyHoursDistribution;
+        }
+
+        for (LocalDate date = startDate; !date.isAfter( endDate ); date = date.plusDays( 1 )) {
+            WorkScheduleDay schedule = summary.dayAt( date );
+            if (schedule != null && schedule.hasShifts()) {
+                dailyHoursDistribution.put( date.toString(), calculateDayHours( schedule ) );
+            }
+        }
+        return dailyHoursDistribution;
+    }
+
     private void calculateTrendAnalysis(@NonNull ScheduleStats stats,
-                                        @NonNull Map<LocalDate, WorkScheduleDay> scheduleMap) {
+                                        @NonNull ScheduleStatsEngine.Summary summary,
+                                        @NonNull LocalDate startDate,
+                                        @NonNull LocalDate endDate) {
         try {
             // Simple trend analysis - could be expanded
-            List<LocalDate> sortedDates = new ArrayList<>( scheduleMap.keySet() );
-            sortedDates.sort( LocalDate::compareTo );
+            int dayCount = stats.totalDays;
 
-            if (sortedDates.size() >= 7) {
+            if (dayCount >= 7) {
                 // Compare first week vs last week
-                int weekSize = Math.min( 7, sortedDates.size() / 2 );
+                int weekSize = Math.min( 7, dayCount / 2 );
 
                 double firstWeekHours = 0.0;
                 double lastWeekHours = 0.0;
 
                 for (int i = 0; i < weekSize; i++) {
-                    WorkScheduleDay firstWeekDay = scheduleMap.get( sortedDates.get( i ) );
-                    if (firstWeekDay != null) {
-                        firstWeekHours += calculateDayHours( firstWeekDay );
-                    }
-
-                    int lastIndex = sortedDates.size() - 1 - i;
-                    WorkScheduleDay lastWeekDay = scheduleMap.get( sortedDates.get( lastIndex ) );
-                    if (lastWeekDay != null) {
-                        lastWeekHours += calculateDayHours( lastWeekDay );
-                    }
+                    firstWeekHours += summary.hoursAt( startDate.plusDays( i ) );
+                    lastWeekHours += summary.hoursAt( endDate.minusDays( i ) );
                 }
 
                 stats.trendAnalysis = String.format( QDue.getLocale(), "First week avg: %.1f hrs, Last week avg: %.1f hrs",
@@ -304,26 +290,7 @@ public class GetScheduleStatsUseCase {
     }
 
     private double calculateDayHours(@NonNull WorkScheduleDay schedule) {
-        return schedule.getWorkShifts().stream()
-                .mapToDouble( this::calculateShiftDuration )
-                .sum();
-    }
-
-    private double calculateShiftDuration(@NonNull net.calvuz.qdue.domain.calendar.models.WorkScheduleShift shift) {
-        try {
-            // Calculate duration in hours between start and end time
-            long minutes = java.time.Duration.between( shift.getStartTime(), shift.getEndTime() ).toMinutes();
-
-            // Handle overnight shifts
-            if (minutes < 0) {
-                minutes += 24 * 60; // Add 24 hours for overnight shifts
-            }
-
-            return minutes / 60.0;
-        } catch (Exception e) {
-            Log.w( TAG, "Error calculating shift duration, using 8 hours default" );
-            return 8.0; // Default fallback
-        }
+        return ScheduleStatsEngine.dayHours( schedule );
     }
 
     // ==================== VALIDATION LOGIC ====================
@@ -426,9 +393,9 @@ public class GetScheduleStatsUseCase {
         }
 
         // Check for reasonable date range
-        long daysDifference = java.time.temporal.ChronoUnit.DAYS.between( startDate, endDate );
-        if (daysDifference > 730) { // 2 years
-            return OperationResult.failure( "Analysis period cannot exceed 2 years", OperationResult.OperationType.VALIDATION );
+        long daysDifference = ChronoUnit.DAYS.between( startDate, endDate );
+        if (daysDifference > MAX_ANALYSIS_DAYS) {
+            return OperationResult.failure( "Analysis period cannot exceed " + MAX_ANALYSIS_YEARS + " years", OperationResult.OperationType.VALIDATION );
         }
 
         if (daysDifference < 0) {
@@ -436,7 +403,7 @@ public class GetScheduleStatsUseCase {
         }
 
         // Validate user ID if provided
-        if (userId.trim().isEmpty()) {
+        if (userId != null && userId.trim().isEmpty()) {
             return OperationResult.failure( "User ID cannot be empty", OperationResult.OperationType.VALIDATION );
         }
 
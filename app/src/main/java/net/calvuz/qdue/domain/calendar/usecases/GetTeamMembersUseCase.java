@@ -2,6 +2,7 @@ package net.calvuz.qdue.domain.calendar.usecases;
 
 import androidx.annotation.NonNull;
 
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.services.models.OperationResult;
 import net.calvuz.qdue.domain.calendar.models.Team;
 import net.calvuz.qdue.domain.calendar.models.UserTeamAssignment;
@@ -15,8 +16,7 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -29,7 +29,7 @@ public class GetTeamMembersUseCase {
     private final UserTeamAssignmentRepository mAssignmentRepository;
     private final QDueUserRepository mQDueUserRepository;
     private final TeamRepository mTeamRepository;
-    private final ExecutorService mExecutorService;
+    private final Executor mExecutor;
 
     public GetTeamMembersUseCase(@NonNull UserTeamAssignmentRepository assignmentRepository,
                                  @NonNull QDueUserRepository userRepository,
@@ -37,7 +37,7 @@ public class GetTeamMembersUseCase {
         this.mAssignmentRepository = assignmentRepository;
         this.mQDueUserRepository = userRepository;
         this.mTeamRepository = teamRepository;
-        this.mExecutorService = Executors.newSingleThreadExecutor();
+        this.mExecutor = AppExecutors.getInstance().reads();
     }
 
     /**
@@ -90,7 +90,7 @@ public class GetTeamMembersUseCase {
                 return OperationResult.failure("Failed to get team members: " + e.getMessage(),
                         OperationResult.OperationType.READ);
             }
-        }, mExecutorService);
+        }, mExecutor);
     }
 
     // ==================== INNER CLASSES ====================
@@ -151,8 +151,5 @@ public class GetTeamMembersUseCase {
         }
 
     public void shutdown() {
-        if (mExecutorService != null && !mExecutorService.isShutdown()) {
-            mExecutorService.shutdown();
-        }
     }
 }
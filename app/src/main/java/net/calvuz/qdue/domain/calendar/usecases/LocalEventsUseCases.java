@@ -6,10 +6,13 @@ import androidx.annotation.Nullable;
 import net.calvuz.qdue.core.services.models.OperationResult;
 import net.calvuz.qdue.domain.calendar.repositories.LocalEventsRepository;
 import net.calvuz.qdue.domain.calendar.models.LocalEvent;
+import net.calvuz.qdue.domain.calendar.models.LocalEventDaySummary;
+import net.calvuz.qdue.domain.calendar.models.LocalEventsFilter;
 import net.calvuz.qdue.domain.calendar.enums.EventType;
 import net.calvuz.qdue.domain.common.enums.Priority;
 import net.calvuz.qdue.ui.core.common.utils.Log;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.List;
@@ -165,6 +168,20 @@ public class LocalEventsUseCases
         return mRepository.getAllLocalEvents();
     }
 
+    /**
+     * Get a page of the events list, ordered by start time then ID.
+     *
+     * @param filter List criteria
+     * @param after Last event of the previous page, null for the first page
+     * @param limit Maximum number of events
+     * @return CompletableFuture with OperationResult containing the page events
+     */
+    @NonNull
+    public CompletableFuture<OperationResult<List<LocalEvent>>> getEventsPage(@NonNull LocalEventsFilter filter,
+                                                                             @Nullable LocalEvent after, int limit) {
+        return mRepository.getLocalEventsPage(filter, after, limit);
+    }
+
     /**
      * Get events for specific date.
      *
@@ -207,6 +224,32 @@ public class LocalEventsUseCases
         return getEventsForDateRange(startOfMonth, endOfMonth);
     }
 
+    /**
+     * Get per-day event summaries for entire month, for calendar grid indicators.
+     * Load the events of a day only when it is opened.
+     *
+     * @param yearMonth Target month
+     * @return CompletableFuture with OperationResult containing summaries of the days with events
+     */
+    @NonNull
+    public CompletableFuture<OperationResult<List<LocalEventDaySummary>>> getDaySummariesForMonth(@NonNull YearMonth yearMonth) {
+        Log.d(TAG, "Getting day summaries for month: " + yearMonth);
+        return mRepository.getDaySummariesForDateRange(yearMonth.atDay(1), yearMonth.atEndOfMonth());
+    }
+
+    /**
+     * Get per-day event summaries for date range.
+     *
+     * @param startDate Range start date (inclusive)
+     * @param endDate Range end date (inclusive)
+     * @return CompletableFuture with OperationResult containing summaries of the days with events
+     */
+    @NonNull
+    public CompletableFuture<OperationResult<List<LocalEventDaySummary>>> getDaySummariesForDateRange(
+            @NonNull LocalDate startDate, @NonNull LocalDate endDate) {
+        return mRepository.getDaySummariesForDateRange(startDate, endDate);
+    }
+
     /**
      * Get upcoming events from current time.
      *
@@ -435,6 +478,18 @@ public class LocalEventsUseCases
         return mRepository.getLocalEventsCount();
     }
 
+    /**
+     * Get count of the events matching a list filter.
+     *
+     * @param filter List criteria
+     * @return CompletableFuture with OperationResult containing matching event count
+     */
+    @NonNull
+    public CompletableFuture<OperationResult<Integer>> getEventsCount(@NonNull LocalEventsFilter filter) {
+        Log.d(TAG, "Getting events count: " + filter);
+        return mRepository.getLocalEventsCount(filter);
+    }
+
     /**
      * Get count of upcoming events.
      *
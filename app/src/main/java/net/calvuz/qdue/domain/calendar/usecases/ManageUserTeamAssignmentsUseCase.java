@@ -4,7 +4,6 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import net.calvuz.qdue.core.services.models.OperationResult;
-import net.calvuz.qdue.domain.calendar.models.Team;
 import net.calvuz.qdue.domain.calendar.models.UserTeamAssignment;
 import net.calvuz.qdue.domain.calendar.repositories.TeamRepository;
 import net.calvuz.qdue.domain.calendar.repositories.UserTeamAssignmentRepository;
@@ -15,8 +14,6 @@ import net.calvuz.qdue.ui.core.common.utils.Log;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 /**
@@ -46,7 +43,6 @@ public class ManageUserTeamAssignmentsUseCase {
     private final UserTeamAssignmentRepository mAssignmentRepository;
     private final QDueUserRepository qDueUserRepository;
     private final TeamRepository mTeamRepository;
-    private final ExecutorService mExecutorService;
 
     // ==================== CONSTRUCTOR ====================
 
@@ -56,7 +52,6 @@ public class ManageUserTeamAssignmentsUseCase {
         this.mAssignmentRepository = assignmentRepository;
         this.qDueUserRepository = userRepository;
         this.mTeamRepository = teamRepository;
-        this.mExecutorService = Executors.newCachedThreadPool();
     }
 
     // ==================== ASSIGNMENT CREATION ====================
@@ -80,44 +75,38 @@ public class ManageUserTeamAssignmentsUseCase {
             @Nullable String title,
             @Nullable String assignedByUserId) {
 
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                Log.d(TAG, "Creating assignment: user=" + userId + ", team=" + teamId + ", start=" + startDate);
+        Log.d(TAG, "Creating assignment: user=" + userId + ", team=" + teamId + ", start=" + startDate);
 
-                // 1. Validate user exists
-                QDueUser user = qDueUserRepository.readUser(userId).get().getData();
-                if (user == null) {
-                    return OperationResult.failure("User not found: " + userId,
-                            OperationResult.OperationType.CREATE);
-                }
-
-                // 2. Validate team exists
-                Team team = mTeamRepository.getTeamById(teamId).get();
-                if (team == null) {
-                    return OperationResult.failure("Team not found: " + teamId,
-                            OperationResult.OperationType.CREATE);
-                }
-
-                // 3. Create assignment with computed status
-                UserTeamAssignment assignment = UserTeamAssignment.builder()
-                        .userID(userId)
-                        .teamID(teamId)
-                        .startDate(startDate)
-                        .endDate(endDate)
-                        .title(title != null ? title : "Assignment: " + user.getDisplayName() + " → " + team.getName())
-                        .assignedByUserID(assignedByUserId)
-                        .computeStatus()
-                        .build();
-
-                // 4. Create assignment through repository (includes validation)
-                return mAssignmentRepository.createAssignment(assignment).get();
-
-            } catch (Exception e) {
-                Log.e(TAG, "Error creating assignment", e);
-                return OperationResult.failure("Failed to create assignment: " + e.getMessage(),
-                        OperationResult.OperationType.CREATE);
+        // 1. Validate user and team exist (both lookups run concurrently on the reads lane)
+        return qDueUserRepository.readUser(userId).thenCombine(mTeamRepository.getTeamById(teamId), (userResult, team) -> {
+            QDueUser user = userResult.getData();
+            if (user == null) {
+                return CompletableFuture.completedFuture(OperationResult.<UserTeamAssignment>failure(
+                        "User not found: " + userId, OperationResult.OperationType.CREATE));
+            }
+            if (team == null) {
+                return CompletableFuture.completedFuture(OperationResult.<UserTeamAssignment>failure(
+                        "Team not found: " + teamId, OperationResult.OperationType.CREATE));
             }
-        }, mExecutorService);
+
+            // 2. Create assignment with computed status
+            UserTeamAssignment assignment = UserTeamAssignment.builder()
+                    .userID(userId)
+                    .teamID(teamId)
+                    .startDate(startDate)
+                    .endDate(endDate)
+                    .title(title != null ? title : "Assignment: " + user.getDisplayName() + " → " + team.getName())
+                    .assignedByUserID(assignedByUserId)
+                    .computeStatus()
+                    .build();
+
+            // 3. Create assignment through repository (includes validation, runs on the writes lane)
+            return mAssignmentRepository.createAssignment(assignment);
+        }).thenCompose(created -> created).exceptionally(e -> {
+            Log.e(TAG, "Error creating assignment", e);
+            return OperationResult.failure("Failed to create assignment: " + e.getMessage(),
+                    OperationResult.OperationType.CREATE);
+        });
     }
 
     /**
@@ -129,47 +118,42 @@ public class ManageUserTeamAssignmentsUseCase {
     public CompletableFuture<OperationResult<List<UserTeamAssignment>>> createBulkAssignments(
             @NonNull List<AssignmentCreationRequest> assignmentRequests) {
 
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                Log.d(TAG, "Creating " + assignmentRequests.size() + " assignments in bulk");
-
-                // 1. Validate all users and teams exist
-                for (AssignmentCreationRequest request : assignmentRequests) {
-                    QDueUser user = qDueUserRepository.readUser(request.userId).get().getData();
-                    if (user == null) {
-                        return OperationResult.failure("User not found: " + request.userId,
-                                OperationResult.OperationType.READ);
-                    }
+        Log.d(TAG, "Creating " + assignmentRequests.size() + " assignments in bulk");
 
-                    Team team = mTeamRepository.getTeamById(request.teamId).get();
-                    if (team == null) {
-                        return OperationResult.failure("Team not found: " + request.teamId,
-                                OperationResult.OperationType.READ);
-                    }
-                }
+        // 1. Validate all users and teams exist, one request at a time
+        CompletableFuture<String> validation = CompletableFuture.completedFuture(null);
+        for (AssignmentCreationRequest request : assignmentRequests) {
+            validation = validation.thenCompose(error -> error != null
+                    ? CompletableFuture.completedFuture(error)
+                    : findMissingUserOrTeam(request.userId, request.teamId));
+        }
 
-                // 2. Build assignments
-                List<UserTeamAssignment> assignments = assignmentRequests.stream()
-                        .map(request -> UserTeamAssignment.builder()
-                                .userID(request.userId)
-                                .teamID(request.teamId)
-                                .startDate(request.startDate)
-                                .endDate(request.endDate)
-                                .title(request.title)
-                                .assignedByUserID(request.assignedByUserId)
-                                .computeStatus()
-                                .build())
-                        .collect(Collectors.toList());
-
-                // 3. Create all assignments
-                return mAssignmentRepository.createAssignments(assignments).get();
-
-            } catch (Exception e) {
-                Log.e(TAG, "Error creating bulk assignments", e);
-                return OperationResult.failure("Failed to create bulk assignments: " + e.getMessage(),
-                        OperationResult.OperationType.CREATE);
+        return validation.thenCompose(error -> {
+            if (error != null) {
+                return CompletableFuture.completedFuture(OperationResult.<List<UserTeamAssignment>>failure(
+                        error, OperationResult.OperationType.READ));
             }
-        }, mExecutorService);
+
+            // 2. Build assignments
+            List<UserTeamAssignment> assignments = assignmentRequests.stream()
+                    .map(request -> UserTeamAssignment.builder()
+                            .userID(request.userId)
+                            .teamID(request.teamId)
+                            .startDate(request.startDate)
+                            .endDate(request.endDate)
+                            .title(request.title)
+                            .assignedByUserID(request.assignedByUserId)
+                            .computeStatus()
+                            .build())
+                    .collect(Collectors.toList());
+
+            // 3. Create all assignments
+            return mAssignmentRepository.createAssignments(assignments);
+        }).exceptionally(e -> {
+            Log.e(TAG, "Error creating bulk assignments", e);
+            return OperationResult.failure("Failed to create bulk assignments: " + e.getMessage(),
+                    OperationResult.OperationType.CREATE);
+        });
     }
 
     // ==================== ASSIGNMENT MANAGEMENT ====================
@@ -191,46 +175,43 @@ public class ManageUserTeamAssignmentsUseCase {
             @Nullable String newTitle,
             @Nullable String modifiedByUserId) {
 
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                Log.d(TAG, "Updating assignment: " + assignmentId);
-
-                // 1. Get existing assignment
-                UserTeamAssignment existing = mAssignmentRepository.getAssignmentById(assignmentId).get().getData();
-                if (existing == null) {
-                    return OperationResult.failure("Assignment not found: " + assignmentId,
-                            OperationResult.OperationType.READ);
-                }
-
-                // 2. Build updated assignment
-                UserTeamAssignment.Builder builder = UserTeamAssignment.builder()
-                        .copyFrom(existing)
-                        .lastModifiedByUserId(modifiedByUserId)
-                        .updatedAt(System.currentTimeMillis());
-
-                if (newStartDate != null) {
-                    builder.startDate(newStartDate);
-                }
-                if (newEndDate != null) {
-                    builder.endDate(newEndDate);
-                }
-                if (newTitle != null) {
-                    builder.title(newTitle);
-                }
+        Log.d(TAG, "Updating assignment: " + assignmentId);
 
-                UserTeamAssignment updatedAssignment = builder
-                        .computeStatus()
-                        .build();
+        // 1. Get existing assignment
+        return mAssignmentRepository.getAssignmentById(assignmentId).thenCompose(existingResult -> {
+            UserTeamAssignment existing = existingResult.getData();
+            if (existing == null) {
+                return CompletableFuture.completedFuture(OperationResult.<UserTeamAssignment>failure(
+                        "Assignment not found: " + assignmentId, OperationResult.OperationType.READ));
+            }
 
-                // 3. Update through repository
-                return mAssignmentRepository.updateAssignment(updatedAssignment).get();
+            // 2. Build updated assignment
+            UserTeamAssignment.Builder builder = UserTeamAssignment.builder()
+                    .copyFrom(existing)
+                    .lastModifiedByUserId(modifiedByUserId)
+                    .updatedAt(System.currentTimeMillis());
 
-            } catch (Exception e) {
-                Log.e(TAG, "Error updating assignment", e);
-                return OperationResult.failure("Failed to update assignment: " + e.getMessage(),
-                        OperationResult.OperationType.UPDATE);
+            if (newStartDate != null) {
+                builder.startDate(newStartDate);
+            }
+            if (newEndDate != null) {
+                builder.endDate(newEndDate);
             }
-        }, mExecutorService);
+            if (newTitle != null) {
+                builder.title(newTitle);
+            }
+
+            UserTeamAssignment updatedAssignment = builder
+                    .computeStatus()
+                    .build();
+
+            // 3. Update through repository (runs on the writes lane)
+            return mAssignmentRepository.updateAssignment(updatedAssignment);
+        }).exceptionally(e -> {
+            Log.e(TAG, "Error updating assignment", e);
+            return OperationResult.failure("Failed to update assignment: " + e.getMessage(),
+                    OperationResult.OperationType.UPDATE);
+        });
     }
 
     /**
@@ -251,60 +232,76 @@ public class ManageUserTeamAssignmentsUseCase {
             @NonNull LocalDate transferDate,
             @Nullable String transferByUserId) {
 
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                Log.d(TAG, "Transferring user " + userId + " from team " + fromTeamId + " to team " + toTeamId);
+        Log.d(TAG, "Transferring user " + userId + " from team " + fromTeamId + " to team " + toTeamId);
 
-                // 1. Get current assignment
-                UserTeamAssignment currentAssignment = mAssignmentRepository
-                        .getUserTeamAssignment(userId, fromTeamId, transferDate.minusDays(1))
-                        .get().getData();
-
-                if (currentAssignment == null) {
-                    return OperationResult.failure("No current assignment found for user in source team",
-                            OperationResult.OperationType.READ);
-                }
+        // 1. Get current assignment
+        LocalDate endDate = transferDate.minusDays(1);
+        return mAssignmentRepository.getUserTeamAssignment(userId, fromTeamId, endDate).thenCompose(currentResult -> {
+            UserTeamAssignment currentAssignment = currentResult.getData();
+            if (currentAssignment == null) {
+                return CompletableFuture.completedFuture(OperationResult.<TeamTransferResult>failure(
+                        "No current assignment found for user in source team", OperationResult.OperationType.READ));
+            }
 
-                // 2. End current assignment
-                LocalDate endDate = transferDate.minusDays(1);
-                UserTeamAssignment endedAssignment = UserTeamAssignment.builder()
-                        .copyFrom(currentAssignment)
-                        .endDate(endDate)
-                        .lastModifiedByUserId(transferByUserId)
-                        .computeStatus()
-                        .build();
+            // 2. End current assignment
+            UserTeamAssignment endedAssignment = UserTeamAssignment.builder()
+                    .copyFrom(currentAssignment)
+                    .endDate(endDate)
+                    .lastModifiedByUserId(transferByUserId)
+                    .computeStatus()
+                    .build();
 
-                OperationResult<UserTeamAssignment> endResult = mAssignmentRepository.updateAssignment(endedAssignment).get();
+            return mAssignmentRepository.updateAssignment(endedAssignment).thenCompose(endResult -> {
                 if (!endResult.isSuccess()) {
-                    return OperationResult.failure("Failed to end current assignment: " + endResult.getErrorMessage(),
-                            OperationResult.OperationType.UPDATE);
+                    return CompletableFuture.completedFuture(OperationResult.<TeamTransferResult>failure(
+                            "Failed to end current assignment: " + endResult.getErrorMessage(),
+                            OperationResult.OperationType.UPDATE));
                 }
 
                 // 3. Create new assignment
-                OperationResult<UserTeamAssignment> createResult = createAssignment(
+                return createAssignment(
                         userId, toTeamId, transferDate, null,
                         "Transfer from " + fromTeamId, transferByUserId
-                ).get();
+                ).thenApply(createResult -> {
+                    if (!createResult.isSuccess()) {
+                        return OperationResult.<TeamTransferResult>failure(
+                                "Failed to create new assignment: " + createResult.getErrorMessage(),
+                                OperationResult.OperationType.CREATE);
+                    }
 
-                if (!createResult.isSuccess()) {
-                    return OperationResult.failure("Failed to create new assignment: " + createResult.getErrorMessage(),
-                            OperationResult.OperationType.CREATE);
-                }
+                    // 4. Return transfer result
+                    TeamTransferResult transferResult = new TeamTransferResult(
+                            endResult.getData(), createResult.getData(), transferDate);
 
-                // 4. Return transfer result
-                TeamTransferResult transferResult = new TeamTransferResult(
-                        endResult.getData(), createResult.getData(), transferDate);
+                    Log.d(TAG, "✅ User transfer completed successfully");
+                    return OperationResult.success(transferResult,
+                            OperationResult.OperationType.UPDATE);
+                });
+            });
+        }).exceptionally(e -> {
+            Log.e(TAG, "Error transferring user to team", e);
+            return OperationResult.failure("Failed to transfer user: " + e.getMessage(),
+                    OperationResult.OperationType.UPDATE);
+        });
+    }
 
-                Log.d(TAG, "✅ User transfer completed successfully");
-                return OperationResult.success(transferResult,
-                        OperationResult.OperationType.UPDATE);
+    // ==================== HELPERS ====================
 
-            } catch (Exception e) {
-                Log.e(TAG, "Error transferring user to team", e);
-                return OperationResult.failure("Failed to transfer user: " + e.getMessage(),
-                        OperationResult.OperationType.UPDATE);
+    /**
+     * Look up a user and a team concurrently.
+     *
+     * @return Future with the reason the pair is invalid, or null if both exist
+     */
+    private CompletableFuture<String> findMissingUserOrTeam(@NonNull String userId, @NonNull String teamId) {
+        return qDueUserRepository.readUser(userId).thenCombine(mTeamRepository.getTeamById(teamId), (userResult, team) -> {
+            if (userResult.getData() == null) {
+                return "User not found: " + userId;
             }
-        }, mExecutorService);
+            if (team == null) {
+                return "Team not found: " + teamId;
+            }
+            return null;
+        });
     }
 
     // ==================== INNER CLASSES ====================
@@ -366,8 +363,5 @@ public class ManageUserTeamAssignmentsUseCase {
     // ==================== CLEANUP ====================
 
     public void shutdown() {
-        if (mExecutorService != null && !mExecutorService.isShutdown()) {
-            mExecutorService.shutdown();
-        }
     }
 }
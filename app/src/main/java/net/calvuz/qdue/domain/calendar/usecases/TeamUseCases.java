@@ -2,14 +2,14 @@ package net.calvuz.qdue.domain.calendar.usecases;
 
 import androidx.annotation.NonNull;
 
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.services.models.OperationResult;
 import net.calvuz.qdue.domain.calendar.models.Team;
 import net.calvuz.qdue.domain.calendar.repositories.TeamRepository;
 import net.calvuz.qdue.ui.core.common.utils.Log;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 
 public class TeamUseCases {
 
@@ -17,14 +17,14 @@ public class TeamUseCases {
     private static final String TAG = "TeamUseCases";
 
     // Executor
-    private final ExecutorService mExecutorService;
+    private final Executor mExecutor;
 
     // Dependencies
     private final TeamRepository teamRepository;
 
     public TeamUseCases(@NonNull TeamRepository teamRepository) {
         this.teamRepository = teamRepository;
-        this.mExecutorService = Executors.newCachedThreadPool();
+        this.mExecutor = AppExecutors.getInstance().reads();
     }
 
     /**
@@ -42,7 +42,7 @@ public class TeamUseCases {
                     return OperationResult.failure( "Team not found", OperationResult.OperationType.READ );
                 }
                 return OperationResult.success( result, OperationResult.OperationType.READ );
-            }, mExecutorService);
+            }, mExecutor);
         }
     }
 
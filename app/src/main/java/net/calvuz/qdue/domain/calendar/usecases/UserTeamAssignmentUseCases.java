@@ -3,6 +3,7 @@ package net.calvuz.qdue.domain.calendar.usecases;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.services.models.OperationResult;
 import net.calvuz.qdue.domain.calendar.models.Team;
 import net.calvuz.qdue.domain.calendar.models.UserTeamAssignment;
@@ -16,8 +17,7 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 public class UserTeamAssignmentUseCases {
@@ -26,7 +26,7 @@ public class UserTeamAssignmentUseCases {
     private static final String TAG = "UserTeamAssignmentUseCases";
 
     // Executor
-    private final ExecutorService mExecutorService;
+    private final Executor mExecutor;
 
     // ==================== DEPENDENCIES ====================
 
@@ -52,7 +52,7 @@ public class UserTeamAssignmentUseCases {
         this.mTeamRepository = teamRepository;
 
         // Threads
-        this.mExecutorService = Executors.newCachedThreadPool();
+        this.mExecutor = AppExecutors.getInstance().reads();
     }
 
     /**
@@ -87,7 +87,7 @@ public class UserTeamAssignmentUseCases {
                     return OperationResult.failure( "Failed to get user team assignment: " + e.getMessage(),
                             OperationResult.OperationType.READ );
                 }
-            }, mExecutorService );
+            }, mExecutor );
         }
     }
 
@@ -130,7 +130,7 @@ public class UserTeamAssignmentUseCases {
                     return OperationResult.failure( "Failed to get user team assignment: " + e.getMessage(),
                             OperationResult.OperationType.READ );
                 }
-            }, mExecutorService );
+            }, mExecutor );
         }
     }
 
@@ -159,45 +159,39 @@ public class UserTeamAssignmentUseCases {
                 @Nullable LocalDate endDate,
                 @Nullable String title,
                 @Nullable String assignedByUserID) {
-            return CompletableFuture.supplyAsync( () -> {
-                try {
-                    Log.d( TAG, "Creating assignment: user=" + userID + ", team=" + teamID + ", start=" + startDate );
-
-                    // 1. Validate user exists
-                    QDueUser user = mQDueUserRepository.readUser( userID ).get().getData();
-                    if (user == null) {
-                        return OperationResult.failure( "User not found: " + userID,
-                                OperationResult.OperationType.CREATE );
-                    }
-
-                    // 2. Validate team exists
-                    Team team = mTeamRepository.getTeamById( teamID ).get();
-                    if (team == null) {
-                        return OperationResult.failure( "Team not found: " + teamID,
-                                OperationResult.OperationType.CREATE );
-                    }
-
-                    // 3. Create assignment with computed status
-                    UserTeamAssignment assignment = UserTeamAssignment.builder()
-                            .userID( userID )
-                            .teamID( teamID )
-                            .startDate( startDate )
-                            .endDate( endDate )
-                            .title( title != null ? title : user.getDisplayName() + " → " + team.getName() )
-                            .notes( "CreateUserTeamAssignmentUseCase" )
-                            .assignedByUserID( assignedByUserID == null ? userID : assignedByUserID )
-                            .computeStatus()
-                            .build();
-
-                    // 4. Create assignment through repository (includes validation)
-                    Log.d( TAG, "✅ Assignment created successfully" );
-                    return mAssignmentRepository.createAssignment( assignment ).get();
-                } catch (Exception e) {
-                    Log.e( TAG, "Error creating assignment", e );
-                    return OperationResult.failure( "Failed to create assignment: " + e.getMessage(),
-                            OperationResult.OperationType.CREATE );
+            Log.d( TAG, "Creating assignment: user=" + userID + ", team=" + teamID + ", start=" + startDate );
+
+            // 1. Validate user and team exist (both lookups run concurrently on the reads lane)
+            return mQDueUserRepository.readUser( userID ).thenCombine( mTeamRepository.getTeamById( teamID ), ( userResult, team ) -> {
+                QDueUser user = userResult.getData();
+                if (user == null) {
+                    return CompletableFuture.completedFuture( OperationResult.<UserTeamAssignment>failure(
+                            "User not found: " + userID, OperationResult.OperationType.CREATE ) );
                 }
-            }, mExecutorService );
+                if (team == null) {
+                    return CompletableFuture.completedFuture( OperationResult.<UserTeamAssignment>failure(
+                            "Team not found: " + teamID, OperationResult.OperationType.CREATE ) );
+                }
+
+                // 2. Create assignment with computed status
+                UserTeamAssignment assignment = UserTeamAssignment.builder()
+                        .userID( userID )
+                        .teamID( teamID )
+                        .startDate( startDate )
+                        .endDate( endDate )
+                        .title( title != null ? title : user.getDisplayName() + " → " + team.getName() )
+                        .notes( "CreateUserTeamAssignmentUseCase" )
+                        .assignedByUserID( assignedByUserID == null ? userID : assignedByUserID )
+                        .computeStatus()
+                        .build();
+
+                // 3. Create assignment through repository (includes validation, runs on the writes lane)
+                return mAssignmentRepository.createAssignment( assignment );
+            } ).thenCompose( created -> created ).exceptionally( e -> {
+                Log.e( TAG, "Error creating assignment", e );
+                return OperationResult.failure( "Failed to create assignment: " + e.getMessage(),
+                        OperationResult.OperationType.CREATE );
+            } );
         }
     }
 
@@ -222,45 +216,43 @@ public class UserTeamAssignmentUseCases {
                 @Nullable String newTitle,
                 @NonNull String modifiedByUserId) {
 
-            return CompletableFuture.supplyAsync( () -> {
-                try {
-                    Log.d( TAG, "Updating assignment: " + assignmentId );
-
-                    // 1. Get existing assignment
-                    UserTeamAssignment existing = mAssignmentRepository.getAssignmentById( assignmentId ).get().getData();
-                    if (existing == null) {
-                        return OperationResult.failure( "Assignment not found: " + assignmentId,
-                                OperationResult.OperationType.READ );
-                    }
-
-                    // 2. Build updated assignment
-                    UserTeamAssignment.Builder builder = UserTeamAssignment.builder()
-                            .copyFrom( existing )
-                            .lastModifiedByUserId( modifiedByUserId )
-                            .updatedAt( System.currentTimeMillis() );
+            Log.d( TAG, "Updating assignment: " + assignmentId );
 
-                    if (newStartDate != null) {
-                        builder.startDate( newStartDate );
-                    }
-                    if (newEndDate != null) {
-                        builder.endDate( newEndDate );
-                    }
-                    if (newTitle != null) {
-                        builder.title( newTitle );
-                    }
+            // 1. Get existing assignment
+            return mAssignmentRepository.getAssignmentById( assignmentId ).thenCompose( existingResult -> {
+                UserTeamAssignment existing = existingResult.getData();
+                if (existing == null) {
+                    return CompletableFuture.completedFuture( OperationResult.<UserTeamAssignment>failure(
+                            "Assignment not found: " + assignmentId, OperationResult.OperationType.READ ) );
+                }
 
-                    UserTeamAssignment updatedAssignment = builder
-                            .computeStatus()
-                            .build();
+                // 2. Build updated assignment
+                UserTeamAssignment.Builder builder = UserTeamAssignment.builder()
+                        .copyFrom( existing )
+                        .lastModifiedByUserId( modifiedByUserId )
+                        .updatedAt( System.currentTimeMillis() );
 
-                    // 3. Update through repository
-                    return mAssignmentRepository.updateAssignment( updatedAssignment ).get();
-                } catch (Exception e) {
-                    Log.e( TAG, "Error updating assignment", e );
-                    return OperationResult.failure( "Failed to update assignment: " + e.getMessage(),
-                            OperationResult.OperationType.UPDATE );
+                if (newStartDate != null) {
+                    builder.startDate( newStartDate );
+                }
+                if (newEndDate != null) {
+                    builder.endDate( newEndDate );
+                }
+                if (newTitle != null) {
+                    builder.title( newTitle );
                 }
-            }, mExecutorService );
+
+                UserTeamAssignment updatedAssignment = builder
+                        .computeStatus()
+                        .build();
+
+                // 3. Update through repository (runs on the writes lane)
+                return mAssignmentRepository.updateAssignment( updatedAssignment );
+            } ).exceptionally( e -> {
+                Log.e( TAG, "Error updating assignment", e );
+                return OperationResult.failure( "Failed to update assignment: " + e.getMessage(),
+                        OperationResult.OperationType.UPDATE );
+            } );
         }
     }
 
@@ -286,59 +278,57 @@ public class UserTeamAssignmentUseCases {
                 @NonNull LocalDate transferDate,
                 @Nullable String transferByUserId) {
 
-            return CompletableFuture.supplyAsync( () -> {
-                try {
-                    Log.d( TAG, "Transferring user " + userId + " from team " + fromTeamId + " to team " + toTeamId );
+            Log.d( TAG, "Transferring user " + userId + " from team " + fromTeamId + " to team " + toTeamId );
 
-                    // 1. Get current assignment
-                    UserTeamAssignment currentAssignment = mAssignmentRepository
-                            .getUserTeamAssignment( userId, fromTeamId, transferDate.minusDays( 1 ) )
-                            .get().getData();
-
-                    if (currentAssignment == null) {
-                        return OperationResult.failure( "No current assignment found for user in source team",
-                                OperationResult.OperationType.READ );
-                    }
+            // 1. Get current assignment
+            LocalDate endDate = transferDate.minusDays( 1 );
+            return mAssignmentRepository.getUserTeamAssignment( userId, fromTeamId, endDate ).thenCompose( currentResult -> {
+                UserTeamAssignment currentAssignment = currentResult.getData();
+                if (currentAssignment == null) {
+                    return CompletableFuture.completedFuture( OperationResult.<TeamTransferResult>failure(
+                            "No current assignment found for user in source team", OperationResult.OperationType.READ ) );
+                }
 
-                    // 2. End current assignment
-                    LocalDate endDate = transferDate.minusDays( 1 );
-                    UserTeamAssignment endedAssignment = UserTeamAssignment.builder()
-                            .copyFrom( currentAssignment )
-                            .endDate( endDate )
-                            .lastModifiedByUserId( transferByUserId )
-                            .computeStatus()
-                            .build();
+                // 2. End current assignment
+                UserTeamAssignment endedAssignment = UserTeamAssignment.builder()
+                        .copyFrom( currentAssignment )
+                        .endDate( endDate )
+                        .lastModifiedByUserId( transferByUserId )
+                        .computeStatus()
+                        .build();
 
-                    OperationResult<UserTeamAssignment> endResult = mAssignmentRepository.updateAssignment( endedAssignment ).get();
+                return mAssignmentRepository.updateAssignment( endedAssignment ).thenCompose( endResult -> {
                     if (!endResult.isSuccess()) {
-                        return OperationResult.failure( "Failed to end current assignment: " + endResult.getErrorMessage(),
-                                OperationResult.OperationType.UPDATE );
+                        return CompletableFuture.completedFuture( OperationResult.<TeamTransferResult>failure(
+                                "Failed to end current assignment: " + endResult.getErrorMessage(),
+                                OperationResult.OperationType.UPDATE ) );
                     }
 
                     // 3. Create new assignment
-                    OperationResult<UserTeamAssignment> createResult = getCreateUserTeamAssignmentUseCase().execute(
+                    return getCreateUserTeamAssignmentUseCase().execute(
                             userId, toTeamId, transferDate, null,
                             "Transfer from " + fromTeamId, transferByUserId
-                    ).get();
-
-                    if (!createResult.isSuccess()) {
-                        return OperationResult.failure( "Failed to create new assignment: " + createResult.getErrorMessage(),
-                                OperationResult.OperationType.CREATE );
-                    }
+                    ).thenApply( createResult -> {
+                        if (!createResult.isSuccess()) {
+                            return OperationResult.<TeamTransferResult>failure(
+                                    "Failed to create new assignment: " + createResult.getErrorMessage(),
+                                    OperationResult.OperationType.CREATE );
+                        }
 
-                    // 4. Return transfer result
-                    TeamTransferResult transferResult = new TeamTransferResult(
-                            endResult.getData(), createResult.getData(), transferDate );
+                        // 4. Return transfer result
+                        TeamTransferResult transferResult = new TeamTransferResult(
+                                endResult.getData(), createResult.getData(), transferDate );
 
-                    Log.d( TAG, "✅ User transfer completed successfully" );
-                    return OperationResult.success( transferResult,
-                            OperationResult.OperationType.UPDATE );
-                } catch (Exception e) {
-                    Log.e( TAG, "Error transferring user to team", e );
-                    return OperationResult.failure( "Failed to transfer user: " + e.getMessage(),
-                            OperationResult.OperationType.UPDATE );
-                }
-            }, mExecutorService );
+                        Log.d( TAG, "✅ User transfer completed successfully" );
+                        return OperationResult.success( transferResult,
+                                OperationResult.OperationType.UPDATE );
+                    } );
+                } );
+            } ).exceptionally( e -> {
+                Log.e( TAG, "Error transferring user to team", e );
+                return OperationResult.failure( "Failed to transfer user: " + e.getMessage(),
+                        OperationResult.OperationType.UPDATE );
+            } );
         }
 
         /**
@@ -423,7 +413,7 @@ public class UserTeamAssignmentUseCases {
                     return OperationResult.failure( "Failed to get team members: " + e.getMessage(),
                             OperationResult.OperationType.READ );
                 }
-            }, mExecutorService );
+            }, mExecutor );
         }
 
         // ==================== INNER CLASSES ====================
@@ -542,8 +532,5 @@ public class UserTeamAssignmentUseCases {
     // ==================== CLEANUP ====================
 
     public void shutdown() {
-        if (mExecutorService != null && !mExecutorService.isShutdown()) {
-            mExecutorService.shutdown();
-        }
     }
 }
@@ -12,6 +12,7 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
 
 import net.calvuz.qdue.QDue;
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.db.QDueDatabase;
 import net.calvuz.qdue.events.dao.EventDao;
 import net.calvuz.qdue.events.models.EventPriority;
@@ -32,8 +33,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 
 import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLContext;
@@ -51,7 +51,7 @@ public class EventPackageManager {
     private final SharedPreferences mPreferences;
     private final EventDao mEventDao; // database DAO
     private final Gson mGson;
-    private final ExecutorService mExecutor; // Executor
+    private final Executor mExecutor; // Bulk lane
 
     // SSL Configuration
     private static final int CONNECT_TIMEOUT = 15000; // 15 seconds
@@ -69,7 +69,7 @@ public class EventPackageManager {
         mGson = new GsonBuilder()
                 .setDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'")
                 .create();
-        mExecutor = Executors.newSingleThreadExecutor();
+        mExecutor = AppExecutors.getInstance().bulk();
     }
 
     /**
@@ -84,7 +84,7 @@ public class EventPackageManager {
         // Validate SSL setting
         boolean sslValidation = mPreferences.getBoolean("events_ssl_validation", true);
 
-        // Execute in background thread using ExecutorService
+        // Execute on the shared bulk lane
         mExecutor.execute(() -> {
             try {
                 UpdateResult result = downloadAndParsePackage(url, packageId, sslValidation);
@@ -341,10 +341,8 @@ public class EventPackageManager {
      * Cleanup resources when manager is no longer needed
      */
     public void cleanup() {
-        if (mExecutor != null && !mExecutor.isShutdown()) {
-            mExecutor.shutdown();
-            Log.d(TAG, "ExecutorService shutdown");
-        }
+        // The bulk lane is shared application-wide and is not shut down here
+        Log.d(TAG, "EventPackageManager cleanup");
     }
 
     // ==================== INTERFACES AND CALLBACKS ====================
@@ -436,7 +434,7 @@ public class EventPackageManager {
                                      FileImportCallback callback) {
         Log.d(TAG, "Starting JSON string import from: " + sourceDescription);
 
-        // Execute in background thread using existing ExecutorService
+        // Execute on the shared bulk lane
         mExecutor.execute(() -> {
             try {
                 // Step 1: Validate JSON content
@@ -705,7 +703,7 @@ public class EventPackageManager {
         info.append("EventPackageManager Import Debug Info:\n");
         info.append("• SSL Validation: ").append(mPreferences.getBoolean("events_ssl_validation", true)).append("\n");
         info.append("• Total Events in DB: ").append(mEventDao.getAllEvents().size()).append("\n");
-        info.append("• Executor Status: ").append(mExecutor.isShutdown() ? "Shutdown" : "Active").append("\n");
+        info.append("• Executor Status: ").append(AppExecutors.getInstance().bulk().getMetrics()).append("\n");
         info.append("• Context: ").append(mContext.getClass().getSimpleName()).append("\n");
         return info.toString();
     }
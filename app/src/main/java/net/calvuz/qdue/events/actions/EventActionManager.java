@@ -2,6 +2,7 @@ package net.calvuz.qdue.events.actions;
 
 import static net.calvuz.qdue.events.metadata.EventMetadataManager.deriveEventActionFromEvent;
 
+import net.calvuz.qdue.core.common.intervals.IntervalIndex;
 import net.calvuz.qdue.events.dao.EventDao;
 import net.calvuz.qdue.events.metadata.EventMetadataManager;
 import net.calvuz.qdue.events.models.LocalEvent;
@@ -170,6 +171,29 @@ public class EventActionManager {
         }
     }
 
+    /**
+     * Check for conflicting events on the same date, using an index built for a date range.
+     */
+    public static boolean hasConflictingEvents(EventAction action, LocalDate date, IntervalIndex<LocalEvent> eventIndex) {
+        return hasActionConflicts(action, getEventsForDate(eventIndex, date));
+    }
+
+    /**
+     * Load the events of a date range once and index them, so conflicts of many dates
+     * can be checked without a query per date.
+     */
+    public static IntervalIndex<LocalEvent> buildEventIndex(LocalDate startDate, LocalDate endDate, EventDao eventDao) {
+        List<LocalEvent> events = eventDao.getEventsForDateRange(startDate.atStartOfDay(), endDate.atTime(23, 59, 59));
+        return IntervalIndex.of(events, LocalEvent::getStartTime, LocalEvent::getEndTime);
+    }
+
+    /**
+     * Get the indexed events on a date, same range as {@link EventDao#getEventsForDate}.
+     */
+    public static List<LocalEvent> getEventsForDate(IntervalIndex<LocalEvent> eventIndex, LocalDate date) {
+        return eventIndex.findIntersecting(date.atStartOfDay(), date.atTime(23, 59, 59));
+    }
+
     /**
      * Analyze conflicts between EventAction and existing events.
      */
@@ -214,6 +238,17 @@ public class EventActionManager {
      */
     public static ConflictAnalysis analyzeConflicts(EventAction action, LocalDate date, Long userId, EventDao eventDao) {
         List<LocalEvent> existingEvents = eventDao.getEventsForDate(date.atStartOfDay(), date.atTime(23, 59, 59));
+        return analyzeConflicts(action, existingEvents);
+    }
+
+    /**
+     * Get detailed conflict information for user feedback, using an index built for a date range.
+     */
+    public static ConflictAnalysis analyzeConflicts(EventAction action, LocalDate date, IntervalIndex<LocalEvent> eventIndex) {
+        return analyzeConflicts(action, getEventsForDate(eventIndex, date));
+    }
+
+    private static ConflictAnalysis analyzeConflicts(EventAction action, List<LocalEvent> existingEvents) {
         List<EventConflict> conflicts = new ArrayList<>();
 
         for (LocalEvent existingEvent : existingEvents) {
@@ -1,17 +1,28 @@
 package net.calvuz.qdue.events.dao;
 
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.room.Dao;
 import androidx.room.Delete;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
+import androidx.room.TypeConverters;
 import androidx.room.Update;
 
+import net.calvuz.qdue.core.db.converters.EpochTypeConverters;
+import net.calvuz.qdue.core.db.search.FtsMatch;
+import net.calvuz.qdue.core.db.search.FtsSearch;
+import net.calvuz.qdue.events.models.EventDaySummary;
+import net.calvuz.qdue.events.models.EventsFilter;
 import net.calvuz.qdue.events.models.LocalEvent;
 import net.calvuz.qdue.events.models.EventType;
 import net.calvuz.qdue.events.models.EventPriority;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -26,6 +37,7 @@ import java.util.List;
  * - Conflict detection for overlapping events
  */
 @Dao
+@TypeConverters(EpochTypeConverters.class)
 public interface EventDao {
 
     // ==================== BASIC CRUD OPERATIONS ====================
@@ -62,6 +74,21 @@ public interface EventDao {
     @Update
     int updateEvents(List<LocalEvent> events);
 
+    /**
+     * Write one import chunk in a single transaction.
+     * @param newEvents Events not yet in the database
+     * @param replacedEvents Existing events to overwrite
+     */
+    @Transaction
+    default void importEventsBatch(List<LocalEvent> newEvents, List<LocalEvent> replacedEvents) {
+        if (!newEvents.isEmpty()) {
+            insertEvents(newEvents);
+        }
+        if (!replacedEvents.isEmpty()) {
+            updateEvents(replacedEvents);
+        }
+    }
+
     /**
      * Delete a specific event.
      * @param event Event to delete
@@ -107,6 +134,14 @@ public interface EventDao {
     @Query("SELECT * FROM events WHERE id = :eventId LIMIT 1")
     LocalEvent getEventById(String eventId);
 
+    /**
+     * Get which of the given IDs already exist.
+     * @param eventIds Event IDs to check (keep below the SQLite variable limit)
+     * @return Subset of IDs found in the database
+     */
+    @Query("SELECT id FROM events WHERE id IN (:eventIds)")
+    List<String> getExistingEventIds(List<String> eventIds);
+
     /**
      * Get all events ordered by start time.
      * @return List of all events
@@ -114,6 +149,15 @@ public interface EventDao {
     @Query("SELECT * FROM events ORDER BY start_time ASC")
     List<LocalEvent> getAllEvents();
 
+    /**
+     * Get a page of events ordered by ID (keyset pagination for streamed backups).
+     * @param afterId Last ID of the previous page, empty string for the first page
+     * @param limit Page size
+     * @return Events with ID greater than afterId
+     */
+    @Query("SELECT * FROM events WHERE id > :afterId ORDER BY id ASC LIMIT :limit")
+    List<LocalEvent> getEventsPageAfterId(String afterId, int limit);
+
     /**
      * Check if event exists by ID.
      * @param eventId Event ID to check
@@ -137,19 +181,80 @@ public interface EventDao {
     @Query("SELECT COUNT(*) FROM events")
     int getTotalEventCount();
 
+    // ==================== PAGED LIST ====================
+
+    // Criteria of the paged list queries; null parameters match every event
+    String LIST_FILTER = "(:eventType IS NULL OR event_type = :eventType) " +
+            "AND (:priority IS NULL OR priority = :priority) " +
+            "AND (:packageId IS NULL OR package_id = :packageId)";
+
+    // Keyset conditions of the list order. SQLite sorts NULL start times first, so
+    // after an undated event come the undated events with a higher ID, then all the dated ones.
+    String AFTER_DATED_KEY = "start_time >= :afterStart AND (start_time > :afterStart OR id > :afterId)";
+    String AFTER_UNDATED_KEY = "(start_time IS NOT NULL OR id > :afterId)";
+
+    /**
+     * Get a page of the events list, ordered by start time then ID (keyset pagination).
+     * Events without start time come first, by ID.
+     * Each page is a seek on index_events_start_time_id, whatever its depth.
+     * @param filter Type, priority and package criteria
+     * @param after Last event of the previous page, null for the first page
+     * @param limit Page size
+     * @return Events following {@code after} in list order
+     */
+    default List<LocalEvent> getEventsPage(@NonNull EventsFilter filter, @Nullable LocalEvent after, int limit) {
+        if (after == null) {
+            return getEventsFirstPage( filter.getEventType(), filter.getPriority(), filter.getPackageId(), limit );
+        }
+        if (after.getStartTime() == null) {
+            return getEventsPageAfterUndated( after.getId(),
+                                              filter.getEventType(), filter.getPriority(), filter.getPackageId(), limit );
+        }
+        return getEventsPageAfter( after.getStartTime(), after.getId(),
+                                   filter.getEventType(), filter.getPriority(), filter.getPackageId(), limit );
+    }
+
+    @Query("SELECT * FROM events WHERE " + LIST_FILTER + " " +
+            "ORDER BY start_time ASC, id ASC LIMIT :limit")
+    List<LocalEvent> getEventsFirstPage(EventType eventType, EventPriority priority, String packageId, int limit);
+
+    // start_time >= bounds the index seek, the OR only breaks ties on id
+    @Query("SELECT * FROM events WHERE " + AFTER_DATED_KEY + " AND " + LIST_FILTER + " " +
+            "ORDER BY start_time ASC, id ASC LIMIT :limit")
+    List<LocalEvent> getEventsPageAfter(LocalDateTime afterStart, String afterId,
+                                        EventType eventType, EventPriority priority, String packageId, int limit);
+
+    @Query("SELECT * FROM events WHERE " + AFTER_UNDATED_KEY + " AND " + LIST_FILTER + " " +
+            "ORDER BY start_time ASC, id ASC LIMIT :limit")
+    List<LocalEvent> getEventsPageAfterUndated(String afterId,
+                                               EventType eventType, EventPriority priority, String packageId, int limit);
+
+    /**
+     * Count the events of the list.
+     * @param filter Type, priority and package criteria
+     * @return Number of matching events
+     */
+    default int getEventCount(@NonNull EventsFilter filter) {
+        return countEvents( filter.getEventType(), filter.getPriority(), filter.getPackageId() );
+    }
+
+    @Query("SELECT COUNT(*) FROM events WHERE " + LIST_FILTER)
+    int countEvents(EventType eventType, EventPriority priority, String packageId);
+
     // ==================== CALENDAR-SPECIFIC QUERIES ====================
 
+    // Events overlapping [:startDate, :endDate]; an event without end time lasts an instant at its start
+    String OVERLAPS_RANGE = "start_time <= :endDate AND COALESCE(end_time, start_time) >= :startDate";
+
     /**
      * Get all events for a specific date (both all-day and timed events).
-     * @param startOfDay Start of the day (00:00:00)
-     * @param endOfDay End of the day (23:59:59)
+     * @param startDate Start of the day (00:00:00)
+     * @param endDate End of the day (23:59:59)
      * @return List of events for that date
      */
-    @Query("SELECT * FROM events WHERE " +
-            "(DATE(start_time) = DATE(:startOfDay)) OR " +
-            "(start_time <= :endOfDay AND end_time >= :startOfDay) " +
+    @Query("SELECT * FROM events WHERE " + OVERLAPS_RANGE + " " +
             "ORDER BY all_day DESC, start_time ASC")
-    List<LocalEvent> getEventsForDate(LocalDateTime startOfDay, LocalDateTime endOfDay);
+    List<LocalEvent> getEventsForDate(LocalDateTime startDate, LocalDateTime endDate);
 
     /**
      * Get events within a date range (for calendar views).
@@ -157,11 +262,20 @@ public interface EventDao {
      * @param endDate Range end date
      * @return List of events in the specified range
      */
-    @Query("SELECT * FROM events WHERE " +
-            "start_time <= :endDate AND end_time >= :startDate " +
+    @Query("SELECT * FROM events WHERE " + OVERLAPS_RANGE + " " +
             "ORDER BY start_time ASC")
     List<LocalEvent> getEventsForDateRange(LocalDateTime startDate, LocalDateTime endDate);
 
+    /**
+     * Get per-day event summaries within a date range (for calendar grid indicators).
+     * Days without events have no summary.
+     * @param startDate Range start date
+     * @param endDate Range end date (inclusive)
+     * @return Summaries of the days with events, by date
+     */
+    @Query("SELECT * FROM event_day_summary WHERE day BETWEEN :startDate AND :endDate ORDER BY day ASC")
+    List<EventDaySummary> getDaySummariesForDateRange(LocalDate startDate, LocalDate endDate);
+
     /**
      * Get upcoming events from current time.
      * @param currentTime Current timestamp
@@ -207,32 +321,71 @@ public interface EventDao {
     // ==================== SEARCH AND FILTERING ====================
 
     /**
-     * Search events by title (case-insensitive).
+     * Search events by title (prefix match, ranked by relevance).
      * @param titleQuery Search query for title
-     * @return List of matching events
+     * @return Matching events, best first
      */
-    @Query("SELECT * FROM events WHERE title LIKE '%' || :titleQuery || '%' " +
-            "ORDER BY start_time ASC")
-    List<LocalEvent> searchEventsByTitle(String titleQuery);
+    @Transaction
+    default List<LocalEvent> searchEventsByTitle(String titleQuery) {
+        return searchEventsFts( titleQuery, FtsSearch.COLUMN_TITLE );
+    }
 
     /**
-     * Search events by description (case-insensitive).
+     * Search events by description (prefix match, ranked by relevance).
      * @param descriptionQuery Search query for description
-     * @return List of matching events
+     * @return Matching events, best first
      */
-    @Query("SELECT * FROM events WHERE description LIKE '%' || :descriptionQuery || '%' " +
-            "ORDER BY start_time ASC")
-    List<LocalEvent> searchEventsByDescription(String descriptionQuery);
+    @Transaction
+    default List<LocalEvent> searchEventsByDescription(String descriptionQuery) {
+        return searchEventsFts( descriptionQuery, FtsSearch.COLUMN_DESCRIPTION );
+    }
 
     /**
-     * Search events by title or description.
+     * Search events by title, description or location (prefix match, ranked by relevance).
      * @param query Search query
-     * @return List of matching events
+     * @return Matching events, best first
      */
-    @Query("SELECT * FROM events WHERE " +
-            "title LIKE '%' || :query || '%' OR description LIKE '%' || :query || '%' " +
-            "ORDER BY start_time ASC")
-    List<LocalEvent> searchEvents(String query);
+    @Transaction
+    default List<LocalEvent> searchEvents(String query) {
+        return searchEventsFts( query, null );
+    }
+
+    /**
+     * Full-text search over events_fts: match, rank, then load only the top rows.
+     * @param query  Raw search text
+     * @param column FTS column to search, or null for all columns
+     * @return Matching events, best first (at most {@link FtsSearch#DEFAULT_RESULT_LIMIT})
+     */
+    default List<LocalEvent> searchEventsFts(String query, String column) {
+        String match = query != null ? FtsSearch.prefixQuery( query, column ) : null;
+        if (match == null) {
+            return Collections.emptyList();
+        }
+
+        List<String> ids = FtsSearch.rankIds( matchEventsFts( match ), FtsSearch.DEFAULT_RESULT_LIMIT );
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return FtsSearch.inRankOrder( ids, getEventsByIds( ids ), LocalEvent::getId );
+    }
+
+    /**
+     * Ids and matchinfo of the events matching an FTS4 expression.
+     * @param match FTS4 MATCH expression
+     * @return Unranked matches
+     */
+    @Query("SELECT events.id AS id, matchinfo(events_fts, 'pcnx') AS match_info " +
+            "FROM events_fts JOIN events ON events.rowid = events_fts.docid " +
+            "WHERE events_fts MATCH :match")
+    List<FtsMatch> matchEventsFts(String match);
+
+    /**
+     * Get events by ids.
+     * @param ids Event ids
+     * @return Events in no particular order
+     */
+    @Query("SELECT * FROM events WHERE id IN (:ids)")
+    List<LocalEvent> getEventsByIds(List<String> ids);
 
     /**
      * Get events by type.
@@ -295,9 +448,21 @@ public interface EventDao {
      * @param date Date to check for all-day events
      * @return List of all-day events
      */
-    @Query("SELECT * FROM events WHERE all_day = 1 AND DATE(start_time) = DATE(:date) " +
+    default List<LocalEvent> getAllDayEventsForDate(LocalDateTime date) {
+        LocalDateTime startOfDay = date.toLocalDate().atStartOfDay();
+        return getAllDayEventsStartingBetween( startOfDay, startOfDay.plusDays( 1 ) );
+    }
+
+    /**
+     * Get all-day events starting in [from, to).
+     * @param from Range start (inclusive)
+     * @param to Range end (exclusive)
+     * @return List of all-day events
+     */
+    @Query("SELECT * FROM events WHERE all_day = 1 AND " +
+            "start_time >= :from AND start_time < :to " +
             "ORDER BY title ASC")
-    List<LocalEvent> getAllDayEventsForDate(LocalDateTime date);
+    List<LocalEvent> getAllDayEventsStartingBetween(LocalDateTime from, LocalDateTime to);
 
     /**
      * Get timed events for a specific date.
@@ -6,8 +6,10 @@ import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
 import androidx.room.Transaction;
+import androidx.room.TypeConverters;
 import androidx.room.Update;
 
+import net.calvuz.qdue.core.db.converters.EpochTypeConverters;
 import net.calvuz.qdue.events.models.TurnException;
 
 import java.time.LocalDate;
@@ -25,6 +27,7 @@ import java.util.List;
  * - Pattern restoration support
  */
 @Dao
+@TypeConverters(EpochTypeConverters.class)
 public interface TurnExceptionDao {
 
     // ==================== BASIC CRUD OPERATIONS ====================
@@ -0,0 +1,140 @@
+package net.calvuz.qdue.events.imports;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import net.calvuz.qdue.events.EventPackageJson;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental reader for event package JSON.
+ * <p>
+ * Walks the package with a Gson {@link JsonReader} and hands package_info and each
+ * event to a {@link Visitor} as soon as it is parsed, so only one event is held in
+ * memory at a time. Unknown top-level fields are skipped.
+ * <p>
+ * Events need the package id, so package_info is always delivered first. Packages
+ * written with package_info after the events array are still read correctly, but
+ * the events are buffered until package_info is found.
+ */
+public class EventPackageStreamReader implements Closeable {
+
+    /**
+     * Receives the package content in reading order.
+     */
+    public interface Visitor {
+
+        /**
+         * @param packageInfo Package info, null if the package has none
+         */
+        void onPackageInfo(@Nullable EventPackageJson.PackageInfo packageInfo) throws IOException;
+
+        /**
+         * @param event Parsed event, null for a JSON null entry
+         */
+        void onEvent(@Nullable EventPackageJson.EventJson event) throws IOException;
+    }
+
+    private final JsonReader mReader;
+    private final Gson mGson;
+
+    private boolean mHasEventsArray = false;
+    private int mEventCount = 0;
+
+    public EventPackageStreamReader(@NonNull Reader reader, @NonNull Gson gson) {
+        mReader = new JsonReader(reader);
+        mReader.setLenient(true); // Same leniency as the import Gson
+        mGson = gson;
+    }
+
+    /**
+     * Read the whole package.
+     *
+     * @param visitor Receiver for package info and events
+     * @return Number of events read
+     * @throws IOException on I/O errors, malformed JSON or visitor failures
+     */
+    public int read(@NonNull Visitor visitor) throws IOException {
+        boolean packageInfoRead = false;
+        List<EventPackageJson.EventJson> pendingEvents = null;
+
+        mReader.beginObject();
+        while (mReader.hasNext()) {
+            String name = mReader.nextName();
+
+            if ("package_info".equals(name)) {
+                EventPackageJson.PackageInfo packageInfo =
+                        mGson.fromJson(mReader, EventPackageJson.PackageInfo.class);
+                packageInfoRead = true;
+                visitor.onPackageInfo(packageInfo);
+
+                if (pendingEvents != null) {
+                    for (EventPackageJson.EventJson event : pendingEvents) {
+                        visitor.onEvent(event);
+                    }
+                    pendingEvents = null;
+                }
+            } else if ("events".equals(name) && mReader.peek() == JsonToken.BEGIN_ARRAY) {
+                mHasEventsArray = true;
+
+                mReader.beginArray();
+                while (mReader.hasNext()) {
+                    EventPackageJson.EventJson event = mGson.fromJson(mReader, EventPackageJson.EventJson.class);
+                    mEventCount++;
+
+                    if (packageInfoRead) {
+                        visitor.onEvent(event);
+                    } else {
+                        if (pendingEvents == null) {
+                            pendingEvents = new ArrayList<>();
+                        }
+                        pendingEvents.add(event);
+                    }
+                }
+                mReader.endArray();
+            } else {
+                mReader.skipValue();
+            }
+        }
+        mReader.endObject();
+
+        if (!packageInfoRead) {
+            visitor.onPackageInfo(null);
+            if (pendingEvents != null) {
+                for (EventPackageJson.EventJson event : pendingEvents) {
+                    visitor.onEvent(event);
+                }
+            }
+        }
+
+        return mEventCount;
+    }
+
+    /**
+     * @return true if the package contained an events array
+     */
+    public boolean hasEventsArray() {
+        return mHasEventsArray;
+    }
+
+    /**
+     * @return Number of events read so far
+     */
+    public int getEventCount() {
+        return mEventCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        mReader.close();
+    }
+}
@@ -8,8 +8,14 @@ import androidx.preference.PreferenceManager;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonSyntaxException;
 
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
+import net.calvuz.qdue.core.common.concurrent.CancellationToken;
+import net.calvuz.qdue.core.common.intervals.IntervalIndex;
+import net.calvuz.qdue.core.common.metrics.Metrics;
+import net.calvuz.qdue.core.common.metrics.TraceSection;
 import net.calvuz.qdue.core.db.QDueDatabase;
 import net.calvuz.qdue.events.dao.EventDao;
 import net.calvuz.qdue.events.EventPackageJson;
@@ -21,8 +27,11 @@ import net.calvuz.qdue.events.validation.JsonSchemaValidator;
 import net.calvuz.qdue.ui.core.common.utils.Log;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
@@ -30,7 +39,13 @@ import java.security.cert.X509Certificate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
 
 import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLContext;
@@ -57,11 +72,16 @@ public class EventsImportManager {
     private final Gson mGson;
     private final SharedPreferences mPreferences;
     private final EventDao mEventDao;
+    private final Executor mBulkExecutor;
 
     // SSL Configuration (inherited from EventPackageManager)
     private static final int CONNECT_TIMEOUT = 15000; // 15 seconds
     private static final int READ_TIMEOUT = 30000;    // 30 seconds
 
+    // Streaming import
+    private static final int MAX_BATCH_SIZE = 500;          // Below the SQLite bound variables limit
+    private static final long PROGRESS_INTERVAL_MS = 250;   // Throttle progress callbacks
+
     /**
      * Import configuration options
      */
@@ -71,6 +91,9 @@ public class EventsImportManager {
         public boolean preserveExistingEvents = true;
         public boolean reportProgress = false;
         public ConflictResolution conflictResolution = ConflictResolution.SKIP_DUPLICATE;
+        public boolean streamingImport = true;  // Parse incrementally, write in batched transactions
+        public int batchSize = 200;             // Events per transaction in streaming mode
+        public CancellationToken cancellationToken = CancellationToken.NONE;  // Checked between chunks
 
         public enum ConflictResolution {
             SKIP_DUPLICATE,    // Skip events with duplicate IDs
@@ -159,6 +182,7 @@ public class EventsImportManager {
         mContext = context;
         mPreferences = PreferenceManager.getDefaultSharedPreferences(context);
         mEventDao = QDueDatabase.getInstance(mContext).eventDao(); // Room DAO
+        mBulkExecutor = AppExecutors.getInstance().bulk();
         mGson = new GsonBuilder()
                 .setDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'")
                 .setLenient() // Allow more flexible parsing
@@ -173,9 +197,14 @@ public class EventsImportManager {
     public void importFromFile(Uri fileUri, ImportOptions options, ImportCallback callback) {
         Log.d(TAG, "Starting enhanced file import from: " + fileUri.toString());
 
-        // Perform import in background thread
-        new Thread(() -> {
+        // Perform import on the shared bulk lane
+        mBulkExecutor.execute(() -> {
             try {
+                if (options.streamingImport) {
+                    processJsonStream(() -> openFileReader(fileUri), fileUri.toString(), options, callback);
+                    return;
+                }
+
                 // Step 1: Read and parse JSON
                 String jsonContent = readFileContent(fileUri);
                 processJsonContent(jsonContent, fileUri.toString(), options, callback);
@@ -184,7 +213,7 @@ public class EventsImportManager {
                 Log.e(TAG, "File import failed with exception", e);
                 callback.onError("File import failed: " + e.getMessage(), e);
             }
-        }).start();
+        });
     }
 
     /**
@@ -211,6 +240,17 @@ public class EventsImportManager {
         return content.toString();
     }
 
+    /**
+     * Open a buffered UTF-8 reader on the file, for streaming import
+     */
+    private Reader openFileReader(Uri uri) throws IOException {
+        InputStream inputStream = mContext.getContentResolver().openInputStream(uri);
+        if (inputStream == null) {
+            throw new IOException("Cannot open file input stream");
+        }
+        return new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
     // ==================== URL IMPORT METHODS ====================
 
     /**
@@ -225,19 +265,23 @@ public class EventsImportManager {
             return;
         }
 
-        new Thread(() -> {
+        mBulkExecutor.execute(() -> {
             try {
                 // Step 1: Download JSON with validation during download
                 String jsonContent = downloadJsonWithValidation(url, packageId, downloadCallback);
 
                 // Step 2: Process downloaded content
-                processJsonContent(jsonContent, url, options, callback);
+                if (options.streamingImport) {
+                    processJsonStream(() -> new StringReader(jsonContent), url, options, callback);
+                } else {
+                    processJsonContent(jsonContent, url, options, callback);
+                }
 
             } catch (Exception e) {
                 Log.e(TAG, "URL import failed with exception", e);
                 callback.onError("URL import failed: " + e.getMessage(), e);
             }
-        }).start();
+        });
     }
 
     /**
@@ -417,7 +461,7 @@ public class EventsImportManager {
 
         // Step 1: Parse JSON with detailed error handling
         EventPackageJson packageJson = null;
-        try {
+        try (TraceSection section = Metrics.trace("import.parse")) {
             packageJson = mGson.fromJson(jsonContent, EventPackageJson.class);
         } catch (JsonSyntaxException e) {
             Log.e(TAG, "JSON parsing failed", e);
@@ -436,25 +480,14 @@ public class EventsImportManager {
         // Step 2: Perform comprehensive validation
         JsonSchemaValidator.ValidationResult validation = null;
         if (options.validateBeforeImport) {
-            validation = JsonSchemaValidator.validatePackage(packageJson);
+            try (TraceSection section = Metrics.trace("import.validate")) {
+                validation = JsonSchemaValidator.validatePackage(packageJson);
+            }
             callback.onValidationComplete(validation);
 
             if (!validation.isValid()) {
                 Log.w(TAG, "Validation failed: " + validation.getErrorMessage());
-
-                // Show detailed error information
-                StringBuilder errorDetails = new StringBuilder();
-                errorDetails.append("Validation failed:\n");
-                errorDetails.append("Main error: ").append(validation.getErrorMessage()).append("\n");
-
-                if (validation.hasErrors()) {
-                    errorDetails.append("\nDetailed errors:\n");
-                    for (String error : validation.getErrors()) {
-                        errorDetails.append("• ").append(error).append("\n");
-                    }
-                }
-
-                callback.onError(errorDetails.toString(), null);
+                callback.onError(buildValidationErrorMessage(validation), null);
                 return;
             }
 
@@ -464,7 +497,11 @@ public class EventsImportManager {
         }
 
         // Step 3: Process events with EventDao integration
-        ImportResult result = processEventsWithDao(packageJson, sourceDescription, options, callback);
+        ImportResult result;
+        try (TraceSection section = Metrics.trace("import.write")) {
+            result = processEventsWithDao(packageJson, sourceDescription, options, callback);
+        }
+        Metrics.counter("import.events").add(result.importedEvents);
         result = new ImportResult(result.success, result.message, result.totalEvents,
                 result.importedEvents, result.skippedEvents, result.errorEvents,
                 result.warnings, result.errors, result.importedEventsList, validation);
@@ -472,6 +509,24 @@ public class EventsImportManager {
         callback.onComplete(result);
     }
 
+    /**
+     * Build detailed error information for a failed validation
+     */
+    private String buildValidationErrorMessage(JsonSchemaValidator.ValidationResult validation) {
+        StringBuilder errorDetails = new StringBuilder();
+        errorDetails.append("Validation failed:\n");
+        errorDetails.append("Main error: ").append(validation.getErrorMessage()).append("\n");
+
+        if (validation.hasErrors()) {
+            errorDetails.append("\nDetailed errors:\n");
+            for (String error : validation.getErrors()) {
+                errorDetails.append("• ").append(error).append("\n");
+            }
+        }
+
+        return errorDetails.toString();
+    }
+
     /**
      * Process events with EventDao integration and conflict resolution
      */
@@ -561,7 +616,31 @@ public class EventsImportManager {
             }
         }
 
+        // Time overlaps of the imported events, in one sweep
+        Set<String> importedIds = new HashSet<>();
+        LocalDateTime rangeStart = null;
+        LocalDateTime rangeEnd = null;
+        for (LocalEvent event : importedEvents) {
+            if (event.getStartTime() == null) continue;
+            importedIds.add(event.getId());
+            LocalDateTime end = event.getEndTime() != null ? event.getEndTime() : event.getStartTime();
+            if (rangeStart == null || event.getStartTime().isBefore(rangeStart)) rangeStart = event.getStartTime();
+            if (rangeEnd == null || end.isAfter(rangeEnd)) rangeEnd = end;
+        }
+        addOverlapWarnings(importedIds, rangeStart, rangeEnd, warnings);
+
         // Create comprehensive result
+        return createImportResult(totalEvents, importedCount, skippedCount, errorCount,
+                warnings, errors, importedEvents, null);
+    }
+
+    /**
+     * Create the import result with the summary message and success rule
+     */
+    private ImportResult createImportResult(int totalEvents, int importedCount, int skippedCount,
+                                            int errorCount, List<String> warnings, List<String> errors,
+                                            List<LocalEvent> importedEvents,
+                                            JsonSchemaValidator.ValidationResult validation) {
         String resultMessage = String.format(
                 "Import completed: %s events imported successfully",
                 importedCount + "/" + totalEvents
@@ -574,7 +653,332 @@ public class EventsImportManager {
         boolean success = (importedCount > 0) && (errorCount == 0 || errorCount < totalEvents / 2);
 
         return new ImportResult(success, resultMessage, totalEvents, importedCount,
-                skippedCount, errorCount, warnings, errors, importedEvents, null);
+                skippedCount, errorCount, warnings, errors, importedEvents, validation);
+    }
+
+    // ==================== STREAMING PROCESSING METHODS ====================
+
+    /**
+     * Opens a fresh reader on the package content, once per pass
+     */
+    private interface JsonSource {
+        Reader open() throws IOException;
+    }
+
+    /**
+     * Process a package without materializing it.
+     * <p>
+     * Pass 1 streams the package to count and validate the events, pass 2 streams it
+     * again and writes the events in chunks of {@link ImportOptions#batchSize}, one
+     * transaction per chunk. Only one chunk of events is held in memory at a time, so
+     * annual packages with thousands of events import in bounded memory.
+     * In this mode {@link ImportResult#importedEventsList} is left empty.
+     */
+    private void processJsonStream(JsonSource source, String sourceDescription,
+                                   ImportOptions options, ImportCallback callback) throws Exception {
+
+        Log.d(TAG, "Streaming JSON content from: " + sourceDescription);
+
+        // Step 1: Count and validate
+        JsonSchemaValidator.ValidationResult validation = null;
+        int totalEvents = -1;
+        if (options.validateBeforeImport || options.reportProgress) {
+            JsonSchemaValidator.IncrementalValidator validator = new JsonSchemaValidator.IncrementalValidator();
+
+            try (TraceSection section = Metrics.trace("import.validate");
+                 EventPackageStreamReader reader = new EventPackageStreamReader(source.open(), mGson)) {
+                totalEvents = reader.read(new EventPackageStreamReader.Visitor() {
+                    @Override
+                    public void onPackageInfo(EventPackageJson.PackageInfo packageInfo) {
+                        if (options.validateBeforeImport) {
+                            validator.validatePackageInfo(packageInfo);
+                        }
+                    }
+
+                    @Override
+                    public void onEvent(EventPackageJson.EventJson event) {
+                        options.cancellationToken.throwIfCancelled();
+                        if (options.validateBeforeImport) {
+                            validator.validateEvent(event);
+                        }
+                    }
+                });
+
+                if (options.validateBeforeImport) {
+                    validation = validator.finish(reader.hasEventsArray());
+                }
+            } catch (CancellationException e) {
+                Log.d(TAG, "Import cancelled during validation");
+                callback.onError("Import cancelled", e);
+                return;
+            } catch (JsonParseException | IOException | IllegalStateException e) {
+                Log.e(TAG, "JSON parsing failed", e);
+                callback.onError("Invalid JSON format: " + e.getMessage(), e);
+                return;
+            }
+
+            if (validation != null) {
+                callback.onValidationComplete(validation);
+
+                if (!validation.isValid()) {
+                    Log.w(TAG, "Validation failed: " + validation.getErrorMessage());
+                    callback.onError(buildValidationErrorMessage(validation), null);
+                    return;
+                }
+
+                Log.d(TAG, "Validation passed with " + validation.getWarnings().size() + " warnings");
+            }
+        } else {
+            Log.d(TAG, "Validation skipped by user option");
+        }
+
+        // Step 2: Import in chunks
+        ChunkedEventImporter importer = new ChunkedEventImporter(sourceDescription, options, callback, totalEvents);
+        try (TraceSection section = Metrics.trace("import.write");
+             EventPackageStreamReader reader = new EventPackageStreamReader(source.open(), mGson)) {
+            reader.read(importer);
+            importer.flush();
+        } catch (CancellationException e) {
+            // Chunks already written stay imported
+            Log.d(TAG, "Import cancelled after " + importer.mImportedCount + " events");
+            callback.onError("Import cancelled after " + importer.mImportedCount + " events", e);
+            return;
+        } catch (JsonParseException | IllegalStateException e) {
+            Log.e(TAG, "JSON parsing failed", e);
+            callback.onError("Invalid JSON format: " + e.getMessage(), e);
+            return;
+        }
+
+        callback.onComplete(importer.createResult(validation));
+    }
+
+    /**
+     * Streaming visitor buffering events and writing them one chunk per transaction
+     */
+    private class ChunkedEventImporter implements EventPackageStreamReader.Visitor {
+
+        private final String mSourceUrl;
+        private final ImportOptions mOptions;
+        private final ImportCallback mCallback;
+        private final int mBatchSize;
+
+        private final List<EventPackageJson.EventJson> mPending = new ArrayList<>();
+        private final Set<String> mImportedIds = new HashSet<>();
+        private final List<String> mWarnings = new ArrayList<>();
+        private final List<String> mErrors = new ArrayList<>();
+
+        private String mPackageId;
+        private String mPackageVersion;
+
+        // Time range of the written events, for the overlap sweep
+        private LocalDateTime mRangeStart;
+        private LocalDateTime mRangeEnd;
+
+        private final int mTotalEvents;
+        private int mProcessedCount = 0;
+        private int mImportedCount = 0;
+        private int mSkippedCount = 0;
+        private int mErrorCount = 0;
+        private long mLastProgressTime = 0;
+
+        ChunkedEventImporter(String sourceUrl, ImportOptions options, ImportCallback callback, int totalEvents) {
+            mSourceUrl = sourceUrl;
+            mOptions = options;
+            mCallback = callback;
+            mTotalEvents = totalEvents;
+            mBatchSize = Math.max(1, Math.min(options.batchSize, MAX_BATCH_SIZE));
+        }
+
+        @Override
+        public void onPackageInfo(EventPackageJson.PackageInfo packageInfo) throws IOException {
+            if (packageInfo == null || packageInfo.id == null) {
+                throw new IOException("Invalid JSON structure - missing package_info");
+            }
+
+            mPackageId = packageInfo.id;
+            mPackageVersion = packageInfo.version;
+
+            Log.d(TAG, String.format("Streaming events from package %s v%s in chunks of %d",
+                    mPackageId, mPackageVersion, mBatchSize));
+
+            // Clear existing events from same package if replace mode
+            if (!mOptions.preserveExistingEvents) {
+                mEventDao.deleteEventsByPackageId(mPackageId);
+                Log.d(TAG, "Cleared existing events for package: " + mPackageId);
+            }
+        }
+
+        @Override
+        public void onEvent(EventPackageJson.EventJson event) {
+            mPending.add(event);
+            if (mPending.size() >= mBatchSize) {
+                flush();
+            }
+        }
+
+        /**
+         * Resolve conflicts for the pending chunk and write it in one transaction
+         */
+        void flush() {
+            if (mPending.isEmpty()) return;
+            mOptions.cancellationToken.throwIfCancelled();
+
+            // One lookup for the whole chunk
+            List<String> candidateIds = new ArrayList<>(mPending.size());
+            for (EventPackageJson.EventJson eventJson : mPending) {
+                if (eventJson != null) {
+                    candidateIds.add(mPackageId + "_" + eventJson.id);
+                }
+            }
+            Set<String> existingIds = candidateIds.isEmpty() ? new HashSet<>() :
+                    new HashSet<>(mEventDao.getExistingEventIds(candidateIds));
+
+            List<LocalEvent> inserts = new ArrayList<>();
+            List<LocalEvent> updates = new ArrayList<>();
+            List<String> chunkIds = new ArrayList<>();
+            List<String> chunkWarnings = new ArrayList<>();
+
+            for (EventPackageJson.EventJson eventJson : mPending) {
+                mProcessedCount++;
+                reportProgress(eventJson);
+
+                if (eventJson == null) {
+                    mErrorCount++;
+                    mErrors.add("Failed to import event " + mProcessedCount + ": event is null");
+                    continue;
+                }
+
+                try {
+                    // Check for existing event with same ID, in the database or earlier in this import
+                    String eventId = mPackageId + "_" + eventJson.id;
+                    boolean eventExists = existingIds.contains(eventId) || mImportedIds.contains(eventId);
+
+                    if (eventExists) {
+                        switch (mOptions.conflictResolution) {
+                            case SKIP_DUPLICATE:
+                                Log.d(TAG, "Skipping duplicate event: " + eventId);
+                                mSkippedCount++;
+                                mWarnings.add("Skipped duplicate event: " + eventJson.title);
+                                continue;
+
+                            case REPLACE_EXISTING:
+                                Log.d(TAG, "Replacing existing event: " + eventId);
+                                chunkWarnings.add("Replaced existing event: " + eventJson.title);
+                                break;
+
+                            case RENAME_DUPLICATE:
+                                eventId = generateUniqueEventId(mPackageId, eventJson.id, mEventDao, mImportedIds);
+                                Log.d(TAG, "Renamed duplicate event to: " + eventId);
+                                chunkWarnings.add("Renamed duplicate event: " + eventJson.title + " (new ID: " + eventId + ")");
+                                break;
+                        }
+                    }
+
+                    // Convert JSON to LocalEvent
+                    LocalEvent localEvent = convertJsonToLocalEvent(eventJson, mPackageId, mPackageVersion, mSourceUrl);
+                    localEvent.setId(eventId); // Use resolved ID
+
+                    // Additional business logic validation
+                    validateEventBusinessRules(localEvent, chunkWarnings);
+
+                    if (eventExists && mOptions.conflictResolution == ImportOptions.ConflictResolution.REPLACE_EXISTING) {
+                        updates.add(localEvent);
+                    } else {
+                        inserts.add(localEvent);
+                    }
+                    mImportedIds.add(eventId);
+                    chunkIds.add(eventId);
+
+                } catch (Exception e) {
+                    mErrorCount++;
+                    String errorMsg = "Failed to import event '" + eventJson.title + "': " + e.getMessage();
+                    mErrors.add(errorMsg);
+                    Log.w(TAG, errorMsg);
+                }
+            }
+            mPending.clear();
+
+            if (chunkIds.isEmpty()) return;
+
+            // Single transaction per chunk
+            try (TraceSection section = Metrics.trace("import.write_chunk")) {
+                mEventDao.importEventsBatch(inserts, updates);
+                mImportedCount += chunkIds.size();
+                Metrics.counter("import.events").add(chunkIds.size());
+                mWarnings.addAll(chunkWarnings);
+                extendRange(inserts);
+                extendRange(updates);
+                Log.d(TAG, "Imported chunk of " + chunkIds.size() + " events (" +
+                        mProcessedCount + " processed)");
+            } catch (Exception e) {
+                mImportedIds.removeAll(chunkIds);
+                mErrorCount += chunkIds.size();
+                String errorMsg = "Failed to write " + chunkIds.size() + " events: " + e.getMessage();
+                mErrors.add(errorMsg);
+                Log.e(TAG, errorMsg, e);
+            }
+        }
+
+        private void reportProgress(EventPackageJson.EventJson eventJson) {
+            if (!mOptions.reportProgress || mCallback == null) return;
+
+            long now = System.currentTimeMillis();
+            if (now - mLastProgressTime >= PROGRESS_INTERVAL_MS || mProcessedCount == mTotalEvents) {
+                mLastProgressTime = now;
+                mCallback.onProgress(mProcessedCount, mTotalEvents,
+                        eventJson != null ? eventJson.title : null);
+            }
+        }
+
+        private void extendRange(List<LocalEvent> events) {
+            for (LocalEvent event : events) {
+                if (event.getStartTime() == null) continue;
+                LocalDateTime end = event.getEndTime() != null ? event.getEndTime() : event.getStartTime();
+                if (mRangeStart == null || event.getStartTime().isBefore(mRangeStart)) mRangeStart = event.getStartTime();
+                if (mRangeEnd == null || end.isAfter(mRangeEnd)) mRangeEnd = end;
+            }
+        }
+
+        ImportResult createResult(JsonSchemaValidator.ValidationResult validation) {
+            // Time overlaps of the imported events, in one sweep
+            addOverlapWarnings(mImportedIds, mRangeStart, mRangeEnd, mWarnings);
+
+            int totalEvents = mTotalEvents >= 0 ? mTotalEvents : mProcessedCount;
+            return createImportResult(totalEvents, mImportedCount, mSkippedCount, mErrorCount,
+                    mWarnings, mErrors, null, validation);
+        }
+    }
+
+    // ==================== OVERLAP ANALYSIS ====================
+
+    /**
+     * Warn about imported events overlapping other events, stored or imported.
+     * One query loads the events of the imported range and a single sweep finds
+     * every overlapping pair, instead of a conflict query per event.
+     */
+    private void addOverlapWarnings(Set<String> importedIds, LocalDateTime rangeStart,
+                                    LocalDateTime rangeEnd, List<String> warnings) {
+        if (importedIds.isEmpty() || rangeStart == null) return;
+
+        try (TraceSection section = Metrics.trace("import.overlaps")) {
+            List<LocalEvent> events = mEventDao.getEventsForDateRange(rangeStart, rangeEnd);
+
+            // Imported events with overlaps, by start, and how many events they overlap
+            Map<LocalEvent, Integer> overlaps = new LinkedHashMap<>();
+            IntervalIndex.sweep(events, LocalEvent::getStartTime, LocalEvent::getEndTime, (first, second) -> {
+                if (importedIds.contains(first.getId())) overlaps.merge(first, 1, Integer::sum);
+                if (importedIds.contains(second.getId())) overlaps.merge(second, 1, Integer::sum);
+            });
+
+            for (Map.Entry<LocalEvent, Integer> entry : overlaps.entrySet()) {
+                int count = entry.getValue();
+                warnings.add("Event '" + entry.getKey().getTitle() + "' overlaps " + count +
+                        (count == 1 ? " other event" : " other events"));
+            }
+            Log.d(TAG, overlaps.size() + " of " + importedIds.size() + " imported events overlap other events");
+        } catch (Exception e) {
+            Log.w(TAG, "Overlap analysis failed: " + e.getMessage());
+        }
     }
 
     /**
@@ -681,6 +1085,27 @@ public class EventsImportManager {
         return newId;
     }
 
+    /**
+     * Unique ID generation also avoiding IDs already used by the running import
+     */
+    private String generateUniqueEventId(String packageId, String originalEventId, EventDao dao,
+                                         Set<String> reservedIds) {
+        int counter = 1;
+        String newId;
+
+        do {
+            newId = packageId + "_" + originalEventId + "_" + counter;
+            counter++;
+        } while ((reservedIds.contains(newId) || dao.getEventById(newId) != null) && counter < 100);
+
+        if (counter >= 100) {
+            // Fallback to timestamp-based ID
+            newId = packageId + "_" + originalEventId + "_" + System.currentTimeMillis();
+        }
+
+        return newId;
+    }
+
     /**
      * Validate business rules for imported events
      */
@@ -720,7 +1145,7 @@ public class EventsImportManager {
      * Quick validation without import - useful for file preview
      */
     public void validateFileOnly(Uri fileUri, ValidationCallback callback) {
-        new Thread(() -> {
+        mBulkExecutor.execute(() -> {
             try {
                 String jsonContent = readFileContent(fileUri);
                 EventPackageJson packageJson = mGson.fromJson(jsonContent, EventPackageJson.class);
@@ -732,14 +1157,14 @@ public class EventsImportManager {
                 Log.e(TAG, "Validation failed", e);
                 callback.onValidationError("Validation failed: " + e.getMessage(), e);
             }
-        }).start();
+        });
     }
 
     /**
      * Quick validation for URL without import
      */
     public void validateUrlOnly(String url, String packageId, ValidationCallback callback) {
-        new Thread(() -> {
+        mBulkExecutor.execute(() -> {
             try {
                 String jsonContent = downloadJsonWithValidation(url, packageId, null);
                 EventPackageJson packageJson = mGson.fromJson(jsonContent, EventPackageJson.class);
@@ -751,7 +1176,7 @@ public class EventsImportManager {
                 Log.e(TAG, "URL validation failed", e);
                 callback.onValidationError("URL validation failed: " + e.getMessage(), e);
             }
-        }).start();
+        });
     }
 
     public interface ValidationCallback {
@@ -0,0 +1,125 @@
+package net.calvuz.qdue.events.models;
+
+import androidx.annotation.NonNull;
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.PrimaryKey;
+import androidx.room.TypeConverters;
+
+import net.calvuz.qdue.core.db.converters.EpochTypeConverters;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Per-day aggregate of {@link LocalEvent}: what calendar grids need to draw the
+ * indicators of a day without loading its events.
+ * Rows are maintained by triggers on the events table; never write them directly.
+ *
+ * @see net.calvuz.qdue.core.db.summary.DaySummaryIndex
+ */
+@Entity(tableName = "event_day_summary")
+@TypeConverters(EpochTypeConverters.class)
+public class EventDaySummary {
+
+    @NonNull
+    @PrimaryKey
+    @ColumnInfo(name = "day")
+    private LocalDate date;
+
+    @ColumnInfo(name = "event_count")
+    private int eventCount;
+
+    // EventPriority ordinal + 1
+    @ColumnInfo(name = "max_priority")
+    private int maxPriority;
+
+    // Bit EventType.ordinal() set for every type present
+    @ColumnInfo(name = "type_mask")
+    private long typeMask;
+
+    @ColumnInfo(name = "has_all_day")
+    private boolean hasAllDay;
+
+    public EventDaySummary(@NonNull LocalDate date) {
+        this.date = date;
+    }
+
+    // ==================== GETTERS AND SETTERS ====================
+
+    @NonNull
+    public LocalDate getDate() { return date; }
+    public int getEventCount() { return eventCount; }
+    public int getMaxPriority() { return maxPriority; }
+    public long getTypeMask() { return typeMask; }
+    public boolean hasAllDay() { return hasAllDay; }
+
+    public void setDate(@NonNull LocalDate date) { this.date = date; }
+    public void setEventCount(int eventCount) { this.eventCount = eventCount; }
+    public void setMaxPriority(int maxPriority) { this.maxPriority = maxPriority; }
+    public void setTypeMask(long typeMask) { this.typeMask = typeMask; }
+    public void setHasAllDay(boolean hasAllDay) { this.hasAllDay = hasAllDay; }
+
+    // ==================== DECODED VALUES ====================
+
+    /**
+     * @return Highest priority of the day's events
+     */
+    @NonNull
+    public EventPriority getHighestPriority() {
+        EventPriority[] priorities = EventPriority.values();
+        return maxPriority >= 1 && maxPriority <= priorities.length
+                ? priorities[maxPriority - 1]
+                : EventPriority.NORMAL;
+    }
+
+    /**
+     * @return Event types present on the day
+     */
+    @NonNull
+    public Set<EventType> getEventTypes() {
+        Set<EventType> types = EnumSet.noneOf(EventType.class);
+        for (EventType type : EventType.values()) {
+            if (hasEventType(type)) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
+    public boolean hasEventType(@NonNull EventType type) {
+        return (typeMask & (1L << type.ordinal())) != 0;
+    }
+
+    public boolean hasEvents() {
+        return eventCount > 0;
+    }
+
+    // ==================== OBJECT METHODS ====================
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EventDaySummary)) return false;
+        EventDaySummary that = (EventDaySummary) o;
+        return eventCount == that.eventCount
+                && maxPriority == that.maxPriority
+                && typeMask == that.typeMask
+                && hasAllDay == that.hasAllDay
+                && date.equals(that.date);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(date, eventCount, maxPriority, typeMask, hasAllDay);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "EventDaySummary{" + date + ", count=" + eventCount + ", priority=" + getHighestPriority()
+                + ", types=" + getEventTypes() + ", allDay=" + hasAllDay + '}';
+    }
+}
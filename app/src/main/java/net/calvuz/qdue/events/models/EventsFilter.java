@@ -0,0 +1,62 @@
+package net.calvuz.qdue.events.models;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Filter of the events list, applied in SQL by the paged queries of
+ * {@link net.calvuz.qdue.events.dao.EventDao}. Null criteria match every event.
+ */
+public final class EventsFilter {
+
+    public static final EventsFilter ALL = new EventsFilter(null, null, null);
+
+    @Nullable
+    private final EventType eventType;
+    @Nullable
+    private final EventPriority priority;
+    @Nullable
+    private final String packageId;
+
+    public EventsFilter(@Nullable EventType eventType, @Nullable EventPriority priority, @Nullable String packageId) {
+        this.eventType = eventType;
+        this.priority = priority;
+        this.packageId = packageId;
+    }
+
+    @Nullable
+    public EventType getEventType() { return eventType; }
+    @Nullable
+    public EventPriority getPriority() { return priority; }
+    @Nullable
+    public String getPackageId() { return packageId; }
+
+    public boolean isEmpty() {
+        return eventType == null && priority == null && packageId == null;
+    }
+
+    // ==================== OBJECT METHODS ====================
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EventsFilter)) return false;
+        EventsFilter that = (EventsFilter) o;
+        return eventType == that.eventType
+                && priority == that.priority
+                && Objects.equals(packageId, that.packageId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(eventType, priority, packageId);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "EventsFilter{type=" + eventType + ", priority=" + priority + ", package=" + packageId + '}';
+    }
+}
@@ -6,7 +6,9 @@ import androidx.room.ColumnInfo;
 import androidx.room.Entity;
 import androidx.room.Index;
 import androidx.room.PrimaryKey;
+import androidx.room.TypeConverters;
 
+import net.calvuz.qdue.core.db.converters.EpochTypeConverters;
 import net.calvuz.qdue.events.CalendarEvent;
 
 import java.time.LocalDate;
@@ -18,17 +20,19 @@ import java.util.UUID;
 /**
  * Local event implementation with Room Entity annotations.
  * Stores events in app's local database with Google Calendar-like functionality.
+ * Times are stored as INTEGER epoch seconds (see {@link EpochTypeConverters}).
  */
 @Entity(
         tableName = "events",
         indices = {
-                @Index(value = "start_time", name = "index_events_start_time"),
+                @Index(value = {"start_time", "id"}, name = "index_events_start_time_id"),
                 @Index(value = "package_id", name = "index_events_package_id"),
                 @Index(value = "event_type", name = "index_events_event_type"),
                 @Index(value = "priority", name = "index_events_priority"),
                 @Index(value = {"start_time", "end_time"}, name = "index_events_time_range")
         }
 )
+@TypeConverters(EpochTypeConverters.class)
 public class LocalEvent implements CalendarEvent {
 
     @NonNull
@@ -0,0 +1,28 @@
+package net.calvuz.qdue.events.models;
+
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.Fts4;
+import androidx.room.FtsOptions;
+
+/**
+ * External-content FTS4 index over the text columns of {@link LocalEvent}.
+ * Kept in sync with the events table by Room's content sync triggers; query it
+ * through {@code EventDao.searchEvents()}.
+ */
+@Fts4(
+        contentEntity = LocalEvent.class,
+        tokenizer = FtsOptions.TOKENIZER_UNICODE61
+)
+@Entity(tableName = "events_fts")
+public class LocalEventFts {
+
+    @ColumnInfo(name = "title")
+    public String title;
+
+    @ColumnInfo(name = "description")
+    public String description;
+
+    @ColumnInfo(name = "location")
+    public String location;
+}
@@ -6,7 +6,9 @@ import androidx.room.Entity;
 import androidx.room.ForeignKey;
 import androidx.room.Index;
 import androidx.room.PrimaryKey;
+import androidx.room.TypeConverters;
 
+import net.calvuz.qdue.core.db.converters.EpochTypeConverters;
 import net.calvuz.qdue.user.data.entities.User;
 
 import java.time.LocalDate;
@@ -39,6 +41,7 @@ import java.util.UUID;
                 @Index(value = {"created_at"}) // Recent changes tracking
         }
 )
+@TypeConverters(EpochTypeConverters.class) // date as epoch day, timestamps as epoch seconds
 public class TurnException {
 
     // Primary key
@@ -1,7 +1,5 @@
 package net.calvuz.qdue.events.validation;
 
-import android.text.TextUtils;
-
 import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 
@@ -57,6 +55,7 @@ public class JsonSchemaValidator {
     private static final int MAX_DESCRIPTION_LENGTH = 500;
     private static final int MAX_LOCATION_LENGTH = 200;
     private static final int MAX_EVENTS_PER_PACKAGE = 1000;
+    private static final int MAX_EVENTS_PER_STREAMED_PACKAGE = 20000;  // Streamed imports keep one chunk in memory
     private static final int MAX_TAGS_PER_EVENT = 10;
     private static final int MAX_CUSTOM_PROPERTIES = 20;
 
@@ -239,6 +238,92 @@ public class JsonSchemaValidator {
         }
     }
 
+    // ==================== INCREMENTAL VALIDATION ====================
+
+    /**
+     * Validator fed one event at a time, for packages read with a streaming parser.
+     * Applies the same rules as {@link #validatePackage(EventPackageJson)} without
+     * holding the events list in memory.
+     */
+    public static class IncrementalValidator {
+        private final List<String> errors = new ArrayList<>();
+        private final List<String> warnings = new ArrayList<>();
+        private final Set<String> eventIds = new HashSet<>();
+
+        private String packageName;
+        private LocalDate validFrom;
+        private LocalDate validTo;
+        private int eventCount = 0;
+
+        /**
+         * Validate package_info. Must be called before the events.
+         */
+        public void validatePackageInfo(EventPackageJson.PackageInfo packageInfo) {
+            JsonSchemaValidator.validatePackageInfo(packageInfo, errors, warnings);
+
+            if (packageInfo == null) return;
+            packageName = packageInfo.name;
+
+            if (!isEmpty(packageInfo.valid_from) && !isEmpty(packageInfo.valid_to)) {
+                try {
+                    validFrom = parseFlexibleDate(packageInfo.valid_from);
+                    validTo = parseFlexibleDate(packageInfo.valid_to);
+                } catch (Exception e) {
+                    // Already handled in package info validation
+                }
+            }
+        }
+
+        /**
+         * Validate the next event of the package.
+         */
+        public void validateEvent(EventPackageJson.EventJson event) {
+            eventCount++;
+            validateSingleEvent(event, "Event " + eventCount, eventIds, errors, warnings);
+
+            // Cross-validation against the package validity period
+            if (event != null && validFrom != null && validTo != null && !isEmpty(event.start_date)) {
+                try {
+                    LocalDate eventDate = parseFlexibleDate(event.start_date);
+                    if (eventDate != null &&
+                            (eventDate.isBefore(validFrom) || eventDate.isAfter(validTo))) {
+                        warnings.add("Event '" + event.title +
+                                             "' date is outside package validity period");
+                    }
+                } catch (Exception e) {
+                    // Already handled
+                }
+            }
+        }
+
+        /**
+         * Complete validation.
+         *
+         * @param hasEventsArray true if the package contained an events array
+         * @return ValidationResult for the whole package
+         */
+        public ValidationResult finish(boolean hasEventsArray) {
+            if (!hasEventsArray) {
+                errors.add("Missing 'events' array");
+            } else if (eventCount == 0) {
+                warnings.add("Events array is empty");
+            } else if (eventCount > MAX_EVENTS_PER_STREAMED_PACKAGE) {
+                errors.add("Too many events (" + eventCount + "), maximum is " + MAX_EVENTS_PER_STREAMED_PACKAGE);
+            }
+
+            if (!errors.isEmpty()) {
+                return ValidationResult.invalid(errors.get(0), errors, eventCount);
+            }
+
+            Log.d(TAG, "Streamed package validation completed successfully with " + warnings.size() + " warnings");
+            return ValidationResult.valid(warnings, eventCount, packageName);
+        }
+
+        public int getEventCount() {
+            return eventCount;
+        }
+    }
+
     // ==================== PUBLIC API METHODS ====================
 
     /**
@@ -770,6 +855,6 @@ public class JsonSchemaValidator {
      * Utility method to check if string is empty or null
      */
     private static boolean isEmpty(String str) {
-        return TextUtils.isEmpty(str) || str.trim().isEmpty();
+        return str == null || str.trim().isEmpty();
     }
 }
\ No newline at end of file
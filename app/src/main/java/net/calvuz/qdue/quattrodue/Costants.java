@@ -24,6 +24,9 @@ public final class Costants {
     // Numero massimo di mesi in memoria per evitare memory leak
     public static final int QD_MAX_CACHE_SIZE = 24;
 
+    // Mesi navigabili prima e dopo il mese corrente nelle liste virtuali (50 anni)
+    public static final int QD_VIRTUAL_MONTHS_RADIUS = 600;
+
     // Configurazione cache
     public static final int QD_MAX_CACHED_MONTHS = 24;
     public static final long QD_CACHE_EXPIRY_MS = 5 * 60 * 1000; // 5 minuti
@@ -29,6 +29,7 @@ import net.calvuz.qdue.quattrodue.models.Day;
 import net.calvuz.qdue.quattrodue.models.HalfTeam;
 import net.calvuz.qdue.quattrodue.models.Shift;
 import net.calvuz.qdue.quattrodue.models.ShiftType;
+import net.calvuz.qdue.quattrodue.utils.CycleTable;
 import net.calvuz.qdue.quattrodue.utils.HalfTeamFactory;
 import net.calvuz.qdue.quattrodue.utils.ShiftTypeFactory;
 import net.calvuz.qdue.quattrodue.utils.Log;
@@ -55,6 +56,7 @@ public class QuattroDue {
 
     // Private members
     private List<Day> schemeDaysList;
+    private volatile CycleTable cycleTable;
     private List<ShiftType> shiftTypes;
     private LocalDate schemeDate;
     private LocalDate cursorDate;
@@ -118,9 +120,8 @@ public class QuattroDue {
 
 
     /**
-     * Create a list of days for a specified month using the Scheme
-     * It calculate the difference between the beginning of the scheme
-     * and the requested date
+     * Create a list of days for a specified month using the Scheme.
+     * Days are flyweights backed by the cycle table: no template is cloned.
      *
      * @param date requested date (month)
      * @return Days list
@@ -129,64 +130,16 @@ public class QuattroDue {
 
         // TAG
         final String TAG = QuattroDue.TAG + ":getWorkShifts";
-        Log.v( TAG, "start" );
-
-        // new List
-        List<Day> result = new ArrayList<>();
 
         // Check the Scheme
-        if ( schemeDaysList == null || schemeDaysList.isEmpty() ) {
-            Log.e( TAG, "schemeDaysList empty or null" );
-            return result;
+        CycleTable table = cycleTable;
+        if ( table == null ) {
+            Log.e( TAG, "cycleTable not initialized" );
+            return new ArrayList<>();
         }
 
-        try {
-            // Set the date to the first day of month
-            LocalDate mRequestedStartDate = LocalDate.of( date.getYear(), date.getMonth(), 1 );
-            Log.v( TAG, "date request to the fist of month: " + mRequestedStartDate );
-
-            // Calculate the days between Scheme Initial date
-            // and the first day of month
-            // Lets use ChronoUnit.DAYS to get an exact number of days
-            long difference = ChronoUnit.DAYS.between( schemeDate, mRequestedStartDate );
-            Log.v( TAG, "days difference: " + difference );
-
-            // Calculate offset
-            int startoffset = (int) (difference % QD_SCHEME.length);
-
-            // negative values..
-            if ( startoffset < 0 ) {
-                startoffset = QD_SCHEME.length + startoffset;
-            }
-            if ( QD_LOG_ENABLED ) Log.d( TAG, "startoffset=" + startoffset );
-
-            // get month's days
-            int maxdays = mRequestedStartDate.lengthOfMonth();
-            Log.v( TAG, "number of days in month: " + maxdays );
-
-            // create Days
-            LocalDate currentDate = mRequestedStartDate;
-
-            for (int i = 0; i < maxdays; i++) {
-                // Clone a Day of the Scheme
-                Day templateDay = schemeDaysList.get( startoffset );
-                Day day = templateDay.clone();
-
-                // Set correct date
-                day.setLocalDate( currentDate );
-
-                // Add Day to the list
-                result.add( day );
-
-                // Next
-                currentDate = currentDate.plusDays( 1 );
-                startoffset = (startoffset + 1) % QD_SCHEME.length;
-            }
-
-            Log.v( TAG, "Days created for the month: " + result.size() );
-        } catch (Exception e) {
-            Log.e( TAG, "Error: " + e.getMessage(), e );
-        }
+        List<Day> result = table.daysOfMonth( date );
+        if ( QD_LOG_ENABLED ) Log.d( TAG, "Days created for the month: " + result.size() );
 
         return result;
     }
@@ -407,7 +360,7 @@ public class QuattroDue {
 
     /**
      * Create the shifts scheme
-     * A list with 18 days
+     * A list with 18 days, plus the primitive cycle table used for lookups
      */
     private void fetchSchemeList() {
 
@@ -442,17 +395,22 @@ public class QuattroDue {
                 schemeDaysList.add( day );
 
                 // Verbose Log
-                StringBuilder sb = new StringBuilder( "Day[" + (i + 1) + "]{" );
-                for (Shift shift : day.getShifts()) {
-                    sb.append( shift.toString() );
-                    for (HalfTeam halfTeam : shift.getHalfTeams()) {
-                        sb.append( "[" ).append( halfTeam.getName() ).append( "]" );
+                if ( QD_LOG_ENABLED ) {
+                    StringBuilder sb = new StringBuilder( "Day[" + (i + 1) + "]{" );
+                    for (Shift shift : day.getShifts()) {
+                        sb.append( shift.toString() );
+                        for (HalfTeam halfTeam : shift.getHalfTeams()) {
+                            sb.append( "[" ).append( halfTeam.getName() ).append( "]" );
+                        }
                     }
+                    sb.append( "}" );
+                    Log.v( TAG, sb.toString() );
                 }
-                sb.append( "}" );
-                Log.v( TAG, sb.toString() );
             }
 
+            // Build the lookup table once per scheme date
+            cycleTable = CycleTable.build( QD_SCHEME, QD_SHIFTS_PER_DAY, schemeDate, shiftTypes );
+
             Log.d( TAG, "Scheme days size: " + schemeDaysList.size() );
         } catch (Exception e) {
 
@@ -634,49 +592,21 @@ public class QuattroDue {
      * @since Added for WorkScheduleRepository compatibility
      */
     public int getDayInCycle(@NonNull LocalDate date) {
-        final String TAG = QuattroDue.TAG + ":getDayInCycle";
-        Log.v(TAG, "start - calculating cycle day for: " + date);
-
-        try {
-            // Check if scheme is initialized
-            if (schemeDate == null) {
-                Log.e(TAG, "schemeDate is null - cannot calculate cycle position");
-                return -1;
-            }
-
-            // Calculate the days between scheme start date and requested date
-            long difference = ChronoUnit.DAYS.between(schemeDate, date);
-            Log.v(TAG, "days difference from scheme start: " + difference);
-
-            // Calculate position in cycle (0-17 for 18-day cycle)
-            int cyclePosition = (int) (difference % QD_SCHEME.length);
-
-            // Handle negative values (dates before scheme start)
-            if (cyclePosition < 0) {
-                cyclePosition = QD_SCHEME.length + cyclePosition;
-            }
-
-            if (QD_LOG_ENABLED) {
-                Log.d(TAG, "date: " + date + " -> cycle position: " + cyclePosition +
-                        " (scheme start: " + schemeDate + ")");
-            }
-
-            Log.v(TAG, "completed - cycle position: " + cyclePosition);
-            return cyclePosition;
-
-        } catch (Exception e) {
-            Log.e(TAG, "Error calculating day in cycle for date: " + date, e);
+        CycleTable table = cycleTable;
+        if (table == null) {
+            Log.e(TAG, "getDayInCycle: cycleTable not initialized");
             return -1;
         }
+
+        return table.indexOf(date);
     }
 
     /**
      * Get a single Day object for a specific date.
      * <p>
-     * Creates a Day object with the appropriate shifts and team assignments
+     * Returns a flyweight Day with the appropriate shifts and team assignments
      * for the specified date, based on the QuattroDue rotation pattern.
-     * This method uses the same logic as the monthly calculation but
-     * returns only a single day.
+     * The Day shares the cycle templates and copies them only if mutated.
      *
      * @param date The date to get the Day object for
      * @return Day object with shifts and teams, or null if calculation fails
@@ -684,60 +614,13 @@ public class QuattroDue {
      */
     @Nullable
     public Day getDayByDate(@NonNull LocalDate date) {
-        final String TAG = QuattroDue.TAG + ":getDayByDate";
-        Log.v(TAG, "start - getting day for: " + date);
-
-        try {
-            // Check if scheme is initialized
-            if (schemeDaysList == null || schemeDaysList.isEmpty()) {
-                Log.e(TAG, "schemeDaysList empty or null - cannot generate day");
-                return null;
-            }
-
-            if (schemeDate == null) {
-                Log.e(TAG, "schemeDate is null - cannot calculate day position");
-                return null;
-            }
-
-            // Calculate the days between scheme start date and requested date
-            long difference = ChronoUnit.DAYS.between(schemeDate, date);
-            Log.v(TAG, "days difference from scheme start: " + difference);
-
-            // Calculate offset in the 18-day cycle
-            int cycleOffset = (int) (difference % QD_SCHEME.length);
-
-            // Handle negative values (dates before scheme start)
-            if (cycleOffset < 0) {
-                cycleOffset = QD_SCHEME.length + cycleOffset;
-            }
-
-            if (QD_LOG_ENABLED) {
-                Log.d(TAG, "date: " + date + " -> cycle offset: " + cycleOffset);
-            }
-
-            // Get the template day from the scheme
-            Day templateDay = schemeDaysList.get(cycleOffset);
-            if (templateDay == null) {
-                Log.e(TAG, "Template day is null for offset: " + cycleOffset);
-                return null;
-            }
-
-            // Clone the template day to avoid modifying the original
-            Day resultDay = templateDay.clone();
-
-            // Set the correct date
-            resultDay.setLocalDate(date);
-
-            Log.v(TAG, "completed - created day for: " + date +
-                    " (cycle offset: " + cycleOffset + ", shifts: " +
-                    resultDay.getShifts().size() + ")");
-
-            return resultDay;
-
-        } catch (Exception e) {
-            Log.e(TAG, "Error creating day for date: " + date, e);
+        CycleTable table = cycleTable;
+        if (table == null) {
+            Log.e(TAG, "getDayByDate: cycleTable not initialized");
             return null;
         }
+
+        return table.dayOf(date);
     }
 
     /**
@@ -751,22 +634,18 @@ public class QuattroDue {
      * @since Added for WorkScheduleRepository compatibility
      */
     public boolean hasWorkScheduleOnDate(@NonNull LocalDate date) {
-        final String TAG = QuattroDue.TAG + ":hasWorkScheduleOnDate";
-
-        try {
-            Day day = getDayByDate(date);
-            boolean hasSchedule = day != null && day.hasWorkSchedule();
-
-            if (QD_LOG_ENABLED) {
-                Log.d(TAG, "date: " + date + " has work schedule: " + hasSchedule);
-            }
-
-            return hasSchedule;
+        CycleTable table = cycleTable;
+        return table != null && table.hasWork(table.indexOf(date));
+    }
 
-        } catch (Exception e) {
-            Log.e(TAG, "Error checking work schedule for date: " + date, e);
-            return false;
-        }
+    /**
+     * Get the precomputed cycle table for the current scheme date.
+     *
+     * @return Cycle table, or null before initialization
+     */
+    @Nullable
+    public CycleTable getCycleTable() {
+        return cycleTable;
     }
 
     /**
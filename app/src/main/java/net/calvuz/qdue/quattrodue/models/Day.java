@@ -20,6 +20,11 @@ import net.calvuz.qdue.quattrodue.utils.Log;
  * <p>
  * Each day contains multiple shifts and tracks teams that are off work.
  * Supports cloning for template-based generation.
+ * <p>
+ * Days created with {@link #ofTemplate(LocalDate, List, List)} are flyweights:
+ * they share the immutable shift templates of a cycle day and detach into a
+ * private copy only when mutated. The "is today" state is not stored on the
+ * day anymore, it is provided by {@link DayStateOverlay}.
  *
  * @author Luke (original)
  * @author Updated 21/05/2025
@@ -42,10 +47,12 @@ public class Day implements Cloneable {
 
     // Core data
     private LocalDate localDate;  // Not final to allow modification
-    private boolean isToday;
     private List<Shift> shifts;
     private List<HalfTeam> offWorkHalfTeams;
 
+    // true while shifts and off-work teams are shared cycle templates
+    private boolean sharedTemplate;
+
     /**
      * Creates a new day with the specified date.
      *
@@ -57,10 +64,6 @@ public class Day implements Cloneable {
         this.localDate = date;
         this.shifts = new ArrayList<>();
 
-        // Set isToday if it's today
-        LocalDate today = LocalDate.now();
-        this.isToday = date.equals(today);
-
         if (LOG_ENABLED) Log.d(TAG, date + " - " + this.localDate);
 
         // Initialize off-work teams with all available teams
@@ -71,6 +74,59 @@ public class Day implements Cloneable {
         }
     }
 
+    /**
+     * Creates a flyweight day sharing the given templates.
+     *
+     * @param date             The date of the day
+     * @param shifts           Immutable shift templates of the cycle day
+     * @param offWorkHalfTeams Immutable off-work teams of the cycle day
+     */
+    private Day(LocalDate date, List<Shift> shifts, List<HalfTeam> offWorkHalfTeams) {
+        this.localDate = date;
+        this.shifts = shifts;
+        this.offWorkHalfTeams = offWorkHalfTeams;
+        this.sharedTemplate = true;
+    }
+
+    /**
+     * Creates a flyweight day that shares a cycle day's templates.
+     * <p>
+     * The lists must be immutable and must not be modified afterwards;
+     * the day copies them before any mutation.
+     *
+     * @param date             The date of the day
+     * @param shifts           Immutable shift templates
+     * @param offWorkHalfTeams Immutable off-work teams
+     * @return Day view for the date
+     */
+    @NonNull
+    public static Day ofTemplate(@NonNull LocalDate date,
+                                 @NonNull List<Shift> shifts,
+                                 @NonNull List<HalfTeam> offWorkHalfTeams) {
+        return new Day(date, shifts, offWorkHalfTeams);
+    }
+
+    /**
+     * @return true if this day still shares cycle templates
+     */
+    public boolean isSharedTemplate() {
+        return sharedTemplate;
+    }
+
+    /**
+     * Replaces shared templates with a private deep copy before a mutation.
+     */
+    private void detachFromTemplate() {
+        if (!sharedTemplate) return;
+
+        List<Shift> sharedShifts = shifts;
+        List<HalfTeam> sharedOffWork = offWorkHalfTeams;
+        sharedTemplate = false;
+
+        setOffWorkHalfTeams(sharedOffWork);
+        setShifts(sharedShifts);
+    }
+
     /**
      * Finds the shift index where a specific team is working.
      *
@@ -99,6 +155,7 @@ public class Day implements Cloneable {
      * @return Immutable list of shifts
      */
     public List<Shift> getShifts() {
+        if (sharedTemplate) return shifts;
         return shifts != null ? Collections.unmodifiableList(shifts) : new ArrayList<>();
     }
 
@@ -125,6 +182,8 @@ public class Day implements Cloneable {
      * @param shift The shift to add
      */
     public void addShift(Shift shift) {
+        detachFromTemplate();
+
         if (shifts == null) {
             shifts = new ArrayList<>();
         }
@@ -149,6 +208,12 @@ public class Day implements Cloneable {
         }
     }
 
+    /**
+     * Returns the off-work teams.
+     * The list is read-only while the day shares cycle templates.
+     *
+     * @return Off-work teams
+     */
     public List<HalfTeam> getOffWorkHalfTeams() {
         return offWorkHalfTeams;
     }
@@ -245,19 +310,10 @@ public class Day implements Cloneable {
     }
 
     /**
-     * @return true if this day is today
+     * @return true if this day is today (see {@link DayStateOverlay})
      */
     public boolean getIsToday() {
-        return this.isToday;
-    }
-
-    /**
-     * Sets whether this day is today.
-     *
-     * @param isToday true if this is today
-     */
-    public void setIsToday(boolean isToday) {
-        this.isToday = isToday;
+        return DayStateOverlay.isToday(this.localDate);
     }
 
     /**
@@ -291,6 +347,7 @@ public class Day implements Cloneable {
      */
     public void setStop(int shiftIndex) {
         if (shifts != null && shifts.size() >= shiftIndex && shiftIndex > 0) {
+            detachFromTemplate();
             shifts.get(shiftIndex - 1).setStop(true);
             if (LOG_STOPS) Log.v(TAG, "setStop: " + shiftIndex);
         }
@@ -321,8 +378,8 @@ public class Day implements Cloneable {
     public Day clone() throws CloneNotSupportedException {
         Day cloned = (Day) super.clone();
 
-        // Reset isToday to false for clone
-        cloned.setIsToday(false);
+        // A clone always owns its shifts
+        cloned.sharedTemplate = false;
 
         // Clone the date
         cloned.localDate = localDate;
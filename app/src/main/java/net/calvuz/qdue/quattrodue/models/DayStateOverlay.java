@@ -0,0 +1,64 @@
+package net.calvuz.qdue.quattrodue.models;
+
+import androidx.annotation.NonNull;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Mutable, per-date state kept outside of {@link Day}.
+ * <p>
+ * Days handed out by the cycle table are shared flyweights, so state that
+ * depends on the wall clock (e.g. "is today") cannot live on the Day itself.
+ * This overlay caches today's epoch day and refreshes it lazily at midnight,
+ * making {@link #isToday(LocalDate)} a single comparison in bind loops.
+ *
+ * @author Updated 15/10/2026
+ */
+public final class DayStateOverlay {
+
+    // Cached today (epoch day) and the instant it stops being valid
+    private static volatile long todayEpochDay = Long.MIN_VALUE;
+    private static volatile long validUntilMillis = Long.MIN_VALUE;
+
+    // Prevent instantiation
+    private DayStateOverlay() {}
+
+    /**
+     * Checks whether a date is today.
+     *
+     * @param date Date to check
+     * @return true if the date is today
+     */
+    public static boolean isToday(LocalDate date) {
+        return date != null && date.toEpochDay() == getTodayEpochDay();
+    }
+
+    /**
+     * @return Today's epoch day, recomputed only after midnight
+     */
+    public static long getTodayEpochDay() {
+        if (System.currentTimeMillis() >= validUntilMillis) {
+            refreshToday();
+        }
+        return todayEpochDay;
+    }
+
+    /**
+     * @return Today's date
+     */
+    @NonNull
+    public static LocalDate getToday() {
+        return LocalDate.ofEpochDay(getTodayEpochDay());
+    }
+
+    /**
+     * Forces today to be recomputed (e.g. after a time zone or clock change).
+     */
+    public static synchronized void refreshToday() {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate today = LocalDate.now(zone);
+        todayEpochDay = today.toEpochDay();
+        validUntilMillis = today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+}
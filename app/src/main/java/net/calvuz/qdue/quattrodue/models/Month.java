@@ -103,12 +103,13 @@ public class Month {
 
     /**
      * Sets the current day in the month.
+     * Today's flag lives in {@link DayStateOverlay}, so this only refreshes it.
      *
      * @param dayOfMonth Day of month (1-31)
      */
     public void setToday(int dayOfMonth) {
         if (daysList != null && dayOfMonth > 0 && dayOfMonth <= daysList.size()) {
-            daysList.get(dayOfMonth - 1).setIsToday(true);
+            DayStateOverlay.refreshToday();
 
             if (QD_LOG_ENABLED) {
                 Log.d(TAG, "setToday: " + dayOfMonth);
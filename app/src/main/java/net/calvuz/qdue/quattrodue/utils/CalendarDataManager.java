@@ -1,6 +1,7 @@
 package net.calvuz.qdue.quattrodue.utils;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -8,8 +9,13 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import net.calvuz.qdue.QDue;
+import net.calvuz.qdue.core.common.metrics.CacheMeter;
+import net.calvuz.qdue.core.common.metrics.Metrics;
+import net.calvuz.qdue.core.db.changes.DataChange;
+import net.calvuz.qdue.core.db.changes.DataChangeBus;
 import net.calvuz.qdue.quattrodue.QuattroDue;
 import net.calvuz.qdue.quattrodue.models.Day;
+import net.calvuz.qdue.quattrodue.models.DayStateOverlay;
 
 /**
  * Centralized data manager for calendar operations.
@@ -30,13 +36,18 @@ public class CalendarDataManager {
     private static volatile CalendarDataManager instance;
     private final Map<String, MonthCache> monthsCache = new ConcurrentHashMap<>();
     private final AtomicBoolean isUpdating = new AtomicBoolean(false);
+    private final CacheMeter cacheMeter = Metrics.cache("calendar_months");
 
     // Cache configuration
     private static final int MAX_CACHED_MONTHS = 24;
     private static final long CACHE_EXPIRY_MS = 5 * 60 * 1000; // 5 minutes
 
     // Singleton - PROTO made protected
-    protected CalendarDataManager() {}
+    protected CalendarDataManager() {
+        // Drop only the months touched by schedule changes
+        DataChangeBus.getInstance().subscribe(Runnable::run, this::onWorkScheduleChanged,
+                DataChange.Kind.WORK_SCHEDULE);
+    }
 
     /**
      * Gets the singleton instance.
@@ -78,6 +89,7 @@ public class CalendarDataManager {
         // Check cache
         MonthCache cached = monthsCache.get(cacheKey);
         if (cached != null && !cached.isExpired()) {
+            cacheMeter.hit();
             if (LOG_ENABLED) Log.v(TAG, "Cache hit: " + normalizedDate);
             List<Day> days = cached.getDaysCopy();
             updateTodayFlags(days);
@@ -85,6 +97,7 @@ public class CalendarDataManager {
         }
 
         // Cache miss - generate data
+        cacheMeter.miss();
         if (LOG_ENABLED) Log.d(TAG, "Cache miss: " + normalizedDate);
 
         try {
@@ -152,6 +165,19 @@ public class CalendarDataManager {
         if (LOG_ENABLED) Log.d(TAG, "Cache cleared");
     }
 
+    /**
+     * Removes the cached months touched by a work schedule change.
+     * Months are generated from the scheme, so a change without dates clears everything.
+     */
+    private void onWorkScheduleChanged(DataChange change) {
+        if (change.isAll()) {
+            clearCache();
+            return;
+        }
+        monthsCache.keySet().removeIf(key -> change.touches(parseCacheKey(key)));
+        if (LOG_ENABLED) Log.d(TAG, "Cache updated for " + change);
+    }
+
     /**
      * Called when user team changes.
      */
@@ -169,14 +195,21 @@ public class CalendarDataManager {
         return date.getYear() + "-" + date.getMonthValue();
     }
 
+    /**
+     * Month of a cache key generated by {@link #getCacheKey(LocalDate)}.
+     */
+    private YearMonth parseCacheKey(String key) {
+        int separator = key.indexOf('-', 1);
+        return YearMonth.of(Integer.parseInt(key.substring(0, separator)),
+                Integer.parseInt(key.substring(separator + 1)));
+    }
+
     /**
      * Updates today flags for a list of days.
+     * Days read today's state from {@link DayStateOverlay}; only the overlay is refreshed.
      */
     private void updateTodayFlags(List<Day> days) {
-        LocalDate today = LocalDate.now();
-        for (Day day : days) {
-            day.setIsToday(day.getDate().equals(today));
-        }
+        DayStateOverlay.refreshToday();
     }
 
     /**
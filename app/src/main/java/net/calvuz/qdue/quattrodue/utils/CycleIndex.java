@@ -0,0 +1,149 @@
+package net.calvuz.qdue.quattrodue.utils;
+
+import androidx.annotation.NonNull;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Epoch-day based mapping from dates to positions in a rotation cycle.
+ * <p>
+ * The position of a date is {@code floorMod(epochDay - anchorEpochDay, length)},
+ * which is exact for any date before or after the anchor. Range lookups compute
+ * a single modulo for the first day and then advance with a wrapping counter,
+ * so mapping a month or a year costs one pass over a primitive array.
+ * <p>
+ * Instances are immutable and safe to share between threads.
+ *
+ * @author Updated 15/10/2026
+ */
+public final class CycleIndex {
+
+    private final long anchorEpochDay;
+    private final int length;
+
+    /**
+     * Creates a cycle index.
+     *
+     * @param anchorEpochDay Epoch day of cycle position 0
+     * @param length         Cycle length in days
+     */
+    public CycleIndex(long anchorEpochDay, int length) {
+        if (length <= 0) {
+            throw new IllegalArgumentException("Cycle length must be positive: " + length);
+        }
+        this.anchorEpochDay = anchorEpochDay;
+        this.length = length;
+    }
+
+    /**
+     * Creates a cycle index anchored on a date.
+     *
+     * @param anchorDate Date of cycle position 0
+     * @param length     Cycle length in days
+     * @return Cycle index
+     */
+    @NonNull
+    public static CycleIndex of(@NonNull LocalDate anchorDate, int length) {
+        return new CycleIndex(anchorDate.toEpochDay(), length);
+    }
+
+    // ==================== SINGLE DATE ====================
+
+    /**
+     * @param epochDay Days since 1970-01-01
+     * @return Cycle position (0 to length - 1)
+     */
+    public int positionOf(long epochDay) {
+        return (int) Math.floorMod(epochDay - anchorEpochDay, (long) length);
+    }
+
+    /**
+     * @param date Date
+     * @return Cycle position (0 to length - 1)
+     */
+    public int positionOf(@NonNull LocalDate date) {
+        return positionOf(date.toEpochDay());
+    }
+
+    // ==================== RANGES ====================
+
+    /**
+     * Number of days in an inclusive range.
+     *
+     * @param startDate First day
+     * @param endDate   Last day
+     * @return Day count, 0 if end is before start
+     */
+    public static int dayCount(@NonNull LocalDate startDate, @NonNull LocalDate endDate) {
+        long days = endDate.toEpochDay() - startDate.toEpochDay() + 1;
+        if (days > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Range too large: " + startDate + " - " + endDate);
+        }
+        return days > 0 ? (int) days : 0;
+    }
+
+    /**
+     * Maps every day of an inclusive range to its cycle position.
+     *
+     * @param startDate First day
+     * @param endDate   Last day
+     * @return Positions, element i is the position of {@code startDate + i}
+     */
+    @NonNull
+    public int[] positions(@NonNull LocalDate startDate, @NonNull LocalDate endDate) {
+        int[] out = new int[dayCount(startDate, endDate)];
+        fillPositions(startDate.toEpochDay(), out);
+        return out;
+    }
+
+    /**
+     * Fills an array with consecutive cycle positions.
+     *
+     * @param startEpochDay Epoch day of element 0
+     * @param out           Destination, filled entirely
+     */
+    public void fillPositions(long startEpochDay, @NonNull int[] out) {
+        int position = positionOf(startEpochDay);
+        for (int i = 0; i < out.length; i++) {
+            out[i] = position;
+            if (++position == length) position = 0;
+        }
+    }
+
+    // ==================== GETTERS ====================
+
+    /**
+     * @return Epoch day of cycle position 0
+     */
+    public long getAnchorEpochDay() {
+        return anchorEpochDay;
+    }
+
+    /**
+     * @return Cycle length in days
+     */
+    public int getLength() {
+        return length;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        CycleIndex other = (CycleIndex) obj;
+        return anchorEpochDay == other.anchorEpochDay && length == other.length;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(anchorEpochDay, length);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "CycleIndex{anchor=" + LocalDate.ofEpochDay(anchorEpochDay) + ", length=" + length + "}";
+    }
+}
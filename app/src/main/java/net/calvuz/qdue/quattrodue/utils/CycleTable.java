@@ -0,0 +1,334 @@
+package net.calvuz.qdue.quattrodue.utils;
+
+import androidx.annotation.NonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import net.calvuz.qdue.quattrodue.models.Day;
+import net.calvuz.qdue.quattrodue.models.HalfTeam;
+import net.calvuz.qdue.quattrodue.models.Shift;
+import net.calvuz.qdue.quattrodue.models.ShiftType;
+
+/**
+ * Precomputed lookup table for a rotation scheme.
+ * <p>
+ * Each cycle day is encoded as primitive half-team bitmasks (bit 0 = team A,
+ * bit 8 = team I), one per work shift, plus a union mask of all working teams.
+ * The table also holds one immutable Shift/HalfTeam template graph per cycle
+ * day, so {@link #dayOf(LocalDate)} can hand out flyweight {@link Day}s that
+ * share those templates instead of deep-cloning them for every calendar day.
+ * <p>
+ * Instances are immutable and safe to share between threads. A new table is
+ * built whenever the scheme start date changes.
+ *
+ * @author Updated 15/10/2026
+ */
+public final class CycleTable {
+
+    private static final String TAG = "CycleTable";
+
+    /** Returned when a half-team is not on any shift in a cycle day. */
+    public static final int NO_SHIFT = -1;
+
+    // Scheme anchor
+    private final LocalDate schemeDate;
+    private final CycleIndex cycleIndex;
+
+    // Table dimensions
+    private final int length;
+    private final int shiftsPerDay;
+
+    // Primitive table: shiftMasks[cycleIndex * shiftsPerDay + shiftIndex]
+    private final int[] shiftMasks;
+    private final int[] workMasks;
+
+    // Shared templates (flyweights) per cycle day
+    private final List<List<Shift>> templateShifts;
+    private final List<List<HalfTeam>> templateOffWork;
+
+    private CycleTable(LocalDate schemeDate, int length, int shiftsPerDay,
+                       int[] shiftMasks, int[] workMasks,
+                       List<List<Shift>> templateShifts,
+                       List<List<HalfTeam>> templateOffWork) {
+        this.schemeDate = schemeDate;
+        this.cycleIndex = CycleIndex.of(schemeDate, length);
+        this.length = length;
+        this.shiftsPerDay = shiftsPerDay;
+        this.shiftMasks = shiftMasks;
+        this.workMasks = workMasks;
+        this.templateShifts = templateShifts;
+        this.templateOffWork = templateOffWork;
+    }
+
+    /**
+     * Builds the table for a rotation scheme.
+     *
+     * @param scheme       Rotation scheme (day → shift → team characters)
+     * @param shiftsPerDay Number of work shifts per day (trailing groups are rest teams)
+     * @param schemeDate   Date of the first cycle day
+     * @param shiftTypes   Shift types, one per work shift
+     * @return Immutable cycle table
+     */
+    @NonNull
+    public static CycleTable build(@NonNull char[][][] scheme, int shiftsPerDay,
+                                   @NonNull LocalDate schemeDate,
+                                   @NonNull List<ShiftType> shiftTypes) {
+        final int length = scheme.length;
+        int[] shiftMasks = new int[length * shiftsPerDay];
+        int[] workMasks = new int[length];
+        List<List<Shift>> templateShifts = new ArrayList<>(length);
+        List<List<HalfTeam>> templateOffWork = new ArrayList<>(length);
+        List<HalfTeam> allTeams = HalfTeamFactory.getAllTeams();
+        Collections.sort(allTeams);
+
+        for (int dayIndex = 0; dayIndex < length; dayIndex++) {
+            List<Shift> shifts = new ArrayList<>(shiftsPerDay);
+
+            for (int shiftIndex = 0; shiftIndex < shiftsPerDay; shiftIndex++) {
+                Shift shift = new Shift(shiftTypes.get(shiftIndex));
+                int mask = 0;
+
+                for (char teamChar : scheme[dayIndex][shiftIndex]) {
+                    shift.addHalfTeam(HalfTeamFactory.getByChar(teamChar));
+                    mask |= maskOf(teamChar);
+                }
+
+                shiftMasks[dayIndex * shiftsPerDay + shiftIndex] = mask;
+                workMasks[dayIndex] |= mask;
+                shifts.add(shift);
+            }
+
+            List<HalfTeam> offWork = new ArrayList<>();
+            for (HalfTeam team : allTeams) {
+                if ((workMasks[dayIndex] & maskOf(team)) == 0) {
+                    offWork.add(team);
+                }
+            }
+
+            templateShifts.add(Collections.unmodifiableList(shifts));
+            templateOffWork.add(Collections.unmodifiableList(offWork));
+        }
+
+        Log.d(TAG, "Cycle table built: " + length + " days from " + schemeDate);
+        return new CycleTable(schemeDate, length, shiftsPerDay, shiftMasks, workMasks,
+                templateShifts, templateOffWork);
+    }
+
+    // ==================== MASKS ====================
+
+    /**
+     * Bitmask for a half-team character (A-I).
+     *
+     * @param teamChar Team identifier
+     * @return Single-bit mask, or 0 if the character is not a known team
+     */
+    public static int maskOf(char teamChar) {
+        int bit = Character.toUpperCase(teamChar) - 'A';
+        return bit >= 0 && bit < 31 ? 1 << bit : 0;
+    }
+
+    /**
+     * Bitmask for a half-team.
+     *
+     * @param halfTeam Team
+     * @return Single-bit mask, or 0 if the team is null or unnamed
+     */
+    public static int maskOf(HalfTeam halfTeam) {
+        if (halfTeam == null || halfTeam.getName() == null || halfTeam.getName().isEmpty()) {
+            return 0;
+        }
+        return maskOf(halfTeam.getName().charAt(0));
+    }
+
+    // ==================== LOOKUPS ====================
+
+    /**
+     * Cycle position for an epoch day.
+     *
+     * @param epochDay Days since 1970-01-01
+     * @return Cycle index (0 to length - 1), also for dates before the scheme start
+     */
+    public int indexOf(long epochDay) {
+        return cycleIndex.positionOf(epochDay);
+    }
+
+    /**
+     * Cycle position for a date.
+     *
+     * @param date Date
+     * @return Cycle index (0 to length - 1)
+     */
+    public int indexOf(@NonNull LocalDate date) {
+        return indexOf(date.toEpochDay());
+    }
+
+    /**
+     * @param cycleIndex Cycle position
+     * @param shiftIndex Shift position (0-based)
+     * @return Bitmask of the half-teams on that shift
+     */
+    public int getShiftMask(int cycleIndex, int shiftIndex) {
+        return shiftMasks[cycleIndex * shiftsPerDay + shiftIndex];
+    }
+
+    /**
+     * @param cycleIndex Cycle position
+     * @return Bitmask of all half-teams working that cycle day
+     */
+    public int getWorkMask(int cycleIndex) {
+        return workMasks[cycleIndex];
+    }
+
+    /**
+     * @param cycleIndex Cycle position
+     * @return true if at least one half-team works that cycle day
+     */
+    public boolean hasWork(int cycleIndex) {
+        return workMasks[cycleIndex] != 0;
+    }
+
+    /**
+     * Finds the shift a half-team works in a cycle day.
+     *
+     * @param cycleIndex Cycle position
+     * @param teamMask   Half-team mask (see {@link #maskOf(HalfTeam)})
+     * @return Shift index (0-based), or {@link #NO_SHIFT}
+     */
+    public int findShiftIndex(int cycleIndex, int teamMask) {
+        if (teamMask == 0 || (workMasks[cycleIndex] & teamMask) == 0) {
+            return NO_SHIFT;
+        }
+
+        final int base = cycleIndex * shiftsPerDay;
+        for (int shiftIndex = 0; shiftIndex < shiftsPerDay; shiftIndex++) {
+            if ((shiftMasks[base + shiftIndex] & teamMask) != 0) {
+                return shiftIndex;
+            }
+        }
+        return NO_SHIFT;
+    }
+
+    // ==================== RANGE QUERIES ====================
+
+    /**
+     * Half-teams working on each day of a range, as one bitset per day.
+     *
+     * @param startDate First day
+     * @param endDate   Last day (inclusive)
+     * @return Masks, element i belongs to {@code startDate + i}
+     */
+    @NonNull
+    public int[] workMasks(@NonNull LocalDate startDate, @NonNull LocalDate endDate) {
+        int[] out = cycleIndex.positions(startDate, endDate);
+        for (int i = 0; i < out.length; i++) {
+            out[i] = workMasks[out[i]];
+        }
+        return out;
+    }
+
+    /**
+     * Shift worked by a half-team on each day of a range.
+     *
+     * @param startDate First day
+     * @param endDate   Last day (inclusive)
+     * @param teamMask  Half-team mask (see {@link #maskOf(HalfTeam)})
+     * @return Shift indexes, {@link #NO_SHIFT} on rest days
+     */
+    @NonNull
+    public int[] shiftIndexes(@NonNull LocalDate startDate, @NonNull LocalDate endDate, int teamMask) {
+        int[] out = cycleIndex.positions(startDate, endDate);
+        for (int i = 0; i < out.length; i++) {
+            out[i] = findShiftIndex(out[i], teamMask);
+        }
+        return out;
+    }
+
+    /**
+     * Days of a range on which any of the given half-teams works.
+     *
+     * @param startDate First day
+     * @param endDate   Last day (inclusive)
+     * @param teamMask  Half-team mask (one or more bits)
+     * @return Bit i is set if {@code startDate + i} is a working day
+     */
+    @NonNull
+    public BitSet workingDays(@NonNull LocalDate startDate, @NonNull LocalDate endDate, int teamMask) {
+        int[] positions = cycleIndex.positions(startDate, endDate);
+        BitSet out = new BitSet(positions.length);
+        for (int i = 0; i < positions.length; i++) {
+            if ((workMasks[positions[i]] & teamMask) != 0) {
+                out.set(i);
+            }
+        }
+        return out;
+    }
+
+    // ==================== DAY VIEWS ====================
+
+    /**
+     * Flyweight day for a date, sharing the cycle day's immutable templates.
+     *
+     * @param date Date
+     * @return Day view (copy-on-write on mutation)
+     */
+    @NonNull
+    public Day dayOf(@NonNull LocalDate date) {
+        int cycleIndex = indexOf(date);
+        return Day.ofTemplate(date, templateShifts.get(cycleIndex), templateOffWork.get(cycleIndex));
+    }
+
+    /**
+     * Flyweight days for a whole month.
+     *
+     * @param monthDate Any date in the month
+     * @return Days from the 1st to the last of the month
+     */
+    @NonNull
+    public List<Day> daysOfMonth(@NonNull LocalDate monthDate) {
+        LocalDate date = monthDate.withDayOfMonth(1);
+        int[] positions = cycleIndex.positions(date, monthDate.withDayOfMonth(monthDate.lengthOfMonth()));
+        List<Day> days = new ArrayList<>(positions.length);
+
+        for (int position : positions) {
+            days.add(Day.ofTemplate(date, templateShifts.get(position), templateOffWork.get(position)));
+            date = date.plusDays(1);
+        }
+        return days;
+    }
+
+    // ==================== GETTERS ====================
+
+    /**
+     * @return Date of the first cycle day
+     */
+    @NonNull
+    public LocalDate getSchemeDate() {
+        return schemeDate;
+    }
+
+    /**
+     * @return Date to cycle position mapping of this table
+     */
+    @NonNull
+    public CycleIndex getCycleIndex() {
+        return cycleIndex;
+    }
+
+    /**
+     * @return Number of days in the cycle
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * @return Number of work shifts per day
+     */
+    public int getShiftsPerDay() {
+        return shiftsPerDay;
+    }
+}
@@ -1,7 +1,6 @@
 package net.calvuz.qdue.quattrodue.utils;
 
 import java.time.LocalDate;
-import java.time.Period;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,6 +15,9 @@ import net.calvuz.qdue.quattrodue.models.ShiftType;
  * Implements the logic for applying the fixed shift rotation scheme.
  * Contains the 18-day rotation pattern and provides methods for
  * generating days, finding team schedules, and calculating rotations.
+ * <p>
+ * Date to cycle arithmetic goes through {@link CycleIndex} (exact epoch-day
+ * offsets); range queries map a whole interval in one pass.
  *
  * @author Updated 21/05/2025
  */
@@ -54,6 +56,10 @@ public final class SchemeManager {
 
     // Reference start date for the scheme
     private static LocalDate referenceStartDate = LocalDate.of(2018, 11, 7);
+    private static volatile CycleIndex cycleIndex = CycleIndex.of(referenceStartDate, CYCLE_LENGTH);
+
+    // Half-team bitmasks per cycle day (bit 0 = team A), working teams only
+    private static final int[] WORK_MASKS = buildWorkMasks();
 
     // Prevent instantiation
     private SchemeManager() {}
@@ -66,9 +72,19 @@ public final class SchemeManager {
     public static void setReferenceStartDate(LocalDate date) {
         if (date != null) {
             referenceStartDate = date;
+            cycleIndex = CycleIndex.of(date, CYCLE_LENGTH);
         }
     }
 
+    /**
+     * Gets the cycle index for the current reference start date.
+     *
+     * @return Cycle index
+     */
+    public static CycleIndex getCycleIndex() {
+        return cycleIndex;
+    }
+
     /**
      * Gets the reference start date for the scheme.
      *
@@ -138,24 +154,16 @@ public final class SchemeManager {
             // Set date to first day of month
             LocalDate firstDayOfMonth = LocalDate.of(targetDate.getYear(), targetDate.getMonth(), 1);
 
-            // Calculate days between reference date and first day of month
-            int daysBetween = (int) Period.between(referenceStartDate, firstDayOfMonth).toTotalMonths() * 30 +
-                    Period.between(referenceStartDate, firstDayOfMonth).getDays();
-
-            // Calculate starting index in cycle
-            int startIndex = Math.floorMod(daysBetween, CYCLE_LENGTH);
-
-            // Get number of days in month
-            int daysInMonth = targetDate.lengthOfMonth();
+            // Map the whole month to cycle positions in one pass
+            int[] positions = cycleIndex.positions(firstDayOfMonth,
+                    firstDayOfMonth.withDayOfMonth(firstDayOfMonth.lengthOfMonth()));
 
             // Generate month days
             LocalDate currentDate = firstDayOfMonth;
 
-            for (int i = 0; i < daysInMonth; i++) {
-                int cycleIndex = (startIndex + i) % CYCLE_LENGTH;
-
+            for (int position : positions) {
                 // Clone day from cycle
-                Day day = cycleDays.get(cycleIndex).clone();
+                Day day = cycleDays.get(position).clone();
 
                 // Set correct date
                 day.setLocalDate(currentDate);
@@ -213,16 +221,12 @@ public final class SchemeManager {
         }
 
         try {
-            // Calculate days between reference date and specified date
-            int daysBetween = (int) Period.between(referenceStartDate, date).toTotalMonths() * 30 +
-                    Period.between(referenceStartDate, date).getDays();
-
-            // Calculate cycle index
-            int cycleIndex = Math.floorMod(daysBetween, CYCLE_LENGTH);
+            // Calculate cycle position
+            int position = cycleIndex.positionOf(date);
 
             // Get teams on shift for each shift type
             for (int shiftIndex = 0; shiftIndex < SHIFTS_PER_DAY; shiftIndex++) {
-                char[] teamChars = SCHEME[cycleIndex][shiftIndex];
+                char[] teamChars = SCHEME[position][shiftIndex];
                 for (char teamChar : teamChars) {
                     HalfTeam team = HalfTeamFactory.getByChar(teamChar);
                     workingTeams.add(team);
@@ -256,4 +260,38 @@ public final class SchemeManager {
 
         return offWorkTeams;
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the half-teams working on each day of a range as bitsets.
+     *
+     * @param startDate First day
+     * @param endDate   Last day (inclusive)
+     * @return Masks (bit 0 = team A), element i belongs to {@code startDate + i}
+     */
+    public static int[] getWorkingTeamMasks(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            return new int[0];
+        }
+
+        int[] masks = cycleIndex.positions(startDate, endDate);
+        for (int i = 0; i < masks.length; i++) {
+            masks[i] = WORK_MASKS[masks[i]];
+        }
+        return masks;
+    }
+
+    /**
+     * Builds the working half-team mask of every cycle day.
+     */
+    private static int[] buildWorkMasks() {
+        int[] masks = new int[CYCLE_LENGTH];
+        for (int dayIndex = 0; dayIndex < CYCLE_LENGTH; dayIndex++) {
+            for (int shiftIndex = 0; shiftIndex < SHIFTS_PER_DAY; shiftIndex++) {
+                for (char teamChar : SCHEME[dayIndex][shiftIndex]) {
+                    masks[dayIndex] |= CycleTable.maskOf(teamChar);
+                }
+            }
+        }
+        return masks;
+    }
+}
@@ -5,6 +5,8 @@ import static net.calvuz.qdue.ui.core.common.utils.Library.getColorByThemeAttr;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -13,25 +15,38 @@ import android.widget.ProgressBar;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.google.android.material.card.MaterialCardView;
 
 import net.calvuz.qdue.QDue;
 import net.calvuz.qdue.R;
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
+import net.calvuz.qdue.core.common.concurrent.CancellationToken;
+import net.calvuz.qdue.core.common.metrics.Metrics;
+import net.calvuz.qdue.core.common.metrics.TraceSection;
+import net.calvuz.qdue.events.models.EventDaySummary;
 import net.calvuz.qdue.events.models.LocalEvent;
 import net.calvuz.qdue.quattrodue.models.Day;
+import net.calvuz.qdue.quattrodue.models.DayStateOverlay;
 import net.calvuz.qdue.quattrodue.models.HalfTeam;
 import net.calvuz.qdue.quattrodue.models.Shift;
 import net.calvuz.qdue.ui.core.common.models.SharedViewModels;
+import net.calvuz.qdue.ui.core.common.models.VirtualCalendarList;
 import net.calvuz.qdue.ui.core.common.utils.EventIndicatorHelper;
 import net.calvuz.qdue.ui.core.common.utils.Log;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Base adapter with common functionality for RecyclerView.
@@ -42,6 +57,13 @@ import java.util.Map;
  * - Performance optimizations
  * - Memory management
  * <p>
+ * LIST UPDATES:
+ * - Items have stable ids ({@link SharedViewModels.ViewItem#getStableId()})
+ * - {@link #setItems(List)} diffs the new list on a background thread
+ * - {@link #insertItems(int, List)} / {@link #removeItems(int, int)} for month loads
+ * - Today and event indicator changes rebind with {@link #PAYLOAD_TODAY} / {@link #PAYLOAD_EVENTS}
+ * - A {@link VirtualCalendarList} is used as is: positions of dates are computed, never searched
+ * <p>
  * REFACTORED from BaseAdapterLegacy:
  * - Removed "Legacy" suffix
  * - Enhanced performance
@@ -60,12 +82,26 @@ public abstract class BaseAdapter extends RecyclerView.Adapter<RecyclerView.View
     protected static final int VIEW_TYPE_LOADING = 2;
     protected static final int VIEW_TYPE_EMPTY = 3;
 
+    // PAYLOADS (partial rebinds of day cells)
+    public static final Object PAYLOAD_TODAY = "payload_today";
+    public static final Object PAYLOAD_EVENTS = "payload_events";
+
     // MEMBERS
     protected final Context mContext;
     protected List<SharedViewModels.ViewItem> mItems;
     protected HalfTeam mUserHalfTeam;
     protected final int mNumShifts;
 
+    // Events summaries driving the day indicators
+    protected Map<LocalDate, EventDaySummary> mDaySummaries = new HashMap<>();
+
+    // LIST UPDATES (main thread only)
+    private final Handler mDiffHandler = new Handler(Looper.getMainLooper());
+    private int mDiffGeneration = 0;
+    private CancellationToken mDiffToken = null;
+    private List<SharedViewModels.ViewItem> mPendingItems = null;
+    private long mBoundTodayEpochDay;
+
     // CACHED THEME COLORS (reduced set - highlighting now handled by HighlightingHelper)
     protected int mCachedNormalTextColor = 0;
 
@@ -80,9 +116,12 @@ public abstract class BaseAdapter extends RecyclerView.Adapter<RecyclerView.View
     public BaseAdapter(Context context, List<SharedViewModels.ViewItem> items,
                        HalfTeam userHalfTeam, int numShifts) {
         this.mContext = context;
-        this.mItems = items;
+        this.mItems = items instanceof VirtualCalendarList ? items
+                : items != null ? new ArrayList<>(items) : new ArrayList<>();
         this.mUserHalfTeam = userHalfTeam;
         this.mNumShifts = numShifts;
+        this.mBoundTodayEpochDay = DayStateOverlay.getTodayEpochDay();
+        setHasStableIds(true);
         initializeColorCache();
     }
 
@@ -101,14 +140,119 @@ public abstract class BaseAdapter extends RecyclerView.Adapter<RecyclerView.View
     // ==================== METHODS ====================
 
     /**
-     * Updates the adapter's data set and refreshes the display.
+     * Updates the adapter's data set.
+     * The difference with the current items is computed on the compute lane
+     * and dispatched as fine-grained notifications; a newer update discards a
+     * pending one. Virtual lists are not diffed: they replace the items at once.
+     * Must be called on the main thread.
      *
-     * @param newItems New list of view items to display
+     * @param newItems New list of view items to display, owned by the adapter from now on
      */
     @SuppressLint("NotifyDataSetChanged")
     public void setItems(List<SharedViewModels.ViewItem> newItems) {
-        this.mItems = newItems;
-        notifyDataSetChanged();
+        final List<SharedViewModels.ViewItem> oldItems = mItems;
+        final List<SharedViewModels.ViewItem> targetItems = newItems != null ? newItems : new ArrayList<>();
+        final int generation = ++mDiffGeneration;
+        if (mDiffToken != null) {
+            mDiffToken.cancel();
+            mDiffToken = null;
+        }
+
+        if (oldItems instanceof VirtualCalendarList || targetItems instanceof VirtualCalendarList) {
+            mPendingItems = null;
+            mItems = targetItems;
+            notifyDataSetChanged();
+            return;
+        }
+
+        // Nothing to diff: a single range notification
+        if (oldItems.isEmpty() || targetItems.isEmpty()) {
+            mPendingItems = null;
+            mItems = targetItems;
+            if (!oldItems.isEmpty()) {
+                notifyItemRangeRemoved(0, oldItems.size());
+            } else if (!targetItems.isEmpty()) {
+                notifyItemRangeInserted(0, targetItems.size());
+            }
+            return;
+        }
+
+        mPendingItems = targetItems;
+        mDiffToken = new CancellationToken();
+        AppExecutors.getInstance().compute().supply(() -> DiffUtil.calculateDiff(
+                new ViewItemDiffCallback(oldItems, targetItems), true), mDiffToken
+        ).whenComplete((result, error) -> mDiffHandler.post(() -> {
+            if (generation != mDiffGeneration) {
+                if (DEBUG_BASEADAPTER) Log.d(TAG, "setItems: discarded stale diff " + generation);
+                return;
+            }
+            mDiffToken = null;
+            mPendingItems = null;
+            mItems = targetItems;
+            if (result != null) {
+                result.dispatchUpdatesTo(this);
+            } else {
+                // Diff rejected by a saturated lane or failed: replace the items at once
+                Log.w(TAG, "setItems: diff not available, full refresh: " + error);
+                notifyDataSetChanged();
+            }
+        }));
+    }
+
+    /**
+     * Inserts items as a single range notification (e.g. loaded pages).
+     * Not supported by virtual lists. Must be called on the main thread.
+     *
+     * @param position Insert position
+     * @param items    Items to insert
+     */
+    public void insertItems(int position, @NonNull List<SharedViewModels.ViewItem> items) {
+        if (items.isEmpty()) return;
+
+        if (mPendingItems != null) {
+            // A diff is running: fold the insertion into a new diff
+            List<SharedViewModels.ViewItem> targetItems = new ArrayList<>(mPendingItems);
+            targetItems.addAll(position, items);
+            setItems(targetItems);
+            return;
+        }
+
+        mItems.addAll(position, items);
+        notifyItemRangeInserted(position, items.size());
+    }
+
+    /**
+     * Removes items as a single range notification.
+     * Not supported by virtual lists. Must be called on the main thread.
+     *
+     * @param position First position to remove
+     * @param count    Number of items to remove
+     */
+    public void removeItems(int position, int count) {
+        if (count <= 0) return;
+
+        if (mPendingItems != null) {
+            // A diff is running: fold the removal into a new diff
+            List<SharedViewModels.ViewItem> targetItems = new ArrayList<>(mPendingItems);
+            targetItems.subList(position, position + count).clear();
+            setItems(targetItems);
+            return;
+        }
+
+        mItems.subList(position, position + count).clear();
+        notifyItemRangeRemoved(position, count);
+    }
+
+    /**
+     * Returns the stable id of the item at the specified position.
+     *
+     * @param position Position of the item in the adapter
+     * @return Stable id, or NO_ID if the position is out of range
+     */
+    @Override
+    public long getItemId(int position) {
+        if (position < 0 || position >= mItems.size()) return RecyclerView.NO_ID;
+        return mItems.get(position).getStableId();
     }
 
     /**
@@ -182,35 +326,60 @@ public abstract class BaseAdapter extends RecyclerView.Adapter<RecyclerView.View
      */
     @Override
     public void onBindViewHolder(@NonNull RecyclerView.ViewHolder holder, int position) {
-        if (position >= mItems.size()) return;
+        try (TraceSection section = Metrics.trace("bind.calendar_item")) {
+            if (position >= mItems.size()) return;
 
-        if (DEBUG_BASEADAPTER) {
-            Log.d(TAG, "onBindViewHolder: ViewHolder = " + holder.getClass().getSimpleName());
-        }
+            if (DEBUG_BASEADAPTER) {
+                Log.d(TAG, "onBindViewHolder: ViewHolder = " + holder.getClass().getSimpleName());
+            }
 
-        SharedViewModels.ViewItem item = mItems.get(position);
+            SharedViewModels.ViewItem item = mItems.get(position);
 
-        if (holder instanceof MonthHeaderViewHolder) {
-            SharedViewModels.MonthHeader header = (SharedViewModels.MonthHeader) item;
-            bindMonthHeader((MonthHeaderViewHolder) holder, header);
+            if (holder instanceof MonthHeaderViewHolder) {
+                SharedViewModels.MonthHeader header = (SharedViewModels.MonthHeader) item;
+                bindMonthHeader((MonthHeaderViewHolder) holder, header);
 
-        } else if (holder instanceof LoadingViewHolder) {
-            SharedViewModels.LoadingItem loading = (SharedViewModels.LoadingItem) item;
-            bindLoading((LoadingViewHolder) holder, loading);
+            } else if (holder instanceof LoadingViewHolder) {
+                SharedViewModels.LoadingItem loading = (SharedViewModels.LoadingItem) item;
+                bindLoading((LoadingViewHolder) holder, loading);
 
-        } else if (holder instanceof EmptyViewHolder) {
-            bindEmpty((EmptyViewHolder) holder);
+            } else if (holder instanceof EmptyViewHolder) {
+                bindEmpty((EmptyViewHolder) holder);
+
+            } else if (holder instanceof DayViewHolder) {
+                SharedViewModels.DayItem dayItem = (SharedViewModels.DayItem) item;
+                bindDay((DayViewHolder) holder, dayItem, position);
 
-        } else if (holder instanceof DayViewHolder) {
-            SharedViewModels.DayItem dayItem = (SharedViewModels.DayItem) item;
-            bindDay((DayViewHolder) holder, dayItem, position);
+            }
 
+            if (DEBUG_BASEADAPTER) {
+                Log.d(TAG, "onBindViewHolder: mItems.size() = " + mItems.size());
+                Log.d(TAG, "onBindViewHolder: position = " + position);
+                Log.d(TAG, "onBindViewHolder: item type = " + item.getClass().getSimpleName());
+            }
         }
+    }
 
-        if (DEBUG_BASEADAPTER) {
-            Log.d(TAG, "onBindViewHolder: mItems.size() = " + mItems.size());
-            Log.d(TAG, "onBindViewHolder: position = " + position);
-            Log.d(TAG, "onBindViewHolder: item type = " + item.getClass().getSimpleName());
+    /**
+     * Binds data with payloads: day cells with {@link #PAYLOAD_TODAY} or
+     * {@link #PAYLOAD_EVENTS} are partially rebound, everything else is fully bound.
+     *
+     * @param holder   ViewHolder to bind data to
+     * @param position Position of the item in the adapter
+     * @param payloads Payloads of the pending change notifications
+     */
+    @Override
+    public void onBindViewHolder(@NonNull RecyclerView.ViewHolder holder, int position,
+                                 @NonNull List<Object> payloads) {
+        if (payloads.isEmpty() || !(holder instanceof DayViewHolder)
+                || position >= mItems.size() || !(mItems.get(position) instanceof SharedViewModels.DayItem)) {
+            onBindViewHolder(holder, position);
+            return;
+        }
+
+        try (TraceSection section = Metrics.trace("bind.calendar_day_payload")) {
+            bindDayPayloads((DayViewHolder) holder, (SharedViewModels.DayItem) mItems.get(position),
+                    position, payloads);
         }
     }
 
@@ -397,6 +566,120 @@ public abstract class BaseAdapter extends RecyclerView.Adapter<RecyclerView.View
         }
     }
 
+    /**
+     * Partially rebinds a day for {@link #PAYLOAD_TODAY} / {@link #PAYLOAD_EVENTS}.
+     * The default implementation performs a full bind; subclasses override it
+     * to refresh only highlighting and event indicators.
+     *
+     * @param holder   ViewHolder to bind data to
+     * @param dayItem  Day item data to bind
+     * @param position Position in the adapter
+     * @param payloads Payloads of the pending change notifications
+     */
+    protected void bindDayPayloads(DayViewHolder holder, SharedViewModels.DayItem dayItem, int position,
+                                   List<Object> payloads) {
+        bindDay(holder, dayItem, position);
+    }
+
+    // ==================== PARTIAL UPDATES ====================
+
+    /**
+     * Refreshes the today highlighting after the date changed (e.g. on resume after midnight).
+     * Only yesterday's and today's cells are rebound.
+     */
+    public void notifyTodayChanged() {
+        long today = DayStateOverlay.getTodayEpochDay();
+        if (today == mBoundTodayEpochDay) return;
+
+        Set<LocalDate> dates = new HashSet<>();
+        dates.add(LocalDate.ofEpochDay(mBoundTodayEpochDay));
+        dates.add(LocalDate.ofEpochDay(today));
+        mBoundTodayEpochDay = today;
+
+        notifyDatesChanged(dates, PAYLOAD_TODAY);
+    }
+
+    /**
+     * Updates the day summaries driving the event indicators.
+     * Only the days whose summary changed are rebound, with {@link #PAYLOAD_EVENTS}.
+     *
+     * @param daySummaries Map of day summaries
+     *                     Key: Date,
+     *                     Value: Summary of the date events
+     */
+    public void updateDaySummaries(Map<LocalDate, EventDaySummary> daySummaries) {
+        if (Looper.myLooper() != Looper.getMainLooper()) {
+            mDiffHandler.post(() -> updateDaySummaries(daySummaries));
+            return;
+        }
+
+        Map<LocalDate, EventDaySummary> previous = mDaySummaries;
+        mDaySummaries = daySummaries != null ? new HashMap<>(daySummaries) : new HashMap<>();
+
+        Set<LocalDate> changedDates = new HashSet<>();
+        for (Map.Entry<LocalDate, EventDaySummary> entry : mDaySummaries.entrySet()) {
+            if (!Objects.equals(entry.getValue(), previous.get(entry.getKey()))) {
+                changedDates.add(entry.getKey());
+            }
+        }
+        for (LocalDate date : previous.keySet()) {
+            if (!mDaySummaries.containsKey(date)) {
+                changedDates.add(date);
+            }
+        }
+
+        Log.d(TAG, "updateDaySummaries: " + mDaySummaries.size() + " dates with events, "
+                + changedDates.size() + " changed");
+
+        notifyDatesChanged(changedDates, PAYLOAD_EVENTS);
+    }
+
+    /**
+     * Get the events summary of a specific date.
+     *
+     * @param date Date to get the summary for
+     * @return Summary of the date, or null if the date has no events
+     */
+    @Nullable
+    protected EventDaySummary getDaySummaryForDate(LocalDate date) {
+        return mDaySummaries.get(date);
+    }
+
+    /**
+     * Rebinds the event indicators of every item, without a full rebind.
+     */
+    public void notifyEventIndicatorsChanged() {
+        notifyItemRangeChanged(0, getItemCount(), PAYLOAD_EVENTS);
+    }
+
+    /**
+     * Notifies a change with payload for the day cells of the given dates.
+     *
+     * @param dates   Dates to rebind
+     * @param payload Change payload
+     */
+    protected void notifyDatesChanged(Set<LocalDate> dates, Object payload) {
+        if (dates.isEmpty()) return;
+
+        if (mItems instanceof VirtualCalendarList) {
+            for (LocalDate date : dates) {
+                int position = ((VirtualCalendarList) mItems).positionOf(date);
+                if (position >= 0) {
+                    notifyItemChanged(position, payload);
+                }
+            }
+            return;
+        }
+
+        for (int i = 0; i < mItems.size(); i++) {
+            SharedViewModels.ViewItem item = mItems.get(i);
+            if (item instanceof SharedViewModels.DayItem dayItem
+                    && dayItem.day != null && dates.contains(dayItem.day.getDate())) {
+                notifyItemChanged(i, payload);
+            }
+        }
+    }
+
     // ==================== HELPER METHODS FOR BINDING ====================
 
     /**
@@ -484,13 +767,17 @@ public abstract class BaseAdapter extends RecyclerView.Adapter<RecyclerView.View
      * @return Position of the date, or -1 if not found
      */
     public int findPositionForDate(java.time.LocalDate targetDate) {
-        if (mItems == null || targetDate == null) return -1;
+        if (targetDate == null) return -1;
+
+        if (mItems instanceof VirtualCalendarList) {
+            return ((VirtualCalendarList) mItems).positionOf(targetDate);
+        }
 
         for (int i = 0; i < mItems.size(); i++) {
             SharedViewModels.ViewItem item = mItems.get(i);
             if (item instanceof SharedViewModels.DayItem) {
                 SharedViewModels.DayItem dayItem = (SharedViewModels.DayItem) item;
-                if (dayItem.day.getDate().equals(targetDate)) {
+                if (dayItem.day != null && dayItem.day.getDate().equals(targetDate)) {
                     return i;
                 }
             }
@@ -498,6 +785,26 @@ public abstract class BaseAdapter extends RecyclerView.Adapter<RecyclerView.View
         return -1;
     }
 
+    /**
+     * Gets the day items currently loaded by the adapter: all of them for a
+     * plain list, the months on screen and around it for a virtual list.
+     *
+     * @return Loaded day items
+     */
+    public List<SharedViewModels.DayItem> getLoadedDayItems() {
+        if (mItems instanceof VirtualCalendarList) {
+            return ((VirtualCalendarList) mItems).getResidentDayItems();
+        }
+
+        List<SharedViewModels.DayItem> dayItems = new ArrayList<>();
+        for (SharedViewModels.ViewItem item : mItems) {
+            if (item instanceof SharedViewModels.DayItem) {
+                dayItems.add((SharedViewModels.DayItem) item);
+            }
+        }
+        return dayItems;
+    }
+
     /**
      * Helper method to setup event indicators in any ViewHolder.
      * Can be called from both adapters with their respective ViewHolders.
@@ -533,6 +840,46 @@ public abstract class BaseAdapter extends RecyclerView.Adapter<RecyclerView.View
         return events != null ? events : new ArrayList<>();
     }
 
+    // ==================== DIFF CALLBACK ====================
+
+    /**
+     * Diff between two item lists: items match by stable id, contents by
+     * {@link SharedViewModels.ViewItem#hasSameContent(SharedViewModels.ViewItem)}.
+     */
+    private static class ViewItemDiffCallback extends DiffUtil.Callback {
+
+        private final List<SharedViewModels.ViewItem> mOldItems;
+        private final List<SharedViewModels.ViewItem> mNewItems;
+
+        ViewItemDiffCallback(List<SharedViewModels.ViewItem> oldItems,
+                             List<SharedViewModels.ViewItem> newItems) {
+            this.mOldItems = oldItems;
+            this.mNewItems = newItems;
+        }
+
+        @Override
+        public int getOldListSize() {
+            return mOldItems.size();
+        }
+
+        @Override
+        public int getNewListSize() {
+            return mNewItems.size();
+        }
+
+        @Override
+        public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+            return mOldItems.get(oldItemPosition).getStableId() == mNewItems.get(newItemPosition).getStableId();
+        }
+
+        @Override
+        public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+            SharedViewModels.ViewItem oldItem = mOldItems.get(oldItemPosition);
+            SharedViewModels.ViewItem newItem = mNewItems.get(newItemPosition);
+            return oldItem == newItem || oldItem.hasSameContent(newItem);
+        }
+    }
+
     // ==================== INNER VIEW HOLDER CLASSES ====================
 
     /**
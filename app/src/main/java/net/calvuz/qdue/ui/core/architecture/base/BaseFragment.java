@@ -1,8 +1,8 @@
 package net.calvuz.qdue.ui.core.architecture.base;
 
 import static net.calvuz.qdue.QDue.Debug.DEBUG_BASEFRAGMENT;
-import static net.calvuz.qdue.quattrodue.Costants.QD_MAX_CACHE_SIZE;
 import static net.calvuz.qdue.quattrodue.Costants.QD_MONTHS_CACHE_RADIUS;
+import static net.calvuz.qdue.quattrodue.Costants.QD_VIRTUAL_MONTHS_RADIUS;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
@@ -22,39 +22,46 @@ import com.google.android.material.floatingactionbutton.FloatingActionButton;
 import net.calvuz.qdue.QDue;
 import net.calvuz.qdue.QDueMainActivity;
 import net.calvuz.qdue.core.db.QDueDatabase;
+import net.calvuz.qdue.core.db.changes.DataChange;
+import net.calvuz.qdue.core.db.changes.DataChangeBus;
+import net.calvuz.qdue.events.models.EventDaySummary;
 import net.calvuz.qdue.events.models.LocalEvent;
 import net.calvuz.qdue.quattrodue.models.Day;
+import net.calvuz.qdue.quattrodue.models.DayStateOverlay;
 import net.calvuz.qdue.quattrodue.utils.CalendarDataManager;
+import net.calvuz.qdue.quattrodue.utils.CycleTable;
 import net.calvuz.qdue.ui.features.events.interfaces.EventsRefreshInterface;
 import net.calvuz.qdue.ui.core.common.interfaces.FragmentCommunicationInterface;
 import net.calvuz.qdue.ui.core.common.interfaces.NotifyUpdatesInterface;
 import net.calvuz.qdue.ui.core.common.models.SharedViewModels;
+import net.calvuz.qdue.ui.core.common.models.VirtualCalendarList;
 import net.calvuz.qdue.ui.core.common.utils.Log;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 /**
  * Base fragment that implements common logic for DayslistViewFragment and CalendarViewFragment.
  * <p>
  * This class provides:
- * - Infinite scrolling with intelligent caching
- * - Unified data management through CalendarDataManager
+ * - Infinite scrolling over a {@link VirtualCalendarList}: a fixed range of months
+ *   centred on today, whose items are computed from the position when bound
+ * - Unified data management through the QuattroDue cycle table
  * - Layout manager agnostic operations (works with LinearLayoutManager and GridLayoutManager)
- * - Thread-safe operations with proper scroll callback handling
- * - Memory management with automatic cache cleanup
+ * - Day summaries loaded month by month as months become visible
  * <p>
  * Subclasses must implement abstract methods to define specific behavior for:
  * - View initialization
- * - Data conversion
  * - Adapter setup
  * - FAB visibility logic
  */
@@ -74,6 +81,8 @@ public abstract class BaseFragment extends Fragment implements
     // MOCK waiting for a stable integration
     // NEW: Events data support
     protected Map<LocalDate, List<LocalEvent>> mEventsCache = new ConcurrentHashMap<>();
+    // Per-day summaries driving the grid indicators; full events are loaded when a day is opened
+    protected Map<LocalDate, EventDaySummary> mDaySummaryCache = new ConcurrentHashMap<>();
     protected final AtomicBoolean mIsLoadingEvents = new AtomicBoolean(false);
     protected QDueDatabase mDatabase;
 
@@ -86,27 +95,22 @@ public abstract class BaseFragment extends Fragment implements
     protected GridLayoutManager mGridLayoutManager;
     protected FloatingActionButton mFabGoToToday;
 
-    // ==================== INFINITE SCROLLING CACHE ==============
+    // ==================== INFINITE SCROLLING ITEMS ==============
 
-    // Cache of view items for infinite scrolling
+    // View items of the whole range (a VirtualCalendarList), passed to the adapter
     protected List<SharedViewModels.ViewItem> mItemsCache;
 
-    // Current center position in cache
-    protected int mCurrentCenterPosition;
-
     // Current date cursor
     protected LocalDate mCurrentDate;
 
-    // ==================== CONCURRENCY CONTROL ===================
-
-    // Atomic flag to prevent concurrent cache updates
-    protected final AtomicBoolean mIsUpdatingCache = new AtomicBoolean(false);
+    // Months whose day summaries are loaded or loading
+    private final Set<LocalDate> mSummaryMonths = ConcurrentHashMap.newKeySet();
 
-    // Atomic flag for pending top load operations
-    protected final AtomicBoolean mIsPendingTopLoad = new AtomicBoolean(false);
+    // Month last reported visible
+    private LocalDate mVisibleMonth;
 
-    // Atomic flag for pending bottom load operations
-    protected final AtomicBoolean mIsPendingBottomLoad = new AtomicBoolean(false);
+    // Receives committed events writes, see onDataChanged()
+    private final DataChangeBus.Listener mDataChangeListener = this::onDataChanged;
 
     // ==================== ASYNC OPERATION HANDLERS ==============
 
@@ -118,17 +122,9 @@ public abstract class BaseFragment extends Fragment implements
 
     // ==================== POSITION TRACKING =====================
 
-    // Position of today in the cache (-1 if not found)
+    // Position of today in the list (-1 if not found)
     protected int mTodayPosition = -1;
 
-    // ==================== LOADING INDICATORS ====================
-
-    // Flag indicating top loader is currently showing
-    protected boolean mShowingTopLoader = false;
-
-    // Flag indicating bottom loader is currently showing
-    protected boolean mShowingBottomLoader = false;
-
     // ==================== SCROLL VELOCITY CONTROL ===============
 
     // Last scroll timestamp for throttling
@@ -143,17 +139,6 @@ public abstract class BaseFragment extends Fragment implements
     // Delay before processing operations after scroll settles
     protected static final long SCROLL_SETTLE_DELAY = 150;
 
-    // ==================== ENHANCED CONSTANTS ====================
-
-    // Number of months to load in a single operation
-    private static final int MONTHS_PER_LOAD = 3;
-
-    // Preload trigger zone (in calendar weeks)
-    private static final int PRELOAD_TRIGGER_WEEKS = 6; // ~1.5 months
-
-    // Maximum number of months to keep in cache
-    private static final int MAX_CACHED_MONTHS = 18; // ~1.5 years
-
     // ==================== INTERFACES INTERACTION ================
 
     //Reference to the communication interface
@@ -168,11 +153,6 @@ public abstract class BaseFragment extends Fragment implements
      */
     protected abstract void findViews(View rootView);
 
-    /**
-     * Convert data in fragment specific format.
-     */
-    protected abstract List<SharedViewModels.ViewItem> convertMonthData(List<Day> days, LocalDate monthDate);
-
     /**
      * Fragment specific adapter setup.
      * Subclass create a specific Adapter instance
@@ -219,10 +199,19 @@ public abstract class BaseFragment extends Fragment implements
         // Initialize events database
         mDatabase = QDueDatabase.getInstance(requireContext());
 
+        // Refresh the days touched by events writes, whoever makes them
+        DataChangeBus.getInstance().subscribe(mMainHandler::post, mDataChangeListener, DataChange.Kind.EVENTS);
+
         // Start initial events load
         loadEventsForCurrentPeriod();
     }
 
+    @Override
+    public void onDestroy() {
+        DataChangeBus.getInstance().unsubscribe(mDataChangeListener);
+        super.onDestroy();
+    }
+
     /**
      * Complete view setup after inflation.
      * Coordinates view finding, RecyclerView setup, and infinite scrolling initialization.
@@ -323,14 +312,18 @@ public abstract class BaseFragment extends Fragment implements
         // Create unified GridLayoutManager
         GridLayoutManager gridLayoutManager = new GridLayoutManager(getContext(), columnCount);
 
-        // Configure span size for headers and loading items
+        // Configure span size for headers and loading items.
+        // Virtual lists answer from the layout arithmetic: the default lookup would
+        // walk (and create) every item from position 0 to find a span index.
         gridLayoutManager.setSpanSizeLookup(new GridLayoutManager.SpanSizeLookup() {
             @Override
             public int getSpanSize(int position) {
-                if (position < mItemsCache.size()) {
+                if (mItemsCache instanceof VirtualCalendarList) {
+                    return ((VirtualCalendarList) mItemsCache).isMonthHeader(position) ? columnCount : 1;
+                }
 
+                if (mItemsCache != null && position < mItemsCache.size()) {
                     SharedViewModels.ViewItem item = mItemsCache.get(position);
-                    Log.v(TAG, mTAG + "called mItemsCache.get( " + position + " )");
 
                     // Headers and loading items always span full width
                     if (item instanceof SharedViewModels.MonthHeader ||
@@ -340,6 +333,22 @@ public abstract class BaseFragment extends Fragment implements
                 }
                 return 1; // Regular items take 1 column
             }
+
+            @Override
+            public int getSpanIndex(int position, int spanCount) {
+                if (mItemsCache instanceof VirtualCalendarList) {
+                    return ((VirtualCalendarList) mItemsCache).getSpanIndex(position);
+                }
+                return super.getSpanIndex(position, spanCount);
+            }
+
+            @Override
+            public int getSpanGroupIndex(int adapterPosition, int spanCount) {
+                if (mItemsCache instanceof VirtualCalendarList) {
+                    return ((VirtualCalendarList) mItemsCache).getRow(adapterPosition);
+                }
+                return super.getSpanGroupIndex(adapterPosition, spanCount);
+            }
         });
 
         mRecyclerView.setLayoutManager(gridLayoutManager);
@@ -388,9 +397,6 @@ public abstract class BaseFragment extends Fragment implements
 
             if (firstVisible == RecyclerView.NO_POSITION) return;
 
-            // Handle infinite scrolling
-            mMainHandler.post(() -> handleUnifiedScrollBasedLoading(firstVisible, lastVisible, dy));
-
             // Update FAB visibility
             updateFabVisibility(firstVisible, lastVisible);
 
@@ -405,61 +411,18 @@ public abstract class BaseFragment extends Fragment implements
             if (newState == RecyclerView.SCROLL_STATE_IDLE) {
                 mScrollVelocity = 0;
 
-                // Process pending operations after scroll stops
+                // Sticky header and summaries of the month where the scroll stopped
                 mMainHandler.postDelayed(() -> {
-                    if (mScrollVelocity == 0) {
-                        processPendingOperations();
-                        scheduleCleanupIfNeeded();
+                    int firstVisible = getFirstVisiblePosition();
+                    int lastVisible = getLastVisiblePosition();
+                    if (mScrollVelocity == 0 && firstVisible != RecyclerView.NO_POSITION) {
+                        updateStickyHeader(firstVisible, lastVisible);
                     }
                 }, SCROLL_SETTLE_DELAY);
             }
         }
     }
 
-    /**
-     * Unified scroll-based loading logic that works for both 1-column and 7-column grids.
-     */
-    private void handleUnifiedScrollBasedLoading(int firstVisible, int lastVisible, int scrollDirection) {
-        final String mTAG = "handleUnifiedScrollBasedLoading: ";
-        Log.v(TAG, mTAG + "called.");
-
-        // Conservative trigger zones
-        int loadTriggerZone = getLoadTriggerZone();
-
-        // Load upward (previous months) when near top
-        if (firstVisible <= loadTriggerZone && scrollDirection <= 0 &&
-                !mIsUpdatingCache.get() && !mIsPendingTopLoad.get() && !mShowingTopLoader) {
-            Log.v(TAG, mTAG + "Triggering top load at position: " + firstVisible);
-
-            mMainHandler.postDelayed(() -> {
-                if (!mIsUpdatingCache.get() && !mIsPendingTopLoad.get()) {
-                    triggerTopLoad();
-                }
-            }, 100);
-        }
-
-        // Load downward (next months) when near bottom
-        if (lastVisible >= mItemsCache.size() - loadTriggerZone && scrollDirection >= 0 &&
-                !mIsUpdatingCache.get() && !mIsPendingBottomLoad.get() && !mShowingBottomLoader) {
-            Log.v(TAG, mTAG + "Triggering bottom load at position: " + lastVisible);
-
-            mMainHandler.postDelayed(() -> {
-                if (!mIsUpdatingCache.get() && !mIsPendingBottomLoad.get()) {
-                    triggerBottomLoad();
-                }
-            }, 100);
-        }
-    }
-
-    /**
-     * Get load trigger zone based on column count.
-     * More conservative for calendar view due to grid density.
-     */
-    private int getLoadTriggerZone() {
-        int columnCount = getGridColumnCount();
-        return columnCount == 1 ? 10 : 21; // 10 items for list, 21 items (~3 weeks) for calendar
-    }
-
     /**
      * Update sticky header in toolbar based on currently visible month.
      */
@@ -468,8 +431,14 @@ public abstract class BaseFragment extends Fragment implements
         // Find the month header that's currently most visible
         LocalDate currentMonth = findCurrentVisibleMonth(firstVisible, lastVisible);
 
-        if (currentMonth != null) {
+        if (currentMonth != null && !currentMonth.equals(mVisibleMonth)) {
+            mVisibleMonth = currentMonth;
             updateToolbarTitle(currentMonth);
+
+            // Day summaries of the visible month and its neighbours
+            loadEventsForMonth(currentMonth.minusMonths(1));
+            loadEventsForMonth(currentMonth);
+            loadEventsForMonth(currentMonth.plusMonths(1));
         }
     }
 
@@ -477,6 +446,11 @@ public abstract class BaseFragment extends Fragment implements
      * Find which month is currently most visible in the viewport.
      */
     private LocalDate findCurrentVisibleMonth(int firstVisible, int lastVisible) {
+        if (mItemsCache instanceof VirtualCalendarList) {
+            // Month of the first visible row, computed without creating items
+            return ((VirtualCalendarList) mItemsCache).getMonthAt(firstVisible);
+        }
+
         // Find the first month header in the visible range
         for (int i = firstVisible; i <= lastVisible && i < mItemsCache.size(); i++) {
             SharedViewModels.ViewItem item = mItemsCache.get(i);
@@ -537,30 +511,20 @@ public abstract class BaseFragment extends Fragment implements
     }
 
     /**
-     * Infinite scrolling
-     * FIXED: Setup infinite scrolling with proper initial positioning
+     * Infinite scrolling over a virtual list centred on today.
+     * Months are not loaded ahead: the adapter creates the items of a month when
+     * one of its positions is bound, so scrolling never inserts or trims items.
      */
     protected void setupInfiniteScrolling() {
         final String mTAG = "setupInfiniteScrolling: ";
         Log.v(TAG, mTAG + "called.");
 
         try {
-            // Reset all control flags
-            resetControlFlags();
-
-            // Initialize cache
             mCurrentDate = QDue.getQuattrodue().getCursorDate();
-            mItemsCache = new ArrayList<>();
-
-            // Pre-load months in cache around current date
-            mDataManager.preloadMonthsAround(mCurrentDate, QD_MONTHS_CACHE_RADIUS);
+            mVisibleMonth = null;
 
-            // Generate initial months for display
-            // Here the items are added to mItemsCache
-            for (int i = -QD_MONTHS_CACHE_RADIUS; i <= QD_MONTHS_CACHE_RADIUS; i++) {
-                LocalDate monthDate = mCurrentDate.plusMonths(i);
-                addMonthToCache(monthDate);
-            }
+            // Fixed range around today, positions computed from dates
+            mItemsCache = createCalendarItems(DayStateOverlay.getToday());
 
             setupAdapter();
 
@@ -579,22 +543,22 @@ public abstract class BaseFragment extends Fragment implements
                 Log.d(TAG, mTAG + "✅ Components ready, starting infinite scroll setup");
             }
 
-            // 1. Calcola la posizione di today
-            mTodayPosition = SharedViewModels.DataConverter.findTodayPosition(mItemsCache);
+            // 1. Posizione di today (calcolata, O(1))
+            mTodayPosition = findPositionForDate(DayStateOverlay.getToday());
 
             if (DEBUG_BASEFRAGMENT) {
                 Log.d(TAG, mTAG + "Today position calculated: " + mTodayPosition);
-                Log.d(TAG, mTAG + "Cache size: " + (mItemsCache != null ? mItemsCache.size() : "null"));
+                Log.d(TAG, mTAG + "Items: " + mItemsCache.size());
                 Log.d(TAG, mTAG + "Adapter items: " + (getFragmentAdapter() != null ? getFragmentAdapter().getItemCount() : "null"));
             }
 
-            // 2. Forza sincronizzazione cache-adapter
+            // 2. Forza sincronizzazione lista-adapter
             ensureAdapterSyncWithCache();
 
             // 3. Scroll ritardato con verifica
             scheduleVerifiedScrollToToday();
 
-            // 4. Setup infinite scroll listeners
+            // 4. Setup scroll listeners
             setupScrollListeners();
 
             if (DEBUG_BASEFRAGMENT) {
@@ -603,8 +567,45 @@ public abstract class BaseFragment extends Fragment implements
             }
 
         } catch (Exception e) {
-            Log.e("TAG", mTAG + "❌ Error in setupInfiniteScrolling: " + e.getMessage());
+            Log.e(TAG, mTAG + "❌ Error in setupInfiniteScrolling: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Create the virtual list for the fragment layout (1 column list or 7 column grid).
+     * Month days come from the QuattroDue cycle table when a month is first bound.
+     *
+     * @param centerDate date in the middle of the range
+     * @return the virtual list
+     */
+    protected VirtualCalendarList createCalendarItems(LocalDate centerDate) {
+        return getGridColumnCount() == 1
+                ? VirtualCalendarList.forDaysList(centerDate, QD_VIRTUAL_MONTHS_RADIUS, this::getMonthDays)
+                : VirtualCalendarList.forCalendar(centerDate, QD_VIRTUAL_MONTHS_RADIUS, this::getMonthDays);
+    }
+
+    /**
+     * Days of a month as cycle table flyweights.
+     *
+     * @param monthDate the month
+     * @return days of the month, empty if the scheme is not initialized
+     */
+    private List<Day> getMonthDays(LocalDate monthDate) {
+        CycleTable cycleTable = QDue.getQuattrodue() != null ? QDue.getQuattrodue().getCycleTable() : null;
+        return cycleTable != null ? cycleTable.daysOfMonth(monthDate) : mDataManager.getMonthDays(monthDate);
+    }
+
+    /**
+     * Find the position of a date in the list.
+     *
+     * @param date the date to find
+     * @return position of the date, or -1 if out of range
+     */
+    protected int findPositionForDate(LocalDate date) {
+        if (mItemsCache instanceof VirtualCalendarList) {
+            return ((VirtualCalendarList) mItemsCache).positionOf(date);
         }
+        return getFragmentAdapter() != null ? getFragmentAdapter().findPositionForDate(date) : -1;
     }
 
     // ===== Verify Prerequisites =====
@@ -638,57 +639,24 @@ public abstract class BaseFragment extends Fragment implements
     // ===== Forced sync =====
 
     /**
-     * Ensure cache and adapter are in sync.
+     * Ensure list and adapter are in sync.
+     * The adapter keeps the virtual list itself: a mismatch only happens when the
+     * list was rebuilt while the adapter was not.
      */
     protected void ensureAdapterSyncWithCache() {
         final String mTAG = "ensureAdapterSyncWithCache: ";
 
-        try {
-            // NULL CHECKS aggiunti
-            if (getFragmentAdapter() == null) {
-                Log.e(TAG, mTAG + "getFragmentAdapter() is null, cannot sync");
-                return;
-            }
-
-            if (mItemsCache == null) {
-                Log.e(TAG, mTAG + "mCachedItems is null, cannot sync");
-                return;
-            }
-
-            // Verifica se adapter è vuoto ma cache ha dati
-            if (getFragmentAdapter().getItemCount() == 0 && !mItemsCache.isEmpty()) {
-
-                if (DEBUG_BASEFRAGMENT) {
-                    Log.d(TAG, mTAG + "Adapter empty but cache has " + mItemsCache.size() +
-                            " items. Forcing sync...");
-                }
-
-                // Popola immediatamente the adapter con tutti i dati della cache
-                getFragmentAdapter().setItems(new ArrayList<>(mItemsCache));
-                getFragmentAdapter().notifyDataSetChanged();
-
-                if (DEBUG_BASEFRAGMENT) {
-                    Log.d(TAG, mTAG + "Adapter populated: " + getFragmentAdapter().getItemCount() + " items");
-                }
-
-            } else if (getFragmentAdapter().getItemCount() != mItemsCache.size()) {
-
-                // Cache e adapter non sincronizzati - forza riallineamento
-                if (DEBUG_BASEFRAGMENT) {
-                    Log.w(TAG, mTAG + "Cache-Adapter mismatch. Cache: " + mItemsCache.size() +
-                            ", Adapter: " + getFragmentAdapter().getItemCount() + ". Re-syncing...");
-                }
+        if (getFragmentAdapter() == null || mItemsCache == null) {
+            Log.e(TAG, mTAG + "Adapter or items are null, cannot sync");
+            return;
+        }
 
-                getFragmentAdapter().setItems(new ArrayList<>(mItemsCache));
-                getFragmentAdapter().notifyDataSetChanged();
-            } else {
-                if (DEBUG_BASEFRAGMENT) {
-                    Log.d(TAG, mTAG + "Cache and adapter already in sync: " + mItemsCache.size() + " items");
-                }
+        if (getFragmentAdapter().getItemCount() != mItemsCache.size()) {
+            if (DEBUG_BASEFRAGMENT) {
+                Log.w(TAG, mTAG + "List-Adapter mismatch. List: " + mItemsCache.size() +
+                        ", Adapter: " + getFragmentAdapter().getItemCount() + ". Re-syncing...");
             }
-
-        } catch (Exception e) {
-            Log.e(TAG, mTAG + "Error in cache synchronization: " + e.getMessage());
+            getFragmentAdapter().setItems(mItemsCache);
         }
     }
 
@@ -725,146 +693,23 @@ public abstract class BaseFragment extends Fragment implements
     }
 
     /**
-     * Scroll with check
+     * Scroll to today once the first layout pass is done.
      */
     private void scheduleVerifiedScrollToToday() {
-        final String mTAG = "scheduleVerifiedScrollToToday: -";
+        final String mTAG = "scheduleVerifiedScrollToToday: ";
 
         if (mTodayPosition < 0) {
-            if (DEBUG_BASEFRAGMENT) {
-                Log.w(TAG, mTAG + "Today position not found (" + mTodayPosition + ")");
-                // DEBUG: Prova a forzare il caricamento del mese corrente
-                tryLoadCurrentMonth();
-            }
+            Log.w(TAG, mTAG + "Today position not found (" + mTodayPosition + ")");
             return;
         }
 
-        // NULL CHECK added
         if (mRecyclerView == null) {
             Log.e(TAG, mTAG + "mRecyclerView is null, cannot schedule scroll");
             return;
         }
 
-        // Check if the adapter has enough elements
-        if (getFragmentAdapter().getItemCount() > mTodayPosition) {
-            // Data ready - immediate scroll (little delay for the layout)
-            mRecyclerView.postDelayed(new Runnable() {
-                @Override
-                public void run() {
-                    performVerifiedScrollToToday();
-                }
-            }, 100);
-
-        } else {
-            // Adapter non ancora pronto - usa retry con timeout
-            scheduleRetryScrollToToday(0);
-        }
-    }
-
-    /**
-     * Try to load the current Month
-     */
-    private void tryLoadCurrentMonth() {
-        final String mTAG = "tryLoadCurrentMonth: ";
-
-        try {
-            if (DEBUG_BASEFRAGMENT) {
-                Log.d(TAG, mTAG + "Attempting to load current month to find today");
-            }
-
-            // Forza il caricamento del mese corrente se non è in cache
-            LocalDate today = LocalDate.now();
-            LocalDate currentMonth = today.withDayOfMonth(1);
-
-            // Chiama il metodo che carica un mese specifico
-            // NOTA: Questo metodo potrebbe variare nel tuo DataManager
-            if (mDataManager != null) {
-
-                // Sostituisci questo con il metodo corretto del tuo DataManager
-                // mDataManager.ensureMonthLoaded(currentMonth);
-                mDataManager.getMonthDays(currentMonth);
-
-                // Dopo il caricamento, riprova a trovare today
-                mRecyclerView.postDelayed(new Runnable() {
-                    @Override
-                    public void run() {
-                        recheckTodayPosition();
-                    }
-                }, 200);
-            }
-
-        } catch (Exception e) {
-            Log.e(TAG, mTAG + "Error trying to load current month: " + e.getMessage());
-        }
-    }
-
-    /**
-     * Recheck today position
-     */
-    private void recheckTodayPosition() {
-        final String mTAG = "recheckTodayPosition: ";
-
-        try {
-            // Update cache
-            // but it's a pain in the ass..
-            //mItemsCache = mDataManager.getCachedItems();
-
-            if (mItemsCache != null && !mItemsCache.isEmpty()) {
-                // Calculate today position
-                mTodayPosition = SharedViewModels.DataConverter.findTodayPosition(mItemsCache);
-
-                if (DEBUG_BASEFRAGMENT) {
-                    Log.d(TAG, mTAG + "Rechecked today position: " + mTodayPosition +
-                            " (cache size: " + mItemsCache.size() + ")");
-                }
-
-                if (mTodayPosition >= 0) {
-                    // Today trovato - riprova il setup
-                    ensureAdapterSyncWithCache();
-                    scheduleVerifiedScrollToToday();
-                }
-            } else {
-                Log.e(TAG, mTAG + "Error in mItemsCache");
-            }
-
-        } catch (Exception e) {
-            Log.e(TAG, mTAG + "Error rechecking today position: " + e.getMessage());
-        }
-    }
-
-    // ===== NUOVO METODO: Retry con Timeout =====
-
-    /**
-     * Retry scroll to today
-     *
-     * @param attemptCount mu number of attempts
-     */
-    private void scheduleRetryScrollToToday(int attemptCount) {
-        final String mTAG = "scheduleRetryScrollToToday: ";
-        final int MAX_ATTEMPTS = 5; // old - 20 * 50ms = 1 secondo max
-
-        if (attemptCount >= MAX_ATTEMPTS) {
-            Log.e(TAG, mTAG + "Failed to scroll to today after " + MAX_ATTEMPTS + " attempts");
-            return;
-        }
-
-        mRecyclerView.postDelayed(new Runnable() {
-            @Override
-            public void run() {
-                if (getFragmentAdapter().getItemCount() > mTodayPosition) {
-                    if (DEBUG_BASEFRAGMENT) {
-                        Log.d(TAG, mTAG + "Adapter ready after " + (attemptCount + 1) + " attempts");
-                    }
-                    performVerifiedScrollToToday();
-                } else {
-                    if (DEBUG_BASEFRAGMENT) {
-                        Log.d(TAG, mTAG + "Retry " + (attemptCount + 1) + "/" + MAX_ATTEMPTS +
-                                " - Adapter: " + getFragmentAdapter().getItemCount() + ", Need: " + (mTodayPosition + 1));
-                    }
-                    scheduleRetryScrollToToday(attemptCount + 1);
-                }
-            }
-        }, 50); // Retry ogni 50ms
+        // Little delay for the layout
+        mRecyclerView.postDelayed(this::performVerifiedScrollToToday, 100);
     }
 
     /**
@@ -892,7 +737,7 @@ public abstract class BaseFragment extends Fragment implements
                 GridLayoutManager gridManager = (GridLayoutManager) mGridLayoutManager;
 
                 // Calcola posizione ottimale per centrare today
-                int optimalPosition = Math.max(0, mTodayPosition - (getGridColumnCount()==1 ?  10  : 14 ));
+                int optimalPosition = getCenteringPosition(mTodayPosition);
                 mGridLayoutManager.scrollToPositionWithOffset(optimalPosition, 20);
 
                 if (DEBUG_BASEFRAGMENT) {
@@ -961,40 +806,49 @@ public abstract class BaseFragment extends Fragment implements
      * Scroll to TODAY
      */
     public void scrollToToday() {
-        if (mTodayPosition >= 0 && mTodayPosition < mItemsCache.size()) {
-            if (mGridLayoutManager != null) {
+        // Today may have changed since the list was built
+        mTodayPosition = findPositionForDate(DayStateOverlay.getToday());
 
-                // Center today
-                int optimalPosition = Math.max(0, mTodayPosition - (getGridColumnCount()==1 ?  10  : 14 ));
-                mGridLayoutManager.scrollToPositionWithOffset(optimalPosition, 20);
-            }
+        if (mTodayPosition >= 0) {
+            scrollToPosition(mTodayPosition);
         } else {
-            // Rebuild cache
-            Log.d(TAG, "ScrollToToday: today not in cache, rebuilding");
-            mCurrentDate = LocalDate.now().withDayOfMonth(1);
+            // Out of range (app left open for decades): rebuild around today
+            Log.d(TAG, "ScrollToToday: today out of range, rebuilding");
             setupInfiniteScrolling();
         }
     }
 
     /**
-     * Maintain scroll position for GridLayoutManager.
+     * Scroll to a date. Positions are computed, so any date in range is reached
+     * in a single jump without loading the months in between.
      *
-     * @param itemsAdded number of items added at the beginning
+     * @param date the date to show
+     * @return true if the date is in range
      */
+    public boolean scrollToDate(LocalDate date) {
+        int position = findPositionForDate(date);
+        if (position < 0) return false;
 
-    private void maintainScrollPosition(int itemsAdded) {
+        scrollToPosition(position);
+        return true;
+    }
+
+    /**
+     * Jump to a position, leaving some rows above it.
+     */
+    private void scrollToPosition(int position) {
         if (mGridLayoutManager != null) {
-            try {
-                mGridLayoutManager.scrollToPositionWithOffset(itemsAdded, 0);
-                if (DEBUG_BASEFRAGMENT) {
-                    Log.d(TAG, "Maintained GridLayoutManager position");
-                }
-            } catch (Exception e) {
-                Log.e(TAG, "Error maintaining scroll position: " + e.getMessage());
-            }
+            mGridLayoutManager.scrollToPositionWithOffset(getCenteringPosition(position), 20);
         }
     }
 
+    /**
+     * @return position to scroll to so that the given one is shown near the center
+     */
+    private int getCenteringPosition(int position) {
+        return Math.max(0, position - (getGridColumnCount() == 1 ? 10 : 14));
+    }
+
     // ======================================================================
 
     // ================================= UI =================================
@@ -1078,939 +932,86 @@ public abstract class BaseFragment extends Fragment implements
     }
 
     /**
-     * Execute top load operation (loading previous months).
-     * <p>
-     * This method is thread-safe and posts all adapter operations to the next frame
-     * to avoid conflicts with scroll callbacks.
-     * FIXED: Execute top load operation with proper error handling and debugging
-     * ENHANCED: Execute top load operation - loads multiple months at once
-     * ENHANCED: Better today position updates during cache operations
+     * Get current visible position safely for any LayoutManager type.
+     * Handles both LinearLayoutManager and GridLayoutManager with fallbacks.
+     *
+     * @return current visible position or NO_POSITION if not determinable
      */
-    protected void executeTopLoad() {
-        final String mTAG = "executeTopLoad: ";
-
-        if (!mIsPendingTopLoad.compareAndSet(true, false)) {
-            Log.w(TAG, mTAG + "No pending top load - aborting");
-            hideTopLoader();
-            return;
-        }
+    private int getCurrentVisiblePosition() {
+        final String mTAG = "getCurrentVisiblePosition: ";
 
-        if (!mIsUpdatingCache.compareAndSet(false, true)) {
-            Log.w(TAG, mTAG + "Cache update in progress - aborting");
-            mIsPendingTopLoad.set(true);
-            return;
-        }
+        if (mRecyclerView == null) return RecyclerView.NO_POSITION;
 
-        Log.d(TAG, "Starting multi-month top load execution");
+        RecyclerView.LayoutManager layoutManager = mRecyclerView.getLayoutManager();
+        if (layoutManager == null) return RecyclerView.NO_POSITION;
 
         try {
-            LocalDate firstMonth = findFirstMonthInCache();
-            if (firstMonth == null) {
-                Log.e(TAG, mTAG + "Cannot find first month in cache");
-                mIsUpdatingCache.set(false);
-                hideTopLoader();
-                return;
-            }
-
-            List<SharedViewModels.ViewItem> allNewItems = new ArrayList<>();
-
-            for (int i = 1; i <= MONTHS_PER_LOAD; i++) {
-                LocalDate monthToLoad = firstMonth.minusMonths(i);
-                Log.d(TAG, mTAG + "Loading previous month " + i + ": " + monthToLoad);
-
-                List<SharedViewModels.ViewItem> monthItems = generateMonthItems(monthToLoad);
-                if (!monthItems.isEmpty()) {
-                    allNewItems.addAll(0, monthItems);
+            // Handle LinearLayoutManager (DaysListFragment)
+            if (layoutManager instanceof LinearLayoutManager) {
+                LinearLayoutManager linearManager = (LinearLayoutManager) layoutManager;
+                int firstVisible = linearManager.findFirstCompletelyVisibleItemPosition();
+                if (firstVisible != RecyclerView.NO_POSITION) {
+                    return firstVisible;
                 }
+                // Fallback to partially visible
+                return linearManager.findFirstVisibleItemPosition();
             }
 
-            if (allNewItems.isEmpty()) {
-                Log.w(TAG, mTAG + "No items generated for any previous months");
-                mIsUpdatingCache.set(false);
-                hideTopLoader();
-                return;
+            // Handle GridLayoutManager (CalendarFragment)
+            else if (layoutManager instanceof GridLayoutManager) {
+                GridLayoutManager gridManager = (GridLayoutManager) layoutManager;
+                int firstVisible = gridManager.findFirstCompletelyVisibleItemPosition();
+                if (firstVisible != RecyclerView.NO_POSITION) {
+                    return firstVisible;
+                }
+                // Fallback to partially visible
+                return gridManager.findFirstVisibleItemPosition();
             }
 
-            Log.d(TAG, mTAG + "Generated " + allNewItems.size() + " items for " + MONTHS_PER_LOAD + " previous months");
-
-            mMainHandler.post(() -> {
-                try {
-                    if (mItemsCache == null) {
-                        Log.e(TAG, mTAG + "Items cache is null during UI update");
-                        return;
-                    }
-
-                    mItemsCache.addAll(0, allNewItems);
-                    Log.d(TAG, mTAG + "Added items to cache. New size: " + mItemsCache.size());
-
-                    // ENHANCED: Better today position tracking
-                    if (mTodayPosition >= 0) {
-                        mTodayPosition += allNewItems.size();
-                    } else {
-                        // Today position was lost - try to find it again
-                        mTodayPosition = SharedViewModels.DataConverter.findTodayPosition(mItemsCache);
-                        Log.d(TAG, mTAG + "Recomputed today position: " + mTodayPosition);
-                    }
-
-                    mCurrentCenterPosition += allNewItems.size();
-
-                    mMainHandler.post(() -> {
-                        try {
-                            if (getFragmentAdapter() != null) {
-                                getFragmentAdapter().notifyItemRangeInserted(0, allNewItems.size());
-                                Log.d(TAG, mTAG + "Notified adapter of " + allNewItems.size() + " inserted items");
-                            }
-                        } catch (Exception e) {
-                            Log.e(TAG, mTAG + "Error notifying adapter: " + e.getMessage());
-                        }
-                    });
-
-                    maintainScrollPosition(allNewItems.size());
-
-                    mMainHandler.postDelayed(() -> {
-                        hideTopLoader();
-                        Log.d(TAG, mTAG + "Multi-month top load completed successfully");
-                        schedulePreloadingCheck();
-                    }, 100);
-
-                } catch (Exception e) {
-                    Log.e(TAG, mTAG + "Error during UI update: " + e.getMessage());
-                    hideTopLoader();
-                } finally {
-                    mIsUpdatingCache.set(false);
+            // For other LayoutManager types, use generic approach
+            else {
+                // Try to get first visible child
+                View firstChild = layoutManager.getChildAt(0);
+                if (firstChild != null) {
+                    return mRecyclerView.getChildAdapterPosition(firstChild);
                 }
-            });
-
+            }
         } catch (Exception e) {
-            Log.e(TAG, mTAG + "Error loading previous months: " + e.getMessage());
-            mIsUpdatingCache.set(false);
-            hideTopLoader();
+            Log.e(TAG, mTAG + "Error getting current position: " + e.getMessage());
         }
+
+        return RecyclerView.NO_POSITION;
     }
 
+    /// === LIFECYCLE MANAGEMENT ===
+
     /**
-     * Execute bottom load operation (loading next months).
-     * <p>
-     * This method is thread-safe and posts all adapter operations to the next frame
-     * to avoid conflicts with scroll callbacks.
-     * FIXED: Execute bottom load operation with proper error handling and debugging
-     * ENHANCED: Execute bottom load operation - loads multiple months at once
-     * ENHANCED: Better today position updates during bottom loading
+     * Handle fragment start lifecycle.
+     * Updates preferences and triggers refresh if needed.
      */
-    protected void executeBottomLoad() {
-        final String mTAG = "executeBottomLoad: ";
-
-        if (!mIsPendingBottomLoad.compareAndSet(true, false)) {
-            Log.w(TAG, "No pending bottom load - aborting");
-            hideBottomLoader();
-            return;
-        }
+    @Override
+    public void onStart() {
+        super.onStart();
 
-        if (!mIsUpdatingCache.compareAndSet(false, true)) {
-            Log.w(TAG, "Cache update in progress - aborting");
-            mIsPendingBottomLoad.set(true);
-            return;
+        if (QDue.getQuattrodue() != null) {
+            QDue.getQuattrodue().updatePreferences(getActivity());
+            if (QDue.getQuattrodue().isRefresh()) {
+                QDue.getQuattrodue().setRefresh(false);
+                refreshData();
+            }
         }
-
-        Log.d(TAG, "Starting multi-month bottom load execution");
-
-        try {
-            LocalDate lastMonth = findLastMonthInCache();
-            if (lastMonth == null) {
-                Log.e(TAG, "Cannot find last month in cache");
-                mIsUpdatingCache.set(false);
-                hideBottomLoader();
-                return;
-            }
-
-            List<SharedViewModels.ViewItem> allNewItems = new ArrayList<>();
-
-            for (int i = 1; i <= MONTHS_PER_LOAD; i++) {
-                LocalDate monthToLoad = lastMonth.plusMonths(i);
-                Log.d(TAG, "Loading next month " + i + ": " + monthToLoad);
-
-                List<SharedViewModels.ViewItem> monthItems = generateMonthItems(monthToLoad);
-                if (!monthItems.isEmpty()) {
-                    allNewItems.addAll(monthItems);
-                }
-            }
-
-            if (allNewItems.isEmpty()) {
-                Log.w(TAG, "No items generated for any next months");
-                mIsUpdatingCache.set(false);
-                hideBottomLoader();
-                return;
-            }
-
-            Log.d(TAG, "Generated " + allNewItems.size() + " items for " + MONTHS_PER_LOAD + " next months");
-
-            mMainHandler.post(() -> {
-                try {
-                    if (mItemsCache == null) {
-                        Log.e(TAG, "Items cache is null during UI update");
-                        return;
-                    }
-
-                    int insertPos = mItemsCache.size();
-                    mItemsCache.addAll(allNewItems);
-                    Log.d(TAG, "Added items to cache. New size: " + mItemsCache.size());
-
-                    // ENHANCED: Better today position tracking
-                    if (mTodayPosition < 0) {
-                        // Today position not set - try to find it in the expanded cache
-                        mTodayPosition = SharedViewModels.DataConverter.findTodayPosition(mItemsCache);
-                        Log.d(TAG, "Found today position in expanded cache: " + mTodayPosition);
-                    }
-
-                    mMainHandler.post(() -> {
-                        try {
-                            if (getFragmentAdapter() != null) {
-                                getFragmentAdapter().notifyItemRangeInserted(insertPos, allNewItems.size());
-                                Log.d(TAG, "Notified adapter of " + allNewItems.size() + " inserted items at position " + insertPos);
-                            }
-                        } catch (Exception e) {
-                            Log.e(TAG, "Error notifying adapter: " + e.getMessage());
-                        }
-                    });
-
-                    mMainHandler.postDelayed(() -> {
-                        hideBottomLoader();
-                        Log.d(TAG, "Multi-month bottom load completed successfully");
-                        schedulePreloadingCheck();
-                    }, 100);
-
-                } catch (Exception e) {
-                    Log.e(TAG, "Error during UI update: " + e.getMessage());
-                    hideBottomLoader();
-                } finally {
-                    mIsUpdatingCache.set(false);
-                }
-            });
-
-        } catch (Exception e) {
-            Log.e(TAG, "Error loading next months: " + e.getMessage());
-            mIsUpdatingCache.set(false);
-            hideBottomLoader();
-        }
-    }
-
-    /**
-     * NEW: Schedule preloading check to maintain buffer zones
-     */
-    private void schedulePreloadingCheck() {
-        final String mTAG = "schedulePreloadingCheck: ";
-        Log.v(TAG, mTAG + "called.");
-
-        // Schedule preloading check after a short delay
-        mMainHandler.postDelayed(() -> {
-            if (!mIsUpdatingCache.get() && mScrollVelocity == 0) {
-                performPreloadingCheck();
-            }
-        }, 500); // Check after scrolling settles
-    }
-
-    /**
-     * NEW: Perform silent preloading to maintain buffer zones
-     */
-    private void performPreloadingCheck() {
-        final String mTAG = "performPreloadingCheck: ";
-        Log.v(TAG, mTAG + "called");
-
-        if (mIsUpdatingCache.get()) {
-            Log.d(TAG, mTAG + "Cache update in progress - skipping preload check");
-            return;
-        }
-
-        // Get current scroll position
-        int currentPosition = getCurrentVisiblePosition();
-        if (currentPosition == RecyclerView.NO_POSITION) {
-            return;
-        }
-
-        int cacheSize = mItemsCache.size();
-        int bufferZone = PRELOAD_TRIGGER_WEEKS * 7; // Convert weeks to items
-
-        // Check if we need to preload at the top
-        if (currentPosition < bufferZone && !mIsPendingTopLoad.get()) {
-            Log.d(TAG, mTAG + "Triggering silent top preload at position: " + currentPosition);
-            triggerSilentTopLoad();
-        }
-
-        // Check if we need to preload at the bottom
-        if (currentPosition > cacheSize - bufferZone && !mIsPendingBottomLoad.get()) {
-            Log.d(TAG, mTAG + "Triggering silent bottom preload at position: " + currentPosition);
-            triggerSilentBottomLoad();
-        }
-
-        // Check if cache is too large and needs cleanup
-        if (cacheSize > MAX_CACHED_MONTHS * 35) { // ~35 items per month
-            Log.d(TAG, mTAG + "Cache too large (" + cacheSize + "), scheduling cleanup");
-            scheduleCleanupIfNeeded();
-        }
-    }
-
-    /**
-     * NEW: Silent top load without visible loader
-     */
-    private void triggerSilentTopLoad() {
-        final String mTAG = "triggerSilentTopLoad: ";
-
-        if (mIsUpdatingCache.get() || mIsPendingTopLoad.get()) {
-            return;
-        }
-
-        Log.d(TAG, mTAG + "Starting silent top load");
-        mIsPendingTopLoad.set(true);
-
-        // Execute without showing loader
-        mBackgroundHandler.postDelayed(() -> {
-            executeSilentTopLoad();
-        }, 100);
-    }
-
-    /**
-     * NEW: Silent bottom load without visible loader
-     */
-    private void triggerSilentBottomLoad() {
-        final String mTAG = "triggerSilentBottomLoad: ";
-
-        if (mIsUpdatingCache.get() || mIsPendingBottomLoad.get()) {
-            return;
-        }
-
-        Log.d(TAG, mTAG + "Starting silent bottom load");
-        mIsPendingBottomLoad.set(true);
-
-        // Execute without showing loader
-        mBackgroundHandler.postDelayed(() -> {
-            executeSilentBottomLoad();
-        }, 100);
-    }
-
-    /**
-     * NEW: Execute silent top load (similar to executeTopLoad but without loader UI)
-     */
-    private void executeSilentTopLoad() {
-        final String mTAG = "executeSilentTopLoad: ";
-
-        if (!mIsPendingTopLoad.compareAndSet(true, false)) {
-            return;
-        }
-
-        if (!mIsUpdatingCache.compareAndSet(false, true)) {
-            mIsPendingTopLoad.set(true);
-            return;
-        }
-
-        try {
-            LocalDate firstMonth = findFirstMonthInCache();
-            if (firstMonth == null) {
-                mIsUpdatingCache.set(false);
-                return;
-            }
-
-            // Load 2 months silently
-            List<SharedViewModels.ViewItem> allNewItems = new ArrayList<>();
-            for (int i = 1; i <= 2; i++) {
-                LocalDate monthToLoad = firstMonth.minusMonths(i);
-                List<SharedViewModels.ViewItem> monthItems = generateMonthItems(monthToLoad);
-                if (!monthItems.isEmpty()) {
-                    allNewItems.addAll(0, monthItems);
-                }
-            }
-
-            if (!allNewItems.isEmpty()) {
-                mMainHandler.post(() -> {
-                    try {
-                        mItemsCache.addAll(0, allNewItems);
-                        if (mTodayPosition >= 0) mTodayPosition += allNewItems.size();
-                        mCurrentCenterPosition += allNewItems.size();
-
-                        mMainHandler.post(() -> {
-                            if (getFragmentAdapter() != null) {
-                                getFragmentAdapter().notifyItemRangeInserted(0, allNewItems.size());
-                            }
-                        });
-
-                        maintainScrollPosition(allNewItems.size());
-                        Log.d(TAG, mTAG + "Silent top load completed: " + allNewItems.size() + " items");
-                    } finally {
-                        mIsUpdatingCache.set(false);
-                    }
-                });
-            } else {
-                mIsUpdatingCache.set(false);
-            }
-        } catch (Exception e) {
-            Log.e(TAG, mTAG + "Error in silent top load: " + e.getMessage());
-            mIsUpdatingCache.set(false);
-        }
-    }
-
-    /**
-     * NEW: Execute silent bottom load (similar to executeBottomLoad but without loader UI)
-     */
-    private void executeSilentBottomLoad() {
-        final String mTAG = "executeSilentBottomLoad: ";
-
-        if (!mIsPendingBottomLoad.compareAndSet(true, false)) {
-            return;
-        }
-
-        if (!mIsUpdatingCache.compareAndSet(false, true)) {
-            mIsPendingBottomLoad.set(true);
-            return;
-        }
-
-        try {
-            LocalDate lastMonth = findLastMonthInCache();
-            if (lastMonth == null) {
-                mIsUpdatingCache.set(false);
-                return;
-            }
-
-            // Load 2 months silently
-            List<SharedViewModels.ViewItem> allNewItems = new ArrayList<>();
-            for (int i = 1; i <= 2; i++) {
-                LocalDate monthToLoad = lastMonth.plusMonths(i);
-                List<SharedViewModels.ViewItem> monthItems = generateMonthItems(monthToLoad);
-                if (!monthItems.isEmpty()) {
-                    allNewItems.addAll(monthItems);
-                }
-            }
-
-            if (!allNewItems.isEmpty()) {
-                mMainHandler.post(() -> {
-                    try {
-                        int insertPos = mItemsCache.size();
-                        mItemsCache.addAll(allNewItems);
-
-                        if (mTodayPosition < 0) {
-                            int todayInNew = SharedViewModels.DataConverter.findTodayPosition(allNewItems);
-                            if (todayInNew >= 0) {
-                                mTodayPosition = insertPos + todayInNew;
-                            }
-                        }
-
-                        mMainHandler.post(() -> {
-                            if (getFragmentAdapter() != null) {
-                                getFragmentAdapter().notifyItemRangeInserted(insertPos, allNewItems.size());
-                            }
-                        });
-
-                        Log.d(TAG, mTAG + "Silent bottom load completed: " + allNewItems.size() + " items");
-                    } finally {
-                        mIsUpdatingCache.set(false);
-                    }
-                });
-            } else {
-                mIsUpdatingCache.set(false);
-            }
-        } catch (Exception e) {
-            Log.e(TAG, mTAG + "Error in silent bottom load: " + e.getMessage());
-            mIsUpdatingCache.set(false);
-        }
-    }
-
-    /**
-     * Trigger top load operation (previous months).
-     * Sets up loading state and schedules execution.
-     * FIXED: Trigger top load with better state management
-     */
-    protected void triggerTopLoad() {
-        final String mTAG = ":triggerTopLoad: ";
-
-        if (mIsInitialScrolling) {
-            if (DEBUG_BASEFRAGMENT) {
-                Log.d(TAG, mTAG + "Skipping top load during initial scroll");
-            }
-            return; // SKIP durante scroll iniziale
-        }
-        // NULL CHECK aggiunto
-        if (mDataManager == null) {
-            Log.e(TAG, mTAG + "mDataManager is null");
-            return;
-        }
-
-        // Check if already loading or pending
-        if (mIsUpdatingCache.get()) {
-            Log.w(TAG, mTAG + "Cache update in progress - ignoring trigger");
-            return;
-        }
-
-        if (mIsPendingTopLoad.get()) {
-            Log.w(TAG, mTAG + "Top load already pending - ignoring trigger");
-            return;
-        }
-
-        if (mShowingTopLoader) {
-            Log.w(TAG, mTAG + "Top loader already showing - ignoring trigger");
-            return;
-        }
-
-        Log.d(TAG, mTAG + "Triggering top load");
-
-        mIsPendingTopLoad.set(true);
-        showTopLoader();
-
-        // Execute with a small delay to ensure loader is visible
-        mBackgroundHandler.postDelayed(() -> {
-            Log.d(TAG, mTAG + "Executing delayed top load");
-            executeTopLoad();
-        }, 200); // Increased delay to ensure loader visibility
-    }
-
-    /**
-     * Trigger bottom load operation (next months).
-     * Sets up loading state and schedules execution.
-     * FIXED: Trigger bottom load with better state management
-     */
-    protected void triggerBottomLoad() {
-        final String mTAG = "triggerBottomLoad: ";
-
-        if (mIsInitialScrolling) {
-            if (DEBUG_BASEFRAGMENT) {
-                Log.d(TAG, mTAG + "Skipping bottom load during initial scroll");
-            }
-            return; // SKIP durante scroll iniziale
-        }
-        // NULL CHECK aggiunto
-        if (mDataManager == null) {
-            Log.e(TAG, mTAG + "mDataManager is null");
-            return;
-        }
-
-        // Check if already loading or pending
-        if (mIsUpdatingCache.get()) {
-            Log.w(TAG, mTAG + "Cache update in progress - ignoring trigger");
-            return;
-        }
-
-        if (mIsPendingBottomLoad.get()) {
-            Log.w(TAG, mTAG + "Bottom load already pending - ignoring trigger");
-            return;
-        }
-
-        if (mShowingBottomLoader) {
-            Log.w(TAG, mTAG + "Bottom loader already showing - ignoring trigger");
-            return;
-        }
-
-        Log.d(TAG, mTAG + "Triggering bottom load");
-
-        mIsPendingBottomLoad.set(true);
-        showBottomLoader();
-
-        // Execute with a small delay to ensure loader is visible
-        mBackgroundHandler.postDelayed(() -> {
-            Log.d(TAG, mTAG + "Executing delayed bottom load");
-            executeBottomLoad();
-        }, 200); // Increased delay to ensure loader visibility
-    }
-
-//    /**
-//     * Add a month to the cache by generating its view items.
-//     * DEBUG: made protected insteadof private
-//     *
-//     * @param monthDate the month to add
-//     */
-//    protected void addMonthToCache(LocalDate monthDate) {
-//        List<SharedViewModels.ViewItem> monthItems = generateMonthItems(monthDate);
-//        mItemsCache.addAll(monthItems);
-//    }
-
-    /**
-     * Generate view items for a specific month using the fragment-specific converter.
-     *
-     * @param monthDate the month to generate items for
-     * @return list of view items for the month
-     */
-    private List<SharedViewModels.ViewItem> generateMonthItems(LocalDate monthDate) {
-        List<Day> monthDays = mDataManager.getMonthDays(monthDate);
-        return convertMonthData(monthDays, monthDate);
-    }
-
-    /**
-     * Process pending operations when scroll stops.
-     * Executes any pending load operations that were deferred during scrolling.
-     */
-    protected void processPendingOperations() {
-        final String mTAG = "processPendingOperations: ";
-
-        if (mIsPendingTopLoad.get() && !mIsUpdatingCache.get()) {
-            if (DEBUG_BASEFRAGMENT) Log.d(TAG, mTAG + "Processing pending top load");
-            executeTopLoad();
-        }
-        if (mIsPendingBottomLoad.get() && !mIsUpdatingCache.get()) {
-            if (DEBUG_BASEFRAGMENT) Log.d(TAG, mTAG + "Processing pending bottom load");
-            executeBottomLoad();
-        }
-    }
-
-    /**
-     * Schedule cache cleanup if cache size exceeds limits.
-     * Prevents memory issues by cleaning old cache entries when cache grows too large.
-     */
-    protected void scheduleCleanupIfNeeded() {
-        final String mTAG = "scheduleCleanupIfNeeded: ";
-
-        int maxElements = QD_MAX_CACHE_SIZE * 35; // ~35 elements per month
-        if (mItemsCache.size() > maxElements) {
-            if (DEBUG_BASEFRAGMENT)
-                Log.d(TAG, mTAG + "Scheduling cache cleanup, current size: " + mItemsCache.size());
-
-            mBackgroundHandler.postDelayed(() -> {
-                if (!mIsUpdatingCache.get() && mScrollVelocity == 0) {
-                    cleanupCache();
-                }
-            }, 1000);
-        }
-    }
-
-    /**
-     * Clean up cache by removing elements far from current position.
-     * Works with both LinearLayoutManager and GridLayoutManager.
-     */
-    private void cleanupCache() {
-        final String mTAG = "cleanupCache: ";
-
-        if (!mIsUpdatingCache.compareAndSet(false, true)) return;
-
-        mMainHandler.post(() -> {
-            try {
-                // Get current position safely for any LayoutManager type
-                int currentPos = getCurrentVisiblePosition();
-                int targetSize = QD_MONTHS_CACHE_RADIUS * 35;
-
-                // If we can't determine position, use a safe fallback
-                if (currentPos == RecyclerView.NO_POSITION) {
-                    currentPos = mItemsCache.size() / 2; // Use middle as fallback
-                    if (DEBUG_BASEFRAGMENT)
-                        Log.w(TAG, mTAG + "Using fallback position for cleanup");
-                }
-
-                // Remove from start if necessary
-                while (mItemsCache.size() > targetSize && currentPos > targetSize / 2) {
-                    mItemsCache.remove(0);
-                    currentPos--;
-                    if (mTodayPosition > 0) mTodayPosition--;
-                    if (mCurrentCenterPosition > 0) mCurrentCenterPosition--;
-
-                    // POST adapter notification to next frame
-                    mMainHandler.post(() -> {
-                        if (getFragmentAdapter() != null) {
-                            getFragmentAdapter().notifyItemRemoved(0);
-                        }
-                    });
-                }
-
-                // Remove from end if necessary
-                while (mItemsCache.size() > targetSize &&
-                        currentPos < mItemsCache.size() - targetSize / 2) {
-                    int lastIndex = mItemsCache.size() - 1;
-                    mItemsCache.remove(lastIndex);
-
-                    // POST adapter notification to next frame
-                    final int finalLastIndex = lastIndex;
-                    mMainHandler.post(() -> {
-                        if (getFragmentAdapter() != null) {
-                            getFragmentAdapter().notifyItemRemoved(finalLastIndex);
-                        }
-                    });
-                }
-
-                if (DEBUG_BASEFRAGMENT)
-                    Log.d(TAG, mTAG + "Cache cleaned, new size: " + mItemsCache.size());
-            } finally {
-                mIsUpdatingCache.set(false);
-            }
-        });
-    }
-
-    /**
-     * Get current visible position safely for any LayoutManager type.
-     * Handles both LinearLayoutManager and GridLayoutManager with fallbacks.
-     *
-     * @return current visible position or NO_POSITION if not determinable
-     */
-    private int getCurrentVisiblePosition() {
-        final String mTAG = "getCurrentVisiblePosition: ";
-
-        if (mRecyclerView == null) return RecyclerView.NO_POSITION;
-
-        RecyclerView.LayoutManager layoutManager = mRecyclerView.getLayoutManager();
-        if (layoutManager == null) return RecyclerView.NO_POSITION;
-
-        try {
-            // Handle LinearLayoutManager (DaysListFragment)
-            if (layoutManager instanceof LinearLayoutManager) {
-                LinearLayoutManager linearManager = (LinearLayoutManager) layoutManager;
-                int firstVisible = linearManager.findFirstCompletelyVisibleItemPosition();
-                if (firstVisible != RecyclerView.NO_POSITION) {
-                    return firstVisible;
-                }
-                // Fallback to partially visible
-                return linearManager.findFirstVisibleItemPosition();
-            }
-
-            // Handle GridLayoutManager (CalendarFragment)
-            else if (layoutManager instanceof GridLayoutManager) {
-                GridLayoutManager gridManager = (GridLayoutManager) layoutManager;
-                int firstVisible = gridManager.findFirstCompletelyVisibleItemPosition();
-                if (firstVisible != RecyclerView.NO_POSITION) {
-                    return firstVisible;
-                }
-                // Fallback to partially visible
-                return gridManager.findFirstVisibleItemPosition();
-            }
-
-            // For other LayoutManager types, use generic approach
-            else {
-                // Try to get first visible child
-                View firstChild = layoutManager.getChildAt(0);
-                if (firstChild != null) {
-                    return mRecyclerView.getChildAdapterPosition(firstChild);
-                }
-            }
-        } catch (Exception e) {
-            Log.e(TAG, mTAG + "Error getting current position: " + e.getMessage());
-        }
-
-        return RecyclerView.NO_POSITION;
-    }
-
-    // =============== LOADING INDICATOR MANAGEMENT ===============
-
-    /**
-     * Show top loading indicator.
-     * Adds loading item to cache and notifies adapter on next frame.
-     * Override showTopLoader with more debugging
-     */
-    private void showTopLoader() {
-        final String mTAG = "showTopLoader: ";
-
-        if (mShowingTopLoader) {
-            Log.w(TAG, mTAG + "Top loader already showing - ignoring request");
-            return;
-        }
-
-        mShowingTopLoader = true;
-
-        SharedViewModels.LoadingItem loader = new SharedViewModels.LoadingItem(
-                SharedViewModels.LoadingItem.LoadingType.TOP);
-        mItemsCache.add(0, loader);
-
-        if (mTodayPosition >= 0) mTodayPosition++;
-        mCurrentCenterPosition++;
-
-        Log.w(TAG, mTAG + "Added top loader - cache size now: " + mItemsCache.size());
-
-        // POST ADAPTER NOTIFICATION TO NEXT FRAME
-        mMainHandler.post(() -> {
-            if (getFragmentAdapter() != null) {
-                getFragmentAdapter().notifyItemInserted(0);
-                Log.w(TAG, mTAG + "Notified adapter of top loader insertion");
-            }
-        });
-    }
-
-    /**
-     * Show bottom loading indicator.
-     * Adds loading item to cache and notifies adapter on next frame.
-     * Override showBottomLoader with more debugging
-     */
-    private void showBottomLoader() {
-        final String mTAG = "showBottomLoader: ";
-
-        if (mShowingBottomLoader) {
-            Log.w(TAG, mTAG + "Bottom loader already showing - ignoring request");
-            return;
-        }
-
-        mShowingBottomLoader = true;
-
-        SharedViewModels.LoadingItem loader = new SharedViewModels.LoadingItem(
-                SharedViewModels.LoadingItem.LoadingType.BOTTOM);
-        mItemsCache.add(loader);
-
-        Log.w(TAG, mTAG + "Added bottom loader - cache size now: " + mItemsCache.size());
-
-        // POST ADAPTER NOTIFICATION TO NEXT FRAME
-        mMainHandler.post(() -> {
-            if (getFragmentAdapter() != null) {
-                getFragmentAdapter().notifyItemInserted(mItemsCache.size() - 1);
-                Log.w(TAG, mTAG + "Notified adapter of bottom loader insertion");
-            }
-        });
-    }
-
-    /**
-     * FIXED: Hide top loader with better error handling
-     */
-    private void hideTopLoader() {
-        final String mTAG = "hideTopLoader: ";
-        Log.v(TAG, mTAG + "called.");
-
-        if (!mShowingTopLoader) {
-            Log.d(TAG, mTAG + "Top loader not showing - nothing to hide");
-            return;
-        }
-
-        try {
-            for (int i = 0; i < mItemsCache.size(); i++) {
-                if (mItemsCache.get(i) instanceof SharedViewModels.LoadingItem) {
-                    SharedViewModels.LoadingItem loading = (SharedViewModels.LoadingItem) mItemsCache.get(i);
-                    if (loading.loadingType == SharedViewModels.LoadingItem.LoadingType.TOP) {
-                        mItemsCache.remove(i);
-                        if (mTodayPosition > i) mTodayPosition--;
-                        if (mCurrentCenterPosition > i) mCurrentCenterPosition--;
-
-                        Log.d(TAG, mTAG + "Removed top loader from position " + i);
-
-                        // POST ADAPTER NOTIFICATION TO NEXT FRAME
-                        final int finalI = i;
-                        mMainHandler.post(() -> {
-                            try {
-                                if (getFragmentAdapter() != null) {
-                                    getFragmentAdapter().notifyItemRemoved(finalI);
-                                    Log.d(TAG, mTAG + "Notified adapter of top loader removal");
-                                }
-                            } catch (Exception e) {
-                                Log.e(TAG, mTAG + "Error notifying adapter of loader removal: " + e.getMessage());
-                            }
-                        });
-                        break;
-                    }
-                }
-            }
-        } catch (Exception e) {
-            Log.e(TAG, mTAG + "Error hiding top loader: " + e.getMessage());
-        } finally {
-            mShowingTopLoader = false;
-        }
-    }
-
-    /**
-     * Hide bottom loading indicator.
-     * Removes loading item from cache and notifies adapter on next frame.
-     */
-    private void hideBottomLoader() {
-        final String mTAG = "hideBottomLoader: ";
-
-        if (!mShowingBottomLoader) {
-            Log.d(TAG, mTAG + "Bottom loader not showing - nothing to hide");
-            return;
-        }
-
-        Log.d(TAG, mTAG + "Hiding bottom loader");
-
-        try {
-            for (int i = mItemsCache.size() - 1; i >= 0; i--) {
-                if (mItemsCache.get(i) instanceof SharedViewModels.LoadingItem) {
-                    SharedViewModels.LoadingItem loading = (SharedViewModels.LoadingItem) mItemsCache.get(i);
-                    if (loading.loadingType == SharedViewModels.LoadingItem.LoadingType.BOTTOM) {
-                        mItemsCache.remove(i);
-
-                        Log.d(TAG, mTAG + "Removed bottom loader from position " + i);
-
-                        // POST ADAPTER NOTIFICATION TO NEXT FRAME
-                        final int finalI = i;
-                        mMainHandler.post(() -> {
-                            try {
-                                if (getFragmentAdapter() != null) {
-                                    getFragmentAdapter().notifyItemRemoved(finalI);
-                                    Log.d(TAG, mTAG + "Notified adapter of bottom loader removal");
-                                }
-                            } catch (Exception e) {
-                                Log.e(TAG, mTAG + "Error notifying adapter of loader removal: " + e.getMessage());
-                            }
-                        });
-                        break;
-                    }
-                }
-            }
-        } catch (Exception e) {
-            Log.e(TAG, mTAG + "Error hiding bottom loader: " + e.getMessage());
-        } finally {
-            mShowingBottomLoader = false;
-        }
-    }
-
-    // === UTILITY METHODS ===
-
-    /**
-     * Reset all control flags to initial state.
-     * Used during initialization and cleanup.
-     * DEBUG: made protected insteadof private
-     */
-    protected void resetControlFlags() {
-        mIsUpdatingCache.set(false);
-        mIsPendingTopLoad.set(false);
-        mIsPendingBottomLoad.set(false);
-        mShowingTopLoader = false;
-        mShowingBottomLoader = false;
-    }
-
-    /**
-     * Find the first month date in the cache.
-     * Used for determining what previous month to load.
-     *
-     * @return first month date or null if cache is empty
-     */
-    private LocalDate findFirstMonthInCache() {
-        for (SharedViewModels.ViewItem item : mItemsCache) {
-            if (item instanceof SharedViewModels.MonthHeader) {
-                return ((SharedViewModels.MonthHeader) item).monthDate;
-            }
-            if (item instanceof SharedViewModels.DayItem) {
-                return ((SharedViewModels.DayItem) item).monthDate;
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Find the last month date in the cache.
-     * Used for determining what next month to load.
-     *
-     * @return last month date or null if cache is empty
-     */
-    private LocalDate findLastMonthInCache() {
-        for (int i = mItemsCache.size() - 1; i >= 0; i--) {
-            SharedViewModels.ViewItem item = mItemsCache.get(i);
-            if (item instanceof SharedViewModels.MonthHeader) {
-                return ((SharedViewModels.MonthHeader) item).monthDate;
-            }
-            if (item instanceof SharedViewModels.DayItem) {
-                return ((SharedViewModels.DayItem) item).monthDate;
-            }
-        }
-        return null;
-    }
-
-    /// === LIFECYCLE MANAGEMENT ===
-
-    /**
-     * Handle fragment start lifecycle.
-     * Updates preferences and triggers refresh if needed.
-     */
-    @Override
-    public void onStart() {
-        super.onStart();
-
-        if (QDue.getQuattrodue() != null) {
-            QDue.getQuattrodue().updatePreferences(getActivity());
-            if (QDue.getQuattrodue().isRefresh()) {
-                QDue.getQuattrodue().setRefresh(false);
-                refreshData();
-            }
-        }
-    }
+    }
 
     @Override
     public void onResume() {
         super.onResume();
 
+        // Date may have changed while paused: rebind yesterday and today only
+        if (getFragmentAdapter() != null) {
+            getFragmentAdapter().notifyTodayChanged();
+            mTodayPosition = findPositionForDate(DayStateOverlay.getToday());
+        }
+
         // Check for lazy refresh in base implementation
         if (shouldPerformBaseLazyRefresh()) {
             Log.d(TAG, String.format("Performing lazy refresh for %s", getClass().getSimpleName()));
@@ -2075,7 +1076,9 @@ public abstract class BaseFragment extends Fragment implements
         }
 
         // Clean up resources
-        if (mItemsCache != null) {
+        if (mItemsCache instanceof VirtualCalendarList) {
+            ((VirtualCalendarList) mItemsCache).clearResidentMonths();
+        } else if (mItemsCache != null) {
             mItemsCache.clear();
         }
         if (mRecyclerView != null) {
@@ -2124,22 +1127,6 @@ public abstract class BaseFragment extends Fragment implements
 
     // ==================== CACHE LOADING ====================
 
-    /**
-     * Enhanced cache loading that also loads events for new periods.
-     * - loadEventsForCurrentPeriod()
-     *
-     * @param monthDate month date to load
-     */
-    //@Override
-    protected void addMonthToCache(LocalDate monthDate) {
-        List<SharedViewModels.ViewItem> monthItems = generateMonthItems(monthDate);
-        mItemsCache.addAll(monthItems);
-        //addMonthToCache(monthDate);
-
-        // Load events for the new month
-        loadEventsForMonth(monthDate);
-    }
-
     /**
      * Update events cache (#and notify adapter).
      * FIX: merge instead of overwriting
@@ -2188,8 +1175,10 @@ public abstract class BaseFragment extends Fragment implements
     public void refreshEventsData() {
         Log.v(TAG, String.format("refreshEventsData: Refreshing events data for %s", getClass().getSimpleName()));
 
-        // Clear existing cache
+        // Clear existing caches
         mEventsCache.clear();
+        mDaySummaryCache.clear();
+        mSummaryMonths.clear();
 
         // Reload events for current period
         loadEventsForCurrentPeriod();
@@ -2198,34 +1187,76 @@ public abstract class BaseFragment extends Fragment implements
         // TODO: if the usr leaves the events page before the  time to abort changes, the UI isn't updated
     }
 
+    /**
+     * Apply a committed events write: drop the touched days from the events cache
+     * and reload the summaries of the touched months already loaded. Untouched
+     * months keep their cache; a change without dates refreshes everything.
+     *
+     * @param change Events change, delivered on the main thread
+     */
+    private void onDataChanged(@NonNull DataChange change) {
+        if (change.isAll()) {
+            refreshEventsData();
+            return;
+        }
+
+        mEventsCache.keySet().removeIf(date -> change.touches(date));
+
+        for (LocalDate month : mSummaryMonths) {
+            if (change.touches(YearMonth.from(month))) {
+                reloadEventsForMonth(month);
+            }
+        }
+        Log.d(TAG, "onDataChanged: applied " + change);
+    }
+
+    /**
+     * Reload the day summaries of a loaded month, replacing its touched days.
+     * Days left without events lose their summary.
+     */
+    private void reloadEventsForMonth(LocalDate startOfMonth) {
+        LocalDate endOfMonth = startOfMonth.withDayOfMonth(startOfMonth.lengthOfMonth());
+
+        CompletableFuture.supplyAsync(() ->
+                mDatabase.eventDao().getDaySummariesForDateRange(startOfMonth, endOfMonth)
+        ).thenAccept(summaries -> mMainHandler.post(() -> {
+            if (!mSummaryMonths.contains(startOfMonth)) return; // flushed meanwhile
+            mDaySummaryCache.keySet().removeIf(date -> !date.isBefore(startOfMonth) && !date.isAfter(endOfMonth));
+            updateDaySummaryCache(summaries);
+            notifyEventsDataChanged();
+        })).exceptionally(throwable -> {
+            Log.e(TAG, "❌ Error reloading day summaries for month " + startOfMonth, throwable);
+            return null;
+        });
+    }
+
     // ==================== EVENTS LOADING METHODS ====================
 
     /**
-     * Load events for a specific month. This method:
+     * Load day summaries for a specific month, unless already loaded. This method:
      * - runs in background
      * - updates UI when complete.
+     * Full events are not loaded: see {@link #loadEventsForDate(LocalDate, Consumer)}.
      *
-     * @param monthDate The month to load events for
+     * @param monthDate The month to load summaries for
      */
     private void loadEventsForMonth(LocalDate monthDate) {
-        CompletableFuture.supplyAsync(() -> {
-            try {
-                LocalDate startOfMonth = monthDate.withDayOfMonth(1);
-                LocalDate endOfMonth = monthDate.withDayOfMonth(monthDate.lengthOfMonth());
+        LocalDate startOfMonth = monthDate.withDayOfMonth(1);
+        LocalDate endOfMonth = monthDate.withDayOfMonth(monthDate.lengthOfMonth());
 
-                // Convert to LocalDateTime for DAO method
-                LocalDateTime startDateTime = startOfMonth.atStartOfDay();
-                LocalDateTime endDateTime = endOfMonth.atTime(23, 59, 59);
+        if (mDatabase == null || !mSummaryMonths.add(startOfMonth)) return;
 
-                return mDatabase.eventDao().getEventsForDateRange(startDateTime, endDateTime);
+        CompletableFuture.supplyAsync(() -> {
+            try {
+                return mDatabase.eventDao().getDaySummariesForDateRange(startOfMonth, endOfMonth);
             } catch (Exception e) {
-                Log.e(TAG, "❌ Error loading events for month " + monthDate, e);
-                return new ArrayList<LocalEvent>();
+                Log.e(TAG, "❌ Error loading day summaries for month " + monthDate, e);
+                mSummaryMonths.remove(startOfMonth);
+                return new ArrayList<EventDaySummary>();
             }
-        }).thenAccept(events -> {
-            Map<LocalDate, List<LocalEvent>> monthEvents = groupEventsByDate(events);
+        }).thenAccept(summaries -> {
             mMainHandler.post(() -> {
-                updateEventsCache(monthEvents);
+                updateDaySummaryCache(summaries);
                 notifyEventsDataChanged();
             });
         });
@@ -2244,45 +1275,29 @@ public abstract class BaseFragment extends Fragment implements
 
         mIsLoadingEvents.set(true);
 
-        // Calculate date range for current cache
+        // Calculate date range around the visible month
         LocalDate startDate = getCurrentPeriodStart();
         LocalDate endDate = getCurrentPeriodEnd();
+        for (LocalDate month = startDate.withDayOfMonth(1); !month.isAfter(endDate); month = month.plusMonths(1)) {
+            mSummaryMonths.add(month);
+        }
 
         Log.d(TAG, "Loading events for period: " + startDate + " to " + endDate);
 
-        // Load events asynchronously
+        // Load day summaries asynchronously
         CompletableFuture.supplyAsync(() -> {
             try {
-                // Convert LocalDate to LocalDateTime for DAO method
-                LocalDateTime startDateTime = startDate.atStartOfDay();
-                LocalDateTime endDateTime = endDate.atTime(23, 59, 59);
-                return mDatabase.eventDao().getEventsForDateRange(startDateTime, endDateTime);
+                return mDatabase.eventDao().getDaySummariesForDateRange(startDate, endDate);
             } catch (Exception e) {
-                Log.e(TAG, "❌ Error loading events from database", e);
-                return new ArrayList<LocalEvent>();
-            }
-        }).thenAccept(events -> {
-            Log.d(TAG, "✅ Loaded " + events.size() + " events from database");
-
-            // Process events into date-grouped map
-            Map<LocalDate, List<LocalEvent>> eventsMap = groupEventsByDate(events);
-
-            Log.d(TAG, "✅ Grouped into " + eventsMap.size() + " dates with events");
-
-            // Debug: Log alcuni esempi
-            int debugCount = 0;
-            for (Map.Entry<LocalDate, List<LocalEvent>> entry : eventsMap.entrySet()) {
-                if (debugCount < 3) { // Solo primi 3 per debug
-                    LocalDate date = entry.getKey();
-                    List<LocalEvent> dateEvents = entry.getValue();
-                    Log.d(TAG, "DEBUG: Date " + date + " has " + dateEvents.size() + " events");
-                    debugCount++;
-                }
+                Log.e(TAG, "❌ Error loading day summaries from database", e);
+                return new ArrayList<EventDaySummary>();
             }
+        }).thenAccept(summaries -> {
+            Log.d(TAG, "✅ Loaded " + summaries.size() + " day summaries from database");
 
             // Update cache on main thread
             mMainHandler.post(() -> {
-                updateEventsCache(eventsMap);
+                updateDaySummaryCache(summaries);
                 notifyEventsDataChanged();
                 mIsLoadingEvents.set(false);
             });
@@ -2296,59 +1311,31 @@ public abstract class BaseFragment extends Fragment implements
     }
 
     /**
-     * Group events by their date range for efficient lookup.
-     * FIX: Now handles multi-day events correctly by adding them to all affected dates
+     * Get start date of current period.
      */
-    private Map<LocalDate, List<LocalEvent>> groupEventsByDate(List<LocalEvent> events) {
-        Map<LocalDate, List<LocalEvent>> grouped = new HashMap<>();
-
-        for (LocalEvent event : events) {
-            LocalDate startDate = event.getStartDate();
-            LocalDate endDate = event.getEndDate();
-
-            // SINGLE DAY EVENT: Add only to start date
-            if (endDate == null || startDate.equals(endDate)) {
-                grouped.computeIfAbsent(startDate, k -> new ArrayList<>()).add(event);
-                Log.v(TAG, "Single day event: " + event.getTitle() + " on " + startDate);
-            }
-            // MULTI-DAY EVENT: Add to all dates in range
-            else {
-                LocalDate currentDate = startDate;
-                int dayCount = 0;
-
-                while (!currentDate.isAfter(endDate) && dayCount < 365) { // Safety limit
-                    grouped.computeIfAbsent(currentDate, k -> new ArrayList<>()).add(event);
-                    Log.v(TAG, "Multi-day event: " + event.getTitle() + " added to " + currentDate);
-
-                    currentDate = currentDate.plusDays(1);
-                    dayCount++;
-                }
-
-                Log.d(TAG, "Multi-day event '" + event.getTitle() + "' spans " + dayCount + " days (" + startDate + " to " + endDate + ")");
-            }
-        }
-
-        return grouped;
+    private LocalDate getCurrentPeriodStart() {
+        return getCurrentPeriodCenter().minusMonths(QD_MONTHS_CACHE_RADIUS).withDayOfMonth(1);
     }
 
     /**
-     * Get start date of current cached period.
+     * Get end date of current period.
      */
-    private LocalDate getCurrentPeriodStart() {
-        if (mCurrentDate != null) {
-            return mCurrentDate.minusMonths(QD_MONTHS_CACHE_RADIUS);
-        }
-        return LocalDate.now().minusMonths(QD_MONTHS_CACHE_RADIUS);
+    private LocalDate getCurrentPeriodEnd() {
+        LocalDate end = getCurrentPeriodCenter().plusMonths(QD_MONTHS_CACHE_RADIUS);
+        return end.withDayOfMonth(end.lengthOfMonth());
     }
 
     /**
-     * Get end date of current cached period.
+     * Get the center of current period: the visible month, once scrolled.
      */
-    private LocalDate getCurrentPeriodEnd() {
+    private LocalDate getCurrentPeriodCenter() {
+        if (mVisibleMonth != null) {
+            return mVisibleMonth;
+        }
         if (mCurrentDate != null) {
-            return mCurrentDate.plusMonths(QD_MONTHS_CACHE_RADIUS);
+            return mCurrentDate;
         }
-        return LocalDate.now().plusMonths(QD_MONTHS_CACHE_RADIUS);
+        return LocalDate.now();
     }
 
     /**
@@ -2369,7 +1356,55 @@ public abstract class BaseFragment extends Fragment implements
      * @return true if the date has events
      */
     protected boolean hasEventsForDate(LocalDate date) {
-        return mEventsCache.containsKey(date) && !mEventsCache.get(date).isEmpty();
+        EventDaySummary summary = mDaySummaryCache.get(date);
+        return summary != null && summary.hasEvents();
+    }
+
+    /**
+     * Get the event summary of a specific date.
+     *
+     * @param date The date to get the summary for
+     * @return Summary of the date, or null if the date has no events
+     */
+    protected EventDaySummary getDaySummaryForDate(LocalDate date) {
+        return mDaySummaryCache.get(date);
+    }
+
+    /**
+     * Store loaded day summaries. Summaries are complete for their range, so every
+     * loaded day replaces the cached one.
+     */
+    private void updateDaySummaryCache(List<EventDaySummary> summaries) {
+        for (EventDaySummary summary : summaries) {
+            mDaySummaryCache.put(summary.getDate(), summary);
+        }
+        Log.d(TAG, "updateDaySummaryCache: ✅ " + summaries.size() + " days loaded; total cache: " + mDaySummaryCache.size() + " days.");
+    }
+
+    /**
+     * Load the full events of a date, when the day is opened. Events found are
+     * cached; the callback runs on the main thread.
+     *
+     * @param date     The date to load events for
+     * @param callback Receives the events of the date, empty if none
+     */
+    protected void loadEventsForDate(LocalDate date, Consumer<List<LocalEvent>> callback) {
+        if (!hasEventsForDate(date)) {
+            callback.accept(new ArrayList<>());
+            return;
+        }
+
+        CompletableFuture.supplyAsync(() -> {
+            try {
+                return mDatabase.eventDao().getEventsForDate(date.atStartOfDay(), date.atTime(23, 59, 59));
+            } catch (Exception e) {
+                Log.e(TAG, "❌ Error loading events for date " + date, e);
+                return new ArrayList<LocalEvent>();
+            }
+        }).thenAccept(events -> mMainHandler.post(() -> {
+            mEventsCache.put(date, new ArrayList<>(events));
+            callback.accept(events);
+        }));
     }
 
     // ==================== COMPLETE INTERFACE IMPLEMENTATION ====================
@@ -2388,14 +1423,10 @@ public abstract class BaseFragment extends Fragment implements
                 "BaseFragment (%s): Events changed %s (%d events)",
                 getClass().getSimpleName(), changeType, eventCount));
 
-        // Only refresh if fragment is active
-        if (isFragmentActive()) {
-            refreshEventsData();
-
-        } else {
-            Log.d(TAG, String.format("Fragment %s is inactive, skipping immediate refresh",
-                    getClass().getSimpleName()));
-        }
+        // The written days were already refreshed through DataChangeBus (see onDataChanged),
+        // flushing every cached month here would only reload unchanged data
+        Log.d(TAG, String.format("Fragment %s: touched days already refreshed by data change notifications",
+                getClass().getSimpleName()));
     }
 
     /**
@@ -2438,14 +1469,13 @@ public abstract class BaseFragment extends Fragment implements
      * Notify subclasses that events data has changed.
      * Subclasses should override this to update their adapters.
      */
-    @SuppressLint("NotifyDataSetChanged")
     protected void notifyEventsDataChanged() {
         try {
-            // Update adapter with new events data
+            // Update adapter with new events data: only changed days are rebound
             if (getFragmentAdapter() != null) {
-                getFragmentAdapter().notifyDataSetChanged();
+                getFragmentAdapter().updateDaySummaries(getDaySummaryCache());
                 Log.d(TAG, String.format(QDue.getLocale(), "✅ Notified adapter of events changes (%d dates with events)",
-                        mEventsCache.size()));
+                        mDaySummaryCache.size()));
             }
 
             // Additional subclass-specific notifications
@@ -2486,6 +1516,15 @@ public abstract class BaseFragment extends Fragment implements
         return new HashMap<>(mEventsCache); // Return copy for thread safety
     }
 
+    /**
+     * Get day summaries cache for adapter integration.
+     *
+     * @return Current day summaries
+     */
+    protected Map<LocalDate, EventDaySummary> getDaySummaryCache() {
+        return new HashMap<>(mDaySummaryCache); // Return copy for thread safety
+    }
+
     // ==================== DEBUG METHODS ====================
 
     /**
@@ -2500,6 +1539,7 @@ public abstract class BaseFragment extends Fragment implements
             Log.d(TAG, "Database: " + (mDatabase != null ? "initialized" : "null"));
             Log.d(TAG, "Today position calculated: " + mTodayPosition);
             Log.d(TAG, "Events Cache Size: " + mEventsCache.size());
+            Log.d(TAG, "Day Summary Cache Size: " + mDaySummaryCache.size());
             Log.d(TAG, "Adapter: " + (getFragmentAdapter() != null ? "initialized" : "null"));
             Log.d(TAG, "=== END DEBUG ===");
         } catch (Exception e) {
@@ -216,15 +216,12 @@ public abstract class BaseInteractiveAdapter extends BaseAdapter implements
                 case ADD_ALL_VISIBLE:
                     if (mMultipleSelectionEnabled && mItems != null) {
                         Log.d(TAG, "✅ updateSelectionSet: ADD_ALL_VISIBLE");
-                        for (SharedViewModels.ViewItem item : mItems) {
-                            if (item instanceof SharedViewModels.DayItem) {
-                                SharedViewModels.DayItem dayItem = (SharedViewModels.DayItem) item;
-                                if (dayItem.day != null) {
-                                    LocalDate itemDate = dayItem.day.getLocalDate();
-                                    if (!mSelectedDates.contains(itemDate)) {
-                                        mSelectedDates.add(itemDate);
-                                        changed = true;
-                                    }
+                        for (SharedViewModels.DayItem dayItem : getLoadedDayItems()) {
+                            if (dayItem.day != null) {
+                                LocalDate itemDate = dayItem.day.getLocalDate();
+                                if (!mSelectedDates.contains(itemDate)) {
+                                    mSelectedDates.add(itemDate);
+                                    changed = true;
                                 }
                             }
                         }
@@ -664,8 +661,8 @@ public abstract class BaseInteractiveAdapter extends BaseAdapter implements
             case ADD_ALL_VISIBLE:
                 // ✅ Select all - only available in multiple mode
                 if (mMultipleSelectionEnabled) {
-                    Log.d(TAG, "performOptimalUIUpdate: ADD_ALL_VISIBLE - full update");
-                    notifyDataSetChanged();
+                    Log.d(TAG, "performOptimalUIUpdate: ADD_ALL_VISIBLE - range update");
+                    notifyItemRangeChanged(0, getItemCount());
                 } else {
                     Log.w(TAG, "performOptimalUIUpdate: ADD_ALL_VISIBLE ignored in single mode");
                 }
@@ -673,8 +670,8 @@ public abstract class BaseInteractiveAdapter extends BaseAdapter implements
 
             case MODE_CHANGE_ONLY:
                 // ✅ Mode change without selection change
-                Log.d(TAG, "performOptimalUIUpdate: MODE_CHANGE_ONLY - full update");
-                notifyDataSetChanged();
+                Log.d(TAG, "performOptimalUIUpdate: MODE_CHANGE_ONLY - range update");
+                notifyItemRangeChanged(0, getItemCount());
                 break;
         }
     }
@@ -888,39 +885,15 @@ public abstract class BaseInteractiveAdapter extends BaseAdapter implements
         }
     }
 
-    /**
-     * Find position in adapter for a specific date
-     */
-    public int findPositionForDate(LocalDate date) {
-        if (mItems == null) return -1;
-
-        for (int i = 0; i < mItems.size(); i++) {
-            SharedViewModels.ViewItem item = mItems.get(i);
-            if (item instanceof SharedViewModels.DayItem) {
-                SharedViewModels.DayItem dayItem = (SharedViewModels.DayItem) item;
-                if (dayItem.day != null && dayItem.day.getLocalDate().equals(date)) {
-                    return i;
-                }
-            }
-        }
-        return -1;
-    }
-
     /**
      * Find Day object for a specific date
      */
     private Day findDayForDate(LocalDate date) {
-        if (mItems == null) return null;
+        int position = findPositionForDate(date);
+        if (position < 0) return null;
 
-        for (SharedViewModels.ViewItem item : mItems) {
-            if (item instanceof SharedViewModels.DayItem) {
-                SharedViewModels.DayItem dayItem = (SharedViewModels.DayItem) item;
-                if (dayItem.day != null && dayItem.day.getLocalDate().equals(date)) {
-                    return dayItem.day;
-                }
-            }
-        }
-        return null;
+        SharedViewModels.ViewItem item = mItems.get(position);
+        return item instanceof SharedViewModels.DayItem ? ((SharedViewModels.DayItem) item).day : null;
     }
 
     // ===========================================
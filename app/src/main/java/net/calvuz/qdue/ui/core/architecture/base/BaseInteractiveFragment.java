@@ -818,7 +818,7 @@ public abstract class BaseInteractiveFragment extends BaseFragment implements
 
     /**
      * 🆕 HELPER: Get current day map for validation - SIMPLE IMPLEMENTATION
-     * Builds a basic day map from adapter's mItems for toolbar validation
+     * Builds a basic day map from the adapter's loaded days for toolbar validation
      */
     protected Map<LocalDate, Day> getCurrentDayMap() {
         BaseInteractiveAdapter adapter = getClickAdapter();
@@ -829,13 +829,10 @@ public abstract class BaseInteractiveFragment extends BaseFragment implements
 
         Map<LocalDate, Day> dayMap = new HashMap<>();
 
-        // Extract Day objects from adapter's ViewItems
-        for (SharedViewModels.ViewItem item : adapter.mItems) {
-            if (item instanceof SharedViewModels.DayItem) {
-                SharedViewModels.DayItem dayItem = (SharedViewModels.DayItem) item;
-                if (dayItem.day != null) {
-                    dayMap.put(dayItem.day.getLocalDate(), dayItem.day);
-                }
+        // Extract Day objects from the adapter's loaded months
+        for (SharedViewModels.DayItem dayItem : adapter.getLoadedDayItems()) {
+            if (dayItem.day != null) {
+                dayMap.put(dayItem.day.getLocalDate(), dayItem.day);
             }
         }
 
@@ -1618,9 +1615,8 @@ public abstract class BaseInteractiveFragment extends BaseFragment implements
      * Show events dialog for the specified date
      */
     protected void showEventsDialog(LocalDate date) {
-        // Get events for this date
-        List<LocalEvent> events = getEventsForDate(date);
-        onShowEventsDialog(date, events);
+        // Load full events for this date on demand
+        loadEventsForDate(date, events -> onShowEventsDialog(date, events));
     }
 //        Log.d(TAG, "Showing events dialog for date: " + date);
 //
@@ -1892,18 +1888,18 @@ public abstract class BaseInteractiveFragment extends BaseFragment implements
             return;
         }
 
-        // Get events for this date
-        List<LocalEvent> events = getEventsForDate(date);
-
-        if (events.isEmpty()) {
-            // No events - show "add event" option or ignore
-            handleNoEventsClick(date, itemView);
-        } else {
-            // Has events - show preview
-            if (mEventsPreviewManager != null) {
-                mEventsPreviewManager.showEventsPreview(date, events, itemView);
+        // Load full events for this date on demand
+        loadEventsForDate(date, events -> {
+            if (events.isEmpty()) {
+                // No events - show "add event" option or ignore
+                handleNoEventsClick(date, itemView);
+            } else {
+                // Has events - show preview
+                if (mEventsPreviewManager != null) {
+                    mEventsPreviewManager.showEventsPreview(date, events, itemView);
+                }
             }
-        }
+        });
     }
 
     /**
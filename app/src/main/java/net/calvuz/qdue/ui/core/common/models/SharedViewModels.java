@@ -4,9 +4,11 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import net.calvuz.qdue.QDue;
 import net.calvuz.qdue.quattrodue.models.Day;
+import net.calvuz.qdue.quattrodue.models.Shift;
 import net.calvuz.qdue.ui.core.common.utils.Log;
 
 /**
@@ -70,6 +72,46 @@ public class SharedViewModels {
          * @return the type of this view item
          */
         public abstract Type getType();
+
+        /**
+         * Get the stable id of this view item.
+         * <p>
+         * The id identifies the same logical item across regenerated lists
+         * (same month, same date, same grid slot), so adapters can use it for
+         * RecyclerView stable ids and list diffs.
+         *
+         * @return the stable id of this view item
+         */
+        public abstract long getStableId();
+
+        /**
+         * Check if this item displays the same content as another item
+         * with the same stable id.
+         *
+         * @param other the item to compare with
+         * @return true if no rebind is needed
+         */
+        public boolean hasSameContent(ViewItem other) {
+            return other != null && getType() == other.getType();
+        }
+
+        /**
+         * Compose a stable id from the item type and a type-specific key.
+         *
+         * @param type the item type
+         * @param key  non-negative key, unique within the type
+         * @return the stable id
+         */
+        protected static long stableId(Type type, long key) {
+            return ((long) type.ordinal() << 56) | (key & 0x00FFFFFFFFFFFFFFL);
+        }
+
+        /**
+         * @return month index (year * 12 + month - 1) of a date
+         */
+        protected static long monthKey(LocalDate date) {
+            return date.getYear() * 12L + date.getMonthValue() - 1;
+        }
     }
 
     /**
@@ -111,6 +153,16 @@ public class SharedViewModels {
             return Type.HEADER;
         }
 
+        @Override
+        public long getStableId() {
+            return stableId(Type.HEADER, monthKey(monthDate));
+        }
+
+        @Override
+        public boolean hasSameContent(ViewItem other) {
+            return other instanceof MonthHeader && Objects.equals(title, ((MonthHeader) other).title);
+        }
+
         /**
          * Format the month title based on current year.
          * <p>
@@ -176,6 +228,37 @@ public class SharedViewModels {
             return Type.DAY;
         }
 
+        @Override
+        public long getStableId() {
+            return stableId(Type.DAY, day != null ? day.getDate().toEpochDay() : 0);
+        }
+
+        /**
+         * Days are flyweights shared by the cycle table: the same instance always has
+         * the same content. Otherwise compare what the cells show (teams and stops).
+         * The today flag is not compared: it is refreshed with a partial rebind.
+         */
+        @Override
+        public boolean hasSameContent(ViewItem other) {
+            if (!(other instanceof DayItem)) return false;
+
+            Day otherDay = ((DayItem) other).day;
+            if (day == otherDay) return true;
+            if (day == null || otherDay == null || !day.equals(otherDay)) return false;
+
+            List<Shift> shifts = day.getShifts();
+            List<Shift> otherShifts = otherDay.getShifts();
+            if (shifts.size() != otherShifts.size()) return false;
+
+            for (int i = 0; i < shifts.size(); i++) {
+                if (shifts.get(i).isStop() != otherShifts.get(i).isStop()
+                        || !Objects.equals(day.getTeamsAsString(i), otherDay.getTeamsAsString(i))) {
+                    return false;
+                }
+            }
+            return Objects.equals(day.getOffWorkHalfTeamsAsString(), otherDay.getOffWorkHalfTeamsAsString());
+        }
+
         /**
          * Check if this day is today.
          *
@@ -205,6 +288,27 @@ public class SharedViewModels {
      */
     public static class EmptyItem extends ViewItem {
 
+        /**
+         * Normalized month date of the grid this cell belongs to
+         */
+        public final LocalDate monthDate;
+
+        /**
+         * Position of the cell among the month items
+         */
+        public final int slot;
+
+        /**
+         * Create an empty cell for a month grid.
+         *
+         * @param monthDate the month the grid belongs to
+         * @param slot      position of the cell among the month items
+         */
+        public EmptyItem(LocalDate monthDate, int slot) {
+            this.monthDate = monthDate.withDayOfMonth(1);
+            this.slot = slot;
+        }
+
         /**
          * Get the view item type.
          *
@@ -214,6 +318,11 @@ public class SharedViewModels {
         public Type getType() {
             return Type.EMPTY;
         }
+
+        @Override
+        public long getStableId() {
+            return stableId(Type.EMPTY, (monthKey(monthDate) << 8) | (slot & 0xFF));
+        }
     }
 
     /**
@@ -268,6 +377,11 @@ public class SharedViewModels {
         public Type getType() {
             return Type.LOADING;
         }
+
+        @Override
+        public long getStableId() {
+            return stableId(Type.LOADING, loadingType.ordinal());
+        }
     }
 
     /**
@@ -329,7 +443,7 @@ public class SharedViewModels {
                 if (days.isEmpty()) {
                     // Month without data - create basic structure
                     LocalDate firstDay = monthDate.withDayOfMonth(1);
-                    addEmptyCellsForWeekStart(items, firstDay);
+                    addEmptyCellsForWeekStart(items, firstDay, monthDate);
 
                     // Add empty days for the entire month
                     int daysInMonth = firstDay.lengthOfMonth();
@@ -339,7 +453,7 @@ public class SharedViewModels {
                     }
                 } else {
                     // Month with data
-                    addEmptyCellsForWeekStart(items, days.get(0).getDate());
+                    addEmptyCellsForWeekStart(items, days.get(0).getDate(), monthDate);
 
                     // Add all days with data
                     for (Day day : days) {
@@ -349,7 +463,7 @@ public class SharedViewModels {
 
                 // Complete the grid to multiples of 7 (full weeks)
                 while (items.size() % 7 != 0) {
-                    items.add(new EmptyItem());
+                    items.add(new EmptyItem(monthDate, items.size()));
                 }
             } catch (Exception e) {
                 Log.e(TAG, "convertForCalendar: ❌ Error converting calendar data: " + e.getMessage());
@@ -364,10 +478,11 @@ public class SharedViewModels {
          * For calendar display, we need to align the first day of the month
          * with its correct weekday position.
          *
-         * @param items    the list to add empty cells to
-         * @param firstDay the first day of the month
+         * @param items     the list to add empty cells to
+         * @param firstDay  the first day of the month
+         * @param monthDate the month the cells belong to
          */
-        private static void addEmptyCellsForWeekStart(List<ViewItem> items, LocalDate firstDay) {
+        private static void addEmptyCellsForWeekStart(List<ViewItem> items, LocalDate firstDay, LocalDate monthDate) {
             try {
                 int dayOfWeek = firstDay.getDayOfWeek().getValue();
 
@@ -377,7 +492,7 @@ public class SharedViewModels {
                 int emptyCells = (dayOfWeek == 7) ? 0 : dayOfWeek;
 
                 for (int i = 0; i < emptyCells; i++) {
-                    items.add(new EmptyItem());
+                    items.add(new EmptyItem(monthDate, items.size()));
                 }
             } catch (Exception e) {
                 Log.e(TAG, "addEmptyCellsForWeekStart: ❌ Error adding empty cells for week start: " + e.getMessage());
@@ -0,0 +1,339 @@
+package net.calvuz.qdue.ui.core.common.models;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import net.calvuz.qdue.quattrodue.models.Day;
+import net.calvuz.qdue.ui.core.common.utils.Log;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * Read-only list of view items over a fixed range of months, computed from the position.
+ * <p>
+ * Month layouts follow {@link SharedViewModels.DataConverter}:
+ * - Days list (1 column): month header, then one item per day
+ * - Calendar (7 columns): month header, empty cells up to the weekday of the 1st
+ *   (Sunday first), the days, empty cells up to the end of the last week
+ * <p>
+ * Only the first position and the first grid row of every month are precomputed, so
+ * mapping a date to its position is O(1) and a position to its item is a binary search
+ * over months. Items are created when a month is first read, from the month provider,
+ * and kept for a few recently used months only: the list can span decades while holding
+ * little more than what is on screen.
+ * <p>
+ * Not thread safe: like the adapter it backs, it must be used from the main thread.
+ *
+ * @author calvuzs3
+ */
+public class VirtualCalendarList extends AbstractList<SharedViewModels.ViewItem> implements RandomAccess {
+
+    // TAG
+    private static final String TAG = "VirtualCalendarList";
+
+    // Months kept materialized: the visible ones plus RecyclerView prefetch
+    private static final int RESIDENT_MONTHS = 6;
+
+    // Calendar grid width
+    private static final int WEEK_COLUMNS = 7;
+
+    // ==================== LAYOUT ====================
+
+    private final LocalDate mFirstMonth;
+    private final int mColumnCount;
+    private final Function<LocalDate, List<Day>> mMonthProvider;
+
+    // Position of each month header; the last element is the list size
+    private final int[] mMonthStart;
+
+    // Grid row (span group) of each month header
+    private final int[] mMonthStartRow;
+
+    // ==================== PER-MONTH OVERLAY ====================
+
+    // Items of recently read months, in access order
+    private final Map<Integer, SharedViewModels.ViewItem[]> mResidentMonths =
+            new LinkedHashMap<Integer, SharedViewModels.ViewItem[]>(RESIDENT_MONTHS + 2, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, SharedViewModels.ViewItem[]> eldest) {
+                    return size() > RESIDENT_MONTHS;
+                }
+            };
+
+    // ==================== CONSTRUCTORS ====================
+
+    private VirtualCalendarList(@NonNull LocalDate centerMonth, int monthsRadius, int columnCount,
+                                @NonNull Function<LocalDate, List<Day>> monthProvider) {
+        if (monthsRadius < 0) {
+            throw new IllegalArgumentException("monthsRadius must be >= 0: " + monthsRadius);
+        }
+
+        mFirstMonth = centerMonth.withDayOfMonth(1).minusMonths(monthsRadius);
+        mColumnCount = columnCount;
+        mMonthProvider = monthProvider;
+
+        int months = monthsRadius * 2 + 1;
+        mMonthStart = new int[months + 1];
+        mMonthStartRow = new int[months + 1];
+
+        for (int i = 0; i < months; i++) {
+            LocalDate month = mFirstMonth.plusMonths(i);
+            int cells = getCellCount(month);
+            mMonthStart[i + 1] = mMonthStart[i] + 1 + cells;
+            mMonthStartRow[i + 1] = mMonthStartRow[i] + 1 + cells / columnCount;
+        }
+
+        Log.d(TAG, "Virtual list: " + months + " months from " + mFirstMonth + ", " + size() + " items");
+    }
+
+    /**
+     * Create a list for linear display (DayslistViewFragment).
+     *
+     * @param centerMonth   month in the middle of the range
+     * @param monthsRadius  months before and after the center month
+     * @param monthProvider days of a month, in order; missing days are shown empty
+     * @return the virtual list
+     */
+    public static VirtualCalendarList forDaysList(@NonNull LocalDate centerMonth, int monthsRadius,
+                                                  @NonNull Function<LocalDate, List<Day>> monthProvider) {
+        return new VirtualCalendarList(centerMonth, monthsRadius, 1, monthProvider);
+    }
+
+    /**
+     * Create a list for calendar grid display (CalendarViewFragment).
+     *
+     * @param centerMonth   month in the middle of the range
+     * @param monthsRadius  months before and after the center month
+     * @param monthProvider days of a month, in order; missing days are shown empty
+     * @return the virtual list
+     */
+    public static VirtualCalendarList forCalendar(@NonNull LocalDate centerMonth, int monthsRadius,
+                                                  @NonNull Function<LocalDate, List<Day>> monthProvider) {
+        return new VirtualCalendarList(centerMonth, monthsRadius, WEEK_COLUMNS, monthProvider);
+    }
+
+    // ==================== LIST ====================
+
+    @Override
+    public int size() {
+        return mMonthStart[mMonthStart.length - 1];
+    }
+
+    @Override
+    public SharedViewModels.ViewItem get(int position) {
+        int monthIndex = monthIndexAt(position);
+        return getMonthItems(monthIndex)[position - mMonthStart[monthIndex]];
+    }
+
+    // ==================== POSITIONS ====================
+
+    /**
+     * Find the position of a date.
+     *
+     * @param date the date to find
+     * @return position of the day, or -1 if the date is out of range
+     */
+    public int positionOf(@Nullable LocalDate date) {
+        if (date == null) return -1;
+
+        int monthIndex = monthIndexOf(date);
+        if (monthIndex < 0) return -1;
+
+        return mMonthStart[monthIndex] + 1 + getLeadingCells(date.withDayOfMonth(1)) + date.getDayOfMonth() - 1;
+    }
+
+    /**
+     * Find the position of a month header.
+     *
+     * @param monthDate any date in the month
+     * @return position of the header, or -1 if the month is out of range
+     */
+    public int positionOfMonth(@Nullable LocalDate monthDate) {
+        if (monthDate == null) return -1;
+
+        int monthIndex = monthIndexOf(monthDate);
+        return monthIndex < 0 ? -1 : mMonthStart[monthIndex];
+    }
+
+    /**
+     * Get the month a position belongs to, without creating its items.
+     *
+     * @param position adapter position
+     * @return first day of the month
+     */
+    @NonNull
+    public LocalDate getMonthAt(int position) {
+        return mFirstMonth.plusMonths(monthIndexAt(position));
+    }
+
+    /**
+     * Check whether a position holds a month header, without creating its items.
+     *
+     * @param position adapter position
+     * @return true for month headers
+     */
+    public boolean isMonthHeader(int position) {
+        return position == mMonthStart[monthIndexAt(position)];
+    }
+
+    /**
+     * Column of a position in the grid (GridLayoutManager span index).
+     *
+     * @param position adapter position
+     * @return column index, 0 for month headers
+     */
+    public int getSpanIndex(int position) {
+        int offset = position - mMonthStart[monthIndexAt(position)];
+        return offset == 0 ? 0 : (offset - 1) % mColumnCount;
+    }
+
+    /**
+     * Row of a position in the grid (GridLayoutManager span group index).
+     *
+     * @param position adapter position
+     * @return row index
+     */
+    public int getRow(int position) {
+        int monthIndex = monthIndexAt(position);
+        int offset = position - mMonthStart[monthIndex];
+        return mMonthStartRow[monthIndex] + (offset == 0 ? 0 : 1 + (offset - 1) / mColumnCount);
+    }
+
+    // ==================== RANGE ====================
+
+    /**
+     * @return first month of the range
+     */
+    @NonNull
+    public LocalDate getFirstMonth() {
+        return mFirstMonth;
+    }
+
+    /**
+     * @return last month of the range
+     */
+    @NonNull
+    public LocalDate getLastMonth() {
+        return mFirstMonth.plusMonths(mMonthStart.length - 2);
+    }
+
+    /**
+     * @return grid columns of the layout
+     */
+    public int getColumnCount() {
+        return mColumnCount;
+    }
+
+    // ==================== OVERLAY ====================
+
+    /**
+     * Get the day items of the months currently materialized, i.e. the months
+     * on screen and around it. Does not create items.
+     *
+     * @return resident day items, in no particular month order
+     */
+    @NonNull
+    public List<SharedViewModels.DayItem> getResidentDayItems() {
+        List<SharedViewModels.DayItem> dayItems = new ArrayList<>();
+        for (SharedViewModels.ViewItem[] items : mResidentMonths.values()) {
+            for (SharedViewModels.ViewItem item : items) {
+                if (item instanceof SharedViewModels.DayItem) {
+                    dayItems.add((SharedViewModels.DayItem) item);
+                }
+            }
+        }
+        return dayItems;
+    }
+
+    /**
+     * Drop materialized months, so that items are created again from the
+     * month provider (e.g. after the user team or the scheme changed).
+     */
+    public void clearResidentMonths() {
+        mResidentMonths.clear();
+    }
+
+    // ==================== INTERNAL ====================
+
+    private int monthIndexAt(int position) {
+        if (position < 0 || position >= size()) {
+            throw new IndexOutOfBoundsException("Position " + position + ", size " + size());
+        }
+
+        int index = Arrays.binarySearch(mMonthStart, 0, mMonthStart.length - 1, position);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private int monthIndexOf(@NonNull LocalDate date) {
+        long index = (date.getYear() - mFirstMonth.getYear()) * 12L
+                + date.getMonthValue() - mFirstMonth.getMonthValue();
+        return index >= 0 && index < mMonthStart.length - 1 ? (int) index : -1;
+    }
+
+    private int getLeadingCells(@NonNull LocalDate firstDay) {
+        if (mColumnCount == 1) return 0;
+
+        // Sunday (7) needs 0 empty cells, Monday (1) needs 1, etc.
+        int dayOfWeek = firstDay.getDayOfWeek().getValue();
+        return dayOfWeek == 7 ? 0 : dayOfWeek;
+    }
+
+    // Cells after the header: days, plus empty cells completing the weeks in the grid
+    private int getCellCount(@NonNull LocalDate firstDay) {
+        int cells = getLeadingCells(firstDay) + firstDay.lengthOfMonth();
+        return mColumnCount == 1 ? cells : (cells + mColumnCount - 1) / mColumnCount * mColumnCount;
+    }
+
+    private SharedViewModels.ViewItem[] getMonthItems(int monthIndex) {
+        SharedViewModels.ViewItem[] items = mResidentMonths.get(monthIndex);
+        if (items == null) {
+            items = createMonthItems(monthIndex);
+            mResidentMonths.put(monthIndex, items);
+        }
+        return items;
+    }
+
+    private SharedViewModels.ViewItem[] createMonthItems(int monthIndex) {
+        LocalDate monthDate = mFirstMonth.plusMonths(monthIndex);
+        SharedViewModels.ViewItem[] items = new SharedViewModels.ViewItem[mMonthStart[monthIndex + 1] - mMonthStart[monthIndex]];
+
+        List<Day> days;
+        try {
+            days = mMonthProvider.apply(monthDate);
+        } catch (Exception e) {
+            Log.e(TAG, "createMonthItems: ❌ Error loading days for " + monthDate + ": " + e.getMessage());
+            days = null;
+        }
+
+        int slot = 0;
+        items[slot++] = new SharedViewModels.MonthHeader(monthDate);
+
+        for (int i = getLeadingCells(monthDate); i > 0; i--, slot++) {
+            items[slot] = new SharedViewModels.EmptyItem(monthDate, slot);
+        }
+
+        int daysInMonth = monthDate.lengthOfMonth();
+        for (int i = 0; i < daysInMonth; i++, slot++) {
+            LocalDate date = monthDate.plusDays(i);
+            Day day = days != null && i < days.size() ? days.get(i) : null;
+            if (day == null || !date.equals(day.getDate())) {
+                // Month without data: show the day without shifts
+                day = new Day(date);
+            }
+            items[slot] = new SharedViewModels.DayItem(day, monthDate);
+        }
+
+        for (; slot < items.length; slot++) {
+            items[slot] = new SharedViewModels.EmptyItem(monthDate, slot);
+        }
+        return items;
+    }
+}
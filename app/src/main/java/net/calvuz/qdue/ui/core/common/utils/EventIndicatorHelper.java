@@ -8,6 +8,7 @@ import android.widget.TextView;
 import androidx.core.content.ContextCompat;
 
 import net.calvuz.qdue.R;
+import net.calvuz.qdue.events.models.EventDaySummary;
 import net.calvuz.qdue.events.models.EventPriority;
 import net.calvuz.qdue.events.models.EventType;
 import net.calvuz.qdue.events.models.LocalEvent;
@@ -257,6 +258,95 @@ public class EventIndicatorHelper {
     }
 
 
+    // ==================== DAY SUMMARY METHODS ====================
+
+    /**
+     * Simple setup from a day summary - only shows event count.
+     * @param eventsIndicator TextView to show event count
+     * @param summary Summary of the day, null when the day has no events
+     */
+    public void setupSimpleEventIndicator(TextView eventsIndicator, EventDaySummary summary) {
+        if (eventsIndicator == null) return;
+
+        if (!hasEvents(summary)) {
+            eventsIndicator.setVisibility(View.GONE);
+            return;
+        }
+
+        eventsIndicator.setVisibility(View.VISIBLE);
+        int count = summary.getEventCount();
+        eventsIndicator.setText(count == 1 ? "1 evento" : count + " eventi");
+        eventsIndicator.setTextColor(getHighestPriorityColor(summary));
+    }
+
+    /**
+     * Get color for the highest priority of a day summary.
+     */
+    public int getHighestPriorityColor(EventDaySummary summary) {
+        return getPriorityColor(summary != null ? summary.getHighestPriority() : EventPriority.LOW);
+    }
+
+    /**
+     * Setup event indicators for a day cell/row from its summary.
+     *
+     * @param typeIndicator The colored bar View for event type
+     * @param priorityBadge The badge View for priority
+     * @param summary Summary of the day, null when the day has no events
+     */
+    public void setupEventIndicators(View typeIndicator, View priorityBadge, EventDaySummary summary) {
+        if (!hasEvents(summary)) {
+            hideIndicators(typeIndicator, priorityBadge);
+            return;
+        }
+
+        setupTypeIndicator(typeIndicator, getDominantEventType(summary));
+        setupPriorityBadge(priorityBadge, summary.getHighestPriority());
+    }
+
+    /**
+     * Setup advanced event indicators from a day summary.
+     * @param typeIndicator Colored bar for event type
+     * @param priorityBadge Badge for priority level
+     * @param textIndicator Text indicator for event count
+     * @param summary Summary of the day, null when the day has no events
+     */
+    public void setupAdvancedEventIndicators(View typeIndicator, View priorityBadge,
+                                             TextView textIndicator, EventDaySummary summary) {
+        if (!hasEvents(summary)) {
+            hideAdvancedIndicators(typeIndicator, priorityBadge, textIndicator);
+            return;
+        }
+
+        setupTypeIndicatorBar(typeIndicator, getDominantEventType(summary));
+        setupPriorityBadge(priorityBadge, summary.getHighestPriority());
+        setupSimpleEventIndicator(textIndicator, summary);
+    }
+
+    /**
+     * Check if a day summary has any events.
+     */
+    public boolean hasEvents(EventDaySummary summary) {
+        return summary != null && summary.hasEvents();
+    }
+
+    /**
+     * Dominant event type among the types present in a day summary.
+     */
+    private EventType getDominantEventType(EventDaySummary summary) {
+        EventType dominantType = EventType.GENERAL;
+        int dominantScore = 0;
+
+        for (EventType eventType : summary.getEventTypes()) {
+            int typeScore = getEventTypeScore(eventType);
+            if (typeScore > dominantScore) {
+                dominantScore = typeScore;
+                dominantType = eventType;
+            }
+        }
+
+        return dominantType;
+    }
+
     /**
      * STEP 5: Setup type indicator bar with event type color.
      */
@@ -8,10 +8,12 @@ import android.widget.TextView;
 import androidx.core.content.ContextCompat;
 
 import net.calvuz.qdue.R;
+import net.calvuz.qdue.events.models.EventDaySummary;
 import net.calvuz.qdue.events.models.LocalEvent;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.IntSupplier;
 
 public final class HighlightingHelper {
 
@@ -38,10 +40,33 @@ public final class HighlightingHelper {
                                                 List<LocalEvent> events,
                                                 EventIndicatorHelper eventHelper) {
 
+        boolean hasEvents = events != null && !events.isEmpty();
+        applyUnifiedHighlighting(context, cardView, date, hasEvents,
+                () -> getDominantEventTypeColor(context, eventHelper, events));
+    }
+
+    /**
+     * Same highlighting, with the events of the day given by their summary.
+     */
+    public static void applyUnifiedHighlighting(Context context,
+                                                com.google.android.material.card.MaterialCardView cardView,
+                                                LocalDate date,
+                                                EventDaySummary summary,
+                                                EventIndicatorHelper eventHelper) {
+
+        applyUnifiedHighlighting(context, cardView, date, eventHelper.hasEvents(summary),
+                () -> eventHelper.getHighestPriorityColor(summary));
+    }
+
+    private static void applyUnifiedHighlighting(Context context,
+                                                 com.google.android.material.card.MaterialCardView cardView,
+                                                 LocalDate date,
+                                                 boolean hasEvents,
+                                                 IntSupplier eventColor) {
+
         LocalDate today = LocalDate.now();
         boolean isToday = date.equals(today);
         boolean isSunday = date.getDayOfWeek().getValue() == 7;
-        boolean hasEvents = events != null && !events.isEmpty();
         boolean isOldDay = date.isBefore(today);
 
 //        Log.d(TAG, String.format("Highlighting %s: today=%s, sunday=%s, events=%s, old=%s",
@@ -60,7 +85,7 @@ public final class HighlightingHelper {
 
         // Priority 2: Events background (if not today)
         else if (hasEvents && !isToday) {
-            setupEventsCardStyle(context, eventHelper, cardView, events);
+            setupEventsCardStyle(context, cardView, eventColor.getAsInt());
 //            Log.d(TAG, "Applied EVENTS background");
         }
 
@@ -214,8 +239,10 @@ public final class HighlightingHelper {
      */
     public static void setupEventsCardStyle(Context context, EventIndicatorHelper helper, com.google.android.material.card.MaterialCardView cardView, List<LocalEvent> events) {
         // Ottenere colore dominante eventi
-        int eventColor = getDominantEventTypeColor(context, helper, events);
+        setupEventsCardStyle(context, cardView, getDominantEventTypeColor(context, helper, events));
+    }
 
+    private static void setupEventsCardStyle(Context context, com.google.android.material.card.MaterialCardView cardView, int eventColor) {
         // Applicare blend con bianco per background leggibile
         int lightBackground = blendEventColorWithWhite(eventColor);
 
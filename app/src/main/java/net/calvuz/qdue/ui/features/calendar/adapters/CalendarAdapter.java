@@ -27,6 +27,7 @@ import net.calvuz.qdue.ui.core.architecture.base.BaseInteractiveAdapter;
 import net.calvuz.qdue.ui.core.common.utils.HighlightingHelper;
 import net.calvuz.qdue.ui.core.common.models.SharedViewModels;
 import net.calvuz.qdue.ui.core.common.utils.EventIndicatorHelper;
+import net.calvuz.qdue.events.models.EventDaySummary;
 import net.calvuz.qdue.events.models.LocalEvent;
 import net.calvuz.qdue.ui.core.common.utils.Log;
 import net.calvuz.qdue.R;
@@ -135,7 +136,6 @@ public class CalendarAdapter extends BaseInteractiveAdapter {
     public void bindDay(BaseAdapter.DayViewHolder dayHolder, SharedViewModels.DayItem dayItem, int position) {
         Log.v(TAG, "bindDay: " + dayItem.day.getLocalDate());
 
-        MaterialCardView holder = dayHolder.mView;
         CalendarDayViewHolder calendarHolder = (CalendarDayViewHolder) dayHolder;
 
         // Setup long-click and selection support
@@ -149,25 +149,53 @@ public class CalendarAdapter extends BaseInteractiveAdapter {
         setupEventsIndicator(calendarHolder, dayItem);
         setupShiftDisplay(calendarHolder, dayItem);
 
-        // ✅ STEP 3: Apply text highlighting UNIFICATO (DOPO il setup content)
-        LocalDate date = dayItem.day != null ? dayItem.day.getLocalDate() : null;
-        if (date != null) {
-            // ✅ IMPORTANTE: Includere anche tvShiftName se visibile
-            if (calendarHolder.tvShiftName != null && calendarHolder.tvShiftName.getVisibility() == View.VISIBLE) {
-                HighlightingHelper.applyUnifiedTextHighlighting(mContext, date,
-                        calendarHolder.tvDayNumber, calendarHolder.tvShiftName);
-            } else {
-                HighlightingHelper.applyUnifiedTextHighlighting(mContext, date,
-                        calendarHolder.tvDayNumber);
-            }
+        // ✅ STEP 3-4: Apply text and background highlighting UNIFICATO (DOPO il setup content)
+        applyHighlighting(calendarHolder, dayItem);
+    }
+
+    /**
+     * Partial rebind for today and events changes: indicators and highlighting only
+     *
+     * @param dayHolder ViewHolder to bind data to
+     * @param dayItem   Day item data to bind
+     * @param position  Position in the adapter
+     * @param payloads  Change payloads
+     */
+    @Override
+    protected void bindDayPayloads(BaseAdapter.DayViewHolder dayHolder, SharedViewModels.DayItem dayItem,
+                                   int position, List<Object> payloads) {
+        if (!(dayHolder instanceof CalendarDayViewHolder calendarHolder)) {
+            super.bindDayPayloads(dayHolder, dayItem, position, payloads);
+            return;
+        }
+
+        if (payloads.contains(PAYLOAD_EVENTS)) {
+            setupEventsIndicator(calendarHolder, dayItem);
         }
+        applyHighlighting(calendarHolder, dayItem);
+    }
+
+    /**
+     * Apply unified text and background highlighting (today, sunday, events)
+     *
+     * @param calendarHolder ViewHolder to highlight
+     * @param dayItem        Day item data
+     */
+    private void applyHighlighting(CalendarDayViewHolder calendarHolder, SharedViewModels.DayItem dayItem) {
+        LocalDate date = dayItem.day != null ? dayItem.day.getLocalDate() : null;
+        if (date == null) return;
 
-        // ✅ STEP 4: Apply background highlighting UNIFICATO
-        if (date != null) {
-            List<LocalEvent> events = getEventsForDate(date);
-            HighlightingHelper.applyUnifiedHighlighting(mContext, holder, date, events, mEventHelper);
+        // ✅ IMPORTANTE: Includere anche tvShiftName se visibile
+        if (calendarHolder.tvShiftName != null && calendarHolder.tvShiftName.getVisibility() == View.VISIBLE) {
+            HighlightingHelper.applyUnifiedTextHighlighting(mContext, date,
+                    calendarHolder.tvDayNumber, calendarHolder.tvShiftName);
+        } else {
+            HighlightingHelper.applyUnifiedTextHighlighting(mContext, date,
+                    calendarHolder.tvDayNumber);
         }
 
+        EventDaySummary summary = getDaySummaryForDate(date);
+        HighlightingHelper.applyUnifiedHighlighting(mContext, calendarHolder.mView, date, summary, mEventHelper);
     }
 
 
@@ -233,9 +261,9 @@ public class CalendarAdapter extends BaseInteractiveAdapter {
         if (dayItem.day == null) return;
 
         LocalDate date = dayItem.day.getLocalDate();
-        List<LocalEvent> events = getEventsForDate(date);
+        EventDaySummary summary = getDaySummaryForDate(date);
 
-        if (events.isEmpty()) {
+        if (!mEventHelper.hasEvents(summary)) {
             // No events - hide both indicators
             if (holder.vEventsDot != null) {
                 holder.vEventsDot.setVisibility(View.GONE);
@@ -244,10 +272,10 @@ public class CalendarAdapter extends BaseInteractiveAdapter {
                 holder.tvEventsCount.setVisibility(View.GONE);
             }
         } else {
-            int eventCount = events.size();
+            int eventCount = summary.getEventCount();
 
             // FIX: Get priority color for tinting
-            int priorityColor = mEventHelper.getHighestPriorityColor(events);
+            int priorityColor = mEventHelper.getHighestPriorityColor(summary);
 
             Log.i(TAG, mTAG + "✅ Setting up events indicator for " + eventCount + " events");
             Log.i(TAG, mTAG + "✅ Priority color: " + Integer.toHexString(priorityColor));
@@ -361,28 +389,24 @@ public class CalendarAdapter extends BaseInteractiveAdapter {
         LocalDate startDate = now.minusMonths(2).withDayOfMonth(1);
         LocalDate endDate = now.plusMonths(2).withDayOfMonth(now.plusMonths(2).lengthOfMonth());
 
-        // Load events asynchronously
+        // Load day summaries asynchronously: the grid needs no full events
         CompletableFuture.supplyAsync(() -> {
             try {
-                // Convert LocalDate to LocalDateTime for DAO method
-                java.time.LocalDateTime startDateTime = startDate.atStartOfDay();
-                java.time.LocalDateTime endDateTime = endDate.atTime(23, 59, 59);
+                List<EventDaySummary> summaries = mEventsDatabase.eventDao().getDaySummariesForDateRange(startDate, endDate);
 
-                List<LocalEvent> events = mEventsDatabase.eventDao().getEventsForDateRange(startDateTime, endDateTime);
-
-                Log.i(TAG, mTAG + "Loaded " + events.size() + " events from database");
-                return events;
+                Log.i(TAG, mTAG + "Loaded " + summaries.size() + " day summaries from database");
+                return summaries;
 
             } catch (Exception e) {
 
-                Log.e(TAG, mTAG + "Error loading events from database: " + e.getMessage());
-                return new ArrayList<LocalEvent>();
+                Log.e(TAG, mTAG + "Error loading day summaries from database: " + e.getMessage());
+                return new ArrayList<EventDaySummary>();
             }
-        }).thenAccept(events -> {
+        }).thenAccept(summaries -> {
             // Process on main thread
             if (mContext instanceof android.app.Activity) {
                 ((android.app.Activity) mContext).runOnUiThread(() -> {
-                    processLoadedEvents(events);
+                    updateDaySummaries(toDateMap(summaries));
                     mIsLoadingEvents.set(false);
                 });
             }
@@ -394,89 +418,6 @@ public class CalendarAdapter extends BaseInteractiveAdapter {
         });
     }
 
-    /**
-     * Process events loaded from database and expand multi-day events.
-     * This ensures multi-day events appear on every day they span.
-     *
-     * @param events List of events to process
-     */
-    private void processLoadedEvents(List<LocalEvent> events) {
-        final String mTAG = "processLoadedEvents: ";
-        Log.v(TAG, mTAG + "called with " + events.size() + " events");
-
-        Map<LocalDate, List<LocalEvent>> eventsMap = new HashMap<>();
-
-        // Process each event and expand multi-day events
-        for (LocalEvent event : events) {
-            expandEventAcrossDays(event, eventsMap);
-        }
-
-        // Update adapter with real data
-        updateEventsData(eventsMap);
-
-        Log.i(TAG, mTAG + "Processed " + events.size() + " events into " + eventsMap.size() + " dates");
-
-        // If no real events found
-        if (eventsMap.isEmpty()) {
-
-            Log.d(TAG, mTAG + "No real events found");
-        }
-    }
-
-    /**
-     * Expand a single event across all days it covers.
-     * This ensures multi-day events appear on every day they span.
-     *
-     * @param event     Event to expand
-     * @param eventsMap Map to add expanded events to
-     *                  Key: Date,
-     *                  Value: List of events
-     */
-    private void expandEventAcrossDays(LocalEvent event, Map<LocalDate, List<LocalEvent>> eventsMap) {
-        final String mTAG = "expandEventAcrossDays: ";
-        Log.v(TAG, mTAG + "called with event: " + event.getTitle());
-
-        try {
-            LocalDate startDate = event.getStartDate();
-            LocalDate endDate = event.getEndDate();
-
-            // Handle null end date
-            if (endDate == null) {
-                endDate = startDate;
-            }
-
-            // Ensure end date is not before start date
-            if (endDate.isBefore(startDate)) {
-                Log.w(TAG, mTAG + "Event end date before start date, using start date only: " + event.getTitle());
-                endDate = startDate;
-            }
-
-            // Add event to every day it spans
-            LocalDate currentDate = startDate;
-            int dayCount = 0;
-
-            while (!currentDate.isAfter(endDate) && dayCount < 365) { // Safety limit to prevent infinite loops
-                eventsMap.computeIfAbsent(currentDate, k -> new ArrayList<>()).add(event);
-                currentDate = currentDate.plusDays(1);
-                dayCount++;
-            }
-
-            // Log multi-day events for debugging
-            if (dayCount > 1) {
-                Log.d(TAG, mTAG + "Expanded event '" + event.getTitle() + "' across " + dayCount + " days (" + startDate + " to " + endDate + ")");
-            }
-
-        } catch (Exception e) {
-            Log.e(TAG, mTAG + "Error expanding event '" + event.getTitle() + "': " + e.getMessage());
-
-            // Fallback: add to start date only
-            LocalDate startDate = event.getStartDate();
-            if (startDate != null) {
-                eventsMap.computeIfAbsent(startDate, k -> new ArrayList<>()).add(event);
-            }
-        }
-    }
-
     /**
      * Update events data from external source
      * This is called from the main thread to avoid overwriting the data
@@ -510,53 +451,28 @@ public class CalendarAdapter extends BaseInteractiveAdapter {
     }
 
     /**
-     * Get events for a specific date
-     *
-     * @param date Date to get events for
+     * Index day summaries by date
      */
-    private List<LocalEvent> getEventsForDate(LocalDate date) {
-        List<LocalEvent> events = mEventsData.get(date);
-
-        return (events != null) ? events : new ArrayList<LocalEvent>();
+    private static Map<LocalDate, EventDaySummary> toDateMap(List<EventDaySummary> summaries) {
+        Map<LocalDate, EventDaySummary> summariesMap = new HashMap<>();
+        for (EventDaySummary summary : summaries) {
+            summariesMap.put(summary.getDate(), summary);
+        }
+        return summariesMap;
     }
 
     /**
-     * Load events from database asynchronously
+     * Load events indicators data from database asynchronously
      */
     public void loadEventsAsync() {
-        if (mIsLoadingEvents.getAndSet(true)) {
-            return;
-        }
-
-        CompletableFuture.supplyAsync(() -> {
-            try {
-                return mEventsDatabase.eventDao().getAllEvents();
-            } catch (Exception e) {
-                Log.e(TAG, "Error loading events", e);
-                return new ArrayList<LocalEvent>();
-            }
-        }).thenAccept(events -> {
-            Map<LocalDate, List<LocalEvent>> eventsMap = new HashMap<>();
-            for (LocalEvent event : events) {
-                LocalDate eventDate = event.getStartDate();
-                eventsMap.computeIfAbsent(eventDate, k -> new ArrayList<>()).add(event);
-            }
-
-            if (mContext instanceof android.app.Activity) {
-                ((android.app.Activity) mContext).runOnUiThread(() -> {
-                    updateEventsData(eventsMap);
-                    mIsLoadingEvents.set(false);
-                });
-            }
-        });
+        loadEventsFromDatabase();
     }
 
     /**
-     * Notify events data changed
+     * Notify events data changed: rebinds event indicators only
      */
     public void notifyEventsDataChanged() {
-        // Brutal
-        notifyDataSetChanged();
+        notifyEventIndicatorsChanged();
     }
 
     // ==================== UTILITY METHODS ====================
@@ -11,13 +11,12 @@ import androidx.annotation.Nullable;
 import net.calvuz.qdue.QDue;
 import net.calvuz.qdue.QDueMainActivity;
 import net.calvuz.qdue.R;
+import net.calvuz.qdue.events.models.EventDaySummary;
 import net.calvuz.qdue.events.models.LocalEvent;
-import net.calvuz.qdue.quattrodue.models.Day;
 import net.calvuz.qdue.ui.core.architecture.base.BaseAdapter;
 import net.calvuz.qdue.ui.core.architecture.base.BaseInteractiveAdapter;
 import net.calvuz.qdue.ui.core.architecture.base.BaseInteractiveFragment;
 import net.calvuz.qdue.ui.core.components.widgets.EventsPreviewManager;
-import net.calvuz.qdue.ui.core.common.models.SharedViewModels;
 import net.calvuz.qdue.ui.core.common.enums.ToolbarAction;
 import net.calvuz.qdue.ui.features.calendar.adapters.CalendarAdapter;
 import net.calvuz.qdue.ui.core.common.utils.Log;
@@ -79,12 +78,6 @@ public class CalendarViewFragment extends BaseInteractiveFragment {
         return 7; // Seven columns for calendar days (Sun-Sat)
     }
 
-    @Override
-    protected List<SharedViewModels.ViewItem> convertMonthData(List<Day> days, LocalDate monthDate) {
-        // For calendar, convert including empty cells to complete the grid
-        return SharedViewModels.DataConverter.convertForCalendar(days, monthDate);
-    }
-
     // ==================== CLICK ADAPTER INTEGRATION ====================
 
     @Override
@@ -171,12 +164,12 @@ public class CalendarViewFragment extends BaseInteractiveFragment {
         }
 
         try {
-            Map<LocalDate, List<LocalEvent>> eventsCache = getEventsCache();
-            if (!eventsCache.isEmpty()) {
-                mLegacyAdapter.updateEventsData(eventsCache);
-                Log.i(TAG, mTAG + "✅ Adapter updated with events data");
+            Map<LocalDate, EventDaySummary> daySummaries = getDaySummaryCache();
+            if (!daySummaries.isEmpty()) {
+                mLegacyAdapter.updateDaySummaries(daySummaries);
+                Log.i(TAG, mTAG + "✅ Adapter updated with day summaries");
             } else {
-                Log.d(TAG, mTAG + "❌ No events cache available yet");
+                Log.d(TAG, mTAG + "❌ No day summaries available yet");
             }
         } catch (Exception e) {
             Log.e(TAG, mTAG + "Error updating adapter with events: " + e.getMessage());
@@ -248,24 +241,9 @@ public class CalendarViewFragment extends BaseInteractiveFragment {
         Log.v(TAG, mTAG + "called");
 
         try {
-            // Call parent implementation
+            // Call parent implementation: rebinds the days whose summary changed
             super.notifyEventsDataChanged();
 
-            // Additional Calendar-specific notification
-            updateAdapterWithEvents();
-
-            // FIXED: Also trigger adapter's own notification
-            if (mLegacyAdapter != null) {
-                mMainHandler.post(() -> {
-                    try {
-                        mLegacyAdapter.notifyEventsDataChanged();
-                        Log.v(TAG, mTAG + "✅ Legacy adapter notified of events changes");
-                    } catch (Exception e) {
-                        Log.e(TAG, mTAG + "Error notifying legacy adapter: " + e.getMessage());
-                    }
-                });
-            }
-
             Log.v(TAG, mTAG + "✅ Calendar events notification completed");
         } catch (Exception e) {
             Log.e(TAG, mTAG + "Error in Calendar events notification: " + e.getMessage());
@@ -16,6 +16,7 @@ import androidx.recyclerview.widget.RecyclerView;
 import net.calvuz.qdue.R;
 import net.calvuz.qdue.core.db.QDueDatabase;
 import net.calvuz.qdue.core.services.EventsService;
+import net.calvuz.qdue.events.models.EventDaySummary;
 import net.calvuz.qdue.events.models.LocalEvent;
 import net.calvuz.qdue.quattrodue.models.Day;
 import net.calvuz.qdue.quattrodue.models.HalfTeam;
@@ -162,26 +163,56 @@ public class DaysListAdapter extends BaseInteractiveAdapter {
             setupShiftDisplay(dayslistHolder, dayItem);
             addWorkingEventsIndicator(dayslistHolder, dayItem);
 
-            // ✅ STEP 3: Apply text highlighting UNIFICATO
-            LocalDate date = dayItem.day != null ? dayItem.day.getLocalDate() : null;
-            if (date != null) {
-                HighlightingHelper.applyUnifiedTextHighlighting(mContext, date,
-                        dayslistHolder.tday, dayslistHolder.twday, dayslistHolder.ttR);
+            // ✅ STEP 3-4: Apply text and background highlighting UNIFICATO
+            applyHighlighting(dayslistHolder, dayItem);
+        }
+    }
 
-                // Apply to shift texts
-                for (TextView shiftText : dayslistHolder.shiftTexts) {
-                    HighlightingHelper.applyUnifiedTextHighlighting(mContext, date, shiftText);
-                }
-            }
+    /**
+     * Partial rebind for today and events changes: indicators and highlighting only
+     *
+     * @param dayHolder ViewHolder to bind data to
+     * @param dayItem   Day item data to bind
+     * @param position  Position in the adapter
+     * @param payloads  Change payloads
+     */
+    @Override
+    protected void bindDayPayloads(DayViewHolder dayHolder, SharedViewModels.DayItem dayItem, int position,
+                                   List<Object> payloads) {
+        if (!(dayHolder instanceof DayslistDayViewHolder dayslistHolder)) {
+            super.bindDayPayloads(dayHolder, dayItem, position, payloads);
+            return;
+        }
 
-            // ✅ STEP 4: Apply background highlighting UNIFICATO (UNA SOLA CHIAMATA)
-            if (date != null) {
-                List<LocalEvent> events = getEventsForDate(date);
-                HighlightingHelper.applyUnifiedHighlighting(mContext,
-                        (MaterialCardView) dayslistHolder.itemView, date, events, mEventHelper);
-            }
+        if (payloads.contains(PAYLOAD_EVENTS)) {
+            resetDayslistCellState(dayslistHolder);
+            setupEventsIndicator(dayslistHolder, dayItem);
+            addWorkingEventsIndicator(dayslistHolder, dayItem);
+        }
+        applyHighlighting(dayslistHolder, dayItem);
+    }
+
+    /**
+     * Apply unified text and background highlighting (today, sunday, events)
+     *
+     * @param dayslistHolder ViewHolder to highlight
+     * @param dayItem        Day item data
+     */
+    private void applyHighlighting(DayslistDayViewHolder dayslistHolder, SharedViewModels.DayItem dayItem) {
+        LocalDate date = dayItem.day != null ? dayItem.day.getLocalDate() : null;
+        if (date == null) return;
 
+        HighlightingHelper.applyUnifiedTextHighlighting(mContext, date,
+                dayslistHolder.tday, dayslistHolder.twday, dayslistHolder.ttR);
+
+        // Apply to shift texts
+        for (TextView shiftText : dayslistHolder.shiftTexts) {
+            HighlightingHelper.applyUnifiedTextHighlighting(mContext, date, shiftText);
         }
+
+        EventDaySummary summary = getDaySummaryForDate(date);
+        HighlightingHelper.applyUnifiedHighlighting(mContext,
+                (MaterialCardView) dayslistHolder.itemView, date, summary, mEventHelper);
     }
 
     private LinearLayout getExpandableContainer(MaterialCardView cardView) {
@@ -206,8 +237,7 @@ public class DaysListAdapter extends BaseInteractiveAdapter {
         // This enhances the existing click setup with expansion awareness
 
         // Add subtle visual feedback for clickable cards with events
-        List<LocalEvent> events = getEventsForDate(dayItem.day.getLocalDate());
-        if (!events.isEmpty()) {
+        if (mEventHelper.hasEvents(getDaySummaryForDate(dayItem.day.getLocalDate()))) {
             // Add ripple effect or subtle indication that card is expandable
 //            holder.itemView.setBackgroundResource(R.drawable.expandable_card_background);
         }
@@ -267,18 +297,18 @@ public class DaysListAdapter extends BaseInteractiveAdapter {
         if (dayItem.day == null) return;
 
         LocalDate date = dayItem.day.getLocalDate();
-        List<LocalEvent> events = getEventsForDate(date);
+        EventDaySummary summary = getDaySummaryForDate(date);
 
-        if (events.isEmpty()) {
+        if (!mEventHelper.hasEvents(summary)) {
             // No events - hide indicator
             if (holder.eventsIndicator != null) {
                 holder.eventsIndicator.setVisibility(View.GONE);
             }
         } else {
-            int eventCount = events.size();
+            int eventCount = summary.getEventCount();
 
             // FIX: Get priority color for tinting
-            int priorityColor = mEventHelper.getHighestPriorityColor(events);
+            int priorityColor = mEventHelper.getHighestPriorityColor(summary);
 
             Log.d(TAG, mTAG + "Showing badge: " + eventCount);
             Log.d(TAG, mTAG + "Priority color: " + Integer.toHexString(priorityColor));
@@ -346,18 +376,18 @@ public class DaysListAdapter extends BaseInteractiveAdapter {
         }
 
         LocalDate date = dayItem.day.getLocalDate();
-        List<LocalEvent> events = getEventsForDate(date);
+        EventDaySummary summary = getDaySummaryForDate(date);
 
-        if (events.isEmpty()) {
+        if (!mEventHelper.hasEvents(summary)) {
             holder.eventsIndicator.setVisibility(View.INVISIBLE); // Mantiene spazio
             holder.eventsIndicator.setText("");
         } else {
             holder.eventsIndicator.setVisibility(View.VISIBLE);
-            int count = events.size();
+            int count = summary.getEventCount();
             holder.eventsIndicator.setText(count == 1 ? "1" : String.valueOf(count));
 
             // FIX: Colore badge più visibile basato su priorità
-            int priorityColor = mEventHelper.getHighestPriorityColor(events);
+            int priorityColor = mEventHelper.getHighestPriorityColor(summary);
 
             // Applicare colore al background del badge
             holder.eventsIndicator.setBackgroundTintList(ColorStateList.valueOf(priorityColor));
@@ -398,11 +428,8 @@ public class DaysListAdapter extends BaseInteractiveAdapter {
 
         LocalDate date = dayItem.day.getLocalDate();
 
-        // STEP 2: Get events for this date (empty for now, will add data in STEP 3)
-        List<LocalEvent> events = getEventsForDate(date);
-
-        // STEP 2: Use EventIndicatorHelper to setup indicator
-        mEventHelper.setupSimpleEventIndicator(holder.eventsIndicator, events);
+        // Use EventIndicatorHelper to setup indicator from the day summary
+        mEventHelper.setupSimpleEventIndicator(holder.eventsIndicator, getDaySummaryForDate(date));
     }
 
     /// /////////////////////////////////////////////////////////////////////////////////////
@@ -427,28 +454,28 @@ public class DaysListAdapter extends BaseInteractiveAdapter {
         LocalDate startDate = now.minusMonths(2).withDayOfMonth(1);
         LocalDate endDate = now.plusMonths(2).withDayOfMonth(now.plusMonths(2).lengthOfMonth());
 
-        // Load events asynchronously
+        // Load day summaries asynchronously: the list needs no full events
         CompletableFuture.supplyAsync(() -> {
             try {
-                // Convert LocalDate to LocalDateTime for DAO method
-                java.time.LocalDateTime startDateTime = startDate.atStartOfDay();
-                java.time.LocalDateTime endDateTime = endDate.atTime(23, 59, 59);
-
-                List<LocalEvent> events = mEventsDatabase.eventDao().getEventsForDateRange(startDateTime, endDateTime);
+                List<EventDaySummary> summaries = mEventsDatabase.eventDao().getDaySummariesForDateRange(startDate, endDate);
 
-                Log.i(TAG, mTAG + "Loaded " + events.size() + " events from database");
-                return events;
+                Log.i(TAG, mTAG + "Loaded " + summaries.size() + " day summaries from database");
+                return summaries;
 
             } catch (Exception e) {
 
-                Log.e(TAG, mTAG + "Error loading events from database: " + e.getMessage());
-                return new ArrayList<LocalEvent>();
+                Log.e(TAG, mTAG + "Error loading day summaries from database: " + e.getMessage());
+                return new ArrayList<EventDaySummary>();
             }
-        }).thenAccept(events -> {
+        }).thenAccept(summaries -> {
             // Process on main thread
             if (mContext instanceof android.app.Activity) {
                 ((android.app.Activity) mContext).runOnUiThread(() -> {
-                    processLoadedEvents(events);
+                    Map<LocalDate, EventDaySummary> summariesMap = new HashMap<>();
+                    for (EventDaySummary summary : summaries) {
+                        summariesMap.put(summary.getDate(), summary);
+                    }
+                    updateDaySummaries(summariesMap);
                     mIsLoadingEvents.set(false);
                 });
             }
@@ -460,56 +487,6 @@ public class DaysListAdapter extends BaseInteractiveAdapter {
         });
     }
 
-    /**
-     * Process events loaded from database and expand multi-day events.
-     * This ensures multi-day events appear on every day they span.
-     *
-     * @param events List of events loaded from database
-     */
-    private void processLoadedEvents(List<LocalEvent> events) {
-        final String mTAG = "processLoadedEvents: ";
-        Log.v(TAG, mTAG + "called with " + events.size() + " events");
-
-        Map<LocalDate, List<LocalEvent>> eventsMap = new HashMap<>();
-
-        // Process each event and expand multi-day events
-        for (LocalEvent event : events) {
-            expandEventAcrossDays(event, eventsMap);
-        }
-
-        // Update adapter with real data
-        updateEventsData(eventsMap);
-
-        Log.d(TAG, mTAG + "Processed " + events.size() + " events into " + eventsMap.size() + " dates");
-
-        // If no real events found
-        if (eventsMap.isEmpty()) {
-
-            Log.d(TAG, mTAG + "No real events found");
-        }
-    }
-
-    /**
-     * Get events for a specific date.
-     * For now returns empty list - will be populated in STEP 3.
-     *
-     * @param date Date to get events for
-     * @return List of events for the specified date (or empty list)
-     */
-    private List<LocalEvent> getEventsForDate(LocalDate date) {
-        final String mTAG = "getEventsForDate: ";
-
-        List<LocalEvent> events = mEventsData.get(date);
-        List<LocalEvent> result = events != null ? events : new ArrayList<>();
-
-        // Debug logging
-        if (!result.isEmpty()) {
-            Log.d(TAG, mTAG + "Found " + result.size() + " events for date " + date);
-        }
-
-        return result;
-    }
-
     /**
      * Method to update events data (will be used in STEP 3).
      * For now just stores the data.
@@ -526,7 +503,7 @@ public class DaysListAdapter extends BaseInteractiveAdapter {
         Log.d(TAG, mTAG + "Updated events data - " + mEventsData.size() + " dates with events");
 
         // Notify adapter to refresh indicators
-        notifyDataSetChanged();
+        notifyEventIndicatorsChanged();
     }
 
     /**
@@ -538,60 +515,7 @@ public class DaysListAdapter extends BaseInteractiveAdapter {
      */
     public void updateEventsCount(Map<LocalDate, Integer> eventsCount) {
         mEventsCount = eventsCount != null ? eventsCount : new HashMap<>();
-        notifyDataSetChanged();
-    }
-
-    /**
-     * Expand a single event across all days it covers.
-     * This ensures multi-day events appear on every day they span.
-     *
-     * @param event Event to expand
-     *              Key: Date
-     *              Value: List of events
-     */
-    private void expandEventAcrossDays(LocalEvent event, Map<LocalDate, List<LocalEvent>> eventsMap) {
-        final String mTAG = "expandEventAcrossDays: ";
-        Log.v(TAG, mTAG + "called with event: " + event.getTitle());
-
-        try {
-            LocalDate startDate = event.getStartDate();
-            LocalDate endDate = event.getEndDate();
-
-            // Handle null end date
-            if (endDate == null) {
-                endDate = startDate;
-            }
-
-            // Ensure end date is not before start date
-            if (endDate.isBefore(startDate)) {
-                Log.w(TAG, mTAG + "Event end date before start date, using start date only: " + event.getTitle());
-                endDate = startDate;
-            }
-
-            // Add event to every day it spans
-            LocalDate currentDate = startDate;
-            int dayCount = 0;
-
-            while (!currentDate.isAfter(endDate) && dayCount < 365) { // Safety limit to prevent infinite loops
-                eventsMap.computeIfAbsent(currentDate, k -> new ArrayList<>()).add(event);
-                currentDate = currentDate.plusDays(1);
-                dayCount++;
-            }
-
-            // Log multi-day events for debugging
-            if (dayCount > 1) {
-                Log.d(TAG, mTAG + "Expanded event '" + event.getTitle() + "' across " + dayCount + " days (" + startDate + " to " + endDate + ")");
-            }
-
-        } catch (Exception e) {
-            Log.e(TAG, mTAG + "Error expanding event '" + event.getTitle() + "': " + e.getMessage());
-
-            // Fallback: add to start date only
-            LocalDate startDate = event.getStartDate();
-            if (startDate != null) {
-                eventsMap.computeIfAbsent(startDate, k -> new ArrayList<>()).add(event);
-            }
-        }
+        notifyEventIndicatorsChanged();
     }
 
     /**
@@ -12,8 +12,8 @@ import androidx.recyclerview.widget.RecyclerView;
 import net.calvuz.qdue.QDue;
 import net.calvuz.qdue.QDueMainActivity;
 import net.calvuz.qdue.R;
+import net.calvuz.qdue.events.models.EventDaySummary;
 import net.calvuz.qdue.events.models.LocalEvent;
-import net.calvuz.qdue.quattrodue.models.Day;
 import net.calvuz.qdue.ui.core.architecture.base.BaseAdapter;
 import net.calvuz.qdue.ui.core.architecture.base.BaseInteractiveAdapter;
 import net.calvuz.qdue.ui.core.architecture.base.BaseInteractiveFragment;
@@ -21,7 +21,6 @@ import net.calvuz.qdue.ui.features.dayslist.adapters.DaysListAdapter;
 import net.calvuz.qdue.ui.features.dayslist.components.DaysListEventsPreview;
 import net.calvuz.qdue.ui.core.components.widgets.EventsPreviewManager;
 import net.calvuz.qdue.ui.core.common.interfaces.EventsPreviewInterface;
-import net.calvuz.qdue.ui.core.common.models.SharedViewModels;
 import net.calvuz.qdue.ui.core.common.enums.ToolbarAction;
 import net.calvuz.qdue.ui.core.common.utils.Log;
 
@@ -129,11 +128,6 @@ public class DayslistViewFragment extends BaseInteractiveFragment {
         return 1; // Single column for list behavior
     }
 
-    @Override
-    protected List<SharedViewModels.ViewItem> convertMonthData(List<Day> days, LocalDate monthDate) {
-        return SharedViewModels.DataConverter.convertForDaysList(days, monthDate);
-    }
-
     // ==================== ADAPTER SETUP ====================
 
     @Override
@@ -184,12 +178,12 @@ public class DayslistViewFragment extends BaseInteractiveFragment {
         }
 
         try {
-            Map<LocalDate, List<LocalEvent>> eventsCache = getEventsCache();
-            if (!eventsCache.isEmpty()) {
-                mLegacyAdapter.updateEventsData(eventsCache);
-                Log.i(TAG,  "✅ Adapter updated with events data");
+            Map<LocalDate, EventDaySummary> daySummaries = getDaySummaryCache();
+            if (!daySummaries.isEmpty()) {
+                mLegacyAdapter.updateDaySummaries(daySummaries);
+                Log.i(TAG,  "✅ Adapter updated with day summaries");
             } else {
-                Log.i(TAG, "No events cache available yet");
+                Log.i(TAG, "No day summaries available yet");
             }
         } catch (Exception e) {
             Log.e(TAG, "Error updating adapter with events: " + e.getMessage());
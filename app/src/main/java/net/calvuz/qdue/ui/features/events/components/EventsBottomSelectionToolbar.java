@@ -76,6 +76,7 @@ public class EventsBottomSelectionToolbar {
     private EventsSelectionListener mListener;
     private Set<String> mSelectedEventIds;
     private List<LocalEvent> mSelectedEvents;
+    private int mTotalEventsCount = -1;            // Events in the list, including pages not loaded
     private boolean mIsVisible = false;
     private boolean mIsDestroyed = false;
 
@@ -632,6 +633,9 @@ public class EventsBottomSelectionToolbar {
 
         int count = mSelectedEventIds.size();
         String displayText = count == 1 ? "1 evento" : count + " eventi";
+        if (mTotalEventsCount > 0) {
+            displayText = count + " / " + mTotalEventsCount + (mTotalEventsCount == 1 ? " evento" : " eventi");
+        }
         mSelectionCountText.setText(displayText);
     }
 
@@ -662,6 +666,17 @@ public class EventsBottomSelectionToolbar {
         updateAvailableActions();
     }
 
+    /**
+     * 🔢 Set the number of events in the list (from a COUNT query, as the list
+     * is loaded in pages); negative to show the selection count only
+     */
+    public void setTotalEventsCount(int totalEventsCount) {
+        mTotalEventsCount = totalEventsCount;
+        if (!mIsDestroyed) {
+            updateSelectionDisplay();
+        }
+    }
+
     /**
      * ❓ Check if toolbar is visible
      */
@@ -6,6 +6,7 @@ import android.net.Uri;
 
 import androidx.annotation.NonNull;
 
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.events.imports.EventsImportManager;
 import net.calvuz.qdue.events.EventPackageManager;
 import net.calvuz.qdue.ui.core.common.utils.Log;
@@ -293,7 +294,7 @@ public class EventsImportAdapter {
             }
 
             // Use EventPackageManager's validation capabilities
-            new Thread(() -> {
+            AppExecutors.getInstance().bulk().execute(() -> {
                 try {
                     // Test parsing with EventPackageManager's enhanced validation
                     EventPackageManager.JsonValidationResult result =
@@ -314,7 +315,7 @@ public class EventsImportAdapter {
                 } catch (Exception e) {
                     callback.onValidationError("Validation failed: " + e.getMessage(), e);
                 }
-            }).start();
+            });
 
         } catch (Exception e) {
             Log.e(TAG, "Error validating SAF file", e);
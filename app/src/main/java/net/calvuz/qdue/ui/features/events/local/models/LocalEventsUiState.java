@@ -56,6 +56,8 @@ public final class LocalEventsUiState {
         private final int totalEventsCount;
         private final boolean hasEvents;
         private final boolean isLoading;
+        private final boolean hasMorePages;
+        private final boolean isLoadingMore;
         private final String errorMessage;
         private final long lastUpdated;
 
@@ -65,6 +67,8 @@ public final class LocalEventsUiState {
             this.totalEventsCount = builder.totalEventsCount;
             this.hasEvents = builder.hasEvents;
             this.isLoading = builder.isLoading;
+            this.hasMorePages = builder.hasMorePages;
+            this.isLoadingMore = builder.isLoadingMore;
             this.errorMessage = builder.errorMessage;
             this.lastUpdated = builder.lastUpdated;
         }
@@ -82,6 +86,12 @@ public final class LocalEventsUiState {
 
         public boolean isLoading() { return isLoading; }
 
+        /** Whether more pages of the list follow the loaded events. */
+        public boolean hasMorePages() { return hasMorePages; }
+
+        /** Whether a following page is loading. */
+        public boolean isLoadingMore() { return isLoadingMore; }
+
         @Nullable
         public String getErrorMessage() { return errorMessage; }
 
@@ -106,8 +116,9 @@ public final class LocalEventsUiState {
 
         @Override
         public String toString() {
-            return String.format("LocalEventsListState{events=%d, filtered=%d, hasEvents=%s, loading=%s, error=%s}",
-                                 events.size(), filteredEvents.size(), hasEvents, isLoading, hasError());
+            return String.format("LocalEventsListState{events=%d/%d, filtered=%d, hasEvents=%s, loading=%s, hasMore=%s, error=%s}",
+                                 events.size(), totalEventsCount, filteredEvents.size(), hasEvents, isLoading,
+                                 hasMorePages, hasError());
         }
 
         public static final class Builder {
@@ -116,6 +127,8 @@ public final class LocalEventsUiState {
             private int totalEventsCount = 0;
             private boolean hasEvents = false;
             private boolean isLoading = false;
+            private boolean hasMorePages = false;
+            private boolean isLoadingMore = false;
             private String errorMessage = null;
             private long lastUpdated = System.currentTimeMillis();
 
@@ -127,6 +140,8 @@ public final class LocalEventsUiState {
                 this.totalEventsCount = state.totalEventsCount;
                 this.hasEvents = state.hasEvents;
                 this.isLoading = state.isLoading;
+                this.hasMorePages = state.hasMorePages;
+                this.isLoadingMore = state.isLoadingMore;
                 this.errorMessage = state.errorMessage;
                 this.lastUpdated = state.lastUpdated;
             }
@@ -167,6 +182,18 @@ public final class LocalEventsUiState {
                 return this;
             }
 
+            @NonNull
+            public Builder hasMorePages(boolean hasMorePages) {
+                this.hasMorePages = hasMorePages;
+                return this;
+            }
+
+            @NonNull
+            public Builder isLoadingMore(boolean isLoadingMore) {
+                this.isLoadingMore = isLoadingMore;
+                return this;
+            }
+
             @NonNull
             public Builder errorMessage(@Nullable String errorMessage) {
                 this.errorMessage = errorMessage;
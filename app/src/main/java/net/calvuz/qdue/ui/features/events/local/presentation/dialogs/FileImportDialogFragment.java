@@ -22,6 +22,7 @@ import com.google.android.material.progressindicator.LinearProgressIndicator;
 import com.google.android.material.snackbar.Snackbar;
 
 import net.calvuz.qdue.R;
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.common.i18n.LocaleManager;
 import net.calvuz.qdue.events.validation.JsonSchemaValidator;
 import net.calvuz.qdue.ui.core.common.utils.Log;
@@ -330,7 +331,7 @@ public class FileImportDialogFragment extends DialogFragment {
         updateUIState();
 
         // Read file content in background thread
-        new Thread(() -> {
+        AppExecutors.getInstance().bulk().execute(() -> {
             try {
                 mFileContent = readFileContent(mSelectedFileUri);
 
@@ -355,7 +356,7 @@ public class FileImportDialogFragment extends DialogFragment {
                     });
                 }
             }
-        }).start();
+        });
     }
 
     private String readFileContent(@NonNull Uri uri) throws IOException {
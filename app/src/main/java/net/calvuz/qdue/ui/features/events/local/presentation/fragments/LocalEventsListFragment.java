@@ -210,6 +210,19 @@ implements Injectable
         mEventsAdapter.setOnEventSelectionChangeListener(this::onEventSelectionChange);
 
         mRecyclerView.setAdapter(mEventsAdapter);
+
+        // Prefetch the next page of events while scrolling down
+        mRecyclerView.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+                if (dy <= 0 || mEventsViewModel == null) return;
+
+                LinearLayoutManager layoutManager = (LinearLayoutManager) recyclerView.getLayoutManager();
+                if (layoutManager != null) {
+                    mEventsViewModel.onEventVisible(layoutManager.findLastVisibleItemPosition());
+                }
+            }
+        });
     }
 
     // ==================== VIEWMODEL OBSERVERS ====================
@@ -3,8 +3,10 @@ package net.calvuz.qdue.ui.features.events.local.viewmodels;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import net.calvuz.qdue.core.db.paging.KeysetPager;
 import net.calvuz.qdue.data.services.LocalEventsService;
 import net.calvuz.qdue.domain.calendar.models.LocalEvent;
+import net.calvuz.qdue.domain.calendar.models.LocalEventsFilter;
 import net.calvuz.qdue.domain.calendar.enums.EventType;
 import net.calvuz.qdue.domain.common.enums.Priority;
 import net.calvuz.qdue.ui.core.common.utils.Log;
@@ -17,6 +19,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 /**
@@ -28,15 +32,22 @@ import java.util.stream.Collectors;
  *
  * <h3>Managed State:</h3>
  * <ul>
- *   <li><strong>events</strong>: List of all LocalEvents</li>
+ *   <li><strong>events</strong>: Loaded pages of the LocalEvents list</li>
  *   <li><strong>filteredEvents</strong>: Currently filtered/searched events</li>
  *   <li><strong>selectedEvents</strong>: Set of selected event IDs for batch operations</li>
  *   <li><strong>currentFilter</strong>: Active filter configuration</li>
  *   <li><strong>searchQuery</strong>: Current search query</li>
- *   <li><strong>eventsCount</strong>: Total number of events</li>
+ *   <li><strong>eventsCount</strong>: Total number of events matching the filter</li>
  *   <li><strong>hasEvents</strong>: Boolean indicating if any events exist</li>
+ *   <li><strong>hasMoreEvents</strong>: Boolean indicating if more pages follow</li>
  * </ul>
  *
+ * <h3>Paging:</h3>
+ * <p>The list is loaded in pages keyed on (start time, ID) of the last loaded event.
+ * The filter is applied in the query and the count comes from an aggregate query,
+ * so no operation reads the whole table. {@link #onEventVisible(int)} prefetches
+ * the next page while scrolling.</p>
+ *
  * <h3>Operations:</h3>
  * <ul>
  *   <li>Load and refresh events</li>
@@ -73,10 +84,12 @@ public class LocalEventsViewModel extends BaseViewModel {
     public static final String STATE_EVENTS_COUNT = "eventsCount";
     public static final String STATE_HAS_EVENTS = "hasEvents";
     public static final String STATE_SELECTION_MODE = "selectionMode";
+    public static final String STATE_HAS_MORE_EVENTS = "hasMoreEvents";
 
     // ==================== OPERATION KEYS ====================
 
     public static final String OP_LOAD_EVENTS = "loadEvents";
+    public static final String OP_LOAD_MORE = "loadMoreEvents";
     public static final String OP_CREATE_EVENT = "createEvent";
     public static final String OP_UPDATE_EVENT = "updateEvent";
     public static final String OP_DELETE_EVENT = "deleteEvent";
@@ -85,9 +98,15 @@ public class LocalEventsViewModel extends BaseViewModel {
     public static final String OP_SEARCH = "search";
     public static final String OP_FILTER = "filter";
 
+    // ==================== PAGING ====================
+
+    private static final int EVENTS_PAGE_SIZE = 50;
+    private static final int EVENTS_PREFETCH_DISTANCE = 20;
+
     // ==================== DEPENDENCIES ====================
 
     private final LocalEventsService mLocalEventsService;
+    private final KeysetPager<LocalEvent> mEventsPager;
 
     // ==================== CONSTRUCTOR ====================
 
@@ -98,6 +117,18 @@ public class LocalEventsViewModel extends BaseViewModel {
      */
     public LocalEventsViewModel(@NonNull LocalEventsService localEventsService) {
         this.mLocalEventsService = localEventsService;
+        this.mEventsPager = new KeysetPager<>(EVENTS_PAGE_SIZE, EVENTS_PREFETCH_DISTANCE, Runnable::run,
+                new KeysetPager.Listener<LocalEvent>() {
+                    @Override
+                    public void onPageLoaded(@NonNull List<LocalEvent> page, boolean firstPage, boolean hasMore) {
+                        onEventsPageLoaded(page, firstPage, hasMore);
+                    }
+
+                    @Override
+                    public void onPageFailed(@NonNull Throwable error, boolean firstPage) {
+                        onEventsPageFailed(error, firstPage);
+                    }
+                });
     }
 
     // ==================== LIFECYCLE ====================
@@ -115,6 +146,7 @@ public class LocalEventsViewModel extends BaseViewModel {
         setState(STATE_EVENTS_COUNT, 0);
         setState(STATE_HAS_EVENTS, false);
         setState(STATE_SELECTION_MODE, false);
+        setState(STATE_HAS_MORE_EVENTS, false);
 
         // Load initial data
         loadEvents();
@@ -123,40 +155,53 @@ public class LocalEventsViewModel extends BaseViewModel {
     @Override
     protected void onCleanup() {
         Log.d(TAG, "Cleaning up LocalEventsViewModel");
-        // Cleanup is handled by base class
+        mEventsPager.cancel();
     }
 
     // ==================== PUBLIC API - DATA LOADING ====================
 
     /**
-     * Load all events from service.
+     * Load the first page of events matching the current filter, and their count.
      */
     public void loadEvents() {
-        Log.d(TAG, "Loading all events");
+        LocalEventsFilter filter = getCurrentFilter().toLocalEventsFilter();
+        Log.d(TAG, "Loading events: " + filter);
 
         setLoading(OP_LOAD_EVENTS, true);
+        setLoading(OP_LOAD_MORE, false);
         clearError(OP_LOAD_EVENTS);
 
-        mLocalEventsService.getAllEvents()
-                .thenAccept(result -> {
-                    setLoading(OP_LOAD_EVENTS, false);
-
-                    if (result.isSuccess()) {
-                        List<LocalEvent> events = result.getData();
-                        updateEventsState(events);
-                        Log.d(TAG, "Loaded " + events.size() + " events");
-                    } else {
-                        setError(OP_LOAD_EVENTS, result.getFirstError());
-                        Log.e(TAG, "Failed to load events: " + result.getFirstError());
+        mEventsPager.reset((last, limit) -> mLocalEventsService.getEventsPage(filter, last, limit)
+                .thenApply(result -> {
+                    if (!result.isSuccess()) {
+                        throw new IllegalStateException(result.getFirstError());
                     }
-                })
-                .exceptionally(throwable -> {
-                    setLoading(OP_LOAD_EVENTS, false);
-                    String error = "Error loading events: " + throwable.getMessage();
-                    setError(OP_LOAD_EVENTS, error);
-                    Log.e(TAG, error, throwable);
-                    return null;
-                });
+                    return result.getData();
+                }));
+        loadEventsCount(filter);
+    }
+
+    /**
+     * Load the next page of events, if any.
+     */
+    public void loadMoreEvents() {
+        if (!mEventsPager.hasMore() || mEventsPager.isLoading()) {
+            return;
+        }
+        setLoading(OP_LOAD_MORE, true);
+        mEventsPager.loadNextPage();
+    }
+
+    /**
+     * Prefetch hook: load the next page when the position gets near the end of the loaded events.
+     *
+     * @param position Last visible list position
+     */
+    public void onEventVisible(int position) {
+        int loaded = getAllEvents().size();
+        if (mEventsPager.hasMore() && position >= loaded - 1 - EVENTS_PREFETCH_DISTANCE) {
+            loadMoreEvents();
+        }
     }
 
     /**
@@ -178,6 +223,9 @@ public class LocalEventsViewModel extends BaseViewModel {
         setLoading(OP_LOAD_EVENTS, true);
         clearError(OP_LOAD_EVENTS);
 
+        mEventsPager.cancel();
+        setState(STATE_HAS_MORE_EVENTS, false);
+
         mLocalEventsService.getEventsForDate(date)
                 .thenAccept(result -> {
                     setLoading(OP_LOAD_EVENTS, false);
@@ -185,6 +233,7 @@ public class LocalEventsViewModel extends BaseViewModel {
                     if (result.isSuccess()) {
                         List<LocalEvent> events = result.getData();
                         updateEventsState(events);
+                        setEventsCount(events.size());
                         Log.d(TAG, "Loaded " + events.size() + " events for date");
                     } else {
                         setError(OP_LOAD_EVENTS, result.getFirstError());
@@ -209,6 +258,9 @@ public class LocalEventsViewModel extends BaseViewModel {
         setLoading(OP_LOAD_EVENTS, true);
         clearError(OP_LOAD_EVENTS);
 
+        mEventsPager.cancel();
+        setState(STATE_HAS_MORE_EVENTS, false);
+
         mLocalEventsService.getEventsForDateRange(startDate, endDate)
                 .thenAccept(result -> {
                     setLoading(OP_LOAD_EVENTS, false);
@@ -216,6 +268,7 @@ public class LocalEventsViewModel extends BaseViewModel {
                     if (result.isSuccess()) {
                         List<LocalEvent> events = result.getData();
                         updateEventsState(events);
+                        setEventsCount(events.size());
                         Log.d(TAG, "Loaded " + events.size() + " events for date range");
                     } else {
                         setError(OP_LOAD_EVENTS, result.getFirstError());
@@ -239,6 +292,9 @@ public class LocalEventsViewModel extends BaseViewModel {
         setLoading(OP_LOAD_EVENTS, true);
         clearError(OP_LOAD_EVENTS);
 
+        mEventsPager.cancel();
+        setState(STATE_HAS_MORE_EVENTS, false);
+
         mLocalEventsService.getEventsForMonth(yearMonth)
                 .thenAccept(result -> {
                     setLoading(OP_LOAD_EVENTS, false);
@@ -246,6 +302,7 @@ public class LocalEventsViewModel extends BaseViewModel {
                     if (result.isSuccess()) {
                         List<LocalEvent> events = result.getData();
                         updateEventsState(events);
+                        setEventsCount(events.size());
                         Log.d(TAG, "Loaded " + events.size() + " events for month");
                     } else {
                         setError(OP_LOAD_EVENTS, result.getFirstError());
@@ -278,6 +335,9 @@ public class LocalEventsViewModel extends BaseViewModel {
                     if (result.isSuccess()) {
                         LocalEvent createdEvent = result.getData();
                         addEventToState(createdEvent);
+                        if (getCurrentFilter().matches(createdEvent)) {
+                            setEventsCount(getEventsCount() + 1);
+                        }
                         emitEvent(new UIActionEvent("SHOW_SUCCESS",
                                                     Map.of("message", "Event created: " + createdEvent.getTitle())));
                         Log.d(TAG, "Event created successfully: " + createdEvent.getId());
@@ -414,7 +474,10 @@ public class LocalEventsViewModel extends BaseViewModel {
 
                     if (result.isSuccess()) {
                         int deletedCount = result.getData();
+                        mEventsPager.cancel();
+                        setState(STATE_HAS_MORE_EVENTS, false);
                         updateEventsState(new ArrayList<>());
+                        setEventsCount(0);
                         clearSelection();
                         emitEvent(new UIActionEvent("SHOW_SUCCESS",
                                                     Map.of("message", "Deleted all " + deletedCount + " events")));
@@ -469,6 +532,12 @@ public class LocalEventsViewModel extends BaseViewModel {
                     }
                 })
                 .exceptionally(throwable -> {
+                    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                            ? throwable.getCause() : throwable;
+                    if (cause instanceof CancellationException) {
+                        // Superseded by a newer search, which owns the loading state
+                        return null;
+                    }
                     setLoading(OP_SEARCH, false);
                     setError(OP_SEARCH, "Search error: " + throwable.getMessage());
                     return null;
@@ -476,7 +545,7 @@ public class LocalEventsViewModel extends BaseViewModel {
     }
 
     /**
-     * Apply event filter.
+     * Apply event filter. The filter runs in the list query, so the list is reloaded from its first page.
      *
      * @param filter Filter to apply
      */
@@ -489,15 +558,7 @@ public class LocalEventsViewModel extends BaseViewModel {
         setLoading(OP_FILTER, true);
         clearError(OP_FILTER);
 
-        // Get all events and apply filter locally for now
-        // In the future, this could be optimized with server-side filtering
-        List<LocalEvent> allEvents = getAllEvents();
-        List<LocalEvent> filteredEvents = filterEventsLocally(allEvents, filter);
-
-        setState(STATE_FILTERED_EVENTS, filteredEvents);
-        setLoading(OP_FILTER, false);
-
-        Log.d(TAG, "Filter applied: " + filteredEvents.size() + " events match");
+        loadEvents();
     }
 
     /**
@@ -506,9 +567,15 @@ public class LocalEventsViewModel extends BaseViewModel {
     public void clearFilter() {
         Log.d(TAG, "Clearing filter and search");
 
+        boolean wasFiltered = !getCurrentFilter().isEmpty();
         setState(STATE_CURRENT_FILTER, new EventFilter());
         setState(STATE_SEARCH_QUERY, "");
-        setState(STATE_FILTERED_EVENTS, getAllEvents());
+
+        if (wasFiltered) {
+            loadEvents();
+        } else {
+            setState(STATE_FILTERED_EVENTS, getAllEvents());
+        }
     }
 
     // ==================== PUBLIC API - SELECTION MANAGEMENT ====================
@@ -696,6 +763,14 @@ public class LocalEventsViewModel extends BaseViewModel {
         return hasEvents != null ? hasEvents : false;
     }
 
+    /**
+     * Check if more pages follow the loaded events.
+     */
+    public boolean hasMoreEvents() {
+        Boolean hasMore = getState(STATE_HAS_MORE_EVENTS, Boolean.class);
+        return hasMore != null ? hasMore : false;
+    }
+
     /**
      * Check if in selection mode.
      */
@@ -720,13 +795,78 @@ public class LocalEventsViewModel extends BaseViewModel {
 
     // ==================== PRIVATE HELPER METHODS ====================
 
+    /**
+     * Apply a loaded page of the events list.
+     */
+    private void onEventsPageLoaded(@NonNull List<LocalEvent> page, boolean firstPage, boolean hasMore) {
+        List<LocalEvent> events;
+        if (firstPage) {
+            events = new ArrayList<>(page);
+        } else {
+            // Events created while paging may already be in the list
+            events = new ArrayList<>(getAllEvents());
+            Set<String> loadedIds = events.stream()
+                    .map(LocalEvent::getId)
+                    .collect(Collectors.toSet());
+            for (LocalEvent event : page) {
+                if (loadedIds.add(event.getId())) {
+                    events.add(event);
+                }
+            }
+        }
+
+        setState(STATE_HAS_MORE_EVENTS, hasMore);
+        updateEventsState(events);
+
+        setLoading(firstPage ? OP_LOAD_EVENTS : OP_LOAD_MORE, false);
+        if (firstPage) {
+            setLoading(OP_FILTER, false);
+        }
+        Log.d(TAG, "Loaded page of " + page.size() + " events, " + events.size() + " shown, more: " + hasMore);
+    }
+
+    /**
+     * Report a failed page of the events list.
+     */
+    private void onEventsPageFailed(@NonNull Throwable error, boolean firstPage) {
+        String operation = firstPage ? OP_LOAD_EVENTS : OP_LOAD_MORE;
+        setLoading(operation, false);
+        setLoading(OP_FILTER, false);
+        setError(operation, "Error loading events: " + error.getMessage());
+        Log.e(TAG, "Failed to load events page", error);
+    }
+
+    /**
+     * Load the count of the events matching the filter.
+     */
+    private void loadEventsCount(@NonNull LocalEventsFilter filter) {
+        mLocalEventsService.getEventsCount(filter)
+                .thenAccept(result -> {
+                    if (result.isSuccess()) {
+                        setEventsCount(result.getData());
+                    } else {
+                        Log.w(TAG, "Failed to count events: " + result.getFirstError());
+                    }
+                })
+                .exceptionally(throwable -> {
+                    Log.e(TAG, "Error counting events", throwable);
+                    return null;
+                });
+    }
+
+    /**
+     * Update events count state.
+     */
+    private void setEventsCount(int count) {
+        setState(STATE_EVENTS_COUNT, Math.max(0, count));
+        setState(STATE_HAS_EVENTS, count > 0);
+    }
+
     /**
      * Update events state with new list.
      */
     private void updateEventsState(@NonNull List<LocalEvent> events) {
         setState(STATE_EVENTS, new ArrayList<>(events));
-        setState(STATE_EVENTS_COUNT, events.size());
-        setState(STATE_HAS_EVENTS, !events.isEmpty());
 
         // Update filtered events if no active filter/search
         if (getCurrentFilter().isEmpty() && getSearchQuery().isEmpty()) {
@@ -764,7 +904,9 @@ public class LocalEventsViewModel extends BaseViewModel {
      */
     private void removeEventFromState(@NonNull String eventId) {
         List<LocalEvent> currentEvents = new ArrayList<>(getAllEvents());
-        currentEvents.removeIf(event -> eventId.equals(event.getId()));
+        if (currentEvents.removeIf(event -> eventId.equals(event.getId()))) {
+            setEventsCount(getEventsCount() - 1);
+        }
         updateEventsState(currentEvents);
     }
 
@@ -865,6 +1007,14 @@ public class LocalEventsViewModel extends BaseViewModel {
         public LocalDateTime getStartDateTo() { return startDateTo; }
         public EventFilter setStartDateTo(LocalDateTime startDateTo) { this.startDateTo = startDateTo; return this; }
 
+        /**
+         * Criteria of the paged list query.
+         */
+        @NonNull
+        public LocalEventsFilter toLocalEventsFilter() {
+            return new LocalEventsFilter(eventType, priority, calendarId, allDay, startDateFrom, startDateTo);
+        }
+
         @Override
         public String toString() {
             return String.format("EventFilter{type=%s, priority=%s, calendar=%s, allDay=%s, dateRange=%s-%s}",
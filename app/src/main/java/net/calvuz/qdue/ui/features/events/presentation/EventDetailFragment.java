@@ -25,6 +25,7 @@ import com.google.android.material.appbar.MaterialToolbar;
 import com.google.android.material.card.MaterialCardView;
 
 import net.calvuz.qdue.R;
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.db.QDueDatabase;
 import net.calvuz.qdue.core.common.interfaces.EventsOperationsInterface;
 import net.calvuz.qdue.events.models.LocalEvent;
@@ -328,7 +329,7 @@ public class EventDetailFragment extends Fragment {
             EventDao eventDao = QDueDatabase.getInstance(requireContext()).eventDao();
 
             // Load event asynchronously with enhanced error handling
-            new Thread(() -> {
+            AppExecutors.getInstance().reads().execute(() -> {
                 try {
                     LocalEvent event = eventDao.getEventById(mEventId);
 
@@ -377,7 +378,7 @@ public class EventDetailFragment extends Fragment {
                         });
                     }
                 }
-            }).start();
+            });
 
         } catch (Exception e) {
             Log.e(TAG, mTAG + "Error getting database instance: " + e.getMessage());
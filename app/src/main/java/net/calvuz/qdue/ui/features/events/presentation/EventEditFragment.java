@@ -27,6 +27,7 @@ import com.google.android.material.textfield.MaterialAutoCompleteTextView;
 import com.google.android.material.textfield.TextInputEditText;
 
 import net.calvuz.qdue.R;
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.common.interfaces.EventsDatabaseOperationsInterface;
 import net.calvuz.qdue.core.common.interfaces.EventsOperationsInterface;
 import net.calvuz.qdue.core.db.QDueDatabase;
@@ -509,7 +510,7 @@ public class EventEditFragment extends Fragment implements UnsavedChangesHandler
             return;
         }
 
-        new Thread(() -> {
+        AppExecutors.getInstance().reads().execute(() -> {
             try {
                 EventDao eventDao = QDueDatabase.getInstance(requireContext()).eventDao();
                 LocalEvent event = eventDao.getEventById(mEventId);
@@ -542,7 +543,7 @@ public class EventEditFragment extends Fragment implements UnsavedChangesHandler
                             Library.showError(getContext(), "Errore caricamento evento dal database"));
                 }
             }
-        }).start();
+        });
     }
 
     private LocalEvent createEventCopy(LocalEvent original) {
@@ -1100,7 +1101,7 @@ public class EventEditFragment extends Fragment implements UnsavedChangesHandler
         mSaveAttempts++;
         mIsSaving = true;
 
-        new Thread(() -> {
+        AppExecutors.getInstance().writes().execute(() -> {
             try {
                 // Enhanced: Finalize metadata with EventAction context
                 if (mMetadataInitialized) {
@@ -1139,7 +1140,7 @@ public class EventEditFragment extends Fragment implements UnsavedChangesHandler
                             Library.showError(getContext(), "Errore durante il salvataggio"));
                 }
             }
-        }).start();
+        });
     }
 
     private void notifyActivityOfEventUpdate() {
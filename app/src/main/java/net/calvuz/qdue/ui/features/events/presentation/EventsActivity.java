@@ -33,6 +33,8 @@ import com.google.android.material.snackbar.Snackbar;
 import net.calvuz.qdue.QDue;
 import net.calvuz.qdue.R;
 import net.calvuz.qdue.core.backup.ExportManager;
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
+import net.calvuz.qdue.core.common.concurrent.CancellationToken;
 import net.calvuz.qdue.core.db.QDueDatabase;
 import net.calvuz.qdue.ui.core.architecture.services.BackHandlingServiceImpl;
 import net.calvuz.qdue.ui.features.events.components.imports.FileAccessAdapter;
@@ -119,6 +121,7 @@ public class EventsActivity extends AppCompatActivity implements
 
     private boolean mHasEvents = false;
     private int mTotalEventsCount = 0;
+    private final CancellationToken mCountLoads = new CancellationToken(); // Cancelled in onDestroy
     private EventsListFragment mCurrentListFragment;
 
     // ==================== FILE OPERATIONS ====================
@@ -166,6 +169,7 @@ public class EventsActivity extends AppCompatActivity implements
     protected void onDestroy() {
         super.onDestroy();
 
+        mCountLoads.cancel();
         mPendingEventCreation = null;
 
         if (mFileAccessAdapter != null) {
@@ -619,7 +623,7 @@ public class EventsActivity extends AppCompatActivity implements
      * @param date  Event date
      */
     private void createNewEvent(@NonNull String title, @NonNull LocalDate date) {
-        new Thread(() -> {
+        AppExecutors.getInstance().writes().execute(() -> {
             try {
                 LocalEvent newEvent = new LocalEvent(title, date);
                 newEvent.setDescription("My Event");
@@ -647,7 +651,7 @@ public class EventsActivity extends AppCompatActivity implements
                 Log.e(TAG, "Error creating event: " + e.getMessage());
                 runOnUiThread(() -> showError(getString(R.string.text_char_error_creating_event_space)));
             }
-        }).start();
+        });
     }
 
     private void checkAndExecutePendingEventCreation() {
@@ -955,7 +959,7 @@ public class EventsActivity extends AppCompatActivity implements
             showGlobalLoading(true, getString(R.string.text_exporting_events_dots));
 
             // Get all events from database
-            new Thread(() -> {
+            AppExecutors.getInstance().bulk().execute(() -> {
                 try {
                     // Get all events from database
                     EventDao eventDao = mDatabase.eventDao();
@@ -1004,7 +1008,7 @@ public class EventsActivity extends AppCompatActivity implements
                         handleExportError(getString(R.string.text_error_reading_events_from_db), e);
                     });
                 }
-            }).start();
+            });
 
         } catch (Exception e) {
             showGlobalLoading(false, null);
@@ -1116,7 +1120,7 @@ public class EventsActivity extends AppCompatActivity implements
             showGlobalLoading(true, MessageFormat.format(
                     getString(R.string.text_exporting_0_selected_events), selectedEvents.size()));
 
-            new Thread(() -> {
+            AppExecutors.getInstance().bulk().execute(() -> {
 
                 try {
                     // Create export options for selected events
@@ -1155,7 +1159,7 @@ public class EventsActivity extends AppCompatActivity implements
                         handleExportError(getString(R.string.text_error_during_export_of_selected_events), e);
                     });
                 }
-            }).start();
+            });
 
         } catch (Exception e) {
             showGlobalLoading(false, null);
@@ -1179,7 +1183,7 @@ public class EventsActivity extends AppCompatActivity implements
      * Deletes all events from database and updates UI state.
      */
     private void deleteAllEvents() {
-        new Thread(() -> {
+        AppExecutors.getInstance().writes().execute(() -> {
             try {
                 int result = mDatabase.eventDao().deleteAllEvents();
 
@@ -1204,7 +1208,7 @@ public class EventsActivity extends AppCompatActivity implements
                 Log.e(TAG, "Error clearing events from database", e);
                 runOnUiThread(() -> showError(getString(R.string.text_char_error_deleting_all_events)));
             }
-        }).start();
+        });
     }
 
     // ==================== EVENT OPERATIONS ====================
@@ -1303,7 +1307,7 @@ public class EventsActivity extends AppCompatActivity implements
     }
 
     private void performActualEventDeletion(String eventId, String eventTitle) {
-        new Thread(() -> {
+        AppExecutors.getInstance().writes().execute(() -> {
             try {
                 EventDao eventDao = mDatabase.eventDao();
                 int deletedRows = eventDao.deleteEventById(eventId);
@@ -1342,7 +1346,7 @@ public class EventsActivity extends AppCompatActivity implements
                     showError(getString(R.string.text_error) + e.getMessage());
                 });
             }
-        }).start();
+        });
     }
 
     @Override
@@ -1484,7 +1488,7 @@ public class EventsActivity extends AppCompatActivity implements
     }
 
     private void checkInitialEventsState() {
-        new Thread(() -> {
+        AppExecutors.getInstance().reads().run(() -> {
             try {
                 int count = mDatabase.eventDao().getTotalEventCount();
                 runOnUiThread(() -> {
@@ -1495,11 +1499,11 @@ public class EventsActivity extends AppCompatActivity implements
             } catch (Exception e) {
                 Log.e(TAG, "Error checking initial events state", e);
             }
-        }).start();
+        }, mCountLoads);
     }
 
     private void updateEventsCount() {
-        new Thread(() -> {
+        AppExecutors.getInstance().reads().run(() -> {
             try {
                 int count = mDatabase.eventDao().getTotalEventCount();
                 runOnUiThread(() -> {
@@ -1508,7 +1512,7 @@ public class EventsActivity extends AppCompatActivity implements
             } catch (Exception e) {
                 Log.e(TAG, "Error updating events count", e);
             }
-        }).start();
+        }, mCountLoads);
     }
 
     // ==================== BACK HANDLING REGISTRATION ====================
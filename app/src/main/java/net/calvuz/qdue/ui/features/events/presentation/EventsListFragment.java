@@ -27,11 +27,15 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.google.android.material.button.MaterialButton;
 
 import net.calvuz.qdue.R;
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
+import net.calvuz.qdue.core.common.concurrent.CancellationToken;
 import net.calvuz.qdue.core.common.listeners.EventDeletionListener;
 import net.calvuz.qdue.core.db.QDueDatabase;
 import net.calvuz.qdue.core.backup.BackupIntegration;
+import net.calvuz.qdue.core.db.paging.KeysetPager;
 import net.calvuz.qdue.ui.core.common.enums.SelectionMode;
 import net.calvuz.qdue.ui.core.common.interfaces.SelectionModeHandler;
+import net.calvuz.qdue.events.models.EventsFilter;
 import net.calvuz.qdue.events.models.LocalEvent;
 import net.calvuz.qdue.events.dao.EventDao;
 import net.calvuz.qdue.core.common.interfaces.EventsDatabaseOperationsInterface;
@@ -58,6 +62,7 @@ import java.util.Set;
  * - Menu integration for import/export
  * - Empty state management
  * - Search functionality
+ * - Events loaded in keyset pages, prefetched while scrolling
  * <p>
  * Navigation:
  * - Click event → EventDetailFragment with eventId argument
@@ -72,6 +77,10 @@ public class EventsListFragment extends Fragment implements
     // Default selection mode
     public static final SelectionMode DEFAULT_SELECTION_MODE = SelectionMode.SINGLE;
 
+    // Paging: rows per page, and rows left below the last visible one that load the next page
+    private static final int EVENTS_PAGE_SIZE = 50;
+    private static final int EVENTS_PREFETCH_DISTANCE = 20;
+
     // Views
     private RecyclerView mEventsRecyclerView;
     private View mEmptyStateView;
@@ -83,6 +92,12 @@ public class EventsListFragment extends Fragment implements
     private EventsAdapter mEventsAdapter;
     private List<LocalEvent> mEventsList;
 
+    // Paging
+    private KeysetPager<LocalEvent> mEventsPager;
+    private EventsFilter mEventsFilter = EventsFilter.ALL;
+    private int mTotalEventsCount = -1;                                // COUNT of the filtered list, -1 until loaded
+    private CancellationToken mEventsLoads = new CancellationToken(); // Cancelled in onDestroyView
+
     // Interfaces
     private EventsFileOperationsInterface mFileOperationsInterface;
     private EventsDatabaseOperationsInterface mDataOperationsInterface;
@@ -107,6 +122,19 @@ public class EventsListFragment extends Fragment implements
 
         // Initialize data
         mEventsList = new ArrayList<>();
+        Handler mainHandler = new Handler(Looper.getMainLooper());
+        mEventsPager = new KeysetPager<>(EVENTS_PAGE_SIZE, EVENTS_PREFETCH_DISTANCE, mainHandler::post,
+                new KeysetPager.Listener<LocalEvent>() {
+                    @Override
+                    public void onPageLoaded(@NonNull List<LocalEvent> page, boolean firstPage, boolean hasMore) {
+                        onEventsPageLoaded(page, firstPage, hasMore);
+                    }
+
+                    @Override
+                    public void onPageFailed(@NonNull Throwable error, boolean firstPage) {
+                        onEventsPageFailed(error, firstPage);
+                    }
+                });
         mFileOperationsInterface = (EventsFileOperationsInterface) getActivity();
         mDataOperationsInterface = (EventsDatabaseOperationsInterface) getActivity();
         mEventsOperationsInterface = (EventsOperationsInterface) getActivity();
@@ -130,6 +158,7 @@ public class EventsListFragment extends Fragment implements
         initializeViews(view);
         setupRecyclerView();
         setupBackHandling();
+        mEventsLoads = new CancellationToken();
         loadEvents();
 
         // ✅ NEW: Initialize bottom toolbar
@@ -154,6 +183,10 @@ public class EventsListFragment extends Fragment implements
     public void onDestroyView() {
         super.onDestroyView();
 
+        // Drop pages and counts still loading
+        mEventsLoads.cancel();
+        mEventsPager.cancel();
+
         // Unregister back handler
         if (getActivity() instanceof EventsActivity) {
             ((EventsActivity) getActivity()).unregisterBackHandler(this);
@@ -207,6 +240,16 @@ public class EventsListFragment extends Fragment implements
         });
         mEventsRecyclerView.setLayoutManager(new LinearLayoutManager(getContext()));
         mEventsRecyclerView.setAdapter(mEventsAdapter);
+
+        // Load the next page before scrolling reaches the end of the loaded ones
+        mEventsRecyclerView.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+                if (dy > 0) {
+                    prefetchVisibleEvents();
+                }
+            }
+        });
     }
 
     /**
@@ -246,7 +289,8 @@ public class EventsListFragment extends Fragment implements
     }
 
     /**
-     * Load events from database
+     * Load the first page of events and the events count from database;
+     * next pages are loaded while scrolling
      */
     private void loadEvents() {
         // Skip loading if refresh is suppressed (during pending deletions)
@@ -260,36 +304,25 @@ public class EventsListFragment extends Fragment implements
         try {
             // Get database instance and DAO
             EventDao eventDao = QDueDatabase.getInstance(requireContext()).eventDao();
-
-            // Load all events asynchronously
-            new Thread(() -> {
-                try {
-                    List<LocalEvent> events = eventDao.getAllEvents();
-
-                    // Update UI on main thread
-                    requireActivity().runOnUiThread(() -> {
-                        // Filter out events with pending deletion
-                        List<LocalEvent> filteredEvents = filterPendingDeletions(events);
-
-                        mEventsList.clear();
-                        if (filteredEvents != null && !filteredEvents.isEmpty()) {
-                            mEventsList.addAll(filteredEvents);
-                            Log.d(TAG, "Loaded " + filteredEvents.size() + " events from database (filtered " +
-                                    (events.size() - filteredEvents.size()) + " pending deletions)");
+            EventsFilter filter = mEventsFilter;
+            CancellationToken loads = mEventsLoads;
+
+            // Pages ordered by (start_time, id), each one keyed on the last event of the previous one
+            mEventsPager.reset((last, limit) -> AppExecutors.getInstance().reads()
+                    .supply(() -> eventDao.getEventsPage(filter, last, limit), loads));
+
+            // Count in SQL, for the pages not loaded yet
+            AppExecutors.getInstance().reads()
+                    .supply(() -> eventDao.getEventCount(filter), loads)
+                    .thenAccept(count -> {
+                        if (getActivity() != null) {
+                            getActivity().runOnUiThread(() -> onEventsCountLoaded(filter, count));
                         }
-                        mEventsAdapter.notifyDataSetChanged();
-                        updateViewState();
-                        showLoading(false);
-                    });
-
-                } catch (Exception e) {
-                    Log.e(TAG, "Error loading events from database: " + e.getMessage());
-                    requireActivity().runOnUiThread(() -> {
-                        showLoading(false);
-                        Library.showError(getContext(), R.string.text_error_loading);
+                    })
+                    .exceptionally(throwable -> {
+                        Log.w(TAG, "Events count not loaded: " + throwable.getMessage());
+                        return null;
                     });
-                }
-            }).start();
 
         } catch (Exception e) {
             Log.e(TAG, "Error getting database instance: " + e.getMessage());
@@ -298,6 +331,95 @@ public class EventsListFragment extends Fragment implements
         }
     }
 
+    /**
+     * Show a page of events: the first page replaces the list, the next ones are appended
+     */
+    private void onEventsPageLoaded(List<LocalEvent> page, boolean firstPage, boolean hasMore) {
+        if (!isAdded() || mEventsAdapter == null) return;
+
+        // Filter out events with pending deletion
+        List<LocalEvent> filteredEvents = new ArrayList<>(filterPendingDeletions(page));
+
+        if (firstPage) {
+            mEventsList.clear();
+            mEventsList.addAll(filteredEvents);
+            mEventsAdapter.notifyDataSetChanged();
+            showLoading(false);
+        } else {
+            // Skip events already shown, e.g. added at the top after creation
+            Set<String> shownIds = new HashSet<>();
+            for (LocalEvent event : mEventsList) {
+                shownIds.add(event.getId());
+            }
+            filteredEvents.removeIf(event -> shownIds.contains(event.getId()));
+
+            int start = mEventsList.size();
+            mEventsList.addAll(filteredEvents);
+            mEventsAdapter.notifyItemRangeInserted(start, filteredEvents.size());
+        }
+
+        Log.d(TAG, "Loaded page of " + page.size() + " events (" + (page.size() - filteredEvents.size()) +
+                " skipped, total shown " + mEventsList.size() + ", more: " + hasMore + ")");
+
+        // The list may not fill the screen yet: no scroll would load the next page
+        mEventsRecyclerView.post(this::prefetchVisibleEvents);
+    }
+
+    private void onEventsPageFailed(Throwable error, boolean firstPage) {
+        Log.e(TAG, "Error loading events from database: " + error.getMessage());
+        if (!isAdded()) return;
+
+        if (firstPage) {
+            showLoading(false);
+            Library.showError(getContext(), R.string.text_error_loading);
+        }
+    }
+
+    private void onEventsCountLoaded(EventsFilter filter, int count) {
+        if (!filter.equals(mEventsFilter)) return;
+
+        mTotalEventsCount = count;
+        if (mBottomSelectionToolbar != null) {
+            mBottomSelectionToolbar.setTotalEventsCount(count);
+        }
+        Log.d(TAG, "Events count: " + count + " (" + filter + ")");
+    }
+
+    /**
+     * Load the next page if the last visible event is close to the end of the loaded ones
+     */
+    private void prefetchVisibleEvents() {
+        if (mEventsRecyclerView == null || mEventsPager == null) return;
+
+        if (mEventsRecyclerView.getLayoutManager() instanceof LinearLayoutManager layoutManager) {
+            int lastVisible = layoutManager.findLastVisibleItemPosition();
+            mEventsPager.onItemVisible(Math.max(lastVisible, 0), mEventsList.size());
+        }
+    }
+
+    /**
+     * Filter the list by type, priority and package (in SQL); null criteria match every event
+     *
+     * @param filter Events filter, {@link EventsFilter#ALL} for the whole list
+     */
+    public void setEventsFilter(@NonNull EventsFilter filter) {
+        if (filter.equals(mEventsFilter)) return;
+
+        Log.d(TAG, "Events filter: " + filter);
+        mEventsFilter = filter;
+        mTotalEventsCount = -1;
+        if (getView() != null) {
+            loadEvents();
+        }
+    }
+
+    /**
+     * @return Number of events in the filtered list, including pages not loaded yet; -1 until counted
+     */
+    public int getTotalEventsCount() {
+        return mTotalEventsCount;
+    }
+
 
     /**
      * 🔧 NEW: Check for pending event creation in activity
@@ -1180,6 +1302,7 @@ public class EventsListFragment extends Fragment implements
         List<LocalEvent> selectedEvents = getSelectedEvents();
 
         // ✅ Show modern toolbar with current selection
+        mBottomSelectionToolbar.setTotalEventsCount(mTotalEventsCount);
         mBottomSelectionToolbar.show(
                 container,
                 mSelectedEventIds,
@@ -1235,6 +1358,7 @@ public class EventsListFragment extends Fragment implements
 
                         mEventsList.add(0, event); // Add at top
                         mEventsAdapter.notifyItemInserted(0);
+                        if (mTotalEventsCount >= 0) mTotalEventsCount++;
                         mEventsRecyclerView.scrollToPosition(0);
 
                         // CRITICAL: Update view state (this will hide empty state if it was showing)
@@ -1295,6 +1419,7 @@ public class EventsListFragment extends Fragment implements
                     if (found) {
                         // Notify adapter of removal
                         mEventsAdapter.notifyItemRemoved(removedPosition);
+                        if (mTotalEventsCount > 0) mTotalEventsCount--;
 
                         // Notify range changed for items after the removed one
                         if (removedPosition < mEventsList.size()) {
@@ -1367,9 +1492,11 @@ public class EventsListFragment extends Fragment implements
         if (getActivity() != null) {
             getActivity().runOnUiThread(() -> {
                 try {
-                    // Clear the list
+                    // Clear the list, and stop loading its next pages
                     int previousSize = mEventsList.size();
                     mEventsList.clear();
+                    mEventsPager.cancel();
+                    mTotalEventsCount = 0;
 
                     // Clear pending deletions
                     clearPendingDeletions();
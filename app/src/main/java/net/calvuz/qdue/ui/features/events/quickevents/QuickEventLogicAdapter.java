@@ -1,7 +1,7 @@
 package net.calvuz.qdue.ui.features.events.quickevents;
 
+import net.calvuz.qdue.core.common.intervals.IntervalIndex;
 import net.calvuz.qdue.events.actions.ConflictAnalysis;
-import net.calvuz.qdue.events.dao.EventDao;
 import net.calvuz.qdue.events.models.EventPriority;
 import net.calvuz.qdue.events.models.EventType;
 import net.calvuz.qdue.events.models.LocalEvent;
@@ -187,23 +187,26 @@ public class QuickEventLogicAdapter {
 
     /**
      * Enhanced validation with conflict checking.
+     * The index holds the events of a range including the date, built once for all the
+     * dates being checked with {@link EventActionManager#buildEventIndex}.
      */
-    public static boolean canCreateEventActionOnDate(EventAction action, LocalDate date, Long userId, EventDao eventDao) {
+    public static boolean canCreateEventActionOnDate(EventAction action, LocalDate date, Long userId, IntervalIndex<LocalEvent> eventIndex) {
         // Validazione esistente
         if (!EventActionManager.canPerformAction(action, date, userId)) {
             return false;
         }
 
         // Nuova validazione conflitti
-        return !EventActionManager.hasConflictingEvents(action, date, userId, eventDao);
+        return !EventActionManager.hasConflictingEvents(action, date, eventIndex);
     }
 
     /**
      * Create event with conflict validation.
+     * The index holds the events of a range including the date (see {@link EventActionManager#buildEventIndex}).
      */
-    public static LocalEvent createEventFromEventActionWithValidation(EventAction action, LocalDate date, Long userId, EventDao eventDao) throws Exception {
+    public static LocalEvent createEventFromEventActionWithValidation(EventAction action, LocalDate date, Long userId, IntervalIndex<LocalEvent> eventIndex) throws Exception {
         // Check conflicts before creation
-        ConflictAnalysis conflicts = EventActionManager.analyzeConflicts(action, date, userId, eventDao);
+        ConflictAnalysis conflicts = EventActionManager.analyzeConflicts(action, date, eventIndex);
         if (conflicts.hasConflicts()) {
 //            throw new EventConflictException("Conflitti rilevati: " + conflicts.getConflictSummary());
             throw new Exception("Conflitti rilevati: " + conflicts.getConflictSummary());
@@ -17,18 +17,25 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.google.android.material.button.MaterialButton;
 
 import net.calvuz.qdue.R;
+import net.calvuz.qdue.core.common.metrics.Metrics;
+import net.calvuz.qdue.core.common.metrics.TraceSection;
+import net.calvuz.qdue.core.db.changes.DataChange;
 import net.calvuz.qdue.domain.calendar.models.WorkScheduleDay;
-import net.calvuz.qdue.domain.calendar.models.LocalEvent;
+import net.calvuz.qdue.domain.calendar.models.LocalEventDaySummary;
 import net.calvuz.qdue.ui.features.swipecalendar.components.SwipeCalendarStateManager;
 import net.calvuz.qdue.ui.core.common.utils.Log;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * MonthPagerAdapter - ViewPager2 adapter for month-by-month navigation.
@@ -48,11 +55,15 @@ import java.util.concurrent.Executors;
  * <h3>Data Loading Strategy:</h3>
  * <ul>
  *   <li>Load data when month becomes visible</li>
- *   <li>Cache loaded data for quick re-access</li>
- *   <li>Background thread data loading to prevent UI blocking</li>
+ *   <li>Prefetch months ahead in the swipe direction ({@link #onPageSelected(int)})</li>
+ *   <li>Coalesce requests for a month already loading: one load, every bound page updated</li>
+ *   <li>Bounded LRU cache; months around the visible page are never evicted</li>
  *   <li>Automatic retry on loading failures</li>
  * </ul>
  *
+ * <p>The month cache is only accessed on the main thread: binds and page changes happen
+ * there, and loader callbacks are posted back to it.</p>
+ *
  * @author QDue Development Team
  * @version 1.0.0
  * @since Database Version 6
@@ -62,6 +73,12 @@ public class MonthPagerAdapter extends RecyclerView.Adapter<MonthPagerAdapter.Mo
 
     private static final String TAG = "MonthPagerAdapter";
 
+    // Months kept in memory (LRU), beyond the protected window around the visible page
+    private static final int MAX_CACHED_MONTHS = 12;
+
+    // Months prefetched ahead in the swipe direction; one month is also kept behind
+    private static final int PREFETCH_DISTANCE = 2;
+
     // ==================== INTERFACES ====================
 
     /**
@@ -70,12 +87,13 @@ public class MonthPagerAdapter extends RecyclerView.Adapter<MonthPagerAdapter.Mo
     public interface DataLoader
     {
         /**
-         * Load events for a specific month.
+         * Load per-day event summaries for a specific month.
+         * The grid only draws indicators; events are loaded when a day is opened.
          *
          * @param month    Target month
          * @param callback Callback for results
          */
-        void loadEventsForMonth(@NonNull YearMonth month, @NonNull DataCallback<Map<LocalDate, List<LocalEvent>>> callback);
+        void loadDaySummariesForMonth(@NonNull YearMonth month, @NonNull DataCallback<Map<LocalDate, LocalEventDaySummary>> callback);
 
         /**
          * Load work schedule for a specific month.
@@ -104,7 +122,7 @@ public class MonthPagerAdapter extends RecyclerView.Adapter<MonthPagerAdapter.Mo
         /**
          * Called when user clicks on a day.
          */
-        void onDayClick(@NonNull LocalDate date, @Nullable WorkScheduleDay day, @NonNull List<LocalEvent> events);
+        void onDayClick(@NonNull LocalDate date, @Nullable WorkScheduleDay day, @Nullable LocalEventDaySummary daySummary);
 
         /**
          * Called when user long-clicks on a day.
@@ -125,8 +143,7 @@ public class MonthPagerAdapter extends RecyclerView.Adapter<MonthPagerAdapter.Mo
     private enum LoadingState
     {
         IDLE,
-        LOADING_EVENTS,
-        LOADING_WORK_SCHEDULE,
+        LOADING,
         LOADED,
         ERROR
     }
@@ -138,9 +155,12 @@ public class MonthPagerAdapter extends RecyclerView.Adapter<MonthPagerAdapter.Mo
     {
         final YearMonth month;
         LoadingState state = LoadingState.IDLE;
-        Map<LocalDate, List<LocalEvent>> events = new ConcurrentHashMap<>();
+        Map<LocalDate, LocalEventDaySummary> daySummaries = new ConcurrentHashMap<>();
         Map<LocalDate, WorkScheduleDay> workSchedule = new ConcurrentHashMap<>();
         Exception lastError;
+        int pendingLoads;       // Events and work schedule loads still in flight
+        int generation;         // Bumped on refresh/retry; results of older loads are dropped
+        boolean prefetched;     // Load started by prefetch and not yet bound
 
         MonthData(@NonNull YearMonth month) {
             this.month = month;
@@ -151,7 +171,7 @@ public class MonthPagerAdapter extends RecyclerView.Adapter<MonthPagerAdapter.Mo
         }
 
         boolean isLoading() {
-            return state == LoadingState.LOADING_EVENTS || state == LoadingState.LOADING_WORK_SCHEDULE;
+            return state == LoadingState.LOADING;
         }
 
         boolean hasError() {
@@ -165,12 +185,26 @@ public class MonthPagerAdapter extends RecyclerView.Adapter<MonthPagerAdapter.Mo
     private final LayoutInflater mInflater;
     private final DataLoader mDataLoader;
     private final Handler mMainHandler;
-    private final ExecutorService mBackgroundExecutor;
 
     // ==================== DATA ====================
 
-    // Cache for month data
-    private final Map<YearMonth, MonthData> mMonthDataCache = new ConcurrentHashMap<>();
+    // Access-ordered month cache (main thread only)
+    private final LinkedHashMap<YearMonth, MonthData> mMonthDataCache = new LinkedHashMap<>( 16, 0.75f, true );
+
+    // ViewHolders currently bound, updated when their month finishes loading
+    private final Set<MonthViewHolder> mBoundHolders = new HashSet<>();
+
+    // Visible page and last swipe direction (+1 forward, -1 backward)
+    private int mCurrentPosition = RecyclerView.NO_POSITION;
+    private int mSwipeDirection = 1;
+
+    // Cache metrics
+    private long mBindRequests = 0;
+    private long mCacheHits = 0;
+    private long mCoalescedRequests = 0;
+    private long mPrefetchRequests = 0;
+    private long mPrefetchHits = 0;
+    private long mEvictions = 0;
 
     // ==================== LISTENERS ====================
 
@@ -189,7 +223,6 @@ public class MonthPagerAdapter extends RecyclerView.Adapter<MonthPagerAdapter.Mo
         this.mInflater = LayoutInflater.from( context );
         this.mDataLoader = dataLoader;
         this.mMainHandler = new Handler( Looper.getMainLooper() );
-        this.mBackgroundExecutor = Executors.newFixedThreadPool( 2 );
 
         setHasStableIds( true );
         Log.d( TAG, "MonthPagerAdapter created" );
@@ -223,8 +256,11 @@ public class MonthPagerAdapter extends RecyclerView.Adapter<MonthPagerAdapter.Mo
 
     @Override
     public void onBindViewHolder(@NonNull MonthViewHolder holder, int position) {
-        YearMonth month = SwipeCalendarStateManager.getMonthForPosition( position );
-        holder.bind( month );
+        try (TraceSection section = Metrics.trace( "bind.month_page" )) {
+            YearMonth month = SwipeCalendarStateManager.getMonthForPosition( position );
+            mBoundHolders.add( holder );
+            holder.bind( month );
+        }
     }
 //
 //    @Override
@@ -237,6 +273,7 @@ public class MonthPagerAdapter extends RecyclerView.Adapter<MonthPagerAdapter.Mo
     @Override
     public void onViewRecycled(@NonNull MonthViewHolder holder) {
         super.onViewRecycled(holder);
+        mBoundHolders.remove( holder );
         // Only clear listener when actually recycling, not just cleaning up
         holder.clearListenerForRecycling();
     }
@@ -309,10 +346,10 @@ public class MonthPagerAdapter extends RecyclerView.Adapter<MonthPagerAdapter.Mo
             if (dayAdapter != null) {
                 dayAdapter.setOnDayClickListener(new MonthPagerDayAdapter.OnDayClickListener() {
                     @Override
-                    public void onDayClick(@NonNull LocalDate date, @Nullable WorkScheduleDay day, @NonNull List<LocalEvent> dayEvents) {
+                    public void onDayClick(@NonNull LocalDate date, @Nullable WorkScheduleDay day, @Nullable LocalEventDaySummary daySummary) {
                         Log.d(TAG, "Day clicked in MonthPagerAdapter: " + date);
                         if (mInteractionListener != null) {
-                            mInteractionListener.onDayClick(date, day, dayEvents);
+                            mInteractionListener.onDayClick(date, day, daySummary);
                             Log.d(TAG, "Day click forwarded to fragment: " + date);
                         } else {
                             Log.w(TAG, "mInteractionListener is null, cannot forward day click: " + date);
@@ -351,109 +388,36 @@ public class MonthPagerAdapter extends RecyclerView.Adapter<MonthPagerAdapter.Mo
 
         /**
          * Load data for the specified month.
+         * Served from the cache when loaded; joins the in-flight load otherwise.
          */
         private void loadDataForMonth(@NonNull YearMonth month) {
-            Log.i( TAG, "Loading data for month: " + month );
-
-            MonthData monthData = mMonthDataCache.get( month );
+            MonthData monthData = obtainMonthData( month );
+            recordBind( monthData );
 
-            if (monthData == null) {
-                monthData = new MonthData( month );
-                mMonthDataCache.put( month, monthData );
+            if (monthData.state == LoadingState.IDLE) {
+                Log.v( TAG, "(idle) Need to load data for month: " + month );
+                startLoading( monthData );
             }
 
-            if (monthData.isLoaded()) {
-                // Data already loaded - update UI
-                updateAdapterWithData( monthData );
-                Log.i( TAG, "(loaded) Created new month data for month: " + monthData );
-
-                showLoadedState();
-            } else if (monthData.isLoading()) {
-                // Currently loading - show loading state
-                Log.i( TAG, "(loading) Loading data for month: " + month );
-                showLoadingState();
-            } else if (monthData.hasError()) {
-                // Previous error - show error state
-                Log.i( TAG, "(error) Error loading data for month: " + month );
-                showErrorState();
-            } else {
-                // Need to load data
-                Log.i( TAG, "(idle) Need to load data for month: " + month );
-
-                // Load Events
-                loadLocalEventsData( monthData );
-
-                // Now load Work Schedule
-                loadWorkScheduleData( monthData );
-            }
-        }
-
-        /**
-         * Start loading data for a month.
-         */
-        private void loadLocalEventsData(@NonNull MonthData monthData) {
-            showLoadingState();
-            monthData.state = LoadingState.LOADING_EVENTS;
-
-            // Load events first
-            mDataLoader.loadEventsForMonth( monthData.month, new DataCallback<>()
-            {
-                @Override
-                public void onSuccess(@NonNull Map<LocalDate, List<LocalEvent>> eventsData) {
-                    mMainHandler.post( () -> {
-                        monthData.events.clear();
-                        monthData.events.putAll( eventsData );
-                        monthData.state = LoadingState.LOADING_WORK_SCHEDULE;
-                    } );
-                }
-
-                @Override
-                public void onError(@NonNull Exception error) {
-                    mMainHandler.post( () -> {
-                        monthData.state = LoadingState.ERROR;
-                        monthData.lastError = error;
-                        showErrorState();
-
-                        if (mInteractionListener != null) {
-                            mInteractionListener.onMonthLoadError( monthData.month, error );
-                        }
-                    } );
-                }
-            } );
+            render( monthData );
         }
 
         /**
-         * Load work schedule data (second phase of loading).
+         * Show the current state of the month data.
          */
-        private void loadWorkScheduleData(@NonNull MonthData monthData) {
-            mDataLoader.loadWorkScheduleForMonth( monthData.month, new DataCallback<>()
-            {
-                @Override
-                public void onSuccess(@NonNull Map<LocalDate, WorkScheduleDay> workScheduleData) {
-                    mMainHandler.post( () -> {
-                        monthData.workSchedule.clear();
-                        monthData.workSchedule.putAll( workScheduleData );
-                        monthData.state = LoadingState.LOADED;
-
-                        // Update UI with complete data
-                        updateAdapterWithData( monthData );
-                        showLoadedState();
-                    } );
-                }
-
-                @Override
-                public void onError(@NonNull Exception error) {
-                    mMainHandler.post( () -> {
-                        monthData.state = LoadingState.ERROR;
-                        monthData.lastError = error;
-                        showErrorState();
-
-                        if (mInteractionListener != null) {
-                            mInteractionListener.onMonthLoadError( monthData.month, error );
-                        }
-                    } );
-                }
-            } );
+        private void render(@NonNull MonthData monthData) {
+            switch (monthData.state) {
+                case LOADED:
+                    updateAdapterWithData( monthData );
+                    showLoadedState();
+                    break;
+                case ERROR:
+                    showErrorState();
+                    break;
+                default:
+                    showLoadingState();
+                    break;
+            }
         }
 
         /**
@@ -461,7 +425,7 @@ public class MonthPagerAdapter extends RecyclerView.Adapter<MonthPagerAdapter.Mo
          */
         private void updateAdapterWithData(@NonNull MonthData monthData) {
             if (dayAdapter != null) {
-                dayAdapter.updateEvents( monthData.events );
+                dayAdapter.updateDaySummaries( monthData.daySummaries );
                 dayAdapter.updateWorkSchedule( monthData.workSchedule );
             }
         }
@@ -510,6 +474,7 @@ public class MonthPagerAdapter extends RecyclerView.Adapter<MonthPagerAdapter.Mo
                 MonthData monthData = mMonthDataCache.get( currentMonth );
                 if (monthData != null) {
                     monthData.state = LoadingState.IDLE;
+                    monthData.generation++;
                     loadDataForMonth( currentMonth );
                 }
             }
@@ -538,6 +503,208 @@ public class MonthPagerAdapter extends RecyclerView.Adapter<MonthPagerAdapter.Mo
 
     }
 
+    // ==================== MONTH DATA LOADING ====================
+
+    /**
+     * Get the cached data for a month, creating it (and trimming the cache) when missing.
+     */
+    @NonNull
+    private MonthData obtainMonthData(@NonNull YearMonth month) {
+        MonthData monthData = mMonthDataCache.get( month );
+        if (monthData == null) {
+            monthData = new MonthData( month );
+            mMonthDataCache.put( month, monthData );
+            trimCache();
+        }
+        return monthData;
+    }
+
+    /**
+     * Start loading event summaries and work schedule for a month.
+     * No-op while the month is loading or loaded, so concurrent requests share one load.
+     */
+    private void startLoading(@NonNull MonthData monthData) {
+        if (monthData.isLoading() || monthData.isLoaded()) {
+            return;
+        }
+
+        monthData.state = LoadingState.LOADING;
+        monthData.pendingLoads = 2;
+        monthData.lastError = null;
+        final int generation = monthData.generation;
+
+        mDataLoader.loadDaySummariesForMonth( monthData.month, new DataCallback<>()
+        {
+            @Override
+            public void onSuccess(@NonNull Map<LocalDate, LocalEventDaySummary> summariesData) {
+                mMainHandler.post( () -> {
+                    if (generation != monthData.generation) return;
+                    monthData.daySummaries.clear();
+                    monthData.daySummaries.putAll( summariesData );
+                    onPartialLoadComplete( monthData );
+                } );
+            }
+
+            @Override
+            public void onError(@NonNull Exception error) {
+                mMainHandler.post( () -> onMonthLoadFailed( monthData, generation, error ) );
+            }
+        } );
+
+        mDataLoader.loadWorkScheduleForMonth( monthData.month, new DataCallback<>()
+        {
+            @Override
+            public void onSuccess(@NonNull Map<LocalDate, WorkScheduleDay> workScheduleData) {
+                mMainHandler.post( () -> {
+                    if (generation != monthData.generation) return;
+                    monthData.workSchedule.clear();
+                    monthData.workSchedule.putAll( workScheduleData );
+                    onPartialLoadComplete( monthData );
+                } );
+            }
+
+            @Override
+            public void onError(@NonNull Exception error) {
+                mMainHandler.post( () -> onMonthLoadFailed( monthData, generation, error ) );
+            }
+        } );
+    }
+
+    private void onPartialLoadComplete(@NonNull MonthData monthData) {
+        if (!monthData.isLoading()) {
+            return; // The other load already failed
+        }
+        if (--monthData.pendingLoads == 0) {
+            monthData.state = LoadingState.LOADED;
+            dispatchMonthData( monthData );
+        }
+    }
+
+    private void onMonthLoadFailed(@NonNull MonthData monthData, int generation, @NonNull Exception error) {
+        if (generation != monthData.generation || !monthData.isLoading()) {
+            return;
+        }
+
+        monthData.state = LoadingState.ERROR;
+        monthData.lastError = error;
+        dispatchMonthData( monthData );
+
+        if (mInteractionListener != null) {
+            mInteractionListener.onMonthLoadError( monthData.month, error );
+        }
+    }
+
+    /**
+     * Render the month on every ViewHolder bound to it.
+     */
+    private void dispatchMonthData(@NonNull MonthData monthData) {
+        for (MonthViewHolder holder : mBoundHolders) {
+            if (monthData.month.equals( holder.currentMonth )) {
+                holder.render( monthData );
+            }
+        }
+    }
+
+    // ==================== CACHE WINDOW ====================
+
+    /**
+     * Track the visible page and prefetch around it.
+     * Call from ViewPager2.OnPageChangeCallback#onPageSelected.
+     *
+     * @param position Selected page position
+     */
+    public void onPageSelected(int position) {
+        if (mCurrentPosition != RecyclerView.NO_POSITION && position != mCurrentPosition) {
+            mSwipeDirection = position > mCurrentPosition ? 1 : -1;
+        }
+        mCurrentPosition = position;
+
+        // One month behind, PREFETCH_DISTANCE months ahead
+        prefetch( position - mSwipeDirection );
+        for (int i = 1; i <= PREFETCH_DISTANCE; i++) {
+            prefetch( position + i * mSwipeDirection );
+        }
+        trimCache();
+    }
+
+    private void prefetch(int position) {
+        if (!SwipeCalendarStateManager.isValidPosition( position )) {
+            return;
+        }
+
+        MonthData monthData = obtainMonthData( SwipeCalendarStateManager.getMonthForPosition( position ) );
+        if (monthData.state == LoadingState.IDLE) {
+            monthData.prefetched = true;
+            mPrefetchRequests++;
+            startLoading( monthData );
+            Log.v( TAG, "Prefetching month: " + monthData.month );
+        }
+    }
+
+    private void recordBind(@NonNull MonthData monthData) {
+        mBindRequests++;
+        Metrics.cache( "month_pages" ).record( monthData.isLoaded() );
+        if (monthData.isLoaded()) {
+            mCacheHits++;
+        } else if (monthData.isLoading()) {
+            mCoalescedRequests++;
+        }
+        if (monthData.prefetched) {
+            monthData.prefetched = false;
+            mPrefetchHits++;
+        }
+    }
+
+    /**
+     * Evict least recently used months beyond {@link #MAX_CACHED_MONTHS}.
+     * Months loading, bound to a page or inside the prefetch window are kept.
+     */
+    private void trimCache() {
+        Iterator<MonthData> iterator = mMonthDataCache.values().iterator();
+        while (mMonthDataCache.size() > MAX_CACHED_MONTHS && iterator.hasNext()) {
+            MonthData monthData = iterator.next();
+            if (monthData.isLoading() || isInWindow( monthData.month ) || isBound( monthData.month )) {
+                continue;
+            }
+            iterator.remove();
+            mEvictions++;
+        }
+    }
+
+    private boolean isInWindow(@NonNull YearMonth month) {
+        return mCurrentPosition != RecyclerView.NO_POSITION &&
+                Math.abs( SwipeCalendarStateManager.getPositionForMonth( month ) - mCurrentPosition ) <= PREFETCH_DISTANCE;
+    }
+
+    private boolean isBound(@NonNull YearMonth month) {
+        for (MonthViewHolder holder : mBoundHolders) {
+            if (month.equals( holder.currentMonth )) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return Snapshot of cache size and counters
+     */
+    @NonNull
+    public Map<String, Object> getCacheStatistics() {
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put( "size", mMonthDataCache.size() );
+        statistics.put( "max_size", MAX_CACHED_MONTHS );
+        statistics.put( "binds", mBindRequests );
+        statistics.put( "hits", mCacheHits );
+        statistics.put( "hit_rate", mBindRequests > 0 ? (double) mCacheHits / mBindRequests : 0.0 );
+        statistics.put( "coalesced", mCoalescedRequests );
+        statistics.put( "prefetches", mPrefetchRequests );
+        statistics.put( "prefetch_hits", mPrefetchHits );
+        statistics.put( "prefetch_hit_rate",
+                        mPrefetchRequests > 0 ? (double) mPrefetchHits / mPrefetchRequests : 0.0 );
+        statistics.put( "evictions", mEvictions );
+        return statistics;
+    }
+
     // ==================== PUBLIC METHODS ====================
 
     /**
@@ -571,9 +738,11 @@ public class MonthPagerAdapter extends RecyclerView.Adapter<MonthPagerAdapter.Mo
         MonthData monthData = mMonthDataCache.get( month );
         if (monthData != null) {
             monthData.state = LoadingState.IDLE;
-            monthData.events.clear();
+            monthData.generation++;
+            monthData.daySummaries.clear();
             monthData.workSchedule.clear();
             monthData.lastError = null;
+            monthData.prefetched = false;
 
             // Notify adapter to rebind affected ViewHolder
             int position = SwipeCalendarStateManager.getPositionForMonth( month );
@@ -581,13 +750,88 @@ public class MonthPagerAdapter extends RecyclerView.Adapter<MonthPagerAdapter.Mo
         }
     }
 
+    /**
+     * Apply a committed write to the cached months it touched. Loaded months shown on a page
+     * reload only the changed part (event summaries or work schedule) and keep their content
+     * until it arrives; other touched months are dropped and load again when shown.
+     *
+     * @param change Local events or work schedule change
+     */
+    public void onDataChanged(@NonNull DataChange change) {
+        List<MonthData> touched = new ArrayList<>();
+        for (MonthData monthData : mMonthDataCache.values()) {
+            if (change.touches( monthData.month )) {
+                touched.add( monthData );
+            }
+        }
+
+        for (MonthData monthData : touched) {
+            if (!isBound( monthData.month )) {
+                mMonthDataCache.remove( monthData.month );
+            } else if (monthData.isLoaded()) {
+                reloadPart( monthData, change.getKind() );
+            } else {
+                // Loading or failed: restart, results of the current load are dropped
+                monthData.state = LoadingState.IDLE;
+                monthData.generation++;
+                startLoading( monthData );
+            }
+        }
+        Log.d( TAG, "Applied " + change + " to " + touched.size() + " cached months" );
+    }
+
+    /**
+     * Reload one part of a loaded month, then render it again.
+     */
+    private void reloadPart(@NonNull MonthData monthData, @NonNull DataChange.Kind kind) {
+        final int generation = monthData.generation;
+
+        if (kind == DataChange.Kind.WORK_SCHEDULE) {
+            mDataLoader.loadWorkScheduleForMonth( monthData.month, new DataCallback<>()
+            {
+                @Override
+                public void onSuccess(@NonNull Map<LocalDate, WorkScheduleDay> workScheduleData) {
+                    mMainHandler.post( () -> {
+                        if (generation != monthData.generation) return;
+                        monthData.workSchedule.clear();
+                        monthData.workSchedule.putAll( workScheduleData );
+                        dispatchMonthData( monthData );
+                    } );
+                }
+
+                @Override
+                public void onError(@NonNull Exception error) {
+                    Log.w( TAG, "Work schedule reload failed for " + monthData.month + ": " + error.getMessage() );
+                }
+            } );
+        } else {
+            mDataLoader.loadDaySummariesForMonth( monthData.month, new DataCallback<>()
+            {
+                @Override
+                public void onSuccess(@NonNull Map<LocalDate, LocalEventDaySummary> summariesData) {
+                    mMainHandler.post( () -> {
+                        if (generation != monthData.generation) return;
+                        monthData.daySummaries.clear();
+                        monthData.daySummaries.putAll( summariesData );
+                        dispatchMonthData( monthData );
+                    } );
+                }
+
+                @Override
+                public void onError(@NonNull Exception error) {
+                    Log.w( TAG, "Event summaries reload failed for " + monthData.month + ": " + error.getMessage() );
+                }
+            } );
+        }
+    }
+
     /**
      * Clear cached data to free memory.
      * Call this when adapter is no longer needed.
      */
     public void clearCache() {
         mMonthDataCache.clear();
-        Log.d( TAG, "Month data cache cleared" );
+        Log.d( TAG, "Month data cache cleared: " + getCacheStatistics() );
     }
 
     /**
@@ -596,7 +840,7 @@ public class MonthPagerAdapter extends RecyclerView.Adapter<MonthPagerAdapter.Mo
      */
     public void cleanup() {
         clearCache();
-        mBackgroundExecutor.shutdown();
+        mBoundHolders.clear();
         mInteractionListener = null;
 
         Log.d( TAG, "MonthPagerAdapter cleaned up" );
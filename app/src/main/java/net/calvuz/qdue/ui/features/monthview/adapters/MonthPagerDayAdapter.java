@@ -13,11 +13,14 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.google.android.material.card.MaterialCardView;
 
 import net.calvuz.qdue.R;
+import net.calvuz.qdue.core.common.metrics.Metrics;
+import net.calvuz.qdue.core.common.metrics.TraceSection;
 import net.calvuz.qdue.core.common.utils.ColorUtils;
 import net.calvuz.qdue.domain.calendar.models.Shift;
 import net.calvuz.qdue.domain.calendar.models.WorkScheduleDay;
 import net.calvuz.qdue.domain.calendar.models.WorkScheduleShift;
-import net.calvuz.qdue.domain.calendar.models.LocalEvent;
+import net.calvuz.qdue.domain.calendar.enums.EventType;
+import net.calvuz.qdue.domain.calendar.models.LocalEventDaySummary;
 import net.calvuz.qdue.preferences.QDuePreferences;
 import net.calvuz.qdue.ui.core.common.utils.Log;
 
@@ -48,9 +51,9 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * <h3>Event Integration:</h3>
  * <ul>
- *   <li>LocalEvent display with type indicators</li>
+ *   <li>Event type indicators from per-day summaries (events are not loaded)</li>
  *   <li>Work schedule (Quattrodue) pattern visualization</li>
- *   <li>Multiple events per day aggregation</li>
+ *   <li>Event count per day</li>
  *   <li>Priority-based event highlighting</li>
  * </ul>
  */
@@ -73,9 +76,9 @@ public class MonthPagerDayAdapter
          *
          * @param date      Selected date
          * @param day       Day data (may be null for overflow days)
-         * @param dayEvents Events for this day (may be empty)
+         * @param daySummary Event summary for this day (null if the day has no events)
          */
-        void onDayClick(@NonNull LocalDate date, @Nullable WorkScheduleDay day, @NonNull List<LocalEvent> dayEvents);
+        void onDayClick(@NonNull LocalDate date, @Nullable WorkScheduleDay day, @Nullable LocalEventDaySummary daySummary);
 
         /**
          * Called when user long-clicks on a day cell.
@@ -92,20 +95,25 @@ public class MonthPagerDayAdapter
     /**
      * Represents a single day cell in the calendar grid.
      *
-     * @param dayData May be null for overflow days
+     * @param dayData    May be null for overflow days
+     * @param daySummary Null for days without events
      */
     private record CalendarDayItem(LocalDate date, boolean isCurrentMonth, boolean isToday,
-                                   WorkScheduleDay dayData, List<LocalEvent> events)
+                                   WorkScheduleDay dayData, LocalEventDaySummary daySummary)
     {
         private CalendarDayItem(
                 @NonNull LocalDate date, boolean isCurrentMonth, boolean isToday,
-                @Nullable WorkScheduleDay dayData, @NonNull List<LocalEvent> events
+                @Nullable WorkScheduleDay dayData, @Nullable LocalEventDaySummary daySummary
         ) {
             this.date = date;
             this.isCurrentMonth = isCurrentMonth;
             this.isToday = isToday;
             this.dayData = dayData;
-            this.events = new ArrayList<>( events );
+            this.daySummary = daySummary;
+        }
+
+        int eventCount() {
+            return daySummary != null ? daySummary.getEventCount() : 0;
         }
     }
 
@@ -119,8 +127,8 @@ public class MonthPagerDayAdapter
     private YearMonth mCurrentMonth;
     private List<CalendarDayItem> mDayItems = new ArrayList<>();
 
-    // Events cache by date
-    private Map<LocalDate, List<LocalEvent>> mEventsCache = new ConcurrentHashMap<>();
+    // Event summaries by date
+    private Map<LocalDate, LocalEventDaySummary> mDaySummaries = new ConcurrentHashMap<>();
 
     // Work schedule data cache by date
     private Map<LocalDate, WorkScheduleDay> mWorkScheduleCache = new ConcurrentHashMap<>();
@@ -167,8 +175,9 @@ public class MonthPagerDayAdapter
             return;
         }
 
-        CalendarDayItem dayItem = mDayItems.get( position );
-        holder.bind( dayItem );
+        try (TraceSection section = Metrics.trace( "bind.month_day" )) {
+            holder.bind( mDayItems.get( position ) );
+        }
     }
 
     // ==================== VIEWHOLDER ====================
@@ -309,65 +318,40 @@ public class MonthPagerDayAdapter
          * Configure event indicators based on day events.
          */
         private void configureEventIndicators(@NonNull CalendarDayItem dayItem) {
-            boolean hasEvents = !dayItem.events.isEmpty();
+            LocalEventDaySummary summary = dayItem.daySummary;
+            boolean hasEvents = summary != null && summary.hasEvents();
+            EventType primaryType = hasEvents ? summary.getPrimaryEventType() : null;
 
             // Event type indicator
             if (eventTypeIndicators != null) {
                 if (hasEvents) {
                     eventTypeIndicators.setVisibility( View.VISIBLE );
-                    // Set color based on highest priority event type
-                    LocalEvent primaryEvent = dayItem.events.get( 0 ); // Assume sorted by priority
-                    int eventColor = getEventTypeColor( primaryEvent );
-//                    eventTypeIndicators.setBackgroundColor( Color.BLUE );
-                    Log.w( TAG, "Event type indicator set to color: " + eventColor );
-                    Log.w( TAG, "Events: " + dayItem.events );
                 } else {
                     eventTypeIndicators.setVisibility( View.GONE );
                 }
             } else Log.e( TAG, "Event indicators not found in layout" );
 
-//            // Event priority badge
-//            if (eventIndicator != null) {
-//                boolean hasHighPriorityEvent = dayItem.events.stream()
-//                        .anyMatch(
-//                                event -> event.getPriority() != null && event.getPriority().isHigh() );
-//                eventIndicator.setVisibility( hasHighPriorityEvent ? View.VISIBLE : View.GONE );
-//            }
-
-            boolean use_badge = false;
-
-            if (!use_badge) {
-                // Event indicator
-                if (eventIndicator != null) {
-                    if (hasEvents) {
-                        eventIndicator.setVisibility( View.VISIBLE );
-
-                        LocalEvent primaryEvent = dayItem.events.get(
-                                0 ); // Assume sorted by priority
-                        int eventColor = getEventTypeColor( primaryEvent );
-                        eventIndicator.setBackgroundColor( eventColor );
-                        eventIndicator.setText(
-                                String.valueOf( dayItem.events.get( 0 ).getTitle() ) );
-                    } else {
-                        eventIndicator.setVisibility( View.GONE );
-                    }
-                } else Log.d( TAG, "Event count text not found in layout" );
-                // Events badge
-                if (eventsBadge != null) {
-                    if (hasEvents) {
-                        eventsBadge.setVisibility( View.VISIBLE );
-
-                        LocalEvent primaryEvent = dayItem.events.get(
-                                0 ); // Assume sorted by priority
-                        int eventColor = getEventTypeColor( primaryEvent );
-//                    eventsBadge.setBackgroundColor( eventColor );
-                        eventsBadge.setText( String.valueOf( dayItem.events.size() ) );
-                        eventsBadge.setTextAlignment( TextView.TEXT_ALIGNMENT_CENTER );
-                    } else {
-                        eventsBadge.setVisibility( View.GONE );
-                    }
-                } else Log.d( TAG, "Event count text not found in layout" );
-            }
+            // Event indicator: primary type of the day
+            if (eventIndicator != null) {
+                if (hasEvents) {
+                    eventIndicator.setVisibility( View.VISIBLE );
+                    eventIndicator.setBackgroundColor( getEventTypeColor( primaryType ) );
+                    eventIndicator.setText( primaryType.getDisplayName() );
+                } else {
+                    eventIndicator.setVisibility( View.GONE );
+                }
+            } else Log.d( TAG, "Event count text not found in layout" );
+
+            // Events badge
+            if (eventsBadge != null) {
+                if (hasEvents) {
+                    eventsBadge.setVisibility( View.VISIBLE );
+                    eventsBadge.setText( String.valueOf( summary.getEventCount() ) );
+                    eventsBadge.setTextAlignment( TextView.TEXT_ALIGNMENT_CENTER );
+                } else {
+                    eventsBadge.setVisibility( View.GONE );
+                }
+            } else Log.d( TAG, "Event count text not found in layout" );
         }
 
         /**
@@ -397,11 +381,11 @@ public class MonthPagerDayAdapter
             }
 
             // Events information
-            if (!dayItem.events.isEmpty()) {
+            if (dayItem.eventCount() > 0) {
                 description.append( ", " ).append( mContext.getResources().getQuantityString(
                         R.plurals.calendar_accessibility_events_count,
-                        dayItem.events.size(),
-                        dayItem.events.size() ) );
+                        dayItem.eventCount(),
+                        dayItem.eventCount() ) );
             }
 
             // Work schedule information
@@ -421,7 +405,7 @@ public class MonthPagerDayAdapter
             if (currentDayItem != null && mDayClickListener != null) {
                 Log.d( TAG, "Day item clicked: " + currentDayItem.date );
                 mDayClickListener.onDayClick( currentDayItem.date, currentDayItem.dayData,
-                                              currentDayItem.events );
+                                              currentDayItem.daySummary );
             }
         }
 
@@ -442,9 +426,10 @@ public class MonthPagerDayAdapter
         /**
          * Get color for event type.
          */
-        private int getEventTypeColor(@NonNull LocalEvent event) {
-            // TODO: Implement event type color mapping
-            return mContext.getColor( R.color.calendar_event_default_color );
+        private int getEventTypeColor(@Nullable EventType eventType) {
+            return eventType != null
+                    ? eventType.getColor()
+                    : mContext.getColor( R.color.calendar_event_default_color );
         }
 
         /**
@@ -483,19 +468,19 @@ public class MonthPagerDayAdapter
     }
 
     /**
-     * Update events data for the current month.
+     * Update event summaries for the current month.
      *
-     * @param eventsMap Events mapped by date
+     * @param summariesMap Event summaries mapped by date
      */
-    public void updateEvents(@NonNull Map<LocalDate, List<LocalEvent>> eventsMap) {
-        mEventsCache.clear();
-        mEventsCache.putAll( eventsMap );
+    public void updateDaySummaries(@NonNull Map<LocalDate, LocalEventDaySummary> summariesMap) {
+        mDaySummaries.clear();
+        mDaySummaries.putAll( summariesMap );
 
-        // Regenerate day items with new events
+        // Regenerate day items with new summaries
         generateDayItems();
         notifyDataSetChanged();
 
-        Log.d( TAG, "Updated events for " + eventsMap.size() + " dates" );
+        Log.d( TAG, "Updated event summaries for " + summariesMap.size() + " dates" );
     }
 
     /**
@@ -550,12 +535,12 @@ public class MonthPagerDayAdapter
                     currentDate.getYear() == mCurrentMonth.getYear();
             boolean isToday = currentDate.equals( today );
 
-            // Get day data and events for this date
+            // Get day data and event summary for this date
             WorkScheduleDay dayData = mWorkScheduleCache.get( currentDate );
-            List<LocalEvent> events = mEventsCache.getOrDefault( currentDate, new ArrayList<>() );
+            LocalEventDaySummary daySummary = mDaySummaries.get( currentDate );
 
             CalendarDayItem dayItem = new CalendarDayItem( currentDate, isCurrentMonth, isToday,
-                                                           dayData, events );
+                                                           dayData, daySummary );
             mDayItems.add( dayItem );
         }
 
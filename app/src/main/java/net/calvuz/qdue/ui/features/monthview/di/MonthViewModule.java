@@ -11,16 +11,14 @@ import net.calvuz.qdue.data.services.LocalEventsService;
 import net.calvuz.qdue.domain.calendar.models.WorkScheduleDay;
 import net.calvuz.qdue.domain.calendar.usecases.GenerateUserScheduleUseCase;
 import net.calvuz.qdue.domain.qdueuser.models.QDueUser;
-import net.calvuz.qdue.domain.calendar.models.LocalEvent;
+import net.calvuz.qdue.domain.calendar.models.LocalEventDaySummary;
 import net.calvuz.qdue.ui.features.monthview.adapters.MonthPagerAdapter;
 import net.calvuz.qdue.ui.features.swipecalendar.components.SwipeCalendarStateManager;
 import net.calvuz.qdue.ui.core.common.utils.Log;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -230,58 +228,49 @@ public class MonthViewModule
     {
 
         /**
-         * Load events for specified month using EventsService.
-         * Maintains direct service usage for events as they don't require complex business logic.
+         * Load per-day event summaries for specified month using LocalEventsService.
+         * The month grid only shows indicators, so the events themselves are not loaded.
          *
          * @param month    Target month
          * @param callback Callback for async result delivery
          */
         @Override
-        public void loadEventsForMonth(
+        public void loadDaySummariesForMonth(
                 @NonNull YearMonth month,
-                @NonNull MonthPagerAdapter.DataCallback<Map<LocalDate, List<LocalEvent>>> callback
+                @NonNull MonthPagerAdapter.DataCallback<Map<LocalDate, LocalEventDaySummary>> callback
         ) {
 
-            Log.d( TAG, "Loading events for month: " + month );
+            Log.d( TAG, "Loading event summaries for month: " + month );
 
             try {
-                LocalDate startDate = month.atDay( 1 );
-                LocalDate endDate = month.atEndOfMonth();
-
-                mLocalEventsService.getEventsForDateRange( startDate.atStartOfDay(), endDate.atTime( 23,59,59 ) )
+                mLocalEventsService.getDaySummariesForMonth( month )
                         .thenAccept( result -> {
                             if (result.isSuccess() && result.getData() != null) {
-                                try {
-                                    // Group events by date for calendar display
-                                    Map<LocalDate, List<LocalEvent>> eventsMap = groupEventsByDate(
-                                            result.getData() );
-
-                                    callback.onSuccess( eventsMap );
-                                    Log.d( TAG,
-                                           "Events loaded successfully for " + month + " (" + eventsMap.size() + " dates)" );
-                                } catch (Exception e) {
-                                    Log.e( TAG, "Failed to process events for " + month, e );
-                                    callback.onError( e );
+                                Map<LocalDate, LocalEventDaySummary> summariesMap = new HashMap<>();
+                                for (LocalEventDaySummary summary : result.getData()) {
+                                    summariesMap.put( summary.getDate(), summary );
                                 }
+
+                                callback.onSuccess( summariesMap );
+                                Log.d( TAG,
+                                       "Event summaries loaded successfully for " + month + " (" + summariesMap.size() + " dates)" );
                             } else {
-                                result.getErrorMessage();
                                 String errorMsg = result.getErrorMessage();
-                                Exception error = new RuntimeException(
-                                        "Failed to load events: " + errorMsg );
                                 Log.w( TAG,
                                        "Events service returned error for " + month + ": " + errorMsg );
-                                callback.onError( error );
+                                callback.onError( new RuntimeException(
+                                        "Failed to load event summaries: " + errorMsg ) );
                             }
                         } )
                         .exceptionally( throwable -> {
-                            Log.e( TAG, "Exception in async events loading for " + month,
+                            Log.e( TAG, "Exception in async event summaries loading for " + month,
                                    throwable );
-                            callback.onError( new RuntimeException( "Async events loading failed",
+                            callback.onError( new RuntimeException( "Async event summaries loading failed",
                                                                     throwable ) );
                             return null;
                         } );
             } catch (Exception e) {
-                Log.e( TAG, "Failed to initiate events loading for " + month, e );
+                Log.e( TAG, "Failed to initiate event summaries loading for " + month, e );
                 callback.onError( e );
             }
         }
@@ -357,71 +346,6 @@ public class MonthViewModule
                 callback.onError( e );
             }
         }
-
-        /**
-         * Helper method to group events by date for calendar display.
-         * Handles different event types (all-day, timed) and extracts appropriate dates.
-         *
-         * @param events List of events to group
-         * @return Map with dates as keys and lists of events as values
-         */
-        @NonNull
-        private Map<LocalDate, List<LocalEvent>> groupEventsByDate(@NonNull List<LocalEvent> events) {
-            Map<LocalDate, List<LocalEvent>> eventsMap = new HashMap<>();
-
-            for (LocalEvent event : events) {
-                if (event != null) {
-                    try {
-                        LocalDate eventDate = extractEventDate( event );
-                        eventsMap.computeIfAbsent( eventDate, k -> new ArrayList<>() ).add( event );
-                    } catch (Exception e) {
-                        Log.w( TAG, "Failed to extract date from event: " + event.getTitle(), e );
-                        // Skip malformed events rather than failing entire operation
-                    }
-                }
-            }
-
-            return eventsMap;
-        }
-
-        /**
-         * Extract date from LocalEvent handling different event types properly.
-         * Supports all-day events, timed events, and provides fallback logic.
-         *
-         * @param event Event to extract date from
-         * @return LocalDate for the event
-         */
-        @NonNull
-        private LocalDate extractEventDate(@NonNull LocalEvent event) {
-            try {
-                // Priority 1: All-day events should use the specific date
-                if (event.isAllDay() && event.getStartTime().toLocalDate() != null) {
-                    return event.getStartTime().toLocalDate();
-                }
-
-                // Priority 2: Timed events should use start time date
-                if (event.getStartTime() != null) {
-                    return event.getStartTime().toLocalDate();
-                }
-
-                // Priority 3: If no start time, try end time
-                if (event.getEndTime() != null) {
-                    return event.getEndTime().toLocalDate();
-                }
-
-                // Priority 4: If all-day but no specific date, try date field anyway
-                if (event.getStartTime() != null) {
-                    return event.getStartTime().toLocalDate();
-                }
-
-                // Last resort: Use today (this should rarely happen)
-                Log.w( TAG, "Event has no valid date, using today: " + event.getTitle() );
-                return LocalDate.now();
-            } catch (Exception e) {
-                Log.e( TAG, "Error extracting event date for: " + event.getTitle(), e );
-                return LocalDate.now();
-            }
-        }
     }
 
     // ==================== DEPENDENCY VALIDATION ====================
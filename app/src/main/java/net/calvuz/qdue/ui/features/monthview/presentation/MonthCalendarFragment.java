@@ -25,6 +25,8 @@ import com.google.android.material.card.MaterialCardView;
 import com.google.android.material.snackbar.Snackbar;
 
 import net.calvuz.qdue.R;
+import net.calvuz.qdue.core.db.changes.DataChange;
+import net.calvuz.qdue.core.db.changes.DataChangeBus;
 import net.calvuz.qdue.core.di.DependencyInjector;
 import net.calvuz.qdue.core.di.Injectable;
 import net.calvuz.qdue.core.di.ServiceProvider;
@@ -33,7 +35,7 @@ import net.calvuz.qdue.data.services.QDueUserService;
 import net.calvuz.qdue.data.di.CalendarServiceProvider;
 import net.calvuz.qdue.domain.calendar.models.WorkScheduleDay;
 import net.calvuz.qdue.domain.calendar.repositories.WorkScheduleRepository;
-import net.calvuz.qdue.domain.calendar.models.LocalEvent;
+import net.calvuz.qdue.domain.calendar.models.LocalEventDaySummary;
 import net.calvuz.qdue.core.common.i18n.LocaleManager;
 import net.calvuz.qdue.ui.features.monthview.adapters.MonthPagerAdapter;
 import net.calvuz.qdue.ui.features.swipecalendar.components.SwipeCalendarStateManager;
@@ -45,7 +47,6 @@ import net.calvuz.qdue.ui.features.swipecalendar.viewmodels.CalendarSharedViewMo
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.TextStyle;
-import java.util.List;
 
 /**
  * MonthCalendarFragment - Main fragment for swipe-based calendar navigation.
@@ -121,6 +122,7 @@ public class MonthCalendarFragment
     private YearMonth mCurrentVisibleMonth;
     private boolean mIsInitialized = false;
     private Handler mMainHandler;
+    private final DataChangeBus.Listener mDataChangeListener = this::onDataChanged;
 
     // User configuration
     private String mUserId;
@@ -135,10 +137,10 @@ public class MonthCalendarFragment
      *
      * @param date
      * @param day
-     * @param events
+     * @param daySummary Event summary of the day; the day view loads the events
      */
     @Override
-    public void onDayClick(@NonNull LocalDate date, @Nullable WorkScheduleDay day, @NonNull List<LocalEvent> events) {
+    public void onDayClick(@NonNull LocalDate date, @Nullable WorkScheduleDay day, @Nullable LocalEventDaySummary daySummary) {
         Log.d(TAG, "Day clicked: " + date);
 
         // Update SharedViewModel
@@ -654,6 +656,10 @@ public class MonthCalendarFragment
                 mViewPager.setAdapter(mPagerAdapter);
             }
 
+            // Refresh only the months touched by later edits
+            DataChangeBus.getInstance().subscribe( mMainHandler::post, mDataChangeListener,
+                    DataChange.Kind.LOCAL_EVENTS, DataChange.Kind.WORK_SCHEDULE );
+
             // ✅ IMPROVED: Better initial position logic
             loadInitialMonth();
 
@@ -779,6 +785,11 @@ public class MonthCalendarFragment
             mStateManager.updatePosition( position );
         }
 
+        // Prefetch months ahead in the swipe direction
+        if (mPagerAdapter != null) {
+            mPagerAdapter.onPageSelected( position );
+        }
+
         // ✅ NEW: Notify SharedViewModel
         if (mSharedViewModel != null) {
             mSharedViewModel.navigateToMonth( month, position );
@@ -956,6 +967,8 @@ public class MonthCalendarFragment
      * Cleanup resources.
      */
     private void cleanup() {
+        DataChangeBus.getInstance().unsubscribe( mDataChangeListener );
+
         // Cleanup calendar module
         if (mCalendarModule != null) {
             mCalendarModule.onDestroy();
@@ -973,6 +986,15 @@ public class MonthCalendarFragment
         mCurrentVisibleMonth = null;
     }
 
+    /**
+     * Forward a committed write to the pager, which reloads only the touched months.
+     */
+    private void onDataChanged(@NonNull DataChange change) {
+        if (mPagerAdapter != null) {
+            mPagerAdapter.onDataChanged( change );
+        }
+    }
+
     // ==================== PUBLIC METHODS ====================
 
     /**
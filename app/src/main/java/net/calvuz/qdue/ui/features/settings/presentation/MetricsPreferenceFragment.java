@@ -0,0 +1,170 @@
+package net.calvuz.qdue.ui.features.settings.presentation;
+
+import android.content.Intent;
+import android.os.Bundle;
+import android.widget.Toast;
+
+import androidx.annotation.NonNull;
+import androidx.preference.Preference;
+import androidx.preference.PreferenceCategory;
+import androidx.preference.PreferenceFragmentCompat;
+import androidx.preference.PreferenceScreen;
+
+import net.calvuz.qdue.R;
+import net.calvuz.qdue.core.common.metrics.CacheMeter;
+import net.calvuz.qdue.core.common.metrics.Counter;
+import net.calvuz.qdue.core.common.metrics.LatencyHistogram;
+import net.calvuz.qdue.core.common.metrics.Metrics;
+import net.calvuz.qdue.core.common.metrics.Timer;
+import net.calvuz.qdue.ui.core.common.utils.Log;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * MetricsPreferenceFragment - Debug screen of the in-app performance metrics
+ *
+ * <p>Lists the {@link Metrics} registry: latency percentiles per operation, cache hit
+ * rates and counters. Readings are refreshed on resume and after a reset; the whole
+ * registry can be shared as JSON.</p>
+ */
+public class MetricsPreferenceFragment extends PreferenceFragmentCompat {
+
+    private static final String TAG = "MetricsPreferenceFragment";
+
+    private PreferenceCategory mOperationsCategory;
+    private PreferenceCategory mCachesCategory;
+    private PreferenceCategory mCountersCategory;
+
+    // ==================== LIFECYCLE ====================
+
+    @Override
+    public void onCreatePreferences(Bundle savedInstanceState, String rootKey) {
+        if (getActivity() != null) {
+            getActivity().setTitle( R.string.pref_metrics_title );
+        }
+
+        createPreferenceScreen();
+        Log.d( TAG, "MetricsPreferenceFragment created" );
+    }
+
+    @Override
+    public void onResume() {
+        super.onResume();
+        loadMetrics();
+    }
+
+    // ==================== PREFERENCE SCREEN CREATION ====================
+
+    private void createPreferenceScreen() {
+        PreferenceScreen screen = getPreferenceManager().createPreferenceScreen( requireContext() );
+        setPreferenceScreen( screen );
+
+        Preference exportPreference = new Preference( requireContext() );
+        exportPreference.setTitle( R.string.pref_metrics_export_title );
+        exportPreference.setSummary( R.string.pref_metrics_export_summary );
+        exportPreference.setIcon( R.drawable.ic_rounded_share_24 );
+        exportPreference.setOnPreferenceClickListener( preference -> {
+            exportMetrics();
+            return true;
+        } );
+        screen.addPreference( exportPreference );
+
+        Preference resetPreference = new Preference( requireContext() );
+        resetPreference.setTitle( R.string.pref_metrics_reset_title );
+        resetPreference.setSummary( R.string.pref_metrics_reset_summary );
+        resetPreference.setIcon( R.drawable.ic_rounded_refresh_24 );
+        resetPreference.setOnPreferenceClickListener( preference -> {
+            Metrics.getInstance().reset();
+            loadMetrics();
+            Toast.makeText( requireContext(), R.string.pref_metrics_reset_done, Toast.LENGTH_SHORT ).show();
+            return true;
+        } );
+        screen.addPreference( resetPreference );
+
+        mOperationsCategory = addCategory( screen, R.string.pref_metrics_operations_category );
+        mCachesCategory = addCategory( screen, R.string.pref_metrics_caches_category );
+        mCountersCategory = addCategory( screen, R.string.pref_metrics_counters_category );
+    }
+
+    @NonNull
+    private PreferenceCategory addCategory(@NonNull PreferenceScreen screen, int titleResId) {
+        PreferenceCategory category = new PreferenceCategory( requireContext() );
+        category.setTitle( titleResId );
+        screen.addPreference( category );
+        return category;
+    }
+
+    // ==================== METRICS DISPLAY ====================
+
+    private void loadMetrics() {
+        Metrics metrics = Metrics.getInstance();
+
+        mOperationsCategory.removeAll();
+        for (Map.Entry<String, Timer> entry : metrics.getTimers().entrySet()) {
+            LatencyHistogram histogram = entry.getValue().getHistogram();
+            if (histogram.getCount() == 0) continue;
+
+            addMetric( mOperationsCategory, entry.getKey(), getString( R.string.pref_metrics_timer_summary,
+                    histogram.getCount(),
+                    Metrics.toMillis( histogram.getValueAtPercentile( 50 ) ),
+                    Metrics.toMillis( histogram.getValueAtPercentile( 95 ) ),
+                    Metrics.toMillis( histogram.getValueAtPercentile( 99 ) ),
+                    Metrics.toMillis( histogram.getMax() ) ) );
+        }
+
+        mCachesCategory.removeAll();
+        for (Map.Entry<String, CacheMeter> entry : metrics.getCaches().entrySet()) {
+            CacheMeter meter = entry.getValue();
+            if (meter.getHits() + meter.getMisses() == 0) continue;
+
+            addMetric( mCachesCategory, entry.getKey(), getString( R.string.pref_metrics_cache_summary,
+                    meter.getHitRate() * 100, meter.getHits(), meter.getMisses() ) );
+        }
+
+        mCountersCategory.removeAll();
+        for (Map.Entry<String, Counter> entry : metrics.getCounters().entrySet()) {
+            if (entry.getValue().get() == 0) continue;
+
+            addMetric( mCountersCategory, entry.getKey(),
+                    String.format( Locale.getDefault(), "%d", entry.getValue().get() ) );
+        }
+
+        addEmptyMessageIfNeeded( mOperationsCategory );
+        addEmptyMessageIfNeeded( mCachesCategory );
+        addEmptyMessageIfNeeded( mCountersCategory );
+    }
+
+    private void addMetric(@NonNull PreferenceCategory category, @NonNull String name, @NonNull String summary) {
+        Preference preference = new Preference( requireContext() );
+        preference.setTitle( name );
+        preference.setSummary( summary );
+        preference.setSelectable( false );
+        category.addPreference( preference );
+    }
+
+    private void addEmptyMessageIfNeeded(@NonNull PreferenceCategory category) {
+        if (category.getPreferenceCount() > 0) return;
+
+        Preference emptyPreference = new Preference( requireContext() );
+        emptyPreference.setTitle( R.string.pref_metrics_empty_title );
+        emptyPreference.setSummary( R.string.pref_metrics_empty_summary );
+        emptyPreference.setSelectable( false );
+        category.addPreference( emptyPreference );
+    }
+
+    // ==================== EXPORT ====================
+
+    private void exportMetrics() {
+        Intent shareIntent = new Intent( Intent.ACTION_SEND );
+        shareIntent.setType( "application/json" );
+        shareIntent.putExtra( Intent.EXTRA_TEXT, Metrics.getInstance().toJson() );
+        shareIntent.putExtra( Intent.EXTRA_SUBJECT, "QDue metrics" );
+
+        try {
+            startActivity( Intent.createChooser( shareIntent, getString( R.string.pref_metrics_export_chooser ) ) );
+        } catch (Exception e) {
+            Log.e( TAG, "Error exporting metrics: " + e.getMessage() );
+        }
+    }
+}
@@ -14,6 +14,7 @@ import androidx.preference.ListPreference;
 import androidx.preference.Preference;
 import androidx.preference.PreferenceFragmentCompat;
 
+import net.calvuz.qdue.BuildConfig;
 import net.calvuz.qdue.QDue;
 import net.calvuz.qdue.QDueMainActivity;
 import net.calvuz.qdue.R;
@@ -39,6 +40,7 @@ public class SettingsFragment extends PreferenceFragmentCompat implements Shared
 
     private Preference schemeDatePreference;
     private Preference customPatternsPreference;
+    private Preference metricsPreference;
     private LocalDate currentSchemeDate;
     private LocalDate backupSchemeDate;
 
@@ -64,6 +66,7 @@ public class SettingsFragment extends PreferenceFragmentCompat implements Shared
         // Initialize preferences
         initializeSchemeDatePreference();
         initializeCustomPatternsPreference();
+        initializeMetricsPreference();
 
         // Setup view mode preference
         setupViewModePreference();
@@ -136,6 +139,24 @@ public class SettingsFragment extends PreferenceFragmentCompat implements Shared
         }
     }
 
+    /**
+     * Initialize performance metrics preference, shown in debug builds only
+     */
+    private void initializeMetricsPreference() {
+        Preference diagnosticsCategory = findPreference("category_diagnostics");
+        if (diagnosticsCategory != null) {
+            diagnosticsCategory.setVisible(BuildConfig.DEBUG);
+        }
+
+        metricsPreference = findPreference(getString(R.string.qd_preference_metrics));
+        if (metricsPreference != null) {
+            metricsPreference.setOnPreferenceClickListener(preference -> {
+                navigateToMetrics();
+                return true;
+            });
+        }
+    }
+
     // ==================== NAVIGATION METHODS ====================
 
     /**
@@ -160,6 +181,19 @@ public class SettingsFragment extends PreferenceFragmentCompat implements Shared
         }
     }
 
+    /**
+     * Navigate to Performance Metrics debug screen
+     */
+    private void navigateToMetrics() {
+        if (getActivity() instanceof SettingsNavigationCallback) {
+            ((SettingsNavigationCallback) getActivity()).navigateToFragment(
+                    new MetricsPreferenceFragment(), getString(R.string.pref_metrics_title));
+            Log.d(TAG, "Navigating to MetricsPreferenceFragment");
+        } else {
+            Log.e(TAG, "Activity does not implement SettingsNavigationCallback");
+        }
+    }
+
     /**
      * Show navigation error to user
      */
@@ -1,5 +1,8 @@
 package net.calvuz.qdue.ui.features.swipecalendar.viewmodels;
 
+import android.os.Handler;
+import android.os.Looper;
+
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.lifecycle.LiveData;
@@ -8,6 +11,8 @@ import androidx.lifecycle.MutableLiveData;
 import androidx.lifecycle.ViewModel;
 
 import net.calvuz.qdue.core.common.i18n.LocaleManager;
+import net.calvuz.qdue.core.db.changes.DataChange;
+import net.calvuz.qdue.core.db.changes.DataChangeBus;
 import net.calvuz.qdue.data.services.LocalEventsService;
 import net.calvuz.qdue.data.services.QDueUserService;
 import net.calvuz.qdue.data.services.UserWorkScheduleService;
@@ -152,6 +157,10 @@ public class CalendarSharedViewModel extends ViewModel
     // User cache
     private QDueUser mQDueUser;
 
+    // Writes drop the cached months they touched
+    private final Handler mMainHandler = new Handler( Looper.getMainLooper() );
+    private final DataChangeBus.Listener mDataChangeListener = this::onDataChanged;
+
     // ==================== CONSTRUCTOR ====================
 
     /**
@@ -186,6 +195,9 @@ public class CalendarSharedViewModel extends ViewModel
         // Load current user
         loadCurrentUser();
 
+        DataChangeBus.getInstance().subscribe( mMainHandler::post, mDataChangeListener,
+                                               DataChange.Kind.LOCAL_EVENTS, DataChange.Kind.WORK_SCHEDULE );
+
         Log.d( TAG, "CalendarSharedViewModel initialized with MVVM architecture and state sync" );
     }
 
@@ -456,10 +468,9 @@ public class CalendarSharedViewModel extends ViewModel
         Log.d( TAG, "Loading data for month: " + month );
 
         // Check cache first
-        if (mEventsCache.containsKey( month ) && mWorkScheduleCache.containsKey( month )) {
-            Map<LocalDate, List<LocalEvent>> cachedEvents = mEventsCache.get( month );
-            Map<LocalDate, List<WorkScheduleDay>> cachedSchedule = mWorkScheduleCache.get( month );
-
+        Map<LocalDate, List<LocalEvent>> cachedEvents = mEventsCache.get( month );
+        Map<LocalDate, List<WorkScheduleDay>> cachedSchedule = mWorkScheduleCache.get( month );
+        if (cachedEvents != null && cachedSchedule != null) {
             mMonthEvents.setValue( cachedEvents );
             mMonthWorkSchedule.setValue( cachedSchedule );
 
@@ -473,10 +484,13 @@ public class CalendarSharedViewModel extends ViewModel
         LocalDate startDate = month.atDay( 1 );
         LocalDate endDate = month.atEndOfMonth();
 
-        CompletableFuture<Map<LocalDate, List<LocalEvent>>> eventsFuture = loadEventsForDateRange(
-                startDate, endDate );
-        CompletableFuture<Map<LocalDate, List<WorkScheduleDay>>> scheduleFuture = loadWorkScheduleForDateRange(
-                startDate, endDate );
+        // Only the part missing from the cache is loaded
+        CompletableFuture<Map<LocalDate, List<LocalEvent>>> eventsFuture = cachedEvents != null
+                ? CompletableFuture.completedFuture( cachedEvents )
+                : loadEventsForDateRange( startDate, endDate );
+        CompletableFuture<Map<LocalDate, List<WorkScheduleDay>>> scheduleFuture = cachedSchedule != null
+                ? CompletableFuture.completedFuture( cachedSchedule )
+                : loadWorkScheduleForDateRange( startDate, endDate );
 
         CompletableFuture.allOf( eventsFuture, scheduleFuture )
                 .thenRun( () -> {
@@ -525,6 +539,21 @@ public class CalendarSharedViewModel extends ViewModel
         }
     }
 
+    /**
+     * Drop the cached months touched by a write, and reload the current month if it is one of them.
+     */
+    private void onDataChanged(@NonNull DataChange change) {
+        Map<YearMonth, ?> cache = change.getKind() == DataChange.Kind.WORK_SCHEDULE
+                ? mWorkScheduleCache : mEventsCache;
+        cache.keySet().removeIf( change::touches );
+
+        YearMonth currentMonth = mCurrentMonth.getValue();
+        if (currentMonth != null && change.touches( currentMonth )) {
+            loadMonthData( currentMonth );
+            Log.d( TAG, "Current month reloaded after " + change );
+        }
+    }
+
     // ==================== PRIVATE DATA LOADING METHODS ====================
 
     /**
@@ -676,6 +705,9 @@ public class CalendarSharedViewModel extends ViewModel
     protected void onCleared() {
         super.onCleared();
 
+        DataChangeBus.getInstance().unsubscribe( mDataChangeListener );
+        mMainHandler.removeCallbacksAndMessages( null );
+
         // Clear caches to free memory
         mEventsCache.clear();
         mWorkScheduleCache.clear();
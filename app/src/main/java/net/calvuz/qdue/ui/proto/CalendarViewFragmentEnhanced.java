@@ -22,7 +22,6 @@ import net.calvuz.qdue.ui.core.common.models.SharedViewModels;
 import net.calvuz.qdue.ui.core.common.utils.Log;
 
 import java.time.LocalDate;
-import java.util.List;
 
 /**
  * Enhanced CalendarViewFragment with virtual scrolling integration
@@ -55,12 +54,6 @@ public class CalendarViewFragmentEnhanced extends EnhancedBaseFragmentBridge {
         return 7; // Seven columns for calendar days (Sun-Sat)
     }
 
-    @Override
-    protected List<SharedViewModels.ViewItem> convertMonthData(List<Day> days, LocalDate monthDate) {
-        // For calendar, convert including empty cells to complete the grid
-        return SharedViewModels.DataConverter.convertForCalendar(days, monthDate);
-    }
-
     /**
      * Legacy adapter setup for fallback
      */
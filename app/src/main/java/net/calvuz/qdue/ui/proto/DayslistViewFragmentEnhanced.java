@@ -11,7 +11,6 @@ import androidx.annotation.Nullable;
 import net.calvuz.qdue.QDue;
 import net.calvuz.qdue.R;
 import net.calvuz.qdue.events.models.LocalEvent;
-import net.calvuz.qdue.quattrodue.models.Day;
 import net.calvuz.qdue.quattrodue.models.HalfTeam;
 import net.calvuz.qdue.ui.features.dayslist.adapters.DaysListAdapter;
 import net.calvuz.qdue.ui.core.architecture.base.BaseAdapter;
@@ -70,11 +69,6 @@ public class DayslistViewFragmentEnhanced extends EnhancedBaseFragmentBridge {
         return 1; // Single column for list behavior
     }
 
-    @Override
-    protected List<SharedViewModels.ViewItem> convertMonthData(List<Day> days, LocalDate monthDate) {
-        return SharedViewModels.DataConverter.convertForDaysList(days, monthDate);
-    }
-
     /**
      * Legacy adapter setup for fallback
      */
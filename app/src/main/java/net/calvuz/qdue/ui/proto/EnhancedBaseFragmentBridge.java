@@ -206,9 +206,6 @@ public abstract class EnhancedBaseFragmentBridge extends BaseFragment {
         Log.d(TAG, mTAG + "called");
 
         try {
-            // ✅ 1. Reset flags (from BaseFragment)
-            resetControlFlags();
-
             // ✅ 2. Initialize cache essentials
             mCurrentDate = QDue.getQuattrodue().getCursorDate();
             mItemsCache = new ArrayList<>();
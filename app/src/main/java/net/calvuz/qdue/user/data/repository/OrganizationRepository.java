@@ -2,6 +2,7 @@ package net.calvuz.qdue.user.data.repository;
 
 import android.content.Context;
 
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.db.QDueDatabase;
 import net.calvuz.qdue.user.data.dao.EstablishmentDao;
 import net.calvuz.qdue.user.data.dao.MacroDepartmentDao;
@@ -12,8 +13,7 @@ import net.calvuz.qdue.user.data.entities.SubDepartment;
 import net.calvuz.qdue.ui.core.common.utils.Log;
 
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 
 /**
  * Repository for organizational data operations.
@@ -26,7 +26,8 @@ public class OrganizationRepository {
     private final EstablishmentDao establishmentDao;
     private final MacroDepartmentDao macroDepartmentDao;
     private final SubDepartmentDao subDepartmentDao;
-    private final ExecutorService executorService;
+    private final Executor readExecutor;
+    private final Executor writeExecutor;
     private static volatile OrganizationRepository INSTANCE;
 
     private OrganizationRepository(Context context) {
@@ -34,7 +35,8 @@ public class OrganizationRepository {
         establishmentDao = database.establishmentDao();
         macroDepartmentDao = database.macroDepartmentDao();
         subDepartmentDao = database.subDepartmentDao();
-        executorService = Executors.newFixedThreadPool(4);
+        readExecutor = AppExecutors.getInstance().reads();
+        writeExecutor = AppExecutors.getInstance().writes();
     }
 
     public static OrganizationRepository getInstance(Context context) {
@@ -50,7 +52,7 @@ public class OrganizationRepository {
 
     // Establishment operations
     public void getAllEstablishments(OnEstablishmentListListener listener) {
-        executorService.execute(() -> {
+        readExecutor.execute(() -> {
             try {
                 List<Establishment> establishments = establishmentDao.getAllEstablishments();
                 if (listener != null) {
@@ -66,7 +68,7 @@ public class OrganizationRepository {
     }
 
     public void insertEstablishment(Establishment establishment, OnEstablishmentOperationListener listener) {
-        executorService.execute(() -> {
+        writeExecutor.execute(() -> {
             try {
                 long id = establishmentDao.insertEstablishment(establishment);
                 establishment.setId(id);
@@ -84,7 +86,7 @@ public class OrganizationRepository {
     }
 
     public void updateEstablishment(Establishment establishment, OnEstablishmentOperationListener listener) {
-        executorService.execute(() -> {
+        writeExecutor.execute(() -> {
             try {
                 establishmentDao.updateEstablishment(establishment);
                 if (listener != null) {
@@ -102,7 +104,7 @@ public class OrganizationRepository {
 
     // Macro Department operations
     public void getMacroDepartmentsByEstablishment(long establishmentId, OnMacroDepartmentListListener listener) {
-        executorService.execute(() -> {
+        readExecutor.execute(() -> {
             try {
                 List<MacroDepartment> departments = macroDepartmentDao.getMacroDepartmentsByEstablishment(establishmentId);
                 if (listener != null) {
@@ -118,7 +120,7 @@ public class OrganizationRepository {
     }
 
     public void insertMacroDepartment(MacroDepartment macroDepartment, OnMacroDepartmentOperationListener listener) {
-        executorService.execute(() -> {
+        writeExecutor.execute(() -> {
             try {
                 long id = macroDepartmentDao.insertMacroDepartment(macroDepartment);
                 macroDepartment.setId(id);
@@ -137,7 +139,7 @@ public class OrganizationRepository {
 
     // Sub Department operations
     public void getSubDepartmentsByMacroDepartment(long macroDepartmentId, OnSubDepartmentListListener listener) {
-        executorService.execute(() -> {
+        readExecutor.execute(() -> {
             try {
                 List<SubDepartment> subDepartments = subDepartmentDao.getSubDepartmentsByMacroDepartment(macroDepartmentId);
                 if (listener != null) {
@@ -153,7 +155,7 @@ public class OrganizationRepository {
     }
 
     public void insertSubDepartment(SubDepartment subDepartment, OnSubDepartmentOperationListener listener) {
-        executorService.execute(() -> {
+        writeExecutor.execute(() -> {
             try {
                 long id = subDepartmentDao.insertSubDepartment(subDepartment);
                 subDepartment.setId(id);
@@ -172,7 +174,7 @@ public class OrganizationRepository {
 
     // Validation methods
     public void checkEstablishmentNameExists(String name, OnValidationListener listener) {
-        executorService.execute(() -> {
+        readExecutor.execute(() -> {
             try {
                 boolean exists = establishmentDao.existsByName(name);
                 if (listener != null) {
@@ -188,7 +190,7 @@ public class OrganizationRepository {
     }
 
     public void checkMacroDepartmentNameExists(long establishmentId, String name, OnValidationListener listener) {
-        executorService.execute(() -> {
+        readExecutor.execute(() -> {
             try {
                 boolean exists = macroDepartmentDao.existsByNameAndEstablishment(establishmentId, name);
                 if (listener != null) {
@@ -205,9 +207,7 @@ public class OrganizationRepository {
 
     // Cleanup
     public void shutdown() {
-        if (executorService != null && !executorService.isShutdown()) {
-            executorService.shutdown();
-        }
+        // Executors are shared application-wide (AppExecutors)
     }
 
     // Callback interfaces
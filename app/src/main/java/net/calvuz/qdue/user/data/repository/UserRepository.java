@@ -2,6 +2,7 @@ package net.calvuz.qdue.user.data.repository;
 
 import android.content.Context;
 
+import net.calvuz.qdue.core.common.concurrent.AppExecutors;
 import net.calvuz.qdue.core.db.QDueDatabase;
 import net.calvuz.qdue.user.data.dao.UserDao;
 import net.calvuz.qdue.user.data.entities.User;
@@ -11,8 +12,7 @@ import net.calvuz.qdue.ui.core.common.utils.Log;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 
 /**
  * Repository for user data operations.
@@ -23,13 +23,15 @@ public class UserRepository {
     private static final String TAG = "UserRepository";
 
     private final UserDao userDao;
-    private final ExecutorService executorService;
+    private final Executor readExecutor;
+    private final Executor writeExecutor;
     private static volatile UserRepository INSTANCE;
 
     private UserRepository(Context context) {
         QDueDatabase database = QDueDatabase.getInstance(context);
         userDao = database.userDao();
-        executorService = Executors.newFixedThreadPool(4);
+        readExecutor = AppExecutors.getInstance().reads();
+        writeExecutor = AppExecutors.getInstance().writes();
     }
 
     public static UserRepository getInstance(Context context) {
@@ -45,7 +47,7 @@ public class UserRepository {
 
     // User CRUD operations
     public void insertUser(User user, OnUserOperationListener listener) {
-        executorService.execute(() -> {
+        writeExecutor.execute(() -> {
             try {
                 long id = userDao.insertUser(user);
                 user.setId(id);
@@ -63,7 +65,7 @@ public class UserRepository {
     }
 
     public void updateUser(User user, OnUserOperationListener listener) {
-        executorService.execute(() -> {
+        writeExecutor.execute(() -> {
             try {
                 userDao.updateUser(user);
                 if (listener != null) {
@@ -80,7 +82,7 @@ public class UserRepository {
     }
 
     public void getActiveUser(OnUserWithOrganizationListener listener) {
-        executorService.execute(() -> {
+        readExecutor.execute(() -> {
             try {
                 UserWithOrganization userWithOrg = userDao.getActiveUserWithOrganization();
                 if (listener != null) {
@@ -96,7 +98,7 @@ public class UserRepository {
     }
 
     public void getUserByEmail(String email, OnUserListener listener) {
-        executorService.execute(() -> {
+        readExecutor.execute(() -> {
             try {
                 User user = userDao.getUserByEmail(email);
                 if (listener != null) {
@@ -112,7 +114,7 @@ public class UserRepository {
     }
 
     public void getUserByGoogleId(String googleId, OnUserListener listener) {
-        executorService.execute(() -> {
+        readExecutor.execute(() -> {
             try {
                 User user = userDao.getUserByGoogleId(googleId);
                 if (listener != null) {
@@ -129,7 +131,7 @@ public class UserRepository {
 
     // Google Authentication operations
     public void authenticateWithGoogle(GoogleAuthData googleData, OnUserOperationListener listener) {
-        executorService.execute(() -> {
+        readExecutor.execute(() -> {
             try {
                 // Check if user already exists
                 User existingUser = userDao.getUserByGoogleId(googleData.getGoogleId());
@@ -182,7 +184,7 @@ public class UserRepository {
 
     // Profile management
     public void markProfileCompleted(long userId, OnUserOperationListener listener) {
-        executorService.execute(() -> {
+        writeExecutor.execute(() -> {
             try {
                 userDao.markProfileCompleted(userId, LocalDateTime.now());
                 User user = userDao.getUserById(userId);
@@ -200,7 +202,7 @@ public class UserRepository {
     }
 
     public void updateLastLogin(long userId) {
-        executorService.execute(() -> {
+        writeExecutor.execute(() -> {
             try {
                 userDao.updateLastLogin(userId, LocalDateTime.now());
                 Log.d(TAG, "Last login updated for user: " + userId);
@@ -212,7 +214,7 @@ public class UserRepository {
 
     // Search and filtering
     public void searchUsers(String query, OnUserListListener listener) {
-        executorService.execute(() -> {
+        readExecutor.execute(() -> {
             try {
                 List<User> users = userDao.searchActiveUsers(query);
                 if (listener != null) {
@@ -229,7 +231,7 @@ public class UserRepository {
 
     // Validation methods
     public void checkEmailExists(String email, OnValidationListener listener) {
-        executorService.execute(() -> {
+        readExecutor.execute(() -> {
             try {
                 boolean exists = userDao.existsByEmail(email);
                 if (listener != null) {
@@ -245,7 +247,7 @@ public class UserRepository {
     }
 
     public void checkEmployeeIdExists(String employeeId, OnValidationListener listener) {
-        executorService.execute(() -> {
+        readExecutor.execute(() -> {
             try {
                 boolean exists = userDao.existsByEmployeeId(employeeId);
                 if (listener != null) {
@@ -262,9 +264,7 @@ public class UserRepository {
 
     // Cleanup operations
     public void shutdown() {
-        if (executorService != null && !executorService.isShutdown()) {
-            executorService.shutdown();
-        }
+        // Executors are shared application-wide (AppExecutors)
     }
 
     // Callback interfaces
@@ -0,0 +1,51 @@
+package android.graphics;
+
+/**
+ * JVM double of the android.graphics.Color helpers used by the legacy shift types,
+ * whose factory parses its colors in a static initializer.
+ */
+public class Color {
+
+    public static final int BLACK = 0xFF000000;
+    public static final int WHITE = 0xFFFFFFFF;
+    public static final int TRANSPARENT = 0;
+
+    public static int alpha(int color) {
+        return color >>> 24;
+    }
+
+    public static int red(int color) {
+        return (color >> 16) & 0xFF;
+    }
+
+    public static int green(int color) {
+        return (color >> 8) & 0xFF;
+    }
+
+    public static int blue(int color) {
+        return color & 0xFF;
+    }
+
+    public static int rgb(int red, int green, int blue) {
+        return argb(0xFF, red, green, blue);
+    }
+
+    public static int argb(int alpha, int red, int green, int blue) {
+        return (alpha << 24) | (red << 16) | (green << 8) | blue;
+    }
+
+    /**
+     * Parse {@code #RRGGBB} or {@code #AARRGGBB}.
+     */
+    public static int parseColor(String colorString) {
+        if (colorString != null && colorString.startsWith("#")
+                && (colorString.length() == 7 || colorString.length() == 9)) {
+            long color = Long.parseLong(colorString.substring(1), 16);
+            if (colorString.length() == 7) {
+                color |= 0xFF000000L;
+            }
+            return (int) color;
+        }
+        throw new IllegalArgumentException("Unknown color");
+    }
+}
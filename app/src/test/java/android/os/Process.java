@@ -0,0 +1,32 @@
+package android.os;
+
+/**
+ * JVM double of android.os.Process for the unit tests and benchmarks: the
+ * executor lanes set their thread priority from every worker thread, where a
+ * static mock would not apply. Priorities are ignored.
+ */
+public class Process {
+
+    public static final int THREAD_PRIORITY_DEFAULT = 0;
+    public static final int THREAD_PRIORITY_LOWEST = 19;
+    public static final int THREAD_PRIORITY_BACKGROUND = 10;
+    public static final int THREAD_PRIORITY_FOREGROUND = -2;
+    public static final int THREAD_PRIORITY_DISPLAY = -4;
+    public static final int THREAD_PRIORITY_URGENT_DISPLAY = -8;
+    public static final int THREAD_PRIORITY_MORE_FAVORABLE = -1;
+    public static final int THREAD_PRIORITY_LESS_FAVORABLE = 1;
+
+    public static void setThreadPriority(int priority) {
+    }
+
+    public static void setThreadPriority(int tid, int priority) {
+    }
+
+    public static int getThreadPriority(int tid) {
+        return THREAD_PRIORITY_DEFAULT;
+    }
+
+    public static int myTid() {
+        return (int) Thread.currentThread().getId();
+    }
+}
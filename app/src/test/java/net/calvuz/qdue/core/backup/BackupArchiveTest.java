@@ -0,0 +1,153 @@
+package net.calvuz.qdue.core.backup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.google.gson.Gson;
+
+import net.calvuz.qdue.core.backup.models.BackupManifest;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Round trip through BackupArchiveWriter and BackupArchiveReader, and rejection
+ * of archives whose sections fail their CRC32 or that have no manifest.
+ */
+public class BackupArchiveTest {
+
+    private static final String SECTION = "items";
+
+    @Rule
+    public TemporaryFolder mFolder = new TemporaryFolder();
+
+    private final Gson mGson = new Gson();
+
+    @Test
+    public void testWrittenArchiveReadsBack() throws IOException {
+        File archive = writeArchive();
+        assertTrue(BackupArchiveReader.isArchive(archive));
+        assertFalse(new File(archive.getParentFile(), archive.getName() + ".tmp").exists());
+
+        try (BackupArchiveReader reader = new BackupArchiveReader(archive, mGson)) {
+            BackupManifest manifest = reader.readManifest();
+            assertEquals("test", manifest.backupType);
+            assertEquals(5, manifest.getTotalEntityCount());
+            assertTrue(reader.verify().isEmpty());
+
+            List<Item> items = new ArrayList<>();
+            assertEquals(3, reader.readSection(SECTION, Item.class, items::add));
+            assertEquals("apple", items.get(0).name);
+            assertEquals("cherry", items.get(2).name);
+
+            List<Item> paged = new ArrayList<>();
+            assertEquals(2, reader.readSection("paged", Item.class, paged::add));
+            assertEquals(2, paged.get(1).value);
+        }
+    }
+
+    @Test
+    public void testCorruptedSectionFailsChecksum() throws IOException {
+        File archive = writeArchive();
+        // Same length and still valid JSON: only the CRC32 can tell
+        File corrupted = rewrite(archive, entry -> entry.equals(SECTION + ".json")
+                ? text -> text.replace("apple", "apply")
+                : null);
+
+        try (BackupArchiveReader reader = new BackupArchiveReader(corrupted, mGson)) {
+            assertEquals(List.of(SECTION), reader.verify());
+            try {
+                reader.readSection(SECTION, Item.class, item -> { });
+                fail("Corrupted section was accepted");
+            } catch (IOException e) {
+                assertTrue(e.getMessage(), e.getMessage().contains("Checksum mismatch"));
+            }
+        }
+    }
+
+    @Test
+    public void testArchiveWithoutManifestIsRejected() throws IOException {
+        File archive = writeArchive();
+        File stripped = rewrite(archive, entry -> entry.equals(BackupManifest.ENTRY_NAME)
+                ? text -> null
+                : null);
+
+        try (BackupArchiveReader reader = new BackupArchiveReader(stripped, mGson)) {
+            reader.readManifest();
+            fail("Archive without manifest was accepted");
+        } catch (IOException e) {
+            assertEquals("Backup archive has no manifest", e.getMessage());
+        }
+    }
+
+    // ==================== HELPERS ====================
+
+    private static class Item {
+        String name;
+        int value;
+
+        Item(String name, int value) {
+            this.name = name;
+            this.value = value;
+        }
+    }
+
+    private File writeArchive() throws IOException {
+        File archive = new File(mFolder.getRoot(), "backup" + BackupArchiveWriter.FILE_EXTENSION);
+        try (BackupArchiveWriter writer = new BackupArchiveWriter(archive, mGson, new BackupManifest("test", "1.0"))) {
+            writer.writeSection(SECTION, Item.class,
+                    List.of(new Item("apple", 1), new Item("banana", 2), new Item("cherry", 3)));
+            writer.writePagedSection("paged", Item.class, 1,
+                    (last, limit) -> last == null ? List.of(new Item("first", 1))
+                            : last.value < 2 ? List.of(new Item("second", 2)) : List.of());
+            writer.finish();
+        }
+        return archive;
+    }
+
+    /**
+     * Copy an archive, transforming the text of the selected entries (a null result drops the entry)
+     */
+    private File rewrite(File archive, Function<String, UnaryOperator<String>> edits)
+            throws IOException {
+        File copy = mFolder.newFile("copy" + BackupArchiveWriter.FILE_EXTENSION);
+        try (ZipFile source = new ZipFile(archive);
+             ZipOutputStream target = new ZipOutputStream(new FileOutputStream(copy))) {
+            Enumeration<? extends ZipEntry> entries = source.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                String text;
+                try (InputStream in = source.getInputStream(entry)) {
+                    text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                }
+                UnaryOperator<String> edit = edits.apply(entry.getName());
+                if (edit != null) {
+                    text = edit.apply(text);
+                }
+                if (text != null) {
+                    target.putNextEntry(new ZipEntry(entry.getName()));
+                    target.write(text.getBytes(StandardCharsets.UTF_8));
+                    target.closeEntry();
+                }
+            }
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,107 @@
+package net.calvuz.qdue.core.backup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import net.calvuz.qdue.core.backup.models.CalendarChangeSet;
+import net.calvuz.qdue.data.entities.ShiftEntity;
+import net.calvuz.qdue.data.entities.TeamEntity;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Folding of a calendar backup chain: full snapshot, then deltas upserting the
+ * changed entities and dropping the IDs missing from their live IDs.
+ */
+public class CalendarChainStateTest {
+
+    @Test
+    public void testSnapshotAndDeltasFoldToLatestState() {
+        RestoreManager.CalendarChainState state = new RestoreManager.CalendarChainState();
+
+        CalendarChangeSet snapshot = new CalendarChangeSet(CalendarChangeSet.TYPE_FULL, 0L, 1_000L);
+        snapshot.teams = List.of(team("A", "Team A"), team("B", "Team B"));
+        snapshot.shifts = List.of(shift("morning", "Morning"));
+        state.apply(snapshot);
+
+        CalendarChangeSet first = delta(1_000L, 2_000L);
+        first.teams = List.of(team("A", "Team A renamed"), team("C", "Team C"));
+        first.liveIds.teams = List.of("A", "B", "C");
+        first.liveIds.shifts = List.of("morning");
+        state.apply(first);
+
+        CalendarChangeSet second = delta(2_000L, 3_000L);
+        second.shifts = List.of(shift("night", "Night"));
+        second.liveIds.teams = List.of("A", "B", "C");
+        second.liveIds.shifts = List.of("morning", "night");
+        state.apply(second);
+
+        assertEquals(List.of("A", "B", "C"), new ArrayList<>(state.teams.keySet()));
+        assertEquals("Team A renamed", state.teams.get("A").getName());
+        assertEquals(List.of("morning", "night"), new ArrayList<>(state.shifts.keySet()));
+        assertEquals(5, state.getEntityCount());
+    }
+
+    @Test
+    public void testIdsMissingFromLiveIdsAreDeleted() {
+        RestoreManager.CalendarChainState state = new RestoreManager.CalendarChainState();
+
+        CalendarChangeSet snapshot = new CalendarChangeSet(CalendarChangeSet.TYPE_FULL, 0L, 1_000L);
+        snapshot.teams = List.of(team("A", "Team A"), team("B", "Team B"));
+        snapshot.shifts = List.of(shift("morning", "Morning"), shift("night", "Night"));
+        state.apply(snapshot);
+
+        // Nothing changed, but B and the night shift were deleted
+        CalendarChangeSet deletion = delta(1_000L, 2_000L);
+        deletion.liveIds.teams = List.of("A");
+        deletion.liveIds.shifts = List.of("morning");
+        state.apply(deletion);
+
+        assertEquals(List.of("A"), new ArrayList<>(state.teams.keySet()));
+        assertEquals(List.of("morning"), new ArrayList<>(state.shifts.keySet()));
+        assertTrue(state.recurrenceRules.isEmpty());
+    }
+
+    @Test
+    public void testReReadEntityInOverlapIsIdempotent() {
+        RestoreManager.CalendarChainState state = new RestoreManager.CalendarChainState();
+
+        CalendarChangeSet snapshot = new CalendarChangeSet(CalendarChangeSet.TYPE_FULL, 0L, 1_000L);
+        snapshot.teams = List.of(team("A", "Team A"));
+        state.apply(snapshot);
+
+        // The overlap window returns A again, unchanged, next to a real change
+        CalendarChangeSet delta = delta(1_000L - 5_000L, 2_000L);
+        delta.teams = List.of(team("A", "Team A"), team("B", "Team B"));
+        delta.liveIds.teams = List.of("A", "B");
+        state.apply(delta);
+
+        assertEquals(List.of("A", "B"), new ArrayList<>(state.teams.keySet()));
+        assertEquals(2, state.getEntityCount());
+    }
+
+    // ==================== HELPERS ====================
+
+    private static CalendarChangeSet delta(long since, long watermark) {
+        CalendarChangeSet delta = new CalendarChangeSet(CalendarChangeSet.TYPE_DELTA, since, watermark);
+        delta.liveIds = new CalendarChangeSet.LiveIds();
+        return delta;
+    }
+
+    private static TeamEntity team(String id, String name) {
+        TeamEntity team = new TeamEntity();
+        team.setId(id);
+        team.setName(name);
+        return team;
+    }
+
+    private static ShiftEntity shift(String id, String name) {
+        ShiftEntity shift = new ShiftEntity();
+        shift.setId(id);
+        shift.setName(name);
+        return shift;
+    }
+}
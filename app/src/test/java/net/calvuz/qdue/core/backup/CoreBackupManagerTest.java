@@ -0,0 +1,203 @@
+package net.calvuz.qdue.core.backup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import com.google.gson.Gson;
+
+import net.calvuz.qdue.core.backup.models.CalendarChangeSet;
+import net.calvuz.qdue.core.db.CalendarDatabase;
+import net.calvuz.qdue.core.db.QDueDatabase;
+import net.calvuz.qdue.core.services.models.OperationResult;
+import net.calvuz.qdue.data.dao.RecurrenceRuleDao;
+import net.calvuz.qdue.data.dao.ShiftDao;
+import net.calvuz.qdue.data.dao.ShiftExceptionDao;
+import net.calvuz.qdue.data.dao.TeamDao;
+import net.calvuz.qdue.data.dao.UserScheduleAssignmentDao;
+import net.calvuz.qdue.data.entities.TeamEntity;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.stubbing.Answer;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+/**
+ * Incremental calendar backup chain: a full snapshot, then deltas of the entities
+ * updated since the previous watermark (minus the overlap) plus the live IDs.
+ * Only the teams table holds data; the DAOs read it from an in-memory map.
+ */
+public class CoreBackupManagerTest {
+
+    private static final String WATERMARK_KEY = "calendar_chain_watermark";
+    private static final long OVERLAP_MS = 5_000;
+
+    @Rule
+    public TemporaryFolder mFolder = new TemporaryFolder();
+
+    private final Map<String, TeamEntity> mTeams = new LinkedHashMap<>();
+    private final Map<String, Object> mPreferences = new HashMap<>();
+    private TeamDao mTeamDao;
+    private CoreBackupManager mManager;
+
+    @Before
+    public void setUp() throws IOException {
+        mTeamDao = mock(TeamDao.class);
+        when(mTeamDao.getAllTeams()).thenAnswer(i -> new ArrayList<>(mTeams.values()));
+        when(mTeamDao.getAllTeamIds()).thenAnswer(i -> new ArrayList<>(mTeams.keySet()));
+        when(mTeamDao.getTeamsUpdatedSince(anyLong())).thenAnswer(i -> {
+            long since = i.getArgument(0);
+            return mTeams.values().stream()
+                    .filter(team -> team.getUpdatedAt() >= since)
+                    .collect(Collectors.toList());
+        });
+
+        CalendarDatabase calendarDatabase = mock(CalendarDatabase.class);
+        when(calendarDatabase.teamDao()).thenReturn(mTeamDao);
+        when(calendarDatabase.shiftDao()).thenReturn(mock(ShiftDao.class));
+        when(calendarDatabase.recurrenceRuleDao()).thenReturn(mock(RecurrenceRuleDao.class));
+        when(calendarDatabase.shiftExceptionDao()).thenReturn(mock(ShiftExceptionDao.class));
+        when(calendarDatabase.userScheduleAssignmentDao()).thenReturn(mock(UserScheduleAssignmentDao.class));
+        when(calendarDatabase.runInTransaction(any(Callable.class))).thenAnswer(i ->
+                i.<Callable<?>>getArgument(0).call());
+
+        Context context = mock(Context.class);
+        File filesDir = mFolder.newFolder("files");
+        SharedPreferences preferences = preferences(mPreferences);
+        when(context.getApplicationContext()).thenReturn(context);
+        when(context.getPackageName()).thenReturn("net.calvuz.qdue");
+        when(context.getFilesDir()).thenReturn(filesDir);
+        when(context.getSharedPreferences(anyString(), anyInt())).thenReturn(preferences);
+
+        mManager = new CoreBackupManager(context, mock(QDueDatabase.class), calendarDatabase);
+    }
+
+    @Test
+    public void testChainOfSnapshotAndDeltasRestoresLatestState() throws IOException {
+        long old = System.currentTimeMillis() - 60_000;
+        putTeam("A", "Team A", old);
+        putTeam("B", "Team B", old);
+        assertSuccess(mManager.createIncrementalCalendarBackup());
+
+        // Rename A, add C
+        long now = System.currentTimeMillis();
+        putTeam("A", "Team A renamed", now);
+        putTeam("C", "Team C", now);
+        assertSuccess(mManager.createIncrementalCalendarBackup());
+
+        // Delete B: only the live IDs record it (A and C may be re-read in the overlap)
+        mTeams.remove("B");
+        assertSuccess(mManager.createIncrementalCalendarBackup());
+
+        List<File> chain = mManager.getLatestCalendarBackupChain();
+        assertEquals(3, chain.size());
+
+        RestoreManager.CalendarChainState state = new RestoreManager.CalendarChainState();
+        for (File file : chain) {
+            state.apply(read(file));
+        }
+        assertEquals(List.of("A", "C"), new ArrayList<>(state.teams.keySet()));
+        assertEquals("Team A renamed", state.teams.get("A").getName());
+
+        CalendarChangeSet deletion = read(chain.get(2));
+        assertEquals(2, deletion.sequence);
+        assertEquals(chain.get(0).getName(), deletion.baseFileName);
+        assertEquals(List.of("A", "C"), deletion.liveIds.teams);
+    }
+
+    @Test
+    public void testNoChangeWritesNoDelta() {
+        putTeam("A", "Team A", System.currentTimeMillis() - 60_000);
+        assertSuccess(mManager.createIncrementalCalendarBackup());
+        assertSuccess(mManager.createIncrementalCalendarBackup());
+
+        assertEquals(1, mManager.getLatestCalendarBackupChain().size());
+    }
+
+    @Test
+    public void testDeltaRereadsWatermarkOverlap() throws IOException {
+        putTeam("A", "Team A", System.currentTimeMillis() - 60_000);
+        assertSuccess(mManager.createIncrementalCalendarBackup());
+        long watermark = (Long) mPreferences.get(WATERMARK_KEY);
+
+        // Committed with an updated_at just before the snapshot watermark, after the snapshot read
+        putTeam("B", "Team B", watermark - OVERLAP_MS + 1_000);
+        assertSuccess(mManager.createIncrementalCalendarBackup());
+
+        verify(mTeamDao).getTeamsUpdatedSince(watermark - OVERLAP_MS);
+        List<File> chain = mManager.getLatestCalendarBackupChain();
+        assertEquals(2, chain.size());
+
+        CalendarChangeSet delta = read(chain.get(1));
+        assertEquals(watermark - OVERLAP_MS, delta.sinceTimestamp);
+        assertEquals(List.of("B"), delta.teams.stream().map(TeamEntity::getId).collect(Collectors.toList()));
+    }
+
+    // ==================== HELPERS ====================
+
+    private void putTeam(String id, String name, long updatedAt) {
+        TeamEntity team = new TeamEntity();
+        team.setId(id);
+        team.setName(name);
+        team.setUpdatedAt(updatedAt);
+        mTeams.put(id, team);
+    }
+
+    private static void assertSuccess(OperationResult<String> result) {
+        assertTrue(result.getErrorMessage(), result.isSuccess());
+    }
+
+    private static CalendarChangeSet read(File file) throws IOException {
+        try (FileReader reader = new FileReader(file)) {
+            return new Gson().fromJson(reader, CalendarChangeSet.class);
+        }
+    }
+
+    /**
+     * Preferences backed by a map
+     */
+    private static SharedPreferences preferences(Map<String, Object> values) {
+        SharedPreferences preferences = mock(SharedPreferences.class);
+        SharedPreferences.Editor editor = mock(SharedPreferences.Editor.class);
+
+        Answer<Object> get = i -> values.getOrDefault(i.<String>getArgument(0), i.getArgument(1));
+        when(preferences.getString(anyString(), any())).thenAnswer(get);
+        when(preferences.getInt(anyString(), anyInt())).thenAnswer(get);
+        when(preferences.getLong(anyString(), anyLong())).thenAnswer(get);
+        when(preferences.getBoolean(anyString(), anyBoolean())).thenAnswer(get);
+        when(preferences.edit()).thenReturn(editor);
+
+        Answer<Object> put = i -> {
+            values.put(i.getArgument(0), i.getArgument(1));
+            return editor;
+        };
+        when(editor.putString(anyString(), any())).thenAnswer(put);
+        when(editor.putInt(anyString(), anyInt())).thenAnswer(put);
+        when(editor.putLong(anyString(), anyLong())).thenAnswer(put);
+        when(editor.putBoolean(anyString(), anyBoolean())).thenAnswer(put);
+        when(editor.commit()).thenReturn(true);
+        return preferences;
+    }
+}
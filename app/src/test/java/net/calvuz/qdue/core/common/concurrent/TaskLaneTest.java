@@ -0,0 +1,139 @@
+package net.calvuz.qdue.core.common.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Inline nesting, cross-lane queueing, cancellation and saturation of task lanes.
+ */
+public class TaskLaneTest {
+
+    @Test
+    public void testNestedJoinOnSingleThreadLaneDoesNotDeadlock() throws Exception {
+        TaskLane lane = new TaskLane( "test", 1, 4, 0 );
+
+        CompletableFuture<Integer> outer = lane.supply(
+                () -> lane.supply( () -> 21, CancellationToken.NONE ).join() * 2, CancellationToken.NONE );
+
+        assertEquals( Integer.valueOf( 42 ), outer.get( 5, TimeUnit.SECONDS ) );
+        assertEquals( 1, lane.getMetrics().inline );
+    }
+
+    @Test
+    public void testCancelledTaskIsSkipped() throws Exception {
+        TaskLane lane = new TaskLane( "test", 1, 4, 0 );
+        CountDownLatch release = new CountDownLatch( 1 );
+        AtomicBoolean ran = new AtomicBoolean( false );
+        CancellationToken token = new CancellationToken();
+
+        lane.execute( () -> awaitQuietly( release ) );
+        CompletableFuture<Void> queued = lane.run( () -> ran.set( true ), token );
+        token.cancel();
+        release.countDown();
+
+        assertTrue( queued.isCancelled() );
+        try {
+            queued.join();
+        } catch (CancellationException expected) {
+            // Expected
+        }
+        lane.run( () -> { }, CancellationToken.NONE ).get( 5, TimeUnit.SECONDS );
+        assertFalse( ran.get() );
+        assertEquals( 1, lane.getMetrics().cancelled );
+    }
+
+    @Test
+    public void testOtherLaneSubmissionIsQueuedOnTargetLane() throws Exception {
+        TaskLane reads = new TaskLane( "reads", 1, 4, 0 );
+        TaskLane writes = new TaskLane( "writes", 1, 4, 0 );
+
+        String writerThread = reads.supply(
+                () -> writes.supply( () -> Thread.currentThread().getName(), CancellationToken.NONE ).join(),
+                CancellationToken.NONE ).get( 5, TimeUnit.SECONDS );
+
+        assertEquals( "QDue-writes-1", writerThread );
+        assertEquals( 0, writes.getMetrics().inline );
+    }
+
+    @Test
+    public void testFullQueueRejectsOtherThreadsWithoutWaiting() throws Exception {
+        TaskLane lane = new TaskLane( "test", 1, 1, 0 );
+        CountDownLatch release = saturate( lane );
+
+        AtomicBoolean ran = new AtomicBoolean( false );
+        long startedAt = System.nanoTime();
+        CompletableFuture<Void> rejected = lane.run( () -> ran.set( true ), CancellationToken.NONE );
+        long waitedMs = TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - startedAt );
+        release.countDown();
+
+        assertTrue( rejected.isCompletedExceptionally() );
+        try {
+            rejected.join();
+            fail( "Saturated lane accepted the task" );
+        } catch (CompletionException expected) {
+            assertTrue( expected.getCause() instanceof RejectedExecutionException );
+        }
+        assertTrue( "Submitter waited " + waitedMs + "ms", waitedMs < 1000 );
+        assertFalse( ran.get() );
+        assertEquals( 1, lane.getMetrics().rejected );
+        assertEquals( 0, lane.getMetrics().callerRuns );
+    }
+
+    @Test
+    public void testFullQueueRunsOnSubmittingWorker() throws Exception {
+        TaskLane lane = new TaskLane( "test", 1, 1, 0 );
+        TaskLane producer = new TaskLane( "producer", 1, 1, 0 );
+        CountDownLatch release = saturate( lane );
+
+        boolean ranOnProducer = producer.supply( () -> {
+            Thread worker = Thread.currentThread();
+            AtomicBoolean ran = new AtomicBoolean( false );
+            lane.execute( () -> ran.set( Thread.currentThread() == worker ) );
+            return ran.get();
+        }, CancellationToken.NONE ).get( 5, TimeUnit.SECONDS );
+        release.countDown();
+
+        assertTrue( ranOnProducer );
+        assertEquals( 1, lane.getMetrics().callerRuns );
+    }
+
+    // ==================== HELPERS ====================
+
+    /**
+     * Occupy the lane's only worker and fill its one-slot queue.
+     *
+     * @return Latch releasing the worker
+     */
+    private static CountDownLatch saturate(TaskLane lane) throws InterruptedException {
+        CountDownLatch release = new CountDownLatch( 1 );
+        CountDownLatch started = new CountDownLatch( 1 );
+
+        lane.execute( () -> {
+            started.countDown();
+            awaitQuietly( release );
+        } );
+        assertTrue( started.await( 5, TimeUnit.SECONDS ) );
+        lane.execute( () -> { } );
+        return release;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await( 5, TimeUnit.SECONDS );
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package net.calvuz.qdue.core.common.i18n.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.content.Context;
+import android.content.res.Resources;
+
+import net.calvuz.qdue.core.common.i18n.LocaleManager;
+import net.calvuz.qdue.domain.common.i18n.DomainLocalizer;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Locale;
+
+/**
+ * Resolved-string cache of DomainLocalizerImpl: lookups happen once per locale version.
+ */
+public class DomainLocalizerImplTest {
+
+    private static final int DAILY_ID = 42;
+
+    private Context mContext;
+    private Resources mResources;
+    private Context mItalianContext;
+    private LocaleManager mLocaleManager;
+    private DomainLocalizerImpl mLocalizer;
+
+    @Before
+    public void setUp() {
+        mContext = mock(Context.class);
+        mResources = mock(Resources.class);
+        mItalianContext = mock(Context.class);
+        mLocaleManager = mock(LocaleManager.class);
+
+        when(mContext.getApplicationContext()).thenReturn(mContext);
+        when(mContext.getResources()).thenReturn(mResources);
+        when(mContext.getPackageName()).thenReturn("net.calvuz.qdue");
+        when(mResources.getIdentifier(anyString(), eq("string"), anyString())).thenReturn(0);
+        when(mResources.getIdentifier(eq("domain_recurrence_frequency_daily"), eq("string"), anyString()))
+                .thenReturn(DAILY_ID);
+
+        when(mItalianContext.getString(DAILY_ID)).thenReturn("Giornaliera");
+        when(mLocaleManager.getLocaleVersion()).thenReturn(0);
+        when(mLocaleManager.getCurrentLocale()).thenReturn(Locale.ITALIAN);
+        when(mLocaleManager.updateContextLocale(any(Context.class))).thenReturn(mItalianContext);
+
+        mLocalizer = new DomainLocalizerImpl(mContext, mLocaleManager);
+    }
+
+    @Test
+    public void testRepeatedLookupsResolveOnce() {
+        DomainLocalizer recurrence = mLocalizer.scope("recurrence");
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals("Giornaliera", recurrence.localize("frequency.daily"));
+        }
+
+        verify(mLocaleManager, times(1)).updateContextLocale(any(Context.class));
+        verify(mResources, times(1)).getIdentifier(eq("domain_recurrence_frequency_daily"), eq("string"), anyString());
+        verify(mItalianContext, times(1)).getString(DAILY_ID);
+    }
+
+    @Test
+    public void testScopesAreReused() {
+        assertSame(mLocalizer.scope("recurrence"), mLocalizer.scope("recurrence"));
+    }
+
+    @Test
+    public void testMissingKeyReturnsFallback() {
+        DomainLocalizerImpl recurrence = (DomainLocalizerImpl) mLocalizer.scope("recurrence");
+
+        assertEquals("Unknown", recurrence.localize("frequency.unknown", "Unknown"));
+        assertEquals("Other", recurrence.localize("frequency.unknown", "Other"));
+        verify(mLocaleManager, times(0)).updateContextLocale(any(Context.class));
+    }
+
+    @Test
+    public void testLocaleChangeInvalidatesTemplates() {
+        DomainLocalizer recurrence = mLocalizer.scope("recurrence");
+        assertEquals("Giornaliera", recurrence.localize("frequency.daily"));
+
+        Context englishContext = mock(Context.class);
+        when(englishContext.getString(DAILY_ID)).thenReturn("Daily");
+        when(mLocaleManager.updateContextLocale(any(Context.class))).thenReturn(englishContext);
+        when(mLocaleManager.getLocaleVersion()).thenReturn(1);
+
+        assertEquals("Daily", recurrence.localize("frequency.daily"));
+        assertEquals("Daily", recurrence.localize("frequency.daily"));
+        verify(mLocaleManager, times(2)).updateContextLocale(any(Context.class));
+    }
+}
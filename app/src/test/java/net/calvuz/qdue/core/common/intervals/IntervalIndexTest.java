@@ -0,0 +1,127 @@
+package net.calvuz.qdue.core.common.intervals;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * IntervalIndex queries and sweep against a brute-force overlap check.
+ */
+public class IntervalIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+    private static final class Range {
+        final String id;
+        final LocalDateTime start;
+        final LocalDateTime end;
+
+        Range(String id, int startHour, int endHour) {
+            this.id = id;
+            this.start = BASE.plusHours(startHour);
+            this.end = BASE.plusHours(endHour);
+        }
+
+        LocalDateTime getStart() {
+            return start;
+        }
+
+        LocalDateTime getEnd() {
+            return end;
+        }
+    }
+
+    @Test
+    public void testTouchingRangesDoNotOverlap() {
+        IntervalIndex<Range> index = IntervalIndex.of(
+                Arrays.asList(new Range("a", 8, 12), new Range("b", 14, 16)), Range::getStart, Range::getEnd);
+
+        assertTrue(index.findOverlapping(BASE.plusHours(12), BASE.plusHours(14)).isEmpty());
+        assertEquals(2, index.findIntersecting(BASE.plusHours(12), BASE.plusHours(14)).size());
+        assertTrue(index.hasOverlapping(BASE.plusHours(11), BASE.plusHours(15)));
+    }
+
+    @Test
+    public void testQueriesMatchBruteForce() {
+        Random random = new Random(17);
+        List<Range> ranges = randomRanges(random, 500);
+        IntervalIndex<Range> index = IntervalIndex.of(ranges, Range::getStart, Range::getEnd);
+
+        for (int i = 0; i < 200; i++) {
+            int from = random.nextInt(1000);
+            LocalDateTime queryStart = BASE.plusHours(from);
+            LocalDateTime queryEnd = BASE.plusHours(from + 1 + random.nextInt(48));
+
+            Set<String> expected = new HashSet<>();
+            for (Range range : ranges) {
+                if (range.start.isBefore(queryEnd) && range.end.isAfter(queryStart)) {
+                    expected.add(range.id);
+                }
+            }
+            assertEquals(expected, ids(index.findOverlapping(queryStart, queryEnd)));
+        }
+    }
+
+    @Test
+    public void testSweepReportsEachPairOnce() {
+        List<Range> ranges = randomRanges(new Random(3), 300);
+
+        Set<String> expected = new HashSet<>();
+        for (int i = 0; i < ranges.size(); i++) {
+            for (int j = i + 1; j < ranges.size(); j++) {
+                Range a = ranges.get(i);
+                Range b = ranges.get(j);
+                if (a.start.isBefore(b.end) && b.start.isBefore(a.end)) {
+                    expected.add(pairKey(a, b));
+                }
+            }
+        }
+
+        List<String> reported = new ArrayList<>();
+        IntervalIndex.sweep(ranges, Range::getStart, Range::getEnd, (a, b) -> reported.add(pairKey(a, b)));
+
+        assertEquals(expected.size(), reported.size());
+        assertEquals(expected, new HashSet<>(reported));
+    }
+
+    @Test
+    public void testEmptyIndex() {
+        IntervalIndex<Range> index = IntervalIndex.of(new ArrayList<>(), Range::getStart, Range::getEnd);
+
+        assertTrue(index.isEmpty());
+        assertFalse(index.hasOverlapping(BASE, BASE.plusDays(1)));
+    }
+
+    // ==================== HELPERS ====================
+
+    private static List<Range> randomRanges(Random random, int count) {
+        List<Range> ranges = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int start = random.nextInt(1000);
+            ranges.add(new Range("r" + i, start, start + 1 + random.nextInt(24)));
+        }
+        return ranges;
+    }
+
+    private static Set<String> ids(List<Range> ranges) {
+        Set<String> ids = new HashSet<>();
+        for (Range range : ranges) {
+            ids.add(range.id);
+        }
+        return ids;
+    }
+
+    private static String pairKey(Range a, Range b) {
+        return a.id.compareTo(b.id) < 0 ? a.id + "|" + b.id : b.id + "|" + a.id;
+    }
+}
@@ -0,0 +1,83 @@
+package net.calvuz.qdue.core.common.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * LatencyHistogram precision and Metrics registry readings and export.
+ */
+public class MetricsTest {
+
+    @Test
+    public void bucketsCoverEveryValueOnce() {
+        long[] values = {0, 1, 31, 32, 33, 63, 64, 1_000, 123_456_789L, LatencyHistogram.MAX_TRACKABLE_VALUE};
+        for (long value : values) {
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(value <= LatencyHistogram.highestValueOf(index));
+            assertTrue(index == 0 || value > LatencyHistogram.highestValueOf(index - 1));
+        }
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.indexOf(LatencyHistogram.MAX_TRACKABLE_VALUE));
+    }
+
+    @Test
+    public void percentilesAreWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 1_000; micros++) {
+            histogram.record(micros * 1_000);
+        }
+
+        assertEquals(1_000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMax());
+        assertEquals(500_500.0, histogram.getMean(), 0.001);
+        assertWithin(500_000, histogram.getValueAtPercentile(50));
+        assertWithin(950_000, histogram.getValueAtPercentile(95));
+        assertWithin(990_000, histogram.getValueAtPercentile(99));
+        assertEquals(1_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void emptyAndResetHistogramsReadZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(99));
+
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(LatencyHistogram.MAX_TRACKABLE_VALUE, histogram.getMax());
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0.0, histogram.getMean(), 0.0);
+    }
+
+    @Test
+    public void registryRecordsAndExports() {
+        Metrics metrics = new Metrics();
+        try (TraceSection section = metrics.timer("repo.test").start()) {
+            section.close(); // closing twice records once
+        }
+        metrics.getCache("test_cache").record(true);
+        metrics.getCache("test_cache").record(true);
+        metrics.getCache("test_cache").record(false);
+        metrics.getCounter("test.count").add(3);
+
+        assertEquals(1, metrics.timer("repo.test").getHistogram().getCount());
+        assertEquals(2.0 / 3, metrics.getCache("test_cache").getHitRate(), 1e-9);
+
+        String json = metrics.toJson();
+        assertTrue(json.contains("\"repo.test\""));
+        assertTrue(json.contains("\"p99_ms\""));
+        assertTrue(json.contains("\"hits\": 2"));
+        assertTrue(json.contains("\"test.count\": 3"));
+
+        metrics.reset();
+        assertEquals(0, metrics.getCounter("test.count").get());
+        assertEquals(0.0, metrics.getCache("test_cache").getHitRate(), 0.0);
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(actual + " not within 1/16 of " + expected,
+                actual >= expected && actual <= expected + expected / 16);
+    }
+}
@@ -0,0 +1,83 @@
+package net.calvuz.qdue.core.db.changes;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DataChange range merging and lookups, and DataChangeBus delivery by kind.
+ */
+public class DataChangeBusTest {
+
+    private static final LocalDate MARCH_10 = LocalDate.of(2025, 3, 10);
+
+    @Test
+    public void changeTouchesOnlyItsDays() {
+        DataChange change = new DataChange.Builder(DataChange.Kind.EVENTS)
+                .addDays(MARCH_10.toEpochDay(), MARCH_10.plusDays(2).toEpochDay())
+                .addDays(MARCH_10.plusDays(3).toEpochDay(), MARCH_10.plusDays(3).toEpochDay())
+                .addDays(MARCH_10.plusMonths(2).toEpochDay(), MARCH_10.plusMonths(2).toEpochDay())
+                .build();
+
+        assertEquals("DataChange{EVENTS, 2025-03-10..2025-03-13 2025-05-10..2025-05-10}", change.toString());
+        assertTrue(change.touches(MARCH_10.plusDays(3)));
+        assertFalse(change.touches(MARCH_10.plusDays(4)));
+        assertTrue(change.touches(YearMonth.of(2025, 3)));
+        assertFalse(change.touches(YearMonth.of(2025, 4)));
+        assertTrue(change.touches(YearMonth.of(2025, 5)));
+        assertTrue(change.touches(LocalDate.of(2025, 4, 1), LocalDate.of(2025, 5, 10)));
+        assertFalse(change.touches(LocalDate.of(2025, 3, 14), LocalDate.of(2025, 5, 9)));
+    }
+
+    @Test
+    public void openEndedAndAllChanges() {
+        DataChange fromMarch = DataChange.ofDates(DataChange.Kind.WORK_SCHEDULE, MARCH_10, null);
+
+        assertFalse(fromMarch.touches(YearMonth.of(2025, 2)));
+        assertTrue(fromMarch.touches(YearMonth.of(2030, 1)));
+        assertTrue(DataChange.all(DataChange.Kind.EVENTS).touches(MARCH_10));
+        assertTrue(new DataChange.Builder(DataChange.Kind.EVENTS).build().isEmpty());
+    }
+
+    @Test
+    public void busDeliversSubscribedKindsOnly() {
+        DataChangeBus bus = new DataChangeBus();
+        List<DataChange> localEvents = new ArrayList<>();
+        List<DataChange> everything = new ArrayList<>();
+        bus.subscribe(Runnable::run, localEvents::add, DataChange.Kind.LOCAL_EVENTS);
+        bus.subscribe(Runnable::run, everything::add);
+
+        bus.publish(DataChange.ofDates(DataChange.Kind.LOCAL_EVENTS, MARCH_10, MARCH_10));
+        bus.publish(DataChange.all(DataChange.Kind.WORK_SCHEDULE));
+        bus.publish(new DataChange.Builder(DataChange.Kind.LOCAL_EVENTS).build());
+
+        assertEquals(1, localEvents.size());
+        assertEquals(2, everything.size());
+    }
+
+    @Test
+    public void unsubscribeDropsPendingDeliveries() {
+        DataChangeBus bus = new DataChangeBus();
+        List<Runnable> queued = new ArrayList<>();
+        List<DataChange> received = new ArrayList<>();
+        DataChangeBus.Listener listener = received::add;
+        bus.subscribe(queued::add, listener);
+
+        bus.publish(DataChange.all(DataChange.Kind.EVENTS));
+        bus.unsubscribe(listener);
+        bus.publish(DataChange.all(DataChange.Kind.EVENTS));
+        for (Runnable delivery : queued) {
+            delivery.run();
+        }
+
+        assertEquals(1, queued.size());
+        assertTrue(received.isEmpty());
+    }
+}
@@ -0,0 +1,58 @@
+package net.calvuz.qdue.core.db.converters;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Epoch encoding of event and exception times.
+ */
+public class EpochTypeConvertersTest {
+
+    @Test
+    public void testDateTimeRoundTripIsWallClock() {
+        LocalDateTime time = LocalDateTime.of(2025, 3, 30, 2, 30, 15);
+
+        // 2025-03-30T02:30 does not exist in Europe/Rome: no zone must be applied
+        assertEquals(Long.valueOf(1743301815L), EpochTypeConverters.fromLocalDateTime(time));
+        assertEquals(time, EpochTypeConverters.toLocalDateTime(EpochTypeConverters.fromLocalDateTime(time)));
+    }
+
+    @Test
+    public void testDateTimeDropsSubSecondPrecision() {
+        LocalDateTime time = LocalDateTime.of(2025, 1, 1, 8, 0, 0, 999_000_000);
+
+        assertEquals(time.withNano(0), EpochTypeConverters.toLocalDateTime(EpochTypeConverters.fromLocalDateTime(time)));
+    }
+
+    @Test
+    public void testEncodingPreservesOrder() {
+        LocalDateTime earlier = LocalDateTime.of(1969, 12, 31, 23, 59);
+        LocalDateTime later = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+        assertTrue(EpochTypeConverters.fromLocalDateTime(earlier) < EpochTypeConverters.fromLocalDateTime(later));
+        assertTrue(EpochTypeConverters.fromLocalDate(earlier.toLocalDate())
+                < EpochTypeConverters.fromLocalDate(later.toLocalDate()));
+    }
+
+    @Test
+    public void testDateRoundTrip() {
+        LocalDate date = LocalDate.of(2025, 1, 1);
+
+        assertEquals(Long.valueOf(20089L), EpochTypeConverters.fromLocalDate(date));
+        assertEquals(date, EpochTypeConverters.toLocalDate(20089L));
+    }
+
+    @Test
+    public void testNullsPassThrough() {
+        assertNull(EpochTypeConverters.fromLocalDateTime(null));
+        assertNull(EpochTypeConverters.toLocalDateTime(null));
+        assertNull(EpochTypeConverters.fromLocalDate(null));
+        assertNull(EpochTypeConverters.toLocalDate(null));
+    }
+}
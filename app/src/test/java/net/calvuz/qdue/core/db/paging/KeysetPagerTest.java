@@ -0,0 +1,205 @@
+package net.calvuz.qdue.core.db.paging;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import androidx.annotation.NonNull;
+
+import net.calvuz.qdue.events.dao.EventDao;
+
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * KeysetPager paging, prefetch and query replacement over an in-memory ordered table,
+ * and the events list keyset over SQLite.
+ */
+public class KeysetPagerTest {
+
+    private static final List<Integer> ROWS = IntStream.range(0, 25).boxed().collect(Collectors.toList());
+
+    private final Map<Integer, Long> mStarts = new HashMap<>();
+    private final List<Integer> mShown = new ArrayList<>();
+    private final List<Integer> mLimits = new ArrayList<>();
+    private int mPages;
+    private int mFailures;
+    private boolean mHasMore;
+
+    private final KeysetPager.Listener<Integer> mListener = new KeysetPager.Listener<Integer>() {
+        @Override
+        public void onPageLoaded(@NonNull List<Integer> page, boolean firstPage, boolean hasMore) {
+            if (firstPage) {
+                mShown.clear();
+            }
+            mShown.addAll(page);
+            mPages++;
+            mHasMore = hasMore;
+        }
+
+        @Override
+        public void onPageFailed(@NonNull Throwable error, boolean firstPage) {
+            mFailures++;
+        }
+    };
+
+    @Test
+    public void testPagesFollowTheKeyUntilExhausted() {
+        KeysetPager<Integer> pager = new KeysetPager<>(10, 3, Runnable::run, mListener);
+
+        pager.reset(this::loadAfter);
+        assertEquals(ROWS.subList(0, 10), mShown);
+        assertTrue(mHasMore);
+
+        pager.loadNextPage();
+        pager.loadNextPage();
+        pager.loadNextPage();
+
+        assertEquals(ROWS, mShown);
+        assertEquals(3, mPages);
+        assertFalse(mHasMore);
+        assertFalse(pager.hasMore());
+        assertEquals(List.of(11, 11, 11), mLimits);
+    }
+
+    @Test
+    public void testPrefetchNearTheEndOfLoadedRows() {
+        KeysetPager<Integer> pager = new KeysetPager<>(10, 3, Runnable::run, mListener);
+        pager.reset(this::loadAfter);
+
+        pager.onItemVisible(5, mShown.size());
+        assertEquals(1, mPages);
+
+        pager.onItemVisible(6, mShown.size());
+        assertEquals(2, mPages);
+        assertEquals(20, mShown.size());
+    }
+
+    @Test
+    public void testResetDropsPagesOfThePreviousQuery() {
+        List<CompletableFuture<List<Integer>>> pending = new ArrayList<>();
+        KeysetPager<Integer> pager = new KeysetPager<>(10, 3, Runnable::run, mListener);
+
+        pager.reset((last, limit) -> {
+            CompletableFuture<List<Integer>> future = new CompletableFuture<>();
+            pending.add(future);
+            return future;
+        });
+        assertTrue(pager.isLoading());
+
+        pager.reset(this::loadAfter);
+        pending.get(0).complete(List.of(100, 101));
+
+        assertEquals(ROWS.subList(0, 10), mShown);
+        assertEquals(1, mPages);
+    }
+
+    @Test
+    public void testFailedPageIsLoadedAgain() {
+        KeysetPager<Integer> pager = new KeysetPager<>(10, 3, Runnable::run, mListener);
+        boolean[] fail = {true};
+
+        pager.reset((last, limit) -> {
+            if (fail[0]) {
+                CompletableFuture<List<Integer>> failed = new CompletableFuture<>();
+                failed.completeExceptionally(new IllegalStateException("disk I/O error"));
+                return failed;
+            }
+            return loadAfter(last, limit);
+        });
+        assertEquals(1, mFailures);
+        assertTrue(pager.hasMore());
+
+        fail[0] = false;
+        pager.loadNextPage();
+        assertEquals(ROWS.subList(0, 10), mShown);
+    }
+
+    @Test
+    public void testEventsKeysetPagesUndatedEventsOnce() throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE events (id TEXT NOT NULL PRIMARY KEY, start_time INTEGER)");
+                statement.execute("CREATE INDEX index_events_start_time_id ON events (start_time, id)");
+            }
+            // Every third event has no start time, more than a page of them
+            for (int id : ROWS) {
+                Long start = id % 3 == 0 ? null : (long) (ROWS.size() - id) / 2 * 3600;
+                mStarts.put(id, start);
+                try (PreparedStatement insert = connection.prepareStatement(
+                        "INSERT INTO events (id, start_time) VALUES (?, ?)")) {
+                    insert.setString(1, key(id));
+                    insert.setObject(2, start);
+                    insert.executeUpdate();
+                }
+            }
+
+            KeysetPager<Integer> pager = new KeysetPager<>(4, 1, Runnable::run, mListener);
+            pager.reset((last, limit) -> loadEventsAfter(connection, last, limit));
+            for (int page = 0; page < ROWS.size() && pager.hasMore(); page++) {
+                pager.loadNextPage();
+            }
+
+            // Undated events first by ID, then by start time and ID
+            List<Integer> expected = new ArrayList<>(ROWS);
+            expected.sort(Comparator.comparing((Integer id) -> mStarts.get(id),
+                    Comparator.nullsFirst(Comparator.<Long>naturalOrder())).thenComparing(this::key));
+            assertEquals(expected, mShown);
+            assertEquals(0, mFailures);
+        }
+    }
+
+    // ==================== HELPERS ====================
+
+    // SELECT ... WHERE row > :last ORDER BY row LIMIT :limit
+    private CompletableFuture<List<Integer>> loadAfter(Integer last, int limit) {
+        mLimits.add(limit);
+        return CompletableFuture.completedFuture(ROWS.stream()
+                .filter(row -> last == null || row > last)
+                .limit(limit)
+                .collect(Collectors.toList()));
+    }
+
+    // EventDao.getEventsPage: the key condition depends on whether the last event has a start time
+    private CompletableFuture<List<Integer>> loadEventsAfter(Connection connection, Integer last, int limit) {
+        String condition = last == null ? "1"
+                : mStarts.get(last) == null ? EventDao.AFTER_UNDATED_KEY : EventDao.AFTER_DATED_KEY;
+        List<Integer> page = new ArrayList<>();
+        try (PreparedStatement query = connection.prepareStatement("SELECT id FROM events WHERE " + condition +
+                " ORDER BY start_time ASC, id ASC LIMIT " + limit)) {
+            // Named parameters are numbered by first appearance: :afterStart, then :afterId
+            if (last != null && mStarts.get(last) != null) {
+                query.setLong(1, mStarts.get(last));
+                query.setString(2, key(last));
+            } else if (last != null) {
+                query.setString(1, key(last));
+            }
+            try (ResultSet resultSet = query.executeQuery()) {
+                while (resultSet.next()) {
+                    page.add(Integer.parseInt(resultSet.getString(1)));
+                }
+            }
+        } catch (SQLException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return CompletableFuture.completedFuture(page);
+    }
+
+    private String key(int id) {
+        return String.format("%02d", id);
+    }
+}
@@ -0,0 +1,78 @@
+package net.calvuz.qdue.core.db.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Query building and matchinfo ranking of FtsSearch.
+ */
+public class FtsSearchTest {
+
+    @Test
+    public void testPrefixQueryEscapesOperators() {
+        assertEquals("turno* nott*", FtsSearch.prefixQuery("Turno \"NOTT\" -"));
+        assertEquals("title:ferie* title:2025*", FtsSearch.prefixQuery("ferie:2025", "title"));
+        assertNull(FtsSearch.prefixQuery("  * - \" "));
+    }
+
+    @Test
+    public void testTitleHitsRankAboveDescriptionHits() {
+        // One term, three columns, 10 rows; the term is in 2 rows
+        FtsMatch inDescription = match("b", 1, new int[]{0, 1, 0}, 10, 2);
+        FtsMatch inTitle = match("a", 1, new int[]{1, 0, 0}, 10, 2);
+
+        List<String> ranked = FtsSearch.rankIds(Arrays.asList(inDescription, inTitle), 10);
+
+        assertEquals(Arrays.asList("a", "b"), ranked);
+    }
+
+    @Test
+    public void testRankIdsHonorsLimit() {
+        FtsMatch first = match("a", 1, new int[]{2, 0, 0}, 10, 2);
+        FtsMatch second = match("b", 1, new int[]{1, 0, 0}, 10, 2);
+
+        assertEquals(Arrays.asList("a"), FtsSearch.rankIds(Arrays.asList(second, first), 1));
+        assertTrue(FtsSearch.rankIds(Arrays.asList(first, second), 0).isEmpty());
+    }
+
+    @Test
+    public void testInRankOrderDropsMissingRows() {
+        List<String> ids = Arrays.asList("c", "a", "b");
+        List<String> rows = Arrays.asList("a", "c");
+
+        assertEquals(Arrays.asList("c", "a"), FtsSearch.inRankOrder(ids, rows, row -> row));
+    }
+
+    @Test
+    public void testScoreOfMalformedBlobIsZero() {
+        assertEquals(0.0, FtsSearch.score(null), 0.0);
+        assertEquals(0.0, FtsSearch.score(new byte[4]), 0.0);
+    }
+
+    /**
+     * Build a matchinfo 'pcnx' blob for one row.
+     */
+    private static FtsMatch match(String id, int terms, int[] hitsPerColumn, int rows, int rowsWithHits) {
+        int columns = hitsPerColumn.length;
+        ByteBuffer buffer = ByteBuffer.allocate(4 * (3 + terms * columns * 3)).order(ByteOrder.nativeOrder());
+        buffer.putInt(terms).putInt(columns).putInt(rows);
+        for (int term = 0; term < terms; term++) {
+            for (int hits : hitsPerColumn) {
+                buffer.putInt(hits).putInt(hits).putInt(hits > 0 ? rowsWithHits : 0);
+            }
+        }
+
+        FtsMatch match = new FtsMatch();
+        match.id = id;
+        match.matchInfo = buffer.array();
+        return match;
+    }
+}
@@ -0,0 +1,174 @@
+package net.calvuz.qdue.core.db.summary;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import net.calvuz.qdue.events.models.EventPriority;
+import net.calvuz.qdue.events.models.EventType;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sqlite.ProgressHandler;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DaySummaryIndex triggers on an in-memory SQLite events table: summaries match a
+ * full rebuild, and the work of a write does not grow with the earlier events.
+ */
+public class DaySummaryIndexTest {
+
+    private static final long DAY = 86400;
+    private static final long TODAY = 20_000;
+
+    private final DaySummaryIndex mIndex = new DaySummaryIndex(
+            "event_day_summary", "events",
+            "event_type", EventType.values(), EventType.GENERAL,
+            "priority", EventPriority.values(), EventPriority.NORMAL,
+            "all_day");
+
+    private Connection mConnection;
+    private int mNextId;
+
+    @Before
+    public void setUp() throws SQLException {
+        mConnection = DriverManager.getConnection("jdbc:sqlite::memory:");
+        execute("CREATE TABLE events (id TEXT NOT NULL PRIMARY KEY, start_time INTEGER, end_time INTEGER, " +
+                "event_type TEXT, priority TEXT, all_day INTEGER NOT NULL)");
+        execute("CREATE INDEX index_events_start_time_id ON events (start_time, id)");
+        execute("CREATE INDEX index_events_time_range ON events (start_time, end_time)");
+        execute(mIndex.tableStatement());
+        for (String statement : mIndex.triggerStatements()) {
+            execute(statement);
+        }
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        mConnection.close();
+    }
+
+    @Test
+    public void testTriggersMatchRebuild() throws SQLException {
+        insertEvent(TODAY * DAY + 3600, TODAY * DAY + 7200, "MEETING", "HIGH", false);
+        insertEvent(TODAY * DAY, (TODAY + 2) * DAY + 3600, "TRAINING", "LOW", true);
+        insertEvent((TODAY + 1) * DAY, null, "GENERAL", "NORMAL", false);
+        // Longer than MAX_SPAN_DAYS: counts only on its first days, as in the rebuild
+        insertEvent((TODAY - DaySummaryIndex.MAX_SPAN_DAYS - 10) * DAY, (TODAY + 1) * DAY, "GENERAL", "URGENT", true);
+        execute("UPDATE events SET start_time = start_time + " + DAY + " WHERE id = 'event_0'");
+        execute("DELETE FROM events WHERE id = 'event_2'");
+
+        List<String> maintained = readSummary();
+        for (String statement : mIndex.rebuildStatements()) {
+            execute(statement);
+        }
+
+        assertEquals(readSummary(), maintained);
+        assertEquals(DaySummaryIndex.MAX_SPAN_DAYS + 1 + 3, maintained.size());
+    }
+
+    @Test
+    public void testWriteCostDoesNotGrowWithEarlierEvents() throws SQLException {
+        long fewEarlier = insertCostAfterEarlierEvents(10);
+        long manyEarlier = insertCostAfterEarlierEvents(5_000);
+
+        // An unbounded seek would visit every earlier event, thousands of VM steps
+        assertTrue("VM steps " + fewEarlier + " -> " + manyEarlier, manyEarlier - fewEarlier < 100);
+    }
+
+    @Test
+    public void testTriggerCountSeesDestructiveMigration() throws SQLException {
+        assertEquals(3, queryLong(mIndex.triggerCountStatement()));
+
+        // Dropping the events table drops its triggers; Room then creates the bare table
+        execute("DROP TABLE events");
+        execute("CREATE TABLE events (id TEXT NOT NULL PRIMARY KEY, start_time INTEGER, end_time INTEGER, " +
+                "event_type TEXT, priority TEXT, all_day INTEGER NOT NULL)");
+        assertEquals(0, queryLong(mIndex.triggerCountStatement()));
+
+        for (String statement : mIndex.triggerStatements()) {
+            execute(statement);
+        }
+        assertEquals(3, queryLong(mIndex.triggerCountStatement()));
+    }
+
+    // ==================== HELPERS ====================
+
+    /**
+     * Insert one-day events starting more than MAX_SPAN_DAYS ago, then count the
+     * SQLite VM steps of inserting an event today.
+     */
+    private long insertCostAfterEarlierEvents(int earlier) throws SQLException {
+        execute("DELETE FROM events");
+        mConnection.setAutoCommit(false);
+        for (int i = 0; i < earlier; i++) {
+            long start = (TODAY - DaySummaryIndex.MAX_SPAN_DAYS - 1 - i % 1000) * DAY;
+            insertEvent(start, start + 3600, "GENERAL", "NORMAL", false);
+        }
+        mConnection.commit();
+        mConnection.setAutoCommit(true);
+
+        long[] steps = {0};
+        ProgressHandler.setHandler(mConnection, 1, new ProgressHandler() {
+            @Override
+            protected int progress() {
+                steps[0]++;
+                return 0;
+            }
+        });
+        try {
+            insertEvent(TODAY * DAY + 3600, TODAY * DAY + 7200, "MEETING", "HIGH", false);
+        } finally {
+            ProgressHandler.clearHandler(mConnection);
+        }
+        return steps[0];
+    }
+
+    private void insertEvent(long start, Long end, String type, String priority, boolean allDay) throws SQLException {
+        try (PreparedStatement insert = mConnection.prepareStatement(
+                "INSERT INTO events (id, start_time, end_time, event_type, priority, all_day) VALUES (?, ?, ?, ?, ?, ?)")) {
+            insert.setString(1, "event_" + mNextId++);
+            insert.setLong(2, start);
+            insert.setObject(3, end);
+            insert.setString(4, type);
+            insert.setString(5, priority);
+            insert.setInt(6, allDay ? 1 : 0);
+            insert.executeUpdate();
+        }
+    }
+
+    private List<String> readSummary() throws SQLException {
+        List<String> rows = new ArrayList<>();
+        try (Statement statement = mConnection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT day, event_count, max_priority, type_mask, " +
+                     "has_all_day FROM event_day_summary ORDER BY day")) {
+            while (resultSet.next()) {
+                rows.add(resultSet.getLong(1) + ":" + resultSet.getInt(2) + ":" + resultSet.getInt(3) + ":" +
+                        resultSet.getLong(4) + ":" + resultSet.getInt(5));
+            }
+        }
+        return rows;
+    }
+
+    private long queryLong(String sql) throws SQLException {
+        try (Statement statement = mConnection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement statement = mConnection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package net.calvuz.qdue.data.repositories;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import net.calvuz.qdue.domain.calendar.models.WorkScheduleDay;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+
+/**
+ * Tests for the bounded schedule cache and its targeted invalidation.
+ */
+public class ScheduleCacheTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 1);
+
+    /**
+     * Keys are compared by value, and the uncovered day status is part of the key.
+     */
+    @Test
+    public void testGetReturnsStoredDay() {
+        ScheduleCache cache = new ScheduleCache();
+        WorkScheduleDay day = WorkScheduleDay.builder(DAY).build();
+
+        cache.put(new String("user-1"), day, null, "rule-1", cache.generation());
+
+        assertSame(day, cache.get("user-1", LocalDate.of(2025, 3, 1), null));
+        assertNull(cache.get("user-1", DAY, WorkScheduleDay.DayStatus.REST_DAY));
+        assertNull(cache.get("user-2", DAY, null));
+        assertEquals(1L, cache.getStatistics().get("hits"));
+        assertEquals(2L, cache.getStatistics().get("misses"));
+    }
+
+    /**
+     * The least recently used days are evicted once the weight bound is exceeded.
+     */
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        ScheduleCache cache = new ScheduleCache(3);
+        for (int i = 0; i < 3; i++) {
+            cache.put("user-1", WorkScheduleDay.builder(DAY.plusDays(i)).build(), null, null, cache.generation());
+        }
+
+        // Touch the first day, then overflow
+        assertNotNull(cache.get("user-1", DAY, null));
+        cache.put("user-1", WorkScheduleDay.builder(DAY.plusDays(3)).build(), null, null, cache.generation());
+
+        assertEquals(3, cache.size());
+        assertNotNull(cache.get("user-1", DAY, null));
+        assertNull(cache.get("user-1", DAY.plusDays(1), null));
+        assertEquals(1L, cache.getStatistics().get("evictions"));
+    }
+
+    /**
+     * Invalidation only drops the matching user, dates and rule.
+     */
+    @Test
+    public void testTargetedInvalidation() {
+        ScheduleCache cache = new ScheduleCache();
+        for (int i = 0; i < 10; i++) {
+            LocalDate date = DAY.plusDays(i);
+            cache.put("user-1", WorkScheduleDay.builder(date).build(), null, "rule-1", cache.generation());
+            cache.put("user-2", WorkScheduleDay.builder(date).build(), null, "rule-2", cache.generation());
+        }
+
+        cache.invalidateUserDates("user-1", DAY.plusDays(2), DAY.plusDays(4));
+        assertEquals(17, cache.size());
+        assertNull(cache.get("user-1", DAY.plusDays(3), null));
+        assertNotNull(cache.get("user-2", DAY.plusDays(3), null));
+
+        cache.invalidateRule("rule-2");
+        assertEquals(7, cache.size());
+
+        cache.invalidateUser("user-1");
+        assertEquals(0, cache.size());
+    }
+
+    /**
+     * A day computed from data loaded before an invalidation is not stored.
+     */
+    @Test
+    public void testStaleGenerationIsDropped() {
+        ScheduleCache cache = new ScheduleCache();
+        long generation = cache.generation();
+
+        cache.invalidateUser("user-1");
+
+        assertFalse(cache.put("user-1", WorkScheduleDay.builder(DAY).build(), null, null, generation));
+        assertNull(cache.get("user-1", DAY, null));
+    }
+}
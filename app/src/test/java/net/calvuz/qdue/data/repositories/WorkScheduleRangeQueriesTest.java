@@ -0,0 +1,141 @@
+package net.calvuz.qdue.data.repositories;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import android.content.Context;
+
+import net.calvuz.qdue.core.services.models.OperationResult;
+import net.calvuz.qdue.data.di.CalendarServiceProvider;
+import net.calvuz.qdue.domain.calendar.engines.ExceptionResolver;
+import net.calvuz.qdue.domain.calendar.engines.RecurrenceCalculator;
+import net.calvuz.qdue.domain.calendar.engines.SchedulingEngine;
+import net.calvuz.qdue.domain.calendar.models.RecurrenceRule;
+import net.calvuz.qdue.domain.calendar.models.ShiftException;
+import net.calvuz.qdue.domain.calendar.models.Team;
+import net.calvuz.qdue.domain.calendar.models.UserScheduleAssignment;
+import net.calvuz.qdue.domain.calendar.models.WorkScheduleDay;
+import net.calvuz.qdue.domain.calendar.repositories.RecurrenceRuleRepository;
+import net.calvuz.qdue.domain.calendar.repositories.ShiftExceptionRepository;
+import net.calvuz.qdue.domain.calendar.repositories.TeamRepository;
+import net.calvuz.qdue.domain.calendar.repositories.UserScheduleAssignmentRepository;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Repository queries of a month grid, range pipeline against the per-day path.
+ * <p>
+ * Repositories are mocked and count their queries, standing in for Room round
+ * trips; the domain engines are the real ones. The per-day path goes through
+ * getWorkScheduleForDate(), which resolves the assignment, rule and exceptions
+ * for every date. Timings are measured by the JMH WorkScheduleRangeBenchmark.
+ */
+public class WorkScheduleRangeQueriesTest {
+
+    private static final String USER_ID = "user-1";
+
+    // Month grid: 6 weeks starting on the Monday before the 1st
+    private static final LocalDate GRID_START = LocalDate.of(2025, 3, 31);
+    private static final LocalDate GRID_END = GRID_START.plusDays(41);
+
+    private final AtomicInteger mQueryCount = new AtomicInteger();
+    private CalendarServiceProvider mProvider;
+    private Context mContext;
+
+    @Before
+    public void setUp() {
+        RecurrenceRule rule = RecurrenceRule.createQuattroDueCycle(LocalDate.of(2025, 1, 1));
+        UserScheduleAssignment assignment = UserScheduleAssignment.createPermanentAssignment(
+                USER_ID, "A", rule.getId(), LocalDate.of(2025, 1, 1));
+        Team team = Team.builder("A").name("A").build();
+        List<ShiftException> noExceptions = Collections.emptyList();
+
+        UserScheduleAssignmentRepository assignments = mock(UserScheduleAssignmentRepository.class);
+        when(assignments.getAssignmentsForUserInDateRange(any(), any(), any())).thenAnswer(i ->
+                query(OperationResult.success(List.of(assignment), OperationResult.OperationType.READ)));
+
+        RecurrenceRuleRepository rules = mock(RecurrenceRuleRepository.class);
+        when(rules.getRecurrenceRulesByIds(any())).thenAnswer(i -> query(Map.of(rule.getId(), rule)));
+
+        ShiftExceptionRepository exceptions = mock(ShiftExceptionRepository.class);
+        when(exceptions.getExceptionsForUserInDateRange(any(), any(), any())).thenAnswer(i ->
+                query(OperationResult.success(noExceptions, OperationResult.OperationType.READ)));
+
+        TeamRepository teams = mock(TeamRepository.class);
+        when(teams.getTeamById(any())).thenAnswer(i -> query(team));
+
+        RecurrenceCalculator calculator = new RecurrenceCalculator(null);
+        ExceptionResolver resolver = new ExceptionResolver(null);
+
+        mProvider = mock(CalendarServiceProvider.class);
+        when(mProvider.getUserScheduleAssignmentRepository()).thenReturn(assignments);
+        when(mProvider.getRecurrenceRuleRepository()).thenReturn(rules);
+        when(mProvider.getShiftExceptionRepository()).thenReturn(exceptions);
+        when(mProvider.getTeamRepository()).thenReturn(teams);
+        when(mProvider.getRecurrenceCalculator()).thenReturn(calculator);
+        when(mProvider.getExceptionResolver()).thenReturn(resolver);
+        when(mProvider.getSchedulingEngine()).thenReturn(SchedulingEngine.create(calculator, resolver));
+
+        mContext = mock(Context.class);
+        when(mContext.getApplicationContext()).thenReturn(mContext);
+    }
+
+    @Test
+    public void testMonthGridQueriesRangeVersusPerDay() {
+        mQueryCount.set(0);
+        Map<LocalDate, WorkScheduleDay> expected = perDay();
+        int perDayQueries = mQueryCount.get();
+
+        mQueryCount.set(0);
+        Map<LocalDate, WorkScheduleDay> actual = range();
+        int rangeQueries = mQueryCount.get();
+
+        // Same schedule either way
+        assertEquals(42, actual.size());
+        for (LocalDate date = GRID_START; !date.isAfter(GRID_END); date = date.plusDays(1)) {
+            assertEquals(date.toString(), expected.get(date).getWorkShifts().size(),
+                    actual.get(date).getWorkShifts().size());
+        }
+
+        // One query per kind of data instead of several per day
+        assertEquals(3 * 42, perDayQueries);
+        assertTrue("range queries: " + rangeQueries, rangeQueries <= 4);
+    }
+
+    // ==================== HELPERS ====================
+
+    private Map<LocalDate, WorkScheduleDay> perDay() {
+        WorkScheduleRepositoryImpl repository = new WorkScheduleRepositoryImpl(mContext, mProvider);
+        Map<LocalDate, WorkScheduleDay> result = new HashMap<>();
+        for (LocalDate date = GRID_START; !date.isAfter(GRID_END); date = date.plusDays(1)) {
+            result.put(date, repository.getWorkScheduleForDate(date, USER_ID).join().getData());
+        }
+        repository.cleanup();
+        return result;
+    }
+
+    private Map<LocalDate, WorkScheduleDay> range() {
+        WorkScheduleRepositoryImpl repository = new WorkScheduleRepositoryImpl(mContext, mProvider);
+        Map<LocalDate, WorkScheduleDay> result =
+                repository.getWorkScheduleForDateRange(GRID_START, GRID_END, USER_ID).join().getData();
+        repository.cleanup();
+        return result;
+    }
+
+    private <T> CompletableFuture<T> query(T value) {
+        mQueryCount.incrementAndGet();
+        return CompletableFuture.completedFuture(value);
+    }
+}
@@ -0,0 +1,111 @@
+package net.calvuz.qdue.domain.calendar.engines;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import net.calvuz.qdue.domain.calendar.models.RecurrenceRule;
+import net.calvuz.qdue.domain.calendar.models.Shift;
+import net.calvuz.qdue.domain.calendar.models.UserScheduleAssignment;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Compiled pattern cache: shifts per cycle day, invalidation on rule edits, concurrent readers.
+ */
+public class RecurrenceCalculatorTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    private RecurrenceCalculator mCalculator;
+    private RecurrenceRule mRule;
+    private UserScheduleAssignment mAssignment;
+
+    @Before
+    public void setUp() {
+        mCalculator = new RecurrenceCalculator(null);
+        mRule = RecurrenceRule.builder()
+                .copyFrom(RecurrenceRule.createQuattroDueCycle(START))
+                .updatedAt(1000L)
+                .build();
+        mAssignment = UserScheduleAssignment.createPermanentAssignment("user-1", "A", mRule.getId(), START);
+    }
+
+    @Test
+    public void testQuattroDueCycleDays() {
+        List<Shift> morning = mCalculator.calculateShiftsForDate(START, mRule, mAssignment);
+        assertEquals(1, morning.size());
+        assertEquals(LocalTime.of(5, 0), morning.get(0).getStartTime());
+
+        // Cycle days 5-6 are rest
+        assertTrue(mCalculator.calculateShiftsForDate(START.plusDays(4), mRule, mAssignment).isEmpty());
+
+        List<Shift> night = mCalculator.calculateShiftsForDate(START.plusDays(6), mRule, mAssignment);
+        assertEquals(LocalTime.of(21, 0), night.get(0).getStartTime());
+
+        // Same cycle day in the next cycle reuses the same template
+        assertSame(morning.get(0), mCalculator.calculateShiftsForDate(START.plusDays(18), mRule, mAssignment).get(0));
+    }
+
+    @Test
+    public void testEditedRuleIsRecompiledWithoutClearingCache() {
+        assertEquals(18, mCalculator.getCycleLength(mRule));
+
+        RecurrenceRule edited = RecurrenceRule.builder()
+                .copyFrom(mRule)
+                .cycleLength(12)
+                .updatedAt(2000L)
+                .build();
+        assertEquals(mRule.getId(), edited.getId());
+        assertEquals(12, mCalculator.getCycleLength(edited));
+
+        // Cycle day 13 no longer exists in the edited rule: day 12 wraps to cycle day 1
+        List<Shift> shifts = mCalculator.calculateShiftsForDate(START.plusDays(12), edited, mAssignment);
+        assertEquals(LocalTime.of(5, 0), shifts.get(0).getStartTime());
+    }
+
+    @Test
+    public void testConcurrentReadersSeeTheSameSchedule() throws Exception {
+        LocalDate end = START.plusDays(120);
+        Map<LocalDate, List<Shift>> expected = new RecurrenceCalculator(null)
+                .calculateShiftsForDateRange(START, end, mRule, mAssignment);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<Map<LocalDate, List<Shift>>>> tasks = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                tasks.add(() -> mCalculator.calculateShiftsForDateRange(START, end, mRule, mAssignment));
+            }
+            for (Future<Map<LocalDate, List<Shift>>> result : executor.invokeAll(tasks)) {
+                Map<LocalDate, List<Shift>> actual = result.get();
+                assertEquals(expected.size(), actual.size());
+                for (Map.Entry<LocalDate, List<Shift>> entry : expected.entrySet()) {
+                    assertEquals(startTimes(entry.getValue()), startTimes(actual.get(entry.getKey())));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // ==================== HELPERS ====================
+
+    private static List<LocalTime> startTimes(List<Shift> shifts) {
+        List<LocalTime> times = new ArrayList<>();
+        for (Shift shift : shifts) {
+            times.add(shift.getStartTime());
+        }
+        return times;
+    }
+}
@@ -0,0 +1,92 @@
+package net.calvuz.qdue.domain.calendar.engines;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import net.calvuz.qdue.domain.calendar.models.RecurrenceRule;
+
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Occurrence walking against the day-by-day {@code appliesTo()} reference.
+ */
+public class RecurrenceOccurrencesTest {
+
+    private static final LocalDate START = LocalDate.of( 2025, 1, 31 );
+    private static final LocalDate END = LocalDate.of( 2028, 12, 31 );
+
+    @Test
+    public void testMatchesAppliesToForEveryFrequency() {
+        List<RecurrenceRule> rules = Arrays.asList(
+                RecurrenceRule.builder().frequency( RecurrenceRule.Frequency.DAILY ).interval( 3 )
+                        .startDate( START ).build(),
+                RecurrenceRule.builder().frequency( RecurrenceRule.Frequency.WEEKLY ).interval( 2 )
+                        .startDate( START ).byDay( DayOfWeek.MONDAY, DayOfWeek.FRIDAY ).build(),
+                RecurrenceRule.builder().frequency( RecurrenceRule.Frequency.MONTHLY ).interval( 3 )
+                        .startDate( START ).byMonthDay( 1, 15, 29, 31 ).build(),
+                RecurrenceRule.builder().frequency( RecurrenceRule.Frequency.MONTHLY ).interval( 1 )
+                        .startDate( START ).byMonthDay( 29 ).byMonth( 2 ).build(),
+                RecurrenceRule.createQuattroDueCycle( START ) );
+
+        for (RecurrenceRule rule : rules) {
+            assertEquals( rule.getFrequency().name(), bruteForce( rule, START, END ),
+                          RecurrenceOccurrences.stream( rule, START, END ).collect( Collectors.toList() ) );
+            assertEquals( rule.getFrequency().name(), bruteForce( rule, START, END ),
+                          RecurrenceOccurrences.stream( rule, START, END ).parallel().collect( Collectors.toList() ) );
+        }
+    }
+
+    @Test
+    public void testCountIsCountedFromRuleStart() {
+        RecurrenceRule rule = RecurrenceRule.builder()
+                .frequency( RecurrenceRule.Frequency.WEEKLY )
+                .startDate( START )
+                .byDay( DayOfWeek.TUESDAY, DayOfWeek.THURSDAY )
+                .endType( RecurrenceRule.EndType.COUNT )
+                .count( 5 )
+                .build();
+
+        List<LocalDate> all = RecurrenceOccurrences.stream( rule ).collect( Collectors.toList() );
+        assertEquals( bruteForce( rule, START, END ).subList( 0, 5 ), all );
+
+        // Opening the series later still ends on the fifth occurrence
+        assertEquals( all.subList( 3, 5 ), RecurrenceOccurrences.next( rule, all.get( 3 ), 0, 10 ) );
+        assertNull( RecurrenceOccurrences.nextOccurrence( rule, all.get( 4 ).plusDays( 1 ) ) );
+    }
+
+    @Test
+    public void testUntilAndSkipLimit() {
+        RecurrenceRule rule = RecurrenceRule.builder()
+                .copyFrom( RecurrenceRule.createQuattroDueCycle( START ) )
+                .endType( RecurrenceRule.EndType.UNTIL_DATE )
+                .endDate( START.plusDays( 40 ) )
+                .build();
+
+        List<LocalDate> expected = bruteForce( rule, START, END );
+        assertEquals( expected, RecurrenceOccurrences.stream( rule ).collect( Collectors.toList() ) );
+
+        // Next 5 work days after the first 6
+        assertEquals( expected.subList( 6, 11 ), RecurrenceOccurrences.next( rule, START, 6, 5 ) );
+        assertEquals( expected.subList( expected.size() - 2, expected.size() ),
+                      RecurrenceOccurrences.next( rule, START, expected.size() - 2, 5 ) );
+    }
+
+    // ==================== HELPERS ====================
+
+    private static List<LocalDate> bruteForce(RecurrenceRule rule, LocalDate from, LocalDate to) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter( to ); date = date.plusDays( 1 )) {
+            if (rule.appliesTo( date )) {
+                dates.add( date );
+            }
+        }
+        return dates;
+    }
+}
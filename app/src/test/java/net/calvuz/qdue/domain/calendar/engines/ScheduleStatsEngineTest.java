@@ -0,0 +1,112 @@
+package net.calvuz.qdue.domain.calendar.engines;
+
+import static org.junit.Assert.assertEquals;
+
+import net.calvuz.qdue.domain.calendar.models.RecurrenceRule;
+import net.calvuz.qdue.domain.calendar.models.ShiftException;
+import net.calvuz.qdue.domain.calendar.models.Team;
+import net.calvuz.qdue.domain.calendar.models.UserScheduleAssignment;
+import net.calvuz.qdue.domain.calendar.models.WorkScheduleDay;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cycle-aware stretch totals against the day-by-day aggregation of the same schedule.
+ */
+public class ScheduleStatsEngineTest {
+
+    private static final String USER_ID = "user-1";
+    private static final LocalDate ASSIGNMENT_START = LocalDate.of(2025, 1, 1);
+
+    private SchedulingEngine mSchedulingEngine;
+    private ExceptionResolver mResolver;
+    private ScheduleStatsEngine mStatsEngine;
+    private RecurrenceRule mRule;
+    private UserScheduleAssignment mAssignment;
+    private Map<String, Team> mUserTeamMappings;
+
+    @Before
+    public void setUp() {
+        RecurrenceCalculator calculator = new RecurrenceCalculator(null);
+        mResolver = new ExceptionResolver(null);
+        mSchedulingEngine = SchedulingEngine.create(calculator, mResolver);
+        mStatsEngine = new ScheduleStatsEngine(mSchedulingEngine, calculator);
+
+        mRule = RecurrenceRule.createQuattroDueCycle(ASSIGNMENT_START);
+        mAssignment = UserScheduleAssignment.createPermanentAssignment(
+                USER_ID, "A", mRule.getId(), ASSIGNMENT_START);
+        mUserTeamMappings = new HashMap<>();
+        mUserTeamMappings.put(USER_ID, Team.builder("A").name("A").build());
+    }
+
+    @Test
+    public void testMultiYearStretchMatchesDailyAggregation() {
+        // Not aligned on the cycle, with a trailing partial cycle
+        assertStretchMatches(LocalDate.of(2025, 2, 13), LocalDate.of(2027, 11, 2), List.of());
+    }
+
+    @Test
+    public void testExceptionDaysReplaceTheirCycleDay() {
+        List<ShiftException> exceptions = List.of(
+                vacation(LocalDate.of(2025, 3, 4)),
+                vacation(LocalDate.of(2025, 3, 5)),
+                vacation(LocalDate.of(2026, 8, 17)));
+
+        assertStretchMatches(LocalDate.of(2025, 1, 10), LocalDate.of(2026, 12, 31), exceptions);
+    }
+
+    @Test
+    public void testEmptyStretchHasOnlyRestDays() {
+        ScheduleStatsEngine.Summary summary = new ScheduleStatsEngine.Summary(List.of(
+                ScheduleStatsEngine.emptyStretch(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31))));
+
+        assertEquals(365, summary.getTotals().totalDays);
+        assertEquals(365, summary.getTotals().restDays);
+        assertEquals(0, summary.getTotals().totalShifts);
+    }
+
+    // ==================== HELPERS ====================
+
+    private void assertStretchMatches(LocalDate start, LocalDate end, List<ShiftException> exceptions) {
+        ExceptionIndex index = mResolver.indexExceptions(exceptions);
+
+        ScheduleStatsEngine.Summary summary = new ScheduleStatsEngine.Summary(List.of(
+                mStatsEngine.summarizeStretch(start, end, mAssignment, mRule, index, mUserTeamMappings)));
+
+        Map<LocalDate, WorkScheduleDay> days = mSchedulingEngine.generateCompleteScheduleRange(
+                start, end, mAssignment, mRule, exceptions, mUserTeamMappings, new HashMap<>());
+        ScheduleStatsEngine.Totals expected = new ScheduleStatsEngine.Totals();
+        for (WorkScheduleDay day : days.values()) {
+            expected.addDay(day, 1);
+        }
+
+        ScheduleStatsEngine.Totals actual = summary.getTotals();
+        assertEquals(expected.totalDays, actual.totalDays);
+        assertEquals(expected.workingDays, actual.workingDays);
+        assertEquals(expected.restDays, actual.restDays);
+        assertEquals(expected.totalShifts, actual.totalShifts);
+        assertEquals(expected.totalWorkingHours, actual.totalWorkingHours, 1e-6);
+        assertEquals(expected.shiftTypeDistribution, actual.shiftTypeDistribution);
+
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            assertEquals(date.toString(), days.get(date).getWorkShifts().size(),
+                    summary.dayAt(date).getWorkShifts().size());
+        }
+    }
+
+    private ShiftException vacation(LocalDate date) {
+        return ShiftException.builder()
+                .type(ShiftException.ExceptionType.ABSENCE_VACATION)
+                .userId(USER_ID)
+                .targetDate(date)
+                .isFullDay(true)
+                .requiresApproval(false)
+                .build();
+    }
+}
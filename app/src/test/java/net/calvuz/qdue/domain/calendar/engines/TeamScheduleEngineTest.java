@@ -0,0 +1,143 @@
+package net.calvuz.qdue.domain.calendar.engines;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import net.calvuz.qdue.domain.calendar.models.RecurrenceRule;
+import net.calvuz.qdue.domain.calendar.models.Team;
+import net.calvuz.qdue.domain.calendar.models.UserScheduleAssignment;
+import net.calvuz.qdue.domain.calendar.models.WorkScheduleDay;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Team schedule split into user × month chunks. Chunks are queued on a manual
+ * executor and run one by one, so cancellation and progress are deterministic.
+ */
+public class TeamScheduleEngineTest {
+
+    private static final LocalDate ASSIGNMENT_START = LocalDate.of(2025, 1, 1);
+
+    // Mid-month to mid-month: 4 months, the first and last partial
+    private static final LocalDate START = LocalDate.of(2025, 1, 15);
+    private static final LocalDate END = LocalDate.of(2025, 4, 10);
+    private static final List<String> USERS = List.of("user-1", "user-2", "user-3");
+    private static final int CHUNKS = USERS.size() * 4;
+
+    private final Queue<Runnable> mQueue = new ArrayDeque<>();
+    private final List<int[]> mProgress = new ArrayList<>();
+
+    private SchedulingEngine mSchedulingEngine;
+    private TeamScheduleEngine mTeamEngine;
+    private RecurrenceRule mRule;
+    private List<UserScheduleAssignment> mAssignments;
+    private Map<String, Team> mUserTeamMappings;
+
+    @Before
+    public void setUp() {
+        RecurrenceCalculator calculator = new RecurrenceCalculator(null);
+        ExceptionResolver resolver = new ExceptionResolver(null);
+        mSchedulingEngine = spy(SchedulingEngine.create(calculator, resolver));
+        mTeamEngine = new TeamScheduleEngine(mSchedulingEngine, resolver, mQueue::add);
+
+        mRule = RecurrenceRule.createQuattroDueCycle(ASSIGNMENT_START);
+        mAssignments = new ArrayList<>();
+        mUserTeamMappings = new HashMap<>();
+        String[] teams = {"A", "B", "C"};
+        for (int i = 0; i < USERS.size(); i++) {
+            mAssignments.add(UserScheduleAssignment.createPermanentAssignment(
+                    USERS.get(i), teams[i], mRule.getId(), ASSIGNMENT_START));
+            mUserTeamMappings.put(USERS.get(i), Team.builder(teams[i]).name(teams[i]).build());
+        }
+    }
+
+    @Test
+    public void testOneChunkPerUserAndMonth() {
+        ScheduleTaskHandle handle = new ScheduleTaskHandle();
+        CompletableFuture<Map<LocalDate, WorkScheduleDay>> result = generate(handle);
+
+        assertEquals(CHUNKS, handle.getTotal());
+        assertEquals(CHUNKS, mQueue.size());
+
+        runQueued();
+        Map<LocalDate, WorkScheduleDay> schedule = result.join();
+        assertEquals(END.toEpochDay() - START.toEpochDay() + 1, schedule.size());
+        verify(mSchedulingEngine, times(CHUNKS)).generateCompleteScheduleRange(
+                any(), any(), any(), any(), any(ExceptionIndex.class), any(), any());
+    }
+
+    @Test
+    public void testCancelMidRunSkipsRemainingChunks() {
+        ScheduleTaskHandle handle = new ScheduleTaskHandle(this::onProgress);
+        CompletableFuture<Map<LocalDate, WorkScheduleDay>> result = generate(handle);
+
+        for (int i = 0; i < 5; i++) {
+            mQueue.poll().run();
+        }
+        assertTrue(handle.cancel());
+        runQueued();
+
+        assertTrue(result.isCancelled());
+        assertEquals(5, handle.getCompleted());
+        assertEquals(6, mProgress.size());  // start + 5 chunks, nothing after the cancel
+        verify(mSchedulingEngine, times(5)).generateCompleteScheduleRange(
+                any(), any(), any(), any(), any(ExceptionIndex.class), any(), any());
+    }
+
+    @Test
+    public void testProgressReportsEveryChunk() {
+        ScheduleTaskHandle handle = new ScheduleTaskHandle(this::onProgress);
+        CompletableFuture<Map<LocalDate, WorkScheduleDay>> result = generate(handle);
+
+        assertEquals(1, mProgress.size());
+        assertEquals(0f, handle.getProgress(), 0f);
+
+        mQueue.poll().run();
+        assertEquals(1f / CHUNKS, handle.getProgress(), 1e-6f);
+        assertFalse(result.isDone());
+
+        runQueued();
+        assertTrue(result.isDone());
+        assertEquals(1f, handle.getProgress(), 0f);
+        assertEquals(CHUNKS + 1, mProgress.size());
+        for (int i = 0; i < mProgress.size(); i++) {
+            assertEquals(i, mProgress.get(i)[0]);
+            assertEquals(CHUNKS, mProgress.get(i)[1]);
+        }
+    }
+
+    // ==================== HELPERS ====================
+
+    private CompletableFuture<Map<LocalDate, WorkScheduleDay>> generate(ScheduleTaskHandle handle) {
+        Map<String, RecurrenceRule> rules = new HashMap<>();
+        rules.put(mRule.getId(), mRule);
+        return mTeamEngine.generateTeamScheduleRange(
+                START, END, mAssignments, rules, List.of(), mUserTeamMappings, handle);
+    }
+
+    private void runQueued() {
+        Runnable task;
+        while ((task = mQueue.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private void onProgress(int completed, int total) {
+        mProgress.add(new int[]{completed, total});
+    }
+}
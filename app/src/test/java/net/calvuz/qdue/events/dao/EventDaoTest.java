@@ -0,0 +1,85 @@
+package net.calvuz.qdue.events.dao;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * EventDao date range criteria on an in-memory SQLite events table.
+ */
+public class EventDaoTest {
+
+    private static final long DAY = 86400;
+    private static final long TODAY = 20_000 * DAY;
+
+    private Connection mConnection;
+
+    @Before
+    public void setUp() throws SQLException {
+        mConnection = DriverManager.getConnection("jdbc:sqlite::memory:");
+        try (Statement statement = mConnection.createStatement()) {
+            statement.execute("CREATE TABLE events (id TEXT NOT NULL PRIMARY KEY, start_time INTEGER, end_time INTEGER)");
+        }
+        insertEvent("timed", TODAY + 3600, TODAY + 7200L);
+        insertEvent("open", TODAY + 9 * 3600, null);
+        insertEvent("open_yesterday", TODAY - 3600, null);
+        insertEvent("from_yesterday", TODAY - 3600, TODAY + 3600L);
+        insertEvent("tomorrow", TODAY + DAY, TODAY + DAY + 3600);
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        mConnection.close();
+    }
+
+    @Test
+    public void testDayIncludesEventsWithoutEndTime() throws SQLException {
+        assertEquals(Arrays.asList("from_yesterday", "timed", "open"), overlapping(TODAY, TODAY + DAY - 1));
+    }
+
+    @Test
+    public void testRangeIncludesEventsWithoutEndTime() throws SQLException {
+        assertEquals(Arrays.asList("from_yesterday", "open_yesterday", "timed", "open"),
+                overlapping(TODAY - DAY, TODAY + DAY - 1));
+    }
+
+    // ==================== HELPERS ====================
+
+    private List<String> overlapping(long startDate, long endDate) throws SQLException {
+        String sql = "SELECT id FROM events WHERE " + EventDao.OVERLAPS_RANGE + " ORDER BY start_time, id";
+        List<String> ids = new ArrayList<>();
+        try (PreparedStatement query = mConnection.prepareStatement(
+                sql.replace(":endDate", "?1").replace(":startDate", "?2"))) {
+            query.setLong(1, endDate);
+            query.setLong(2, startDate);
+            try (ResultSet resultSet = query.executeQuery()) {
+                while (resultSet.next()) {
+                    ids.add(resultSet.getString(1));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private void insertEvent(String id, long start, Long end) throws SQLException {
+        try (PreparedStatement insert = mConnection.prepareStatement(
+                "INSERT INTO events (id, start_time, end_time) VALUES (?, ?, ?)")) {
+            insert.setString(1, id);
+            insert.setLong(2, start);
+            insert.setObject(3, end);
+            insert.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package net.calvuz.qdue.quattrodue.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Tests for the epoch-day based cycle position mapping.
+ */
+public class CycleIndexTest {
+
+    private static final LocalDate ANCHOR = LocalDate.of(2018, 11, 7);
+    private static final int LENGTH = 18;
+
+    private final CycleIndex mIndex = CycleIndex.of(ANCHOR, LENGTH);
+
+    /**
+     * Positions must match the exact day difference, across month lengths and leap years.
+     */
+    @Test
+    public void testPositionMatchesExactDayDifference() {
+        LocalDate date = ANCHOR.minusYears(3);
+        LocalDate end = ANCHOR.plusYears(6);
+
+        for (; !date.isAfter(end); date = date.plusDays(1)) {
+            long days = ChronoUnit.DAYS.between(ANCHOR, date);
+            assertEquals(date.toString(), (int) Math.floorMod(days, (long) LENGTH), mIndex.positionOf(date));
+        }
+    }
+
+    /**
+     * Dates before the anchor wrap backwards instead of going negative.
+     */
+    @Test
+    public void testDatesBeforeAnchor() {
+        assertEquals(0, mIndex.positionOf(ANCHOR));
+        assertEquals(17, mIndex.positionOf(ANCHOR.minusDays(1)));
+        assertEquals(0, mIndex.positionOf(ANCHOR.minusDays(18)));
+    }
+
+    /**
+     * A range lookup returns the same positions as per-date lookups.
+     */
+    @Test
+    public void testRangeMatchesSingleLookups() {
+        LocalDate start = LocalDate.of(2024, 2, 1);
+        LocalDate end = LocalDate.of(2024, 3, 31);
+
+        int[] positions = mIndex.positions(start, end);
+
+        assertEquals(60, positions.length);
+        for (int i = 0; i < positions.length; i++) {
+            assertEquals(mIndex.positionOf(start.plusDays(i)), positions[i]);
+        }
+    }
+
+    /**
+     * An inverted range is empty.
+     */
+    @Test
+    public void testInvertedRangeIsEmpty() {
+        assertArrayEquals(new int[0], mIndex.positions(ANCHOR, ANCHOR.minusDays(1)));
+    }
+}
@@ -0,0 +1,124 @@
+package net.calvuz.qdue.ui.core.common.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import net.calvuz.qdue.quattrodue.models.Day;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Position arithmetic of the virtual list against a walk of its items, the way
+ * GridLayoutManager lays them out.
+ */
+public class VirtualCalendarListTest {
+
+    private static final LocalDate CENTER = LocalDate.of(2026, 2, 14);
+
+    private int mProvided;
+
+    private final Function<LocalDate, List<Day>> mProvider = monthDate -> {
+        mProvided++;
+        List<Day> days = new ArrayList<>();
+        for (int i = 0; i < monthDate.lengthOfMonth(); i++) {
+            days.add(new Day(monthDate.plusDays(i)));
+        }
+        return days;
+    };
+
+    @Test
+    public void testCalendarLayoutMatchesGridWalk() {
+        assertLayout(VirtualCalendarList.forCalendar(CENTER, 30, mProvider), 7);
+    }
+
+    @Test
+    public void testDaysListLayoutMatchesListWalk() {
+        assertLayout(VirtualCalendarList.forDaysList(CENTER, 30, mProvider), 1);
+    }
+
+    @Test
+    public void testDatePositionsOverTheFullRange() {
+        VirtualCalendarList list = VirtualCalendarList.forCalendar(CENTER, 600, mProvider);
+
+        assertEquals(CENTER.withDayOfMonth(1).minusMonths(600), list.getFirstMonth());
+        assertEquals(CENTER.withDayOfMonth(1).plusMonths(600), list.getLastMonth());
+        assertEquals(-1, list.positionOf(list.getFirstMonth().minusDays(1)));
+        assertEquals(-1, list.positionOf(list.getLastMonth().plusMonths(1)));
+
+        for (LocalDate date : new LocalDate[]{list.getFirstMonth(), CENTER, list.getLastMonth().plusDays(27)}) {
+            SharedViewModels.DayItem dayItem = (SharedViewModels.DayItem) list.get(list.positionOf(date));
+            assertEquals(date, dayItem.day.getDate());
+            assertEquals(date.getDayOfWeek().getValue() % 7, list.getSpanIndex(list.positionOf(date)));
+        }
+        assertEquals(list.getLastMonth(), list.getMonthAt(list.size() - 1));
+        assertEquals(6, list.getSpanIndex(list.size() - 1));
+    }
+
+    @Test
+    public void testOnlyRecentMonthsAreResident() {
+        VirtualCalendarList list = VirtualCalendarList.forDaysList(CENTER, 600, mProvider);
+
+        SharedViewModels.ViewItem today = list.get(list.positionOf(CENTER));
+        assertSame(today, list.get(list.positionOf(CENTER)));
+        assertEquals(1, mProvided);
+
+        for (int i = 1; i <= 24; i++) {
+            list.get(list.positionOf(CENTER.plusMonths(i)));
+        }
+        assertEquals(25, mProvided);
+        assertTrue(list.getResidentDayItems().size() <= 6 * 31);
+
+        // Evicted months are created again
+        list.get(list.positionOf(CENTER));
+        assertEquals(26, mProvided);
+    }
+
+    // ==================== HELPERS ====================
+
+    private static void assertLayout(VirtualCalendarList list, int columns) {
+        LocalDate month = list.getFirstMonth();
+        int spanIndex = 0;
+        int row = -1;
+
+        for (int position = 0; position < list.size(); position++) {
+            SharedViewModels.ViewItem item = list.get(position);
+            boolean header = item instanceof SharedViewModels.MonthHeader;
+
+            // GridLayoutManager walk: full span headers start a row, cells wrap every line
+            int span = header ? columns : 1;
+            if (position == 0 || spanIndex + span > columns) {
+                spanIndex = 0;
+                row++;
+            }
+
+            if (header) {
+                month = ((SharedViewModels.MonthHeader) item).monthDate;
+                assertEquals(position, list.positionOfMonth(month));
+                assertEquals(0, spanIndex);
+            } else if (item instanceof SharedViewModels.DayItem) {
+                LocalDate date = ((SharedViewModels.DayItem) item).day.getDate();
+                assertEquals(month, date.withDayOfMonth(1));
+                assertEquals(position, list.positionOf(date));
+            } else {
+                assertEquals(month, ((SharedViewModels.EmptyItem) item).monthDate);
+            }
+
+            assertEquals(header, list.isMonthHeader(position));
+            assertEquals(month, list.getMonthAt(position));
+            assertEquals(spanIndex, list.getSpanIndex(position));
+            assertEquals(row, list.getRow(position));
+            spanIndex += span;
+        }
+
+        // Grid months end on a complete week
+        if (columns > 1) {
+            assertEquals(columns, spanIndex);
+        }
+    }
+}